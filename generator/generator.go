@@ -167,6 +167,12 @@ func (generator *Generator) generateClass(t reflect.Type) error {
 
 	fmt.Fprint(out, "import com.fasterxml.jackson.annotation.JsonProperty;\n")
 	fmt.Fprint(out, "import com.hashicorp.nomad.javasdk.ApiObject;\n")
+	for _, p := range properties {
+		if p.Lazy {
+			fmt.Fprint(out, "import com.hashicorp.nomad.javasdk.LazyValue;\n")
+			break
+		}
+	}
 	fmt.Fprint(out, "import com.hashicorp.nomad.javasdk.NomadJson;\n\n")
 
 	imports := make([]string, 0, len(usedTypes))
@@ -194,6 +200,7 @@ func (generator *Generator) generateClass(t reflect.Type) error {
 	for _, p := range properties {
 		p.DeclareMethods(out, className)
 	}
+	java.DeclareStructuralMethods(out, className, properties)
 
 	fmt.Fprintf(out, "\n")
 	fmt.Fprintf(out, "    @Override\n")
@@ -214,7 +221,111 @@ func (generator *Generator) generateClass(t reflect.Type) error {
 	fmt.Fprintln(out, "}")
 
 	out.Close()
-	return nil
+	return generator.generateCodec(className, properties)
+}
+
+// generateCodec writes a streaming codec for the class, which NomadJson uses instead of reflection-based data binding
+func (generator *Generator) generateCodec(className string, properties []java.BeanProperty) error {
+	usedTypes := make(map[string]string)
+	var collectTypes func(java.JavaType)
+	collectTypes = func(t java.JavaType) {
+		name := t.Name()
+		usedTypes[name.Simple] = name.FullyQualified
+		if rt, ok := t.(java.ReferenceType); ok {
+			for _, a := range rt.Arguments {
+				collectTypes(a)
+			}
+		}
+	}
+	parameterized := false
+	for _, p := range properties {
+		collectTypes(p.JavaType)
+		if p.CodecTypeConstant() != "" {
+			parameterized = true
+		}
+	}
+
+	out, err := os.Create(className + "Codec.java")
+	if err != nil {
+		return err
+	}
+
+	fmt.Fprint(out, "package com.hashicorp.nomad.apimodel;\n\n")
+
+	fmt.Fprint(out, "import com.fasterxml.jackson.core.JsonGenerator;\n")
+	fmt.Fprint(out, "import com.fasterxml.jackson.core.JsonParser;\n")
+	fmt.Fprint(out, "import com.fasterxml.jackson.databind.DeserializationContext;\n")
+	if parameterized {
+		fmt.Fprint(out, "import com.fasterxml.jackson.databind.JavaType;\n")
+	}
+	fmt.Fprint(out, "import com.fasterxml.jackson.databind.SerializerProvider;\n")
+	if parameterized {
+		fmt.Fprint(out, "import com.fasterxml.jackson.databind.type.TypeFactory;\n")
+	}
+	fmt.Fprint(out, "import com.hashicorp.nomad.javasdk.ApiObjectCodec;\n\n")
+
+	imports := []string{"java.io.IOException"}
+	for s, f := range usedTypes {
+		if len(f) > len(s) && !strings.HasPrefix(f, "java.lang.") {
+			imports = append(imports, f)
+		}
+	}
+	sort.Strings(imports)
+	for _, f := range imports {
+		fmt.Fprintf(out, "import %s;\n", f)
+	}
+	fmt.Fprintln(out)
+
+	fmt.Fprintln(out, "/**")
+	fmt.Fprintf(out, " * This is a generated codec that reads and writes {@link %s}\n", className)
+	fmt.Fprint(out, " * directly from and to JSON tokens.\n")
+	fmt.Fprintln(out, " */")
+	fmt.Fprintf(out, "public final class %sCodec extends ApiObjectCodec<%s> {\n", className, className)
+	if parameterized {
+		fmt.Fprint(out, "    private static final TypeFactory TYPES = TypeFactory.defaultInstance();\n")
+		for _, p := range properties {
+			p.DeclareCodecTypeConstant(out)
+		}
+		fmt.Fprint(out, "\n")
+	}
+
+	fmt.Fprintf(out, "    public %sCodec() {\n", className)
+	fmt.Fprintf(out, "        super(%s.class);\n", className)
+	fmt.Fprint(out, "    }\n")
+
+	fmt.Fprint(out, "\n")
+	fmt.Fprint(out, "    @Override\n")
+	fmt.Fprintf(out, "    protected %s newInstance() {\n", className)
+	fmt.Fprintf(out, "        return new %s();\n", className)
+	fmt.Fprint(out, "    }\n")
+
+	fmt.Fprint(out, "\n")
+	fmt.Fprint(out, "    @Override\n")
+	fmt.Fprint(out, "    protected boolean readProperty(\n")
+	fmt.Fprintf(out, "            JsonParser p, DeserializationContext ctxt, String name, %s value)\n", className)
+	fmt.Fprint(out, "            throws IOException {\n")
+	fmt.Fprint(out, "        switch (name) {\n")
+	for _, p := range properties {
+		p.DeclareCodecRead(out)
+	}
+	fmt.Fprint(out, "            default:\n")
+	fmt.Fprint(out, "                return false;\n")
+	fmt.Fprint(out, "        }\n")
+	fmt.Fprint(out, "    }\n")
+
+	fmt.Fprint(out, "\n")
+	fmt.Fprint(out, "    @Override\n")
+	fmt.Fprint(out, "    protected void writeProperties(\n")
+	fmt.Fprintf(out, "            JsonGenerator g, SerializerProvider provider, %s value)\n", className)
+	fmt.Fprint(out, "            throws IOException {\n")
+	for _, p := range properties {
+		p.DeclareCodecWrite(out)
+	}
+	fmt.Fprint(out, "    }\n")
+
+	fmt.Fprintln(out, "}")
+
+	return out.Close()
 }
 
 func (g *Generator) javaBeanProperty(className string, f reflect.StructField) (java.BeanProperty,bool) {
@@ -231,9 +342,12 @@ func (g *Generator) javaBeanProperty(className string, f reflect.StructField) (j
 	propName := propertyName(nameInJson)
 	return java.BeanProperty{
 		Name:             propName,
+		JsonName:         nameInJson,
 		MethodSuffix:     methodSuffix(nameInJson),
 		JavaType:         g.javaType(className, propName, f.Type),
 		GetterAnnotation: "@JsonProperty(\"" + nameInJson + "\")",
+		Lazy:             lazyProperty(className, propName),
+		Interned:         internedProperty(nameInJson),
 	}, true
 }
 
@@ -396,6 +510,29 @@ func (generator *Generator) javaType(class, property string, t reflect.Type) jav
 	}
 }
 
+// lazyProperty reports whether a property is large enough, and rarely enough read,
+// that it is worth only decoding it when its getter is first called
+func lazyProperty(className, propertyName string) bool {
+	switch className {
+	case "Allocation":
+		return propertyName == "job" || propertyName == "taskStates"
+	case "Job":
+		return propertyName == "taskGroups"
+	}
+	return false
+}
+
+// internedProperty reports whether a string property takes few distinct values across a cluster,
+// such as node and job IDs, datacenters and statuses, so that interning its values saves more than it costs
+func internedProperty(nameInJson string) bool {
+	switch nameInJson {
+	case "NodeID", "NodeName", "NodeClass", "JobID", "JobType", "Namespace", "Region", "Datacenter",
+		"TaskGroup", "ClientStatus", "DesiredStatus", "Status", "SchedulingEligibility", "Type", "Driver":
+		return true
+	}
+	return false
+}
+
 func typeHack(className, propertyName string) (java.JavaType, bool) {
 	// these are timestamps from Consul's autopilot code, which encode times differently than the rest of Nomad's API
 	if className == "ServerHealth" && propertyName == "lastContact" {
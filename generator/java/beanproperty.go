@@ -8,9 +8,12 @@ import (
 
 type BeanProperty struct {
 	Name             string
+	JsonName         string
 	JavaType         JavaType
 	GetterAnnotation string
 	MethodSuffix     string
+	Lazy             bool
+	Interned         bool
 }
 
 func (p *BeanProperty) methodSuffix() string {
@@ -20,13 +23,34 @@ func (p *BeanProperty) methodSuffix() string {
 	return strings.ToUpper(p.Name[0:1]) + p.Name[1:]
 }
 
+// lazyField is the name of the field holding a lazy property's undecoded value
+func (p *BeanProperty) lazyField() string {
+	return "lazy" + p.methodSuffix()
+}
+
 func (p *BeanProperty) DeclareField(out io.Writer) error {
 	_, err := fmt.Fprintf(out, "    private %s %s;\n", p.JavaType, p.Name)
+	if err == nil && p.Lazy {
+		_, err = fmt.Fprintf(out, "    private volatile LazyValue<%s> %s;\n", p.JavaType.AsReferenceType(), p.lazyField())
+	}
 	return err
 }
 
 func (p *BeanProperty) DeclareGetter(out io.Writer) error {
 	fmt.Fprintf(out, "    public %s get%s() {\n", p.JavaType, p.methodSuffix())
+	if p.Lazy {
+		// Decoded objects may be shared between threads, so the tokens are decoded at most once
+		// and the value is published by clearing the volatile lazy field.
+		fmt.Fprintf(out, "        final LazyValue<%s> pending = %s;\n", p.JavaType.AsReferenceType(), p.lazyField())
+		fmt.Fprintf(out, "        if (pending != null) {\n")
+		fmt.Fprintf(out, "            synchronized (pending) {\n")
+		fmt.Fprintf(out, "                if (%s == pending) {\n", p.lazyField())
+		fmt.Fprintf(out, "                    %s = pending.get();\n", p.Name)
+		fmt.Fprintf(out, "                    %s = null;\n", p.lazyField())
+		fmt.Fprintf(out, "                }\n")
+		fmt.Fprintf(out, "            }\n")
+		fmt.Fprintf(out, "        }\n")
+	}
 	fmt.Fprintf(out, "        return %s;\n", p.Name)
 	fmt.Fprintf(out, "    }\n")
 	return nil
@@ -35,14 +59,34 @@ func (p *BeanProperty) DeclareGetter(out io.Writer) error {
 func (p *BeanProperty) DeclareSetter(out io.Writer, className string) error {
 	fmt.Fprintf(out, "    public %s set%s(%s %s) {\n", className, p.methodSuffix(), p.JavaType, p.Name)
 	fmt.Fprintf(out, "        this.%s = %s;\n", p.Name, p.Name)
+	if p.Lazy {
+		fmt.Fprintf(out, "        this.%s = null;\n", p.lazyField())
+	}
 	fmt.Fprintf(out, "        return this;\n")
 	fmt.Fprintf(out, "    }\n")
 	return nil
 }
 
+// declareDeferMethod declares the method through which the class's codec hands over a lazy property's tokens
+func (p *BeanProperty) declareDeferMethod(out io.Writer) error {
+	fmt.Fprintf(out, "    void defer%s(LazyValue<%s> %s) {\n", p.methodSuffix(), p.JavaType.AsReferenceType(), p.Name)
+	fmt.Fprintf(out, "        this.%s = null;\n", p.Name)
+	fmt.Fprintf(out, "        this.%s = %s;\n", p.lazyField(), p.Name)
+	fmt.Fprintf(out, "    }\n")
+	return nil
+}
+
+// current is the expression an add method uses to read the property, decoding it first if it is lazy
+func (p *BeanProperty) current() string {
+	if p.Lazy {
+		return "get" + p.methodSuffix() + "()"
+	}
+	return "this." + p.Name
+}
+
 func (p *BeanProperty) declareListAddMethod(out io.Writer, className string, elementType JavaType) error {
 	fmt.Fprintf(out, "    public %s add%s(%s... %s) {\n", className, p.methodSuffix(), elementType, p.Name)
-	fmt.Fprintf(out, "        if (this.%s == null)\n", p.Name)
+	fmt.Fprintf(out, "        if (%s == null)\n", p.current())
 	fmt.Fprintf(out, "            this.%s = new java.util.ArrayList<>();\n", p.Name)
 	fmt.Fprintf(out, "        for (%s item : %s)\n", elementType, p.Name)
 	fmt.Fprintf(out, "            this.%s.add(item);\n", p.Name)
@@ -53,7 +97,7 @@ func (p *BeanProperty) declareListAddMethod(out io.Writer, className string, ele
 
 func (p *BeanProperty) declareMapAddMethod(out io.Writer, className string, keyType JavaType, valueType JavaType) error {
 	fmt.Fprintf(out, "    public %s add%s(%s key, %s value) {\n", className, p.methodSuffix(), keyType, valueType)
-	fmt.Fprintf(out, "        if (this.%s == null)\n", p.Name)
+	fmt.Fprintf(out, "        if (%s == null)\n", p.current())
 	fmt.Fprintf(out, "            this.%s = new java.util.HashMap<>();\n", p.Name)
 	fmt.Fprintf(out, "        this.%s.put(key, value);\n", p.Name)
 	fmt.Fprintf(out, "        return this;\n")
@@ -79,5 +123,9 @@ func (p *BeanProperty) DeclareMethods(out io.Writer, className string) error {
 			p.declareMapAddMethod(out, className, ref.Arguments[0], ref.Arguments[1])
 		}
 	}
+	if p.Lazy {
+		out.Write([]byte("\n"))
+		p.declareDeferMethod(out)
+	}
 	return nil
 }
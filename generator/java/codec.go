@@ -0,0 +1,149 @@
+package java
+
+import (
+	"fmt"
+	"io"
+	"strings"
+	"unicode"
+)
+
+// CodecTypeConstant is the name of the JavaType constant a codec declares for the property's type,
+// or "" if the property's type is not parameterized and can be referred to by its class literal.
+func (p *BeanProperty) CodecTypeConstant() string {
+	if ref, ok := p.JavaType.(ReferenceType); !ok || len(ref.Arguments) == 0 {
+		return ""
+	}
+	var b strings.Builder
+	for i, ch := range p.Name {
+		if i > 0 && unicode.IsUpper(ch) {
+			b.WriteRune('_')
+		}
+		b.WriteRune(unicode.ToUpper(ch))
+	}
+	return b.String()
+}
+
+// DeclareCodecTypeConstant declares the JavaType constant for a property with a parameterized type.
+func (p *BeanProperty) DeclareCodecTypeConstant(out io.Writer) error {
+	constant := p.CodecTypeConstant()
+	if constant == "" {
+		return nil
+	}
+	_, err := fmt.Fprintf(out, "    private static final JavaType %s =\n            %s;\n", constant,
+		wrapTypeExpression(typeExpression(p.JavaType)))
+	return err
+}
+
+// wrapTypeExpression moves the last argument of a type expression that is too long for one line onto the next line
+func wrapTypeExpression(expression string) string {
+	const indent, maxLineLength = "            ", 120
+	if len(indent)+len(expression)+1 <= maxLineLength {
+		return expression
+	}
+	depth := 0
+	for i := len(expression) - 2; i >= 0; i-- {
+		switch expression[i] {
+		case ')':
+			depth++
+		case '(':
+			depth--
+		case ',':
+			if depth == 0 {
+				return expression[:i+1] + "\n" + indent + "        " + expression[i+2:]
+			}
+		}
+	}
+	return expression
+}
+
+// DeclareCodecRead declares the case that reads the property in a codec's readProperty method.
+func (p *BeanProperty) DeclareCodecRead(out io.Writer) error {
+	fmt.Fprintf(out, "            case \"%s\":\n", p.JsonName)
+	if p.Lazy {
+		fmt.Fprint(out, "                if (isLazy(ctxt))\n")
+		fmt.Fprintf(out, "                    value.defer%s(readLazily(p, ctxt, %s));\n", p.methodSuffix(), p.codecType())
+		fmt.Fprint(out, "                else\n")
+		fmt.Fprintf(out, "                    value.set%s(%s);\n", p.methodSuffix(), p.readExpression())
+	} else {
+		fmt.Fprintf(out, "                value.set%s(%s);\n", p.methodSuffix(), p.readExpression())
+	}
+	_, err := fmt.Fprintf(out, "                return true;\n")
+	return err
+}
+
+// DeclareCodecWrite declares the statement that writes the property in a codec's writeProperties method.
+func (p *BeanProperty) DeclareCodecWrite(out io.Writer) error {
+	getter := fmt.Sprintf("value.get%s()", p.methodSuffix())
+	var err error
+	switch p.JavaType.Name().FullyQualified {
+	case "boolean":
+		_, err = fmt.Fprintf(out, "        g.writeBooleanField(\"%s\", %s);\n", p.JsonName, getter)
+	case "byte", "short", "int", "long", "float", "double":
+		_, err = fmt.Fprintf(out, "        g.writeNumberField(\"%s\", %s);\n", p.JsonName, getter)
+	case String.name.FullyQualified:
+		_, err = fmt.Fprintf(out, "        g.writeStringField(\"%s\", %s);\n", p.JsonName, getter)
+	default:
+		_, err = fmt.Fprintf(out, "        writeValue(g, provider, \"%s\", %s);\n", p.JsonName, getter)
+	}
+	return err
+}
+
+func (p *BeanProperty) readExpression() string {
+	switch p.JavaType.Name().FullyQualified {
+	case "boolean":
+		return "readBoolean(p, ctxt)"
+	case "byte":
+		return "(byte) readInt(p, ctxt)"
+	case "short":
+		return "(short) readInt(p, ctxt)"
+	case "int":
+		return "readInt(p, ctxt)"
+	case "long":
+		return "readLong(p, ctxt)"
+	case "float":
+		return "(float) readDouble(p, ctxt)"
+	case "double":
+		return "readDouble(p, ctxt)"
+	case String.name.FullyQualified:
+		if p.Interned {
+			return "readInternedString(p, ctxt)"
+		}
+		return "readString(p, ctxt)"
+	}
+	return "readValue(p, ctxt, " + p.codecType() + ")"
+}
+
+// codecType is the class literal or JavaType constant a codec reads the property's value as
+func (p *BeanProperty) codecType() string {
+	if constant := p.CodecTypeConstant(); constant != "" {
+		return constant
+	}
+	return p.JavaType.AsReferenceType().name.Simple + ".class"
+}
+
+// typeExpression renders a Java expression that constructs the JavaType of a parameterized type.
+func typeExpression(t JavaType) string {
+	ref := t.AsReferenceType()
+	switch ref.name.FullyQualified {
+	case listFullyQualifiedName:
+		return fmt.Sprintf("TYPES.constructCollectionType(List.class, %s)", typeArgument(ref.Arguments[0], false))
+	case mapFullyQualifiedName:
+		generic := isParameterized(ref.Arguments[0]) || isParameterized(ref.Arguments[1])
+		return fmt.Sprintf("TYPES.constructMapType(Map.class, %s, %s)",
+			typeArgument(ref.Arguments[0], generic), typeArgument(ref.Arguments[1], generic))
+	default:
+		return fmt.Sprintf("TYPES.constructType(%s.class)", ref.name.Simple)
+	}
+}
+
+// typeArgument renders a type argument as a class literal where the surrounding TypeFactory call allows it.
+func typeArgument(t JavaType, asJavaType bool) string {
+	if asJavaType || isParameterized(t) {
+		return typeExpression(t)
+	}
+	return t.AsReferenceType().name.Simple + ".class"
+}
+
+func isParameterized(t JavaType) bool {
+	return len(t.AsReferenceType().Arguments) > 0
+}
@@ -0,0 +1,134 @@
+package java
+
+import (
+	"fmt"
+	"io"
+)
+
+// DeclareStructuralMethods declares deepCopy, equals, hashCode and structuralHash methods,
+// which work field by field rather than through a round-trip to JSON.
+// hashCode only covers scalar properties, so that objects used as keys are neither walked in full nor decoded,
+// while structuralHash covers the whole graph.
+func DeclareStructuralMethods(out io.Writer, className string, properties []BeanProperty) error {
+	fmt.Fprint(out, "\n")
+	fmt.Fprint(out, "    @Override\n")
+	fmt.Fprintf(out, "    public %s deepCopy() {\n", className)
+	fmt.Fprintf(out, "        final %s copy = new %s();\n", className, className)
+	for _, p := range properties {
+		p.declareCopy(out)
+	}
+	fmt.Fprint(out, "        copyUnmappedPropertiesTo(copy);\n")
+	fmt.Fprint(out, "        return copy;\n")
+	fmt.Fprint(out, "    }\n")
+
+	fmt.Fprint(out, "\n")
+	fmt.Fprint(out, "    @Override\n")
+	fmt.Fprint(out, "    public boolean equals(Object o) {\n")
+	fmt.Fprint(out, "        if (this == o) return true;\n")
+	fmt.Fprint(out, "        if (o == null || getClass() != o.getClass()) return false;\n")
+	fmt.Fprint(out, "\n")
+	fmt.Fprintf(out, "        final %s that = (%s) o;\n", className, className)
+	fmt.Fprint(out, "        return ")
+	for _, p := range properties {
+		fmt.Fprintf(out, "%s\n                && ", p.equalsExpression())
+	}
+	fmt.Fprint(out, "unmappedPropertiesEqual(that);\n")
+	fmt.Fprint(out, "    }\n")
+
+	fmt.Fprint(out, "\n")
+	fmt.Fprint(out, "    @Override\n")
+	fmt.Fprint(out, "    public int hashCode() {\n")
+	var hashed []string
+	for _, p := range properties {
+		if expression := p.hashCodeExpression(); expression != "" {
+			hashed = append(hashed, expression)
+		}
+	}
+	if len(hashed) == 0 {
+		// Objects with only nested properties all share one hash code, which equals tolerates
+		fmt.Fprint(out, "        return 0;\n")
+	} else {
+		fmt.Fprint(out, "        int result = 0;\n")
+		for _, expression := range hashed {
+			fmt.Fprintf(out, "        result = 31 * result + %s;\n", expression)
+		}
+		fmt.Fprint(out, "        return result;\n")
+	}
+	fmt.Fprint(out, "    }\n")
+
+	fmt.Fprint(out, "\n")
+	fmt.Fprint(out, "    @Override\n")
+	fmt.Fprint(out, "    public long structuralHash() {\n")
+	fmt.Fprint(out, "        long hash = 0;\n")
+	for _, p := range properties {
+		fmt.Fprintf(out, "        hash = hashOf(hash, %s);\n", p.valueExpression("this"))
+	}
+	fmt.Fprint(out, "        return hashUnmappedProperties(hash);\n")
+	_, err := fmt.Fprint(out, "    }\n")
+	return err
+}
+
+// sharedInCopies is true if values of the property's type are immutable, so copies can share them
+func (p *BeanProperty) sharedInCopies() bool {
+	switch p.JavaType.Name().FullyQualified {
+	case "boolean", "byte", "short", "int", "long", "float", "double",
+		"java.lang.Byte", "java.lang.Short", "java.lang.Float", "java.lang.Double",
+		Boolean.name.FullyQualified, Integer.name.FullyQualified, Long.name.FullyQualified,
+		String.name.FullyQualified, BigInteger.name.FullyQualified:
+		return true
+	}
+	return false
+}
+
+// declareCopy declares the statement that copies the property in a deepCopy method.
+// A lazy property is decoded first, since its tokens may decode to canonical values that must not be modified.
+func (p *BeanProperty) declareCopy(out io.Writer) error {
+	var err error
+	if p.sharedInCopies() {
+		_, err = fmt.Fprintf(out, "        copy.%s = %s;\n", p.Name, p.valueExpression("this"))
+	} else {
+		_, err = fmt.Fprintf(out, "        copy.%s = copyOf(%s);\n", p.Name, p.valueExpression("this"))
+	}
+	return err
+}
+
+// valueExpression is the expression that reads the property of the given object, decoding it first if it is lazy
+func (p *BeanProperty) valueExpression(object string) string {
+	if p.Lazy {
+		return object + ".get" + p.methodSuffix() + "()"
+	}
+	return object + "." + p.Name
+}
+
+func (p *BeanProperty) equalsExpression() string {
+	value, other := p.valueExpression("this"), p.valueExpression("that")
+	switch p.JavaType.Name().FullyQualified {
+	case "boolean", "byte", "short", "int", "long":
+		return fmt.Sprintf("%s == %s", value, other)
+	case "float", "double":
+		return fmt.Sprintf("Double.compare(%s, %s) == 0", value, other)
+	case "byte[]":
+		return fmt.Sprintf("java.util.Arrays.equals(%s, %s)", value, other)
+	default:
+		return fmt.Sprintf("java.util.Objects.equals(%s, %s)", value, other)
+	}
+}
+
+// hashCodeExpression is the expression that hashes the property in a hashCode method,
+// or "" if the property isn't a scalar and is only covered by structuralHash
+func (p *BeanProperty) hashCodeExpression() string {
+	switch p.JavaType.Name().FullyQualified {
+	case "boolean":
+		return fmt.Sprintf("Boolean.hashCode(this.%s)", p.Name)
+	case "byte", "short", "int":
+		return "this." + p.Name
+	case "long":
+		return fmt.Sprintf("Long.hashCode(this.%s)", p.Name)
+	case "float", "double":
+		return fmt.Sprintf("Double.hashCode(this.%s)", p.Name)
+	}
+	if p.sharedInCopies() {
+		return fmt.Sprintf("java.util.Objects.hashCode(this.%s)", p.Name)
+	}
+	return ""
+}
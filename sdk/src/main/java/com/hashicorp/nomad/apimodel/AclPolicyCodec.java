@@ -0,0 +1,61 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * This is a generated codec that reads and writes {@link AclPolicy}
+ * directly from and to JSON tokens.
+ */
+public final class AclPolicyCodec extends ApiObjectCodec<AclPolicy> {
+    public AclPolicyCodec() {
+        super(AclPolicy.class);
+    }
+
+    @Override
+    protected AclPolicy newInstance() {
+        return new AclPolicy();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AclPolicy value)
+            throws IOException {
+        switch (name) {
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Description":
+                value.setDescription(readString(p, ctxt));
+                return true;
+            case "Rules":
+                value.setRules(readString(p, ctxt));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AclPolicy value)
+            throws IOException {
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("Description", value.getDescription());
+        g.writeStringField("Rules", value.getRules());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
@@ -59,6 +59,50 @@ public final class AclPolicyListStub extends ApiObject {
         return this;
     }
 
+    @Override
+    public AclPolicyListStub deepCopy() {
+        final AclPolicyListStub copy = new AclPolicyListStub();
+        copy.name = this.name;
+        copy.description = this.description;
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AclPolicyListStub that = (AclPolicyListStub) o;
+        return java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.description, that.description)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.description);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.description);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -123,6 +123,68 @@ public final class AclToken extends ApiObject {
         return this;
     }
 
+    @Override
+    public AclToken deepCopy() {
+        final AclToken copy = new AclToken();
+        copy.accessorId = this.accessorId;
+        copy.secretId = this.secretId;
+        copy.name = this.name;
+        copy.type = this.type;
+        copy.policies = copyOf(this.policies);
+        copy.global = this.global;
+        copy.createTime = copyOf(this.createTime);
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AclToken that = (AclToken) o;
+        return java.util.Objects.equals(this.accessorId, that.accessorId)
+                && java.util.Objects.equals(this.secretId, that.secretId)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.type, that.type)
+                && java.util.Objects.equals(this.policies, that.policies)
+                && this.global == that.global
+                && java.util.Objects.equals(this.createTime, that.createTime)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.accessorId);
+        result = 31 * result + java.util.Objects.hashCode(this.secretId);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.type);
+        result = 31 * result + Boolean.hashCode(this.global);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.accessorId);
+        hash = hashOf(hash, this.secretId);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.type);
+        hash = hashOf(hash, this.policies);
+        hash = hashOf(hash, this.global);
+        hash = hashOf(hash, this.createTime);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
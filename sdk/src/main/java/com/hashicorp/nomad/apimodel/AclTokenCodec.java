@@ -0,0 +1,85 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link AclToken}
+ * directly from and to JSON tokens.
+ */
+public final class AclTokenCodec extends ApiObjectCodec<AclToken> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType POLICIES =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public AclTokenCodec() {
+        super(AclToken.class);
+    }
+
+    @Override
+    protected AclToken newInstance() {
+        return new AclToken();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AclToken value)
+            throws IOException {
+        switch (name) {
+            case "AccessorID":
+                value.setAccessorId(readString(p, ctxt));
+                return true;
+            case "SecretID":
+                value.setSecretId(readString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Type":
+                value.setType(readInternedString(p, ctxt));
+                return true;
+            case "Policies":
+                value.setPolicies(readValue(p, ctxt, POLICIES));
+                return true;
+            case "Global":
+                value.setGlobal(readBoolean(p, ctxt));
+                return true;
+            case "CreateTime":
+                value.setCreateTime(readValue(p, ctxt, Date.class));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AclToken value)
+            throws IOException {
+        g.writeStringField("AccessorID", value.getAccessorId());
+        g.writeStringField("SecretID", value.getSecretId());
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("Type", value.getType());
+        writeValue(g, provider, "Policies", value.getPolicies());
+        g.writeBooleanField("Global", value.getGlobal());
+        writeValue(g, provider, "CreateTime", value.getCreateTime());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
@@ -58,6 +58,50 @@ public final class Affinity extends ApiObject {
         return this;
     }
 
+    @Override
+    public Affinity deepCopy() {
+        final Affinity copy = new Affinity();
+        copy.lTarget = this.lTarget;
+        copy.rTarget = this.rTarget;
+        copy.operand = this.operand;
+        copy.weight = this.weight;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Affinity that = (Affinity) o;
+        return java.util.Objects.equals(this.lTarget, that.lTarget)
+                && java.util.Objects.equals(this.rTarget, that.rTarget)
+                && java.util.Objects.equals(this.operand, that.operand)
+                && this.weight == that.weight
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.lTarget);
+        result = 31 * result + java.util.Objects.hashCode(this.rTarget);
+        result = 31 * result + java.util.Objects.hashCode(this.operand);
+        result = 31 * result + this.weight;
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.lTarget);
+        hash = hashOf(hash, this.rTarget);
+        hash = hashOf(hash, this.operand);
+        hash = hashOf(hash, this.weight);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
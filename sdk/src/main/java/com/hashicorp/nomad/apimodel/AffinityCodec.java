@@ -0,0 +1,56 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link Affinity}
+ * directly from and to JSON tokens.
+ */
+public final class AffinityCodec extends ApiObjectCodec<Affinity> {
+    public AffinityCodec() {
+        super(Affinity.class);
+    }
+
+    @Override
+    protected Affinity newInstance() {
+        return new Affinity();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, Affinity value)
+            throws IOException {
+        switch (name) {
+            case "LTarget":
+                value.setLTarget(readString(p, ctxt));
+                return true;
+            case "RTarget":
+                value.setRTarget(readString(p, ctxt));
+                return true;
+            case "Operand":
+                value.setOperand(readString(p, ctxt));
+                return true;
+            case "Weight":
+                value.setWeight((short) readInt(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, Affinity value)
+            throws IOException {
+        g.writeStringField("LTarget", value.getLTarget());
+        g.writeStringField("RTarget", value.getRTarget());
+        g.writeStringField("Operand", value.getOperand());
+        g.writeNumberField("Weight", value.getWeight());
+    }
+}
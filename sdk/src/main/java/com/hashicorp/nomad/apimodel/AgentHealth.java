@@ -36,6 +36,42 @@ public final class AgentHealth extends ApiObject {
         return this;
     }
 
+    @Override
+    public AgentHealth deepCopy() {
+        final AgentHealth copy = new AgentHealth();
+        copy.ok = this.ok;
+        copy.message = this.message;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AgentHealth that = (AgentHealth) o;
+        return this.ok == that.ok
+                && java.util.Objects.equals(this.message, that.message)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Boolean.hashCode(this.ok);
+        result = 31 * result + java.util.Objects.hashCode(this.message);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.ok);
+        hash = hashOf(hash, this.message);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,48 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link AgentHealth}
+ * directly from and to JSON tokens.
+ */
+public final class AgentHealthCodec extends ApiObjectCodec<AgentHealth> {
+    public AgentHealthCodec() {
+        super(AgentHealth.class);
+    }
+
+    @Override
+    protected AgentHealth newInstance() {
+        return new AgentHealth();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AgentHealth value)
+            throws IOException {
+        switch (name) {
+            case "ok":
+                value.setOk(readBoolean(p, ctxt));
+                return true;
+            case "message":
+                value.setMessage(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AgentHealth value)
+            throws IOException {
+        g.writeBooleanField("ok", value.getOk());
+        g.writeStringField("message", value.getMessage());
+    }
+}
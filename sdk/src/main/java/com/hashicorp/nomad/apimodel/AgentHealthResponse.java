@@ -36,6 +36,39 @@ public final class AgentHealthResponse extends ApiObject {
         return this;
     }
 
+    @Override
+    public AgentHealthResponse deepCopy() {
+        final AgentHealthResponse copy = new AgentHealthResponse();
+        copy.client = copyOf(this.client);
+        copy.server = copyOf(this.server);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AgentHealthResponse that = (AgentHealthResponse) o;
+        return java.util.Objects.equals(this.client, that.client)
+                && java.util.Objects.equals(this.server, that.server)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.client);
+        hash = hashOf(hash, this.server);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
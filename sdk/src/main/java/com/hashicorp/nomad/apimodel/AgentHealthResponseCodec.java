@@ -0,0 +1,48 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link AgentHealthResponse}
+ * directly from and to JSON tokens.
+ */
+public final class AgentHealthResponseCodec extends ApiObjectCodec<AgentHealthResponse> {
+    public AgentHealthResponseCodec() {
+        super(AgentHealthResponse.class);
+    }
+
+    @Override
+    protected AgentHealthResponse newInstance() {
+        return new AgentHealthResponse();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AgentHealthResponse value)
+            throws IOException {
+        switch (name) {
+            case "client":
+                value.setClient(readValue(p, ctxt, AgentHealth.class));
+                return true;
+            case "server":
+                value.setServer(readValue(p, ctxt, AgentHealth.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AgentHealthResponse value)
+            throws IOException {
+        writeValue(g, provider, "client", value.getClient());
+        writeValue(g, provider, "server", value.getServer());
+    }
+}
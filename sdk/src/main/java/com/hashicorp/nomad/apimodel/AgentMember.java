@@ -143,6 +143,77 @@ public final class AgentMember extends ApiObject {
         return this;
     }
 
+    @Override
+    public AgentMember deepCopy() {
+        final AgentMember copy = new AgentMember();
+        copy.name = this.name;
+        copy.addr = this.addr;
+        copy.port = this.port;
+        copy.tags = copyOf(this.tags);
+        copy.status = this.status;
+        copy.protocolMin = this.protocolMin;
+        copy.protocolMax = this.protocolMax;
+        copy.protocolCur = this.protocolCur;
+        copy.delegateMin = this.delegateMin;
+        copy.delegateMax = this.delegateMax;
+        copy.delegateCur = this.delegateCur;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AgentMember that = (AgentMember) o;
+        return java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.addr, that.addr)
+                && this.port == that.port
+                && java.util.Objects.equals(this.tags, that.tags)
+                && java.util.Objects.equals(this.status, that.status)
+                && this.protocolMin == that.protocolMin
+                && this.protocolMax == that.protocolMax
+                && this.protocolCur == that.protocolCur
+                && this.delegateMin == that.delegateMin
+                && this.delegateMax == that.delegateMax
+                && this.delegateCur == that.delegateCur
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.addr);
+        result = 31 * result + this.port;
+        result = 31 * result + java.util.Objects.hashCode(this.status);
+        result = 31 * result + this.protocolMin;
+        result = 31 * result + this.protocolMax;
+        result = 31 * result + this.protocolCur;
+        result = 31 * result + this.delegateMin;
+        result = 31 * result + this.delegateMax;
+        result = 31 * result + this.delegateCur;
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.addr);
+        hash = hashOf(hash, this.port);
+        hash = hashOf(hash, this.tags);
+        hash = hashOf(hash, this.status);
+        hash = hashOf(hash, this.protocolMin);
+        hash = hashOf(hash, this.protocolMax);
+        hash = hashOf(hash, this.protocolCur);
+        hash = hashOf(hash, this.delegateMin);
+        hash = hashOf(hash, this.delegateMax);
+        hash = hashOf(hash, this.delegateCur);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
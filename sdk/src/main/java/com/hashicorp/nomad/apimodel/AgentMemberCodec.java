@@ -0,0 +1,91 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link AgentMember}
+ * directly from and to JSON tokens.
+ */
+public final class AgentMemberCodec extends ApiObjectCodec<AgentMember> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType TAGS =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+
+    public AgentMemberCodec() {
+        super(AgentMember.class);
+    }
+
+    @Override
+    protected AgentMember newInstance() {
+        return new AgentMember();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AgentMember value)
+            throws IOException {
+        switch (name) {
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Addr":
+                value.setAddr(readString(p, ctxt));
+                return true;
+            case "Port":
+                value.setPort(readInt(p, ctxt));
+                return true;
+            case "Tags":
+                value.setTags(readValue(p, ctxt, TAGS));
+                return true;
+            case "Status":
+                value.setStatus(readInternedString(p, ctxt));
+                return true;
+            case "ProtocolMin":
+                value.setProtocolMin((byte) readInt(p, ctxt));
+                return true;
+            case "ProtocolMax":
+                value.setProtocolMax((byte) readInt(p, ctxt));
+                return true;
+            case "ProtocolCur":
+                value.setProtocolCur((byte) readInt(p, ctxt));
+                return true;
+            case "DelegateMin":
+                value.setDelegateMin((byte) readInt(p, ctxt));
+                return true;
+            case "DelegateMax":
+                value.setDelegateMax((byte) readInt(p, ctxt));
+                return true;
+            case "DelegateCur":
+                value.setDelegateCur((byte) readInt(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AgentMember value)
+            throws IOException {
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("Addr", value.getAddr());
+        g.writeNumberField("Port", value.getPort());
+        writeValue(g, provider, "Tags", value.getTags());
+        g.writeStringField("Status", value.getStatus());
+        g.writeNumberField("ProtocolMin", value.getProtocolMin());
+        g.writeNumberField("ProtocolMax", value.getProtocolMax());
+        g.writeNumberField("ProtocolCur", value.getProtocolCur());
+        g.writeNumberField("DelegateMin", value.getDelegateMin());
+        g.writeNumberField("DelegateMax", value.getDelegateMax());
+        g.writeNumberField("DelegateCur", value.getDelegateCur());
+    }
+}
@@ -62,6 +62,42 @@ public final class AgentSelf extends ApiObject {
         return this;
     }
 
+    @Override
+    public AgentSelf deepCopy() {
+        final AgentSelf copy = new AgentSelf();
+        copy.config = copyOf(this.config);
+        copy.member = copyOf(this.member);
+        copy.stats = copyOf(this.stats);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AgentSelf that = (AgentSelf) o;
+        return java.util.Objects.equals(this.config, that.config)
+                && java.util.Objects.equals(this.member, that.member)
+                && java.util.Objects.equals(this.stats, that.stats)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.config);
+        hash = hashOf(hash, this.member);
+        hash = hashOf(hash, this.stats);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
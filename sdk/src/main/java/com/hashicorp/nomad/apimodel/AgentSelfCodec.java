@@ -0,0 +1,62 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link AgentSelf}
+ * directly from and to JSON tokens.
+ */
+public final class AgentSelfCodec extends ApiObjectCodec<AgentSelf> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType CONFIG =
+            TYPES.constructMapType(Map.class, String.class, Object.class);
+    private static final JavaType STATS =
+            TYPES.constructMapType(Map.class, TYPES.constructType(String.class),
+                    TYPES.constructMapType(Map.class, String.class, String.class));
+
+    public AgentSelfCodec() {
+        super(AgentSelf.class);
+    }
+
+    @Override
+    protected AgentSelf newInstance() {
+        return new AgentSelf();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AgentSelf value)
+            throws IOException {
+        switch (name) {
+            case "config":
+                value.setConfig(readValue(p, ctxt, CONFIG));
+                return true;
+            case "member":
+                value.setMember(readValue(p, ctxt, AgentMember.class));
+                return true;
+            case "stats":
+                value.setStats(readValue(p, ctxt, STATS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AgentSelf value)
+            throws IOException {
+        writeValue(g, provider, "config", value.getConfig());
+        writeValue(g, provider, "member", value.getMember());
+        writeValue(g, provider, "stats", value.getStats());
+    }
+}
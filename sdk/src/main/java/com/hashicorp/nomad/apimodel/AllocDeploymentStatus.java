@@ -60,6 +60,49 @@ public final class AllocDeploymentStatus extends ApiObject {
         return this;
     }
 
+    @Override
+    public AllocDeploymentStatus deepCopy() {
+        final AllocDeploymentStatus copy = new AllocDeploymentStatus();
+        copy.healthy = this.healthy;
+        copy.timestamp = copyOf(this.timestamp);
+        copy.canary = this.canary;
+        copy.modifyIndex = this.modifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AllocDeploymentStatus that = (AllocDeploymentStatus) o;
+        return java.util.Objects.equals(this.healthy, that.healthy)
+                && java.util.Objects.equals(this.timestamp, that.timestamp)
+                && this.canary == that.canary
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.healthy);
+        result = 31 * result + Boolean.hashCode(this.canary);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.healthy);
+        hash = hashOf(hash, this.timestamp);
+        hash = hashOf(hash, this.canary);
+        hash = hashOf(hash, this.modifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
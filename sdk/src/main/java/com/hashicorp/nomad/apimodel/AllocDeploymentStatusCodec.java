@@ -0,0 +1,58 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Date;
+
+/**
+ * This is a generated codec that reads and writes {@link AllocDeploymentStatus}
+ * directly from and to JSON tokens.
+ */
+public final class AllocDeploymentStatusCodec extends ApiObjectCodec<AllocDeploymentStatus> {
+    public AllocDeploymentStatusCodec() {
+        super(AllocDeploymentStatus.class);
+    }
+
+    @Override
+    protected AllocDeploymentStatus newInstance() {
+        return new AllocDeploymentStatus();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AllocDeploymentStatus value)
+            throws IOException {
+        switch (name) {
+            case "Healthy":
+                value.setHealthy(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "Timestamp":
+                value.setTimestamp(readValue(p, ctxt, Date.class));
+                return true;
+            case "Canary":
+                value.setCanary(readBoolean(p, ctxt));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AllocDeploymentStatus value)
+            throws IOException {
+        writeValue(g, provider, "Healthy", value.getHealthy());
+        writeValue(g, provider, "Timestamp", value.getTimestamp());
+        g.writeBooleanField("Canary", value.getCanary());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
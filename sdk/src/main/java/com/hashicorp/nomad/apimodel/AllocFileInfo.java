@@ -81,6 +81,57 @@ public final class AllocFileInfo extends ApiObject {
         return this;
     }
 
+    @Override
+    public AllocFileInfo deepCopy() {
+        final AllocFileInfo copy = new AllocFileInfo();
+        copy.name = this.name;
+        copy.isDir = this.isDir;
+        copy.size = this.size;
+        copy.fileMode = this.fileMode;
+        copy.modTime = copyOf(this.modTime);
+        copy.contentType = this.contentType;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AllocFileInfo that = (AllocFileInfo) o;
+        return java.util.Objects.equals(this.name, that.name)
+                && this.isDir == that.isDir
+                && this.size == that.size
+                && java.util.Objects.equals(this.fileMode, that.fileMode)
+                && java.util.Objects.equals(this.modTime, that.modTime)
+                && java.util.Objects.equals(this.contentType, that.contentType)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + Boolean.hashCode(this.isDir);
+        result = 31 * result + Long.hashCode(this.size);
+        result = 31 * result + java.util.Objects.hashCode(this.fileMode);
+        result = 31 * result + java.util.Objects.hashCode(this.contentType);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.isDir);
+        hash = hashOf(hash, this.size);
+        hash = hashOf(hash, this.fileMode);
+        hash = hashOf(hash, this.modTime);
+        hash = hashOf(hash, this.contentType);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
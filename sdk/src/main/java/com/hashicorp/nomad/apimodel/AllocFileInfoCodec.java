@@ -0,0 +1,65 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Date;
+
+/**
+ * This is a generated codec that reads and writes {@link AllocFileInfo}
+ * directly from and to JSON tokens.
+ */
+public final class AllocFileInfoCodec extends ApiObjectCodec<AllocFileInfo> {
+    public AllocFileInfoCodec() {
+        super(AllocFileInfo.class);
+    }
+
+    @Override
+    protected AllocFileInfo newInstance() {
+        return new AllocFileInfo();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AllocFileInfo value)
+            throws IOException {
+        switch (name) {
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "IsDir":
+                value.setIsDir(readBoolean(p, ctxt));
+                return true;
+            case "Size":
+                value.setSize(readLong(p, ctxt));
+                return true;
+            case "FileMode":
+                value.setFileMode(readString(p, ctxt));
+                return true;
+            case "ModTime":
+                value.setModTime(readValue(p, ctxt, Date.class));
+                return true;
+            case "ContentType":
+                value.setContentType(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AllocFileInfo value)
+            throws IOException {
+        g.writeStringField("Name", value.getName());
+        g.writeBooleanField("IsDir", value.getIsDir());
+        g.writeNumberField("Size", value.getSize());
+        g.writeStringField("FileMode", value.getFileMode());
+        writeValue(g, provider, "ModTime", value.getModTime());
+        g.writeStringField("ContentType", value.getContentType());
+    }
+}
@@ -55,6 +55,44 @@ public final class AllocResourceUsage extends ApiObject {
         return this;
     }
 
+    @Override
+    public AllocResourceUsage deepCopy() {
+        final AllocResourceUsage copy = new AllocResourceUsage();
+        copy.resourceUsage = copyOf(this.resourceUsage);
+        copy.tasks = copyOf(this.tasks);
+        copy.timestamp = this.timestamp;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AllocResourceUsage that = (AllocResourceUsage) o;
+        return java.util.Objects.equals(this.resourceUsage, that.resourceUsage)
+                && java.util.Objects.equals(this.tasks, that.tasks)
+                && this.timestamp == that.timestamp
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Long.hashCode(this.timestamp);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.resourceUsage);
+        hash = hashOf(hash, this.tasks);
+        hash = hashOf(hash, this.timestamp);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
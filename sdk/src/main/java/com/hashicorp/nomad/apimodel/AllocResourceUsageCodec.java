@@ -0,0 +1,59 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link AllocResourceUsage}
+ * directly from and to JSON tokens.
+ */
+public final class AllocResourceUsageCodec extends ApiObjectCodec<AllocResourceUsage> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType TASKS =
+            TYPES.constructMapType(Map.class, String.class, TaskResourceUsage.class);
+
+    public AllocResourceUsageCodec() {
+        super(AllocResourceUsage.class);
+    }
+
+    @Override
+    protected AllocResourceUsage newInstance() {
+        return new AllocResourceUsage();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AllocResourceUsage value)
+            throws IOException {
+        switch (name) {
+            case "ResourceUsage":
+                value.setResourceUsage(readValue(p, ctxt, ResourceUsage.class));
+                return true;
+            case "Tasks":
+                value.setTasks(readValue(p, ctxt, TASKS));
+                return true;
+            case "Timestamp":
+                value.setTimestamp(readLong(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AllocResourceUsage value)
+            throws IOException {
+        writeValue(g, provider, "ResourceUsage", value.getResourceUsage());
+        writeValue(g, provider, "Tasks", value.getTasks());
+        g.writeNumberField("Timestamp", value.getTimestamp());
+    }
+}
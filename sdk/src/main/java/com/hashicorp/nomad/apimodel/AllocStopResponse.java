@@ -25,6 +25,38 @@ public final class AllocStopResponse extends ApiObject {
         return this;
     }
 
+    @Override
+    public AllocStopResponse deepCopy() {
+        final AllocStopResponse copy = new AllocStopResponse();
+        copy.evalId = this.evalId;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AllocStopResponse that = (AllocStopResponse) o;
+        return java.util.Objects.equals(this.evalId, that.evalId)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.evalId);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.evalId);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,44 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link AllocStopResponse}
+ * directly from and to JSON tokens.
+ */
+public final class AllocStopResponseCodec extends ApiObjectCodec<AllocStopResponse> {
+    public AllocStopResponseCodec() {
+        super(AllocStopResponse.class);
+    }
+
+    @Override
+    protected AllocStopResponse newInstance() {
+        return new AllocStopResponse();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AllocStopResponse value)
+            throws IOException {
+        switch (name) {
+            case "EvalID":
+                value.setEvalId(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AllocStopResponse value)
+            throws IOException {
+        g.writeStringField("EvalID", value.getEvalId());
+    }
+}
@@ -25,6 +25,38 @@ public final class AllocatedMemoryResources extends ApiObject {
         return this;
     }
 
+    @Override
+    public AllocatedMemoryResources deepCopy() {
+        final AllocatedMemoryResources copy = new AllocatedMemoryResources();
+        copy.memoryMb = this.memoryMb;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AllocatedMemoryResources that = (AllocatedMemoryResources) o;
+        return this.memoryMb == that.memoryMb
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Long.hashCode(this.memoryMb);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.memoryMb);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -44,6 +44,39 @@ public final class AllocatedResources extends ApiObject {
         return this;
     }
 
+    @Override
+    public AllocatedResources deepCopy() {
+        final AllocatedResources copy = new AllocatedResources();
+        copy.tasks = copyOf(this.tasks);
+        copy.shared = copyOf(this.shared);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AllocatedResources that = (AllocatedResources) o;
+        return java.util.Objects.equals(this.tasks, that.tasks)
+                && java.util.Objects.equals(this.shared, that.shared)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.tasks);
+        hash = hashOf(hash, this.shared);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,55 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link AllocatedResources}
+ * directly from and to JSON tokens.
+ */
+public final class AllocatedResourcesCodec extends ApiObjectCodec<AllocatedResources> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType TASKS =
+            TYPES.constructMapType(Map.class, String.class, AllocatedTaskResources.class);
+
+    public AllocatedResourcesCodec() {
+        super(AllocatedResources.class);
+    }
+
+    @Override
+    protected AllocatedResources newInstance() {
+        return new AllocatedResources();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AllocatedResources value)
+            throws IOException {
+        switch (name) {
+            case "Tasks":
+                value.setTasks(readValue(p, ctxt, TASKS));
+                return true;
+            case "Shared":
+                value.setShared(readValue(p, ctxt, AllocatedSharedResources.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AllocatedResources value)
+            throws IOException {
+        writeValue(g, provider, "Tasks", value.getTasks());
+        writeValue(g, provider, "Shared", value.getShared());
+    }
+}
@@ -44,6 +44,41 @@ public final class AllocatedSharedResources extends ApiObject {
         return this;
     }
 
+    @Override
+    public AllocatedSharedResources deepCopy() {
+        final AllocatedSharedResources copy = new AllocatedSharedResources();
+        copy.diskMb = this.diskMb;
+        copy.networks = copyOf(this.networks);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AllocatedSharedResources that = (AllocatedSharedResources) o;
+        return this.diskMb == that.diskMb
+                && java.util.Objects.equals(this.networks, that.networks)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Long.hashCode(this.diskMb);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.diskMb);
+        hash = hashOf(hash, this.networks);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
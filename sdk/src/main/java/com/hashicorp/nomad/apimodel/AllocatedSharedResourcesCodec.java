@@ -0,0 +1,55 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link AllocatedSharedResources}
+ * directly from and to JSON tokens.
+ */
+public final class AllocatedSharedResourcesCodec extends ApiObjectCodec<AllocatedSharedResources> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType NETWORKS =
+            TYPES.constructCollectionType(List.class, NetworkResource.class);
+
+    public AllocatedSharedResourcesCodec() {
+        super(AllocatedSharedResources.class);
+    }
+
+    @Override
+    protected AllocatedSharedResources newInstance() {
+        return new AllocatedSharedResources();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AllocatedSharedResources value)
+            throws IOException {
+        switch (name) {
+            case "DiskMB":
+                value.setDiskMb(readLong(p, ctxt));
+                return true;
+            case "Networks":
+                value.setNetworks(readValue(p, ctxt, NETWORKS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AllocatedSharedResources value)
+            throws IOException {
+        g.writeNumberField("DiskMB", value.getDiskMb());
+        writeValue(g, provider, "Networks", value.getNetworks());
+    }
+}
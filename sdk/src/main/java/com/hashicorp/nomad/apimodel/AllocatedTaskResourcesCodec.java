@@ -0,0 +1,59 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link AllocatedTaskResources}
+ * directly from and to JSON tokens.
+ */
+public final class AllocatedTaskResourcesCodec extends ApiObjectCodec<AllocatedTaskResources> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType NETWORKS =
+            TYPES.constructCollectionType(List.class, NetworkResource.class);
+
+    public AllocatedTaskResourcesCodec() {
+        super(AllocatedTaskResources.class);
+    }
+
+    @Override
+    protected AllocatedTaskResources newInstance() {
+        return new AllocatedTaskResources();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AllocatedTaskResources value)
+            throws IOException {
+        switch (name) {
+            case "Cpu":
+                value.setCpu(readValue(p, ctxt, AllocatedCpuResources.class));
+                return true;
+            case "Memory":
+                value.setMemory(readValue(p, ctxt, AllocatedMemoryResources.class));
+                return true;
+            case "Networks":
+                value.setNetworks(readValue(p, ctxt, NETWORKS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AllocatedTaskResources value)
+            throws IOException {
+        writeValue(g, provider, "Cpu", value.getCpu());
+        writeValue(g, provider, "Memory", value.getMemory());
+        writeValue(g, provider, "Networks", value.getNetworks());
+    }
+}
@@ -2,6 +2,7 @@ package com.hashicorp.nomad.apimodel;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.hashicorp.nomad.javasdk.ApiObject;
+import com.hashicorp.nomad.javasdk.LazyValue;
 import com.hashicorp.nomad.javasdk.NomadJson;
 
 import java.io.IOException;
@@ -23,6 +24,7 @@ public final class Allocation extends ApiObject {
     private String nodeName;
     private String jobId;
     private Job job;
+    private volatile LazyValue<Job> lazyJob;
     private String taskGroup;
     private Resources resources;
     private Map<String, Resources> taskResources;
@@ -35,6 +37,7 @@ public final class Allocation extends ApiObject {
     private String clientStatus;
     private String clientDescription;
     private Map<String, TaskState> taskStates;
+    private volatile LazyValue<Map<String, TaskState>> lazyTaskStates;
     private String deploymentId;
     private AllocDeploymentStatus deploymentStatus;
     private String followupEvalId;
@@ -121,14 +124,29 @@ public final class Allocation extends ApiObject {
 
     @JsonProperty("Job")
     public Job getJob() {
+        final LazyValue<Job> pending = lazyJob;
+        if (pending != null) {
+            synchronized (pending) {
+                if (lazyJob == pending) {
+                    job = pending.get();
+                    lazyJob = null;
+                }
+            }
+        }
         return job;
     }
 
     public Allocation setJob(Job job) {
         this.job = job;
+        this.lazyJob = null;
         return this;
     }
 
+    void deferJob(LazyValue<Job> job) {
+        this.job = null;
+        this.lazyJob = job;
+    }
+
     @JsonProperty("TaskGroup")
     public String getTaskGroup() {
         return taskGroup;
@@ -255,21 +273,36 @@ public final class Allocation extends ApiObject {
 
     @JsonProperty("TaskStates")
     public Map<String, TaskState> getTaskStates() {
+        final LazyValue<Map<String, TaskState>> pending = lazyTaskStates;
+        if (pending != null) {
+            synchronized (pending) {
+                if (lazyTaskStates == pending) {
+                    taskStates = pending.get();
+                    lazyTaskStates = null;
+                }
+            }
+        }
         return taskStates;
     }
 
     public Allocation setTaskStates(Map<String, TaskState> taskStates) {
         this.taskStates = taskStates;
+        this.lazyTaskStates = null;
         return this;
     }
 
     public Allocation addTaskStates(String key, TaskState value) {
-        if (this.taskStates == null)
+        if (getTaskStates() == null)
             this.taskStates = new java.util.HashMap<>();
         this.taskStates.put(key, value);
         return this;
     }
 
+    void deferTaskStates(LazyValue<Map<String, TaskState>> taskStates) {
+        this.taskStates = null;
+        this.lazyTaskStates = taskStates;
+    }
+
     @JsonProperty("DeploymentID")
     public String getDeploymentId() {
         return deploymentId;
@@ -408,6 +441,155 @@ public final class Allocation extends ApiObject {
         return this;
     }
 
+    @Override
+    public Allocation deepCopy() {
+        final Allocation copy = new Allocation();
+        copy.id = this.id;
+        copy.namespace = this.namespace;
+        copy.evalId = this.evalId;
+        copy.name = this.name;
+        copy.nodeId = this.nodeId;
+        copy.nodeName = this.nodeName;
+        copy.jobId = this.jobId;
+        copy.job = copyOf(this.getJob());
+        copy.taskGroup = this.taskGroup;
+        copy.resources = copyOf(this.resources);
+        copy.taskResources = copyOf(this.taskResources);
+        copy.allocatedResources = copyOf(this.allocatedResources);
+        copy.services = copyOf(this.services);
+        copy.metrics = copyOf(this.metrics);
+        copy.desiredStatus = this.desiredStatus;
+        copy.desiredDescription = this.desiredDescription;
+        copy.desiredTransition = copyOf(this.desiredTransition);
+        copy.clientStatus = this.clientStatus;
+        copy.clientDescription = this.clientDescription;
+        copy.taskStates = copyOf(this.getTaskStates());
+        copy.deploymentId = this.deploymentId;
+        copy.deploymentStatus = copyOf(this.deploymentStatus);
+        copy.followupEvalId = this.followupEvalId;
+        copy.previousAllocation = this.previousAllocation;
+        copy.nextAllocation = this.nextAllocation;
+        copy.rescheduleTracker = copyOf(this.rescheduleTracker);
+        copy.preemptedAllocations = copyOf(this.preemptedAllocations);
+        copy.preemptedByAllocation = this.preemptedByAllocation;
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copy.allocModifyIndex = this.allocModifyIndex;
+        copy.createTime = this.createTime;
+        copy.modifyTime = this.modifyTime;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Allocation that = (Allocation) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.namespace, that.namespace)
+                && java.util.Objects.equals(this.evalId, that.evalId)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.nodeId, that.nodeId)
+                && java.util.Objects.equals(this.nodeName, that.nodeName)
+                && java.util.Objects.equals(this.jobId, that.jobId)
+                && java.util.Objects.equals(this.getJob(), that.getJob())
+                && java.util.Objects.equals(this.taskGroup, that.taskGroup)
+                && java.util.Objects.equals(this.resources, that.resources)
+                && java.util.Objects.equals(this.taskResources, that.taskResources)
+                && java.util.Objects.equals(this.allocatedResources, that.allocatedResources)
+                && java.util.Objects.equals(this.services, that.services)
+                && java.util.Objects.equals(this.metrics, that.metrics)
+                && java.util.Objects.equals(this.desiredStatus, that.desiredStatus)
+                && java.util.Objects.equals(this.desiredDescription, that.desiredDescription)
+                && java.util.Objects.equals(this.desiredTransition, that.desiredTransition)
+                && java.util.Objects.equals(this.clientStatus, that.clientStatus)
+                && java.util.Objects.equals(this.clientDescription, that.clientDescription)
+                && java.util.Objects.equals(this.getTaskStates(), that.getTaskStates())
+                && java.util.Objects.equals(this.deploymentId, that.deploymentId)
+                && java.util.Objects.equals(this.deploymentStatus, that.deploymentStatus)
+                && java.util.Objects.equals(this.followupEvalId, that.followupEvalId)
+                && java.util.Objects.equals(this.previousAllocation, that.previousAllocation)
+                && java.util.Objects.equals(this.nextAllocation, that.nextAllocation)
+                && java.util.Objects.equals(this.rescheduleTracker, that.rescheduleTracker)
+                && java.util.Objects.equals(this.preemptedAllocations, that.preemptedAllocations)
+                && java.util.Objects.equals(this.preemptedByAllocation, that.preemptedByAllocation)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && java.util.Objects.equals(this.allocModifyIndex, that.allocModifyIndex)
+                && this.createTime == that.createTime
+                && this.modifyTime == that.modifyTime
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.namespace);
+        result = 31 * result + java.util.Objects.hashCode(this.evalId);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.nodeId);
+        result = 31 * result + java.util.Objects.hashCode(this.nodeName);
+        result = 31 * result + java.util.Objects.hashCode(this.jobId);
+        result = 31 * result + java.util.Objects.hashCode(this.taskGroup);
+        result = 31 * result + java.util.Objects.hashCode(this.desiredStatus);
+        result = 31 * result + java.util.Objects.hashCode(this.desiredDescription);
+        result = 31 * result + java.util.Objects.hashCode(this.clientStatus);
+        result = 31 * result + java.util.Objects.hashCode(this.clientDescription);
+        result = 31 * result + java.util.Objects.hashCode(this.deploymentId);
+        result = 31 * result + java.util.Objects.hashCode(this.followupEvalId);
+        result = 31 * result + java.util.Objects.hashCode(this.previousAllocation);
+        result = 31 * result + java.util.Objects.hashCode(this.nextAllocation);
+        result = 31 * result + java.util.Objects.hashCode(this.preemptedByAllocation);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.allocModifyIndex);
+        result = 31 * result + Long.hashCode(this.createTime);
+        result = 31 * result + Long.hashCode(this.modifyTime);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.namespace);
+        hash = hashOf(hash, this.evalId);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.nodeId);
+        hash = hashOf(hash, this.nodeName);
+        hash = hashOf(hash, this.jobId);
+        hash = hashOf(hash, this.getJob());
+        hash = hashOf(hash, this.taskGroup);
+        hash = hashOf(hash, this.resources);
+        hash = hashOf(hash, this.taskResources);
+        hash = hashOf(hash, this.allocatedResources);
+        hash = hashOf(hash, this.services);
+        hash = hashOf(hash, this.metrics);
+        hash = hashOf(hash, this.desiredStatus);
+        hash = hashOf(hash, this.desiredDescription);
+        hash = hashOf(hash, this.desiredTransition);
+        hash = hashOf(hash, this.clientStatus);
+        hash = hashOf(hash, this.clientDescription);
+        hash = hashOf(hash, this.getTaskStates());
+        hash = hashOf(hash, this.deploymentId);
+        hash = hashOf(hash, this.deploymentStatus);
+        hash = hashOf(hash, this.followupEvalId);
+        hash = hashOf(hash, this.previousAllocation);
+        hash = hashOf(hash, this.nextAllocation);
+        hash = hashOf(hash, this.rescheduleTracker);
+        hash = hashOf(hash, this.preemptedAllocations);
+        hash = hashOf(hash, this.preemptedByAllocation);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        hash = hashOf(hash, this.allocModifyIndex);
+        hash = hashOf(hash, this.createTime);
+        hash = hashOf(hash, this.modifyTime);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,193 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link Allocation}
+ * directly from and to JSON tokens.
+ */
+public final class AllocationCodec extends ApiObjectCodec<Allocation> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType TASK_RESOURCES =
+            TYPES.constructMapType(Map.class, String.class, Resources.class);
+    private static final JavaType SERVICES =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+    private static final JavaType TASK_STATES =
+            TYPES.constructMapType(Map.class, String.class, TaskState.class);
+    private static final JavaType PREEMPTED_ALLOCATIONS =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public AllocationCodec() {
+        super(Allocation.class);
+    }
+
+    @Override
+    protected Allocation newInstance() {
+        return new Allocation();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, Allocation value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Namespace":
+                value.setNamespace(readInternedString(p, ctxt));
+                return true;
+            case "EvalID":
+                value.setEvalId(readString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "NodeID":
+                value.setNodeId(readInternedString(p, ctxt));
+                return true;
+            case "NodeName":
+                value.setNodeName(readInternedString(p, ctxt));
+                return true;
+            case "JobID":
+                value.setJobId(readInternedString(p, ctxt));
+                return true;
+            case "Job":
+                if (isLazy(ctxt))
+                    value.deferJob(readLazily(p, ctxt, Job.class));
+                else
+                    value.setJob(readValue(p, ctxt, Job.class));
+                return true;
+            case "TaskGroup":
+                value.setTaskGroup(readInternedString(p, ctxt));
+                return true;
+            case "Resources":
+                value.setResources(readValue(p, ctxt, Resources.class));
+                return true;
+            case "TaskResources":
+                value.setTaskResources(readValue(p, ctxt, TASK_RESOURCES));
+                return true;
+            case "AllocatedResources":
+                value.setAllocatedResources(readValue(p, ctxt, AllocatedResources.class));
+                return true;
+            case "Services":
+                value.setServices(readValue(p, ctxt, SERVICES));
+                return true;
+            case "Metrics":
+                value.setMetrics(readValue(p, ctxt, AllocationMetric.class));
+                return true;
+            case "DesiredStatus":
+                value.setDesiredStatus(readInternedString(p, ctxt));
+                return true;
+            case "DesiredDescription":
+                value.setDesiredDescription(readString(p, ctxt));
+                return true;
+            case "DesiredTransition":
+                value.setDesiredTransition(readValue(p, ctxt, DesiredTransition.class));
+                return true;
+            case "ClientStatus":
+                value.setClientStatus(readInternedString(p, ctxt));
+                return true;
+            case "ClientDescription":
+                value.setClientDescription(readString(p, ctxt));
+                return true;
+            case "TaskStates":
+                if (isLazy(ctxt))
+                    value.deferTaskStates(readLazily(p, ctxt, TASK_STATES));
+                else
+                    value.setTaskStates(readValue(p, ctxt, TASK_STATES));
+                return true;
+            case "DeploymentID":
+                value.setDeploymentId(readString(p, ctxt));
+                return true;
+            case "DeploymentStatus":
+                value.setDeploymentStatus(readValue(p, ctxt, AllocDeploymentStatus.class));
+                return true;
+            case "FollowupEvalID":
+                value.setFollowupEvalId(readString(p, ctxt));
+                return true;
+            case "PreviousAllocation":
+                value.setPreviousAllocation(readString(p, ctxt));
+                return true;
+            case "NextAllocation":
+                value.setNextAllocation(readString(p, ctxt));
+                return true;
+            case "RescheduleTracker":
+                value.setRescheduleTracker(readValue(p, ctxt, RescheduleTracker.class));
+                return true;
+            case "PreemptedAllocations":
+                value.setPreemptedAllocations(readValue(p, ctxt, PREEMPTED_ALLOCATIONS));
+                return true;
+            case "PreemptedByAllocation":
+                value.setPreemptedByAllocation(readString(p, ctxt));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "AllocModifyIndex":
+                value.setAllocModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "CreateTime":
+                value.setCreateTime(readLong(p, ctxt));
+                return true;
+            case "ModifyTime":
+                value.setModifyTime(readLong(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, Allocation value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeStringField("Namespace", value.getNamespace());
+        g.writeStringField("EvalID", value.getEvalId());
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("NodeID", value.getNodeId());
+        g.writeStringField("NodeName", value.getNodeName());
+        g.writeStringField("JobID", value.getJobId());
+        writeValue(g, provider, "Job", value.getJob());
+        g.writeStringField("TaskGroup", value.getTaskGroup());
+        writeValue(g, provider, "Resources", value.getResources());
+        writeValue(g, provider, "TaskResources", value.getTaskResources());
+        writeValue(g, provider, "AllocatedResources", value.getAllocatedResources());
+        writeValue(g, provider, "Services", value.getServices());
+        writeValue(g, provider, "Metrics", value.getMetrics());
+        g.writeStringField("DesiredStatus", value.getDesiredStatus());
+        g.writeStringField("DesiredDescription", value.getDesiredDescription());
+        writeValue(g, provider, "DesiredTransition", value.getDesiredTransition());
+        g.writeStringField("ClientStatus", value.getClientStatus());
+        g.writeStringField("ClientDescription", value.getClientDescription());
+        writeValue(g, provider, "TaskStates", value.getTaskStates());
+        g.writeStringField("DeploymentID", value.getDeploymentId());
+        writeValue(g, provider, "DeploymentStatus", value.getDeploymentStatus());
+        g.writeStringField("FollowupEvalID", value.getFollowupEvalId());
+        g.writeStringField("PreviousAllocation", value.getPreviousAllocation());
+        g.writeStringField("NextAllocation", value.getNextAllocation());
+        writeValue(g, provider, "RescheduleTracker", value.getRescheduleTracker());
+        writeValue(g, provider, "PreemptedAllocations", value.getPreemptedAllocations());
+        g.writeStringField("PreemptedByAllocation", value.getPreemptedByAllocation());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+        writeValue(g, provider, "AllocModifyIndex", value.getAllocModifyIndex());
+        g.writeNumberField("CreateTime", value.getCreateTime());
+        g.writeNumberField("ModifyTime", value.getModifyTime());
+    }
+}
@@ -295,6 +295,126 @@ public final class AllocationListStub extends ApiObject {
         return this;
     }
 
+    @Override
+    public AllocationListStub deepCopy() {
+        final AllocationListStub copy = new AllocationListStub();
+        copy.id = this.id;
+        copy.evalId = this.evalId;
+        copy.name = this.name;
+        copy.namespace = this.namespace;
+        copy.nodeId = this.nodeId;
+        copy.nodeName = this.nodeName;
+        copy.jobId = this.jobId;
+        copy.jobType = this.jobType;
+        copy.jobVersion = this.jobVersion;
+        copy.taskGroup = this.taskGroup;
+        copy.desiredStatus = this.desiredStatus;
+        copy.desiredDescription = this.desiredDescription;
+        copy.clientStatus = this.clientStatus;
+        copy.clientDescription = this.clientDescription;
+        copy.taskStates = copyOf(this.taskStates);
+        copy.deploymentStatus = copyOf(this.deploymentStatus);
+        copy.followupEvalId = this.followupEvalId;
+        copy.rescheduleTracker = copyOf(this.rescheduleTracker);
+        copy.preemptedAllocations = copyOf(this.preemptedAllocations);
+        copy.preemptedByAllocation = this.preemptedByAllocation;
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copy.createTime = this.createTime;
+        copy.modifyTime = this.modifyTime;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AllocationListStub that = (AllocationListStub) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.evalId, that.evalId)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.namespace, that.namespace)
+                && java.util.Objects.equals(this.nodeId, that.nodeId)
+                && java.util.Objects.equals(this.nodeName, that.nodeName)
+                && java.util.Objects.equals(this.jobId, that.jobId)
+                && java.util.Objects.equals(this.jobType, that.jobType)
+                && java.util.Objects.equals(this.jobVersion, that.jobVersion)
+                && java.util.Objects.equals(this.taskGroup, that.taskGroup)
+                && java.util.Objects.equals(this.desiredStatus, that.desiredStatus)
+                && java.util.Objects.equals(this.desiredDescription, that.desiredDescription)
+                && java.util.Objects.equals(this.clientStatus, that.clientStatus)
+                && java.util.Objects.equals(this.clientDescription, that.clientDescription)
+                && java.util.Objects.equals(this.taskStates, that.taskStates)
+                && java.util.Objects.equals(this.deploymentStatus, that.deploymentStatus)
+                && java.util.Objects.equals(this.followupEvalId, that.followupEvalId)
+                && java.util.Objects.equals(this.rescheduleTracker, that.rescheduleTracker)
+                && java.util.Objects.equals(this.preemptedAllocations, that.preemptedAllocations)
+                && java.util.Objects.equals(this.preemptedByAllocation, that.preemptedByAllocation)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && this.createTime == that.createTime
+                && this.modifyTime == that.modifyTime
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.evalId);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.namespace);
+        result = 31 * result + java.util.Objects.hashCode(this.nodeId);
+        result = 31 * result + java.util.Objects.hashCode(this.nodeName);
+        result = 31 * result + java.util.Objects.hashCode(this.jobId);
+        result = 31 * result + java.util.Objects.hashCode(this.jobType);
+        result = 31 * result + java.util.Objects.hashCode(this.jobVersion);
+        result = 31 * result + java.util.Objects.hashCode(this.taskGroup);
+        result = 31 * result + java.util.Objects.hashCode(this.desiredStatus);
+        result = 31 * result + java.util.Objects.hashCode(this.desiredDescription);
+        result = 31 * result + java.util.Objects.hashCode(this.clientStatus);
+        result = 31 * result + java.util.Objects.hashCode(this.clientDescription);
+        result = 31 * result + java.util.Objects.hashCode(this.followupEvalId);
+        result = 31 * result + java.util.Objects.hashCode(this.preemptedByAllocation);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        result = 31 * result + Long.hashCode(this.createTime);
+        result = 31 * result + Long.hashCode(this.modifyTime);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.evalId);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.namespace);
+        hash = hashOf(hash, this.nodeId);
+        hash = hashOf(hash, this.nodeName);
+        hash = hashOf(hash, this.jobId);
+        hash = hashOf(hash, this.jobType);
+        hash = hashOf(hash, this.jobVersion);
+        hash = hashOf(hash, this.taskGroup);
+        hash = hashOf(hash, this.desiredStatus);
+        hash = hashOf(hash, this.desiredDescription);
+        hash = hashOf(hash, this.clientStatus);
+        hash = hashOf(hash, this.clientDescription);
+        hash = hashOf(hash, this.taskStates);
+        hash = hashOf(hash, this.deploymentStatus);
+        hash = hashOf(hash, this.followupEvalId);
+        hash = hashOf(hash, this.rescheduleTracker);
+        hash = hashOf(hash, this.preemptedAllocations);
+        hash = hashOf(hash, this.preemptedByAllocation);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        hash = hashOf(hash, this.createTime);
+        hash = hashOf(hash, this.modifyTime);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,147 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link AllocationListStub}
+ * directly from and to JSON tokens.
+ */
+public final class AllocationListStubCodec extends ApiObjectCodec<AllocationListStub> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType TASK_STATES =
+            TYPES.constructMapType(Map.class, String.class, TaskState.class);
+    private static final JavaType PREEMPTED_ALLOCATIONS =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public AllocationListStubCodec() {
+        super(AllocationListStub.class);
+    }
+
+    @Override
+    protected AllocationListStub newInstance() {
+        return new AllocationListStub();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AllocationListStub value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "EvalID":
+                value.setEvalId(readString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Namespace":
+                value.setNamespace(readInternedString(p, ctxt));
+                return true;
+            case "NodeID":
+                value.setNodeId(readInternedString(p, ctxt));
+                return true;
+            case "NodeName":
+                value.setNodeName(readInternedString(p, ctxt));
+                return true;
+            case "JobID":
+                value.setJobId(readInternedString(p, ctxt));
+                return true;
+            case "JobType":
+                value.setJobType(readInternedString(p, ctxt));
+                return true;
+            case "JobVersion":
+                value.setJobVersion(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "TaskGroup":
+                value.setTaskGroup(readInternedString(p, ctxt));
+                return true;
+            case "DesiredStatus":
+                value.setDesiredStatus(readInternedString(p, ctxt));
+                return true;
+            case "DesiredDescription":
+                value.setDesiredDescription(readString(p, ctxt));
+                return true;
+            case "ClientStatus":
+                value.setClientStatus(readInternedString(p, ctxt));
+                return true;
+            case "ClientDescription":
+                value.setClientDescription(readString(p, ctxt));
+                return true;
+            case "TaskStates":
+                value.setTaskStates(readValue(p, ctxt, TASK_STATES));
+                return true;
+            case "DeploymentStatus":
+                value.setDeploymentStatus(readValue(p, ctxt, AllocDeploymentStatus.class));
+                return true;
+            case "FollowupEvalID":
+                value.setFollowupEvalId(readString(p, ctxt));
+                return true;
+            case "RescheduleTracker":
+                value.setRescheduleTracker(readValue(p, ctxt, RescheduleTracker.class));
+                return true;
+            case "PreemptedAllocations":
+                value.setPreemptedAllocations(readValue(p, ctxt, PREEMPTED_ALLOCATIONS));
+                return true;
+            case "PreemptedByAllocation":
+                value.setPreemptedByAllocation(readString(p, ctxt));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "CreateTime":
+                value.setCreateTime(readLong(p, ctxt));
+                return true;
+            case "ModifyTime":
+                value.setModifyTime(readLong(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AllocationListStub value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeStringField("EvalID", value.getEvalId());
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("Namespace", value.getNamespace());
+        g.writeStringField("NodeID", value.getNodeId());
+        g.writeStringField("NodeName", value.getNodeName());
+        g.writeStringField("JobID", value.getJobId());
+        g.writeStringField("JobType", value.getJobType());
+        writeValue(g, provider, "JobVersion", value.getJobVersion());
+        g.writeStringField("TaskGroup", value.getTaskGroup());
+        g.writeStringField("DesiredStatus", value.getDesiredStatus());
+        g.writeStringField("DesiredDescription", value.getDesiredDescription());
+        g.writeStringField("ClientStatus", value.getClientStatus());
+        g.writeStringField("ClientDescription", value.getClientDescription());
+        writeValue(g, provider, "TaskStates", value.getTaskStates());
+        writeValue(g, provider, "DeploymentStatus", value.getDeploymentStatus());
+        g.writeStringField("FollowupEvalID", value.getFollowupEvalId());
+        writeValue(g, provider, "RescheduleTracker", value.getRescheduleTracker());
+        writeValue(g, provider, "PreemptedAllocations", value.getPreemptedAllocations());
+        g.writeStringField("PreemptedByAllocation", value.getPreemptedByAllocation());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+        g.writeNumberField("CreateTime", value.getCreateTime());
+        g.writeNumberField("ModifyTime", value.getModifyTime());
+    }
+}
@@ -216,6 +216,78 @@ public final class AllocationMetric extends ApiObject {
         return this;
     }
 
+    @Override
+    public AllocationMetric deepCopy() {
+        final AllocationMetric copy = new AllocationMetric();
+        copy.nodesEvaluated = this.nodesEvaluated;
+        copy.nodesFiltered = this.nodesFiltered;
+        copy.nodesAvailable = copyOf(this.nodesAvailable);
+        copy.classFiltered = copyOf(this.classFiltered);
+        copy.constraintFiltered = copyOf(this.constraintFiltered);
+        copy.nodesExhausted = this.nodesExhausted;
+        copy.classExhausted = copyOf(this.classExhausted);
+        copy.dimensionExhausted = copyOf(this.dimensionExhausted);
+        copy.quotaExhausted = copyOf(this.quotaExhausted);
+        copy.scores = copyOf(this.scores);
+        copy.allocationTime = this.allocationTime;
+        copy.coalescedFailures = this.coalescedFailures;
+        copy.scoreMetaData = copyOf(this.scoreMetaData);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AllocationMetric that = (AllocationMetric) o;
+        return this.nodesEvaluated == that.nodesEvaluated
+                && this.nodesFiltered == that.nodesFiltered
+                && java.util.Objects.equals(this.nodesAvailable, that.nodesAvailable)
+                && java.util.Objects.equals(this.classFiltered, that.classFiltered)
+                && java.util.Objects.equals(this.constraintFiltered, that.constraintFiltered)
+                && this.nodesExhausted == that.nodesExhausted
+                && java.util.Objects.equals(this.classExhausted, that.classExhausted)
+                && java.util.Objects.equals(this.dimensionExhausted, that.dimensionExhausted)
+                && java.util.Objects.equals(this.quotaExhausted, that.quotaExhausted)
+                && java.util.Objects.equals(this.scores, that.scores)
+                && this.allocationTime == that.allocationTime
+                && this.coalescedFailures == that.coalescedFailures
+                && java.util.Objects.equals(this.scoreMetaData, that.scoreMetaData)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + this.nodesEvaluated;
+        result = 31 * result + this.nodesFiltered;
+        result = 31 * result + this.nodesExhausted;
+        result = 31 * result + Long.hashCode(this.allocationTime);
+        result = 31 * result + this.coalescedFailures;
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.nodesEvaluated);
+        hash = hashOf(hash, this.nodesFiltered);
+        hash = hashOf(hash, this.nodesAvailable);
+        hash = hashOf(hash, this.classFiltered);
+        hash = hashOf(hash, this.constraintFiltered);
+        hash = hashOf(hash, this.nodesExhausted);
+        hash = hashOf(hash, this.classExhausted);
+        hash = hashOf(hash, this.dimensionExhausted);
+        hash = hashOf(hash, this.quotaExhausted);
+        hash = hashOf(hash, this.scores);
+        hash = hashOf(hash, this.allocationTime);
+        hash = hashOf(hash, this.coalescedFailures);
+        hash = hashOf(hash, this.scoreMetaData);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,114 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link AllocationMetric}
+ * directly from and to JSON tokens.
+ */
+public final class AllocationMetricCodec extends ApiObjectCodec<AllocationMetric> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType NODES_AVAILABLE =
+            TYPES.constructMapType(Map.class, String.class, Integer.class);
+    private static final JavaType CLASS_FILTERED =
+            TYPES.constructMapType(Map.class, String.class, Integer.class);
+    private static final JavaType CONSTRAINT_FILTERED =
+            TYPES.constructMapType(Map.class, String.class, Integer.class);
+    private static final JavaType CLASS_EXHAUSTED =
+            TYPES.constructMapType(Map.class, String.class, Integer.class);
+    private static final JavaType DIMENSION_EXHAUSTED =
+            TYPES.constructMapType(Map.class, String.class, Integer.class);
+    private static final JavaType QUOTA_EXHAUSTED =
+            TYPES.constructCollectionType(List.class, String.class);
+    private static final JavaType SCORES =
+            TYPES.constructMapType(Map.class, String.class, Double.class);
+    private static final JavaType SCORE_META_DATA =
+            TYPES.constructCollectionType(List.class, NodeScoreMeta.class);
+
+    public AllocationMetricCodec() {
+        super(AllocationMetric.class);
+    }
+
+    @Override
+    protected AllocationMetric newInstance() {
+        return new AllocationMetric();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AllocationMetric value)
+            throws IOException {
+        switch (name) {
+            case "NodesEvaluated":
+                value.setNodesEvaluated(readInt(p, ctxt));
+                return true;
+            case "NodesFiltered":
+                value.setNodesFiltered(readInt(p, ctxt));
+                return true;
+            case "NodesAvailable":
+                value.setNodesAvailable(readValue(p, ctxt, NODES_AVAILABLE));
+                return true;
+            case "ClassFiltered":
+                value.setClassFiltered(readValue(p, ctxt, CLASS_FILTERED));
+                return true;
+            case "ConstraintFiltered":
+                value.setConstraintFiltered(readValue(p, ctxt, CONSTRAINT_FILTERED));
+                return true;
+            case "NodesExhausted":
+                value.setNodesExhausted(readInt(p, ctxt));
+                return true;
+            case "ClassExhausted":
+                value.setClassExhausted(readValue(p, ctxt, CLASS_EXHAUSTED));
+                return true;
+            case "DimensionExhausted":
+                value.setDimensionExhausted(readValue(p, ctxt, DIMENSION_EXHAUSTED));
+                return true;
+            case "QuotaExhausted":
+                value.setQuotaExhausted(readValue(p, ctxt, QUOTA_EXHAUSTED));
+                return true;
+            case "Scores":
+                value.setScores(readValue(p, ctxt, SCORES));
+                return true;
+            case "AllocationTime":
+                value.setAllocationTime(readLong(p, ctxt));
+                return true;
+            case "CoalescedFailures":
+                value.setCoalescedFailures(readInt(p, ctxt));
+                return true;
+            case "ScoreMetaData":
+                value.setScoreMetaData(readValue(p, ctxt, SCORE_META_DATA));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AllocationMetric value)
+            throws IOException {
+        g.writeNumberField("NodesEvaluated", value.getNodesEvaluated());
+        g.writeNumberField("NodesFiltered", value.getNodesFiltered());
+        writeValue(g, provider, "NodesAvailable", value.getNodesAvailable());
+        writeValue(g, provider, "ClassFiltered", value.getClassFiltered());
+        writeValue(g, provider, "ConstraintFiltered", value.getConstraintFiltered());
+        g.writeNumberField("NodesExhausted", value.getNodesExhausted());
+        writeValue(g, provider, "ClassExhausted", value.getClassExhausted());
+        writeValue(g, provider, "DimensionExhausted", value.getDimensionExhausted());
+        writeValue(g, provider, "QuotaExhausted", value.getQuotaExhausted());
+        writeValue(g, provider, "Scores", value.getScores());
+        g.writeNumberField("AllocationTime", value.getAllocationTime());
+        g.writeNumberField("CoalescedFailures", value.getCoalescedFailures());
+        writeValue(g, provider, "ScoreMetaData", value.getScoreMetaData());
+    }
+}
@@ -69,6 +69,54 @@ public final class Attribute extends ApiObject {
         return this;
     }
 
+    @Override
+    public Attribute deepCopy() {
+        final Attribute copy = new Attribute();
+        copy.floatVal = this.floatVal;
+        copy.intVal = this.intVal;
+        copy.stringVal = this.stringVal;
+        copy.boolVal = this.boolVal;
+        copy.unit = this.unit;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Attribute that = (Attribute) o;
+        return Double.compare(this.floatVal, that.floatVal) == 0
+                && java.util.Objects.equals(this.intVal, that.intVal)
+                && java.util.Objects.equals(this.stringVal, that.stringVal)
+                && java.util.Objects.equals(this.boolVal, that.boolVal)
+                && java.util.Objects.equals(this.unit, that.unit)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Double.hashCode(this.floatVal);
+        result = 31 * result + java.util.Objects.hashCode(this.intVal);
+        result = 31 * result + java.util.Objects.hashCode(this.stringVal);
+        result = 31 * result + java.util.Objects.hashCode(this.boolVal);
+        result = 31 * result + java.util.Objects.hashCode(this.unit);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.floatVal);
+        hash = hashOf(hash, this.intVal);
+        hash = hashOf(hash, this.stringVal);
+        hash = hashOf(hash, this.boolVal);
+        hash = hashOf(hash, this.unit);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,60 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link Attribute}
+ * directly from and to JSON tokens.
+ */
+public final class AttributeCodec extends ApiObjectCodec<Attribute> {
+    public AttributeCodec() {
+        super(Attribute.class);
+    }
+
+    @Override
+    protected Attribute newInstance() {
+        return new Attribute();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, Attribute value)
+            throws IOException {
+        switch (name) {
+            case "Float":
+                value.setFloat(readDouble(p, ctxt));
+                return true;
+            case "Int":
+                value.setInt(readValue(p, ctxt, Long.class));
+                return true;
+            case "String":
+                value.setString(readString(p, ctxt));
+                return true;
+            case "Bool":
+                value.setBool(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "Unit":
+                value.setUnit(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, Attribute value)
+            throws IOException {
+        g.writeNumberField("Float", value.getFloat());
+        writeValue(g, provider, "Int", value.getInt());
+        g.writeStringField("String", value.getString());
+        writeValue(g, provider, "Bool", value.getBool());
+        g.writeStringField("Unit", value.getUnit());
+    }
+}
@@ -125,6 +125,74 @@ public final class AutopilotConfiguration extends ApiObject {
         return this;
     }
 
+    @Override
+    public AutopilotConfiguration deepCopy() {
+        final AutopilotConfiguration copy = new AutopilotConfiguration();
+        copy.cleanupDeadServers = this.cleanupDeadServers;
+        copy.lastContactThreshold = this.lastContactThreshold;
+        copy.maxTrailingLogs = this.maxTrailingLogs;
+        copy.minQuorum = this.minQuorum;
+        copy.serverStabilizationTime = this.serverStabilizationTime;
+        copy.enableRedundancyZones = this.enableRedundancyZones;
+        copy.disableUpgradeMigration = this.disableUpgradeMigration;
+        copy.enableCustomUpgrades = this.enableCustomUpgrades;
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final AutopilotConfiguration that = (AutopilotConfiguration) o;
+        return this.cleanupDeadServers == that.cleanupDeadServers
+                && java.util.Objects.equals(this.lastContactThreshold, that.lastContactThreshold)
+                && java.util.Objects.equals(this.maxTrailingLogs, that.maxTrailingLogs)
+                && this.minQuorum == that.minQuorum
+                && java.util.Objects.equals(this.serverStabilizationTime, that.serverStabilizationTime)
+                && this.enableRedundancyZones == that.enableRedundancyZones
+                && this.disableUpgradeMigration == that.disableUpgradeMigration
+                && this.enableCustomUpgrades == that.enableCustomUpgrades
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Boolean.hashCode(this.cleanupDeadServers);
+        result = 31 * result + java.util.Objects.hashCode(this.lastContactThreshold);
+        result = 31 * result + java.util.Objects.hashCode(this.maxTrailingLogs);
+        result = 31 * result + Long.hashCode(this.minQuorum);
+        result = 31 * result + java.util.Objects.hashCode(this.serverStabilizationTime);
+        result = 31 * result + Boolean.hashCode(this.enableRedundancyZones);
+        result = 31 * result + Boolean.hashCode(this.disableUpgradeMigration);
+        result = 31 * result + Boolean.hashCode(this.enableCustomUpgrades);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.cleanupDeadServers);
+        hash = hashOf(hash, this.lastContactThreshold);
+        hash = hashOf(hash, this.maxTrailingLogs);
+        hash = hashOf(hash, this.minQuorum);
+        hash = hashOf(hash, this.serverStabilizationTime);
+        hash = hashOf(hash, this.enableRedundancyZones);
+        hash = hashOf(hash, this.disableUpgradeMigration);
+        hash = hashOf(hash, this.enableCustomUpgrades);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
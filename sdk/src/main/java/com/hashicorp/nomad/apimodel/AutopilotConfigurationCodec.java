@@ -0,0 +1,81 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * This is a generated codec that reads and writes {@link AutopilotConfiguration}
+ * directly from and to JSON tokens.
+ */
+public final class AutopilotConfigurationCodec extends ApiObjectCodec<AutopilotConfiguration> {
+    public AutopilotConfigurationCodec() {
+        super(AutopilotConfiguration.class);
+    }
+
+    @Override
+    protected AutopilotConfiguration newInstance() {
+        return new AutopilotConfiguration();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, AutopilotConfiguration value)
+            throws IOException {
+        switch (name) {
+            case "CleanupDeadServers":
+                value.setCleanupDeadServers(readBoolean(p, ctxt));
+                return true;
+            case "LastContactThreshold":
+                value.setLastContactThreshold(readString(p, ctxt));
+                return true;
+            case "MaxTrailingLogs":
+                value.setMaxTrailingLogs(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "MinQuorum":
+                value.setMinQuorum(readLong(p, ctxt));
+                return true;
+            case "ServerStabilizationTime":
+                value.setServerStabilizationTime(readString(p, ctxt));
+                return true;
+            case "EnableRedundancyZones":
+                value.setEnableRedundancyZones(readBoolean(p, ctxt));
+                return true;
+            case "DisableUpgradeMigration":
+                value.setDisableUpgradeMigration(readBoolean(p, ctxt));
+                return true;
+            case "EnableCustomUpgrades":
+                value.setEnableCustomUpgrades(readBoolean(p, ctxt));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, AutopilotConfiguration value)
+            throws IOException {
+        g.writeBooleanField("CleanupDeadServers", value.getCleanupDeadServers());
+        g.writeStringField("LastContactThreshold", value.getLastContactThreshold());
+        writeValue(g, provider, "MaxTrailingLogs", value.getMaxTrailingLogs());
+        g.writeNumberField("MinQuorum", value.getMinQuorum());
+        g.writeStringField("ServerStabilizationTime", value.getServerStabilizationTime());
+        g.writeBooleanField("EnableRedundancyZones", value.getEnableRedundancyZones());
+        g.writeBooleanField("DisableUpgradeMigration", value.getDisableUpgradeMigration());
+        g.writeBooleanField("EnableCustomUpgrades", value.getEnableCustomUpgrades());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
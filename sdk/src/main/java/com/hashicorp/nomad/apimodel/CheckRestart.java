@@ -47,6 +47,46 @@ public final class CheckRestart extends ApiObject {
         return this;
     }
 
+    @Override
+    public CheckRestart deepCopy() {
+        final CheckRestart copy = new CheckRestart();
+        copy.limit = this.limit;
+        copy.grace = this.grace;
+        copy.ignoreWarnings = this.ignoreWarnings;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final CheckRestart that = (CheckRestart) o;
+        return this.limit == that.limit
+                && java.util.Objects.equals(this.grace, that.grace)
+                && this.ignoreWarnings == that.ignoreWarnings
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + this.limit;
+        result = 31 * result + java.util.Objects.hashCode(this.grace);
+        result = 31 * result + Boolean.hashCode(this.ignoreWarnings);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.limit);
+        hash = hashOf(hash, this.grace);
+        hash = hashOf(hash, this.ignoreWarnings);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,52 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link CheckRestart}
+ * directly from and to JSON tokens.
+ */
+public final class CheckRestartCodec extends ApiObjectCodec<CheckRestart> {
+    public CheckRestartCodec() {
+        super(CheckRestart.class);
+    }
+
+    @Override
+    protected CheckRestart newInstance() {
+        return new CheckRestart();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, CheckRestart value)
+            throws IOException {
+        switch (name) {
+            case "Limit":
+                value.setLimit(readInt(p, ctxt));
+                return true;
+            case "Grace":
+                value.setGrace(readValue(p, ctxt, Long.class));
+                return true;
+            case "IgnoreWarnings":
+                value.setIgnoreWarnings(readBoolean(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, CheckRestart value)
+            throws IOException {
+        g.writeNumberField("Limit", value.getLimit());
+        writeValue(g, provider, "Grace", value.getGrace());
+        g.writeBooleanField("IgnoreWarnings", value.getIgnoreWarnings());
+    }
+}
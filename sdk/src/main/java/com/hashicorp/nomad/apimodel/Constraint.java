@@ -47,6 +47,46 @@ public final class Constraint extends ApiObject {
         return this;
     }
 
+    @Override
+    public Constraint deepCopy() {
+        final Constraint copy = new Constraint();
+        copy.lTarget = this.lTarget;
+        copy.rTarget = this.rTarget;
+        copy.operand = this.operand;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Constraint that = (Constraint) o;
+        return java.util.Objects.equals(this.lTarget, that.lTarget)
+                && java.util.Objects.equals(this.rTarget, that.rTarget)
+                && java.util.Objects.equals(this.operand, that.operand)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.lTarget);
+        result = 31 * result + java.util.Objects.hashCode(this.rTarget);
+        result = 31 * result + java.util.Objects.hashCode(this.operand);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.lTarget);
+        hash = hashOf(hash, this.rTarget);
+        hash = hashOf(hash, this.operand);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,52 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link Constraint}
+ * directly from and to JSON tokens.
+ */
+public final class ConstraintCodec extends ApiObjectCodec<Constraint> {
+    public ConstraintCodec() {
+        super(Constraint.class);
+    }
+
+    @Override
+    protected Constraint newInstance() {
+        return new Constraint();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, Constraint value)
+            throws IOException {
+        switch (name) {
+            case "LTarget":
+                value.setLTarget(readString(p, ctxt));
+                return true;
+            case "RTarget":
+                value.setRTarget(readString(p, ctxt));
+                return true;
+            case "Operand":
+                value.setOperand(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, Constraint value)
+            throws IOException {
+        g.writeStringField("LTarget", value.getLTarget());
+        g.writeStringField("RTarget", value.getRTarget());
+        g.writeStringField("Operand", value.getOperand());
+    }
+}
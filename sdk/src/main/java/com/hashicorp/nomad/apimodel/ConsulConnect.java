@@ -47,6 +47,44 @@ public final class ConsulConnect extends ApiObject {
         return this;
     }
 
+    @Override
+    public ConsulConnect deepCopy() {
+        final ConsulConnect copy = new ConsulConnect();
+        copy.Native = this.Native;
+        copy.sidecarService = copyOf(this.sidecarService);
+        copy.sidecarTask = copyOf(this.sidecarTask);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ConsulConnect that = (ConsulConnect) o;
+        return this.Native == that.Native
+                && java.util.Objects.equals(this.sidecarService, that.sidecarService)
+                && java.util.Objects.equals(this.sidecarTask, that.sidecarTask)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Boolean.hashCode(this.Native);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.Native);
+        hash = hashOf(hash, this.sidecarService);
+        hash = hashOf(hash, this.sidecarTask);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
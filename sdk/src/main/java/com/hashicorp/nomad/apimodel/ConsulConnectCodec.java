@@ -0,0 +1,52 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link ConsulConnect}
+ * directly from and to JSON tokens.
+ */
+public final class ConsulConnectCodec extends ApiObjectCodec<ConsulConnect> {
+    public ConsulConnectCodec() {
+        super(ConsulConnect.class);
+    }
+
+    @Override
+    protected ConsulConnect newInstance() {
+        return new ConsulConnect();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ConsulConnect value)
+            throws IOException {
+        switch (name) {
+            case "Native":
+                value.setNative(readBoolean(p, ctxt));
+                return true;
+            case "SidecarService":
+                value.setSidecarService(readValue(p, ctxt, ConsulSidecarService.class));
+                return true;
+            case "SidecarTask":
+                value.setSidecarTask(readValue(p, ctxt, SidecarTask.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ConsulConnect value)
+            throws IOException {
+        g.writeBooleanField("Native", value.getNative());
+        writeValue(g, provider, "SidecarService", value.getSidecarService());
+        writeValue(g, provider, "SidecarTask", value.getSidecarTask());
+    }
+}
@@ -33,6 +33,36 @@ public final class ConsulExposeConfig extends ApiObject {
         return this;
     }
 
+    @Override
+    public ConsulExposeConfig deepCopy() {
+        final ConsulExposeConfig copy = new ConsulExposeConfig();
+        copy.path = copyOf(this.path);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ConsulExposeConfig that = (ConsulExposeConfig) o;
+        return java.util.Objects.equals(this.path, that.path)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.path);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
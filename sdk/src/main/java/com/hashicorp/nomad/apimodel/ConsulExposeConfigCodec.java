@@ -0,0 +1,51 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link ConsulExposeConfig}
+ * directly from and to JSON tokens.
+ */
+public final class ConsulExposeConfigCodec extends ApiObjectCodec<ConsulExposeConfig> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType PATH =
+            TYPES.constructCollectionType(List.class, ConsulExposePath.class);
+
+    public ConsulExposeConfigCodec() {
+        super(ConsulExposeConfig.class);
+    }
+
+    @Override
+    protected ConsulExposeConfig newInstance() {
+        return new ConsulExposeConfig();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ConsulExposeConfig value)
+            throws IOException {
+        switch (name) {
+            case "Path":
+                value.setPath(readValue(p, ctxt, PATH));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ConsulExposeConfig value)
+            throws IOException {
+        writeValue(g, provider, "Path", value.getPath());
+    }
+}
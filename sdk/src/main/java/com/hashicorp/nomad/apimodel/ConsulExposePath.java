@@ -58,6 +58,50 @@ public final class ConsulExposePath extends ApiObject {
         return this;
     }
 
+    @Override
+    public ConsulExposePath deepCopy() {
+        final ConsulExposePath copy = new ConsulExposePath();
+        copy.path = this.path;
+        copy.protocol = this.protocol;
+        copy.localPathPort = this.localPathPort;
+        copy.listenerPort = this.listenerPort;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ConsulExposePath that = (ConsulExposePath) o;
+        return java.util.Objects.equals(this.path, that.path)
+                && java.util.Objects.equals(this.protocol, that.protocol)
+                && this.localPathPort == that.localPathPort
+                && java.util.Objects.equals(this.listenerPort, that.listenerPort)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.path);
+        result = 31 * result + java.util.Objects.hashCode(this.protocol);
+        result = 31 * result + this.localPathPort;
+        result = 31 * result + java.util.Objects.hashCode(this.listenerPort);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.path);
+        hash = hashOf(hash, this.protocol);
+        hash = hashOf(hash, this.localPathPort);
+        hash = hashOf(hash, this.listenerPort);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,56 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link ConsulExposePath}
+ * directly from and to JSON tokens.
+ */
+public final class ConsulExposePathCodec extends ApiObjectCodec<ConsulExposePath> {
+    public ConsulExposePathCodec() {
+        super(ConsulExposePath.class);
+    }
+
+    @Override
+    protected ConsulExposePath newInstance() {
+        return new ConsulExposePath();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ConsulExposePath value)
+            throws IOException {
+        switch (name) {
+            case "Path":
+                value.setPath(readString(p, ctxt));
+                return true;
+            case "Protocol":
+                value.setProtocol(readString(p, ctxt));
+                return true;
+            case "LocalPathPort":
+                value.setLocalPathPort(readInt(p, ctxt));
+                return true;
+            case "ListenerPort":
+                value.setListenerPort(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ConsulExposePath value)
+            throws IOException {
+        g.writeStringField("Path", value.getPath());
+        g.writeStringField("Protocol", value.getProtocol());
+        g.writeNumberField("LocalPathPort", value.getLocalPathPort());
+        g.writeStringField("ListenerPort", value.getListenerPort());
+    }
+}
@@ -85,6 +85,51 @@ public final class ConsulProxy extends ApiObject {
         return this;
     }
 
+    @Override
+    public ConsulProxy deepCopy() {
+        final ConsulProxy copy = new ConsulProxy();
+        copy.localServiceAddress = this.localServiceAddress;
+        copy.localServicePort = this.localServicePort;
+        copy.exposeConfig = copyOf(this.exposeConfig);
+        copy.upstreams = copyOf(this.upstreams);
+        copy.config = copyOf(this.config);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ConsulProxy that = (ConsulProxy) o;
+        return java.util.Objects.equals(this.localServiceAddress, that.localServiceAddress)
+                && this.localServicePort == that.localServicePort
+                && java.util.Objects.equals(this.exposeConfig, that.exposeConfig)
+                && java.util.Objects.equals(this.upstreams, that.upstreams)
+                && java.util.Objects.equals(this.config, that.config)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.localServiceAddress);
+        result = 31 * result + this.localServicePort;
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.localServiceAddress);
+        hash = hashOf(hash, this.localServicePort);
+        hash = hashOf(hash, this.exposeConfig);
+        hash = hashOf(hash, this.upstreams);
+        hash = hashOf(hash, this.config);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,70 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link ConsulProxy}
+ * directly from and to JSON tokens.
+ */
+public final class ConsulProxyCodec extends ApiObjectCodec<ConsulProxy> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType UPSTREAMS =
+            TYPES.constructCollectionType(List.class, ConsulUpstream.class);
+    private static final JavaType CONFIG =
+            TYPES.constructMapType(Map.class, String.class, Object.class);
+
+    public ConsulProxyCodec() {
+        super(ConsulProxy.class);
+    }
+
+    @Override
+    protected ConsulProxy newInstance() {
+        return new ConsulProxy();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ConsulProxy value)
+            throws IOException {
+        switch (name) {
+            case "LocalServiceAddress":
+                value.setLocalServiceAddress(readString(p, ctxt));
+                return true;
+            case "LocalServicePort":
+                value.setLocalServicePort(readInt(p, ctxt));
+                return true;
+            case "ExposeConfig":
+                value.setExposeConfig(readValue(p, ctxt, ConsulExposeConfig.class));
+                return true;
+            case "Upstreams":
+                value.setUpstreams(readValue(p, ctxt, UPSTREAMS));
+                return true;
+            case "Config":
+                value.setConfig(readValue(p, ctxt, CONFIG));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ConsulProxy value)
+            throws IOException {
+        g.writeStringField("LocalServiceAddress", value.getLocalServiceAddress());
+        g.writeNumberField("LocalServicePort", value.getLocalServicePort());
+        writeValue(g, provider, "ExposeConfig", value.getExposeConfig());
+        writeValue(g, provider, "Upstreams", value.getUpstreams());
+        writeValue(g, provider, "Config", value.getConfig());
+    }
+}
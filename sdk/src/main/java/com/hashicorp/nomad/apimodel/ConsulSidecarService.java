@@ -55,6 +55,44 @@ public final class ConsulSidecarService extends ApiObject {
         return this;
     }
 
+    @Override
+    public ConsulSidecarService deepCopy() {
+        final ConsulSidecarService copy = new ConsulSidecarService();
+        copy.tags = copyOf(this.tags);
+        copy.port = this.port;
+        copy.proxy = copyOf(this.proxy);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ConsulSidecarService that = (ConsulSidecarService) o;
+        return java.util.Objects.equals(this.tags, that.tags)
+                && java.util.Objects.equals(this.port, that.port)
+                && java.util.Objects.equals(this.proxy, that.proxy)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.port);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.tags);
+        hash = hashOf(hash, this.port);
+        hash = hashOf(hash, this.proxy);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,59 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link ConsulSidecarService}
+ * directly from and to JSON tokens.
+ */
+public final class ConsulSidecarServiceCodec extends ApiObjectCodec<ConsulSidecarService> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType TAGS =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public ConsulSidecarServiceCodec() {
+        super(ConsulSidecarService.class);
+    }
+
+    @Override
+    protected ConsulSidecarService newInstance() {
+        return new ConsulSidecarService();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ConsulSidecarService value)
+            throws IOException {
+        switch (name) {
+            case "Tags":
+                value.setTags(readValue(p, ctxt, TAGS));
+                return true;
+            case "Port":
+                value.setPort(readString(p, ctxt));
+                return true;
+            case "Proxy":
+                value.setProxy(readValue(p, ctxt, ConsulProxy.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ConsulSidecarService value)
+            throws IOException {
+        writeValue(g, provider, "Tags", value.getTags());
+        g.writeStringField("Port", value.getPort());
+        writeValue(g, provider, "Proxy", value.getProxy());
+    }
+}
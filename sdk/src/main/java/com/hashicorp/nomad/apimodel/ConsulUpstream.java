@@ -36,6 +36,42 @@ public final class ConsulUpstream extends ApiObject {
         return this;
     }
 
+    @Override
+    public ConsulUpstream deepCopy() {
+        final ConsulUpstream copy = new ConsulUpstream();
+        copy.destinationName = this.destinationName;
+        copy.localBindPort = this.localBindPort;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ConsulUpstream that = (ConsulUpstream) o;
+        return java.util.Objects.equals(this.destinationName, that.destinationName)
+                && this.localBindPort == that.localBindPort
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.destinationName);
+        result = 31 * result + this.localBindPort;
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.destinationName);
+        hash = hashOf(hash, this.localBindPort);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,48 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link ConsulUpstream}
+ * directly from and to JSON tokens.
+ */
+public final class ConsulUpstreamCodec extends ApiObjectCodec<ConsulUpstream> {
+    public ConsulUpstreamCodec() {
+        super(ConsulUpstream.class);
+    }
+
+    @Override
+    protected ConsulUpstream newInstance() {
+        return new ConsulUpstream();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ConsulUpstream value)
+            throws IOException {
+        switch (name) {
+            case "DestinationName":
+                value.setDestinationName(readString(p, ctxt));
+                return true;
+            case "LocalBindPort":
+                value.setLocalBindPort(readInt(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ConsulUpstream value)
+            throws IOException {
+        g.writeStringField("DestinationName", value.getDestinationName());
+        g.writeNumberField("LocalBindPort", value.getLocalBindPort());
+    }
+}
@@ -100,6 +100,61 @@ public final class CpuStats extends ApiObject {
         return this;
     }
 
+    @Override
+    public CpuStats deepCopy() {
+        final CpuStats copy = new CpuStats();
+        copy.systemMode = this.systemMode;
+        copy.userMode = this.userMode;
+        copy.totalTicks = this.totalTicks;
+        copy.throttledPeriods = this.throttledPeriods;
+        copy.throttledTime = this.throttledTime;
+        copy.percent = this.percent;
+        copy.measured = copyOf(this.measured);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final CpuStats that = (CpuStats) o;
+        return Double.compare(this.systemMode, that.systemMode) == 0
+                && Double.compare(this.userMode, that.userMode) == 0
+                && Double.compare(this.totalTicks, that.totalTicks) == 0
+                && java.util.Objects.equals(this.throttledPeriods, that.throttledPeriods)
+                && java.util.Objects.equals(this.throttledTime, that.throttledTime)
+                && Double.compare(this.percent, that.percent) == 0
+                && java.util.Objects.equals(this.measured, that.measured)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Double.hashCode(this.systemMode);
+        result = 31 * result + Double.hashCode(this.userMode);
+        result = 31 * result + Double.hashCode(this.totalTicks);
+        result = 31 * result + java.util.Objects.hashCode(this.throttledPeriods);
+        result = 31 * result + java.util.Objects.hashCode(this.throttledTime);
+        result = 31 * result + Double.hashCode(this.percent);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.systemMode);
+        hash = hashOf(hash, this.userMode);
+        hash = hashOf(hash, this.totalTicks);
+        hash = hashOf(hash, this.throttledPeriods);
+        hash = hashOf(hash, this.throttledTime);
+        hash = hashOf(hash, this.percent);
+        hash = hashOf(hash, this.measured);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
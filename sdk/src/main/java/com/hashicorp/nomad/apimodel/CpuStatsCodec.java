@@ -0,0 +1,76 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link CpuStats}
+ * directly from and to JSON tokens.
+ */
+public final class CpuStatsCodec extends ApiObjectCodec<CpuStats> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType MEASURED =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public CpuStatsCodec() {
+        super(CpuStats.class);
+    }
+
+    @Override
+    protected CpuStats newInstance() {
+        return new CpuStats();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, CpuStats value)
+            throws IOException {
+        switch (name) {
+            case "SystemMode":
+                value.setSystemMode(readDouble(p, ctxt));
+                return true;
+            case "UserMode":
+                value.setUserMode(readDouble(p, ctxt));
+                return true;
+            case "TotalTicks":
+                value.setTotalTicks(readDouble(p, ctxt));
+                return true;
+            case "ThrottledPeriods":
+                value.setThrottledPeriods(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ThrottledTime":
+                value.setThrottledTime(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Percent":
+                value.setPercent(readDouble(p, ctxt));
+                return true;
+            case "Measured":
+                value.setMeasured(readValue(p, ctxt, MEASURED));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, CpuStats value)
+            throws IOException {
+        g.writeNumberField("SystemMode", value.getSystemMode());
+        g.writeNumberField("UserMode", value.getUserMode());
+        g.writeNumberField("TotalTicks", value.getTotalTicks());
+        writeValue(g, provider, "ThrottledPeriods", value.getThrottledPeriods());
+        writeValue(g, provider, "ThrottledTime", value.getThrottledTime());
+        g.writeNumberField("Percent", value.getPercent());
+        writeValue(g, provider, "Measured", value.getMeasured());
+    }
+}
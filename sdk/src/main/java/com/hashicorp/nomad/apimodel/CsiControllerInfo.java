@@ -58,6 +58,50 @@ public final class CsiControllerInfo extends ApiObject {
         return this;
     }
 
+    @Override
+    public CsiControllerInfo deepCopy() {
+        final CsiControllerInfo copy = new CsiControllerInfo();
+        copy.supportsReadOnlyAttach = this.supportsReadOnlyAttach;
+        copy.supportsAttachDetach = this.supportsAttachDetach;
+        copy.supportsListVolumes = this.supportsListVolumes;
+        copy.supportsListVolumesAttachedNodes = this.supportsListVolumesAttachedNodes;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final CsiControllerInfo that = (CsiControllerInfo) o;
+        return this.supportsReadOnlyAttach == that.supportsReadOnlyAttach
+                && this.supportsAttachDetach == that.supportsAttachDetach
+                && this.supportsListVolumes == that.supportsListVolumes
+                && this.supportsListVolumesAttachedNodes == that.supportsListVolumesAttachedNodes
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Boolean.hashCode(this.supportsReadOnlyAttach);
+        result = 31 * result + Boolean.hashCode(this.supportsAttachDetach);
+        result = 31 * result + Boolean.hashCode(this.supportsListVolumes);
+        result = 31 * result + Boolean.hashCode(this.supportsListVolumesAttachedNodes);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.supportsReadOnlyAttach);
+        hash = hashOf(hash, this.supportsAttachDetach);
+        hash = hashOf(hash, this.supportsListVolumes);
+        hash = hashOf(hash, this.supportsListVolumesAttachedNodes);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,56 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link CsiControllerInfo}
+ * directly from and to JSON tokens.
+ */
+public final class CsiControllerInfoCodec extends ApiObjectCodec<CsiControllerInfo> {
+    public CsiControllerInfoCodec() {
+        super(CsiControllerInfo.class);
+    }
+
+    @Override
+    protected CsiControllerInfo newInstance() {
+        return new CsiControllerInfo();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, CsiControllerInfo value)
+            throws IOException {
+        switch (name) {
+            case "SupportsReadOnlyAttach":
+                value.setSupportsReadOnlyAttach(readBoolean(p, ctxt));
+                return true;
+            case "SupportsAttachDetach":
+                value.setSupportsAttachDetach(readBoolean(p, ctxt));
+                return true;
+            case "SupportsListVolumes":
+                value.setSupportsListVolumes(readBoolean(p, ctxt));
+                return true;
+            case "SupportsListVolumesAttachedNodes":
+                value.setSupportsListVolumesAttachedNodes(readBoolean(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, CsiControllerInfo value)
+            throws IOException {
+        g.writeBooleanField("SupportsReadOnlyAttach", value.getSupportsReadOnlyAttach());
+        g.writeBooleanField("SupportsAttachDetach", value.getSupportsAttachDetach());
+        g.writeBooleanField("SupportsListVolumes", value.getSupportsListVolumes());
+        g.writeBooleanField("SupportsListVolumesAttachedNodes", value.getSupportsListVolumesAttachedNodes());
+    }
+}
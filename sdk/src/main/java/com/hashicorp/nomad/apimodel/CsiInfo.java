@@ -103,6 +103,63 @@ public final class CsiInfo extends ApiObject {
         return this;
     }
 
+    @Override
+    public CsiInfo deepCopy() {
+        final CsiInfo copy = new CsiInfo();
+        copy.pluginId = this.pluginId;
+        copy.healthy = this.healthy;
+        copy.healthDescription = this.healthDescription;
+        copy.updateTime = copyOf(this.updateTime);
+        copy.requiresControllerPlugin = this.requiresControllerPlugin;
+        copy.requiresTopologies = this.requiresTopologies;
+        copy.controllerInfo = copyOf(this.controllerInfo);
+        copy.nodeInfo = copyOf(this.nodeInfo);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final CsiInfo that = (CsiInfo) o;
+        return java.util.Objects.equals(this.pluginId, that.pluginId)
+                && this.healthy == that.healthy
+                && java.util.Objects.equals(this.healthDescription, that.healthDescription)
+                && java.util.Objects.equals(this.updateTime, that.updateTime)
+                && this.requiresControllerPlugin == that.requiresControllerPlugin
+                && this.requiresTopologies == that.requiresTopologies
+                && java.util.Objects.equals(this.controllerInfo, that.controllerInfo)
+                && java.util.Objects.equals(this.nodeInfo, that.nodeInfo)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.pluginId);
+        result = 31 * result + Boolean.hashCode(this.healthy);
+        result = 31 * result + java.util.Objects.hashCode(this.healthDescription);
+        result = 31 * result + Boolean.hashCode(this.requiresControllerPlugin);
+        result = 31 * result + Boolean.hashCode(this.requiresTopologies);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.pluginId);
+        hash = hashOf(hash, this.healthy);
+        hash = hashOf(hash, this.healthDescription);
+        hash = hashOf(hash, this.updateTime);
+        hash = hashOf(hash, this.requiresControllerPlugin);
+        hash = hashOf(hash, this.requiresTopologies);
+        hash = hashOf(hash, this.controllerInfo);
+        hash = hashOf(hash, this.nodeInfo);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
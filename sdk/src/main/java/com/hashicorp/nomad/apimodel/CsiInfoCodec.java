@@ -0,0 +1,73 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Date;
+
+/**
+ * This is a generated codec that reads and writes {@link CsiInfo}
+ * directly from and to JSON tokens.
+ */
+public final class CsiInfoCodec extends ApiObjectCodec<CsiInfo> {
+    public CsiInfoCodec() {
+        super(CsiInfo.class);
+    }
+
+    @Override
+    protected CsiInfo newInstance() {
+        return new CsiInfo();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, CsiInfo value)
+            throws IOException {
+        switch (name) {
+            case "PluginID":
+                value.setPluginId(readString(p, ctxt));
+                return true;
+            case "Healthy":
+                value.setHealthy(readBoolean(p, ctxt));
+                return true;
+            case "HealthDescription":
+                value.setHealthDescription(readString(p, ctxt));
+                return true;
+            case "UpdateTime":
+                value.setUpdateTime(readValue(p, ctxt, Date.class));
+                return true;
+            case "RequiresControllerPlugin":
+                value.setRequiresControllerPlugin(readBoolean(p, ctxt));
+                return true;
+            case "RequiresTopologies":
+                value.setRequiresTopologies(readBoolean(p, ctxt));
+                return true;
+            case "ControllerInfo":
+                value.setControllerInfo(readValue(p, ctxt, CsiControllerInfo.class));
+                return true;
+            case "NodeInfo":
+                value.setNodeInfo(readValue(p, ctxt, CsiNodeInfo.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, CsiInfo value)
+            throws IOException {
+        g.writeStringField("PluginID", value.getPluginId());
+        g.writeBooleanField("Healthy", value.getHealthy());
+        g.writeStringField("HealthDescription", value.getHealthDescription());
+        writeValue(g, provider, "UpdateTime", value.getUpdateTime());
+        g.writeBooleanField("RequiresControllerPlugin", value.getRequiresControllerPlugin());
+        g.writeBooleanField("RequiresTopologies", value.getRequiresTopologies());
+        writeValue(g, provider, "ControllerInfo", value.getControllerInfo());
+        writeValue(g, provider, "NodeInfo", value.getNodeInfo());
+    }
+}
@@ -44,6 +44,41 @@ public final class CsiMountOptions extends ApiObject {
         return this;
     }
 
+    @Override
+    public CsiMountOptions deepCopy() {
+        final CsiMountOptions copy = new CsiMountOptions();
+        copy.fsType = this.fsType;
+        copy.mountFlags = copyOf(this.mountFlags);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final CsiMountOptions that = (CsiMountOptions) o;
+        return java.util.Objects.equals(this.fsType, that.fsType)
+                && java.util.Objects.equals(this.mountFlags, that.mountFlags)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.fsType);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.fsType);
+        hash = hashOf(hash, this.mountFlags);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
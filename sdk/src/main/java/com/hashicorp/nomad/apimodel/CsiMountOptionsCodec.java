@@ -0,0 +1,55 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link CsiMountOptions}
+ * directly from and to JSON tokens.
+ */
+public final class CsiMountOptionsCodec extends ApiObjectCodec<CsiMountOptions> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType MOUNT_FLAGS =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public CsiMountOptionsCodec() {
+        super(CsiMountOptions.class);
+    }
+
+    @Override
+    protected CsiMountOptions newInstance() {
+        return new CsiMountOptions();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, CsiMountOptions value)
+            throws IOException {
+        switch (name) {
+            case "FSType":
+                value.setFsType(readString(p, ctxt));
+                return true;
+            case "MountFlags":
+                value.setMountFlags(readValue(p, ctxt, MOUNT_FLAGS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, CsiMountOptions value)
+            throws IOException {
+        g.writeStringField("FSType", value.getFsType());
+        writeValue(g, provider, "MountFlags", value.getMountFlags());
+    }
+}
@@ -58,6 +58,49 @@ public final class CsiNodeInfo extends ApiObject {
         return this;
     }
 
+    @Override
+    public CsiNodeInfo deepCopy() {
+        final CsiNodeInfo copy = new CsiNodeInfo();
+        copy.id = this.id;
+        copy.maxVolumes = this.maxVolumes;
+        copy.accessibleTopology = copyOf(this.accessibleTopology);
+        copy.requiresNodeStageVolume = this.requiresNodeStageVolume;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final CsiNodeInfo that = (CsiNodeInfo) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && this.maxVolumes == that.maxVolumes
+                && java.util.Objects.equals(this.accessibleTopology, that.accessibleTopology)
+                && this.requiresNodeStageVolume == that.requiresNodeStageVolume
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + Long.hashCode(this.maxVolumes);
+        result = 31 * result + Boolean.hashCode(this.requiresNodeStageVolume);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.maxVolumes);
+        hash = hashOf(hash, this.accessibleTopology);
+        hash = hashOf(hash, this.requiresNodeStageVolume);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
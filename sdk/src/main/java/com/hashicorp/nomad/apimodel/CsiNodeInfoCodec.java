@@ -0,0 +1,56 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link CsiNodeInfo}
+ * directly from and to JSON tokens.
+ */
+public final class CsiNodeInfoCodec extends ApiObjectCodec<CsiNodeInfo> {
+    public CsiNodeInfoCodec() {
+        super(CsiNodeInfo.class);
+    }
+
+    @Override
+    protected CsiNodeInfo newInstance() {
+        return new CsiNodeInfo();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, CsiNodeInfo value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "MaxVolumes":
+                value.setMaxVolumes(readLong(p, ctxt));
+                return true;
+            case "AccessibleTopology":
+                value.setAccessibleTopology(readValue(p, ctxt, CsiTopology.class));
+                return true;
+            case "RequiresNodeStageVolume":
+                value.setRequiresNodeStageVolume(readBoolean(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, CsiNodeInfo value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeNumberField("MaxVolumes", value.getMaxVolumes());
+        writeValue(g, provider, "AccessibleTopology", value.getAccessibleTopology());
+        g.writeBooleanField("RequiresNodeStageVolume", value.getRequiresNodeStageVolume());
+    }
+}
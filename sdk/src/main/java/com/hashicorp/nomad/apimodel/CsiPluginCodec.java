@@ -0,0 +1,105 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link CsiPlugin}
+ * directly from and to JSON tokens.
+ */
+public final class CsiPluginCodec extends ApiObjectCodec<CsiPlugin> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType CONTROLLERS =
+            TYPES.constructMapType(Map.class, String.class, CsiInfo.class);
+    private static final JavaType NODES =
+            TYPES.constructMapType(Map.class, String.class, CsiInfo.class);
+    private static final JavaType ALLOCATIONS =
+            TYPES.constructCollectionType(List.class, AllocationListStub.class);
+
+    public CsiPluginCodec() {
+        super(CsiPlugin.class);
+    }
+
+    @Override
+    protected CsiPlugin newInstance() {
+        return new CsiPlugin();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, CsiPlugin value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Provider":
+                value.setProvider(readString(p, ctxt));
+                return true;
+            case "Version":
+                value.setVersion(readString(p, ctxt));
+                return true;
+            case "ControllerRequired":
+                value.setControllerRequired(readBoolean(p, ctxt));
+                return true;
+            case "Controllers":
+                value.setControllers(readValue(p, ctxt, CONTROLLERS));
+                return true;
+            case "Nodes":
+                value.setNodes(readValue(p, ctxt, NODES));
+                return true;
+            case "Allocations":
+                value.setAllocations(readValue(p, ctxt, ALLOCATIONS));
+                return true;
+            case "ControllersHealthy":
+                value.setControllersHealthy(readInt(p, ctxt));
+                return true;
+            case "ControllersExpected":
+                value.setControllersExpected(readInt(p, ctxt));
+                return true;
+            case "NodesHealthy":
+                value.setNodesHealthy(readInt(p, ctxt));
+                return true;
+            case "NodesExpected":
+                value.setNodesExpected(readInt(p, ctxt));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, CsiPlugin value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeStringField("Provider", value.getProvider());
+        g.writeStringField("Version", value.getVersion());
+        g.writeBooleanField("ControllerRequired", value.getControllerRequired());
+        writeValue(g, provider, "Controllers", value.getControllers());
+        writeValue(g, provider, "Nodes", value.getNodes());
+        writeValue(g, provider, "Allocations", value.getAllocations());
+        g.writeNumberField("ControllersHealthy", value.getControllersHealthy());
+        g.writeNumberField("ControllersExpected", value.getControllersExpected());
+        g.writeNumberField("NodesHealthy", value.getNodesHealthy());
+        g.writeNumberField("NodesExpected", value.getNodesExpected());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
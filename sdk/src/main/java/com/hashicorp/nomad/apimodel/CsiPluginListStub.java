@@ -114,6 +114,70 @@ public final class CsiPluginListStub extends ApiObject {
         return this;
     }
 
+    @Override
+    public CsiPluginListStub deepCopy() {
+        final CsiPluginListStub copy = new CsiPluginListStub();
+        copy.id = this.id;
+        copy.provider = this.provider;
+        copy.controllerRequired = this.controllerRequired;
+        copy.controllersHealthy = this.controllersHealthy;
+        copy.controllersExpected = this.controllersExpected;
+        copy.nodesHealthy = this.nodesHealthy;
+        copy.nodesExpected = this.nodesExpected;
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final CsiPluginListStub that = (CsiPluginListStub) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.provider, that.provider)
+                && this.controllerRequired == that.controllerRequired
+                && this.controllersHealthy == that.controllersHealthy
+                && this.controllersExpected == that.controllersExpected
+                && this.nodesHealthy == that.nodesHealthy
+                && this.nodesExpected == that.nodesExpected
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.provider);
+        result = 31 * result + Boolean.hashCode(this.controllerRequired);
+        result = 31 * result + this.controllersHealthy;
+        result = 31 * result + this.controllersExpected;
+        result = 31 * result + this.nodesHealthy;
+        result = 31 * result + this.nodesExpected;
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.provider);
+        hash = hashOf(hash, this.controllerRequired);
+        hash = hashOf(hash, this.controllersHealthy);
+        hash = hashOf(hash, this.controllersExpected);
+        hash = hashOf(hash, this.nodesHealthy);
+        hash = hashOf(hash, this.nodesExpected);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
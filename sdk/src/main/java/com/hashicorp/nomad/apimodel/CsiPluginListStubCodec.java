@@ -0,0 +1,77 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * This is a generated codec that reads and writes {@link CsiPluginListStub}
+ * directly from and to JSON tokens.
+ */
+public final class CsiPluginListStubCodec extends ApiObjectCodec<CsiPluginListStub> {
+    public CsiPluginListStubCodec() {
+        super(CsiPluginListStub.class);
+    }
+
+    @Override
+    protected CsiPluginListStub newInstance() {
+        return new CsiPluginListStub();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, CsiPluginListStub value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Provider":
+                value.setProvider(readString(p, ctxt));
+                return true;
+            case "ControllerRequired":
+                value.setControllerRequired(readBoolean(p, ctxt));
+                return true;
+            case "ControllersHealthy":
+                value.setControllersHealthy(readInt(p, ctxt));
+                return true;
+            case "ControllersExpected":
+                value.setControllersExpected(readInt(p, ctxt));
+                return true;
+            case "NodesHealthy":
+                value.setNodesHealthy(readInt(p, ctxt));
+                return true;
+            case "NodesExpected":
+                value.setNodesExpected(readInt(p, ctxt));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, CsiPluginListStub value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeStringField("Provider", value.getProvider());
+        g.writeBooleanField("ControllerRequired", value.getControllerRequired());
+        g.writeNumberField("ControllersHealthy", value.getControllersHealthy());
+        g.writeNumberField("ControllersExpected", value.getControllersExpected());
+        g.writeNumberField("NodesHealthy", value.getNodesHealthy());
+        g.writeNumberField("NodesExpected", value.getNodesExpected());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
@@ -33,6 +33,36 @@ public final class CsiTopology extends ApiObject {
         return this;
     }
 
+    @Override
+    public CsiTopology deepCopy() {
+        final CsiTopology copy = new CsiTopology();
+        copy.segments = copyOf(this.segments);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final CsiTopology that = (CsiTopology) o;
+        return java.util.Objects.equals(this.segments, that.segments)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.segments);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,51 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link CsiTopology}
+ * directly from and to JSON tokens.
+ */
+public final class CsiTopologyCodec extends ApiObjectCodec<CsiTopology> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType SEGMENTS =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+
+    public CsiTopologyCodec() {
+        super(CsiTopology.class);
+    }
+
+    @Override
+    protected CsiTopology newInstance() {
+        return new CsiTopology();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, CsiTopology value)
+            throws IOException {
+        switch (name) {
+            case "Segments":
+                value.setSegments(readValue(p, ctxt, SEGMENTS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, CsiTopology value)
+            throws IOException {
+        writeValue(g, provider, "Segments", value.getSegments());
+    }
+}
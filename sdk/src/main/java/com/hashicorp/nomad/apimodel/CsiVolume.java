@@ -354,6 +354,129 @@ public final class CsiVolume extends ApiObject {
         return this;
     }
 
+    @Override
+    public CsiVolume deepCopy() {
+        final CsiVolume copy = new CsiVolume();
+        copy.id = this.id;
+        copy.name = this.name;
+        copy.externalId = this.externalId;
+        copy.namespace = this.namespace;
+        copy.topologies = copyOf(this.topologies);
+        copy.accessMode = this.accessMode;
+        copy.attachmentMode = this.attachmentMode;
+        copy.mountOptions = copyOf(this.mountOptions);
+        copy.secrets = copyOf(this.secrets);
+        copy.parameters = copyOf(this.parameters);
+        copy.context = copyOf(this.context);
+        copy.readAllocs = copyOf(this.readAllocs);
+        copy.writeAllocs = copyOf(this.writeAllocs);
+        copy.allocations = copyOf(this.allocations);
+        copy.schedulable = this.schedulable;
+        copy.pluginId = this.pluginId;
+        copy.provider = this.provider;
+        copy.providerVersion = this.providerVersion;
+        copy.controllerRequired = this.controllerRequired;
+        copy.controllersHealthy = this.controllersHealthy;
+        copy.controllersExpected = this.controllersExpected;
+        copy.nodesHealthy = this.nodesHealthy;
+        copy.nodesExpected = this.nodesExpected;
+        copy.resourceExhausted = copyOf(this.resourceExhausted);
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final CsiVolume that = (CsiVolume) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.externalId, that.externalId)
+                && java.util.Objects.equals(this.namespace, that.namespace)
+                && java.util.Objects.equals(this.topologies, that.topologies)
+                && java.util.Objects.equals(this.accessMode, that.accessMode)
+                && java.util.Objects.equals(this.attachmentMode, that.attachmentMode)
+                && java.util.Objects.equals(this.mountOptions, that.mountOptions)
+                && java.util.Objects.equals(this.secrets, that.secrets)
+                && java.util.Objects.equals(this.parameters, that.parameters)
+                && java.util.Objects.equals(this.context, that.context)
+                && java.util.Objects.equals(this.readAllocs, that.readAllocs)
+                && java.util.Objects.equals(this.writeAllocs, that.writeAllocs)
+                && java.util.Objects.equals(this.allocations, that.allocations)
+                && this.schedulable == that.schedulable
+                && java.util.Objects.equals(this.pluginId, that.pluginId)
+                && java.util.Objects.equals(this.provider, that.provider)
+                && java.util.Objects.equals(this.providerVersion, that.providerVersion)
+                && this.controllerRequired == that.controllerRequired
+                && this.controllersHealthy == that.controllersHealthy
+                && this.controllersExpected == that.controllersExpected
+                && this.nodesHealthy == that.nodesHealthy
+                && this.nodesExpected == that.nodesExpected
+                && java.util.Objects.equals(this.resourceExhausted, that.resourceExhausted)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.externalId);
+        result = 31 * result + java.util.Objects.hashCode(this.namespace);
+        result = 31 * result + java.util.Objects.hashCode(this.accessMode);
+        result = 31 * result + java.util.Objects.hashCode(this.attachmentMode);
+        result = 31 * result + Boolean.hashCode(this.schedulable);
+        result = 31 * result + java.util.Objects.hashCode(this.pluginId);
+        result = 31 * result + java.util.Objects.hashCode(this.provider);
+        result = 31 * result + java.util.Objects.hashCode(this.providerVersion);
+        result = 31 * result + Boolean.hashCode(this.controllerRequired);
+        result = 31 * result + this.controllersHealthy;
+        result = 31 * result + this.controllersExpected;
+        result = 31 * result + this.nodesHealthy;
+        result = 31 * result + this.nodesExpected;
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.externalId);
+        hash = hashOf(hash, this.namespace);
+        hash = hashOf(hash, this.topologies);
+        hash = hashOf(hash, this.accessMode);
+        hash = hashOf(hash, this.attachmentMode);
+        hash = hashOf(hash, this.mountOptions);
+        hash = hashOf(hash, this.secrets);
+        hash = hashOf(hash, this.parameters);
+        hash = hashOf(hash, this.context);
+        hash = hashOf(hash, this.readAllocs);
+        hash = hashOf(hash, this.writeAllocs);
+        hash = hashOf(hash, this.allocations);
+        hash = hashOf(hash, this.schedulable);
+        hash = hashOf(hash, this.pluginId);
+        hash = hashOf(hash, this.provider);
+        hash = hashOf(hash, this.providerVersion);
+        hash = hashOf(hash, this.controllerRequired);
+        hash = hashOf(hash, this.controllersHealthy);
+        hash = hashOf(hash, this.controllersExpected);
+        hash = hashOf(hash, this.nodesHealthy);
+        hash = hashOf(hash, this.nodesExpected);
+        hash = hashOf(hash, this.resourceExhausted);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,166 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link CsiVolume}
+ * directly from and to JSON tokens.
+ */
+public final class CsiVolumeCodec extends ApiObjectCodec<CsiVolume> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType TOPOLOGIES =
+            TYPES.constructCollectionType(List.class, CsiTopology.class);
+    private static final JavaType SECRETS =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+    private static final JavaType PARAMETERS =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+    private static final JavaType CONTEXT =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+    private static final JavaType READ_ALLOCS =
+            TYPES.constructMapType(Map.class, String.class, Allocation.class);
+    private static final JavaType WRITE_ALLOCS =
+            TYPES.constructMapType(Map.class, String.class, Allocation.class);
+    private static final JavaType ALLOCATIONS =
+            TYPES.constructCollectionType(List.class, AllocationListStub.class);
+
+    public CsiVolumeCodec() {
+        super(CsiVolume.class);
+    }
+
+    @Override
+    protected CsiVolume newInstance() {
+        return new CsiVolume();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, CsiVolume value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "ExternalID":
+                value.setExternalId(readString(p, ctxt));
+                return true;
+            case "Namespace":
+                value.setNamespace(readInternedString(p, ctxt));
+                return true;
+            case "Topologies":
+                value.setTopologies(readValue(p, ctxt, TOPOLOGIES));
+                return true;
+            case "AccessMode":
+                value.setAccessMode(readString(p, ctxt));
+                return true;
+            case "AttachmentMode":
+                value.setAttachmentMode(readString(p, ctxt));
+                return true;
+            case "MountOptions":
+                value.setMountOptions(readValue(p, ctxt, CsiMountOptions.class));
+                return true;
+            case "Secrets":
+                value.setSecrets(readValue(p, ctxt, SECRETS));
+                return true;
+            case "Parameters":
+                value.setParameters(readValue(p, ctxt, PARAMETERS));
+                return true;
+            case "Context":
+                value.setContext(readValue(p, ctxt, CONTEXT));
+                return true;
+            case "ReadAllocs":
+                value.setReadAllocs(readValue(p, ctxt, READ_ALLOCS));
+                return true;
+            case "WriteAllocs":
+                value.setWriteAllocs(readValue(p, ctxt, WRITE_ALLOCS));
+                return true;
+            case "Allocations":
+                value.setAllocations(readValue(p, ctxt, ALLOCATIONS));
+                return true;
+            case "Schedulable":
+                value.setSchedulable(readBoolean(p, ctxt));
+                return true;
+            case "PluginID":
+                value.setPluginId(readString(p, ctxt));
+                return true;
+            case "Provider":
+                value.setProvider(readString(p, ctxt));
+                return true;
+            case "ProviderVersion":
+                value.setProviderVersion(readString(p, ctxt));
+                return true;
+            case "ControllerRequired":
+                value.setControllerRequired(readBoolean(p, ctxt));
+                return true;
+            case "ControllersHealthy":
+                value.setControllersHealthy(readInt(p, ctxt));
+                return true;
+            case "ControllersExpected":
+                value.setControllersExpected(readInt(p, ctxt));
+                return true;
+            case "NodesHealthy":
+                value.setNodesHealthy(readInt(p, ctxt));
+                return true;
+            case "NodesExpected":
+                value.setNodesExpected(readInt(p, ctxt));
+                return true;
+            case "ResourceExhausted":
+                value.setResourceExhausted(readValue(p, ctxt, Date.class));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, CsiVolume value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("ExternalID", value.getExternalId());
+        g.writeStringField("Namespace", value.getNamespace());
+        writeValue(g, provider, "Topologies", value.getTopologies());
+        g.writeStringField("AccessMode", value.getAccessMode());
+        g.writeStringField("AttachmentMode", value.getAttachmentMode());
+        writeValue(g, provider, "MountOptions", value.getMountOptions());
+        writeValue(g, provider, "Secrets", value.getSecrets());
+        writeValue(g, provider, "Parameters", value.getParameters());
+        writeValue(g, provider, "Context", value.getContext());
+        writeValue(g, provider, "ReadAllocs", value.getReadAllocs());
+        writeValue(g, provider, "WriteAllocs", value.getWriteAllocs());
+        writeValue(g, provider, "Allocations", value.getAllocations());
+        g.writeBooleanField("Schedulable", value.getSchedulable());
+        g.writeStringField("PluginID", value.getPluginId());
+        g.writeStringField("Provider", value.getProvider());
+        g.writeStringField("ProviderVersion", value.getProviderVersion());
+        g.writeBooleanField("ControllerRequired", value.getControllerRequired());
+        g.writeNumberField("ControllersHealthy", value.getControllersHealthy());
+        g.writeNumberField("ControllersExpected", value.getControllersExpected());
+        g.writeNumberField("NodesHealthy", value.getNodesHealthy());
+        g.writeNumberField("NodesExpected", value.getNodesExpected());
+        writeValue(g, provider, "ResourceExhausted", value.getResourceExhausted());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
@@ -222,6 +222,104 @@ public final class CsiVolumeListStub extends ApiObject {
         return this;
     }
 
+    @Override
+    public CsiVolumeListStub deepCopy() {
+        final CsiVolumeListStub copy = new CsiVolumeListStub();
+        copy.id = this.id;
+        copy.namespace = this.namespace;
+        copy.name = this.name;
+        copy.externalId = this.externalId;
+        copy.topologies = copyOf(this.topologies);
+        copy.accessMode = this.accessMode;
+        copy.attachmentMode = this.attachmentMode;
+        copy.schedulable = this.schedulable;
+        copy.pluginId = this.pluginId;
+        copy.provider = this.provider;
+        copy.controllerRequired = this.controllerRequired;
+        copy.controllersHealthy = this.controllersHealthy;
+        copy.controllersExpected = this.controllersExpected;
+        copy.nodesHealthy = this.nodesHealthy;
+        copy.nodesExpected = this.nodesExpected;
+        copy.resourceExhausted = copyOf(this.resourceExhausted);
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final CsiVolumeListStub that = (CsiVolumeListStub) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.namespace, that.namespace)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.externalId, that.externalId)
+                && java.util.Objects.equals(this.topologies, that.topologies)
+                && java.util.Objects.equals(this.accessMode, that.accessMode)
+                && java.util.Objects.equals(this.attachmentMode, that.attachmentMode)
+                && this.schedulable == that.schedulable
+                && java.util.Objects.equals(this.pluginId, that.pluginId)
+                && java.util.Objects.equals(this.provider, that.provider)
+                && this.controllerRequired == that.controllerRequired
+                && this.controllersHealthy == that.controllersHealthy
+                && this.controllersExpected == that.controllersExpected
+                && this.nodesHealthy == that.nodesHealthy
+                && this.nodesExpected == that.nodesExpected
+                && java.util.Objects.equals(this.resourceExhausted, that.resourceExhausted)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.namespace);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.externalId);
+        result = 31 * result + java.util.Objects.hashCode(this.accessMode);
+        result = 31 * result + java.util.Objects.hashCode(this.attachmentMode);
+        result = 31 * result + Boolean.hashCode(this.schedulable);
+        result = 31 * result + java.util.Objects.hashCode(this.pluginId);
+        result = 31 * result + java.util.Objects.hashCode(this.provider);
+        result = 31 * result + Boolean.hashCode(this.controllerRequired);
+        result = 31 * result + this.controllersHealthy;
+        result = 31 * result + this.controllersExpected;
+        result = 31 * result + this.nodesHealthy;
+        result = 31 * result + this.nodesExpected;
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.namespace);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.externalId);
+        hash = hashOf(hash, this.topologies);
+        hash = hashOf(hash, this.accessMode);
+        hash = hashOf(hash, this.attachmentMode);
+        hash = hashOf(hash, this.schedulable);
+        hash = hashOf(hash, this.pluginId);
+        hash = hashOf(hash, this.provider);
+        hash = hashOf(hash, this.controllerRequired);
+        hash = hashOf(hash, this.controllersHealthy);
+        hash = hashOf(hash, this.controllersExpected);
+        hash = hashOf(hash, this.nodesHealthy);
+        hash = hashOf(hash, this.nodesExpected);
+        hash = hashOf(hash, this.resourceExhausted);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,121 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link CsiVolumeListStub}
+ * directly from and to JSON tokens.
+ */
+public final class CsiVolumeListStubCodec extends ApiObjectCodec<CsiVolumeListStub> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType TOPOLOGIES =
+            TYPES.constructCollectionType(List.class, CsiTopology.class);
+
+    public CsiVolumeListStubCodec() {
+        super(CsiVolumeListStub.class);
+    }
+
+    @Override
+    protected CsiVolumeListStub newInstance() {
+        return new CsiVolumeListStub();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, CsiVolumeListStub value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Namespace":
+                value.setNamespace(readInternedString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "ExternalID":
+                value.setExternalId(readString(p, ctxt));
+                return true;
+            case "Topologies":
+                value.setTopologies(readValue(p, ctxt, TOPOLOGIES));
+                return true;
+            case "AccessMode":
+                value.setAccessMode(readString(p, ctxt));
+                return true;
+            case "AttachmentMode":
+                value.setAttachmentMode(readString(p, ctxt));
+                return true;
+            case "Schedulable":
+                value.setSchedulable(readBoolean(p, ctxt));
+                return true;
+            case "PluginID":
+                value.setPluginId(readString(p, ctxt));
+                return true;
+            case "Provider":
+                value.setProvider(readString(p, ctxt));
+                return true;
+            case "ControllerRequired":
+                value.setControllerRequired(readBoolean(p, ctxt));
+                return true;
+            case "ControllersHealthy":
+                value.setControllersHealthy(readInt(p, ctxt));
+                return true;
+            case "ControllersExpected":
+                value.setControllersExpected(readInt(p, ctxt));
+                return true;
+            case "NodesHealthy":
+                value.setNodesHealthy(readInt(p, ctxt));
+                return true;
+            case "NodesExpected":
+                value.setNodesExpected(readInt(p, ctxt));
+                return true;
+            case "ResourceExhausted":
+                value.setResourceExhausted(readValue(p, ctxt, Date.class));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, CsiVolumeListStub value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeStringField("Namespace", value.getNamespace());
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("ExternalID", value.getExternalId());
+        writeValue(g, provider, "Topologies", value.getTopologies());
+        g.writeStringField("AccessMode", value.getAccessMode());
+        g.writeStringField("AttachmentMode", value.getAttachmentMode());
+        g.writeBooleanField("Schedulable", value.getSchedulable());
+        g.writeStringField("PluginID", value.getPluginId());
+        g.writeStringField("Provider", value.getProvider());
+        g.writeBooleanField("ControllerRequired", value.getControllerRequired());
+        g.writeNumberField("ControllersHealthy", value.getControllersHealthy());
+        g.writeNumberField("ControllersExpected", value.getControllersExpected());
+        g.writeNumberField("NodesHealthy", value.getNodesHealthy());
+        g.writeNumberField("NodesExpected", value.getNodesExpected());
+        writeValue(g, provider, "ResourceExhausted", value.getResourceExhausted());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
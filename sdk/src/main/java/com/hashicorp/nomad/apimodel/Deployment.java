@@ -155,6 +155,81 @@ public final class Deployment extends ApiObject {
         return this;
     }
 
+    @Override
+    public Deployment deepCopy() {
+        final Deployment copy = new Deployment();
+        copy.id = this.id;
+        copy.namespace = this.namespace;
+        copy.jobId = this.jobId;
+        copy.jobVersion = this.jobVersion;
+        copy.jobModifyIndex = this.jobModifyIndex;
+        copy.jobSpecModifyIndex = this.jobSpecModifyIndex;
+        copy.jobCreateIndex = this.jobCreateIndex;
+        copy.taskGroups = copyOf(this.taskGroups);
+        copy.status = this.status;
+        copy.statusDescription = this.statusDescription;
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Deployment that = (Deployment) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.namespace, that.namespace)
+                && java.util.Objects.equals(this.jobId, that.jobId)
+                && java.util.Objects.equals(this.jobVersion, that.jobVersion)
+                && java.util.Objects.equals(this.jobModifyIndex, that.jobModifyIndex)
+                && java.util.Objects.equals(this.jobSpecModifyIndex, that.jobSpecModifyIndex)
+                && java.util.Objects.equals(this.jobCreateIndex, that.jobCreateIndex)
+                && java.util.Objects.equals(this.taskGroups, that.taskGroups)
+                && java.util.Objects.equals(this.status, that.status)
+                && java.util.Objects.equals(this.statusDescription, that.statusDescription)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.namespace);
+        result = 31 * result + java.util.Objects.hashCode(this.jobId);
+        result = 31 * result + java.util.Objects.hashCode(this.jobVersion);
+        result = 31 * result + java.util.Objects.hashCode(this.jobModifyIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.jobSpecModifyIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.jobCreateIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.status);
+        result = 31 * result + java.util.Objects.hashCode(this.statusDescription);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.namespace);
+        hash = hashOf(hash, this.jobId);
+        hash = hashOf(hash, this.jobVersion);
+        hash = hashOf(hash, this.jobModifyIndex);
+        hash = hashOf(hash, this.jobSpecModifyIndex);
+        hash = hashOf(hash, this.jobCreateIndex);
+        hash = hashOf(hash, this.taskGroups);
+        hash = hashOf(hash, this.status);
+        hash = hashOf(hash, this.statusDescription);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,96 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link Deployment}
+ * directly from and to JSON tokens.
+ */
+public final class DeploymentCodec extends ApiObjectCodec<Deployment> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType TASK_GROUPS =
+            TYPES.constructMapType(Map.class, String.class, DeploymentState.class);
+
+    public DeploymentCodec() {
+        super(Deployment.class);
+    }
+
+    @Override
+    protected Deployment newInstance() {
+        return new Deployment();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, Deployment value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Namespace":
+                value.setNamespace(readInternedString(p, ctxt));
+                return true;
+            case "JobID":
+                value.setJobId(readInternedString(p, ctxt));
+                return true;
+            case "JobVersion":
+                value.setJobVersion(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "JobModifyIndex":
+                value.setJobModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "JobSpecModifyIndex":
+                value.setJobSpecModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "JobCreateIndex":
+                value.setJobCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "TaskGroups":
+                value.setTaskGroups(readValue(p, ctxt, TASK_GROUPS));
+                return true;
+            case "Status":
+                value.setStatus(readInternedString(p, ctxt));
+                return true;
+            case "StatusDescription":
+                value.setStatusDescription(readString(p, ctxt));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, Deployment value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeStringField("Namespace", value.getNamespace());
+        g.writeStringField("JobID", value.getJobId());
+        writeValue(g, provider, "JobVersion", value.getJobVersion());
+        writeValue(g, provider, "JobModifyIndex", value.getJobModifyIndex());
+        writeValue(g, provider, "JobSpecModifyIndex", value.getJobSpecModifyIndex());
+        writeValue(g, provider, "JobCreateIndex", value.getJobCreateIndex());
+        writeValue(g, provider, "TaskGroups", value.getTaskGroups());
+        g.writeStringField("Status", value.getStatus());
+        g.writeStringField("StatusDescription", value.getStatusDescription());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
@@ -133,6 +133,72 @@ public final class DeploymentState extends ApiObject {
         return this;
     }
 
+    @Override
+    public DeploymentState deepCopy() {
+        final DeploymentState copy = new DeploymentState();
+        copy.placedCanaries = copyOf(this.placedCanaries);
+        copy.autoRevert = this.autoRevert;
+        copy.progressDeadline = this.progressDeadline;
+        copy.requireProgressBy = copyOf(this.requireProgressBy);
+        copy.promoted = this.promoted;
+        copy.desiredCanaries = this.desiredCanaries;
+        copy.desiredTotal = this.desiredTotal;
+        copy.placedAllocs = this.placedAllocs;
+        copy.healthyAllocs = this.healthyAllocs;
+        copy.unhealthyAllocs = this.unhealthyAllocs;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final DeploymentState that = (DeploymentState) o;
+        return java.util.Objects.equals(this.placedCanaries, that.placedCanaries)
+                && this.autoRevert == that.autoRevert
+                && this.progressDeadline == that.progressDeadline
+                && java.util.Objects.equals(this.requireProgressBy, that.requireProgressBy)
+                && this.promoted == that.promoted
+                && this.desiredCanaries == that.desiredCanaries
+                && this.desiredTotal == that.desiredTotal
+                && this.placedAllocs == that.placedAllocs
+                && this.healthyAllocs == that.healthyAllocs
+                && this.unhealthyAllocs == that.unhealthyAllocs
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Boolean.hashCode(this.autoRevert);
+        result = 31 * result + Long.hashCode(this.progressDeadline);
+        result = 31 * result + Boolean.hashCode(this.promoted);
+        result = 31 * result + this.desiredCanaries;
+        result = 31 * result + this.desiredTotal;
+        result = 31 * result + this.placedAllocs;
+        result = 31 * result + this.healthyAllocs;
+        result = 31 * result + this.unhealthyAllocs;
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.placedCanaries);
+        hash = hashOf(hash, this.autoRevert);
+        hash = hashOf(hash, this.progressDeadline);
+        hash = hashOf(hash, this.requireProgressBy);
+        hash = hashOf(hash, this.promoted);
+        hash = hashOf(hash, this.desiredCanaries);
+        hash = hashOf(hash, this.desiredTotal);
+        hash = hashOf(hash, this.placedAllocs);
+        hash = hashOf(hash, this.healthyAllocs);
+        hash = hashOf(hash, this.unhealthyAllocs);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
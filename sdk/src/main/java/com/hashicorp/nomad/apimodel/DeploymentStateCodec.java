@@ -0,0 +1,88 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link DeploymentState}
+ * directly from and to JSON tokens.
+ */
+public final class DeploymentStateCodec extends ApiObjectCodec<DeploymentState> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType PLACED_CANARIES =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public DeploymentStateCodec() {
+        super(DeploymentState.class);
+    }
+
+    @Override
+    protected DeploymentState newInstance() {
+        return new DeploymentState();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, DeploymentState value)
+            throws IOException {
+        switch (name) {
+            case "PlacedCanaries":
+                value.setPlacedCanaries(readValue(p, ctxt, PLACED_CANARIES));
+                return true;
+            case "AutoRevert":
+                value.setAutoRevert(readBoolean(p, ctxt));
+                return true;
+            case "ProgressDeadline":
+                value.setProgressDeadline(readLong(p, ctxt));
+                return true;
+            case "RequireProgressBy":
+                value.setRequireProgressBy(readValue(p, ctxt, Date.class));
+                return true;
+            case "Promoted":
+                value.setPromoted(readBoolean(p, ctxt));
+                return true;
+            case "DesiredCanaries":
+                value.setDesiredCanaries(readInt(p, ctxt));
+                return true;
+            case "DesiredTotal":
+                value.setDesiredTotal(readInt(p, ctxt));
+                return true;
+            case "PlacedAllocs":
+                value.setPlacedAllocs(readInt(p, ctxt));
+                return true;
+            case "HealthyAllocs":
+                value.setHealthyAllocs(readInt(p, ctxt));
+                return true;
+            case "UnhealthyAllocs":
+                value.setUnhealthyAllocs(readInt(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, DeploymentState value)
+            throws IOException {
+        writeValue(g, provider, "PlacedCanaries", value.getPlacedCanaries());
+        g.writeBooleanField("AutoRevert", value.getAutoRevert());
+        g.writeNumberField("ProgressDeadline", value.getProgressDeadline());
+        writeValue(g, provider, "RequireProgressBy", value.getRequireProgressBy());
+        g.writeBooleanField("Promoted", value.getPromoted());
+        g.writeNumberField("DesiredCanaries", value.getDesiredCanaries());
+        g.writeNumberField("DesiredTotal", value.getDesiredTotal());
+        g.writeNumberField("PlacedAllocs", value.getPlacedAllocs());
+        g.writeNumberField("HealthyAllocs", value.getHealthyAllocs());
+        g.writeNumberField("UnhealthyAllocs", value.getUnhealthyAllocs());
+    }
+}
@@ -59,6 +59,50 @@ public final class DeploymentUpdateResponse extends ApiObject {
         return this;
     }
 
+    @Override
+    public DeploymentUpdateResponse deepCopy() {
+        final DeploymentUpdateResponse copy = new DeploymentUpdateResponse();
+        copy.evalId = this.evalId;
+        copy.evalCreateIndex = this.evalCreateIndex;
+        copy.deploymentModifyIndex = this.deploymentModifyIndex;
+        copy.revertedJobVersion = this.revertedJobVersion;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final DeploymentUpdateResponse that = (DeploymentUpdateResponse) o;
+        return java.util.Objects.equals(this.evalId, that.evalId)
+                && java.util.Objects.equals(this.evalCreateIndex, that.evalCreateIndex)
+                && java.util.Objects.equals(this.deploymentModifyIndex, that.deploymentModifyIndex)
+                && java.util.Objects.equals(this.revertedJobVersion, that.revertedJobVersion)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.evalId);
+        result = 31 * result + java.util.Objects.hashCode(this.evalCreateIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.deploymentModifyIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.revertedJobVersion);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.evalId);
+        hash = hashOf(hash, this.evalCreateIndex);
+        hash = hashOf(hash, this.deploymentModifyIndex);
+        hash = hashOf(hash, this.revertedJobVersion);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,57 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * This is a generated codec that reads and writes {@link DeploymentUpdateResponse}
+ * directly from and to JSON tokens.
+ */
+public final class DeploymentUpdateResponseCodec extends ApiObjectCodec<DeploymentUpdateResponse> {
+    public DeploymentUpdateResponseCodec() {
+        super(DeploymentUpdateResponse.class);
+    }
+
+    @Override
+    protected DeploymentUpdateResponse newInstance() {
+        return new DeploymentUpdateResponse();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, DeploymentUpdateResponse value)
+            throws IOException {
+        switch (name) {
+            case "EvalID":
+                value.setEvalId(readString(p, ctxt));
+                return true;
+            case "EvalCreateIndex":
+                value.setEvalCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "DeploymentModifyIndex":
+                value.setDeploymentModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "RevertedJobVersion":
+                value.setRevertedJobVersion(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, DeploymentUpdateResponse value)
+            throws IOException {
+        g.writeStringField("EvalID", value.getEvalId());
+        writeValue(g, provider, "EvalCreateIndex", value.getEvalCreateIndex());
+        writeValue(g, provider, "DeploymentModifyIndex", value.getDeploymentModifyIndex());
+        writeValue(g, provider, "RevertedJobVersion", value.getRevertedJobVersion());
+    }
+}
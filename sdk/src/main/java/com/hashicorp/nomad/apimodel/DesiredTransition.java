@@ -36,6 +36,42 @@ public final class DesiredTransition extends ApiObject {
         return this;
     }
 
+    @Override
+    public DesiredTransition deepCopy() {
+        final DesiredTransition copy = new DesiredTransition();
+        copy.migrate = this.migrate;
+        copy.reschedule = this.reschedule;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final DesiredTransition that = (DesiredTransition) o;
+        return java.util.Objects.equals(this.migrate, that.migrate)
+                && java.util.Objects.equals(this.reschedule, that.reschedule)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.migrate);
+        result = 31 * result + java.util.Objects.hashCode(this.reschedule);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.migrate);
+        hash = hashOf(hash, this.reschedule);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,48 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link DesiredTransition}
+ * directly from and to JSON tokens.
+ */
+public final class DesiredTransitionCodec extends ApiObjectCodec<DesiredTransition> {
+    public DesiredTransitionCodec() {
+        super(DesiredTransition.class);
+    }
+
+    @Override
+    protected DesiredTransition newInstance() {
+        return new DesiredTransition();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, DesiredTransition value)
+            throws IOException {
+        switch (name) {
+            case "Migrate":
+                value.setMigrate(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "Reschedule":
+                value.setReschedule(readValue(p, ctxt, Boolean.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, DesiredTransition value)
+            throws IOException {
+        writeValue(g, provider, "Migrate", value.getMigrate());
+        writeValue(g, provider, "Reschedule", value.getReschedule());
+    }
+}
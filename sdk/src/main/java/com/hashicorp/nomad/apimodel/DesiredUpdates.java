@@ -103,6 +103,66 @@ public final class DesiredUpdates extends ApiObject {
         return this;
     }
 
+    @Override
+    public DesiredUpdates deepCopy() {
+        final DesiredUpdates copy = new DesiredUpdates();
+        copy.ignore = this.ignore;
+        copy.place = this.place;
+        copy.migrate = this.migrate;
+        copy.stop = this.stop;
+        copy.inPlaceUpdate = this.inPlaceUpdate;
+        copy.destructiveUpdate = this.destructiveUpdate;
+        copy.canary = this.canary;
+        copy.preemptions = this.preemptions;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final DesiredUpdates that = (DesiredUpdates) o;
+        return java.util.Objects.equals(this.ignore, that.ignore)
+                && java.util.Objects.equals(this.place, that.place)
+                && java.util.Objects.equals(this.migrate, that.migrate)
+                && java.util.Objects.equals(this.stop, that.stop)
+                && java.util.Objects.equals(this.inPlaceUpdate, that.inPlaceUpdate)
+                && java.util.Objects.equals(this.destructiveUpdate, that.destructiveUpdate)
+                && java.util.Objects.equals(this.canary, that.canary)
+                && java.util.Objects.equals(this.preemptions, that.preemptions)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.ignore);
+        result = 31 * result + java.util.Objects.hashCode(this.place);
+        result = 31 * result + java.util.Objects.hashCode(this.migrate);
+        result = 31 * result + java.util.Objects.hashCode(this.stop);
+        result = 31 * result + java.util.Objects.hashCode(this.inPlaceUpdate);
+        result = 31 * result + java.util.Objects.hashCode(this.destructiveUpdate);
+        result = 31 * result + java.util.Objects.hashCode(this.canary);
+        result = 31 * result + java.util.Objects.hashCode(this.preemptions);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.ignore);
+        hash = hashOf(hash, this.place);
+        hash = hashOf(hash, this.migrate);
+        hash = hashOf(hash, this.stop);
+        hash = hashOf(hash, this.inPlaceUpdate);
+        hash = hashOf(hash, this.destructiveUpdate);
+        hash = hashOf(hash, this.canary);
+        hash = hashOf(hash, this.preemptions);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
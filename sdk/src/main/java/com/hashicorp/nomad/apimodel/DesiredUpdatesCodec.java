@@ -0,0 +1,73 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * This is a generated codec that reads and writes {@link DesiredUpdates}
+ * directly from and to JSON tokens.
+ */
+public final class DesiredUpdatesCodec extends ApiObjectCodec<DesiredUpdates> {
+    public DesiredUpdatesCodec() {
+        super(DesiredUpdates.class);
+    }
+
+    @Override
+    protected DesiredUpdates newInstance() {
+        return new DesiredUpdates();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, DesiredUpdates value)
+            throws IOException {
+        switch (name) {
+            case "Ignore":
+                value.setIgnore(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Place":
+                value.setPlace(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Migrate":
+                value.setMigrate(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Stop":
+                value.setStop(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "InPlaceUpdate":
+                value.setInPlaceUpdate(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "DestructiveUpdate":
+                value.setDestructiveUpdate(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Canary":
+                value.setCanary(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Preemptions":
+                value.setPreemptions(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, DesiredUpdates value)
+            throws IOException {
+        writeValue(g, provider, "Ignore", value.getIgnore());
+        writeValue(g, provider, "Place", value.getPlace());
+        writeValue(g, provider, "Migrate", value.getMigrate());
+        writeValue(g, provider, "Stop", value.getStop());
+        writeValue(g, provider, "InPlaceUpdate", value.getInPlaceUpdate());
+        writeValue(g, provider, "DestructiveUpdate", value.getDestructiveUpdate());
+        writeValue(g, provider, "Canary", value.getCanary());
+        writeValue(g, provider, "Preemptions", value.getPreemptions());
+    }
+}
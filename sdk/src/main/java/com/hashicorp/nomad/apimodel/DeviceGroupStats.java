@@ -66,6 +66,49 @@ public final class DeviceGroupStats extends ApiObject {
         return this;
     }
 
+    @Override
+    public DeviceGroupStats deepCopy() {
+        final DeviceGroupStats copy = new DeviceGroupStats();
+        copy.vendor = this.vendor;
+        copy.type = this.type;
+        copy.name = this.name;
+        copy.instanceStats = copyOf(this.instanceStats);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final DeviceGroupStats that = (DeviceGroupStats) o;
+        return java.util.Objects.equals(this.vendor, that.vendor)
+                && java.util.Objects.equals(this.type, that.type)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.instanceStats, that.instanceStats)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.vendor);
+        result = 31 * result + java.util.Objects.hashCode(this.type);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.vendor);
+        hash = hashOf(hash, this.type);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.instanceStats);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,63 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link DeviceGroupStats}
+ * directly from and to JSON tokens.
+ */
+public final class DeviceGroupStatsCodec extends ApiObjectCodec<DeviceGroupStats> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType INSTANCE_STATS =
+            TYPES.constructMapType(Map.class, String.class, DeviceStats.class);
+
+    public DeviceGroupStatsCodec() {
+        super(DeviceGroupStats.class);
+    }
+
+    @Override
+    protected DeviceGroupStats newInstance() {
+        return new DeviceGroupStats();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, DeviceGroupStats value)
+            throws IOException {
+        switch (name) {
+            case "Vendor":
+                value.setVendor(readString(p, ctxt));
+                return true;
+            case "Type":
+                value.setType(readInternedString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "InstanceStats":
+                value.setInstanceStats(readValue(p, ctxt, INSTANCE_STATS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, DeviceGroupStats value)
+            throws IOException {
+        g.writeStringField("Vendor", value.getVendor());
+        g.writeStringField("Type", value.getType());
+        g.writeStringField("Name", value.getName());
+        writeValue(g, provider, "InstanceStats", value.getInstanceStats());
+    }
+}
@@ -48,6 +48,42 @@ public final class DeviceStats extends ApiObject {
         return this;
     }
 
+    @Override
+    public DeviceStats deepCopy() {
+        final DeviceStats copy = new DeviceStats();
+        copy.summary = copyOf(this.summary);
+        copy.stats = copyOf(this.stats);
+        copy.timestamp = copyOf(this.timestamp);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final DeviceStats that = (DeviceStats) o;
+        return java.util.Objects.equals(this.summary, that.summary)
+                && java.util.Objects.equals(this.stats, that.stats)
+                && java.util.Objects.equals(this.timestamp, that.timestamp)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.summary);
+        hash = hashOf(hash, this.stats);
+        hash = hashOf(hash, this.timestamp);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,53 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Date;
+
+/**
+ * This is a generated codec that reads and writes {@link DeviceStats}
+ * directly from and to JSON tokens.
+ */
+public final class DeviceStatsCodec extends ApiObjectCodec<DeviceStats> {
+    public DeviceStatsCodec() {
+        super(DeviceStats.class);
+    }
+
+    @Override
+    protected DeviceStats newInstance() {
+        return new DeviceStats();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, DeviceStats value)
+            throws IOException {
+        switch (name) {
+            case "Summary":
+                value.setSummary(readValue(p, ctxt, StatValue.class));
+                return true;
+            case "Stats":
+                value.setStats(readValue(p, ctxt, StatObject.class));
+                return true;
+            case "Timestamp":
+                value.setTimestamp(readValue(p, ctxt, Date.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, DeviceStats value)
+            throws IOException {
+        writeValue(g, provider, "Summary", value.getSummary());
+        writeValue(g, provider, "Stats", value.getStats());
+        writeValue(g, provider, "Timestamp", value.getTimestamp());
+    }
+}
@@ -25,6 +25,38 @@ public final class DispatchPayloadConfig extends ApiObject {
         return this;
     }
 
+    @Override
+    public DispatchPayloadConfig deepCopy() {
+        final DispatchPayloadConfig copy = new DispatchPayloadConfig();
+        copy.file = this.file;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final DispatchPayloadConfig that = (DispatchPayloadConfig) o;
+        return java.util.Objects.equals(this.file, that.file)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.file);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.file);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,44 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link DispatchPayloadConfig}
+ * directly from and to JSON tokens.
+ */
+public final class DispatchPayloadConfigCodec extends ApiObjectCodec<DispatchPayloadConfig> {
+    public DispatchPayloadConfigCodec() {
+        super(DispatchPayloadConfig.class);
+    }
+
+    @Override
+    protected DispatchPayloadConfig newInstance() {
+        return new DispatchPayloadConfig();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, DispatchPayloadConfig value)
+            throws IOException {
+        switch (name) {
+            case "File":
+                value.setFile(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, DispatchPayloadConfig value)
+            throws IOException {
+        g.writeStringField("File", value.getFile());
+    }
+}
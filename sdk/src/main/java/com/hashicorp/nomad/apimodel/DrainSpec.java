@@ -36,6 +36,42 @@ public final class DrainSpec extends ApiObject {
         return this;
     }
 
+    @Override
+    public DrainSpec deepCopy() {
+        final DrainSpec copy = new DrainSpec();
+        copy.deadline = this.deadline;
+        copy.ignoreSystemJobs = this.ignoreSystemJobs;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final DrainSpec that = (DrainSpec) o;
+        return this.deadline == that.deadline
+                && this.ignoreSystemJobs == that.ignoreSystemJobs
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Long.hashCode(this.deadline);
+        result = 31 * result + Boolean.hashCode(this.ignoreSystemJobs);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.deadline);
+        hash = hashOf(hash, this.ignoreSystemJobs);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
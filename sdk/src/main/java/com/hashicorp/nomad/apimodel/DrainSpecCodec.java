@@ -0,0 +1,48 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link DrainSpec}
+ * directly from and to JSON tokens.
+ */
+public final class DrainSpecCodec extends ApiObjectCodec<DrainSpec> {
+    public DrainSpecCodec() {
+        super(DrainSpec.class);
+    }
+
+    @Override
+    protected DrainSpec newInstance() {
+        return new DrainSpec();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, DrainSpec value)
+            throws IOException {
+        switch (name) {
+            case "Deadline":
+                value.setDeadline(readLong(p, ctxt));
+                return true;
+            case "IgnoreSystemJobs":
+                value.setIgnoreSystemJobs(readBoolean(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, DrainSpec value)
+            throws IOException {
+        g.writeNumberField("Deadline", value.getDeadline());
+        g.writeBooleanField("IgnoreSystemJobs", value.getIgnoreSystemJobs());
+    }
+}
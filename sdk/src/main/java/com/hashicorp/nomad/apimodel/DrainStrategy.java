@@ -48,6 +48,42 @@ public final class DrainStrategy extends ApiObject {
         return this;
     }
 
+    @Override
+    public DrainStrategy deepCopy() {
+        final DrainStrategy copy = new DrainStrategy();
+        copy.drainSpec = copyOf(this.drainSpec);
+        copy.forceDeadline = copyOf(this.forceDeadline);
+        copy.startedAt = copyOf(this.startedAt);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final DrainStrategy that = (DrainStrategy) o;
+        return java.util.Objects.equals(this.drainSpec, that.drainSpec)
+                && java.util.Objects.equals(this.forceDeadline, that.forceDeadline)
+                && java.util.Objects.equals(this.startedAt, that.startedAt)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.drainSpec);
+        hash = hashOf(hash, this.forceDeadline);
+        hash = hashOf(hash, this.startedAt);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,53 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Date;
+
+/**
+ * This is a generated codec that reads and writes {@link DrainStrategy}
+ * directly from and to JSON tokens.
+ */
+public final class DrainStrategyCodec extends ApiObjectCodec<DrainStrategy> {
+    public DrainStrategyCodec() {
+        super(DrainStrategy.class);
+    }
+
+    @Override
+    protected DrainStrategy newInstance() {
+        return new DrainStrategy();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, DrainStrategy value)
+            throws IOException {
+        switch (name) {
+            case "DrainSpec":
+                value.setDrainSpec(readValue(p, ctxt, DrainSpec.class));
+                return true;
+            case "ForceDeadline":
+                value.setForceDeadline(readValue(p, ctxt, Date.class));
+                return true;
+            case "StartedAt":
+                value.setStartedAt(readValue(p, ctxt, Date.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, DrainStrategy value)
+            throws IOException {
+        writeValue(g, provider, "DrainSpec", value.getDrainSpec());
+        writeValue(g, provider, "ForceDeadline", value.getForceDeadline());
+        writeValue(g, provider, "StartedAt", value.getStartedAt());
+    }
+}
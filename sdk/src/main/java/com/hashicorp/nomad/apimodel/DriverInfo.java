@@ -78,6 +78,52 @@ public final class DriverInfo extends ApiObject {
         return this;
     }
 
+    @Override
+    public DriverInfo deepCopy() {
+        final DriverInfo copy = new DriverInfo();
+        copy.attributes = copyOf(this.attributes);
+        copy.detected = this.detected;
+        copy.healthy = this.healthy;
+        copy.healthDescription = this.healthDescription;
+        copy.updateTime = copyOf(this.updateTime);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final DriverInfo that = (DriverInfo) o;
+        return java.util.Objects.equals(this.attributes, that.attributes)
+                && this.detected == that.detected
+                && this.healthy == that.healthy
+                && java.util.Objects.equals(this.healthDescription, that.healthDescription)
+                && java.util.Objects.equals(this.updateTime, that.updateTime)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Boolean.hashCode(this.detected);
+        result = 31 * result + Boolean.hashCode(this.healthy);
+        result = 31 * result + java.util.Objects.hashCode(this.healthDescription);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.attributes);
+        hash = hashOf(hash, this.detected);
+        hash = hashOf(hash, this.healthy);
+        hash = hashOf(hash, this.healthDescription);
+        hash = hashOf(hash, this.updateTime);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,68 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link DriverInfo}
+ * directly from and to JSON tokens.
+ */
+public final class DriverInfoCodec extends ApiObjectCodec<DriverInfo> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType ATTRIBUTES =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+
+    public DriverInfoCodec() {
+        super(DriverInfo.class);
+    }
+
+    @Override
+    protected DriverInfo newInstance() {
+        return new DriverInfo();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, DriverInfo value)
+            throws IOException {
+        switch (name) {
+            case "Attributes":
+                value.setAttributes(readValue(p, ctxt, ATTRIBUTES));
+                return true;
+            case "Detected":
+                value.setDetected(readBoolean(p, ctxt));
+                return true;
+            case "Healthy":
+                value.setHealthy(readBoolean(p, ctxt));
+                return true;
+            case "HealthDescription":
+                value.setHealthDescription(readString(p, ctxt));
+                return true;
+            case "UpdateTime":
+                value.setUpdateTime(readValue(p, ctxt, Date.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, DriverInfo value)
+            throws IOException {
+        writeValue(g, provider, "Attributes", value.getAttributes());
+        g.writeBooleanField("Detected", value.getDetected());
+        g.writeBooleanField("Healthy", value.getHealthy());
+        g.writeStringField("HealthDescription", value.getHealthDescription());
+        writeValue(g, provider, "UpdateTime", value.getUpdateTime());
+    }
+}
@@ -47,6 +47,46 @@ public final class EphemeralDisk extends ApiObject {
         return this;
     }
 
+    @Override
+    public EphemeralDisk deepCopy() {
+        final EphemeralDisk copy = new EphemeralDisk();
+        copy.sticky = this.sticky;
+        copy.migrate = this.migrate;
+        copy.sizeMb = this.sizeMb;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final EphemeralDisk that = (EphemeralDisk) o;
+        return java.util.Objects.equals(this.sticky, that.sticky)
+                && java.util.Objects.equals(this.migrate, that.migrate)
+                && java.util.Objects.equals(this.sizeMb, that.sizeMb)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.sticky);
+        result = 31 * result + java.util.Objects.hashCode(this.migrate);
+        result = 31 * result + java.util.Objects.hashCode(this.sizeMb);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.sticky);
+        hash = hashOf(hash, this.migrate);
+        hash = hashOf(hash, this.sizeMb);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,52 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link EphemeralDisk}
+ * directly from and to JSON tokens.
+ */
+public final class EphemeralDiskCodec extends ApiObjectCodec<EphemeralDisk> {
+    public EphemeralDiskCodec() {
+        super(EphemeralDisk.class);
+    }
+
+    @Override
+    protected EphemeralDisk newInstance() {
+        return new EphemeralDisk();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, EphemeralDisk value)
+            throws IOException {
+        switch (name) {
+            case "Sticky":
+                value.setSticky(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "Migrate":
+                value.setMigrate(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "SizeMB":
+                value.setSizeMb(readValue(p, ctxt, Integer.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, EphemeralDisk value)
+            throws IOException {
+        writeValue(g, provider, "Sticky", value.getSticky());
+        writeValue(g, provider, "Migrate", value.getMigrate());
+        writeValue(g, provider, "SizeMB", value.getSizeMb());
+    }
+}
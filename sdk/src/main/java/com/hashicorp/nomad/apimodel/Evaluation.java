@@ -346,6 +346,142 @@ public final class Evaluation extends ApiObject {
         return this;
     }
 
+    @Override
+    public Evaluation deepCopy() {
+        final Evaluation copy = new Evaluation();
+        copy.id = this.id;
+        copy.priority = this.priority;
+        copy.type = this.type;
+        copy.triggeredBy = this.triggeredBy;
+        copy.namespace = this.namespace;
+        copy.jobId = this.jobId;
+        copy.jobModifyIndex = this.jobModifyIndex;
+        copy.nodeId = this.nodeId;
+        copy.nodeModifyIndex = this.nodeModifyIndex;
+        copy.deploymentId = this.deploymentId;
+        copy.status = this.status;
+        copy.statusDescription = this.statusDescription;
+        copy.wait = this.wait;
+        copy.waitUntil = copyOf(this.waitUntil);
+        copy.nextEval = this.nextEval;
+        copy.previousEval = this.previousEval;
+        copy.blockedEval = this.blockedEval;
+        copy.failedTgAllocs = copyOf(this.failedTgAllocs);
+        copy.classEligibility = copyOf(this.classEligibility);
+        copy.escapedComputedClass = this.escapedComputedClass;
+        copy.quotaLimitReached = this.quotaLimitReached;
+        copy.annotatePlan = this.annotatePlan;
+        copy.queuedAllocations = copyOf(this.queuedAllocations);
+        copy.snapshotIndex = this.snapshotIndex;
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copy.createTime = this.createTime;
+        copy.modifyTime = this.modifyTime;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Evaluation that = (Evaluation) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && this.priority == that.priority
+                && java.util.Objects.equals(this.type, that.type)
+                && java.util.Objects.equals(this.triggeredBy, that.triggeredBy)
+                && java.util.Objects.equals(this.namespace, that.namespace)
+                && java.util.Objects.equals(this.jobId, that.jobId)
+                && java.util.Objects.equals(this.jobModifyIndex, that.jobModifyIndex)
+                && java.util.Objects.equals(this.nodeId, that.nodeId)
+                && java.util.Objects.equals(this.nodeModifyIndex, that.nodeModifyIndex)
+                && java.util.Objects.equals(this.deploymentId, that.deploymentId)
+                && java.util.Objects.equals(this.status, that.status)
+                && java.util.Objects.equals(this.statusDescription, that.statusDescription)
+                && this.wait == that.wait
+                && java.util.Objects.equals(this.waitUntil, that.waitUntil)
+                && java.util.Objects.equals(this.nextEval, that.nextEval)
+                && java.util.Objects.equals(this.previousEval, that.previousEval)
+                && java.util.Objects.equals(this.blockedEval, that.blockedEval)
+                && java.util.Objects.equals(this.failedTgAllocs, that.failedTgAllocs)
+                && java.util.Objects.equals(this.classEligibility, that.classEligibility)
+                && this.escapedComputedClass == that.escapedComputedClass
+                && java.util.Objects.equals(this.quotaLimitReached, that.quotaLimitReached)
+                && this.annotatePlan == that.annotatePlan
+                && java.util.Objects.equals(this.queuedAllocations, that.queuedAllocations)
+                && java.util.Objects.equals(this.snapshotIndex, that.snapshotIndex)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && this.createTime == that.createTime
+                && this.modifyTime == that.modifyTime
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + this.priority;
+        result = 31 * result + java.util.Objects.hashCode(this.type);
+        result = 31 * result + java.util.Objects.hashCode(this.triggeredBy);
+        result = 31 * result + java.util.Objects.hashCode(this.namespace);
+        result = 31 * result + java.util.Objects.hashCode(this.jobId);
+        result = 31 * result + java.util.Objects.hashCode(this.jobModifyIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.nodeId);
+        result = 31 * result + java.util.Objects.hashCode(this.nodeModifyIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.deploymentId);
+        result = 31 * result + java.util.Objects.hashCode(this.status);
+        result = 31 * result + java.util.Objects.hashCode(this.statusDescription);
+        result = 31 * result + Long.hashCode(this.wait);
+        result = 31 * result + java.util.Objects.hashCode(this.nextEval);
+        result = 31 * result + java.util.Objects.hashCode(this.previousEval);
+        result = 31 * result + java.util.Objects.hashCode(this.blockedEval);
+        result = 31 * result + Boolean.hashCode(this.escapedComputedClass);
+        result = 31 * result + java.util.Objects.hashCode(this.quotaLimitReached);
+        result = 31 * result + Boolean.hashCode(this.annotatePlan);
+        result = 31 * result + java.util.Objects.hashCode(this.snapshotIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        result = 31 * result + Long.hashCode(this.createTime);
+        result = 31 * result + Long.hashCode(this.modifyTime);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.priority);
+        hash = hashOf(hash, this.type);
+        hash = hashOf(hash, this.triggeredBy);
+        hash = hashOf(hash, this.namespace);
+        hash = hashOf(hash, this.jobId);
+        hash = hashOf(hash, this.jobModifyIndex);
+        hash = hashOf(hash, this.nodeId);
+        hash = hashOf(hash, this.nodeModifyIndex);
+        hash = hashOf(hash, this.deploymentId);
+        hash = hashOf(hash, this.status);
+        hash = hashOf(hash, this.statusDescription);
+        hash = hashOf(hash, this.wait);
+        hash = hashOf(hash, this.waitUntil);
+        hash = hashOf(hash, this.nextEval);
+        hash = hashOf(hash, this.previousEval);
+        hash = hashOf(hash, this.blockedEval);
+        hash = hashOf(hash, this.failedTgAllocs);
+        hash = hashOf(hash, this.classEligibility);
+        hash = hashOf(hash, this.escapedComputedClass);
+        hash = hashOf(hash, this.quotaLimitReached);
+        hash = hashOf(hash, this.annotatePlan);
+        hash = hashOf(hash, this.queuedAllocations);
+        hash = hashOf(hash, this.snapshotIndex);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        hash = hashOf(hash, this.createTime);
+        hash = hashOf(hash, this.modifyTime);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,165 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link Evaluation}
+ * directly from and to JSON tokens.
+ */
+public final class EvaluationCodec extends ApiObjectCodec<Evaluation> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType FAILED_TG_ALLOCS =
+            TYPES.constructMapType(Map.class, String.class, AllocationMetric.class);
+    private static final JavaType CLASS_ELIGIBILITY =
+            TYPES.constructMapType(Map.class, String.class, Boolean.class);
+    private static final JavaType QUEUED_ALLOCATIONS =
+            TYPES.constructMapType(Map.class, String.class, Integer.class);
+
+    public EvaluationCodec() {
+        super(Evaluation.class);
+    }
+
+    @Override
+    protected Evaluation newInstance() {
+        return new Evaluation();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, Evaluation value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Priority":
+                value.setPriority(readInt(p, ctxt));
+                return true;
+            case "Type":
+                value.setType(readInternedString(p, ctxt));
+                return true;
+            case "TriggeredBy":
+                value.setTriggeredBy(readString(p, ctxt));
+                return true;
+            case "Namespace":
+                value.setNamespace(readInternedString(p, ctxt));
+                return true;
+            case "JobID":
+                value.setJobId(readInternedString(p, ctxt));
+                return true;
+            case "JobModifyIndex":
+                value.setJobModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "NodeID":
+                value.setNodeId(readInternedString(p, ctxt));
+                return true;
+            case "NodeModifyIndex":
+                value.setNodeModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "DeploymentID":
+                value.setDeploymentId(readString(p, ctxt));
+                return true;
+            case "Status":
+                value.setStatus(readInternedString(p, ctxt));
+                return true;
+            case "StatusDescription":
+                value.setStatusDescription(readString(p, ctxt));
+                return true;
+            case "Wait":
+                value.setWait(readLong(p, ctxt));
+                return true;
+            case "WaitUntil":
+                value.setWaitUntil(readValue(p, ctxt, Date.class));
+                return true;
+            case "NextEval":
+                value.setNextEval(readString(p, ctxt));
+                return true;
+            case "PreviousEval":
+                value.setPreviousEval(readString(p, ctxt));
+                return true;
+            case "BlockedEval":
+                value.setBlockedEval(readString(p, ctxt));
+                return true;
+            case "FailedTGAllocs":
+                value.setFailedTgAllocs(readValue(p, ctxt, FAILED_TG_ALLOCS));
+                return true;
+            case "ClassEligibility":
+                value.setClassEligibility(readValue(p, ctxt, CLASS_ELIGIBILITY));
+                return true;
+            case "EscapedComputedClass":
+                value.setEscapedComputedClass(readBoolean(p, ctxt));
+                return true;
+            case "QuotaLimitReached":
+                value.setQuotaLimitReached(readString(p, ctxt));
+                return true;
+            case "AnnotatePlan":
+                value.setAnnotatePlan(readBoolean(p, ctxt));
+                return true;
+            case "QueuedAllocations":
+                value.setQueuedAllocations(readValue(p, ctxt, QUEUED_ALLOCATIONS));
+                return true;
+            case "SnapshotIndex":
+                value.setSnapshotIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "CreateTime":
+                value.setCreateTime(readLong(p, ctxt));
+                return true;
+            case "ModifyTime":
+                value.setModifyTime(readLong(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, Evaluation value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeNumberField("Priority", value.getPriority());
+        g.writeStringField("Type", value.getType());
+        g.writeStringField("TriggeredBy", value.getTriggeredBy());
+        g.writeStringField("Namespace", value.getNamespace());
+        g.writeStringField("JobID", value.getJobId());
+        writeValue(g, provider, "JobModifyIndex", value.getJobModifyIndex());
+        g.writeStringField("NodeID", value.getNodeId());
+        writeValue(g, provider, "NodeModifyIndex", value.getNodeModifyIndex());
+        g.writeStringField("DeploymentID", value.getDeploymentId());
+        g.writeStringField("Status", value.getStatus());
+        g.writeStringField("StatusDescription", value.getStatusDescription());
+        g.writeNumberField("Wait", value.getWait());
+        writeValue(g, provider, "WaitUntil", value.getWaitUntil());
+        g.writeStringField("NextEval", value.getNextEval());
+        g.writeStringField("PreviousEval", value.getPreviousEval());
+        g.writeStringField("BlockedEval", value.getBlockedEval());
+        writeValue(g, provider, "FailedTGAllocs", value.getFailedTgAllocs());
+        writeValue(g, provider, "ClassEligibility", value.getClassEligibility());
+        g.writeBooleanField("EscapedComputedClass", value.getEscapedComputedClass());
+        g.writeStringField("QuotaLimitReached", value.getQuotaLimitReached());
+        g.writeBooleanField("AnnotatePlan", value.getAnnotatePlan());
+        writeValue(g, provider, "QueuedAllocations", value.getQueuedAllocations());
+        writeValue(g, provider, "SnapshotIndex", value.getSnapshotIndex());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+        g.writeNumberField("CreateTime", value.getCreateTime());
+        g.writeNumberField("ModifyTime", value.getModifyTime());
+    }
+}
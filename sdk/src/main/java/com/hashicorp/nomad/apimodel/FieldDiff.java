@@ -77,6 +77,53 @@ public final class FieldDiff extends ApiObject {
         return this;
     }
 
+    @Override
+    public FieldDiff deepCopy() {
+        final FieldDiff copy = new FieldDiff();
+        copy.type = this.type;
+        copy.name = this.name;
+        copy.old = this.old;
+        copy.New = this.New;
+        copy.annotations = copyOf(this.annotations);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final FieldDiff that = (FieldDiff) o;
+        return java.util.Objects.equals(this.type, that.type)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.old, that.old)
+                && java.util.Objects.equals(this.New, that.New)
+                && java.util.Objects.equals(this.annotations, that.annotations)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.type);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.old);
+        result = 31 * result + java.util.Objects.hashCode(this.New);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.type);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.old);
+        hash = hashOf(hash, this.New);
+        hash = hashOf(hash, this.annotations);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,67 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link FieldDiff}
+ * directly from and to JSON tokens.
+ */
+public final class FieldDiffCodec extends ApiObjectCodec<FieldDiff> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType ANNOTATIONS =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public FieldDiffCodec() {
+        super(FieldDiff.class);
+    }
+
+    @Override
+    protected FieldDiff newInstance() {
+        return new FieldDiff();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, FieldDiff value)
+            throws IOException {
+        switch (name) {
+            case "Type":
+                value.setType(readInternedString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Old":
+                value.setOld(readString(p, ctxt));
+                return true;
+            case "New":
+                value.setNew(readString(p, ctxt));
+                return true;
+            case "Annotations":
+                value.setAnnotations(readValue(p, ctxt, ANNOTATIONS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, FieldDiff value)
+            throws IOException {
+        g.writeStringField("Type", value.getType());
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("Old", value.getOld());
+        g.writeStringField("New", value.getNew());
+        writeValue(g, provider, "Annotations", value.getAnnotations());
+    }
+}
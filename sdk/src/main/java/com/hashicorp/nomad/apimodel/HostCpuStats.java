@@ -58,6 +58,50 @@ public final class HostCpuStats extends ApiObject {
         return this;
     }
 
+    @Override
+    public HostCpuStats deepCopy() {
+        final HostCpuStats copy = new HostCpuStats();
+        copy.cpu = this.cpu;
+        copy.user = this.user;
+        copy.system = this.system;
+        copy.idle = this.idle;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final HostCpuStats that = (HostCpuStats) o;
+        return java.util.Objects.equals(this.cpu, that.cpu)
+                && Double.compare(this.user, that.user) == 0
+                && Double.compare(this.system, that.system) == 0
+                && Double.compare(this.idle, that.idle) == 0
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.cpu);
+        result = 31 * result + Double.hashCode(this.user);
+        result = 31 * result + Double.hashCode(this.system);
+        result = 31 * result + Double.hashCode(this.idle);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.cpu);
+        hash = hashOf(hash, this.user);
+        hash = hashOf(hash, this.system);
+        hash = hashOf(hash, this.idle);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,56 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link HostCpuStats}
+ * directly from and to JSON tokens.
+ */
+public final class HostCpuStatsCodec extends ApiObjectCodec<HostCpuStats> {
+    public HostCpuStatsCodec() {
+        super(HostCpuStats.class);
+    }
+
+    @Override
+    protected HostCpuStats newInstance() {
+        return new HostCpuStats();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, HostCpuStats value)
+            throws IOException {
+        switch (name) {
+            case "CPU":
+                value.setCpu(readString(p, ctxt));
+                return true;
+            case "User":
+                value.setUser(readDouble(p, ctxt));
+                return true;
+            case "System":
+                value.setSystem(readDouble(p, ctxt));
+                return true;
+            case "Idle":
+                value.setIdle(readDouble(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, HostCpuStats value)
+            throws IOException {
+        g.writeStringField("CPU", value.getCpu());
+        g.writeNumberField("User", value.getUser());
+        g.writeNumberField("System", value.getSystem());
+        g.writeNumberField("Idle", value.getIdle());
+    }
+}
@@ -92,6 +92,62 @@ public final class HostDiskStats extends ApiObject {
         return this;
     }
 
+    @Override
+    public HostDiskStats deepCopy() {
+        final HostDiskStats copy = new HostDiskStats();
+        copy.device = this.device;
+        copy.mountpoint = this.mountpoint;
+        copy.size = this.size;
+        copy.used = this.used;
+        copy.available = this.available;
+        copy.usedPercent = this.usedPercent;
+        copy.inodesUsedPercent = this.inodesUsedPercent;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final HostDiskStats that = (HostDiskStats) o;
+        return java.util.Objects.equals(this.device, that.device)
+                && java.util.Objects.equals(this.mountpoint, that.mountpoint)
+                && java.util.Objects.equals(this.size, that.size)
+                && java.util.Objects.equals(this.used, that.used)
+                && java.util.Objects.equals(this.available, that.available)
+                && Double.compare(this.usedPercent, that.usedPercent) == 0
+                && Double.compare(this.inodesUsedPercent, that.inodesUsedPercent) == 0
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.device);
+        result = 31 * result + java.util.Objects.hashCode(this.mountpoint);
+        result = 31 * result + java.util.Objects.hashCode(this.size);
+        result = 31 * result + java.util.Objects.hashCode(this.used);
+        result = 31 * result + java.util.Objects.hashCode(this.available);
+        result = 31 * result + Double.hashCode(this.usedPercent);
+        result = 31 * result + Double.hashCode(this.inodesUsedPercent);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.device);
+        hash = hashOf(hash, this.mountpoint);
+        hash = hashOf(hash, this.size);
+        hash = hashOf(hash, this.used);
+        hash = hashOf(hash, this.available);
+        hash = hashOf(hash, this.usedPercent);
+        hash = hashOf(hash, this.inodesUsedPercent);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,69 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * This is a generated codec that reads and writes {@link HostDiskStats}
+ * directly from and to JSON tokens.
+ */
+public final class HostDiskStatsCodec extends ApiObjectCodec<HostDiskStats> {
+    public HostDiskStatsCodec() {
+        super(HostDiskStats.class);
+    }
+
+    @Override
+    protected HostDiskStats newInstance() {
+        return new HostDiskStats();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, HostDiskStats value)
+            throws IOException {
+        switch (name) {
+            case "Device":
+                value.setDevice(readString(p, ctxt));
+                return true;
+            case "Mountpoint":
+                value.setMountpoint(readString(p, ctxt));
+                return true;
+            case "Size":
+                value.setSize(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Used":
+                value.setUsed(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Available":
+                value.setAvailable(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "UsedPercent":
+                value.setUsedPercent(readDouble(p, ctxt));
+                return true;
+            case "InodesUsedPercent":
+                value.setInodesUsedPercent(readDouble(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, HostDiskStats value)
+            throws IOException {
+        g.writeStringField("Device", value.getDevice());
+        g.writeStringField("Mountpoint", value.getMountpoint());
+        writeValue(g, provider, "Size", value.getSize());
+        writeValue(g, provider, "Used", value.getUsed());
+        writeValue(g, provider, "Available", value.getAvailable());
+        g.writeNumberField("UsedPercent", value.getUsedPercent());
+        g.writeNumberField("InodesUsedPercent", value.getInodesUsedPercent());
+    }
+}
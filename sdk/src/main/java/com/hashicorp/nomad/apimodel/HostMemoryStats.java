@@ -59,6 +59,50 @@ public final class HostMemoryStats extends ApiObject {
         return this;
     }
 
+    @Override
+    public HostMemoryStats deepCopy() {
+        final HostMemoryStats copy = new HostMemoryStats();
+        copy.total = this.total;
+        copy.available = this.available;
+        copy.used = this.used;
+        copy.free = this.free;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final HostMemoryStats that = (HostMemoryStats) o;
+        return java.util.Objects.equals(this.total, that.total)
+                && java.util.Objects.equals(this.available, that.available)
+                && java.util.Objects.equals(this.used, that.used)
+                && java.util.Objects.equals(this.free, that.free)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.total);
+        result = 31 * result + java.util.Objects.hashCode(this.available);
+        result = 31 * result + java.util.Objects.hashCode(this.used);
+        result = 31 * result + java.util.Objects.hashCode(this.free);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.total);
+        hash = hashOf(hash, this.available);
+        hash = hashOf(hash, this.used);
+        hash = hashOf(hash, this.free);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
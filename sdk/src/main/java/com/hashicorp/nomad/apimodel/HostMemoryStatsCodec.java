@@ -0,0 +1,57 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * This is a generated codec that reads and writes {@link HostMemoryStats}
+ * directly from and to JSON tokens.
+ */
+public final class HostMemoryStatsCodec extends ApiObjectCodec<HostMemoryStats> {
+    public HostMemoryStatsCodec() {
+        super(HostMemoryStats.class);
+    }
+
+    @Override
+    protected HostMemoryStats newInstance() {
+        return new HostMemoryStats();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, HostMemoryStats value)
+            throws IOException {
+        switch (name) {
+            case "Total":
+                value.setTotal(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Available":
+                value.setAvailable(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Used":
+                value.setUsed(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Free":
+                value.setFree(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, HostMemoryStats value)
+            throws IOException {
+        writeValue(g, provider, "Total", value.getTotal());
+        writeValue(g, provider, "Available", value.getAvailable());
+        writeValue(g, provider, "Used", value.getUsed());
+        writeValue(g, provider, "Free", value.getFree());
+    }
+}
@@ -105,6 +105,54 @@ public final class HostStats extends ApiObject {
         return this;
     }
 
+    @Override
+    public HostStats deepCopy() {
+        final HostStats copy = new HostStats();
+        copy.memory = copyOf(this.memory);
+        copy.cpu = copyOf(this.cpu);
+        copy.diskStats = copyOf(this.diskStats);
+        copy.deviceStats = copyOf(this.deviceStats);
+        copy.uptime = this.uptime;
+        copy.cpuTicksConsumed = this.cpuTicksConsumed;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final HostStats that = (HostStats) o;
+        return java.util.Objects.equals(this.memory, that.memory)
+                && java.util.Objects.equals(this.cpu, that.cpu)
+                && java.util.Objects.equals(this.diskStats, that.diskStats)
+                && java.util.Objects.equals(this.deviceStats, that.deviceStats)
+                && java.util.Objects.equals(this.uptime, that.uptime)
+                && Double.compare(this.cpuTicksConsumed, that.cpuTicksConsumed) == 0
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.uptime);
+        result = 31 * result + Double.hashCode(this.cpuTicksConsumed);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.memory);
+        hash = hashOf(hash, this.cpu);
+        hash = hashOf(hash, this.diskStats);
+        hash = hashOf(hash, this.deviceStats);
+        hash = hashOf(hash, this.uptime);
+        hash = hashOf(hash, this.cpuTicksConsumed);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,76 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link HostStats}
+ * directly from and to JSON tokens.
+ */
+public final class HostStatsCodec extends ApiObjectCodec<HostStats> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType CPU =
+            TYPES.constructCollectionType(List.class, HostCpuStats.class);
+    private static final JavaType DISK_STATS =
+            TYPES.constructCollectionType(List.class, HostDiskStats.class);
+    private static final JavaType DEVICE_STATS =
+            TYPES.constructCollectionType(List.class, DeviceGroupStats.class);
+
+    public HostStatsCodec() {
+        super(HostStats.class);
+    }
+
+    @Override
+    protected HostStats newInstance() {
+        return new HostStats();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, HostStats value)
+            throws IOException {
+        switch (name) {
+            case "Memory":
+                value.setMemory(readValue(p, ctxt, HostMemoryStats.class));
+                return true;
+            case "CPU":
+                value.setCpu(readValue(p, ctxt, CPU));
+                return true;
+            case "DiskStats":
+                value.setDiskStats(readValue(p, ctxt, DISK_STATS));
+                return true;
+            case "DeviceStats":
+                value.setDeviceStats(readValue(p, ctxt, DEVICE_STATS));
+                return true;
+            case "Uptime":
+                value.setUptime(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "CPUTicksConsumed":
+                value.setCpuTicksConsumed(readDouble(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, HostStats value)
+            throws IOException {
+        writeValue(g, provider, "Memory", value.getMemory());
+        writeValue(g, provider, "CPU", value.getCpu());
+        writeValue(g, provider, "DiskStats", value.getDiskStats());
+        writeValue(g, provider, "DeviceStats", value.getDeviceStats());
+        writeValue(g, provider, "Uptime", value.getUptime());
+        g.writeNumberField("CPUTicksConsumed", value.getCpuTicksConsumed());
+    }
+}
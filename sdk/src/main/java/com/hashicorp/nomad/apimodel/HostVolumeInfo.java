@@ -36,6 +36,42 @@ public final class HostVolumeInfo extends ApiObject {
         return this;
     }
 
+    @Override
+    public HostVolumeInfo deepCopy() {
+        final HostVolumeInfo copy = new HostVolumeInfo();
+        copy.path = this.path;
+        copy.readOnly = this.readOnly;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final HostVolumeInfo that = (HostVolumeInfo) o;
+        return java.util.Objects.equals(this.path, that.path)
+                && this.readOnly == that.readOnly
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.path);
+        result = 31 * result + Boolean.hashCode(this.readOnly);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.path);
+        hash = hashOf(hash, this.readOnly);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,48 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link HostVolumeInfo}
+ * directly from and to JSON tokens.
+ */
+public final class HostVolumeInfoCodec extends ApiObjectCodec<HostVolumeInfo> {
+    public HostVolumeInfoCodec() {
+        super(HostVolumeInfo.class);
+    }
+
+    @Override
+    protected HostVolumeInfo newInstance() {
+        return new HostVolumeInfo();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, HostVolumeInfo value)
+            throws IOException {
+        switch (name) {
+            case "Path":
+                value.setPath(readString(p, ctxt));
+                return true;
+            case "ReadOnly":
+                value.setReadOnly(readBoolean(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, HostVolumeInfo value)
+            throws IOException {
+        g.writeStringField("Path", value.getPath());
+        g.writeBooleanField("ReadOnly", value.getReadOnly());
+    }
+}
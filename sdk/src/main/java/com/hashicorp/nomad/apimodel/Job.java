@@ -2,6 +2,7 @@ package com.hashicorp.nomad.apimodel;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.hashicorp.nomad.javasdk.ApiObject;
+import com.hashicorp.nomad.javasdk.LazyValue;
 import com.hashicorp.nomad.javasdk.NomadJson;
 
 import java.io.IOException;
@@ -28,6 +29,7 @@ public final class Job extends ApiObject {
     private List<Constraint> constraints;
     private List<Affinity> affinities;
     private List<TaskGroup> taskGroups;
+    private volatile LazyValue<List<TaskGroup>> lazyTaskGroups;
     private UpdateStrategy update;
     private List<Spread> spreads;
     private PeriodicConfig periodic;
@@ -194,22 +196,37 @@ public final class Job extends ApiObject {
 
     @JsonProperty("TaskGroups")
     public List<TaskGroup> getTaskGroups() {
+        final LazyValue<List<TaskGroup>> pending = lazyTaskGroups;
+        if (pending != null) {
+            synchronized (pending) {
+                if (lazyTaskGroups == pending) {
+                    taskGroups = pending.get();
+                    lazyTaskGroups = null;
+                }
+            }
+        }
         return taskGroups;
     }
 
     public Job setTaskGroups(List<TaskGroup> taskGroups) {
         this.taskGroups = taskGroups;
+        this.lazyTaskGroups = null;
         return this;
     }
 
     public Job addTaskGroups(TaskGroup... taskGroups) {
-        if (this.taskGroups == null)
+        if (getTaskGroups() == null)
             this.taskGroups = new java.util.ArrayList<>();
         for (TaskGroup item : taskGroups)
             this.taskGroups.add(item);
         return this;
     }
 
+    void deferTaskGroups(LazyValue<List<TaskGroup>> taskGroups) {
+        this.taskGroups = null;
+        this.lazyTaskGroups = taskGroups;
+    }
+
     @JsonProperty("Update")
     public UpdateStrategy getUpdate() {
         return update;
@@ -415,6 +432,150 @@ public final class Job extends ApiObject {
         return this;
     }
 
+    @Override
+    public Job deepCopy() {
+        final Job copy = new Job();
+        copy.stop = this.stop;
+        copy.region = this.region;
+        copy.namespace = this.namespace;
+        copy.id = this.id;
+        copy.parentId = this.parentId;
+        copy.name = this.name;
+        copy.type = this.type;
+        copy.priority = this.priority;
+        copy.allAtOnce = this.allAtOnce;
+        copy.datacenters = copyOf(this.datacenters);
+        copy.constraints = copyOf(this.constraints);
+        copy.affinities = copyOf(this.affinities);
+        copy.taskGroups = copyOf(this.getTaskGroups());
+        copy.update = copyOf(this.update);
+        copy.spreads = copyOf(this.spreads);
+        copy.periodic = copyOf(this.periodic);
+        copy.parameterizedJob = copyOf(this.parameterizedJob);
+        copy.dispatched = this.dispatched;
+        copy.payload = copyOf(this.payload);
+        copy.reschedule = copyOf(this.reschedule);
+        copy.migrate = copyOf(this.migrate);
+        copy.meta = copyOf(this.meta);
+        copy.consulToken = this.consulToken;
+        copy.vaultToken = this.vaultToken;
+        copy.status = this.status;
+        copy.statusDescription = this.statusDescription;
+        copy.stable = this.stable;
+        copy.version = this.version;
+        copy.submitTime = this.submitTime;
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copy.jobModifyIndex = this.jobModifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Job that = (Job) o;
+        return java.util.Objects.equals(this.stop, that.stop)
+                && java.util.Objects.equals(this.region, that.region)
+                && java.util.Objects.equals(this.namespace, that.namespace)
+                && java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.parentId, that.parentId)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.type, that.type)
+                && java.util.Objects.equals(this.priority, that.priority)
+                && java.util.Objects.equals(this.allAtOnce, that.allAtOnce)
+                && java.util.Objects.equals(this.datacenters, that.datacenters)
+                && java.util.Objects.equals(this.constraints, that.constraints)
+                && java.util.Objects.equals(this.affinities, that.affinities)
+                && java.util.Objects.equals(this.getTaskGroups(), that.getTaskGroups())
+                && java.util.Objects.equals(this.update, that.update)
+                && java.util.Objects.equals(this.spreads, that.spreads)
+                && java.util.Objects.equals(this.periodic, that.periodic)
+                && java.util.Objects.equals(this.parameterizedJob, that.parameterizedJob)
+                && this.dispatched == that.dispatched
+                && java.util.Arrays.equals(this.payload, that.payload)
+                && java.util.Objects.equals(this.reschedule, that.reschedule)
+                && java.util.Objects.equals(this.migrate, that.migrate)
+                && java.util.Objects.equals(this.meta, that.meta)
+                && java.util.Objects.equals(this.consulToken, that.consulToken)
+                && java.util.Objects.equals(this.vaultToken, that.vaultToken)
+                && java.util.Objects.equals(this.status, that.status)
+                && java.util.Objects.equals(this.statusDescription, that.statusDescription)
+                && java.util.Objects.equals(this.stable, that.stable)
+                && java.util.Objects.equals(this.version, that.version)
+                && java.util.Objects.equals(this.submitTime, that.submitTime)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && java.util.Objects.equals(this.jobModifyIndex, that.jobModifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.stop);
+        result = 31 * result + java.util.Objects.hashCode(this.region);
+        result = 31 * result + java.util.Objects.hashCode(this.namespace);
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.parentId);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.type);
+        result = 31 * result + java.util.Objects.hashCode(this.priority);
+        result = 31 * result + java.util.Objects.hashCode(this.allAtOnce);
+        result = 31 * result + Boolean.hashCode(this.dispatched);
+        result = 31 * result + java.util.Objects.hashCode(this.consulToken);
+        result = 31 * result + java.util.Objects.hashCode(this.vaultToken);
+        result = 31 * result + java.util.Objects.hashCode(this.status);
+        result = 31 * result + java.util.Objects.hashCode(this.statusDescription);
+        result = 31 * result + java.util.Objects.hashCode(this.stable);
+        result = 31 * result + java.util.Objects.hashCode(this.version);
+        result = 31 * result + java.util.Objects.hashCode(this.submitTime);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.jobModifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.stop);
+        hash = hashOf(hash, this.region);
+        hash = hashOf(hash, this.namespace);
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.parentId);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.type);
+        hash = hashOf(hash, this.priority);
+        hash = hashOf(hash, this.allAtOnce);
+        hash = hashOf(hash, this.datacenters);
+        hash = hashOf(hash, this.constraints);
+        hash = hashOf(hash, this.affinities);
+        hash = hashOf(hash, this.getTaskGroups());
+        hash = hashOf(hash, this.update);
+        hash = hashOf(hash, this.spreads);
+        hash = hashOf(hash, this.periodic);
+        hash = hashOf(hash, this.parameterizedJob);
+        hash = hashOf(hash, this.dispatched);
+        hash = hashOf(hash, this.payload);
+        hash = hashOf(hash, this.reschedule);
+        hash = hashOf(hash, this.migrate);
+        hash = hashOf(hash, this.meta);
+        hash = hashOf(hash, this.consulToken);
+        hash = hashOf(hash, this.vaultToken);
+        hash = hashOf(hash, this.status);
+        hash = hashOf(hash, this.statusDescription);
+        hash = hashOf(hash, this.stable);
+        hash = hashOf(hash, this.version);
+        hash = hashOf(hash, this.submitTime);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        hash = hashOf(hash, this.jobModifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
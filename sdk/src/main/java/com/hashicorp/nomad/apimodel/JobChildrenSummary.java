@@ -47,6 +47,46 @@ public final class JobChildrenSummary extends ApiObject {
         return this;
     }
 
+    @Override
+    public JobChildrenSummary deepCopy() {
+        final JobChildrenSummary copy = new JobChildrenSummary();
+        copy.pending = this.pending;
+        copy.running = this.running;
+        copy.dead = this.dead;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final JobChildrenSummary that = (JobChildrenSummary) o;
+        return this.pending == that.pending
+                && this.running == that.running
+                && this.dead == that.dead
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Long.hashCode(this.pending);
+        result = 31 * result + Long.hashCode(this.running);
+        result = 31 * result + Long.hashCode(this.dead);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.pending);
+        hash = hashOf(hash, this.running);
+        hash = hashOf(hash, this.dead);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,52 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link JobChildrenSummary}
+ * directly from and to JSON tokens.
+ */
+public final class JobChildrenSummaryCodec extends ApiObjectCodec<JobChildrenSummary> {
+    public JobChildrenSummaryCodec() {
+        super(JobChildrenSummary.class);
+    }
+
+    @Override
+    protected JobChildrenSummary newInstance() {
+        return new JobChildrenSummary();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, JobChildrenSummary value)
+            throws IOException {
+        switch (name) {
+            case "Pending":
+                value.setPending(readLong(p, ctxt));
+                return true;
+            case "Running":
+                value.setRunning(readLong(p, ctxt));
+                return true;
+            case "Dead":
+                value.setDead(readLong(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, JobChildrenSummary value)
+            throws IOException {
+        g.writeNumberField("Pending", value.getPending());
+        g.writeNumberField("Running", value.getRunning());
+        g.writeNumberField("Dead", value.getDead());
+    }
+}
@@ -0,0 +1,190 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link Job}
+ * directly from and to JSON tokens.
+ */
+public final class JobCodec extends ApiObjectCodec<Job> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType DATACENTERS =
+            TYPES.constructCollectionType(List.class, String.class);
+    private static final JavaType CONSTRAINTS =
+            TYPES.constructCollectionType(List.class, Constraint.class);
+    private static final JavaType AFFINITIES =
+            TYPES.constructCollectionType(List.class, Affinity.class);
+    private static final JavaType TASK_GROUPS =
+            TYPES.constructCollectionType(List.class, TaskGroup.class);
+    private static final JavaType SPREADS =
+            TYPES.constructCollectionType(List.class, Spread.class);
+    private static final JavaType META =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+
+    public JobCodec() {
+        super(Job.class);
+    }
+
+    @Override
+    protected Job newInstance() {
+        return new Job();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, Job value)
+            throws IOException {
+        switch (name) {
+            case "Stop":
+                value.setStop(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "Region":
+                value.setRegion(readInternedString(p, ctxt));
+                return true;
+            case "Namespace":
+                value.setNamespace(readInternedString(p, ctxt));
+                return true;
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "ParentID":
+                value.setParentId(readString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Type":
+                value.setType(readInternedString(p, ctxt));
+                return true;
+            case "Priority":
+                value.setPriority(readValue(p, ctxt, Integer.class));
+                return true;
+            case "AllAtOnce":
+                value.setAllAtOnce(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "Datacenters":
+                value.setDatacenters(readValue(p, ctxt, DATACENTERS));
+                return true;
+            case "Constraints":
+                value.setConstraints(readValue(p, ctxt, CONSTRAINTS));
+                return true;
+            case "Affinities":
+                value.setAffinities(readValue(p, ctxt, AFFINITIES));
+                return true;
+            case "TaskGroups":
+                if (isLazy(ctxt))
+                    value.deferTaskGroups(readLazily(p, ctxt, TASK_GROUPS));
+                else
+                    value.setTaskGroups(readValue(p, ctxt, TASK_GROUPS));
+                return true;
+            case "Update":
+                value.setUpdate(readValue(p, ctxt, UpdateStrategy.class));
+                return true;
+            case "Spreads":
+                value.setSpreads(readValue(p, ctxt, SPREADS));
+                return true;
+            case "Periodic":
+                value.setPeriodic(readValue(p, ctxt, PeriodicConfig.class));
+                return true;
+            case "ParameterizedJob":
+                value.setParameterizedJob(readValue(p, ctxt, ParameterizedJobConfig.class));
+                return true;
+            case "Dispatched":
+                value.setDispatched(readBoolean(p, ctxt));
+                return true;
+            case "Payload":
+                value.setPayload(readValue(p, ctxt, byte[].class));
+                return true;
+            case "Reschedule":
+                value.setReschedule(readValue(p, ctxt, ReschedulePolicy.class));
+                return true;
+            case "Migrate":
+                value.setMigrate(readValue(p, ctxt, MigrateStrategy.class));
+                return true;
+            case "Meta":
+                value.setMeta(readValue(p, ctxt, META));
+                return true;
+            case "ConsulToken":
+                value.setConsulToken(readString(p, ctxt));
+                return true;
+            case "VaultToken":
+                value.setVaultToken(readString(p, ctxt));
+                return true;
+            case "Status":
+                value.setStatus(readInternedString(p, ctxt));
+                return true;
+            case "StatusDescription":
+                value.setStatusDescription(readString(p, ctxt));
+                return true;
+            case "Stable":
+                value.setStable(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "Version":
+                value.setVersion(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "SubmitTime":
+                value.setSubmitTime(readValue(p, ctxt, Long.class));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "JobModifyIndex":
+                value.setJobModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, Job value)
+            throws IOException {
+        writeValue(g, provider, "Stop", value.getStop());
+        g.writeStringField("Region", value.getRegion());
+        g.writeStringField("Namespace", value.getNamespace());
+        g.writeStringField("ID", value.getId());
+        g.writeStringField("ParentID", value.getParentId());
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("Type", value.getType());
+        writeValue(g, provider, "Priority", value.getPriority());
+        writeValue(g, provider, "AllAtOnce", value.getAllAtOnce());
+        writeValue(g, provider, "Datacenters", value.getDatacenters());
+        writeValue(g, provider, "Constraints", value.getConstraints());
+        writeValue(g, provider, "Affinities", value.getAffinities());
+        writeValue(g, provider, "TaskGroups", value.getTaskGroups());
+        writeValue(g, provider, "Update", value.getUpdate());
+        writeValue(g, provider, "Spreads", value.getSpreads());
+        writeValue(g, provider, "Periodic", value.getPeriodic());
+        writeValue(g, provider, "ParameterizedJob", value.getParameterizedJob());
+        g.writeBooleanField("Dispatched", value.getDispatched());
+        writeValue(g, provider, "Payload", value.getPayload());
+        writeValue(g, provider, "Reschedule", value.getReschedule());
+        writeValue(g, provider, "Migrate", value.getMigrate());
+        writeValue(g, provider, "Meta", value.getMeta());
+        g.writeStringField("ConsulToken", value.getConsulToken());
+        g.writeStringField("VaultToken", value.getVaultToken());
+        g.writeStringField("Status", value.getStatus());
+        g.writeStringField("StatusDescription", value.getStatusDescription());
+        writeValue(g, provider, "Stable", value.getStable());
+        writeValue(g, provider, "Version", value.getVersion());
+        writeValue(g, provider, "SubmitTime", value.getSubmitTime());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+        writeValue(g, provider, "JobModifyIndex", value.getJobModifyIndex());
+    }
+}
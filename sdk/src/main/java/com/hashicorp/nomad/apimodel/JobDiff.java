@@ -93,6 +93,51 @@ public final class JobDiff extends ApiObject {
         return this;
     }
 
+    @Override
+    public JobDiff deepCopy() {
+        final JobDiff copy = new JobDiff();
+        copy.type = this.type;
+        copy.id = this.id;
+        copy.fields = copyOf(this.fields);
+        copy.objects = copyOf(this.objects);
+        copy.taskGroups = copyOf(this.taskGroups);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final JobDiff that = (JobDiff) o;
+        return java.util.Objects.equals(this.type, that.type)
+                && java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.fields, that.fields)
+                && java.util.Objects.equals(this.objects, that.objects)
+                && java.util.Objects.equals(this.taskGroups, that.taskGroups)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.type);
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.type);
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.fields);
+        hash = hashOf(hash, this.objects);
+        hash = hashOf(hash, this.taskGroups);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
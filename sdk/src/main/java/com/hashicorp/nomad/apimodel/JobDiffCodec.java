@@ -0,0 +1,71 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link JobDiff}
+ * directly from and to JSON tokens.
+ */
+public final class JobDiffCodec extends ApiObjectCodec<JobDiff> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType FIELDS =
+            TYPES.constructCollectionType(List.class, FieldDiff.class);
+    private static final JavaType OBJECTS =
+            TYPES.constructCollectionType(List.class, ObjectDiff.class);
+    private static final JavaType TASK_GROUPS =
+            TYPES.constructCollectionType(List.class, TaskGroupDiff.class);
+
+    public JobDiffCodec() {
+        super(JobDiff.class);
+    }
+
+    @Override
+    protected JobDiff newInstance() {
+        return new JobDiff();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, JobDiff value)
+            throws IOException {
+        switch (name) {
+            case "Type":
+                value.setType(readInternedString(p, ctxt));
+                return true;
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Fields":
+                value.setFields(readValue(p, ctxt, FIELDS));
+                return true;
+            case "Objects":
+                value.setObjects(readValue(p, ctxt, OBJECTS));
+                return true;
+            case "TaskGroups":
+                value.setTaskGroups(readValue(p, ctxt, TASK_GROUPS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, JobDiff value)
+            throws IOException {
+        g.writeStringField("Type", value.getType());
+        g.writeStringField("ID", value.getId());
+        writeValue(g, provider, "Fields", value.getFields());
+        writeValue(g, provider, "Objects", value.getObjects());
+        writeValue(g, provider, "TaskGroups", value.getTaskGroups());
+    }
+}
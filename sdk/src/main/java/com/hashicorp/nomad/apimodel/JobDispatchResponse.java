@@ -59,6 +59,50 @@ public final class JobDispatchResponse extends ApiObject {
         return this;
     }
 
+    @Override
+    public JobDispatchResponse deepCopy() {
+        final JobDispatchResponse copy = new JobDispatchResponse();
+        copy.dispatchedJobId = this.dispatchedJobId;
+        copy.evalId = this.evalId;
+        copy.evalCreateIndex = this.evalCreateIndex;
+        copy.jobCreateIndex = this.jobCreateIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final JobDispatchResponse that = (JobDispatchResponse) o;
+        return java.util.Objects.equals(this.dispatchedJobId, that.dispatchedJobId)
+                && java.util.Objects.equals(this.evalId, that.evalId)
+                && java.util.Objects.equals(this.evalCreateIndex, that.evalCreateIndex)
+                && java.util.Objects.equals(this.jobCreateIndex, that.jobCreateIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.dispatchedJobId);
+        result = 31 * result + java.util.Objects.hashCode(this.evalId);
+        result = 31 * result + java.util.Objects.hashCode(this.evalCreateIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.jobCreateIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.dispatchedJobId);
+        hash = hashOf(hash, this.evalId);
+        hash = hashOf(hash, this.evalCreateIndex);
+        hash = hashOf(hash, this.jobCreateIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,57 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * This is a generated codec that reads and writes {@link JobDispatchResponse}
+ * directly from and to JSON tokens.
+ */
+public final class JobDispatchResponseCodec extends ApiObjectCodec<JobDispatchResponse> {
+    public JobDispatchResponseCodec() {
+        super(JobDispatchResponse.class);
+    }
+
+    @Override
+    protected JobDispatchResponse newInstance() {
+        return new JobDispatchResponse();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, JobDispatchResponse value)
+            throws IOException {
+        switch (name) {
+            case "DispatchedJobID":
+                value.setDispatchedJobId(readString(p, ctxt));
+                return true;
+            case "EvalID":
+                value.setEvalId(readString(p, ctxt));
+                return true;
+            case "EvalCreateIndex":
+                value.setEvalCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "JobCreateIndex":
+                value.setJobCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, JobDispatchResponse value)
+            throws IOException {
+        g.writeStringField("DispatchedJobID", value.getDispatchedJobId());
+        g.writeStringField("EvalID", value.getEvalId());
+        writeValue(g, provider, "EvalCreateIndex", value.getEvalCreateIndex());
+        writeValue(g, provider, "JobCreateIndex", value.getJobCreateIndex());
+    }
+}
@@ -199,6 +199,96 @@ public final class JobListStub extends ApiObject {
         return this;
     }
 
+    @Override
+    public JobListStub deepCopy() {
+        final JobListStub copy = new JobListStub();
+        copy.id = this.id;
+        copy.parentId = this.parentId;
+        copy.name = this.name;
+        copy.datacenters = copyOf(this.datacenters);
+        copy.type = this.type;
+        copy.priority = this.priority;
+        copy.periodic = this.periodic;
+        copy.parameterizedJob = this.parameterizedJob;
+        copy.stop = this.stop;
+        copy.status = this.status;
+        copy.statusDescription = this.statusDescription;
+        copy.jobSummary = copyOf(this.jobSummary);
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copy.jobModifyIndex = this.jobModifyIndex;
+        copy.submitTime = this.submitTime;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final JobListStub that = (JobListStub) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.parentId, that.parentId)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.datacenters, that.datacenters)
+                && java.util.Objects.equals(this.type, that.type)
+                && this.priority == that.priority
+                && this.periodic == that.periodic
+                && this.parameterizedJob == that.parameterizedJob
+                && this.stop == that.stop
+                && java.util.Objects.equals(this.status, that.status)
+                && java.util.Objects.equals(this.statusDescription, that.statusDescription)
+                && java.util.Objects.equals(this.jobSummary, that.jobSummary)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && java.util.Objects.equals(this.jobModifyIndex, that.jobModifyIndex)
+                && this.submitTime == that.submitTime
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.parentId);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.type);
+        result = 31 * result + this.priority;
+        result = 31 * result + Boolean.hashCode(this.periodic);
+        result = 31 * result + Boolean.hashCode(this.parameterizedJob);
+        result = 31 * result + Boolean.hashCode(this.stop);
+        result = 31 * result + java.util.Objects.hashCode(this.status);
+        result = 31 * result + java.util.Objects.hashCode(this.statusDescription);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.jobModifyIndex);
+        result = 31 * result + Long.hashCode(this.submitTime);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.parentId);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.datacenters);
+        hash = hashOf(hash, this.type);
+        hash = hashOf(hash, this.priority);
+        hash = hashOf(hash, this.periodic);
+        hash = hashOf(hash, this.parameterizedJob);
+        hash = hashOf(hash, this.stop);
+        hash = hashOf(hash, this.status);
+        hash = hashOf(hash, this.statusDescription);
+        hash = hashOf(hash, this.jobSummary);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        hash = hashOf(hash, this.jobModifyIndex);
+        hash = hashOf(hash, this.submitTime);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,112 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link JobListStub}
+ * directly from and to JSON tokens.
+ */
+public final class JobListStubCodec extends ApiObjectCodec<JobListStub> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType DATACENTERS =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public JobListStubCodec() {
+        super(JobListStub.class);
+    }
+
+    @Override
+    protected JobListStub newInstance() {
+        return new JobListStub();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, JobListStub value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "ParentID":
+                value.setParentId(readString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Datacenters":
+                value.setDatacenters(readValue(p, ctxt, DATACENTERS));
+                return true;
+            case "Type":
+                value.setType(readInternedString(p, ctxt));
+                return true;
+            case "Priority":
+                value.setPriority(readInt(p, ctxt));
+                return true;
+            case "Periodic":
+                value.setPeriodic(readBoolean(p, ctxt));
+                return true;
+            case "ParameterizedJob":
+                value.setParameterizedJob(readBoolean(p, ctxt));
+                return true;
+            case "Stop":
+                value.setStop(readBoolean(p, ctxt));
+                return true;
+            case "Status":
+                value.setStatus(readInternedString(p, ctxt));
+                return true;
+            case "StatusDescription":
+                value.setStatusDescription(readString(p, ctxt));
+                return true;
+            case "JobSummary":
+                value.setJobSummary(readValue(p, ctxt, JobSummary.class));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "JobModifyIndex":
+                value.setJobModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "SubmitTime":
+                value.setSubmitTime(readLong(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, JobListStub value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeStringField("ParentID", value.getParentId());
+        g.writeStringField("Name", value.getName());
+        writeValue(g, provider, "Datacenters", value.getDatacenters());
+        g.writeStringField("Type", value.getType());
+        g.writeNumberField("Priority", value.getPriority());
+        g.writeBooleanField("Periodic", value.getPeriodic());
+        g.writeBooleanField("ParameterizedJob", value.getParameterizedJob());
+        g.writeBooleanField("Stop", value.getStop());
+        g.writeStringField("Status", value.getStatus());
+        g.writeStringField("StatusDescription", value.getStatusDescription());
+        writeValue(g, provider, "JobSummary", value.getJobSummary());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+        writeValue(g, provider, "JobModifyIndex", value.getJobModifyIndex());
+        g.writeNumberField("SubmitTime", value.getSubmitTime());
+    }
+}
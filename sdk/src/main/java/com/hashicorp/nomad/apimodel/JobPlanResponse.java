@@ -109,6 +109,57 @@ public final class JobPlanResponse extends ApiObject {
         return this;
     }
 
+    @Override
+    public JobPlanResponse deepCopy() {
+        final JobPlanResponse copy = new JobPlanResponse();
+        copy.jobModifyIndex = this.jobModifyIndex;
+        copy.createdEvals = copyOf(this.createdEvals);
+        copy.diff = copyOf(this.diff);
+        copy.annotations = copyOf(this.annotations);
+        copy.failedTgAllocs = copyOf(this.failedTgAllocs);
+        copy.nextPeriodicLaunch = copyOf(this.nextPeriodicLaunch);
+        copy.warnings = this.warnings;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final JobPlanResponse that = (JobPlanResponse) o;
+        return java.util.Objects.equals(this.jobModifyIndex, that.jobModifyIndex)
+                && java.util.Objects.equals(this.createdEvals, that.createdEvals)
+                && java.util.Objects.equals(this.diff, that.diff)
+                && java.util.Objects.equals(this.annotations, that.annotations)
+                && java.util.Objects.equals(this.failedTgAllocs, that.failedTgAllocs)
+                && java.util.Objects.equals(this.nextPeriodicLaunch, that.nextPeriodicLaunch)
+                && java.util.Objects.equals(this.warnings, that.warnings)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.jobModifyIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.warnings);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.jobModifyIndex);
+        hash = hashOf(hash, this.createdEvals);
+        hash = hashOf(hash, this.diff);
+        hash = hashOf(hash, this.annotations);
+        hash = hashOf(hash, this.failedTgAllocs);
+        hash = hashOf(hash, this.nextPeriodicLaunch);
+        hash = hashOf(hash, this.warnings);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
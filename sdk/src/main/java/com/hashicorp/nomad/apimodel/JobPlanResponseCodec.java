@@ -0,0 +1,80 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link JobPlanResponse}
+ * directly from and to JSON tokens.
+ */
+public final class JobPlanResponseCodec extends ApiObjectCodec<JobPlanResponse> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType CREATED_EVALS =
+            TYPES.constructCollectionType(List.class, Evaluation.class);
+    private static final JavaType FAILED_TG_ALLOCS =
+            TYPES.constructMapType(Map.class, String.class, AllocationMetric.class);
+
+    public JobPlanResponseCodec() {
+        super(JobPlanResponse.class);
+    }
+
+    @Override
+    protected JobPlanResponse newInstance() {
+        return new JobPlanResponse();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, JobPlanResponse value)
+            throws IOException {
+        switch (name) {
+            case "JobModifyIndex":
+                value.setJobModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "CreatedEvals":
+                value.setCreatedEvals(readValue(p, ctxt, CREATED_EVALS));
+                return true;
+            case "Diff":
+                value.setDiff(readValue(p, ctxt, JobDiff.class));
+                return true;
+            case "Annotations":
+                value.setAnnotations(readValue(p, ctxt, PlanAnnotations.class));
+                return true;
+            case "FailedTGAllocs":
+                value.setFailedTgAllocs(readValue(p, ctxt, FAILED_TG_ALLOCS));
+                return true;
+            case "NextPeriodicLaunch":
+                value.setNextPeriodicLaunch(readValue(p, ctxt, Date.class));
+                return true;
+            case "Warnings":
+                value.setWarnings(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, JobPlanResponse value)
+            throws IOException {
+        writeValue(g, provider, "JobModifyIndex", value.getJobModifyIndex());
+        writeValue(g, provider, "CreatedEvals", value.getCreatedEvals());
+        writeValue(g, provider, "Diff", value.getDiff());
+        writeValue(g, provider, "Annotations", value.getAnnotations());
+        writeValue(g, provider, "FailedTGAllocs", value.getFailedTgAllocs());
+        writeValue(g, provider, "NextPeriodicLaunch", value.getNextPeriodicLaunch());
+        g.writeStringField("Warnings", value.getWarnings());
+    }
+}
@@ -59,6 +59,50 @@ public final class JobRegisterResponse extends ApiObject {
         return this;
     }
 
+    @Override
+    public JobRegisterResponse deepCopy() {
+        final JobRegisterResponse copy = new JobRegisterResponse();
+        copy.evalId = this.evalId;
+        copy.evalCreateIndex = this.evalCreateIndex;
+        copy.jobModifyIndex = this.jobModifyIndex;
+        copy.warnings = this.warnings;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final JobRegisterResponse that = (JobRegisterResponse) o;
+        return java.util.Objects.equals(this.evalId, that.evalId)
+                && java.util.Objects.equals(this.evalCreateIndex, that.evalCreateIndex)
+                && java.util.Objects.equals(this.jobModifyIndex, that.jobModifyIndex)
+                && java.util.Objects.equals(this.warnings, that.warnings)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.evalId);
+        result = 31 * result + java.util.Objects.hashCode(this.evalCreateIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.jobModifyIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.warnings);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.evalId);
+        hash = hashOf(hash, this.evalCreateIndex);
+        hash = hashOf(hash, this.jobModifyIndex);
+        hash = hashOf(hash, this.warnings);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
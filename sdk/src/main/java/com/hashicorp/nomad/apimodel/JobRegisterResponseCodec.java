@@ -0,0 +1,57 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * This is a generated codec that reads and writes {@link JobRegisterResponse}
+ * directly from and to JSON tokens.
+ */
+public final class JobRegisterResponseCodec extends ApiObjectCodec<JobRegisterResponse> {
+    public JobRegisterResponseCodec() {
+        super(JobRegisterResponse.class);
+    }
+
+    @Override
+    protected JobRegisterResponse newInstance() {
+        return new JobRegisterResponse();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, JobRegisterResponse value)
+            throws IOException {
+        switch (name) {
+            case "EvalID":
+                value.setEvalId(readString(p, ctxt));
+                return true;
+            case "EvalCreateIndex":
+                value.setEvalCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "JobModifyIndex":
+                value.setJobModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Warnings":
+                value.setWarnings(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, JobRegisterResponse value)
+            throws IOException {
+        g.writeStringField("EvalID", value.getEvalId());
+        writeValue(g, provider, "EvalCreateIndex", value.getEvalCreateIndex());
+        writeValue(g, provider, "JobModifyIndex", value.getJobModifyIndex());
+        g.writeStringField("Warnings", value.getWarnings());
+    }
+}
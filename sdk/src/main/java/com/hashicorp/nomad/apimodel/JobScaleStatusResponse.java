@@ -78,6 +78,53 @@ public final class JobScaleStatusResponse extends ApiObject {
         return this;
     }
 
+    @Override
+    public JobScaleStatusResponse deepCopy() {
+        final JobScaleStatusResponse copy = new JobScaleStatusResponse();
+        copy.jobId = this.jobId;
+        copy.jobCreateIndex = this.jobCreateIndex;
+        copy.jobModifyIndex = this.jobModifyIndex;
+        copy.jobStopped = this.jobStopped;
+        copy.taskGroups = copyOf(this.taskGroups);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final JobScaleStatusResponse that = (JobScaleStatusResponse) o;
+        return java.util.Objects.equals(this.jobId, that.jobId)
+                && java.util.Objects.equals(this.jobCreateIndex, that.jobCreateIndex)
+                && java.util.Objects.equals(this.jobModifyIndex, that.jobModifyIndex)
+                && this.jobStopped == that.jobStopped
+                && java.util.Objects.equals(this.taskGroups, that.taskGroups)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.jobId);
+        result = 31 * result + java.util.Objects.hashCode(this.jobCreateIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.jobModifyIndex);
+        result = 31 * result + Boolean.hashCode(this.jobStopped);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.jobId);
+        hash = hashOf(hash, this.jobCreateIndex);
+        hash = hashOf(hash, this.jobModifyIndex);
+        hash = hashOf(hash, this.jobStopped);
+        hash = hashOf(hash, this.taskGroups);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,68 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link JobScaleStatusResponse}
+ * directly from and to JSON tokens.
+ */
+public final class JobScaleStatusResponseCodec extends ApiObjectCodec<JobScaleStatusResponse> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType TASK_GROUPS =
+            TYPES.constructMapType(Map.class, String.class, TaskGroupScaleStatus.class);
+
+    public JobScaleStatusResponseCodec() {
+        super(JobScaleStatusResponse.class);
+    }
+
+    @Override
+    protected JobScaleStatusResponse newInstance() {
+        return new JobScaleStatusResponse();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, JobScaleStatusResponse value)
+            throws IOException {
+        switch (name) {
+            case "JobID":
+                value.setJobId(readInternedString(p, ctxt));
+                return true;
+            case "JobCreateIndex":
+                value.setJobCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "JobModifyIndex":
+                value.setJobModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "JobStopped":
+                value.setJobStopped(readBoolean(p, ctxt));
+                return true;
+            case "TaskGroups":
+                value.setTaskGroups(readValue(p, ctxt, TASK_GROUPS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, JobScaleStatusResponse value)
+            throws IOException {
+        g.writeStringField("JobID", value.getJobId());
+        writeValue(g, provider, "JobCreateIndex", value.getJobCreateIndex());
+        writeValue(g, provider, "JobModifyIndex", value.getJobModifyIndex());
+        g.writeBooleanField("JobStopped", value.getJobStopped());
+        writeValue(g, provider, "TaskGroups", value.getTaskGroups());
+    }
+}
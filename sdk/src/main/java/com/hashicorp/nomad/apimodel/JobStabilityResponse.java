@@ -26,6 +26,38 @@ public final class JobStabilityResponse extends ApiObject {
         return this;
     }
 
+    @Override
+    public JobStabilityResponse deepCopy() {
+        final JobStabilityResponse copy = new JobStabilityResponse();
+        copy.jobModifyIndex = this.jobModifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final JobStabilityResponse that = (JobStabilityResponse) o;
+        return java.util.Objects.equals(this.jobModifyIndex, that.jobModifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.jobModifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.jobModifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
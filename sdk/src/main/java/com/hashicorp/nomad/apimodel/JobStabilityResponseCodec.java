@@ -0,0 +1,45 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * This is a generated codec that reads and writes {@link JobStabilityResponse}
+ * directly from and to JSON tokens.
+ */
+public final class JobStabilityResponseCodec extends ApiObjectCodec<JobStabilityResponse> {
+    public JobStabilityResponseCodec() {
+        super(JobStabilityResponse.class);
+    }
+
+    @Override
+    protected JobStabilityResponse newInstance() {
+        return new JobStabilityResponse();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, JobStabilityResponse value)
+            throws IOException {
+        switch (name) {
+            case "JobModifyIndex":
+                value.setJobModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, JobStabilityResponse value)
+            throws IOException {
+        writeValue(g, provider, "JobModifyIndex", value.getJobModifyIndex());
+    }
+}
@@ -89,6 +89,56 @@ public final class JobSummary extends ApiObject {
         return this;
     }
 
+    @Override
+    public JobSummary deepCopy() {
+        final JobSummary copy = new JobSummary();
+        copy.jobId = this.jobId;
+        copy.namespace = this.namespace;
+        copy.summary = copyOf(this.summary);
+        copy.children = copyOf(this.children);
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final JobSummary that = (JobSummary) o;
+        return java.util.Objects.equals(this.jobId, that.jobId)
+                && java.util.Objects.equals(this.namespace, that.namespace)
+                && java.util.Objects.equals(this.summary, that.summary)
+                && java.util.Objects.equals(this.children, that.children)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.jobId);
+        result = 31 * result + java.util.Objects.hashCode(this.namespace);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.jobId);
+        hash = hashOf(hash, this.namespace);
+        hash = hashOf(hash, this.summary);
+        hash = hashOf(hash, this.children);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,72 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link JobSummary}
+ * directly from and to JSON tokens.
+ */
+public final class JobSummaryCodec extends ApiObjectCodec<JobSummary> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType SUMMARY =
+            TYPES.constructMapType(Map.class, String.class, TaskGroupSummary.class);
+
+    public JobSummaryCodec() {
+        super(JobSummary.class);
+    }
+
+    @Override
+    protected JobSummary newInstance() {
+        return new JobSummary();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, JobSummary value)
+            throws IOException {
+        switch (name) {
+            case "JobID":
+                value.setJobId(readInternedString(p, ctxt));
+                return true;
+            case "Namespace":
+                value.setNamespace(readInternedString(p, ctxt));
+                return true;
+            case "Summary":
+                value.setSummary(readValue(p, ctxt, SUMMARY));
+                return true;
+            case "Children":
+                value.setChildren(readValue(p, ctxt, JobChildrenSummary.class));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, JobSummary value)
+            throws IOException {
+        g.writeStringField("JobID", value.getJobId());
+        g.writeStringField("Namespace", value.getNamespace());
+        writeValue(g, provider, "Summary", value.getSummary());
+        writeValue(g, provider, "Children", value.getChildren());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
@@ -66,6 +66,49 @@ public final class JobValidateResponse extends ApiObject {
         return this;
     }
 
+    @Override
+    public JobValidateResponse deepCopy() {
+        final JobValidateResponse copy = new JobValidateResponse();
+        copy.driverConfigValidated = this.driverConfigValidated;
+        copy.validationErrors = copyOf(this.validationErrors);
+        copy.error = this.error;
+        copy.warnings = this.warnings;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final JobValidateResponse that = (JobValidateResponse) o;
+        return this.driverConfigValidated == that.driverConfigValidated
+                && java.util.Objects.equals(this.validationErrors, that.validationErrors)
+                && java.util.Objects.equals(this.error, that.error)
+                && java.util.Objects.equals(this.warnings, that.warnings)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Boolean.hashCode(this.driverConfigValidated);
+        result = 31 * result + java.util.Objects.hashCode(this.error);
+        result = 31 * result + java.util.Objects.hashCode(this.warnings);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.driverConfigValidated);
+        hash = hashOf(hash, this.validationErrors);
+        hash = hashOf(hash, this.error);
+        hash = hashOf(hash, this.warnings);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
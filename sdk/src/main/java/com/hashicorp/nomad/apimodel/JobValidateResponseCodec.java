@@ -0,0 +1,63 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link JobValidateResponse}
+ * directly from and to JSON tokens.
+ */
+public final class JobValidateResponseCodec extends ApiObjectCodec<JobValidateResponse> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType VALIDATION_ERRORS =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public JobValidateResponseCodec() {
+        super(JobValidateResponse.class);
+    }
+
+    @Override
+    protected JobValidateResponse newInstance() {
+        return new JobValidateResponse();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, JobValidateResponse value)
+            throws IOException {
+        switch (name) {
+            case "DriverConfigValidated":
+                value.setDriverConfigValidated(readBoolean(p, ctxt));
+                return true;
+            case "ValidationErrors":
+                value.setValidationErrors(readValue(p, ctxt, VALIDATION_ERRORS));
+                return true;
+            case "Error":
+                value.setError(readString(p, ctxt));
+                return true;
+            case "Warnings":
+                value.setWarnings(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, JobValidateResponse value)
+            throws IOException {
+        g.writeBooleanField("DriverConfigValidated", value.getDriverConfigValidated());
+        writeValue(g, provider, "ValidationErrors", value.getValidationErrors());
+        g.writeStringField("Error", value.getError());
+        g.writeStringField("Warnings", value.getWarnings());
+    }
+}
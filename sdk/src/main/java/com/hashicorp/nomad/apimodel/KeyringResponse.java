@@ -62,6 +62,44 @@ public final class KeyringResponse extends ApiObject {
         return this;
     }
 
+    @Override
+    public KeyringResponse deepCopy() {
+        final KeyringResponse copy = new KeyringResponse();
+        copy.messages = copyOf(this.messages);
+        copy.keys = copyOf(this.keys);
+        copy.numNodes = this.numNodes;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final KeyringResponse that = (KeyringResponse) o;
+        return java.util.Objects.equals(this.messages, that.messages)
+                && java.util.Objects.equals(this.keys, that.keys)
+                && this.numNodes == that.numNodes
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + this.numNodes;
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.messages);
+        hash = hashOf(hash, this.keys);
+        hash = hashOf(hash, this.numNodes);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,61 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link KeyringResponse}
+ * directly from and to JSON tokens.
+ */
+public final class KeyringResponseCodec extends ApiObjectCodec<KeyringResponse> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType MESSAGES =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+    private static final JavaType KEYS =
+            TYPES.constructMapType(Map.class, String.class, Integer.class);
+
+    public KeyringResponseCodec() {
+        super(KeyringResponse.class);
+    }
+
+    @Override
+    protected KeyringResponse newInstance() {
+        return new KeyringResponse();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, KeyringResponse value)
+            throws IOException {
+        switch (name) {
+            case "Messages":
+                value.setMessages(readValue(p, ctxt, MESSAGES));
+                return true;
+            case "Keys":
+                value.setKeys(readValue(p, ctxt, KEYS));
+                return true;
+            case "NumNodes":
+                value.setNumNodes(readInt(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, KeyringResponse value)
+            throws IOException {
+        writeValue(g, provider, "Messages", value.getMessages());
+        writeValue(g, provider, "Keys", value.getKeys());
+        g.writeNumberField("NumNodes", value.getNumNodes());
+    }
+}
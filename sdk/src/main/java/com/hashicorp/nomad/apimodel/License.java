@@ -160,6 +160,71 @@ public final class License extends ApiObject {
         return this;
     }
 
+    @Override
+    public License deepCopy() {
+        final License copy = new License();
+        copy.licenseId = this.licenseId;
+        copy.customerId = this.customerId;
+        copy.installationId = this.installationId;
+        copy.issueTime = copyOf(this.issueTime);
+        copy.startTime = copyOf(this.startTime);
+        copy.expirationTime = copyOf(this.expirationTime);
+        copy.terminationTime = copyOf(this.terminationTime);
+        copy.product = this.product;
+        copy.flags = copyOf(this.flags);
+        copy.modules = copyOf(this.modules);
+        copy.features = copyOf(this.features);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final License that = (License) o;
+        return java.util.Objects.equals(this.licenseId, that.licenseId)
+                && java.util.Objects.equals(this.customerId, that.customerId)
+                && java.util.Objects.equals(this.installationId, that.installationId)
+                && java.util.Objects.equals(this.issueTime, that.issueTime)
+                && java.util.Objects.equals(this.startTime, that.startTime)
+                && java.util.Objects.equals(this.expirationTime, that.expirationTime)
+                && java.util.Objects.equals(this.terminationTime, that.terminationTime)
+                && java.util.Objects.equals(this.product, that.product)
+                && java.util.Objects.equals(this.flags, that.flags)
+                && java.util.Objects.equals(this.modules, that.modules)
+                && java.util.Objects.equals(this.features, that.features)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.licenseId);
+        result = 31 * result + java.util.Objects.hashCode(this.customerId);
+        result = 31 * result + java.util.Objects.hashCode(this.installationId);
+        result = 31 * result + java.util.Objects.hashCode(this.product);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.licenseId);
+        hash = hashOf(hash, this.customerId);
+        hash = hashOf(hash, this.installationId);
+        hash = hashOf(hash, this.issueTime);
+        hash = hashOf(hash, this.startTime);
+        hash = hashOf(hash, this.expirationTime);
+        hash = hashOf(hash, this.terminationTime);
+        hash = hashOf(hash, this.product);
+        hash = hashOf(hash, this.flags);
+        hash = hashOf(hash, this.modules);
+        hash = hashOf(hash, this.features);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,97 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link License}
+ * directly from and to JSON tokens.
+ */
+public final class LicenseCodec extends ApiObjectCodec<License> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType FLAGS =
+            TYPES.constructMapType(Map.class, String.class, Object.class);
+    private static final JavaType MODULES =
+            TYPES.constructCollectionType(List.class, String.class);
+    private static final JavaType FEATURES =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public LicenseCodec() {
+        super(License.class);
+    }
+
+    @Override
+    protected License newInstance() {
+        return new License();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, License value)
+            throws IOException {
+        switch (name) {
+            case "LicenseID":
+                value.setLicenseId(readString(p, ctxt));
+                return true;
+            case "CustomerID":
+                value.setCustomerId(readString(p, ctxt));
+                return true;
+            case "InstallationID":
+                value.setInstallationId(readString(p, ctxt));
+                return true;
+            case "IssueTime":
+                value.setIssueTime(readValue(p, ctxt, Date.class));
+                return true;
+            case "StartTime":
+                value.setStartTime(readValue(p, ctxt, Date.class));
+                return true;
+            case "ExpirationTime":
+                value.setExpirationTime(readValue(p, ctxt, Date.class));
+                return true;
+            case "TerminationTime":
+                value.setTerminationTime(readValue(p, ctxt, Date.class));
+                return true;
+            case "Product":
+                value.setProduct(readString(p, ctxt));
+                return true;
+            case "Flags":
+                value.setFlags(readValue(p, ctxt, FLAGS));
+                return true;
+            case "Modules":
+                value.setModules(readValue(p, ctxt, MODULES));
+                return true;
+            case "Features":
+                value.setFeatures(readValue(p, ctxt, FEATURES));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, License value)
+            throws IOException {
+        g.writeStringField("LicenseID", value.getLicenseId());
+        g.writeStringField("CustomerID", value.getCustomerId());
+        g.writeStringField("InstallationID", value.getInstallationId());
+        writeValue(g, provider, "IssueTime", value.getIssueTime());
+        writeValue(g, provider, "StartTime", value.getStartTime());
+        writeValue(g, provider, "ExpirationTime", value.getExpirationTime());
+        writeValue(g, provider, "TerminationTime", value.getTerminationTime());
+        g.writeStringField("Product", value.getProduct());
+        writeValue(g, provider, "Flags", value.getFlags());
+        writeValue(g, provider, "Modules", value.getModules());
+        writeValue(g, provider, "Features", value.getFeatures());
+    }
+}
@@ -25,6 +25,36 @@ public final class LicenseReply extends ApiObject {
         return this;
     }
 
+    @Override
+    public LicenseReply deepCopy() {
+        final LicenseReply copy = new LicenseReply();
+        copy.license = copyOf(this.license);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final LicenseReply that = (LicenseReply) o;
+        return java.util.Objects.equals(this.license, that.license)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.license);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
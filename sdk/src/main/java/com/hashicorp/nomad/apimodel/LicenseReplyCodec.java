@@ -0,0 +1,44 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link LicenseReply}
+ * directly from and to JSON tokens.
+ */
+public final class LicenseReplyCodec extends ApiObjectCodec<LicenseReply> {
+    public LicenseReplyCodec() {
+        super(LicenseReply.class);
+    }
+
+    @Override
+    protected LicenseReply newInstance() {
+        return new LicenseReply();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, LicenseReply value)
+            throws IOException {
+        switch (name) {
+            case "License":
+                value.setLicense(readValue(p, ctxt, License.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, LicenseReply value)
+            throws IOException {
+        writeValue(g, provider, "License", value.getLicense());
+    }
+}
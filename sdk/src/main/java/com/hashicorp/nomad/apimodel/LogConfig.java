@@ -36,6 +36,42 @@ public final class LogConfig extends ApiObject {
         return this;
     }
 
+    @Override
+    public LogConfig deepCopy() {
+        final LogConfig copy = new LogConfig();
+        copy.maxFiles = this.maxFiles;
+        copy.maxFileSizeMb = this.maxFileSizeMb;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final LogConfig that = (LogConfig) o;
+        return java.util.Objects.equals(this.maxFiles, that.maxFiles)
+                && java.util.Objects.equals(this.maxFileSizeMb, that.maxFileSizeMb)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.maxFiles);
+        result = 31 * result + java.util.Objects.hashCode(this.maxFileSizeMb);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.maxFiles);
+        hash = hashOf(hash, this.maxFileSizeMb);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,48 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link LogConfig}
+ * directly from and to JSON tokens.
+ */
+public final class LogConfigCodec extends ApiObjectCodec<LogConfig> {
+    public LogConfigCodec() {
+        super(LogConfig.class);
+    }
+
+    @Override
+    protected LogConfig newInstance() {
+        return new LogConfig();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, LogConfig value)
+            throws IOException {
+        switch (name) {
+            case "MaxFiles":
+                value.setMaxFiles(readValue(p, ctxt, Integer.class));
+                return true;
+            case "MaxFileSizeMB":
+                value.setMaxFileSizeMb(readValue(p, ctxt, Integer.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, LogConfig value)
+            throws IOException {
+        writeValue(g, provider, "MaxFiles", value.getMaxFiles());
+        writeValue(g, provider, "MaxFileSizeMB", value.getMaxFileSizeMb());
+    }
+}
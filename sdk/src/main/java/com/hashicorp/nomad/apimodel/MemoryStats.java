@@ -111,6 +111,65 @@ public final class MemoryStats extends ApiObject {
         return this;
     }
 
+    @Override
+    public MemoryStats deepCopy() {
+        final MemoryStats copy = new MemoryStats();
+        copy.rss = this.rss;
+        copy.cache = this.cache;
+        copy.swap = this.swap;
+        copy.usage = this.usage;
+        copy.maxUsage = this.maxUsage;
+        copy.kernelUsage = this.kernelUsage;
+        copy.kernelMaxUsage = this.kernelMaxUsage;
+        copy.measured = copyOf(this.measured);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final MemoryStats that = (MemoryStats) o;
+        return java.util.Objects.equals(this.rss, that.rss)
+                && java.util.Objects.equals(this.cache, that.cache)
+                && java.util.Objects.equals(this.swap, that.swap)
+                && java.util.Objects.equals(this.usage, that.usage)
+                && java.util.Objects.equals(this.maxUsage, that.maxUsage)
+                && java.util.Objects.equals(this.kernelUsage, that.kernelUsage)
+                && java.util.Objects.equals(this.kernelMaxUsage, that.kernelMaxUsage)
+                && java.util.Objects.equals(this.measured, that.measured)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.rss);
+        result = 31 * result + java.util.Objects.hashCode(this.cache);
+        result = 31 * result + java.util.Objects.hashCode(this.swap);
+        result = 31 * result + java.util.Objects.hashCode(this.usage);
+        result = 31 * result + java.util.Objects.hashCode(this.maxUsage);
+        result = 31 * result + java.util.Objects.hashCode(this.kernelUsage);
+        result = 31 * result + java.util.Objects.hashCode(this.kernelMaxUsage);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.rss);
+        hash = hashOf(hash, this.cache);
+        hash = hashOf(hash, this.swap);
+        hash = hashOf(hash, this.usage);
+        hash = hashOf(hash, this.maxUsage);
+        hash = hashOf(hash, this.kernelUsage);
+        hash = hashOf(hash, this.kernelMaxUsage);
+        hash = hashOf(hash, this.measured);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,80 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link MemoryStats}
+ * directly from and to JSON tokens.
+ */
+public final class MemoryStatsCodec extends ApiObjectCodec<MemoryStats> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType MEASURED =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public MemoryStatsCodec() {
+        super(MemoryStats.class);
+    }
+
+    @Override
+    protected MemoryStats newInstance() {
+        return new MemoryStats();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, MemoryStats value)
+            throws IOException {
+        switch (name) {
+            case "RSS":
+                value.setRss(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Cache":
+                value.setCache(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Swap":
+                value.setSwap(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Usage":
+                value.setUsage(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "MaxUsage":
+                value.setMaxUsage(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "KernelUsage":
+                value.setKernelUsage(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "KernelMaxUsage":
+                value.setKernelMaxUsage(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Measured":
+                value.setMeasured(readValue(p, ctxt, MEASURED));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, MemoryStats value)
+            throws IOException {
+        writeValue(g, provider, "RSS", value.getRss());
+        writeValue(g, provider, "Cache", value.getCache());
+        writeValue(g, provider, "Swap", value.getSwap());
+        writeValue(g, provider, "Usage", value.getUsage());
+        writeValue(g, provider, "MaxUsage", value.getMaxUsage());
+        writeValue(g, provider, "KernelUsage", value.getKernelUsage());
+        writeValue(g, provider, "KernelMaxUsage", value.getKernelMaxUsage());
+        writeValue(g, provider, "Measured", value.getMeasured());
+    }
+}
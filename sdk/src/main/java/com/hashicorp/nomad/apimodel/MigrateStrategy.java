@@ -58,6 +58,50 @@ public final class MigrateStrategy extends ApiObject {
         return this;
     }
 
+    @Override
+    public MigrateStrategy deepCopy() {
+        final MigrateStrategy copy = new MigrateStrategy();
+        copy.maxParallel = this.maxParallel;
+        copy.healthCheck = this.healthCheck;
+        copy.minHealthyTime = this.minHealthyTime;
+        copy.healthyDeadline = this.healthyDeadline;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final MigrateStrategy that = (MigrateStrategy) o;
+        return java.util.Objects.equals(this.maxParallel, that.maxParallel)
+                && java.util.Objects.equals(this.healthCheck, that.healthCheck)
+                && java.util.Objects.equals(this.minHealthyTime, that.minHealthyTime)
+                && java.util.Objects.equals(this.healthyDeadline, that.healthyDeadline)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.maxParallel);
+        result = 31 * result + java.util.Objects.hashCode(this.healthCheck);
+        result = 31 * result + java.util.Objects.hashCode(this.minHealthyTime);
+        result = 31 * result + java.util.Objects.hashCode(this.healthyDeadline);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.maxParallel);
+        hash = hashOf(hash, this.healthCheck);
+        hash = hashOf(hash, this.minHealthyTime);
+        hash = hashOf(hash, this.healthyDeadline);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,56 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link MigrateStrategy}
+ * directly from and to JSON tokens.
+ */
+public final class MigrateStrategyCodec extends ApiObjectCodec<MigrateStrategy> {
+    public MigrateStrategyCodec() {
+        super(MigrateStrategy.class);
+    }
+
+    @Override
+    protected MigrateStrategy newInstance() {
+        return new MigrateStrategy();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, MigrateStrategy value)
+            throws IOException {
+        switch (name) {
+            case "MaxParallel":
+                value.setMaxParallel(readValue(p, ctxt, Integer.class));
+                return true;
+            case "HealthCheck":
+                value.setHealthCheck(readString(p, ctxt));
+                return true;
+            case "MinHealthyTime":
+                value.setMinHealthyTime(readValue(p, ctxt, Long.class));
+                return true;
+            case "HealthyDeadline":
+                value.setHealthyDeadline(readValue(p, ctxt, Long.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, MigrateStrategy value)
+            throws IOException {
+        writeValue(g, provider, "MaxParallel", value.getMaxParallel());
+        g.writeStringField("HealthCheck", value.getHealthCheck());
+        writeValue(g, provider, "MinHealthyTime", value.getMinHealthyTime());
+        writeValue(g, provider, "HealthyDeadline", value.getHealthyDeadline());
+    }
+}
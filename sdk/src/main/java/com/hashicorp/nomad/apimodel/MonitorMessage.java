@@ -36,6 +36,42 @@ public final class MonitorMessage extends ApiObject {
         return this;
     }
 
+    @Override
+    public MonitorMessage deepCopy() {
+        final MonitorMessage copy = new MonitorMessage();
+        copy.level = this.level;
+        copy.message = this.message;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final MonitorMessage that = (MonitorMessage) o;
+        return java.util.Objects.equals(this.level, that.level)
+                && java.util.Objects.equals(this.message, that.message)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.level);
+        result = 31 * result + java.util.Objects.hashCode(this.message);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.level);
+        hash = hashOf(hash, this.message);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,48 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link MonitorMessage}
+ * directly from and to JSON tokens.
+ */
+public final class MonitorMessageCodec extends ApiObjectCodec<MonitorMessage> {
+    public MonitorMessageCodec() {
+        super(MonitorMessage.class);
+    }
+
+    @Override
+    protected MonitorMessage newInstance() {
+        return new MonitorMessage();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, MonitorMessage value)
+            throws IOException {
+        switch (name) {
+            case "Level":
+                value.setLevel(readValue(p, ctxt, Integer.class));
+                return true;
+            case "Message":
+                value.setMessage(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, MonitorMessage value)
+            throws IOException {
+        writeValue(g, provider, "Level", value.getLevel());
+        g.writeStringField("Message", value.getMessage());
+    }
+}
@@ -107,6 +107,60 @@ public final class NetworkResource extends ApiObject {
         return this;
     }
 
+    @Override
+    public NetworkResource deepCopy() {
+        final NetworkResource copy = new NetworkResource();
+        copy.mode = this.mode;
+        copy.device = this.device;
+        copy.cidr = this.cidr;
+        copy.ip = this.ip;
+        copy.mBits = this.mBits;
+        copy.reservedPorts = copyOf(this.reservedPorts);
+        copy.dynamicPorts = copyOf(this.dynamicPorts);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NetworkResource that = (NetworkResource) o;
+        return java.util.Objects.equals(this.mode, that.mode)
+                && java.util.Objects.equals(this.device, that.device)
+                && java.util.Objects.equals(this.cidr, that.cidr)
+                && java.util.Objects.equals(this.ip, that.ip)
+                && java.util.Objects.equals(this.mBits, that.mBits)
+                && java.util.Objects.equals(this.reservedPorts, that.reservedPorts)
+                && java.util.Objects.equals(this.dynamicPorts, that.dynamicPorts)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.mode);
+        result = 31 * result + java.util.Objects.hashCode(this.device);
+        result = 31 * result + java.util.Objects.hashCode(this.cidr);
+        result = 31 * result + java.util.Objects.hashCode(this.ip);
+        result = 31 * result + java.util.Objects.hashCode(this.mBits);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.mode);
+        hash = hashOf(hash, this.device);
+        hash = hashOf(hash, this.cidr);
+        hash = hashOf(hash, this.ip);
+        hash = hashOf(hash, this.mBits);
+        hash = hashOf(hash, this.reservedPorts);
+        hash = hashOf(hash, this.dynamicPorts);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,77 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link NetworkResource}
+ * directly from and to JSON tokens.
+ */
+public final class NetworkResourceCodec extends ApiObjectCodec<NetworkResource> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType RESERVED_PORTS =
+            TYPES.constructCollectionType(List.class, Port.class);
+    private static final JavaType DYNAMIC_PORTS =
+            TYPES.constructCollectionType(List.class, Port.class);
+
+    public NetworkResourceCodec() {
+        super(NetworkResource.class);
+    }
+
+    @Override
+    protected NetworkResource newInstance() {
+        return new NetworkResource();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NetworkResource value)
+            throws IOException {
+        switch (name) {
+            case "Mode":
+                value.setMode(readString(p, ctxt));
+                return true;
+            case "Device":
+                value.setDevice(readString(p, ctxt));
+                return true;
+            case "CIDR":
+                value.setCidr(readString(p, ctxt));
+                return true;
+            case "IP":
+                value.setIp(readString(p, ctxt));
+                return true;
+            case "MBits":
+                value.setMBits(readValue(p, ctxt, Integer.class));
+                return true;
+            case "ReservedPorts":
+                value.setReservedPorts(readValue(p, ctxt, RESERVED_PORTS));
+                return true;
+            case "DynamicPorts":
+                value.setDynamicPorts(readValue(p, ctxt, DYNAMIC_PORTS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NetworkResource value)
+            throws IOException {
+        g.writeStringField("Mode", value.getMode());
+        g.writeStringField("Device", value.getDevice());
+        g.writeStringField("CIDR", value.getCidr());
+        g.writeStringField("IP", value.getIp());
+        writeValue(g, provider, "MBits", value.getMBits());
+        writeValue(g, provider, "ReservedPorts", value.getReservedPorts());
+        writeValue(g, provider, "DynamicPorts", value.getDynamicPorts());
+    }
+}
@@ -359,6 +359,125 @@ public final class Node extends ApiObject {
         return this;
     }
 
+    @Override
+    public Node deepCopy() {
+        final Node copy = new Node();
+        copy.id = this.id;
+        copy.datacenter = this.datacenter;
+        copy.name = this.name;
+        copy.httpAddr = this.httpAddr;
+        copy.tlsEnabled = this.tlsEnabled;
+        copy.attributes = copyOf(this.attributes);
+        copy.resources = copyOf(this.resources);
+        copy.reserved = copyOf(this.reserved);
+        copy.nodeResources = copyOf(this.nodeResources);
+        copy.reservedResources = copyOf(this.reservedResources);
+        copy.links = copyOf(this.links);
+        copy.meta = copyOf(this.meta);
+        copy.nodeClass = this.nodeClass;
+        copy.drain = this.drain;
+        copy.drainStrategy = copyOf(this.drainStrategy);
+        copy.schedulingEligibility = this.schedulingEligibility;
+        copy.status = this.status;
+        copy.statusDescription = this.statusDescription;
+        copy.statusUpdatedAt = this.statusUpdatedAt;
+        copy.events = copyOf(this.events);
+        copy.drivers = copyOf(this.drivers);
+        copy.hostVolumes = copyOf(this.hostVolumes);
+        copy.csiControllerPlugins = copyOf(this.csiControllerPlugins);
+        copy.csiNodePlugins = copyOf(this.csiNodePlugins);
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Node that = (Node) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.datacenter, that.datacenter)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.httpAddr, that.httpAddr)
+                && this.tlsEnabled == that.tlsEnabled
+                && java.util.Objects.equals(this.attributes, that.attributes)
+                && java.util.Objects.equals(this.resources, that.resources)
+                && java.util.Objects.equals(this.reserved, that.reserved)
+                && java.util.Objects.equals(this.nodeResources, that.nodeResources)
+                && java.util.Objects.equals(this.reservedResources, that.reservedResources)
+                && java.util.Objects.equals(this.links, that.links)
+                && java.util.Objects.equals(this.meta, that.meta)
+                && java.util.Objects.equals(this.nodeClass, that.nodeClass)
+                && this.drain == that.drain
+                && java.util.Objects.equals(this.drainStrategy, that.drainStrategy)
+                && java.util.Objects.equals(this.schedulingEligibility, that.schedulingEligibility)
+                && java.util.Objects.equals(this.status, that.status)
+                && java.util.Objects.equals(this.statusDescription, that.statusDescription)
+                && this.statusUpdatedAt == that.statusUpdatedAt
+                && java.util.Objects.equals(this.events, that.events)
+                && java.util.Objects.equals(this.drivers, that.drivers)
+                && java.util.Objects.equals(this.hostVolumes, that.hostVolumes)
+                && java.util.Objects.equals(this.csiControllerPlugins, that.csiControllerPlugins)
+                && java.util.Objects.equals(this.csiNodePlugins, that.csiNodePlugins)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.datacenter);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.httpAddr);
+        result = 31 * result + Boolean.hashCode(this.tlsEnabled);
+        result = 31 * result + java.util.Objects.hashCode(this.nodeClass);
+        result = 31 * result + Boolean.hashCode(this.drain);
+        result = 31 * result + java.util.Objects.hashCode(this.schedulingEligibility);
+        result = 31 * result + java.util.Objects.hashCode(this.status);
+        result = 31 * result + java.util.Objects.hashCode(this.statusDescription);
+        result = 31 * result + Long.hashCode(this.statusUpdatedAt);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.datacenter);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.httpAddr);
+        hash = hashOf(hash, this.tlsEnabled);
+        hash = hashOf(hash, this.attributes);
+        hash = hashOf(hash, this.resources);
+        hash = hashOf(hash, this.reserved);
+        hash = hashOf(hash, this.nodeResources);
+        hash = hashOf(hash, this.reservedResources);
+        hash = hashOf(hash, this.links);
+        hash = hashOf(hash, this.meta);
+        hash = hashOf(hash, this.nodeClass);
+        hash = hashOf(hash, this.drain);
+        hash = hashOf(hash, this.drainStrategy);
+        hash = hashOf(hash, this.schedulingEligibility);
+        hash = hashOf(hash, this.status);
+        hash = hashOf(hash, this.statusDescription);
+        hash = hashOf(hash, this.statusUpdatedAt);
+        hash = hashOf(hash, this.events);
+        hash = hashOf(hash, this.drivers);
+        hash = hashOf(hash, this.hostVolumes);
+        hash = hashOf(hash, this.csiControllerPlugins);
+        hash = hashOf(hash, this.csiNodePlugins);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
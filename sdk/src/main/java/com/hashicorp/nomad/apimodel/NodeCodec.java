@@ -0,0 +1,167 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link Node}
+ * directly from and to JSON tokens.
+ */
+public final class NodeCodec extends ApiObjectCodec<Node> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType ATTRIBUTES =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+    private static final JavaType LINKS =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+    private static final JavaType META =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+    private static final JavaType EVENTS =
+            TYPES.constructCollectionType(List.class, NodeEvent.class);
+    private static final JavaType DRIVERS =
+            TYPES.constructMapType(Map.class, String.class, DriverInfo.class);
+    private static final JavaType HOST_VOLUMES =
+            TYPES.constructMapType(Map.class, String.class, HostVolumeInfo.class);
+    private static final JavaType CSI_CONTROLLER_PLUGINS =
+            TYPES.constructMapType(Map.class, String.class, CsiInfo.class);
+    private static final JavaType CSI_NODE_PLUGINS =
+            TYPES.constructMapType(Map.class, String.class, CsiInfo.class);
+
+    public NodeCodec() {
+        super(Node.class);
+    }
+
+    @Override
+    protected Node newInstance() {
+        return new Node();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, Node value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Datacenter":
+                value.setDatacenter(readInternedString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "HTTPAddr":
+                value.setHttpAddr(readString(p, ctxt));
+                return true;
+            case "TLSEnabled":
+                value.setTlsEnabled(readBoolean(p, ctxt));
+                return true;
+            case "Attributes":
+                value.setAttributes(readValue(p, ctxt, ATTRIBUTES));
+                return true;
+            case "Resources":
+                value.setResources(readValue(p, ctxt, Resources.class));
+                return true;
+            case "Reserved":
+                value.setReserved(readValue(p, ctxt, Resources.class));
+                return true;
+            case "NodeResources":
+                value.setNodeResources(readValue(p, ctxt, NodeResources.class));
+                return true;
+            case "ReservedResources":
+                value.setReservedResources(readValue(p, ctxt, NodeReservedResources.class));
+                return true;
+            case "Links":
+                value.setLinks(readValue(p, ctxt, LINKS));
+                return true;
+            case "Meta":
+                value.setMeta(readValue(p, ctxt, META));
+                return true;
+            case "NodeClass":
+                value.setNodeClass(readInternedString(p, ctxt));
+                return true;
+            case "Drain":
+                value.setDrain(readBoolean(p, ctxt));
+                return true;
+            case "DrainStrategy":
+                value.setDrainStrategy(readValue(p, ctxt, DrainStrategy.class));
+                return true;
+            case "SchedulingEligibility":
+                value.setSchedulingEligibility(readInternedString(p, ctxt));
+                return true;
+            case "Status":
+                value.setStatus(readInternedString(p, ctxt));
+                return true;
+            case "StatusDescription":
+                value.setStatusDescription(readString(p, ctxt));
+                return true;
+            case "StatusUpdatedAt":
+                value.setStatusUpdatedAt(readLong(p, ctxt));
+                return true;
+            case "Events":
+                value.setEvents(readValue(p, ctxt, EVENTS));
+                return true;
+            case "Drivers":
+                value.setDrivers(readValue(p, ctxt, DRIVERS));
+                return true;
+            case "HostVolumes":
+                value.setHostVolumes(readValue(p, ctxt, HOST_VOLUMES));
+                return true;
+            case "CSIControllerPlugins":
+                value.setCsiControllerPlugins(readValue(p, ctxt, CSI_CONTROLLER_PLUGINS));
+                return true;
+            case "CSINodePlugins":
+                value.setCsiNodePlugins(readValue(p, ctxt, CSI_NODE_PLUGINS));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, Node value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeStringField("Datacenter", value.getDatacenter());
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("HTTPAddr", value.getHttpAddr());
+        g.writeBooleanField("TLSEnabled", value.getTlsEnabled());
+        writeValue(g, provider, "Attributes", value.getAttributes());
+        writeValue(g, provider, "Resources", value.getResources());
+        writeValue(g, provider, "Reserved", value.getReserved());
+        writeValue(g, provider, "NodeResources", value.getNodeResources());
+        writeValue(g, provider, "ReservedResources", value.getReservedResources());
+        writeValue(g, provider, "Links", value.getLinks());
+        writeValue(g, provider, "Meta", value.getMeta());
+        g.writeStringField("NodeClass", value.getNodeClass());
+        g.writeBooleanField("Drain", value.getDrain());
+        writeValue(g, provider, "DrainStrategy", value.getDrainStrategy());
+        g.writeStringField("SchedulingEligibility", value.getSchedulingEligibility());
+        g.writeStringField("Status", value.getStatus());
+        g.writeStringField("StatusDescription", value.getStatusDescription());
+        g.writeNumberField("StatusUpdatedAt", value.getStatusUpdatedAt());
+        writeValue(g, provider, "Events", value.getEvents());
+        writeValue(g, provider, "Drivers", value.getDrivers());
+        writeValue(g, provider, "HostVolumes", value.getHostVolumes());
+        writeValue(g, provider, "CSIControllerPlugins", value.getCsiControllerPlugins());
+        writeValue(g, provider, "CSINodePlugins", value.getCsiNodePlugins());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
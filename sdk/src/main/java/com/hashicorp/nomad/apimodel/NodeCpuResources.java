@@ -25,6 +25,38 @@ public final class NodeCpuResources extends ApiObject {
         return this;
     }
 
+    @Override
+    public NodeCpuResources deepCopy() {
+        final NodeCpuResources copy = new NodeCpuResources();
+        copy.cpuShares = this.cpuShares;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NodeCpuResources that = (NodeCpuResources) o;
+        return this.cpuShares == that.cpuShares
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Long.hashCode(this.cpuShares);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.cpuShares);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,44 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeCpuResources}
+ * directly from and to JSON tokens.
+ */
+public final class NodeCpuResourcesCodec extends ApiObjectCodec<NodeCpuResources> {
+    public NodeCpuResourcesCodec() {
+        super(NodeCpuResources.class);
+    }
+
+    @Override
+    protected NodeCpuResources newInstance() {
+        return new NodeCpuResources();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeCpuResources value)
+            throws IOException {
+        switch (name) {
+            case "CpuShares":
+                value.setCpuShares(readLong(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeCpuResources value)
+            throws IOException {
+        g.writeNumberField("CpuShares", value.getCpuShares());
+    }
+}
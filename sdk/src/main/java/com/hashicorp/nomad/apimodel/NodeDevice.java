@@ -58,6 +58,49 @@ public final class NodeDevice extends ApiObject {
         return this;
     }
 
+    @Override
+    public NodeDevice deepCopy() {
+        final NodeDevice copy = new NodeDevice();
+        copy.id = this.id;
+        copy.healthy = this.healthy;
+        copy.healthDescription = this.healthDescription;
+        copy.locality = copyOf(this.locality);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NodeDevice that = (NodeDevice) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && this.healthy == that.healthy
+                && java.util.Objects.equals(this.healthDescription, that.healthDescription)
+                && java.util.Objects.equals(this.locality, that.locality)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + Boolean.hashCode(this.healthy);
+        result = 31 * result + java.util.Objects.hashCode(this.healthDescription);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.healthy);
+        hash = hashOf(hash, this.healthDescription);
+        hash = hashOf(hash, this.locality);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
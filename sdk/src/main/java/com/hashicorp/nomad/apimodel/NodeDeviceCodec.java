@@ -0,0 +1,56 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeDevice}
+ * directly from and to JSON tokens.
+ */
+public final class NodeDeviceCodec extends ApiObjectCodec<NodeDevice> {
+    public NodeDeviceCodec() {
+        super(NodeDevice.class);
+    }
+
+    @Override
+    protected NodeDevice newInstance() {
+        return new NodeDevice();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeDevice value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Healthy":
+                value.setHealthy(readBoolean(p, ctxt));
+                return true;
+            case "HealthDescription":
+                value.setHealthDescription(readString(p, ctxt));
+                return true;
+            case "Locality":
+                value.setLocality(readValue(p, ctxt, NodeDeviceLocality.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeDevice value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeBooleanField("Healthy", value.getHealthy());
+        g.writeStringField("HealthDescription", value.getHealthDescription());
+        writeValue(g, provider, "Locality", value.getLocality());
+    }
+}
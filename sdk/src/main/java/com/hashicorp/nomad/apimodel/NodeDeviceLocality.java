@@ -25,6 +25,38 @@ public final class NodeDeviceLocality extends ApiObject {
         return this;
     }
 
+    @Override
+    public NodeDeviceLocality deepCopy() {
+        final NodeDeviceLocality copy = new NodeDeviceLocality();
+        copy.pciBusId = this.pciBusId;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NodeDeviceLocality that = (NodeDeviceLocality) o;
+        return java.util.Objects.equals(this.pciBusId, that.pciBusId)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.pciBusId);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.pciBusId);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,44 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeDeviceLocality}
+ * directly from and to JSON tokens.
+ */
+public final class NodeDeviceLocalityCodec extends ApiObjectCodec<NodeDeviceLocality> {
+    public NodeDeviceLocalityCodec() {
+        super(NodeDeviceLocality.class);
+    }
+
+    @Override
+    protected NodeDeviceLocality newInstance() {
+        return new NodeDeviceLocality();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeDeviceLocality value)
+            throws IOException {
+        switch (name) {
+            case "PciBusID":
+                value.setPciBusId(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeDeviceLocality value)
+            throws IOException {
+        g.writeStringField("PciBusID", value.getPciBusId());
+    }
+}
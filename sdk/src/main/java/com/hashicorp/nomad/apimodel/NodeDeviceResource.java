@@ -85,6 +85,52 @@ public final class NodeDeviceResource extends ApiObject {
         return this;
     }
 
+    @Override
+    public NodeDeviceResource deepCopy() {
+        final NodeDeviceResource copy = new NodeDeviceResource();
+        copy.vendor = this.vendor;
+        copy.type = this.type;
+        copy.name = this.name;
+        copy.instances = copyOf(this.instances);
+        copy.attributes = copyOf(this.attributes);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NodeDeviceResource that = (NodeDeviceResource) o;
+        return java.util.Objects.equals(this.vendor, that.vendor)
+                && java.util.Objects.equals(this.type, that.type)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.instances, that.instances)
+                && java.util.Objects.equals(this.attributes, that.attributes)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.vendor);
+        result = 31 * result + java.util.Objects.hashCode(this.type);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.vendor);
+        hash = hashOf(hash, this.type);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.instances);
+        hash = hashOf(hash, this.attributes);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,70 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeDeviceResource}
+ * directly from and to JSON tokens.
+ */
+public final class NodeDeviceResourceCodec extends ApiObjectCodec<NodeDeviceResource> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType INSTANCES =
+            TYPES.constructCollectionType(List.class, NodeDevice.class);
+    private static final JavaType ATTRIBUTES =
+            TYPES.constructMapType(Map.class, String.class, Attribute.class);
+
+    public NodeDeviceResourceCodec() {
+        super(NodeDeviceResource.class);
+    }
+
+    @Override
+    protected NodeDeviceResource newInstance() {
+        return new NodeDeviceResource();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeDeviceResource value)
+            throws IOException {
+        switch (name) {
+            case "Vendor":
+                value.setVendor(readString(p, ctxt));
+                return true;
+            case "Type":
+                value.setType(readInternedString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Instances":
+                value.setInstances(readValue(p, ctxt, INSTANCES));
+                return true;
+            case "Attributes":
+                value.setAttributes(readValue(p, ctxt, ATTRIBUTES));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeDeviceResource value)
+            throws IOException {
+        g.writeStringField("Vendor", value.getVendor());
+        g.writeStringField("Type", value.getType());
+        g.writeStringField("Name", value.getName());
+        writeValue(g, provider, "Instances", value.getInstances());
+        writeValue(g, provider, "Attributes", value.getAttributes());
+    }
+}
@@ -25,6 +25,38 @@ public final class NodeDiskResources extends ApiObject {
         return this;
     }
 
+    @Override
+    public NodeDiskResources deepCopy() {
+        final NodeDiskResources copy = new NodeDiskResources();
+        copy.diskMb = this.diskMb;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NodeDiskResources that = (NodeDiskResources) o;
+        return this.diskMb == that.diskMb
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Long.hashCode(this.diskMb);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.diskMb);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
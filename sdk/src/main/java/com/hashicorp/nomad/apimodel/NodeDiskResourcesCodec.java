@@ -0,0 +1,44 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeDiskResources}
+ * directly from and to JSON tokens.
+ */
+public final class NodeDiskResourcesCodec extends ApiObjectCodec<NodeDiskResources> {
+    public NodeDiskResourcesCodec() {
+        super(NodeDiskResources.class);
+    }
+
+    @Override
+    protected NodeDiskResources newInstance() {
+        return new NodeDiskResources();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeDiskResources value)
+            throws IOException {
+        switch (name) {
+            case "DiskMB":
+                value.setDiskMb(readLong(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeDiskResources value)
+            throws IOException {
+        g.writeNumberField("DiskMB", value.getDiskMb());
+    }
+}
@@ -56,6 +56,45 @@ public final class NodeDrainUpdateResponse extends ApiObject {
         return this;
     }
 
+    @Override
+    public NodeDrainUpdateResponse deepCopy() {
+        final NodeDrainUpdateResponse copy = new NodeDrainUpdateResponse();
+        copy.nodeModifyIndex = this.nodeModifyIndex;
+        copy.evalIDs = copyOf(this.evalIDs);
+        copy.evalCreateIndex = this.evalCreateIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NodeDrainUpdateResponse that = (NodeDrainUpdateResponse) o;
+        return java.util.Objects.equals(this.nodeModifyIndex, that.nodeModifyIndex)
+                && java.util.Objects.equals(this.evalIDs, that.evalIDs)
+                && java.util.Objects.equals(this.evalCreateIndex, that.evalCreateIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.nodeModifyIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.evalCreateIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.nodeModifyIndex);
+        hash = hashOf(hash, this.evalIDs);
+        hash = hashOf(hash, this.evalCreateIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
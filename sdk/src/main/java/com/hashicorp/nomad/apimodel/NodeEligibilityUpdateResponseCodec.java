@@ -0,0 +1,60 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeEligibilityUpdateResponse}
+ * directly from and to JSON tokens.
+ */
+public final class NodeEligibilityUpdateResponseCodec extends ApiObjectCodec<NodeEligibilityUpdateResponse> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType EVAL_I_DS =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public NodeEligibilityUpdateResponseCodec() {
+        super(NodeEligibilityUpdateResponse.class);
+    }
+
+    @Override
+    protected NodeEligibilityUpdateResponse newInstance() {
+        return new NodeEligibilityUpdateResponse();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeEligibilityUpdateResponse value)
+            throws IOException {
+        switch (name) {
+            case "NodeModifyIndex":
+                value.setNodeModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "EvalIDs":
+                value.setEvalIDs(readValue(p, ctxt, EVAL_I_DS));
+                return true;
+            case "EvalCreateIndex":
+                value.setEvalCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeEligibilityUpdateResponse value)
+            throws IOException {
+        writeValue(g, provider, "NodeModifyIndex", value.getNodeModifyIndex());
+        writeValue(g, provider, "EvalIDs", value.getEvalIDs());
+        writeValue(g, provider, "EvalCreateIndex", value.getEvalCreateIndex());
+    }
+}
@@ -79,6 +79,52 @@ public final class NodeEvent extends ApiObject {
         return this;
     }
 
+    @Override
+    public NodeEvent deepCopy() {
+        final NodeEvent copy = new NodeEvent();
+        copy.message = this.message;
+        copy.subsystem = this.subsystem;
+        copy.details = copyOf(this.details);
+        copy.timestamp = copyOf(this.timestamp);
+        copy.createIndex = this.createIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NodeEvent that = (NodeEvent) o;
+        return java.util.Objects.equals(this.message, that.message)
+                && java.util.Objects.equals(this.subsystem, that.subsystem)
+                && java.util.Objects.equals(this.details, that.details)
+                && java.util.Objects.equals(this.timestamp, that.timestamp)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.message);
+        result = 31 * result + java.util.Objects.hashCode(this.subsystem);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.message);
+        hash = hashOf(hash, this.subsystem);
+        hash = hashOf(hash, this.details);
+        hash = hashOf(hash, this.timestamp);
+        hash = hashOf(hash, this.createIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,69 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeEvent}
+ * directly from and to JSON tokens.
+ */
+public final class NodeEventCodec extends ApiObjectCodec<NodeEvent> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType DETAILS =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+
+    public NodeEventCodec() {
+        super(NodeEvent.class);
+    }
+
+    @Override
+    protected NodeEvent newInstance() {
+        return new NodeEvent();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeEvent value)
+            throws IOException {
+        switch (name) {
+            case "Message":
+                value.setMessage(readString(p, ctxt));
+                return true;
+            case "Subsystem":
+                value.setSubsystem(readString(p, ctxt));
+                return true;
+            case "Details":
+                value.setDetails(readValue(p, ctxt, DETAILS));
+                return true;
+            case "Timestamp":
+                value.setTimestamp(readValue(p, ctxt, Date.class));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeEvent value)
+            throws IOException {
+        g.writeStringField("Message", value.getMessage());
+        g.writeStringField("Subsystem", value.getSubsystem());
+        writeValue(g, provider, "Details", value.getDetails());
+        writeValue(g, provider, "Timestamp", value.getTimestamp());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+    }
+}
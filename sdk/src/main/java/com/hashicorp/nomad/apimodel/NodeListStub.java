@@ -166,6 +166,85 @@ public final class NodeListStub extends ApiObject {
         return this;
     }
 
+    @Override
+    public NodeListStub deepCopy() {
+        final NodeListStub copy = new NodeListStub();
+        copy.address = this.address;
+        copy.id = this.id;
+        copy.datacenter = this.datacenter;
+        copy.name = this.name;
+        copy.nodeClass = this.nodeClass;
+        copy.version = this.version;
+        copy.drain = this.drain;
+        copy.schedulingEligibility = this.schedulingEligibility;
+        copy.status = this.status;
+        copy.statusDescription = this.statusDescription;
+        copy.drivers = copyOf(this.drivers);
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NodeListStub that = (NodeListStub) o;
+        return java.util.Objects.equals(this.address, that.address)
+                && java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.datacenter, that.datacenter)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.nodeClass, that.nodeClass)
+                && java.util.Objects.equals(this.version, that.version)
+                && this.drain == that.drain
+                && java.util.Objects.equals(this.schedulingEligibility, that.schedulingEligibility)
+                && java.util.Objects.equals(this.status, that.status)
+                && java.util.Objects.equals(this.statusDescription, that.statusDescription)
+                && java.util.Objects.equals(this.drivers, that.drivers)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.address);
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.datacenter);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.nodeClass);
+        result = 31 * result + java.util.Objects.hashCode(this.version);
+        result = 31 * result + Boolean.hashCode(this.drain);
+        result = 31 * result + java.util.Objects.hashCode(this.schedulingEligibility);
+        result = 31 * result + java.util.Objects.hashCode(this.status);
+        result = 31 * result + java.util.Objects.hashCode(this.statusDescription);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.address);
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.datacenter);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.nodeClass);
+        hash = hashOf(hash, this.version);
+        hash = hashOf(hash, this.drain);
+        hash = hashOf(hash, this.schedulingEligibility);
+        hash = hashOf(hash, this.status);
+        hash = hashOf(hash, this.statusDescription);
+        hash = hashOf(hash, this.drivers);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,100 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeListStub}
+ * directly from and to JSON tokens.
+ */
+public final class NodeListStubCodec extends ApiObjectCodec<NodeListStub> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType DRIVERS =
+            TYPES.constructMapType(Map.class, String.class, DriverInfo.class);
+
+    public NodeListStubCodec() {
+        super(NodeListStub.class);
+    }
+
+    @Override
+    protected NodeListStub newInstance() {
+        return new NodeListStub();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeListStub value)
+            throws IOException {
+        switch (name) {
+            case "Address":
+                value.setAddress(readString(p, ctxt));
+                return true;
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Datacenter":
+                value.setDatacenter(readInternedString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "NodeClass":
+                value.setNodeClass(readInternedString(p, ctxt));
+                return true;
+            case "Version":
+                value.setVersion(readString(p, ctxt));
+                return true;
+            case "Drain":
+                value.setDrain(readBoolean(p, ctxt));
+                return true;
+            case "SchedulingEligibility":
+                value.setSchedulingEligibility(readInternedString(p, ctxt));
+                return true;
+            case "Status":
+                value.setStatus(readInternedString(p, ctxt));
+                return true;
+            case "StatusDescription":
+                value.setStatusDescription(readString(p, ctxt));
+                return true;
+            case "Drivers":
+                value.setDrivers(readValue(p, ctxt, DRIVERS));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeListStub value)
+            throws IOException {
+        g.writeStringField("Address", value.getAddress());
+        g.writeStringField("ID", value.getId());
+        g.writeStringField("Datacenter", value.getDatacenter());
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("NodeClass", value.getNodeClass());
+        g.writeStringField("Version", value.getVersion());
+        g.writeBooleanField("Drain", value.getDrain());
+        g.writeStringField("SchedulingEligibility", value.getSchedulingEligibility());
+        g.writeStringField("Status", value.getStatus());
+        g.writeStringField("StatusDescription", value.getStatusDescription());
+        writeValue(g, provider, "Drivers", value.getDrivers());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
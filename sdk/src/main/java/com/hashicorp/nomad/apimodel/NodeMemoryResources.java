@@ -25,6 +25,38 @@ public final class NodeMemoryResources extends ApiObject {
         return this;
     }
 
+    @Override
+    public NodeMemoryResources deepCopy() {
+        final NodeMemoryResources copy = new NodeMemoryResources();
+        copy.memoryMb = this.memoryMb;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NodeMemoryResources that = (NodeMemoryResources) o;
+        return this.memoryMb == that.memoryMb
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Long.hashCode(this.memoryMb);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.memoryMb);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
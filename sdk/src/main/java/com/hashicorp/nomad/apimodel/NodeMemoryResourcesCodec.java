@@ -0,0 +1,44 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeMemoryResources}
+ * directly from and to JSON tokens.
+ */
+public final class NodeMemoryResourcesCodec extends ApiObjectCodec<NodeMemoryResources> {
+    public NodeMemoryResourcesCodec() {
+        super(NodeMemoryResources.class);
+    }
+
+    @Override
+    protected NodeMemoryResources newInstance() {
+        return new NodeMemoryResources();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeMemoryResources value)
+            throws IOException {
+        switch (name) {
+            case "MemoryMB":
+                value.setMemoryMb(readLong(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeMemoryResources value)
+            throws IOException {
+        g.writeNumberField("MemoryMB", value.getMemoryMb());
+    }
+}
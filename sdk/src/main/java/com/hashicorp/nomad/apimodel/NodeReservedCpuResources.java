@@ -26,6 +26,38 @@ public final class NodeReservedCpuResources extends ApiObject {
         return this;
     }
 
+    @Override
+    public NodeReservedCpuResources deepCopy() {
+        final NodeReservedCpuResources copy = new NodeReservedCpuResources();
+        copy.cpuShares = this.cpuShares;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NodeReservedCpuResources that = (NodeReservedCpuResources) o;
+        return java.util.Objects.equals(this.cpuShares, that.cpuShares)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.cpuShares);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.cpuShares);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
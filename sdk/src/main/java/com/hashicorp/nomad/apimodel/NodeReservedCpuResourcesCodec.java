@@ -0,0 +1,45 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeReservedCpuResources}
+ * directly from and to JSON tokens.
+ */
+public final class NodeReservedCpuResourcesCodec extends ApiObjectCodec<NodeReservedCpuResources> {
+    public NodeReservedCpuResourcesCodec() {
+        super(NodeReservedCpuResources.class);
+    }
+
+    @Override
+    protected NodeReservedCpuResources newInstance() {
+        return new NodeReservedCpuResources();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeReservedCpuResources value)
+            throws IOException {
+        switch (name) {
+            case "CpuShares":
+                value.setCpuShares(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeReservedCpuResources value)
+            throws IOException {
+        writeValue(g, provider, "CpuShares", value.getCpuShares());
+    }
+}
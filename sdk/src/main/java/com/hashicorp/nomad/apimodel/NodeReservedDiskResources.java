@@ -26,6 +26,38 @@ public final class NodeReservedDiskResources extends ApiObject {
         return this;
     }
 
+    @Override
+    public NodeReservedDiskResources deepCopy() {
+        final NodeReservedDiskResources copy = new NodeReservedDiskResources();
+        copy.diskMb = this.diskMb;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NodeReservedDiskResources that = (NodeReservedDiskResources) o;
+        return java.util.Objects.equals(this.diskMb, that.diskMb)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.diskMb);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.diskMb);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,45 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeReservedDiskResources}
+ * directly from and to JSON tokens.
+ */
+public final class NodeReservedDiskResourcesCodec extends ApiObjectCodec<NodeReservedDiskResources> {
+    public NodeReservedDiskResourcesCodec() {
+        super(NodeReservedDiskResources.class);
+    }
+
+    @Override
+    protected NodeReservedDiskResources newInstance() {
+        return new NodeReservedDiskResources();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeReservedDiskResources value)
+            throws IOException {
+        switch (name) {
+            case "DiskMB":
+                value.setDiskMb(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeReservedDiskResources value)
+            throws IOException {
+        writeValue(g, provider, "DiskMB", value.getDiskMb());
+    }
+}
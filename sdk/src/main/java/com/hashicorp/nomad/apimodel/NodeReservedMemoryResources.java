@@ -26,6 +26,38 @@ public final class NodeReservedMemoryResources extends ApiObject {
         return this;
     }
 
+    @Override
+    public NodeReservedMemoryResources deepCopy() {
+        final NodeReservedMemoryResources copy = new NodeReservedMemoryResources();
+        copy.memoryMb = this.memoryMb;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NodeReservedMemoryResources that = (NodeReservedMemoryResources) o;
+        return java.util.Objects.equals(this.memoryMb, that.memoryMb)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.memoryMb);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.memoryMb);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,45 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeReservedMemoryResources}
+ * directly from and to JSON tokens.
+ */
+public final class NodeReservedMemoryResourcesCodec extends ApiObjectCodec<NodeReservedMemoryResources> {
+    public NodeReservedMemoryResourcesCodec() {
+        super(NodeReservedMemoryResources.class);
+    }
+
+    @Override
+    protected NodeReservedMemoryResources newInstance() {
+        return new NodeReservedMemoryResources();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeReservedMemoryResources value)
+            throws IOException {
+        switch (name) {
+            case "MemoryMB":
+                value.setMemoryMb(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeReservedMemoryResources value)
+            throws IOException {
+        writeValue(g, provider, "MemoryMB", value.getMemoryMb());
+    }
+}
@@ -25,6 +25,38 @@ public final class NodeReservedNetworkResources extends ApiObject {
         return this;
     }
 
+    @Override
+    public NodeReservedNetworkResources deepCopy() {
+        final NodeReservedNetworkResources copy = new NodeReservedNetworkResources();
+        copy.reservedHostPorts = this.reservedHostPorts;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NodeReservedNetworkResources that = (NodeReservedNetworkResources) o;
+        return java.util.Objects.equals(this.reservedHostPorts, that.reservedHostPorts)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.reservedHostPorts);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.reservedHostPorts);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
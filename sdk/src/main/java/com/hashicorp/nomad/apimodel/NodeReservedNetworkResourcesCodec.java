@@ -0,0 +1,44 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeReservedNetworkResources}
+ * directly from and to JSON tokens.
+ */
+public final class NodeReservedNetworkResourcesCodec extends ApiObjectCodec<NodeReservedNetworkResources> {
+    public NodeReservedNetworkResourcesCodec() {
+        super(NodeReservedNetworkResources.class);
+    }
+
+    @Override
+    protected NodeReservedNetworkResources newInstance() {
+        return new NodeReservedNetworkResources();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeReservedNetworkResources value)
+            throws IOException {
+        switch (name) {
+            case "ReservedHostPorts":
+                value.setReservedHostPorts(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeReservedNetworkResources value)
+            throws IOException {
+        g.writeStringField("ReservedHostPorts", value.getReservedHostPorts());
+    }
+}
@@ -58,6 +58,45 @@ public final class NodeReservedResources extends ApiObject {
         return this;
     }
 
+    @Override
+    public NodeReservedResources deepCopy() {
+        final NodeReservedResources copy = new NodeReservedResources();
+        copy.cpu = copyOf(this.cpu);
+        copy.memory = copyOf(this.memory);
+        copy.disk = copyOf(this.disk);
+        copy.networks = copyOf(this.networks);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NodeReservedResources that = (NodeReservedResources) o;
+        return java.util.Objects.equals(this.cpu, that.cpu)
+                && java.util.Objects.equals(this.memory, that.memory)
+                && java.util.Objects.equals(this.disk, that.disk)
+                && java.util.Objects.equals(this.networks, that.networks)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.cpu);
+        hash = hashOf(hash, this.memory);
+        hash = hashOf(hash, this.disk);
+        hash = hashOf(hash, this.networks);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
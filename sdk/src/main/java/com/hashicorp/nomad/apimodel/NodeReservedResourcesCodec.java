@@ -0,0 +1,56 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeReservedResources}
+ * directly from and to JSON tokens.
+ */
+public final class NodeReservedResourcesCodec extends ApiObjectCodec<NodeReservedResources> {
+    public NodeReservedResourcesCodec() {
+        super(NodeReservedResources.class);
+    }
+
+    @Override
+    protected NodeReservedResources newInstance() {
+        return new NodeReservedResources();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeReservedResources value)
+            throws IOException {
+        switch (name) {
+            case "Cpu":
+                value.setCpu(readValue(p, ctxt, NodeReservedCpuResources.class));
+                return true;
+            case "Memory":
+                value.setMemory(readValue(p, ctxt, NodeReservedMemoryResources.class));
+                return true;
+            case "Disk":
+                value.setDisk(readValue(p, ctxt, NodeReservedDiskResources.class));
+                return true;
+            case "Networks":
+                value.setNetworks(readValue(p, ctxt, NodeReservedNetworkResources.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeReservedResources value)
+            throws IOException {
+        writeValue(g, provider, "Cpu", value.getCpu());
+        writeValue(g, provider, "Memory", value.getMemory());
+        writeValue(g, provider, "Disk", value.getDisk());
+        writeValue(g, provider, "Networks", value.getNetworks());
+    }
+}
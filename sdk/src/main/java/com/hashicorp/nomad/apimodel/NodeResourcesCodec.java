@@ -0,0 +1,69 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeResources}
+ * directly from and to JSON tokens.
+ */
+public final class NodeResourcesCodec extends ApiObjectCodec<NodeResources> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType NETWORKS =
+            TYPES.constructCollectionType(List.class, NetworkResource.class);
+    private static final JavaType DEVICES =
+            TYPES.constructCollectionType(List.class, NodeDeviceResource.class);
+
+    public NodeResourcesCodec() {
+        super(NodeResources.class);
+    }
+
+    @Override
+    protected NodeResources newInstance() {
+        return new NodeResources();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeResources value)
+            throws IOException {
+        switch (name) {
+            case "Cpu":
+                value.setCpu(readValue(p, ctxt, NodeCpuResources.class));
+                return true;
+            case "Memory":
+                value.setMemory(readValue(p, ctxt, NodeMemoryResources.class));
+                return true;
+            case "Disk":
+                value.setDisk(readValue(p, ctxt, NodeDiskResources.class));
+                return true;
+            case "Networks":
+                value.setNetworks(readValue(p, ctxt, NETWORKS));
+                return true;
+            case "Devices":
+                value.setDevices(readValue(p, ctxt, DEVICES));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeResources value)
+            throws IOException {
+        writeValue(g, provider, "Cpu", value.getCpu());
+        writeValue(g, provider, "Memory", value.getMemory());
+        writeValue(g, provider, "Disk", value.getDisk());
+        writeValue(g, provider, "Networks", value.getNetworks());
+        writeValue(g, provider, "Devices", value.getDevices());
+    }
+}
@@ -55,6 +55,45 @@ public final class NodeScoreMeta extends ApiObject {
         return this;
     }
 
+    @Override
+    public NodeScoreMeta deepCopy() {
+        final NodeScoreMeta copy = new NodeScoreMeta();
+        copy.nodeId = this.nodeId;
+        copy.scores = copyOf(this.scores);
+        copy.normScore = this.normScore;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final NodeScoreMeta that = (NodeScoreMeta) o;
+        return java.util.Objects.equals(this.nodeId, that.nodeId)
+                && java.util.Objects.equals(this.scores, that.scores)
+                && Double.compare(this.normScore, that.normScore) == 0
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.nodeId);
+        result = 31 * result + Double.hashCode(this.normScore);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.nodeId);
+        hash = hashOf(hash, this.scores);
+        hash = hashOf(hash, this.normScore);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
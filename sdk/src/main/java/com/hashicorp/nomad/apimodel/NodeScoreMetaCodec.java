@@ -0,0 +1,59 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link NodeScoreMeta}
+ * directly from and to JSON tokens.
+ */
+public final class NodeScoreMetaCodec extends ApiObjectCodec<NodeScoreMeta> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType SCORES =
+            TYPES.constructMapType(Map.class, String.class, Double.class);
+
+    public NodeScoreMetaCodec() {
+        super(NodeScoreMeta.class);
+    }
+
+    @Override
+    protected NodeScoreMeta newInstance() {
+        return new NodeScoreMeta();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, NodeScoreMeta value)
+            throws IOException {
+        switch (name) {
+            case "NodeID":
+                value.setNodeId(readInternedString(p, ctxt));
+                return true;
+            case "Scores":
+                value.setScores(readValue(p, ctxt, SCORES));
+                return true;
+            case "NormScore":
+                value.setNormScore(readDouble(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, NodeScoreMeta value)
+            throws IOException {
+        g.writeStringField("NodeID", value.getNodeId());
+        writeValue(g, provider, "Scores", value.getScores());
+        g.writeNumberField("NormScore", value.getNormScore());
+    }
+}
@@ -74,6 +74,48 @@ public final class ObjectDiff extends ApiObject {
         return this;
     }
 
+    @Override
+    public ObjectDiff deepCopy() {
+        final ObjectDiff copy = new ObjectDiff();
+        copy.type = this.type;
+        copy.name = this.name;
+        copy.fields = copyOf(this.fields);
+        copy.objects = copyOf(this.objects);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ObjectDiff that = (ObjectDiff) o;
+        return java.util.Objects.equals(this.type, that.type)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.fields, that.fields)
+                && java.util.Objects.equals(this.objects, that.objects)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.type);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.type);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.fields);
+        hash = hashOf(hash, this.objects);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,65 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link ObjectDiff}
+ * directly from and to JSON tokens.
+ */
+public final class ObjectDiffCodec extends ApiObjectCodec<ObjectDiff> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType FIELDS =
+            TYPES.constructCollectionType(List.class, FieldDiff.class);
+    private static final JavaType OBJECTS =
+            TYPES.constructCollectionType(List.class, ObjectDiff.class);
+
+    public ObjectDiffCodec() {
+        super(ObjectDiff.class);
+    }
+
+    @Override
+    protected ObjectDiff newInstance() {
+        return new ObjectDiff();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ObjectDiff value)
+            throws IOException {
+        switch (name) {
+            case "Type":
+                value.setType(readInternedString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Fields":
+                value.setFields(readValue(p, ctxt, FIELDS));
+                return true;
+            case "Objects":
+                value.setObjects(readValue(p, ctxt, OBJECTS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ObjectDiff value)
+            throws IOException {
+        g.writeStringField("Type", value.getType());
+        g.writeStringField("Name", value.getName());
+        writeValue(g, provider, "Fields", value.getFields());
+        writeValue(g, provider, "Objects", value.getObjects());
+    }
+}
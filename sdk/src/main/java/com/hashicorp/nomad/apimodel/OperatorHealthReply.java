@@ -55,6 +55,45 @@ public final class OperatorHealthReply extends ApiObject {
         return this;
     }
 
+    @Override
+    public OperatorHealthReply deepCopy() {
+        final OperatorHealthReply copy = new OperatorHealthReply();
+        copy.healthy = this.healthy;
+        copy.failureTolerance = this.failureTolerance;
+        copy.servers = copyOf(this.servers);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final OperatorHealthReply that = (OperatorHealthReply) o;
+        return this.healthy == that.healthy
+                && this.failureTolerance == that.failureTolerance
+                && java.util.Objects.equals(this.servers, that.servers)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Boolean.hashCode(this.healthy);
+        result = 31 * result + this.failureTolerance;
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.healthy);
+        hash = hashOf(hash, this.failureTolerance);
+        hash = hashOf(hash, this.servers);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
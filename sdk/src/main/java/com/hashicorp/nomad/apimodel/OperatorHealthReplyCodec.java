@@ -0,0 +1,59 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link OperatorHealthReply}
+ * directly from and to JSON tokens.
+ */
+public final class OperatorHealthReplyCodec extends ApiObjectCodec<OperatorHealthReply> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType SERVERS =
+            TYPES.constructCollectionType(List.class, ServerHealth.class);
+
+    public OperatorHealthReplyCodec() {
+        super(OperatorHealthReply.class);
+    }
+
+    @Override
+    protected OperatorHealthReply newInstance() {
+        return new OperatorHealthReply();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, OperatorHealthReply value)
+            throws IOException {
+        switch (name) {
+            case "Healthy":
+                value.setHealthy(readBoolean(p, ctxt));
+                return true;
+            case "FailureTolerance":
+                value.setFailureTolerance(readInt(p, ctxt));
+                return true;
+            case "Servers":
+                value.setServers(readValue(p, ctxt, SERVERS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, OperatorHealthReply value)
+            throws IOException {
+        g.writeBooleanField("Healthy", value.getHealthy());
+        g.writeNumberField("FailureTolerance", value.getFailureTolerance());
+        writeValue(g, provider, "Servers", value.getServers());
+    }
+}
@@ -63,6 +63,44 @@ public final class ParameterizedJobConfig extends ApiObject {
         return this;
     }
 
+    @Override
+    public ParameterizedJobConfig deepCopy() {
+        final ParameterizedJobConfig copy = new ParameterizedJobConfig();
+        copy.payload = this.payload;
+        copy.metaRequired = copyOf(this.metaRequired);
+        copy.metaOptional = copyOf(this.metaOptional);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ParameterizedJobConfig that = (ParameterizedJobConfig) o;
+        return java.util.Objects.equals(this.payload, that.payload)
+                && java.util.Objects.equals(this.metaRequired, that.metaRequired)
+                && java.util.Objects.equals(this.metaOptional, that.metaOptional)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.payload);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.payload);
+        hash = hashOf(hash, this.metaRequired);
+        hash = hashOf(hash, this.metaOptional);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
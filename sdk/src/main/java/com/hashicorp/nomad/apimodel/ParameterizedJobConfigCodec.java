@@ -0,0 +1,61 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link ParameterizedJobConfig}
+ * directly from and to JSON tokens.
+ */
+public final class ParameterizedJobConfigCodec extends ApiObjectCodec<ParameterizedJobConfig> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType META_REQUIRED =
+            TYPES.constructCollectionType(List.class, String.class);
+    private static final JavaType META_OPTIONAL =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public ParameterizedJobConfigCodec() {
+        super(ParameterizedJobConfig.class);
+    }
+
+    @Override
+    protected ParameterizedJobConfig newInstance() {
+        return new ParameterizedJobConfig();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ParameterizedJobConfig value)
+            throws IOException {
+        switch (name) {
+            case "Payload":
+                value.setPayload(readString(p, ctxt));
+                return true;
+            case "MetaRequired":
+                value.setMetaRequired(readValue(p, ctxt, META_REQUIRED));
+                return true;
+            case "MetaOptional":
+                value.setMetaOptional(readValue(p, ctxt, META_OPTIONAL));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ParameterizedJobConfig value)
+            throws IOException {
+        g.writeStringField("Payload", value.getPayload());
+        writeValue(g, provider, "MetaRequired", value.getMetaRequired());
+        writeValue(g, provider, "MetaOptional", value.getMetaOptional());
+    }
+}
@@ -69,6 +69,54 @@ public final class PeriodicConfig extends ApiObject {
         return this;
     }
 
+    @Override
+    public PeriodicConfig deepCopy() {
+        final PeriodicConfig copy = new PeriodicConfig();
+        copy.enabled = this.enabled;
+        copy.spec = this.spec;
+        copy.specType = this.specType;
+        copy.prohibitOverlap = this.prohibitOverlap;
+        copy.timeZone = this.timeZone;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final PeriodicConfig that = (PeriodicConfig) o;
+        return java.util.Objects.equals(this.enabled, that.enabled)
+                && java.util.Objects.equals(this.spec, that.spec)
+                && java.util.Objects.equals(this.specType, that.specType)
+                && java.util.Objects.equals(this.prohibitOverlap, that.prohibitOverlap)
+                && java.util.Objects.equals(this.timeZone, that.timeZone)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.enabled);
+        result = 31 * result + java.util.Objects.hashCode(this.spec);
+        result = 31 * result + java.util.Objects.hashCode(this.specType);
+        result = 31 * result + java.util.Objects.hashCode(this.prohibitOverlap);
+        result = 31 * result + java.util.Objects.hashCode(this.timeZone);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.enabled);
+        hash = hashOf(hash, this.spec);
+        hash = hashOf(hash, this.specType);
+        hash = hashOf(hash, this.prohibitOverlap);
+        hash = hashOf(hash, this.timeZone);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,60 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link PeriodicConfig}
+ * directly from and to JSON tokens.
+ */
+public final class PeriodicConfigCodec extends ApiObjectCodec<PeriodicConfig> {
+    public PeriodicConfigCodec() {
+        super(PeriodicConfig.class);
+    }
+
+    @Override
+    protected PeriodicConfig newInstance() {
+        return new PeriodicConfig();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, PeriodicConfig value)
+            throws IOException {
+        switch (name) {
+            case "Enabled":
+                value.setEnabled(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "Spec":
+                value.setSpec(readString(p, ctxt));
+                return true;
+            case "SpecType":
+                value.setSpecType(readString(p, ctxt));
+                return true;
+            case "ProhibitOverlap":
+                value.setProhibitOverlap(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "TimeZone":
+                value.setTimeZone(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, PeriodicConfig value)
+            throws IOException {
+        writeValue(g, provider, "Enabled", value.getEnabled());
+        g.writeStringField("Spec", value.getSpec());
+        g.writeStringField("SpecType", value.getSpecType());
+        writeValue(g, provider, "ProhibitOverlap", value.getProhibitOverlap());
+        g.writeStringField("TimeZone", value.getTimeZone());
+    }
+}
@@ -52,6 +52,39 @@ public final class PlanAnnotations extends ApiObject {
         return this;
     }
 
+    @Override
+    public PlanAnnotations deepCopy() {
+        final PlanAnnotations copy = new PlanAnnotations();
+        copy.desiredTgUpdates = copyOf(this.desiredTgUpdates);
+        copy.preemptedAllocs = copyOf(this.preemptedAllocs);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final PlanAnnotations that = (PlanAnnotations) o;
+        return java.util.Objects.equals(this.desiredTgUpdates, that.desiredTgUpdates)
+                && java.util.Objects.equals(this.preemptedAllocs, that.preemptedAllocs)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.desiredTgUpdates);
+        hash = hashOf(hash, this.preemptedAllocs);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,58 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link PlanAnnotations}
+ * directly from and to JSON tokens.
+ */
+public final class PlanAnnotationsCodec extends ApiObjectCodec<PlanAnnotations> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType DESIRED_TG_UPDATES =
+            TYPES.constructMapType(Map.class, String.class, DesiredUpdates.class);
+    private static final JavaType PREEMPTED_ALLOCS =
+            TYPES.constructCollectionType(List.class, AllocationListStub.class);
+
+    public PlanAnnotationsCodec() {
+        super(PlanAnnotations.class);
+    }
+
+    @Override
+    protected PlanAnnotations newInstance() {
+        return new PlanAnnotations();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, PlanAnnotations value)
+            throws IOException {
+        switch (name) {
+            case "DesiredTGUpdates":
+                value.setDesiredTgUpdates(readValue(p, ctxt, DESIRED_TG_UPDATES));
+                return true;
+            case "PreemptedAllocs":
+                value.setPreemptedAllocs(readValue(p, ctxt, PREEMPTED_ALLOCS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, PlanAnnotations value)
+            throws IOException {
+        writeValue(g, provider, "DesiredTGUpdates", value.getDesiredTgUpdates());
+        writeValue(g, provider, "PreemptedAllocs", value.getPreemptedAllocs());
+    }
+}
@@ -47,6 +47,46 @@ public final class Port extends ApiObject {
         return this;
     }
 
+    @Override
+    public Port deepCopy() {
+        final Port copy = new Port();
+        copy.label = this.label;
+        copy.value = this.value;
+        copy.to = this.to;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Port that = (Port) o;
+        return java.util.Objects.equals(this.label, that.label)
+                && this.value == that.value
+                && this.to == that.to
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.label);
+        result = 31 * result + this.value;
+        result = 31 * result + this.to;
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.label);
+        hash = hashOf(hash, this.value);
+        hash = hashOf(hash, this.to);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,52 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link Port}
+ * directly from and to JSON tokens.
+ */
+public final class PortCodec extends ApiObjectCodec<Port> {
+    public PortCodec() {
+        super(Port.class);
+    }
+
+    @Override
+    protected Port newInstance() {
+        return new Port();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, Port value)
+            throws IOException {
+        switch (name) {
+            case "Label":
+                value.setLabel(readString(p, ctxt));
+                return true;
+            case "Value":
+                value.setValue(readInt(p, ctxt));
+                return true;
+            case "To":
+                value.setTo(readInt(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, Port value)
+            throws IOException {
+        g.writeStringField("Label", value.getLabel());
+        g.writeNumberField("Value", value.getValue());
+        g.writeNumberField("To", value.getTo());
+    }
+}
@@ -47,6 +47,46 @@ public final class PreemptionConfig extends ApiObject {
         return this;
     }
 
+    @Override
+    public PreemptionConfig deepCopy() {
+        final PreemptionConfig copy = new PreemptionConfig();
+        copy.systemSchedulerEnabled = this.systemSchedulerEnabled;
+        copy.batchSchedulerEnabled = this.batchSchedulerEnabled;
+        copy.serviceSchedulerEnabled = this.serviceSchedulerEnabled;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final PreemptionConfig that = (PreemptionConfig) o;
+        return this.systemSchedulerEnabled == that.systemSchedulerEnabled
+                && this.batchSchedulerEnabled == that.batchSchedulerEnabled
+                && this.serviceSchedulerEnabled == that.serviceSchedulerEnabled
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Boolean.hashCode(this.systemSchedulerEnabled);
+        result = 31 * result + Boolean.hashCode(this.batchSchedulerEnabled);
+        result = 31 * result + Boolean.hashCode(this.serviceSchedulerEnabled);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.systemSchedulerEnabled);
+        hash = hashOf(hash, this.batchSchedulerEnabled);
+        hash = hashOf(hash, this.serviceSchedulerEnabled);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
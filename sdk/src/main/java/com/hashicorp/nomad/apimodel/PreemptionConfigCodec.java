@@ -0,0 +1,52 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link PreemptionConfig}
+ * directly from and to JSON tokens.
+ */
+public final class PreemptionConfigCodec extends ApiObjectCodec<PreemptionConfig> {
+    public PreemptionConfigCodec() {
+        super(PreemptionConfig.class);
+    }
+
+    @Override
+    protected PreemptionConfig newInstance() {
+        return new PreemptionConfig();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, PreemptionConfig value)
+            throws IOException {
+        switch (name) {
+            case "SystemSchedulerEnabled":
+                value.setSystemSchedulerEnabled(readBoolean(p, ctxt));
+                return true;
+            case "BatchSchedulerEnabled":
+                value.setBatchSchedulerEnabled(readBoolean(p, ctxt));
+                return true;
+            case "ServiceSchedulerEnabled":
+                value.setServiceSchedulerEnabled(readBoolean(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, PreemptionConfig value)
+            throws IOException {
+        g.writeBooleanField("SystemSchedulerEnabled", value.getSystemSchedulerEnabled());
+        g.writeBooleanField("BatchSchedulerEnabled", value.getBatchSchedulerEnabled());
+        g.writeBooleanField("ServiceSchedulerEnabled", value.getServiceSchedulerEnabled());
+    }
+}
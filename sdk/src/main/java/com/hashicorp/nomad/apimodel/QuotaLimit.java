@@ -47,6 +47,44 @@ public final class QuotaLimit extends ApiObject {
         return this;
     }
 
+    @Override
+    public QuotaLimit deepCopy() {
+        final QuotaLimit copy = new QuotaLimit();
+        copy.region = this.region;
+        copy.regionLimit = copyOf(this.regionLimit);
+        copy.hash = copyOf(this.hash);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final QuotaLimit that = (QuotaLimit) o;
+        return java.util.Objects.equals(this.region, that.region)
+                && java.util.Objects.equals(this.regionLimit, that.regionLimit)
+                && java.util.Arrays.equals(this.hash, that.hash)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.region);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.region);
+        hash = hashOf(hash, this.regionLimit);
+        hash = hashOf(hash, this.hash);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,52 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link QuotaLimit}
+ * directly from and to JSON tokens.
+ */
+public final class QuotaLimitCodec extends ApiObjectCodec<QuotaLimit> {
+    public QuotaLimitCodec() {
+        super(QuotaLimit.class);
+    }
+
+    @Override
+    protected QuotaLimit newInstance() {
+        return new QuotaLimit();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, QuotaLimit value)
+            throws IOException {
+        switch (name) {
+            case "Region":
+                value.setRegion(readInternedString(p, ctxt));
+                return true;
+            case "RegionLimit":
+                value.setRegionLimit(readValue(p, ctxt, Resources.class));
+                return true;
+            case "Hash":
+                value.setHash(readValue(p, ctxt, byte[].class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, QuotaLimit value)
+            throws IOException {
+        g.writeStringField("Region", value.getRegion());
+        writeValue(g, provider, "RegionLimit", value.getRegionLimit());
+        writeValue(g, provider, "Hash", value.getHash());
+    }
+}
@@ -0,0 +1,68 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link QuotaSpec}
+ * directly from and to JSON tokens.
+ */
+public final class QuotaSpecCodec extends ApiObjectCodec<QuotaSpec> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType LIMITS =
+            TYPES.constructCollectionType(List.class, QuotaLimit.class);
+
+    public QuotaSpecCodec() {
+        super(QuotaSpec.class);
+    }
+
+    @Override
+    protected QuotaSpec newInstance() {
+        return new QuotaSpec();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, QuotaSpec value)
+            throws IOException {
+        switch (name) {
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Description":
+                value.setDescription(readString(p, ctxt));
+                return true;
+            case "Limits":
+                value.setLimits(readValue(p, ctxt, LIMITS));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, QuotaSpec value)
+            throws IOException {
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("Description", value.getDescription());
+        writeValue(g, provider, "Limits", value.getLimits());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
@@ -0,0 +1,64 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link QuotaUsage}
+ * directly from and to JSON tokens.
+ */
+public final class QuotaUsageCodec extends ApiObjectCodec<QuotaUsage> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType USED =
+            TYPES.constructMapType(Map.class, String.class, QuotaLimit.class);
+
+    public QuotaUsageCodec() {
+        super(QuotaUsage.class);
+    }
+
+    @Override
+    protected QuotaUsage newInstance() {
+        return new QuotaUsage();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, QuotaUsage value)
+            throws IOException {
+        switch (name) {
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Used":
+                value.setUsed(readValue(p, ctxt, USED));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, QuotaUsage value)
+            throws IOException {
+        g.writeStringField("Name", value.getName());
+        writeValue(g, provider, "Used", value.getUsed());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
@@ -45,6 +45,41 @@ public final class RaftConfiguration extends ApiObject {
         return this;
     }
 
+    @Override
+    public RaftConfiguration deepCopy() {
+        final RaftConfiguration copy = new RaftConfiguration();
+        copy.servers = copyOf(this.servers);
+        copy.index = this.index;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final RaftConfiguration that = (RaftConfiguration) o;
+        return java.util.Objects.equals(this.servers, that.servers)
+                && java.util.Objects.equals(this.index, that.index)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.index);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.servers);
+        hash = hashOf(hash, this.index);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,56 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link RaftConfiguration}
+ * directly from and to JSON tokens.
+ */
+public final class RaftConfigurationCodec extends ApiObjectCodec<RaftConfiguration> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType SERVERS =
+            TYPES.constructCollectionType(List.class, RaftServer.class);
+
+    public RaftConfigurationCodec() {
+        super(RaftConfiguration.class);
+    }
+
+    @Override
+    protected RaftConfiguration newInstance() {
+        return new RaftConfiguration();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, RaftConfiguration value)
+            throws IOException {
+        switch (name) {
+            case "Servers":
+                value.setServers(readValue(p, ctxt, SERVERS));
+                return true;
+            case "Index":
+                value.setIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, RaftConfiguration value)
+            throws IOException {
+        writeValue(g, provider, "Servers", value.getServers());
+        writeValue(g, provider, "Index", value.getIndex());
+    }
+}
@@ -80,6 +80,58 @@ public final class RaftServer extends ApiObject {
         return this;
     }
 
+    @Override
+    public RaftServer deepCopy() {
+        final RaftServer copy = new RaftServer();
+        copy.id = this.id;
+        copy.node = this.node;
+        copy.address = this.address;
+        copy.leader = this.leader;
+        copy.voter = this.voter;
+        copy.raftProtocol = this.raftProtocol;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final RaftServer that = (RaftServer) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.node, that.node)
+                && java.util.Objects.equals(this.address, that.address)
+                && this.leader == that.leader
+                && this.voter == that.voter
+                && java.util.Objects.equals(this.raftProtocol, that.raftProtocol)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.node);
+        result = 31 * result + java.util.Objects.hashCode(this.address);
+        result = 31 * result + Boolean.hashCode(this.leader);
+        result = 31 * result + Boolean.hashCode(this.voter);
+        result = 31 * result + java.util.Objects.hashCode(this.raftProtocol);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.node);
+        hash = hashOf(hash, this.address);
+        hash = hashOf(hash, this.leader);
+        hash = hashOf(hash, this.voter);
+        hash = hashOf(hash, this.raftProtocol);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,64 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link RaftServer}
+ * directly from and to JSON tokens.
+ */
+public final class RaftServerCodec extends ApiObjectCodec<RaftServer> {
+    public RaftServerCodec() {
+        super(RaftServer.class);
+    }
+
+    @Override
+    protected RaftServer newInstance() {
+        return new RaftServer();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, RaftServer value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Node":
+                value.setNode(readString(p, ctxt));
+                return true;
+            case "Address":
+                value.setAddress(readString(p, ctxt));
+                return true;
+            case "Leader":
+                value.setLeader(readBoolean(p, ctxt));
+                return true;
+            case "Voter":
+                value.setVoter(readBoolean(p, ctxt));
+                return true;
+            case "RaftProtocol":
+                value.setRaftProtocol(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, RaftServer value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeStringField("Node", value.getNode());
+        g.writeStringField("Address", value.getAddress());
+        g.writeBooleanField("Leader", value.getLeader());
+        g.writeBooleanField("Voter", value.getVoter());
+        g.writeStringField("RaftProtocol", value.getRaftProtocol());
+    }
+}
@@ -75,6 +75,48 @@ public final class RequestedDevice extends ApiObject {
         return this;
     }
 
+    @Override
+    public RequestedDevice deepCopy() {
+        final RequestedDevice copy = new RequestedDevice();
+        copy.name = this.name;
+        copy.count = this.count;
+        copy.constraints = copyOf(this.constraints);
+        copy.affinities = copyOf(this.affinities);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final RequestedDevice that = (RequestedDevice) o;
+        return java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.count, that.count)
+                && java.util.Objects.equals(this.constraints, that.constraints)
+                && java.util.Objects.equals(this.affinities, that.affinities)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.count);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.count);
+        hash = hashOf(hash, this.constraints);
+        hash = hashOf(hash, this.affinities);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
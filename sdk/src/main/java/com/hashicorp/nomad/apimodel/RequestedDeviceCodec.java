@@ -0,0 +1,66 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link RequestedDevice}
+ * directly from and to JSON tokens.
+ */
+public final class RequestedDeviceCodec extends ApiObjectCodec<RequestedDevice> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType CONSTRAINTS =
+            TYPES.constructCollectionType(List.class, Constraint.class);
+    private static final JavaType AFFINITIES =
+            TYPES.constructCollectionType(List.class, Affinity.class);
+
+    public RequestedDeviceCodec() {
+        super(RequestedDevice.class);
+    }
+
+    @Override
+    protected RequestedDevice newInstance() {
+        return new RequestedDevice();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, RequestedDevice value)
+            throws IOException {
+        switch (name) {
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Count":
+                value.setCount(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Constraints":
+                value.setConstraints(readValue(p, ctxt, CONSTRAINTS));
+                return true;
+            case "Affinities":
+                value.setAffinities(readValue(p, ctxt, AFFINITIES));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, RequestedDevice value)
+            throws IOException {
+        g.writeStringField("Name", value.getName());
+        writeValue(g, provider, "Count", value.getCount());
+        writeValue(g, provider, "Constraints", value.getConstraints());
+        writeValue(g, provider, "Affinities", value.getAffinities());
+    }
+}
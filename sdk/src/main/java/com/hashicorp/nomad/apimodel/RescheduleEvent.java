@@ -47,6 +47,46 @@ public final class RescheduleEvent extends ApiObject {
         return this;
     }
 
+    @Override
+    public RescheduleEvent deepCopy() {
+        final RescheduleEvent copy = new RescheduleEvent();
+        copy.rescheduleTime = this.rescheduleTime;
+        copy.prevAllocId = this.prevAllocId;
+        copy.prevNodeId = this.prevNodeId;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final RescheduleEvent that = (RescheduleEvent) o;
+        return this.rescheduleTime == that.rescheduleTime
+                && java.util.Objects.equals(this.prevAllocId, that.prevAllocId)
+                && java.util.Objects.equals(this.prevNodeId, that.prevNodeId)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Long.hashCode(this.rescheduleTime);
+        result = 31 * result + java.util.Objects.hashCode(this.prevAllocId);
+        result = 31 * result + java.util.Objects.hashCode(this.prevNodeId);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.rescheduleTime);
+        hash = hashOf(hash, this.prevAllocId);
+        hash = hashOf(hash, this.prevNodeId);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
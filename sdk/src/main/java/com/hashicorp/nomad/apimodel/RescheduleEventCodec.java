@@ -0,0 +1,52 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link RescheduleEvent}
+ * directly from and to JSON tokens.
+ */
+public final class RescheduleEventCodec extends ApiObjectCodec<RescheduleEvent> {
+    public RescheduleEventCodec() {
+        super(RescheduleEvent.class);
+    }
+
+    @Override
+    protected RescheduleEvent newInstance() {
+        return new RescheduleEvent();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, RescheduleEvent value)
+            throws IOException {
+        switch (name) {
+            case "RescheduleTime":
+                value.setRescheduleTime(readLong(p, ctxt));
+                return true;
+            case "PrevAllocID":
+                value.setPrevAllocId(readString(p, ctxt));
+                return true;
+            case "PrevNodeID":
+                value.setPrevNodeId(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, RescheduleEvent value)
+            throws IOException {
+        g.writeNumberField("RescheduleTime", value.getRescheduleTime());
+        g.writeStringField("PrevAllocID", value.getPrevAllocId());
+        g.writeStringField("PrevNodeID", value.getPrevNodeId());
+    }
+}
@@ -80,6 +80,58 @@ public final class ReschedulePolicy extends ApiObject {
         return this;
     }
 
+    @Override
+    public ReschedulePolicy deepCopy() {
+        final ReschedulePolicy copy = new ReschedulePolicy();
+        copy.attempts = this.attempts;
+        copy.interval = this.interval;
+        copy.delay = this.delay;
+        copy.delayFunction = this.delayFunction;
+        copy.maxDelay = this.maxDelay;
+        copy.unlimited = this.unlimited;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ReschedulePolicy that = (ReschedulePolicy) o;
+        return java.util.Objects.equals(this.attempts, that.attempts)
+                && java.util.Objects.equals(this.interval, that.interval)
+                && java.util.Objects.equals(this.delay, that.delay)
+                && java.util.Objects.equals(this.delayFunction, that.delayFunction)
+                && java.util.Objects.equals(this.maxDelay, that.maxDelay)
+                && java.util.Objects.equals(this.unlimited, that.unlimited)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.attempts);
+        result = 31 * result + java.util.Objects.hashCode(this.interval);
+        result = 31 * result + java.util.Objects.hashCode(this.delay);
+        result = 31 * result + java.util.Objects.hashCode(this.delayFunction);
+        result = 31 * result + java.util.Objects.hashCode(this.maxDelay);
+        result = 31 * result + java.util.Objects.hashCode(this.unlimited);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.attempts);
+        hash = hashOf(hash, this.interval);
+        hash = hashOf(hash, this.delay);
+        hash = hashOf(hash, this.delayFunction);
+        hash = hashOf(hash, this.maxDelay);
+        hash = hashOf(hash, this.unlimited);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
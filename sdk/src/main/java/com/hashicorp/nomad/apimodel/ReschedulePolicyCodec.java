@@ -0,0 +1,64 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link ReschedulePolicy}
+ * directly from and to JSON tokens.
+ */
+public final class ReschedulePolicyCodec extends ApiObjectCodec<ReschedulePolicy> {
+    public ReschedulePolicyCodec() {
+        super(ReschedulePolicy.class);
+    }
+
+    @Override
+    protected ReschedulePolicy newInstance() {
+        return new ReschedulePolicy();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ReschedulePolicy value)
+            throws IOException {
+        switch (name) {
+            case "Attempts":
+                value.setAttempts(readValue(p, ctxt, Integer.class));
+                return true;
+            case "Interval":
+                value.setInterval(readValue(p, ctxt, Long.class));
+                return true;
+            case "Delay":
+                value.setDelay(readValue(p, ctxt, Long.class));
+                return true;
+            case "DelayFunction":
+                value.setDelayFunction(readString(p, ctxt));
+                return true;
+            case "MaxDelay":
+                value.setMaxDelay(readValue(p, ctxt, Long.class));
+                return true;
+            case "Unlimited":
+                value.setUnlimited(readValue(p, ctxt, Boolean.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ReschedulePolicy value)
+            throws IOException {
+        writeValue(g, provider, "Attempts", value.getAttempts());
+        writeValue(g, provider, "Interval", value.getInterval());
+        writeValue(g, provider, "Delay", value.getDelay());
+        g.writeStringField("DelayFunction", value.getDelayFunction());
+        writeValue(g, provider, "MaxDelay", value.getMaxDelay());
+        writeValue(g, provider, "Unlimited", value.getUnlimited());
+    }
+}
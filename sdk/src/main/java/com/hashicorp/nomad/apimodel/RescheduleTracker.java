@@ -33,6 +33,36 @@ public final class RescheduleTracker extends ApiObject {
         return this;
     }
 
+    @Override
+    public RescheduleTracker deepCopy() {
+        final RescheduleTracker copy = new RescheduleTracker();
+        copy.events = copyOf(this.events);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final RescheduleTracker that = (RescheduleTracker) o;
+        return java.util.Objects.equals(this.events, that.events)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.events);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,51 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link RescheduleTracker}
+ * directly from and to JSON tokens.
+ */
+public final class RescheduleTrackerCodec extends ApiObjectCodec<RescheduleTracker> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType EVENTS =
+            TYPES.constructCollectionType(List.class, RescheduleEvent.class);
+
+    public RescheduleTrackerCodec() {
+        super(RescheduleTracker.class);
+    }
+
+    @Override
+    protected RescheduleTracker newInstance() {
+        return new RescheduleTracker();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, RescheduleTracker value)
+            throws IOException {
+        switch (name) {
+            case "Events":
+                value.setEvents(readValue(p, ctxt, EVENTS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, RescheduleTracker value)
+            throws IOException {
+        writeValue(g, provider, "Events", value.getEvents());
+    }
+}
@@ -55,6 +55,42 @@ public final class ResourceUsage extends ApiObject {
         return this;
     }
 
+    @Override
+    public ResourceUsage deepCopy() {
+        final ResourceUsage copy = new ResourceUsage();
+        copy.memoryStats = copyOf(this.memoryStats);
+        copy.cpuStats = copyOf(this.cpuStats);
+        copy.deviceStats = copyOf(this.deviceStats);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ResourceUsage that = (ResourceUsage) o;
+        return java.util.Objects.equals(this.memoryStats, that.memoryStats)
+                && java.util.Objects.equals(this.cpuStats, that.cpuStats)
+                && java.util.Objects.equals(this.deviceStats, that.deviceStats)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.memoryStats);
+        hash = hashOf(hash, this.cpuStats);
+        hash = hashOf(hash, this.deviceStats);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,59 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link ResourceUsage}
+ * directly from and to JSON tokens.
+ */
+public final class ResourceUsageCodec extends ApiObjectCodec<ResourceUsage> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType DEVICE_STATS =
+            TYPES.constructCollectionType(List.class, DeviceGroupStats.class);
+
+    public ResourceUsageCodec() {
+        super(ResourceUsage.class);
+    }
+
+    @Override
+    protected ResourceUsage newInstance() {
+        return new ResourceUsage();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ResourceUsage value)
+            throws IOException {
+        switch (name) {
+            case "MemoryStats":
+                value.setMemoryStats(readValue(p, ctxt, MemoryStats.class));
+                return true;
+            case "CpuStats":
+                value.setCpuStats(readValue(p, ctxt, CpuStats.class));
+                return true;
+            case "DeviceStats":
+                value.setDeviceStats(readValue(p, ctxt, DEVICE_STATS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ResourceUsage value)
+            throws IOException {
+        writeValue(g, provider, "MemoryStats", value.getMemoryStats());
+        writeValue(g, provider, "CpuStats", value.getCpuStats());
+        writeValue(g, provider, "DeviceStats", value.getDeviceStats());
+    }
+}
@@ -96,6 +96,56 @@ public final class Resources extends ApiObject {
         return this;
     }
 
+    @Override
+    public Resources deepCopy() {
+        final Resources copy = new Resources();
+        copy.cpu = this.cpu;
+        copy.memoryMb = this.memoryMb;
+        copy.diskMb = this.diskMb;
+        copy.networks = copyOf(this.networks);
+        copy.devices = copyOf(this.devices);
+        copy.iops = this.iops;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Resources that = (Resources) o;
+        return java.util.Objects.equals(this.cpu, that.cpu)
+                && java.util.Objects.equals(this.memoryMb, that.memoryMb)
+                && java.util.Objects.equals(this.diskMb, that.diskMb)
+                && java.util.Objects.equals(this.networks, that.networks)
+                && java.util.Objects.equals(this.devices, that.devices)
+                && java.util.Objects.equals(this.iops, that.iops)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.cpu);
+        result = 31 * result + java.util.Objects.hashCode(this.memoryMb);
+        result = 31 * result + java.util.Objects.hashCode(this.diskMb);
+        result = 31 * result + java.util.Objects.hashCode(this.iops);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.cpu);
+        hash = hashOf(hash, this.memoryMb);
+        hash = hashOf(hash, this.diskMb);
+        hash = hashOf(hash, this.networks);
+        hash = hashOf(hash, this.devices);
+        hash = hashOf(hash, this.iops);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
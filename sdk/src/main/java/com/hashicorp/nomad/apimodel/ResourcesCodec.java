@@ -0,0 +1,73 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link Resources}
+ * directly from and to JSON tokens.
+ */
+public final class ResourcesCodec extends ApiObjectCodec<Resources> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType NETWORKS =
+            TYPES.constructCollectionType(List.class, NetworkResource.class);
+    private static final JavaType DEVICES =
+            TYPES.constructCollectionType(List.class, RequestedDevice.class);
+
+    public ResourcesCodec() {
+        super(Resources.class);
+    }
+
+    @Override
+    protected Resources newInstance() {
+        return new Resources();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, Resources value)
+            throws IOException {
+        switch (name) {
+            case "CPU":
+                value.setCpu(readValue(p, ctxt, Integer.class));
+                return true;
+            case "MemoryMB":
+                value.setMemoryMb(readValue(p, ctxt, Integer.class));
+                return true;
+            case "DiskMB":
+                value.setDiskMb(readValue(p, ctxt, Integer.class));
+                return true;
+            case "Networks":
+                value.setNetworks(readValue(p, ctxt, NETWORKS));
+                return true;
+            case "Devices":
+                value.setDevices(readValue(p, ctxt, DEVICES));
+                return true;
+            case "IOPS":
+                value.setIops(readValue(p, ctxt, Integer.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, Resources value)
+            throws IOException {
+        writeValue(g, provider, "CPU", value.getCpu());
+        writeValue(g, provider, "MemoryMB", value.getMemoryMb());
+        writeValue(g, provider, "DiskMB", value.getDiskMb());
+        writeValue(g, provider, "Networks", value.getNetworks());
+        writeValue(g, provider, "Devices", value.getDevices());
+        writeValue(g, provider, "IOPS", value.getIops());
+    }
+}
@@ -58,6 +58,50 @@ public final class RestartPolicy extends ApiObject {
         return this;
     }
 
+    @Override
+    public RestartPolicy deepCopy() {
+        final RestartPolicy copy = new RestartPolicy();
+        copy.interval = this.interval;
+        copy.attempts = this.attempts;
+        copy.delay = this.delay;
+        copy.mode = this.mode;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final RestartPolicy that = (RestartPolicy) o;
+        return java.util.Objects.equals(this.interval, that.interval)
+                && java.util.Objects.equals(this.attempts, that.attempts)
+                && java.util.Objects.equals(this.delay, that.delay)
+                && java.util.Objects.equals(this.mode, that.mode)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.interval);
+        result = 31 * result + java.util.Objects.hashCode(this.attempts);
+        result = 31 * result + java.util.Objects.hashCode(this.delay);
+        result = 31 * result + java.util.Objects.hashCode(this.mode);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.interval);
+        hash = hashOf(hash, this.attempts);
+        hash = hashOf(hash, this.delay);
+        hash = hashOf(hash, this.mode);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,56 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link RestartPolicy}
+ * directly from and to JSON tokens.
+ */
+public final class RestartPolicyCodec extends ApiObjectCodec<RestartPolicy> {
+    public RestartPolicyCodec() {
+        super(RestartPolicy.class);
+    }
+
+    @Override
+    protected RestartPolicy newInstance() {
+        return new RestartPolicy();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, RestartPolicy value)
+            throws IOException {
+        switch (name) {
+            case "Interval":
+                value.setInterval(readValue(p, ctxt, Long.class));
+                return true;
+            case "Attempts":
+                value.setAttempts(readValue(p, ctxt, Integer.class));
+                return true;
+            case "Delay":
+                value.setDelay(readValue(p, ctxt, Long.class));
+                return true;
+            case "Mode":
+                value.setMode(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, RestartPolicy value)
+            throws IOException {
+        writeValue(g, provider, "Interval", value.getInterval());
+        writeValue(g, provider, "Attempts", value.getAttempts());
+        writeValue(g, provider, "Delay", value.getDelay());
+        g.writeStringField("Mode", value.getMode());
+    }
+}
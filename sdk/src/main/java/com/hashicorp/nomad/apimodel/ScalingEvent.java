@@ -100,6 +100,61 @@ public final class ScalingEvent extends ApiObject {
         return this;
     }
 
+    @Override
+    public ScalingEvent deepCopy() {
+        final ScalingEvent copy = new ScalingEvent();
+        copy.count = this.count;
+        copy.error = this.error;
+        copy.message = this.message;
+        copy.meta = copyOf(this.meta);
+        copy.evalId = this.evalId;
+        copy.time = this.time;
+        copy.createIndex = this.createIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ScalingEvent that = (ScalingEvent) o;
+        return java.util.Objects.equals(this.count, that.count)
+                && this.error == that.error
+                && java.util.Objects.equals(this.message, that.message)
+                && java.util.Objects.equals(this.meta, that.meta)
+                && java.util.Objects.equals(this.evalId, that.evalId)
+                && java.util.Objects.equals(this.time, that.time)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.count);
+        result = 31 * result + Boolean.hashCode(this.error);
+        result = 31 * result + java.util.Objects.hashCode(this.message);
+        result = 31 * result + java.util.Objects.hashCode(this.evalId);
+        result = 31 * result + java.util.Objects.hashCode(this.time);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.count);
+        hash = hashOf(hash, this.error);
+        hash = hashOf(hash, this.message);
+        hash = hashOf(hash, this.meta);
+        hash = hashOf(hash, this.evalId);
+        hash = hashOf(hash, this.time);
+        hash = hashOf(hash, this.createIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
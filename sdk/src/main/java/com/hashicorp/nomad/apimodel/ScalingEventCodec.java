@@ -0,0 +1,76 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link ScalingEvent}
+ * directly from and to JSON tokens.
+ */
+public final class ScalingEventCodec extends ApiObjectCodec<ScalingEvent> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType META =
+            TYPES.constructMapType(Map.class, String.class, Object.class);
+
+    public ScalingEventCodec() {
+        super(ScalingEvent.class);
+    }
+
+    @Override
+    protected ScalingEvent newInstance() {
+        return new ScalingEvent();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ScalingEvent value)
+            throws IOException {
+        switch (name) {
+            case "Count":
+                value.setCount(readValue(p, ctxt, Long.class));
+                return true;
+            case "Error":
+                value.setError(readBoolean(p, ctxt));
+                return true;
+            case "Message":
+                value.setMessage(readString(p, ctxt));
+                return true;
+            case "Meta":
+                value.setMeta(readValue(p, ctxt, META));
+                return true;
+            case "EvalID":
+                value.setEvalId(readString(p, ctxt));
+                return true;
+            case "Time":
+                value.setTime(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ScalingEvent value)
+            throws IOException {
+        writeValue(g, provider, "Count", value.getCount());
+        g.writeBooleanField("Error", value.getError());
+        g.writeStringField("Message", value.getMessage());
+        writeValue(g, provider, "Meta", value.getMeta());
+        g.writeStringField("EvalID", value.getEvalId());
+        writeValue(g, provider, "Time", value.getTime());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+    }
+}
@@ -129,6 +129,68 @@ public final class ScalingPolicy extends ApiObject {
         return this;
     }
 
+    @Override
+    public ScalingPolicy deepCopy() {
+        final ScalingPolicy copy = new ScalingPolicy();
+        copy.id = this.id;
+        copy.namespace = this.namespace;
+        copy.target = copyOf(this.target);
+        copy.min = this.min;
+        copy.max = this.max;
+        copy.policy = copyOf(this.policy);
+        copy.enabled = this.enabled;
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ScalingPolicy that = (ScalingPolicy) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.namespace, that.namespace)
+                && java.util.Objects.equals(this.target, that.target)
+                && java.util.Objects.equals(this.min, that.min)
+                && this.max == that.max
+                && java.util.Objects.equals(this.policy, that.policy)
+                && java.util.Objects.equals(this.enabled, that.enabled)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.namespace);
+        result = 31 * result + java.util.Objects.hashCode(this.min);
+        result = 31 * result + Long.hashCode(this.max);
+        result = 31 * result + java.util.Objects.hashCode(this.enabled);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.namespace);
+        hash = hashOf(hash, this.target);
+        hash = hashOf(hash, this.min);
+        hash = hashOf(hash, this.max);
+        hash = hashOf(hash, this.policy);
+        hash = hashOf(hash, this.enabled);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,86 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link ScalingPolicy}
+ * directly from and to JSON tokens.
+ */
+public final class ScalingPolicyCodec extends ApiObjectCodec<ScalingPolicy> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType TARGET =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+    private static final JavaType POLICY =
+            TYPES.constructMapType(Map.class, String.class, Object.class);
+
+    public ScalingPolicyCodec() {
+        super(ScalingPolicy.class);
+    }
+
+    @Override
+    protected ScalingPolicy newInstance() {
+        return new ScalingPolicy();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ScalingPolicy value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Namespace":
+                value.setNamespace(readInternedString(p, ctxt));
+                return true;
+            case "Target":
+                value.setTarget(readValue(p, ctxt, TARGET));
+                return true;
+            case "Min":
+                value.setMin(readValue(p, ctxt, Long.class));
+                return true;
+            case "Max":
+                value.setMax(readLong(p, ctxt));
+                return true;
+            case "Policy":
+                value.setPolicy(readValue(p, ctxt, POLICY));
+                return true;
+            case "Enabled":
+                value.setEnabled(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ScalingPolicy value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeStringField("Namespace", value.getNamespace());
+        writeValue(g, provider, "Target", value.getTarget());
+        writeValue(g, provider, "Min", value.getMin());
+        g.writeNumberField("Max", value.getMax());
+        writeValue(g, provider, "Policy", value.getPolicy());
+        writeValue(g, provider, "Enabled", value.getEnabled());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
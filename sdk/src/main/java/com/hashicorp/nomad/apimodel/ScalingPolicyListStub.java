@@ -78,6 +78,53 @@ public final class ScalingPolicyListStub extends ApiObject {
         return this;
     }
 
+    @Override
+    public ScalingPolicyListStub deepCopy() {
+        final ScalingPolicyListStub copy = new ScalingPolicyListStub();
+        copy.id = this.id;
+        copy.enabled = this.enabled;
+        copy.target = copyOf(this.target);
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ScalingPolicyListStub that = (ScalingPolicyListStub) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && this.enabled == that.enabled
+                && java.util.Objects.equals(this.target, that.target)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + Boolean.hashCode(this.enabled);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.enabled);
+        hash = hashOf(hash, this.target);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,68 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link ScalingPolicyListStub}
+ * directly from and to JSON tokens.
+ */
+public final class ScalingPolicyListStubCodec extends ApiObjectCodec<ScalingPolicyListStub> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType TARGET =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+
+    public ScalingPolicyListStubCodec() {
+        super(ScalingPolicyListStub.class);
+    }
+
+    @Override
+    protected ScalingPolicyListStub newInstance() {
+        return new ScalingPolicyListStub();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ScalingPolicyListStub value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Enabled":
+                value.setEnabled(readBoolean(p, ctxt));
+                return true;
+            case "Target":
+                value.setTarget(readValue(p, ctxt, TARGET));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ScalingPolicyListStub value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeBooleanField("Enabled", value.getEnabled());
+        writeValue(g, provider, "Target", value.getTarget());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
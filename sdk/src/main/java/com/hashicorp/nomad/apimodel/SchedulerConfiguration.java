@@ -59,6 +59,49 @@ public final class SchedulerConfiguration extends ApiObject {
         return this;
     }
 
+    @Override
+    public SchedulerConfiguration deepCopy() {
+        final SchedulerConfiguration copy = new SchedulerConfiguration();
+        copy.schedulerAlgorithm = this.schedulerAlgorithm;
+        copy.preemptionConfig = copyOf(this.preemptionConfig);
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final SchedulerConfiguration that = (SchedulerConfiguration) o;
+        return java.util.Objects.equals(this.schedulerAlgorithm, that.schedulerAlgorithm)
+                && java.util.Objects.equals(this.preemptionConfig, that.preemptionConfig)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.schedulerAlgorithm);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.schedulerAlgorithm);
+        hash = hashOf(hash, this.preemptionConfig);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,57 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * This is a generated codec that reads and writes {@link SchedulerConfiguration}
+ * directly from and to JSON tokens.
+ */
+public final class SchedulerConfigurationCodec extends ApiObjectCodec<SchedulerConfiguration> {
+    public SchedulerConfigurationCodec() {
+        super(SchedulerConfiguration.class);
+    }
+
+    @Override
+    protected SchedulerConfiguration newInstance() {
+        return new SchedulerConfiguration();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, SchedulerConfiguration value)
+            throws IOException {
+        switch (name) {
+            case "SchedulerAlgorithm":
+                value.setSchedulerAlgorithm(readString(p, ctxt));
+                return true;
+            case "PreemptionConfig":
+                value.setPreemptionConfig(readValue(p, ctxt, PreemptionConfig.class));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, SchedulerConfiguration value)
+            throws IOException {
+        g.writeStringField("SchedulerAlgorithm", value.getSchedulerAlgorithm());
+        writeValue(g, provider, "PreemptionConfig", value.getPreemptionConfig());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
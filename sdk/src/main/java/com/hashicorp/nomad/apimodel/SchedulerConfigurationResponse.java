@@ -25,6 +25,36 @@ public final class SchedulerConfigurationResponse extends ApiObject {
         return this;
     }
 
+    @Override
+    public SchedulerConfigurationResponse deepCopy() {
+        final SchedulerConfigurationResponse copy = new SchedulerConfigurationResponse();
+        copy.schedulerConfig = copyOf(this.schedulerConfig);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final SchedulerConfigurationResponse that = (SchedulerConfigurationResponse) o;
+        return java.util.Objects.equals(this.schedulerConfig, that.schedulerConfig)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.schedulerConfig);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
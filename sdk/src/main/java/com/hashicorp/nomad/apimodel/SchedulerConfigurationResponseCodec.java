@@ -0,0 +1,44 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link SchedulerConfigurationResponse}
+ * directly from and to JSON tokens.
+ */
+public final class SchedulerConfigurationResponseCodec extends ApiObjectCodec<SchedulerConfigurationResponse> {
+    public SchedulerConfigurationResponseCodec() {
+        super(SchedulerConfigurationResponse.class);
+    }
+
+    @Override
+    protected SchedulerConfigurationResponse newInstance() {
+        return new SchedulerConfigurationResponse();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, SchedulerConfigurationResponse value)
+            throws IOException {
+        switch (name) {
+            case "SchedulerConfig":
+                value.setSchedulerConfig(readValue(p, ctxt, SchedulerConfiguration.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, SchedulerConfigurationResponse value)
+            throws IOException {
+        writeValue(g, provider, "SchedulerConfig", value.getSchedulerConfig());
+    }
+}
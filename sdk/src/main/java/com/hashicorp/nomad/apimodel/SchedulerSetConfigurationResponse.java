@@ -25,6 +25,38 @@ public final class SchedulerSetConfigurationResponse extends ApiObject {
         return this;
     }
 
+    @Override
+    public SchedulerSetConfigurationResponse deepCopy() {
+        final SchedulerSetConfigurationResponse copy = new SchedulerSetConfigurationResponse();
+        copy.updated = this.updated;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final SchedulerSetConfigurationResponse that = (SchedulerSetConfigurationResponse) o;
+        return this.updated == that.updated
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Boolean.hashCode(this.updated);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.updated);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,44 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link SchedulerSetConfigurationResponse}
+ * directly from and to JSON tokens.
+ */
+public final class SchedulerSetConfigurationResponseCodec extends ApiObjectCodec<SchedulerSetConfigurationResponse> {
+    public SchedulerSetConfigurationResponseCodec() {
+        super(SchedulerSetConfigurationResponse.class);
+    }
+
+    @Override
+    protected SchedulerSetConfigurationResponse newInstance() {
+        return new SchedulerSetConfigurationResponse();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, SchedulerSetConfigurationResponse value)
+            throws IOException {
+        switch (name) {
+            case "Updated":
+                value.setUpdated(readBoolean(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, SchedulerSetConfigurationResponse value)
+            throws IOException {
+        g.writeBooleanField("Updated", value.getUpdated());
+    }
+}
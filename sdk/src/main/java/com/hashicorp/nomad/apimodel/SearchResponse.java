@@ -51,6 +51,39 @@ public final class SearchResponse extends ApiObject {
         return this;
     }
 
+    @Override
+    public SearchResponse deepCopy() {
+        final SearchResponse copy = new SearchResponse();
+        copy.matches = copyOf(this.matches);
+        copy.truncations = copyOf(this.truncations);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final SearchResponse that = (SearchResponse) o;
+        return java.util.Objects.equals(this.matches, that.matches)
+                && java.util.Objects.equals(this.truncations, that.truncations)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.matches);
+        hash = hashOf(hash, this.truncations);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,59 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link SearchResponse}
+ * directly from and to JSON tokens.
+ */
+public final class SearchResponseCodec extends ApiObjectCodec<SearchResponse> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType MATCHES =
+            TYPES.constructMapType(Map.class, TYPES.constructType(String.class),
+                    TYPES.constructCollectionType(List.class, String.class));
+    private static final JavaType TRUNCATIONS =
+            TYPES.constructMapType(Map.class, String.class, Boolean.class);
+
+    public SearchResponseCodec() {
+        super(SearchResponse.class);
+    }
+
+    @Override
+    protected SearchResponse newInstance() {
+        return new SearchResponse();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, SearchResponse value)
+            throws IOException {
+        switch (name) {
+            case "Matches":
+                value.setMatches(readValue(p, ctxt, MATCHES));
+                return true;
+            case "Truncations":
+                value.setTruncations(readValue(p, ctxt, TRUNCATIONS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, SearchResponse value)
+            throws IOException {
+        writeValue(g, provider, "Matches", value.getMatches());
+        writeValue(g, provider, "Truncations", value.getTruncations());
+    }
+}
@@ -92,6 +92,62 @@ public final class SentinelPolicy extends ApiObject {
         return this;
     }
 
+    @Override
+    public SentinelPolicy deepCopy() {
+        final SentinelPolicy copy = new SentinelPolicy();
+        copy.name = this.name;
+        copy.description = this.description;
+        copy.scope = this.scope;
+        copy.enforcementLevel = this.enforcementLevel;
+        copy.policy = this.policy;
+        copy.createIndex = this.createIndex;
+        copy.modifyIndex = this.modifyIndex;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final SentinelPolicy that = (SentinelPolicy) o;
+        return java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.description, that.description)
+                && java.util.Objects.equals(this.scope, that.scope)
+                && java.util.Objects.equals(this.enforcementLevel, that.enforcementLevel)
+                && java.util.Objects.equals(this.policy, that.policy)
+                && java.util.Objects.equals(this.createIndex, that.createIndex)
+                && java.util.Objects.equals(this.modifyIndex, that.modifyIndex)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.description);
+        result = 31 * result + java.util.Objects.hashCode(this.scope);
+        result = 31 * result + java.util.Objects.hashCode(this.enforcementLevel);
+        result = 31 * result + java.util.Objects.hashCode(this.policy);
+        result = 31 * result + java.util.Objects.hashCode(this.createIndex);
+        result = 31 * result + java.util.Objects.hashCode(this.modifyIndex);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.description);
+        hash = hashOf(hash, this.scope);
+        hash = hashOf(hash, this.enforcementLevel);
+        hash = hashOf(hash, this.policy);
+        hash = hashOf(hash, this.createIndex);
+        hash = hashOf(hash, this.modifyIndex);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
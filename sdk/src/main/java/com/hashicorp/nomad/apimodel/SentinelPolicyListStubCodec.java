@@ -0,0 +1,65 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * This is a generated codec that reads and writes {@link SentinelPolicyListStub}
+ * directly from and to JSON tokens.
+ */
+public final class SentinelPolicyListStubCodec extends ApiObjectCodec<SentinelPolicyListStub> {
+    public SentinelPolicyListStubCodec() {
+        super(SentinelPolicyListStub.class);
+    }
+
+    @Override
+    protected SentinelPolicyListStub newInstance() {
+        return new SentinelPolicyListStub();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, SentinelPolicyListStub value)
+            throws IOException {
+        switch (name) {
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Description":
+                value.setDescription(readString(p, ctxt));
+                return true;
+            case "Scope":
+                value.setScope(readString(p, ctxt));
+                return true;
+            case "EnforcementLevel":
+                value.setEnforcementLevel(readString(p, ctxt));
+                return true;
+            case "CreateIndex":
+                value.setCreateIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "ModifyIndex":
+                value.setModifyIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, SentinelPolicyListStub value)
+            throws IOException {
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("Description", value.getDescription());
+        g.writeStringField("Scope", value.getScope());
+        g.writeStringField("EnforcementLevel", value.getEnforcementLevel());
+        writeValue(g, provider, "CreateIndex", value.getCreateIndex());
+        writeValue(g, provider, "ModifyIndex", value.getModifyIndex());
+    }
+}
@@ -148,6 +148,81 @@ public final class ServerHealth extends ApiObject {
         return this;
     }
 
+    @Override
+    public ServerHealth deepCopy() {
+        final ServerHealth copy = new ServerHealth();
+        copy.id = this.id;
+        copy.name = this.name;
+        copy.address = this.address;
+        copy.serfStatus = this.serfStatus;
+        copy.version = this.version;
+        copy.leader = this.leader;
+        copy.lastContact = this.lastContact;
+        copy.lastTerm = this.lastTerm;
+        copy.lastIndex = this.lastIndex;
+        copy.healthy = this.healthy;
+        copy.voter = this.voter;
+        copy.stableSince = copyOf(this.stableSince);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ServerHealth that = (ServerHealth) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.address, that.address)
+                && java.util.Objects.equals(this.serfStatus, that.serfStatus)
+                && java.util.Objects.equals(this.version, that.version)
+                && this.leader == that.leader
+                && java.util.Objects.equals(this.lastContact, that.lastContact)
+                && java.util.Objects.equals(this.lastTerm, that.lastTerm)
+                && java.util.Objects.equals(this.lastIndex, that.lastIndex)
+                && this.healthy == that.healthy
+                && this.voter == that.voter
+                && java.util.Objects.equals(this.stableSince, that.stableSince)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.address);
+        result = 31 * result + java.util.Objects.hashCode(this.serfStatus);
+        result = 31 * result + java.util.Objects.hashCode(this.version);
+        result = 31 * result + Boolean.hashCode(this.leader);
+        result = 31 * result + java.util.Objects.hashCode(this.lastContact);
+        result = 31 * result + java.util.Objects.hashCode(this.lastTerm);
+        result = 31 * result + java.util.Objects.hashCode(this.lastIndex);
+        result = 31 * result + Boolean.hashCode(this.healthy);
+        result = 31 * result + Boolean.hashCode(this.voter);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.address);
+        hash = hashOf(hash, this.serfStatus);
+        hash = hashOf(hash, this.version);
+        hash = hashOf(hash, this.leader);
+        hash = hashOf(hash, this.lastContact);
+        hash = hashOf(hash, this.lastTerm);
+        hash = hashOf(hash, this.lastIndex);
+        hash = hashOf(hash, this.healthy);
+        hash = hashOf(hash, this.voter);
+        hash = hashOf(hash, this.stableSince);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
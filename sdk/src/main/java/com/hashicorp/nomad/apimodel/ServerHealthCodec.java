@@ -0,0 +1,90 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Date;
+
+/**
+ * This is a generated codec that reads and writes {@link ServerHealth}
+ * directly from and to JSON tokens.
+ */
+public final class ServerHealthCodec extends ApiObjectCodec<ServerHealth> {
+    public ServerHealthCodec() {
+        super(ServerHealth.class);
+    }
+
+    @Override
+    protected ServerHealth newInstance() {
+        return new ServerHealth();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ServerHealth value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Address":
+                value.setAddress(readString(p, ctxt));
+                return true;
+            case "SerfStatus":
+                value.setSerfStatus(readString(p, ctxt));
+                return true;
+            case "Version":
+                value.setVersion(readString(p, ctxt));
+                return true;
+            case "Leader":
+                value.setLeader(readBoolean(p, ctxt));
+                return true;
+            case "LastContact":
+                value.setLastContact(readString(p, ctxt));
+                return true;
+            case "LastTerm":
+                value.setLastTerm(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "LastIndex":
+                value.setLastIndex(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "Healthy":
+                value.setHealthy(readBoolean(p, ctxt));
+                return true;
+            case "Voter":
+                value.setVoter(readBoolean(p, ctxt));
+                return true;
+            case "StableSince":
+                value.setStableSince(readValue(p, ctxt, Date.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ServerHealth value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("Address", value.getAddress());
+        g.writeStringField("SerfStatus", value.getSerfStatus());
+        g.writeStringField("Version", value.getVersion());
+        g.writeBooleanField("Leader", value.getLeader());
+        g.writeStringField("LastContact", value.getLastContact());
+        writeValue(g, provider, "LastTerm", value.getLastTerm());
+        writeValue(g, provider, "LastIndex", value.getLastIndex());
+        g.writeBooleanField("Healthy", value.getHealthy());
+        g.writeBooleanField("Voter", value.getVoter());
+        writeValue(g, provider, "StableSince", value.getStableSince());
+    }
+}
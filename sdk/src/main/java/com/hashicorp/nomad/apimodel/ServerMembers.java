@@ -66,6 +66,49 @@ public final class ServerMembers extends ApiObject {
         return this;
     }
 
+    @Override
+    public ServerMembers deepCopy() {
+        final ServerMembers copy = new ServerMembers();
+        copy.serverName = this.serverName;
+        copy.serverRegion = this.serverRegion;
+        copy.serverDc = this.serverDc;
+        copy.members = copyOf(this.members);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ServerMembers that = (ServerMembers) o;
+        return java.util.Objects.equals(this.serverName, that.serverName)
+                && java.util.Objects.equals(this.serverRegion, that.serverRegion)
+                && java.util.Objects.equals(this.serverDc, that.serverDc)
+                && java.util.Objects.equals(this.members, that.members)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.serverName);
+        result = 31 * result + java.util.Objects.hashCode(this.serverRegion);
+        result = 31 * result + java.util.Objects.hashCode(this.serverDc);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.serverName);
+        hash = hashOf(hash, this.serverRegion);
+        hash = hashOf(hash, this.serverDc);
+        hash = hashOf(hash, this.members);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
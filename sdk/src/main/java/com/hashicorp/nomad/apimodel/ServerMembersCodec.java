@@ -0,0 +1,63 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link ServerMembers}
+ * directly from and to JSON tokens.
+ */
+public final class ServerMembersCodec extends ApiObjectCodec<ServerMembers> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType MEMBERS =
+            TYPES.constructCollectionType(List.class, AgentMember.class);
+
+    public ServerMembersCodec() {
+        super(ServerMembers.class);
+    }
+
+    @Override
+    protected ServerMembers newInstance() {
+        return new ServerMembers();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ServerMembers value)
+            throws IOException {
+        switch (name) {
+            case "ServerName":
+                value.setServerName(readString(p, ctxt));
+                return true;
+            case "ServerRegion":
+                value.setServerRegion(readString(p, ctxt));
+                return true;
+            case "ServerDC":
+                value.setServerDc(readString(p, ctxt));
+                return true;
+            case "Members":
+                value.setMembers(readValue(p, ctxt, MEMBERS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ServerMembers value)
+            throws IOException {
+        g.writeStringField("ServerName", value.getServerName());
+        g.writeStringField("ServerRegion", value.getServerRegion());
+        g.writeStringField("ServerDC", value.getServerDc());
+        writeValue(g, provider, "Members", value.getMembers());
+    }
+}
@@ -185,6 +185,75 @@ public final class Service extends ApiObject {
         return this;
     }
 
+    @Override
+    public Service deepCopy() {
+        final Service copy = new Service();
+        copy.id = this.id;
+        copy.name = this.name;
+        copy.tags = copyOf(this.tags);
+        copy.canaryTags = copyOf(this.canaryTags);
+        copy.enableTagOverride = this.enableTagOverride;
+        copy.portLabel = this.portLabel;
+        copy.addressMode = this.addressMode;
+        copy.checks = copyOf(this.checks);
+        copy.checkRestart = copyOf(this.checkRestart);
+        copy.connect = copyOf(this.connect);
+        copy.meta = copyOf(this.meta);
+        copy.canaryMeta = copyOf(this.canaryMeta);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Service that = (Service) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.tags, that.tags)
+                && java.util.Objects.equals(this.canaryTags, that.canaryTags)
+                && this.enableTagOverride == that.enableTagOverride
+                && java.util.Objects.equals(this.portLabel, that.portLabel)
+                && java.util.Objects.equals(this.addressMode, that.addressMode)
+                && java.util.Objects.equals(this.checks, that.checks)
+                && java.util.Objects.equals(this.checkRestart, that.checkRestart)
+                && java.util.Objects.equals(this.connect, that.connect)
+                && java.util.Objects.equals(this.meta, that.meta)
+                && java.util.Objects.equals(this.canaryMeta, that.canaryMeta)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + Boolean.hashCode(this.enableTagOverride);
+        result = 31 * result + java.util.Objects.hashCode(this.portLabel);
+        result = 31 * result + java.util.Objects.hashCode(this.addressMode);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.tags);
+        hash = hashOf(hash, this.canaryTags);
+        hash = hashOf(hash, this.enableTagOverride);
+        hash = hashOf(hash, this.portLabel);
+        hash = hashOf(hash, this.addressMode);
+        hash = hashOf(hash, this.checks);
+        hash = hashOf(hash, this.checkRestart);
+        hash = hashOf(hash, this.connect);
+        hash = hashOf(hash, this.meta);
+        hash = hashOf(hash, this.canaryMeta);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -250,6 +250,111 @@ public final class ServiceCheck extends ApiObject {
         return this;
     }
 
+    @Override
+    public ServiceCheck deepCopy() {
+        final ServiceCheck copy = new ServiceCheck();
+        copy.id = this.id;
+        copy.name = this.name;
+        copy.type = this.type;
+        copy.command = this.command;
+        copy.args = copyOf(this.args);
+        copy.path = this.path;
+        copy.protocol = this.protocol;
+        copy.portLabel = this.portLabel;
+        copy.expose = this.expose;
+        copy.addressMode = this.addressMode;
+        copy.interval = this.interval;
+        copy.timeout = this.timeout;
+        copy.initialStatus = this.initialStatus;
+        copy.tlsSkipVerify = this.tlsSkipVerify;
+        copy.header = copyOf(this.header);
+        copy.method = this.method;
+        copy.checkRestart = copyOf(this.checkRestart);
+        copy.grpcService = this.grpcService;
+        copy.grpcUseTls = this.grpcUseTls;
+        copy.taskName = this.taskName;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ServiceCheck that = (ServiceCheck) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.type, that.type)
+                && java.util.Objects.equals(this.command, that.command)
+                && java.util.Objects.equals(this.args, that.args)
+                && java.util.Objects.equals(this.path, that.path)
+                && java.util.Objects.equals(this.protocol, that.protocol)
+                && java.util.Objects.equals(this.portLabel, that.portLabel)
+                && this.expose == that.expose
+                && java.util.Objects.equals(this.addressMode, that.addressMode)
+                && this.interval == that.interval
+                && this.timeout == that.timeout
+                && java.util.Objects.equals(this.initialStatus, that.initialStatus)
+                && this.tlsSkipVerify == that.tlsSkipVerify
+                && java.util.Objects.equals(this.header, that.header)
+                && java.util.Objects.equals(this.method, that.method)
+                && java.util.Objects.equals(this.checkRestart, that.checkRestart)
+                && java.util.Objects.equals(this.grpcService, that.grpcService)
+                && this.grpcUseTls == that.grpcUseTls
+                && java.util.Objects.equals(this.taskName, that.taskName)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.type);
+        result = 31 * result + java.util.Objects.hashCode(this.command);
+        result = 31 * result + java.util.Objects.hashCode(this.path);
+        result = 31 * result + java.util.Objects.hashCode(this.protocol);
+        result = 31 * result + java.util.Objects.hashCode(this.portLabel);
+        result = 31 * result + Boolean.hashCode(this.expose);
+        result = 31 * result + java.util.Objects.hashCode(this.addressMode);
+        result = 31 * result + Long.hashCode(this.interval);
+        result = 31 * result + Long.hashCode(this.timeout);
+        result = 31 * result + java.util.Objects.hashCode(this.initialStatus);
+        result = 31 * result + Boolean.hashCode(this.tlsSkipVerify);
+        result = 31 * result + java.util.Objects.hashCode(this.method);
+        result = 31 * result + java.util.Objects.hashCode(this.grpcService);
+        result = 31 * result + Boolean.hashCode(this.grpcUseTls);
+        result = 31 * result + java.util.Objects.hashCode(this.taskName);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.type);
+        hash = hashOf(hash, this.command);
+        hash = hashOf(hash, this.args);
+        hash = hashOf(hash, this.path);
+        hash = hashOf(hash, this.protocol);
+        hash = hashOf(hash, this.portLabel);
+        hash = hashOf(hash, this.expose);
+        hash = hashOf(hash, this.addressMode);
+        hash = hashOf(hash, this.interval);
+        hash = hashOf(hash, this.timeout);
+        hash = hashOf(hash, this.initialStatus);
+        hash = hashOf(hash, this.tlsSkipVerify);
+        hash = hashOf(hash, this.header);
+        hash = hashOf(hash, this.method);
+        hash = hashOf(hash, this.checkRestart);
+        hash = hashOf(hash, this.grpcService);
+        hash = hashOf(hash, this.grpcUseTls);
+        hash = hashOf(hash, this.taskName);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
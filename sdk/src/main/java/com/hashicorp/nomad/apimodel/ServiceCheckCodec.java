@@ -0,0 +1,131 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link ServiceCheck}
+ * directly from and to JSON tokens.
+ */
+public final class ServiceCheckCodec extends ApiObjectCodec<ServiceCheck> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType ARGS =
+            TYPES.constructCollectionType(List.class, String.class);
+    private static final JavaType HEADER =
+            TYPES.constructMapType(Map.class, TYPES.constructType(String.class),
+                    TYPES.constructCollectionType(List.class, String.class));
+
+    public ServiceCheckCodec() {
+        super(ServiceCheck.class);
+    }
+
+    @Override
+    protected ServiceCheck newInstance() {
+        return new ServiceCheck();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, ServiceCheck value)
+            throws IOException {
+        switch (name) {
+            case "Id":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Type":
+                value.setType(readInternedString(p, ctxt));
+                return true;
+            case "Command":
+                value.setCommand(readString(p, ctxt));
+                return true;
+            case "Args":
+                value.setArgs(readValue(p, ctxt, ARGS));
+                return true;
+            case "Path":
+                value.setPath(readString(p, ctxt));
+                return true;
+            case "Protocol":
+                value.setProtocol(readString(p, ctxt));
+                return true;
+            case "PortLabel":
+                value.setPortLabel(readString(p, ctxt));
+                return true;
+            case "Expose":
+                value.setExpose(readBoolean(p, ctxt));
+                return true;
+            case "AddressMode":
+                value.setAddressMode(readString(p, ctxt));
+                return true;
+            case "Interval":
+                value.setInterval(readLong(p, ctxt));
+                return true;
+            case "Timeout":
+                value.setTimeout(readLong(p, ctxt));
+                return true;
+            case "InitialStatus":
+                value.setInitialStatus(readString(p, ctxt));
+                return true;
+            case "TLSSkipVerify":
+                value.setTlsSkipVerify(readBoolean(p, ctxt));
+                return true;
+            case "Header":
+                value.setHeader(readValue(p, ctxt, HEADER));
+                return true;
+            case "Method":
+                value.setMethod(readString(p, ctxt));
+                return true;
+            case "CheckRestart":
+                value.setCheckRestart(readValue(p, ctxt, CheckRestart.class));
+                return true;
+            case "GRPCService":
+                value.setGrpcService(readString(p, ctxt));
+                return true;
+            case "GRPCUseTLS":
+                value.setGrpcUseTls(readBoolean(p, ctxt));
+                return true;
+            case "TaskName":
+                value.setTaskName(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, ServiceCheck value)
+            throws IOException {
+        g.writeStringField("Id", value.getId());
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("Type", value.getType());
+        g.writeStringField("Command", value.getCommand());
+        writeValue(g, provider, "Args", value.getArgs());
+        g.writeStringField("Path", value.getPath());
+        g.writeStringField("Protocol", value.getProtocol());
+        g.writeStringField("PortLabel", value.getPortLabel());
+        g.writeBooleanField("Expose", value.getExpose());
+        g.writeStringField("AddressMode", value.getAddressMode());
+        g.writeNumberField("Interval", value.getInterval());
+        g.writeNumberField("Timeout", value.getTimeout());
+        g.writeStringField("InitialStatus", value.getInitialStatus());
+        g.writeBooleanField("TLSSkipVerify", value.getTlsSkipVerify());
+        writeValue(g, provider, "Header", value.getHeader());
+        g.writeStringField("Method", value.getMethod());
+        writeValue(g, provider, "CheckRestart", value.getCheckRestart());
+        g.writeStringField("GRPCService", value.getGrpcService());
+        g.writeBooleanField("GRPCUseTLS", value.getGrpcUseTls());
+        g.writeStringField("TaskName", value.getTaskName());
+    }
+}
@@ -0,0 +1,104 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link Service}
+ * directly from and to JSON tokens.
+ */
+public final class ServiceCodec extends ApiObjectCodec<Service> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType TAGS =
+            TYPES.constructCollectionType(List.class, String.class);
+    private static final JavaType CANARY_TAGS =
+            TYPES.constructCollectionType(List.class, String.class);
+    private static final JavaType CHECKS =
+            TYPES.constructCollectionType(List.class, ServiceCheck.class);
+    private static final JavaType META =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+    private static final JavaType CANARY_META =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+
+    public ServiceCodec() {
+        super(Service.class);
+    }
+
+    @Override
+    protected Service newInstance() {
+        return new Service();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, Service value)
+            throws IOException {
+        switch (name) {
+            case "Id":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Tags":
+                value.setTags(readValue(p, ctxt, TAGS));
+                return true;
+            case "CanaryTags":
+                value.setCanaryTags(readValue(p, ctxt, CANARY_TAGS));
+                return true;
+            case "EnableTagOverride":
+                value.setEnableTagOverride(readBoolean(p, ctxt));
+                return true;
+            case "PortLabel":
+                value.setPortLabel(readString(p, ctxt));
+                return true;
+            case "AddressMode":
+                value.setAddressMode(readString(p, ctxt));
+                return true;
+            case "Checks":
+                value.setChecks(readValue(p, ctxt, CHECKS));
+                return true;
+            case "CheckRestart":
+                value.setCheckRestart(readValue(p, ctxt, CheckRestart.class));
+                return true;
+            case "Connect":
+                value.setConnect(readValue(p, ctxt, ConsulConnect.class));
+                return true;
+            case "Meta":
+                value.setMeta(readValue(p, ctxt, META));
+                return true;
+            case "CanaryMeta":
+                value.setCanaryMeta(readValue(p, ctxt, CANARY_META));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, Service value)
+            throws IOException {
+        g.writeStringField("Id", value.getId());
+        g.writeStringField("Name", value.getName());
+        writeValue(g, provider, "Tags", value.getTags());
+        writeValue(g, provider, "CanaryTags", value.getCanaryTags());
+        g.writeBooleanField("EnableTagOverride", value.getEnableTagOverride());
+        g.writeStringField("PortLabel", value.getPortLabel());
+        g.writeStringField("AddressMode", value.getAddressMode());
+        writeValue(g, provider, "Checks", value.getChecks());
+        writeValue(g, provider, "CheckRestart", value.getCheckRestart());
+        writeValue(g, provider, "Connect", value.getConnect());
+        writeValue(g, provider, "Meta", value.getMeta());
+        writeValue(g, provider, "CanaryMeta", value.getCanaryMeta());
+    }
+}
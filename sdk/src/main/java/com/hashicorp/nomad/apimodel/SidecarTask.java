@@ -157,6 +157,73 @@ public final class SidecarTask extends ApiObject {
         return this;
     }
 
+    @Override
+    public SidecarTask deepCopy() {
+        final SidecarTask copy = new SidecarTask();
+        copy.name = this.name;
+        copy.driver = this.driver;
+        copy.user = this.user;
+        copy.config = copyOf(this.config);
+        copy.env = copyOf(this.env);
+        copy.resources = copyOf(this.resources);
+        copy.meta = copyOf(this.meta);
+        copy.killTimeout = this.killTimeout;
+        copy.logConfig = copyOf(this.logConfig);
+        copy.shutdownDelay = this.shutdownDelay;
+        copy.killSignal = this.killSignal;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final SidecarTask that = (SidecarTask) o;
+        return java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.driver, that.driver)
+                && java.util.Objects.equals(this.user, that.user)
+                && java.util.Objects.equals(this.config, that.config)
+                && java.util.Objects.equals(this.env, that.env)
+                && java.util.Objects.equals(this.resources, that.resources)
+                && java.util.Objects.equals(this.meta, that.meta)
+                && java.util.Objects.equals(this.killTimeout, that.killTimeout)
+                && java.util.Objects.equals(this.logConfig, that.logConfig)
+                && java.util.Objects.equals(this.shutdownDelay, that.shutdownDelay)
+                && java.util.Objects.equals(this.killSignal, that.killSignal)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.driver);
+        result = 31 * result + java.util.Objects.hashCode(this.user);
+        result = 31 * result + java.util.Objects.hashCode(this.killTimeout);
+        result = 31 * result + java.util.Objects.hashCode(this.shutdownDelay);
+        result = 31 * result + java.util.Objects.hashCode(this.killSignal);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.driver);
+        hash = hashOf(hash, this.user);
+        hash = hashOf(hash, this.config);
+        hash = hashOf(hash, this.env);
+        hash = hashOf(hash, this.resources);
+        hash = hashOf(hash, this.meta);
+        hash = hashOf(hash, this.killTimeout);
+        hash = hashOf(hash, this.logConfig);
+        hash = hashOf(hash, this.shutdownDelay);
+        hash = hashOf(hash, this.killSignal);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,95 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link SidecarTask}
+ * directly from and to JSON tokens.
+ */
+public final class SidecarTaskCodec extends ApiObjectCodec<SidecarTask> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType CONFIG =
+            TYPES.constructMapType(Map.class, String.class, Object.class);
+    private static final JavaType ENV =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+    private static final JavaType META =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+
+    public SidecarTaskCodec() {
+        super(SidecarTask.class);
+    }
+
+    @Override
+    protected SidecarTask newInstance() {
+        return new SidecarTask();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, SidecarTask value)
+            throws IOException {
+        switch (name) {
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Driver":
+                value.setDriver(readInternedString(p, ctxt));
+                return true;
+            case "User":
+                value.setUser(readString(p, ctxt));
+                return true;
+            case "Config":
+                value.setConfig(readValue(p, ctxt, CONFIG));
+                return true;
+            case "Env":
+                value.setEnv(readValue(p, ctxt, ENV));
+                return true;
+            case "Resources":
+                value.setResources(readValue(p, ctxt, Resources.class));
+                return true;
+            case "Meta":
+                value.setMeta(readValue(p, ctxt, META));
+                return true;
+            case "KillTimeout":
+                value.setKillTimeout(readValue(p, ctxt, Long.class));
+                return true;
+            case "LogConfig":
+                value.setLogConfig(readValue(p, ctxt, LogConfig.class));
+                return true;
+            case "ShutdownDelay":
+                value.setShutdownDelay(readValue(p, ctxt, Long.class));
+                return true;
+            case "KillSignal":
+                value.setKillSignal(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, SidecarTask value)
+            throws IOException {
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("Driver", value.getDriver());
+        g.writeStringField("User", value.getUser());
+        writeValue(g, provider, "Config", value.getConfig());
+        writeValue(g, provider, "Env", value.getEnv());
+        writeValue(g, provider, "Resources", value.getResources());
+        writeValue(g, provider, "Meta", value.getMeta());
+        writeValue(g, provider, "KillTimeout", value.getKillTimeout());
+        writeValue(g, provider, "LogConfig", value.getLogConfig());
+        writeValue(g, provider, "ShutdownDelay", value.getShutdownDelay());
+        g.writeStringField("KillSignal", value.getKillSignal());
+    }
+}
@@ -55,6 +55,45 @@ public final class Spread extends ApiObject {
         return this;
     }
 
+    @Override
+    public Spread deepCopy() {
+        final Spread copy = new Spread();
+        copy.attribute = this.attribute;
+        copy.weight = this.weight;
+        copy.spreadTarget = copyOf(this.spreadTarget);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Spread that = (Spread) o;
+        return java.util.Objects.equals(this.attribute, that.attribute)
+                && this.weight == that.weight
+                && java.util.Objects.equals(this.spreadTarget, that.spreadTarget)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.attribute);
+        result = 31 * result + this.weight;
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.attribute);
+        hash = hashOf(hash, this.weight);
+        hash = hashOf(hash, this.spreadTarget);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,59 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link Spread}
+ * directly from and to JSON tokens.
+ */
+public final class SpreadCodec extends ApiObjectCodec<Spread> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType SPREAD_TARGET =
+            TYPES.constructCollectionType(List.class, SpreadTarget.class);
+
+    public SpreadCodec() {
+        super(Spread.class);
+    }
+
+    @Override
+    protected Spread newInstance() {
+        return new Spread();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, Spread value)
+            throws IOException {
+        switch (name) {
+            case "Attribute":
+                value.setAttribute(readString(p, ctxt));
+                return true;
+            case "Weight":
+                value.setWeight((short) readInt(p, ctxt));
+                return true;
+            case "SpreadTarget":
+                value.setSpreadTarget(readValue(p, ctxt, SPREAD_TARGET));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, Spread value)
+            throws IOException {
+        g.writeStringField("Attribute", value.getAttribute());
+        g.writeNumberField("Weight", value.getWeight());
+        writeValue(g, provider, "SpreadTarget", value.getSpreadTarget());
+    }
+}
@@ -36,6 +36,42 @@ public final class SpreadTarget extends ApiObject {
         return this;
     }
 
+    @Override
+    public SpreadTarget deepCopy() {
+        final SpreadTarget copy = new SpreadTarget();
+        copy.value = this.value;
+        copy.percent = this.percent;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final SpreadTarget that = (SpreadTarget) o;
+        return java.util.Objects.equals(this.value, that.value)
+                && this.percent == that.percent
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.value);
+        result = 31 * result + this.percent;
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.value);
+        hash = hashOf(hash, this.percent);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,48 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link SpreadTarget}
+ * directly from and to JSON tokens.
+ */
+public final class SpreadTargetCodec extends ApiObjectCodec<SpreadTarget> {
+    public SpreadTargetCodec() {
+        super(SpreadTarget.class);
+    }
+
+    @Override
+    protected SpreadTarget newInstance() {
+        return new SpreadTarget();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, SpreadTarget value)
+            throws IOException {
+        switch (name) {
+            case "Value":
+                value.setValue(readString(p, ctxt));
+                return true;
+            case "Percent":
+                value.setPercent((byte) readInt(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, SpreadTarget value)
+            throws IOException {
+        g.writeStringField("Value", value.getValue());
+        g.writeNumberField("Percent", value.getPercent());
+    }
+}
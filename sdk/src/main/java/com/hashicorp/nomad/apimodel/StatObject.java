@@ -51,6 +51,39 @@ public final class StatObject extends ApiObject {
         return this;
     }
 
+    @Override
+    public StatObject deepCopy() {
+        final StatObject copy = new StatObject();
+        copy.nested = copyOf(this.nested);
+        copy.attributes = copyOf(this.attributes);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final StatObject that = (StatObject) o;
+        return java.util.Objects.equals(this.nested, that.nested)
+                && java.util.Objects.equals(this.attributes, that.attributes)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.nested);
+        hash = hashOf(hash, this.attributes);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
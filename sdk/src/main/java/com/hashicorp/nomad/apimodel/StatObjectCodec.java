@@ -0,0 +1,57 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link StatObject}
+ * directly from and to JSON tokens.
+ */
+public final class StatObjectCodec extends ApiObjectCodec<StatObject> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType NESTED =
+            TYPES.constructMapType(Map.class, String.class, StatObject.class);
+    private static final JavaType ATTRIBUTES =
+            TYPES.constructMapType(Map.class, String.class, StatValue.class);
+
+    public StatObjectCodec() {
+        super(StatObject.class);
+    }
+
+    @Override
+    protected StatObject newInstance() {
+        return new StatObject();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, StatObject value)
+            throws IOException {
+        switch (name) {
+            case "Nested":
+                value.setNested(readValue(p, ctxt, NESTED));
+                return true;
+            case "Attributes":
+                value.setAttributes(readValue(p, ctxt, ATTRIBUTES));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, StatObject value)
+            throws IOException {
+        writeValue(g, provider, "Nested", value.getNested());
+        writeValue(g, provider, "Attributes", value.getAttributes());
+    }
+}
@@ -102,6 +102,66 @@ public final class StatValue extends ApiObject {
         return this;
     }
 
+    @Override
+    public StatValue deepCopy() {
+        final StatValue copy = new StatValue();
+        copy.floatNumeratorVal = this.floatNumeratorVal;
+        copy.floatDenominatorVal = this.floatDenominatorVal;
+        copy.intNumeratorVal = this.intNumeratorVal;
+        copy.intDenominatorVal = this.intDenominatorVal;
+        copy.stringVal = this.stringVal;
+        copy.boolVal = this.boolVal;
+        copy.unit = this.unit;
+        copy.desc = this.desc;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final StatValue that = (StatValue) o;
+        return Double.compare(this.floatNumeratorVal, that.floatNumeratorVal) == 0
+                && Double.compare(this.floatDenominatorVal, that.floatDenominatorVal) == 0
+                && java.util.Objects.equals(this.intNumeratorVal, that.intNumeratorVal)
+                && java.util.Objects.equals(this.intDenominatorVal, that.intDenominatorVal)
+                && java.util.Objects.equals(this.stringVal, that.stringVal)
+                && java.util.Objects.equals(this.boolVal, that.boolVal)
+                && java.util.Objects.equals(this.unit, that.unit)
+                && java.util.Objects.equals(this.desc, that.desc)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Double.hashCode(this.floatNumeratorVal);
+        result = 31 * result + Double.hashCode(this.floatDenominatorVal);
+        result = 31 * result + java.util.Objects.hashCode(this.intNumeratorVal);
+        result = 31 * result + java.util.Objects.hashCode(this.intDenominatorVal);
+        result = 31 * result + java.util.Objects.hashCode(this.stringVal);
+        result = 31 * result + java.util.Objects.hashCode(this.boolVal);
+        result = 31 * result + java.util.Objects.hashCode(this.unit);
+        result = 31 * result + java.util.Objects.hashCode(this.desc);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.floatNumeratorVal);
+        hash = hashOf(hash, this.floatDenominatorVal);
+        hash = hashOf(hash, this.intNumeratorVal);
+        hash = hashOf(hash, this.intDenominatorVal);
+        hash = hashOf(hash, this.stringVal);
+        hash = hashOf(hash, this.boolVal);
+        hash = hashOf(hash, this.unit);
+        hash = hashOf(hash, this.desc);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
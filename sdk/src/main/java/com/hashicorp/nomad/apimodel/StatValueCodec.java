@@ -0,0 +1,72 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link StatValue}
+ * directly from and to JSON tokens.
+ */
+public final class StatValueCodec extends ApiObjectCodec<StatValue> {
+    public StatValueCodec() {
+        super(StatValue.class);
+    }
+
+    @Override
+    protected StatValue newInstance() {
+        return new StatValue();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, StatValue value)
+            throws IOException {
+        switch (name) {
+            case "FloatNumeratorVal":
+                value.setFloatNumeratorVal(readDouble(p, ctxt));
+                return true;
+            case "FloatDenominatorVal":
+                value.setFloatDenominatorVal(readDouble(p, ctxt));
+                return true;
+            case "IntNumeratorVal":
+                value.setIntNumeratorVal(readValue(p, ctxt, Long.class));
+                return true;
+            case "IntDenominatorVal":
+                value.setIntDenominatorVal(readValue(p, ctxt, Long.class));
+                return true;
+            case "StringVal":
+                value.setStringVal(readString(p, ctxt));
+                return true;
+            case "BoolVal":
+                value.setBoolVal(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "Unit":
+                value.setUnit(readString(p, ctxt));
+                return true;
+            case "Desc":
+                value.setDesc(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, StatValue value)
+            throws IOException {
+        g.writeNumberField("FloatNumeratorVal", value.getFloatNumeratorVal());
+        g.writeNumberField("FloatDenominatorVal", value.getFloatDenominatorVal());
+        writeValue(g, provider, "IntNumeratorVal", value.getIntNumeratorVal());
+        writeValue(g, provider, "IntDenominatorVal", value.getIntDenominatorVal());
+        g.writeStringField("StringVal", value.getStringVal());
+        writeValue(g, provider, "BoolVal", value.getBoolVal());
+        g.writeStringField("Unit", value.getUnit());
+        g.writeStringField("Desc", value.getDesc());
+    }
+}
@@ -58,6 +58,49 @@ public final class StreamFrame extends ApiObject {
         return this;
     }
 
+    @Override
+    public StreamFrame deepCopy() {
+        final StreamFrame copy = new StreamFrame();
+        copy.offset = this.offset;
+        copy.data = copyOf(this.data);
+        copy.file = this.file;
+        copy.fileEvent = this.fileEvent;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final StreamFrame that = (StreamFrame) o;
+        return this.offset == that.offset
+                && java.util.Arrays.equals(this.data, that.data)
+                && java.util.Objects.equals(this.file, that.file)
+                && java.util.Objects.equals(this.fileEvent, that.fileEvent)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Long.hashCode(this.offset);
+        result = 31 * result + java.util.Objects.hashCode(this.file);
+        result = 31 * result + java.util.Objects.hashCode(this.fileEvent);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.offset);
+        hash = hashOf(hash, this.data);
+        hash = hashOf(hash, this.file);
+        hash = hashOf(hash, this.fileEvent);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,56 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link StreamFrame}
+ * directly from and to JSON tokens.
+ */
+public final class StreamFrameCodec extends ApiObjectCodec<StreamFrame> {
+    public StreamFrameCodec() {
+        super(StreamFrame.class);
+    }
+
+    @Override
+    protected StreamFrame newInstance() {
+        return new StreamFrame();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, StreamFrame value)
+            throws IOException {
+        switch (name) {
+            case "Offset":
+                value.setOffset(readLong(p, ctxt));
+                return true;
+            case "Data":
+                value.setData(readValue(p, ctxt, byte[].class));
+                return true;
+            case "File":
+                value.setFile(readString(p, ctxt));
+                return true;
+            case "FileEvent":
+                value.setFileEvent(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, StreamFrame value)
+            throws IOException {
+        g.writeNumberField("Offset", value.getOffset());
+        writeValue(g, provider, "Data", value.getData());
+        g.writeStringField("File", value.getFile());
+        g.writeStringField("FileEvent", value.getFileEvent());
+    }
+}
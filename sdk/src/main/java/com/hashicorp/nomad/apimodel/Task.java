@@ -348,6 +348,114 @@ public final class Task extends ApiObject {
         return this;
     }
 
+    @Override
+    public Task deepCopy() {
+        final Task copy = new Task();
+        copy.name = this.name;
+        copy.driver = this.driver;
+        copy.user = this.user;
+        copy.lifecycle = copyOf(this.lifecycle);
+        copy.config = copyOf(this.config);
+        copy.constraints = copyOf(this.constraints);
+        copy.affinities = copyOf(this.affinities);
+        copy.env = copyOf(this.env);
+        copy.services = copyOf(this.services);
+        copy.resources = copyOf(this.resources);
+        copy.restartPolicy = copyOf(this.restartPolicy);
+        copy.meta = copyOf(this.meta);
+        copy.killTimeout = this.killTimeout;
+        copy.logConfig = copyOf(this.logConfig);
+        copy.artifacts = copyOf(this.artifacts);
+        copy.vault = copyOf(this.vault);
+        copy.templates = copyOf(this.templates);
+        copy.dispatchPayload = copyOf(this.dispatchPayload);
+        copy.volumeMounts = copyOf(this.volumeMounts);
+        copy.csiPluginConfig = copyOf(this.csiPluginConfig);
+        copy.leader = this.leader;
+        copy.shutdownDelay = this.shutdownDelay;
+        copy.killSignal = this.killSignal;
+        copy.kind = this.kind;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Task that = (Task) o;
+        return java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.driver, that.driver)
+                && java.util.Objects.equals(this.user, that.user)
+                && java.util.Objects.equals(this.lifecycle, that.lifecycle)
+                && java.util.Objects.equals(this.config, that.config)
+                && java.util.Objects.equals(this.constraints, that.constraints)
+                && java.util.Objects.equals(this.affinities, that.affinities)
+                && java.util.Objects.equals(this.env, that.env)
+                && java.util.Objects.equals(this.services, that.services)
+                && java.util.Objects.equals(this.resources, that.resources)
+                && java.util.Objects.equals(this.restartPolicy, that.restartPolicy)
+                && java.util.Objects.equals(this.meta, that.meta)
+                && java.util.Objects.equals(this.killTimeout, that.killTimeout)
+                && java.util.Objects.equals(this.logConfig, that.logConfig)
+                && java.util.Objects.equals(this.artifacts, that.artifacts)
+                && java.util.Objects.equals(this.vault, that.vault)
+                && java.util.Objects.equals(this.templates, that.templates)
+                && java.util.Objects.equals(this.dispatchPayload, that.dispatchPayload)
+                && java.util.Objects.equals(this.volumeMounts, that.volumeMounts)
+                && java.util.Objects.equals(this.csiPluginConfig, that.csiPluginConfig)
+                && this.leader == that.leader
+                && this.shutdownDelay == that.shutdownDelay
+                && java.util.Objects.equals(this.killSignal, that.killSignal)
+                && java.util.Objects.equals(this.kind, that.kind)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.driver);
+        result = 31 * result + java.util.Objects.hashCode(this.user);
+        result = 31 * result + java.util.Objects.hashCode(this.killTimeout);
+        result = 31 * result + Boolean.hashCode(this.leader);
+        result = 31 * result + Long.hashCode(this.shutdownDelay);
+        result = 31 * result + java.util.Objects.hashCode(this.killSignal);
+        result = 31 * result + java.util.Objects.hashCode(this.kind);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.driver);
+        hash = hashOf(hash, this.user);
+        hash = hashOf(hash, this.lifecycle);
+        hash = hashOf(hash, this.config);
+        hash = hashOf(hash, this.constraints);
+        hash = hashOf(hash, this.affinities);
+        hash = hashOf(hash, this.env);
+        hash = hashOf(hash, this.services);
+        hash = hashOf(hash, this.resources);
+        hash = hashOf(hash, this.restartPolicy);
+        hash = hashOf(hash, this.meta);
+        hash = hashOf(hash, this.killTimeout);
+        hash = hashOf(hash, this.logConfig);
+        hash = hashOf(hash, this.artifacts);
+        hash = hashOf(hash, this.vault);
+        hash = hashOf(hash, this.templates);
+        hash = hashOf(hash, this.dispatchPayload);
+        hash = hashOf(hash, this.volumeMounts);
+        hash = hashOf(hash, this.csiPluginConfig);
+        hash = hashOf(hash, this.leader);
+        hash = hashOf(hash, this.shutdownDelay);
+        hash = hashOf(hash, this.killSignal);
+        hash = hashOf(hash, this.kind);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -66,6 +66,49 @@ public final class TaskArtifact extends ApiObject {
         return this;
     }
 
+    @Override
+    public TaskArtifact deepCopy() {
+        final TaskArtifact copy = new TaskArtifact();
+        copy.getterSource = this.getterSource;
+        copy.getterOptions = copyOf(this.getterOptions);
+        copy.getterMode = this.getterMode;
+        copy.relativeDest = this.relativeDest;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final TaskArtifact that = (TaskArtifact) o;
+        return java.util.Objects.equals(this.getterSource, that.getterSource)
+                && java.util.Objects.equals(this.getterOptions, that.getterOptions)
+                && java.util.Objects.equals(this.getterMode, that.getterMode)
+                && java.util.Objects.equals(this.relativeDest, that.relativeDest)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.getterSource);
+        result = 31 * result + java.util.Objects.hashCode(this.getterMode);
+        result = 31 * result + java.util.Objects.hashCode(this.relativeDest);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.getterSource);
+        hash = hashOf(hash, this.getterOptions);
+        hash = hashOf(hash, this.getterMode);
+        hash = hashOf(hash, this.relativeDest);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,63 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link TaskArtifact}
+ * directly from and to JSON tokens.
+ */
+public final class TaskArtifactCodec extends ApiObjectCodec<TaskArtifact> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType GETTER_OPTIONS =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+
+    public TaskArtifactCodec() {
+        super(TaskArtifact.class);
+    }
+
+    @Override
+    protected TaskArtifact newInstance() {
+        return new TaskArtifact();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, TaskArtifact value)
+            throws IOException {
+        switch (name) {
+            case "GetterSource":
+                value.setGetterSource(readString(p, ctxt));
+                return true;
+            case "GetterOptions":
+                value.setGetterOptions(readValue(p, ctxt, GETTER_OPTIONS));
+                return true;
+            case "GetterMode":
+                value.setGetterMode(readString(p, ctxt));
+                return true;
+            case "RelativeDest":
+                value.setRelativeDest(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, TaskArtifact value)
+            throws IOException {
+        g.writeStringField("GetterSource", value.getGetterSource());
+        writeValue(g, provider, "GetterOptions", value.getGetterOptions());
+        g.writeStringField("GetterMode", value.getGetterMode());
+        g.writeStringField("RelativeDest", value.getRelativeDest());
+    }
+}
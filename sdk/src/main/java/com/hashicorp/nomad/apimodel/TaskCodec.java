@@ -0,0 +1,160 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link Task}
+ * directly from and to JSON tokens.
+ */
+public final class TaskCodec extends ApiObjectCodec<Task> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType CONFIG =
+            TYPES.constructMapType(Map.class, String.class, Object.class);
+    private static final JavaType CONSTRAINTS =
+            TYPES.constructCollectionType(List.class, Constraint.class);
+    private static final JavaType AFFINITIES =
+            TYPES.constructCollectionType(List.class, Affinity.class);
+    private static final JavaType ENV =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+    private static final JavaType SERVICES =
+            TYPES.constructCollectionType(List.class, Service.class);
+    private static final JavaType META =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+    private static final JavaType ARTIFACTS =
+            TYPES.constructCollectionType(List.class, TaskArtifact.class);
+    private static final JavaType TEMPLATES =
+            TYPES.constructCollectionType(List.class, Template.class);
+    private static final JavaType VOLUME_MOUNTS =
+            TYPES.constructCollectionType(List.class, VolumeMount.class);
+
+    public TaskCodec() {
+        super(Task.class);
+    }
+
+    @Override
+    protected Task newInstance() {
+        return new Task();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, Task value)
+            throws IOException {
+        switch (name) {
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Driver":
+                value.setDriver(readInternedString(p, ctxt));
+                return true;
+            case "User":
+                value.setUser(readString(p, ctxt));
+                return true;
+            case "Lifecycle":
+                value.setLifecycle(readValue(p, ctxt, TaskLifecycle.class));
+                return true;
+            case "Config":
+                value.setConfig(readValue(p, ctxt, CONFIG));
+                return true;
+            case "Constraints":
+                value.setConstraints(readValue(p, ctxt, CONSTRAINTS));
+                return true;
+            case "Affinities":
+                value.setAffinities(readValue(p, ctxt, AFFINITIES));
+                return true;
+            case "Env":
+                value.setEnv(readValue(p, ctxt, ENV));
+                return true;
+            case "Services":
+                value.setServices(readValue(p, ctxt, SERVICES));
+                return true;
+            case "Resources":
+                value.setResources(readValue(p, ctxt, Resources.class));
+                return true;
+            case "RestartPolicy":
+                value.setRestartPolicy(readValue(p, ctxt, RestartPolicy.class));
+                return true;
+            case "Meta":
+                value.setMeta(readValue(p, ctxt, META));
+                return true;
+            case "KillTimeout":
+                value.setKillTimeout(readValue(p, ctxt, Long.class));
+                return true;
+            case "LogConfig":
+                value.setLogConfig(readValue(p, ctxt, LogConfig.class));
+                return true;
+            case "Artifacts":
+                value.setArtifacts(readValue(p, ctxt, ARTIFACTS));
+                return true;
+            case "Vault":
+                value.setVault(readValue(p, ctxt, Vault.class));
+                return true;
+            case "Templates":
+                value.setTemplates(readValue(p, ctxt, TEMPLATES));
+                return true;
+            case "DispatchPayload":
+                value.setDispatchPayload(readValue(p, ctxt, DispatchPayloadConfig.class));
+                return true;
+            case "VolumeMounts":
+                value.setVolumeMounts(readValue(p, ctxt, VOLUME_MOUNTS));
+                return true;
+            case "CSIPluginConfig":
+                value.setCsiPluginConfig(readValue(p, ctxt, TaskCsiPluginConfig.class));
+                return true;
+            case "Leader":
+                value.setLeader(readBoolean(p, ctxt));
+                return true;
+            case "ShutdownDelay":
+                value.setShutdownDelay(readLong(p, ctxt));
+                return true;
+            case "KillSignal":
+                value.setKillSignal(readString(p, ctxt));
+                return true;
+            case "Kind":
+                value.setKind(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, Task value)
+            throws IOException {
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("Driver", value.getDriver());
+        g.writeStringField("User", value.getUser());
+        writeValue(g, provider, "Lifecycle", value.getLifecycle());
+        writeValue(g, provider, "Config", value.getConfig());
+        writeValue(g, provider, "Constraints", value.getConstraints());
+        writeValue(g, provider, "Affinities", value.getAffinities());
+        writeValue(g, provider, "Env", value.getEnv());
+        writeValue(g, provider, "Services", value.getServices());
+        writeValue(g, provider, "Resources", value.getResources());
+        writeValue(g, provider, "RestartPolicy", value.getRestartPolicy());
+        writeValue(g, provider, "Meta", value.getMeta());
+        writeValue(g, provider, "KillTimeout", value.getKillTimeout());
+        writeValue(g, provider, "LogConfig", value.getLogConfig());
+        writeValue(g, provider, "Artifacts", value.getArtifacts());
+        writeValue(g, provider, "Vault", value.getVault());
+        writeValue(g, provider, "Templates", value.getTemplates());
+        writeValue(g, provider, "DispatchPayload", value.getDispatchPayload());
+        writeValue(g, provider, "VolumeMounts", value.getVolumeMounts());
+        writeValue(g, provider, "CSIPluginConfig", value.getCsiPluginConfig());
+        g.writeBooleanField("Leader", value.getLeader());
+        g.writeNumberField("ShutdownDelay", value.getShutdownDelay());
+        g.writeStringField("KillSignal", value.getKillSignal());
+        g.writeStringField("Kind", value.getKind());
+    }
+}
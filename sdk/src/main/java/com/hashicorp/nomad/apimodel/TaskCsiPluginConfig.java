@@ -47,6 +47,46 @@ public final class TaskCsiPluginConfig extends ApiObject {
         return this;
     }
 
+    @Override
+    public TaskCsiPluginConfig deepCopy() {
+        final TaskCsiPluginConfig copy = new TaskCsiPluginConfig();
+        copy.id = this.id;
+        copy.type = this.type;
+        copy.mountDir = this.mountDir;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final TaskCsiPluginConfig that = (TaskCsiPluginConfig) o;
+        return java.util.Objects.equals(this.id, that.id)
+                && java.util.Objects.equals(this.type, that.type)
+                && java.util.Objects.equals(this.mountDir, that.mountDir)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.id);
+        result = 31 * result + java.util.Objects.hashCode(this.type);
+        result = 31 * result + java.util.Objects.hashCode(this.mountDir);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.id);
+        hash = hashOf(hash, this.type);
+        hash = hashOf(hash, this.mountDir);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,52 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link TaskCsiPluginConfig}
+ * directly from and to JSON tokens.
+ */
+public final class TaskCsiPluginConfigCodec extends ApiObjectCodec<TaskCsiPluginConfig> {
+    public TaskCsiPluginConfigCodec() {
+        super(TaskCsiPluginConfig.class);
+    }
+
+    @Override
+    protected TaskCsiPluginConfig newInstance() {
+        return new TaskCsiPluginConfig();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, TaskCsiPluginConfig value)
+            throws IOException {
+        switch (name) {
+            case "ID":
+                value.setId(readString(p, ctxt));
+                return true;
+            case "Type":
+                value.setType(readInternedString(p, ctxt));
+                return true;
+            case "MountDir":
+                value.setMountDir(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, TaskCsiPluginConfig value)
+            throws IOException {
+        g.writeStringField("ID", value.getId());
+        g.writeStringField("Type", value.getType());
+        g.writeStringField("MountDir", value.getMountDir());
+    }
+}
@@ -93,6 +93,51 @@ public final class TaskDiff extends ApiObject {
         return this;
     }
 
+    @Override
+    public TaskDiff deepCopy() {
+        final TaskDiff copy = new TaskDiff();
+        copy.type = this.type;
+        copy.name = this.name;
+        copy.fields = copyOf(this.fields);
+        copy.objects = copyOf(this.objects);
+        copy.annotations = copyOf(this.annotations);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final TaskDiff that = (TaskDiff) o;
+        return java.util.Objects.equals(this.type, that.type)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.fields, that.fields)
+                && java.util.Objects.equals(this.objects, that.objects)
+                && java.util.Objects.equals(this.annotations, that.annotations)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.type);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.type);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.fields);
+        hash = hashOf(hash, this.objects);
+        hash = hashOf(hash, this.annotations);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
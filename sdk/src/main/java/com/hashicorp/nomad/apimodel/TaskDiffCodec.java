@@ -0,0 +1,71 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link TaskDiff}
+ * directly from and to JSON tokens.
+ */
+public final class TaskDiffCodec extends ApiObjectCodec<TaskDiff> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType FIELDS =
+            TYPES.constructCollectionType(List.class, FieldDiff.class);
+    private static final JavaType OBJECTS =
+            TYPES.constructCollectionType(List.class, ObjectDiff.class);
+    private static final JavaType ANNOTATIONS =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public TaskDiffCodec() {
+        super(TaskDiff.class);
+    }
+
+    @Override
+    protected TaskDiff newInstance() {
+        return new TaskDiff();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, TaskDiff value)
+            throws IOException {
+        switch (name) {
+            case "Type":
+                value.setType(readInternedString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Fields":
+                value.setFields(readValue(p, ctxt, FIELDS));
+                return true;
+            case "Objects":
+                value.setObjects(readValue(p, ctxt, OBJECTS));
+                return true;
+            case "Annotations":
+                value.setAnnotations(readValue(p, ctxt, ANNOTATIONS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, TaskDiff value)
+            throws IOException {
+        g.writeStringField("Type", value.getType());
+        g.writeStringField("Name", value.getName());
+        writeValue(g, provider, "Fields", value.getFields());
+        writeValue(g, provider, "Objects", value.getObjects());
+        writeValue(g, provider, "Annotations", value.getAnnotations());
+    }
+}
@@ -297,6 +297,133 @@ public final class TaskEvent extends ApiObject {
         return this;
     }
 
+    @Override
+    public TaskEvent deepCopy() {
+        final TaskEvent copy = new TaskEvent();
+        copy.type = this.type;
+        copy.time = this.time;
+        copy.displayMessage = this.displayMessage;
+        copy.details = copyOf(this.details);
+        copy.failsTask = this.failsTask;
+        copy.restartReason = this.restartReason;
+        copy.setupError = this.setupError;
+        copy.driverError = this.driverError;
+        copy.driverMessage = this.driverMessage;
+        copy.exitCode = this.exitCode;
+        copy.signal = this.signal;
+        copy.message = this.message;
+        copy.killReason = this.killReason;
+        copy.killTimeout = this.killTimeout;
+        copy.killError = this.killError;
+        copy.startDelay = this.startDelay;
+        copy.downloadError = this.downloadError;
+        copy.validationError = this.validationError;
+        copy.diskLimit = this.diskLimit;
+        copy.diskSize = this.diskSize;
+        copy.failedSibling = this.failedSibling;
+        copy.vaultError = this.vaultError;
+        copy.taskSignalReason = this.taskSignalReason;
+        copy.taskSignal = this.taskSignal;
+        copy.genericSource = this.genericSource;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final TaskEvent that = (TaskEvent) o;
+        return java.util.Objects.equals(this.type, that.type)
+                && this.time == that.time
+                && java.util.Objects.equals(this.displayMessage, that.displayMessage)
+                && java.util.Objects.equals(this.details, that.details)
+                && this.failsTask == that.failsTask
+                && java.util.Objects.equals(this.restartReason, that.restartReason)
+                && java.util.Objects.equals(this.setupError, that.setupError)
+                && java.util.Objects.equals(this.driverError, that.driverError)
+                && java.util.Objects.equals(this.driverMessage, that.driverMessage)
+                && this.exitCode == that.exitCode
+                && this.signal == that.signal
+                && java.util.Objects.equals(this.message, that.message)
+                && java.util.Objects.equals(this.killReason, that.killReason)
+                && this.killTimeout == that.killTimeout
+                && java.util.Objects.equals(this.killError, that.killError)
+                && this.startDelay == that.startDelay
+                && java.util.Objects.equals(this.downloadError, that.downloadError)
+                && java.util.Objects.equals(this.validationError, that.validationError)
+                && this.diskLimit == that.diskLimit
+                && this.diskSize == that.diskSize
+                && java.util.Objects.equals(this.failedSibling, that.failedSibling)
+                && java.util.Objects.equals(this.vaultError, that.vaultError)
+                && java.util.Objects.equals(this.taskSignalReason, that.taskSignalReason)
+                && java.util.Objects.equals(this.taskSignal, that.taskSignal)
+                && java.util.Objects.equals(this.genericSource, that.genericSource)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.type);
+        result = 31 * result + Long.hashCode(this.time);
+        result = 31 * result + java.util.Objects.hashCode(this.displayMessage);
+        result = 31 * result + Boolean.hashCode(this.failsTask);
+        result = 31 * result + java.util.Objects.hashCode(this.restartReason);
+        result = 31 * result + java.util.Objects.hashCode(this.setupError);
+        result = 31 * result + java.util.Objects.hashCode(this.driverError);
+        result = 31 * result + java.util.Objects.hashCode(this.driverMessage);
+        result = 31 * result + this.exitCode;
+        result = 31 * result + this.signal;
+        result = 31 * result + java.util.Objects.hashCode(this.message);
+        result = 31 * result + java.util.Objects.hashCode(this.killReason);
+        result = 31 * result + Long.hashCode(this.killTimeout);
+        result = 31 * result + java.util.Objects.hashCode(this.killError);
+        result = 31 * result + Long.hashCode(this.startDelay);
+        result = 31 * result + java.util.Objects.hashCode(this.downloadError);
+        result = 31 * result + java.util.Objects.hashCode(this.validationError);
+        result = 31 * result + Long.hashCode(this.diskLimit);
+        result = 31 * result + Long.hashCode(this.diskSize);
+        result = 31 * result + java.util.Objects.hashCode(this.failedSibling);
+        result = 31 * result + java.util.Objects.hashCode(this.vaultError);
+        result = 31 * result + java.util.Objects.hashCode(this.taskSignalReason);
+        result = 31 * result + java.util.Objects.hashCode(this.taskSignal);
+        result = 31 * result + java.util.Objects.hashCode(this.genericSource);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.type);
+        hash = hashOf(hash, this.time);
+        hash = hashOf(hash, this.displayMessage);
+        hash = hashOf(hash, this.details);
+        hash = hashOf(hash, this.failsTask);
+        hash = hashOf(hash, this.restartReason);
+        hash = hashOf(hash, this.setupError);
+        hash = hashOf(hash, this.driverError);
+        hash = hashOf(hash, this.driverMessage);
+        hash = hashOf(hash, this.exitCode);
+        hash = hashOf(hash, this.signal);
+        hash = hashOf(hash, this.message);
+        hash = hashOf(hash, this.killReason);
+        hash = hashOf(hash, this.killTimeout);
+        hash = hashOf(hash, this.killError);
+        hash = hashOf(hash, this.startDelay);
+        hash = hashOf(hash, this.downloadError);
+        hash = hashOf(hash, this.validationError);
+        hash = hashOf(hash, this.diskLimit);
+        hash = hashOf(hash, this.diskSize);
+        hash = hashOf(hash, this.failedSibling);
+        hash = hashOf(hash, this.vaultError);
+        hash = hashOf(hash, this.taskSignalReason);
+        hash = hashOf(hash, this.taskSignal);
+        hash = hashOf(hash, this.genericSource);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,147 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link TaskEvent}
+ * directly from and to JSON tokens.
+ */
+public final class TaskEventCodec extends ApiObjectCodec<TaskEvent> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType DETAILS =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+
+    public TaskEventCodec() {
+        super(TaskEvent.class);
+    }
+
+    @Override
+    protected TaskEvent newInstance() {
+        return new TaskEvent();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, TaskEvent value)
+            throws IOException {
+        switch (name) {
+            case "Type":
+                value.setType(readInternedString(p, ctxt));
+                return true;
+            case "Time":
+                value.setTime(readLong(p, ctxt));
+                return true;
+            case "DisplayMessage":
+                value.setDisplayMessage(readString(p, ctxt));
+                return true;
+            case "Details":
+                value.setDetails(readValue(p, ctxt, DETAILS));
+                return true;
+            case "FailsTask":
+                value.setFailsTask(readBoolean(p, ctxt));
+                return true;
+            case "RestartReason":
+                value.setRestartReason(readString(p, ctxt));
+                return true;
+            case "SetupError":
+                value.setSetupError(readString(p, ctxt));
+                return true;
+            case "DriverError":
+                value.setDriverError(readString(p, ctxt));
+                return true;
+            case "DriverMessage":
+                value.setDriverMessage(readString(p, ctxt));
+                return true;
+            case "ExitCode":
+                value.setExitCode(readInt(p, ctxt));
+                return true;
+            case "Signal":
+                value.setSignal(readInt(p, ctxt));
+                return true;
+            case "Message":
+                value.setMessage(readString(p, ctxt));
+                return true;
+            case "KillReason":
+                value.setKillReason(readString(p, ctxt));
+                return true;
+            case "KillTimeout":
+                value.setKillTimeout(readLong(p, ctxt));
+                return true;
+            case "KillError":
+                value.setKillError(readString(p, ctxt));
+                return true;
+            case "StartDelay":
+                value.setStartDelay(readLong(p, ctxt));
+                return true;
+            case "DownloadError":
+                value.setDownloadError(readString(p, ctxt));
+                return true;
+            case "ValidationError":
+                value.setValidationError(readString(p, ctxt));
+                return true;
+            case "DiskLimit":
+                value.setDiskLimit(readLong(p, ctxt));
+                return true;
+            case "DiskSize":
+                value.setDiskSize(readLong(p, ctxt));
+                return true;
+            case "FailedSibling":
+                value.setFailedSibling(readString(p, ctxt));
+                return true;
+            case "VaultError":
+                value.setVaultError(readString(p, ctxt));
+                return true;
+            case "TaskSignalReason":
+                value.setTaskSignalReason(readString(p, ctxt));
+                return true;
+            case "TaskSignal":
+                value.setTaskSignal(readString(p, ctxt));
+                return true;
+            case "GenericSource":
+                value.setGenericSource(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, TaskEvent value)
+            throws IOException {
+        g.writeStringField("Type", value.getType());
+        g.writeNumberField("Time", value.getTime());
+        g.writeStringField("DisplayMessage", value.getDisplayMessage());
+        writeValue(g, provider, "Details", value.getDetails());
+        g.writeBooleanField("FailsTask", value.getFailsTask());
+        g.writeStringField("RestartReason", value.getRestartReason());
+        g.writeStringField("SetupError", value.getSetupError());
+        g.writeStringField("DriverError", value.getDriverError());
+        g.writeStringField("DriverMessage", value.getDriverMessage());
+        g.writeNumberField("ExitCode", value.getExitCode());
+        g.writeNumberField("Signal", value.getSignal());
+        g.writeStringField("Message", value.getMessage());
+        g.writeStringField("KillReason", value.getKillReason());
+        g.writeNumberField("KillTimeout", value.getKillTimeout());
+        g.writeStringField("KillError", value.getKillError());
+        g.writeNumberField("StartDelay", value.getStartDelay());
+        g.writeStringField("DownloadError", value.getDownloadError());
+        g.writeStringField("ValidationError", value.getValidationError());
+        g.writeNumberField("DiskLimit", value.getDiskLimit());
+        g.writeNumberField("DiskSize", value.getDiskSize());
+        g.writeStringField("FailedSibling", value.getFailedSibling());
+        g.writeStringField("VaultError", value.getVaultError());
+        g.writeStringField("TaskSignalReason", value.getTaskSignalReason());
+        g.writeStringField("TaskSignal", value.getTaskSignal());
+        g.writeStringField("GenericSource", value.getGenericSource());
+    }
+}
@@ -275,6 +275,92 @@ public final class TaskGroup extends ApiObject {
         return this;
     }
 
+    @Override
+    public TaskGroup deepCopy() {
+        final TaskGroup copy = new TaskGroup();
+        copy.name = this.name;
+        copy.count = this.count;
+        copy.constraints = copyOf(this.constraints);
+        copy.affinities = copyOf(this.affinities);
+        copy.tasks = copyOf(this.tasks);
+        copy.spreads = copyOf(this.spreads);
+        copy.volumes = copyOf(this.volumes);
+        copy.restartPolicy = copyOf(this.restartPolicy);
+        copy.reschedulePolicy = copyOf(this.reschedulePolicy);
+        copy.ephemeralDisk = copyOf(this.ephemeralDisk);
+        copy.update = copyOf(this.update);
+        copy.migrate = copyOf(this.migrate);
+        copy.networks = copyOf(this.networks);
+        copy.meta = copyOf(this.meta);
+        copy.services = copyOf(this.services);
+        copy.shutdownDelay = this.shutdownDelay;
+        copy.stopAfterClientDisconnect = this.stopAfterClientDisconnect;
+        copy.scaling = copyOf(this.scaling);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final TaskGroup that = (TaskGroup) o;
+        return java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.count, that.count)
+                && java.util.Objects.equals(this.constraints, that.constraints)
+                && java.util.Objects.equals(this.affinities, that.affinities)
+                && java.util.Objects.equals(this.tasks, that.tasks)
+                && java.util.Objects.equals(this.spreads, that.spreads)
+                && java.util.Objects.equals(this.volumes, that.volumes)
+                && java.util.Objects.equals(this.restartPolicy, that.restartPolicy)
+                && java.util.Objects.equals(this.reschedulePolicy, that.reschedulePolicy)
+                && java.util.Objects.equals(this.ephemeralDisk, that.ephemeralDisk)
+                && java.util.Objects.equals(this.update, that.update)
+                && java.util.Objects.equals(this.migrate, that.migrate)
+                && java.util.Objects.equals(this.networks, that.networks)
+                && java.util.Objects.equals(this.meta, that.meta)
+                && java.util.Objects.equals(this.services, that.services)
+                && java.util.Objects.equals(this.shutdownDelay, that.shutdownDelay)
+                && java.util.Objects.equals(this.stopAfterClientDisconnect, that.stopAfterClientDisconnect)
+                && java.util.Objects.equals(this.scaling, that.scaling)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.count);
+        result = 31 * result + java.util.Objects.hashCode(this.shutdownDelay);
+        result = 31 * result + java.util.Objects.hashCode(this.stopAfterClientDisconnect);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.count);
+        hash = hashOf(hash, this.constraints);
+        hash = hashOf(hash, this.affinities);
+        hash = hashOf(hash, this.tasks);
+        hash = hashOf(hash, this.spreads);
+        hash = hashOf(hash, this.volumes);
+        hash = hashOf(hash, this.restartPolicy);
+        hash = hashOf(hash, this.reschedulePolicy);
+        hash = hashOf(hash, this.ephemeralDisk);
+        hash = hashOf(hash, this.update);
+        hash = hashOf(hash, this.migrate);
+        hash = hashOf(hash, this.networks);
+        hash = hashOf(hash, this.meta);
+        hash = hashOf(hash, this.services);
+        hash = hashOf(hash, this.shutdownDelay);
+        hash = hashOf(hash, this.stopAfterClientDisconnect);
+        hash = hashOf(hash, this.scaling);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,134 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link TaskGroup}
+ * directly from and to JSON tokens.
+ */
+public final class TaskGroupCodec extends ApiObjectCodec<TaskGroup> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType CONSTRAINTS =
+            TYPES.constructCollectionType(List.class, Constraint.class);
+    private static final JavaType AFFINITIES =
+            TYPES.constructCollectionType(List.class, Affinity.class);
+    private static final JavaType TASKS =
+            TYPES.constructCollectionType(List.class, Task.class);
+    private static final JavaType SPREADS =
+            TYPES.constructCollectionType(List.class, Spread.class);
+    private static final JavaType VOLUMES =
+            TYPES.constructMapType(Map.class, String.class, VolumeRequest.class);
+    private static final JavaType NETWORKS =
+            TYPES.constructCollectionType(List.class, NetworkResource.class);
+    private static final JavaType META =
+            TYPES.constructMapType(Map.class, String.class, String.class);
+    private static final JavaType SERVICES =
+            TYPES.constructCollectionType(List.class, Service.class);
+
+    public TaskGroupCodec() {
+        super(TaskGroup.class);
+    }
+
+    @Override
+    protected TaskGroup newInstance() {
+        return new TaskGroup();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, TaskGroup value)
+            throws IOException {
+        switch (name) {
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Count":
+                value.setCount(readValue(p, ctxt, Integer.class));
+                return true;
+            case "Constraints":
+                value.setConstraints(readValue(p, ctxt, CONSTRAINTS));
+                return true;
+            case "Affinities":
+                value.setAffinities(readValue(p, ctxt, AFFINITIES));
+                return true;
+            case "Tasks":
+                value.setTasks(readValue(p, ctxt, TASKS));
+                return true;
+            case "Spreads":
+                value.setSpreads(readValue(p, ctxt, SPREADS));
+                return true;
+            case "Volumes":
+                value.setVolumes(readValue(p, ctxt, VOLUMES));
+                return true;
+            case "RestartPolicy":
+                value.setRestartPolicy(readValue(p, ctxt, RestartPolicy.class));
+                return true;
+            case "ReschedulePolicy":
+                value.setReschedulePolicy(readValue(p, ctxt, ReschedulePolicy.class));
+                return true;
+            case "EphemeralDisk":
+                value.setEphemeralDisk(readValue(p, ctxt, EphemeralDisk.class));
+                return true;
+            case "Update":
+                value.setUpdate(readValue(p, ctxt, UpdateStrategy.class));
+                return true;
+            case "Migrate":
+                value.setMigrate(readValue(p, ctxt, MigrateStrategy.class));
+                return true;
+            case "Networks":
+                value.setNetworks(readValue(p, ctxt, NETWORKS));
+                return true;
+            case "Meta":
+                value.setMeta(readValue(p, ctxt, META));
+                return true;
+            case "Services":
+                value.setServices(readValue(p, ctxt, SERVICES));
+                return true;
+            case "ShutdownDelay":
+                value.setShutdownDelay(readValue(p, ctxt, Long.class));
+                return true;
+            case "StopAfterClientDisconnect":
+                value.setStopAfterClientDisconnect(readValue(p, ctxt, Long.class));
+                return true;
+            case "Scaling":
+                value.setScaling(readValue(p, ctxt, ScalingPolicy.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, TaskGroup value)
+            throws IOException {
+        g.writeStringField("Name", value.getName());
+        writeValue(g, provider, "Count", value.getCount());
+        writeValue(g, provider, "Constraints", value.getConstraints());
+        writeValue(g, provider, "Affinities", value.getAffinities());
+        writeValue(g, provider, "Tasks", value.getTasks());
+        writeValue(g, provider, "Spreads", value.getSpreads());
+        writeValue(g, provider, "Volumes", value.getVolumes());
+        writeValue(g, provider, "RestartPolicy", value.getRestartPolicy());
+        writeValue(g, provider, "ReschedulePolicy", value.getReschedulePolicy());
+        writeValue(g, provider, "EphemeralDisk", value.getEphemeralDisk());
+        writeValue(g, provider, "Update", value.getUpdate());
+        writeValue(g, provider, "Migrate", value.getMigrate());
+        writeValue(g, provider, "Networks", value.getNetworks());
+        writeValue(g, provider, "Meta", value.getMeta());
+        writeValue(g, provider, "Services", value.getServices());
+        writeValue(g, provider, "ShutdownDelay", value.getShutdownDelay());
+        writeValue(g, provider, "StopAfterClientDisconnect", value.getStopAfterClientDisconnect());
+        writeValue(g, provider, "Scaling", value.getScaling());
+    }
+}
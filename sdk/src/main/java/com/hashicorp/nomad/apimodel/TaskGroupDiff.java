@@ -113,6 +113,54 @@ public final class TaskGroupDiff extends ApiObject {
         return this;
     }
 
+    @Override
+    public TaskGroupDiff deepCopy() {
+        final TaskGroupDiff copy = new TaskGroupDiff();
+        copy.type = this.type;
+        copy.name = this.name;
+        copy.fields = copyOf(this.fields);
+        copy.objects = copyOf(this.objects);
+        copy.tasks = copyOf(this.tasks);
+        copy.updates = copyOf(this.updates);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final TaskGroupDiff that = (TaskGroupDiff) o;
+        return java.util.Objects.equals(this.type, that.type)
+                && java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.fields, that.fields)
+                && java.util.Objects.equals(this.objects, that.objects)
+                && java.util.Objects.equals(this.tasks, that.tasks)
+                && java.util.Objects.equals(this.updates, that.updates)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.type);
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.type);
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.fields);
+        hash = hashOf(hash, this.objects);
+        hash = hashOf(hash, this.tasks);
+        hash = hashOf(hash, this.updates);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
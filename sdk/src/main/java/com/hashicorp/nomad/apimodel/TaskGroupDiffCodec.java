@@ -0,0 +1,79 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link TaskGroupDiff}
+ * directly from and to JSON tokens.
+ */
+public final class TaskGroupDiffCodec extends ApiObjectCodec<TaskGroupDiff> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType FIELDS =
+            TYPES.constructCollectionType(List.class, FieldDiff.class);
+    private static final JavaType OBJECTS =
+            TYPES.constructCollectionType(List.class, ObjectDiff.class);
+    private static final JavaType TASKS =
+            TYPES.constructCollectionType(List.class, TaskDiff.class);
+    private static final JavaType UPDATES =
+            TYPES.constructMapType(Map.class, String.class, BigInteger.class);
+
+    public TaskGroupDiffCodec() {
+        super(TaskGroupDiff.class);
+    }
+
+    @Override
+    protected TaskGroupDiff newInstance() {
+        return new TaskGroupDiff();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, TaskGroupDiff value)
+            throws IOException {
+        switch (name) {
+            case "Type":
+                value.setType(readInternedString(p, ctxt));
+                return true;
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Fields":
+                value.setFields(readValue(p, ctxt, FIELDS));
+                return true;
+            case "Objects":
+                value.setObjects(readValue(p, ctxt, OBJECTS));
+                return true;
+            case "Tasks":
+                value.setTasks(readValue(p, ctxt, TASKS));
+                return true;
+            case "Updates":
+                value.setUpdates(readValue(p, ctxt, UPDATES));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, TaskGroupDiff value)
+            throws IOException {
+        g.writeStringField("Type", value.getType());
+        g.writeStringField("Name", value.getName());
+        writeValue(g, provider, "Fields", value.getFields());
+        writeValue(g, provider, "Objects", value.getObjects());
+        writeValue(g, provider, "Tasks", value.getTasks());
+        writeValue(g, provider, "Updates", value.getUpdates());
+    }
+}
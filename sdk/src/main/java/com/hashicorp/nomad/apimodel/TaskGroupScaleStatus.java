@@ -88,6 +88,57 @@ public final class TaskGroupScaleStatus extends ApiObject {
         return this;
     }
 
+    @Override
+    public TaskGroupScaleStatus deepCopy() {
+        final TaskGroupScaleStatus copy = new TaskGroupScaleStatus();
+        copy.desired = this.desired;
+        copy.placed = this.placed;
+        copy.running = this.running;
+        copy.healthy = this.healthy;
+        copy.unhealthy = this.unhealthy;
+        copy.events = copyOf(this.events);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final TaskGroupScaleStatus that = (TaskGroupScaleStatus) o;
+        return this.desired == that.desired
+                && this.placed == that.placed
+                && this.running == that.running
+                && this.healthy == that.healthy
+                && this.unhealthy == that.unhealthy
+                && java.util.Objects.equals(this.events, that.events)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + this.desired;
+        result = 31 * result + this.placed;
+        result = 31 * result + this.running;
+        result = 31 * result + this.healthy;
+        result = 31 * result + this.unhealthy;
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.desired);
+        hash = hashOf(hash, this.placed);
+        hash = hashOf(hash, this.running);
+        hash = hashOf(hash, this.healthy);
+        hash = hashOf(hash, this.unhealthy);
+        hash = hashOf(hash, this.events);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
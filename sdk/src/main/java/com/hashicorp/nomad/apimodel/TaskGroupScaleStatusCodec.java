@@ -0,0 +1,71 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link TaskGroupScaleStatus}
+ * directly from and to JSON tokens.
+ */
+public final class TaskGroupScaleStatusCodec extends ApiObjectCodec<TaskGroupScaleStatus> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType EVENTS =
+            TYPES.constructCollectionType(List.class, ScalingEvent.class);
+
+    public TaskGroupScaleStatusCodec() {
+        super(TaskGroupScaleStatus.class);
+    }
+
+    @Override
+    protected TaskGroupScaleStatus newInstance() {
+        return new TaskGroupScaleStatus();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, TaskGroupScaleStatus value)
+            throws IOException {
+        switch (name) {
+            case "Desired":
+                value.setDesired(readInt(p, ctxt));
+                return true;
+            case "Placed":
+                value.setPlaced(readInt(p, ctxt));
+                return true;
+            case "Running":
+                value.setRunning(readInt(p, ctxt));
+                return true;
+            case "Healthy":
+                value.setHealthy(readInt(p, ctxt));
+                return true;
+            case "Unhealthy":
+                value.setUnhealthy(readInt(p, ctxt));
+                return true;
+            case "Events":
+                value.setEvents(readValue(p, ctxt, EVENTS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, TaskGroupScaleStatus value)
+            throws IOException {
+        g.writeNumberField("Desired", value.getDesired());
+        g.writeNumberField("Placed", value.getPlaced());
+        g.writeNumberField("Running", value.getRunning());
+        g.writeNumberField("Healthy", value.getHealthy());
+        g.writeNumberField("Unhealthy", value.getUnhealthy());
+        writeValue(g, provider, "Events", value.getEvents());
+    }
+}
@@ -80,6 +80,58 @@ public final class TaskGroupSummary extends ApiObject {
         return this;
     }
 
+    @Override
+    public TaskGroupSummary deepCopy() {
+        final TaskGroupSummary copy = new TaskGroupSummary();
+        copy.queued = this.queued;
+        copy.complete = this.complete;
+        copy.failed = this.failed;
+        copy.running = this.running;
+        copy.starting = this.starting;
+        copy.lost = this.lost;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final TaskGroupSummary that = (TaskGroupSummary) o;
+        return this.queued == that.queued
+                && this.complete == that.complete
+                && this.failed == that.failed
+                && this.running == that.running
+                && this.starting == that.starting
+                && this.lost == that.lost
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + this.queued;
+        result = 31 * result + this.complete;
+        result = 31 * result + this.failed;
+        result = 31 * result + this.running;
+        result = 31 * result + this.starting;
+        result = 31 * result + this.lost;
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.queued);
+        hash = hashOf(hash, this.complete);
+        hash = hashOf(hash, this.failed);
+        hash = hashOf(hash, this.running);
+        hash = hashOf(hash, this.starting);
+        hash = hashOf(hash, this.lost);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,64 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link TaskGroupSummary}
+ * directly from and to JSON tokens.
+ */
+public final class TaskGroupSummaryCodec extends ApiObjectCodec<TaskGroupSummary> {
+    public TaskGroupSummaryCodec() {
+        super(TaskGroupSummary.class);
+    }
+
+    @Override
+    protected TaskGroupSummary newInstance() {
+        return new TaskGroupSummary();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, TaskGroupSummary value)
+            throws IOException {
+        switch (name) {
+            case "Queued":
+                value.setQueued(readInt(p, ctxt));
+                return true;
+            case "Complete":
+                value.setComplete(readInt(p, ctxt));
+                return true;
+            case "Failed":
+                value.setFailed(readInt(p, ctxt));
+                return true;
+            case "Running":
+                value.setRunning(readInt(p, ctxt));
+                return true;
+            case "Starting":
+                value.setStarting(readInt(p, ctxt));
+                return true;
+            case "Lost":
+                value.setLost(readInt(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, TaskGroupSummary value)
+            throws IOException {
+        g.writeNumberField("Queued", value.getQueued());
+        g.writeNumberField("Complete", value.getComplete());
+        g.writeNumberField("Failed", value.getFailed());
+        g.writeNumberField("Running", value.getRunning());
+        g.writeNumberField("Starting", value.getStarting());
+        g.writeNumberField("Lost", value.getLost());
+    }
+}
@@ -36,6 +36,42 @@ public final class TaskLifecycle extends ApiObject {
         return this;
     }
 
+    @Override
+    public TaskLifecycle deepCopy() {
+        final TaskLifecycle copy = new TaskLifecycle();
+        copy.hook = this.hook;
+        copy.sidecar = this.sidecar;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final TaskLifecycle that = (TaskLifecycle) o;
+        return java.util.Objects.equals(this.hook, that.hook)
+                && this.sidecar == that.sidecar
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.hook);
+        result = 31 * result + Boolean.hashCode(this.sidecar);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.hook);
+        hash = hashOf(hash, this.sidecar);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,48 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link TaskLifecycle}
+ * directly from and to JSON tokens.
+ */
+public final class TaskLifecycleCodec extends ApiObjectCodec<TaskLifecycle> {
+    public TaskLifecycleCodec() {
+        super(TaskLifecycle.class);
+    }
+
+    @Override
+    protected TaskLifecycle newInstance() {
+        return new TaskLifecycle();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, TaskLifecycle value)
+            throws IOException {
+        switch (name) {
+            case "Hook":
+                value.setHook(readString(p, ctxt));
+                return true;
+            case "Sidecar":
+                value.setSidecar(readBoolean(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, TaskLifecycle value)
+            throws IOException {
+        g.writeStringField("Hook", value.getHook());
+        g.writeBooleanField("Sidecar", value.getSidecar());
+    }
+}
@@ -55,6 +55,44 @@ public final class TaskResourceUsage extends ApiObject {
         return this;
     }
 
+    @Override
+    public TaskResourceUsage deepCopy() {
+        final TaskResourceUsage copy = new TaskResourceUsage();
+        copy.resourceUsage = copyOf(this.resourceUsage);
+        copy.timestamp = this.timestamp;
+        copy.pids = copyOf(this.pids);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final TaskResourceUsage that = (TaskResourceUsage) o;
+        return java.util.Objects.equals(this.resourceUsage, that.resourceUsage)
+                && this.timestamp == that.timestamp
+                && java.util.Objects.equals(this.pids, that.pids)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + Long.hashCode(this.timestamp);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.resourceUsage);
+        hash = hashOf(hash, this.timestamp);
+        hash = hashOf(hash, this.pids);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
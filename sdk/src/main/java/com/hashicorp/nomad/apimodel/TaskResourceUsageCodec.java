@@ -0,0 +1,59 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This is a generated codec that reads and writes {@link TaskResourceUsage}
+ * directly from and to JSON tokens.
+ */
+public final class TaskResourceUsageCodec extends ApiObjectCodec<TaskResourceUsage> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType PIDS =
+            TYPES.constructMapType(Map.class, String.class, ResourceUsage.class);
+
+    public TaskResourceUsageCodec() {
+        super(TaskResourceUsage.class);
+    }
+
+    @Override
+    protected TaskResourceUsage newInstance() {
+        return new TaskResourceUsage();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, TaskResourceUsage value)
+            throws IOException {
+        switch (name) {
+            case "ResourceUsage":
+                value.setResourceUsage(readValue(p, ctxt, ResourceUsage.class));
+                return true;
+            case "Timestamp":
+                value.setTimestamp(readLong(p, ctxt));
+                return true;
+            case "Pids":
+                value.setPids(readValue(p, ctxt, PIDS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, TaskResourceUsage value)
+            throws IOException {
+        writeValue(g, provider, "ResourceUsage", value.getResourceUsage());
+        g.writeNumberField("Timestamp", value.getTimestamp());
+        writeValue(g, provider, "Pids", value.getPids());
+    }
+}
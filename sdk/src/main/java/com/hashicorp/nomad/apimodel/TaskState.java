@@ -101,6 +101,58 @@ public final class TaskState extends ApiObject {
         return this;
     }
 
+    @Override
+    public TaskState deepCopy() {
+        final TaskState copy = new TaskState();
+        copy.state = this.state;
+        copy.failed = this.failed;
+        copy.restarts = this.restarts;
+        copy.lastRestart = copyOf(this.lastRestart);
+        copy.startedAt = copyOf(this.startedAt);
+        copy.finishedAt = copyOf(this.finishedAt);
+        copy.events = copyOf(this.events);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final TaskState that = (TaskState) o;
+        return java.util.Objects.equals(this.state, that.state)
+                && this.failed == that.failed
+                && java.util.Objects.equals(this.restarts, that.restarts)
+                && java.util.Objects.equals(this.lastRestart, that.lastRestart)
+                && java.util.Objects.equals(this.startedAt, that.startedAt)
+                && java.util.Objects.equals(this.finishedAt, that.finishedAt)
+                && java.util.Objects.equals(this.events, that.events)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.state);
+        result = 31 * result + Boolean.hashCode(this.failed);
+        result = 31 * result + java.util.Objects.hashCode(this.restarts);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.state);
+        hash = hashOf(hash, this.failed);
+        hash = hashOf(hash, this.restarts);
+        hash = hashOf(hash, this.lastRestart);
+        hash = hashOf(hash, this.startedAt);
+        hash = hashOf(hash, this.finishedAt);
+        hash = hashOf(hash, this.events);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
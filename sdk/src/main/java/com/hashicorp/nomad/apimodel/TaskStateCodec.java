@@ -0,0 +1,77 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link TaskState}
+ * directly from and to JSON tokens.
+ */
+public final class TaskStateCodec extends ApiObjectCodec<TaskState> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType EVENTS =
+            TYPES.constructCollectionType(List.class, TaskEvent.class);
+
+    public TaskStateCodec() {
+        super(TaskState.class);
+    }
+
+    @Override
+    protected TaskState newInstance() {
+        return new TaskState();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, TaskState value)
+            throws IOException {
+        switch (name) {
+            case "State":
+                value.setState(readString(p, ctxt));
+                return true;
+            case "Failed":
+                value.setFailed(readBoolean(p, ctxt));
+                return true;
+            case "Restarts":
+                value.setRestarts(readValue(p, ctxt, BigInteger.class));
+                return true;
+            case "LastRestart":
+                value.setLastRestart(readValue(p, ctxt, Date.class));
+                return true;
+            case "StartedAt":
+                value.setStartedAt(readValue(p, ctxt, Date.class));
+                return true;
+            case "FinishedAt":
+                value.setFinishedAt(readValue(p, ctxt, Date.class));
+                return true;
+            case "Events":
+                value.setEvents(readValue(p, ctxt, EVENTS));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, TaskState value)
+            throws IOException {
+        g.writeStringField("State", value.getState());
+        g.writeBooleanField("Failed", value.getFailed());
+        writeValue(g, provider, "Restarts", value.getRestarts());
+        writeValue(g, provider, "LastRestart", value.getLastRestart());
+        writeValue(g, provider, "StartedAt", value.getStartedAt());
+        writeValue(g, provider, "FinishedAt", value.getFinishedAt());
+        writeValue(g, provider, "Events", value.getEvents());
+    }
+}
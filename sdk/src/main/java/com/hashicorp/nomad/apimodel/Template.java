@@ -135,6 +135,78 @@ public final class Template extends ApiObject {
         return this;
     }
 
+    @Override
+    public Template deepCopy() {
+        final Template copy = new Template();
+        copy.sourcePath = this.sourcePath;
+        copy.destPath = this.destPath;
+        copy.embeddedTmpl = this.embeddedTmpl;
+        copy.changeMode = this.changeMode;
+        copy.changeSignal = this.changeSignal;
+        copy.splay = this.splay;
+        copy.perms = this.perms;
+        copy.leftDelim = this.leftDelim;
+        copy.rightDelim = this.rightDelim;
+        copy.envvars = this.envvars;
+        copy.vaultGrace = this.vaultGrace;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Template that = (Template) o;
+        return java.util.Objects.equals(this.sourcePath, that.sourcePath)
+                && java.util.Objects.equals(this.destPath, that.destPath)
+                && java.util.Objects.equals(this.embeddedTmpl, that.embeddedTmpl)
+                && java.util.Objects.equals(this.changeMode, that.changeMode)
+                && java.util.Objects.equals(this.changeSignal, that.changeSignal)
+                && java.util.Objects.equals(this.splay, that.splay)
+                && java.util.Objects.equals(this.perms, that.perms)
+                && java.util.Objects.equals(this.leftDelim, that.leftDelim)
+                && java.util.Objects.equals(this.rightDelim, that.rightDelim)
+                && java.util.Objects.equals(this.envvars, that.envvars)
+                && java.util.Objects.equals(this.vaultGrace, that.vaultGrace)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.sourcePath);
+        result = 31 * result + java.util.Objects.hashCode(this.destPath);
+        result = 31 * result + java.util.Objects.hashCode(this.embeddedTmpl);
+        result = 31 * result + java.util.Objects.hashCode(this.changeMode);
+        result = 31 * result + java.util.Objects.hashCode(this.changeSignal);
+        result = 31 * result + java.util.Objects.hashCode(this.splay);
+        result = 31 * result + java.util.Objects.hashCode(this.perms);
+        result = 31 * result + java.util.Objects.hashCode(this.leftDelim);
+        result = 31 * result + java.util.Objects.hashCode(this.rightDelim);
+        result = 31 * result + java.util.Objects.hashCode(this.envvars);
+        result = 31 * result + java.util.Objects.hashCode(this.vaultGrace);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.sourcePath);
+        hash = hashOf(hash, this.destPath);
+        hash = hashOf(hash, this.embeddedTmpl);
+        hash = hashOf(hash, this.changeMode);
+        hash = hashOf(hash, this.changeSignal);
+        hash = hashOf(hash, this.splay);
+        hash = hashOf(hash, this.perms);
+        hash = hashOf(hash, this.leftDelim);
+        hash = hashOf(hash, this.rightDelim);
+        hash = hashOf(hash, this.envvars);
+        hash = hashOf(hash, this.vaultGrace);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
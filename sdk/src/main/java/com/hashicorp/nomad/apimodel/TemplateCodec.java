@@ -0,0 +1,84 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link Template}
+ * directly from and to JSON tokens.
+ */
+public final class TemplateCodec extends ApiObjectCodec<Template> {
+    public TemplateCodec() {
+        super(Template.class);
+    }
+
+    @Override
+    protected Template newInstance() {
+        return new Template();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, Template value)
+            throws IOException {
+        switch (name) {
+            case "SourcePath":
+                value.setSourcePath(readString(p, ctxt));
+                return true;
+            case "DestPath":
+                value.setDestPath(readString(p, ctxt));
+                return true;
+            case "EmbeddedTmpl":
+                value.setEmbeddedTmpl(readString(p, ctxt));
+                return true;
+            case "ChangeMode":
+                value.setChangeMode(readString(p, ctxt));
+                return true;
+            case "ChangeSignal":
+                value.setChangeSignal(readString(p, ctxt));
+                return true;
+            case "Splay":
+                value.setSplay(readValue(p, ctxt, Long.class));
+                return true;
+            case "Perms":
+                value.setPerms(readString(p, ctxt));
+                return true;
+            case "LeftDelim":
+                value.setLeftDelim(readString(p, ctxt));
+                return true;
+            case "RightDelim":
+                value.setRightDelim(readString(p, ctxt));
+                return true;
+            case "Envvars":
+                value.setEnvvars(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "VaultGrace":
+                value.setVaultGrace(readValue(p, ctxt, Long.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, Template value)
+            throws IOException {
+        g.writeStringField("SourcePath", value.getSourcePath());
+        g.writeStringField("DestPath", value.getDestPath());
+        g.writeStringField("EmbeddedTmpl", value.getEmbeddedTmpl());
+        g.writeStringField("ChangeMode", value.getChangeMode());
+        g.writeStringField("ChangeSignal", value.getChangeSignal());
+        writeValue(g, provider, "Splay", value.getSplay());
+        g.writeStringField("Perms", value.getPerms());
+        g.writeStringField("LeftDelim", value.getLeftDelim());
+        g.writeStringField("RightDelim", value.getRightDelim());
+        writeValue(g, provider, "Envvars", value.getEnvvars());
+        writeValue(g, provider, "VaultGrace", value.getVaultGrace());
+    }
+}
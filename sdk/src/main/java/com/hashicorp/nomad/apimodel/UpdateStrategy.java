@@ -113,6 +113,70 @@ public final class UpdateStrategy extends ApiObject {
         return this;
     }
 
+    @Override
+    public UpdateStrategy deepCopy() {
+        final UpdateStrategy copy = new UpdateStrategy();
+        copy.stagger = this.stagger;
+        copy.maxParallel = this.maxParallel;
+        copy.healthCheck = this.healthCheck;
+        copy.minHealthyTime = this.minHealthyTime;
+        copy.healthyDeadline = this.healthyDeadline;
+        copy.progressDeadline = this.progressDeadline;
+        copy.canary = this.canary;
+        copy.autoRevert = this.autoRevert;
+        copy.autoPromote = this.autoPromote;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final UpdateStrategy that = (UpdateStrategy) o;
+        return java.util.Objects.equals(this.stagger, that.stagger)
+                && java.util.Objects.equals(this.maxParallel, that.maxParallel)
+                && java.util.Objects.equals(this.healthCheck, that.healthCheck)
+                && java.util.Objects.equals(this.minHealthyTime, that.minHealthyTime)
+                && java.util.Objects.equals(this.healthyDeadline, that.healthyDeadline)
+                && java.util.Objects.equals(this.progressDeadline, that.progressDeadline)
+                && java.util.Objects.equals(this.canary, that.canary)
+                && java.util.Objects.equals(this.autoRevert, that.autoRevert)
+                && java.util.Objects.equals(this.autoPromote, that.autoPromote)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.stagger);
+        result = 31 * result + java.util.Objects.hashCode(this.maxParallel);
+        result = 31 * result + java.util.Objects.hashCode(this.healthCheck);
+        result = 31 * result + java.util.Objects.hashCode(this.minHealthyTime);
+        result = 31 * result + java.util.Objects.hashCode(this.healthyDeadline);
+        result = 31 * result + java.util.Objects.hashCode(this.progressDeadline);
+        result = 31 * result + java.util.Objects.hashCode(this.canary);
+        result = 31 * result + java.util.Objects.hashCode(this.autoRevert);
+        result = 31 * result + java.util.Objects.hashCode(this.autoPromote);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.stagger);
+        hash = hashOf(hash, this.maxParallel);
+        hash = hashOf(hash, this.healthCheck);
+        hash = hashOf(hash, this.minHealthyTime);
+        hash = hashOf(hash, this.healthyDeadline);
+        hash = hashOf(hash, this.progressDeadline);
+        hash = hashOf(hash, this.canary);
+        hash = hashOf(hash, this.autoRevert);
+        hash = hashOf(hash, this.autoPromote);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
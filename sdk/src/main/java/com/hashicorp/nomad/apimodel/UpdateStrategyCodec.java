@@ -0,0 +1,76 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link UpdateStrategy}
+ * directly from and to JSON tokens.
+ */
+public final class UpdateStrategyCodec extends ApiObjectCodec<UpdateStrategy> {
+    public UpdateStrategyCodec() {
+        super(UpdateStrategy.class);
+    }
+
+    @Override
+    protected UpdateStrategy newInstance() {
+        return new UpdateStrategy();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, UpdateStrategy value)
+            throws IOException {
+        switch (name) {
+            case "Stagger":
+                value.setStagger(readValue(p, ctxt, Long.class));
+                return true;
+            case "MaxParallel":
+                value.setMaxParallel(readValue(p, ctxt, Integer.class));
+                return true;
+            case "HealthCheck":
+                value.setHealthCheck(readString(p, ctxt));
+                return true;
+            case "MinHealthyTime":
+                value.setMinHealthyTime(readValue(p, ctxt, Long.class));
+                return true;
+            case "HealthyDeadline":
+                value.setHealthyDeadline(readValue(p, ctxt, Long.class));
+                return true;
+            case "ProgressDeadline":
+                value.setProgressDeadline(readValue(p, ctxt, Long.class));
+                return true;
+            case "Canary":
+                value.setCanary(readValue(p, ctxt, Integer.class));
+                return true;
+            case "AutoRevert":
+                value.setAutoRevert(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "AutoPromote":
+                value.setAutoPromote(readValue(p, ctxt, Boolean.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, UpdateStrategy value)
+            throws IOException {
+        writeValue(g, provider, "Stagger", value.getStagger());
+        writeValue(g, provider, "MaxParallel", value.getMaxParallel());
+        g.writeStringField("HealthCheck", value.getHealthCheck());
+        writeValue(g, provider, "MinHealthyTime", value.getMinHealthyTime());
+        writeValue(g, provider, "HealthyDeadline", value.getHealthyDeadline());
+        writeValue(g, provider, "ProgressDeadline", value.getProgressDeadline());
+        writeValue(g, provider, "Canary", value.getCanary());
+        writeValue(g, provider, "AutoRevert", value.getAutoRevert());
+        writeValue(g, provider, "AutoPromote", value.getAutoPromote());
+    }
+}
@@ -66,6 +66,49 @@ public final class Vault extends ApiObject {
         return this;
     }
 
+    @Override
+    public Vault deepCopy() {
+        final Vault copy = new Vault();
+        copy.policies = copyOf(this.policies);
+        copy.env = this.env;
+        copy.changeMode = this.changeMode;
+        copy.changeSignal = this.changeSignal;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Vault that = (Vault) o;
+        return java.util.Objects.equals(this.policies, that.policies)
+                && java.util.Objects.equals(this.env, that.env)
+                && java.util.Objects.equals(this.changeMode, that.changeMode)
+                && java.util.Objects.equals(this.changeSignal, that.changeSignal)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.env);
+        result = 31 * result + java.util.Objects.hashCode(this.changeMode);
+        result = 31 * result + java.util.Objects.hashCode(this.changeSignal);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.policies);
+        hash = hashOf(hash, this.env);
+        hash = hashOf(hash, this.changeMode);
+        hash = hashOf(hash, this.changeSignal);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,63 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This is a generated codec that reads and writes {@link Vault}
+ * directly from and to JSON tokens.
+ */
+public final class VaultCodec extends ApiObjectCodec<Vault> {
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType POLICIES =
+            TYPES.constructCollectionType(List.class, String.class);
+
+    public VaultCodec() {
+        super(Vault.class);
+    }
+
+    @Override
+    protected Vault newInstance() {
+        return new Vault();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, Vault value)
+            throws IOException {
+        switch (name) {
+            case "Policies":
+                value.setPolicies(readValue(p, ctxt, POLICIES));
+                return true;
+            case "Env":
+                value.setEnv(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "ChangeMode":
+                value.setChangeMode(readString(p, ctxt));
+                return true;
+            case "ChangeSignal":
+                value.setChangeSignal(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, Vault value)
+            throws IOException {
+        writeValue(g, provider, "Policies", value.getPolicies());
+        writeValue(g, provider, "Env", value.getEnv());
+        g.writeStringField("ChangeMode", value.getChangeMode());
+        g.writeStringField("ChangeSignal", value.getChangeSignal());
+    }
+}
@@ -58,6 +58,50 @@ public final class VolumeMount extends ApiObject {
         return this;
     }
 
+    @Override
+    public VolumeMount deepCopy() {
+        final VolumeMount copy = new VolumeMount();
+        copy.volume = this.volume;
+        copy.destination = this.destination;
+        copy.readOnly = this.readOnly;
+        copy.propagationMode = this.propagationMode;
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final VolumeMount that = (VolumeMount) o;
+        return java.util.Objects.equals(this.volume, that.volume)
+                && java.util.Objects.equals(this.destination, that.destination)
+                && java.util.Objects.equals(this.readOnly, that.readOnly)
+                && java.util.Objects.equals(this.propagationMode, that.propagationMode)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.volume);
+        result = 31 * result + java.util.Objects.hashCode(this.destination);
+        result = 31 * result + java.util.Objects.hashCode(this.readOnly);
+        result = 31 * result + java.util.Objects.hashCode(this.propagationMode);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.volume);
+        hash = hashOf(hash, this.destination);
+        hash = hashOf(hash, this.readOnly);
+        hash = hashOf(hash, this.propagationMode);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
@@ -0,0 +1,56 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link VolumeMount}
+ * directly from and to JSON tokens.
+ */
+public final class VolumeMountCodec extends ApiObjectCodec<VolumeMount> {
+    public VolumeMountCodec() {
+        super(VolumeMount.class);
+    }
+
+    @Override
+    protected VolumeMount newInstance() {
+        return new VolumeMount();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, VolumeMount value)
+            throws IOException {
+        switch (name) {
+            case "Volume":
+                value.setVolume(readString(p, ctxt));
+                return true;
+            case "Destination":
+                value.setDestination(readString(p, ctxt));
+                return true;
+            case "ReadOnly":
+                value.setReadOnly(readValue(p, ctxt, Boolean.class));
+                return true;
+            case "PropagationMode":
+                value.setPropagationMode(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, VolumeMount value)
+            throws IOException {
+        g.writeStringField("Volume", value.getVolume());
+        g.writeStringField("Destination", value.getDestination());
+        writeValue(g, provider, "ReadOnly", value.getReadOnly());
+        g.writeStringField("PropagationMode", value.getPropagationMode());
+    }
+}
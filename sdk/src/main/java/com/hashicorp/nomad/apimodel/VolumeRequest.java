@@ -69,6 +69,53 @@ public final class VolumeRequest extends ApiObject {
         return this;
     }
 
+    @Override
+    public VolumeRequest deepCopy() {
+        final VolumeRequest copy = new VolumeRequest();
+        copy.name = this.name;
+        copy.type = this.type;
+        copy.source = this.source;
+        copy.readOnly = this.readOnly;
+        copy.mountOptions = copyOf(this.mountOptions);
+        copyUnmappedPropertiesTo(copy);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final VolumeRequest that = (VolumeRequest) o;
+        return java.util.Objects.equals(this.name, that.name)
+                && java.util.Objects.equals(this.type, that.type)
+                && java.util.Objects.equals(this.source, that.source)
+                && this.readOnly == that.readOnly
+                && java.util.Objects.equals(this.mountOptions, that.mountOptions)
+                && unmappedPropertiesEqual(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        result = 31 * result + java.util.Objects.hashCode(this.name);
+        result = 31 * result + java.util.Objects.hashCode(this.type);
+        result = 31 * result + java.util.Objects.hashCode(this.source);
+        result = 31 * result + Boolean.hashCode(this.readOnly);
+        return result;
+    }
+
+    @Override
+    public long structuralHash() {
+        long hash = 0;
+        hash = hashOf(hash, this.name);
+        hash = hashOf(hash, this.type);
+        hash = hashOf(hash, this.source);
+        hash = hashOf(hash, this.readOnly);
+        hash = hashOf(hash, this.mountOptions);
+        return hashUnmappedProperties(hash);
+    }
+
     @Override
     public String toString() {
         return NomadJson.serialize(this);
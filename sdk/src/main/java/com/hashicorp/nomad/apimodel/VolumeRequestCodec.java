@@ -0,0 +1,60 @@
+package com.hashicorp.nomad.apimodel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hashicorp.nomad.javasdk.ApiObjectCodec;
+
+import java.io.IOException;
+
+/**
+ * This is a generated codec that reads and writes {@link VolumeRequest}
+ * directly from and to JSON tokens.
+ */
+public final class VolumeRequestCodec extends ApiObjectCodec<VolumeRequest> {
+    public VolumeRequestCodec() {
+        super(VolumeRequest.class);
+    }
+
+    @Override
+    protected VolumeRequest newInstance() {
+        return new VolumeRequest();
+    }
+
+    @Override
+    protected boolean readProperty(
+            JsonParser p, DeserializationContext ctxt, String name, VolumeRequest value)
+            throws IOException {
+        switch (name) {
+            case "Name":
+                value.setName(readString(p, ctxt));
+                return true;
+            case "Type":
+                value.setType(readInternedString(p, ctxt));
+                return true;
+            case "Source":
+                value.setSource(readString(p, ctxt));
+                return true;
+            case "ReadOnly":
+                value.setReadOnly(readBoolean(p, ctxt));
+                return true;
+            case "MountOptions":
+                value.setMountOptions(readValue(p, ctxt, CsiMountOptions.class));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void writeProperties(
+            JsonGenerator g, SerializerProvider provider, VolumeRequest value)
+            throws IOException {
+        g.writeStringField("Name", value.getName());
+        g.writeStringField("Type", value.getType());
+        g.writeStringField("Source", value.getSource());
+        g.writeBooleanField("ReadOnly", value.getReadOnly());
+        writeValue(g, provider, "MountOptions", value.getMountOptions());
+    }
+}
@@ -9,6 +9,7 @@ import org.apache.http.client.utils.URIBuilder;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 
@@ -143,9 +144,9 @@ public class AgentApi extends ApiBase {
     }
 
     /**
-     * Private type representing raw responses from the /v1/agent/join endpoint.
+     * Type representing raw responses from the /v1/agent/join endpoint.
      */
-    private static final class JoinResponse {
+    static final class JoinResponse {
         @JsonProperty("error")
         private String error;
         @JsonProperty("num_joined")
@@ -156,12 +157,21 @@ public class AgentApi extends ApiBase {
      * A value extractor that converts a @{link JoinResponse} into an Integer,
      * or throwing an exception if it signals an error.
      */
-    private static class JoinResponseValueExtractor implements ValueExtractor<Integer> {
+    static class JoinResponseValueExtractor implements StreamingValueExtractor<Integer> {
         private final JsonParser<JoinResponse> parser = NomadJson.parserFor(JoinResponse.class);
 
         @Override
         public Integer extractValue(String json) throws ResponseParsingException, ErrorFoundInResponseEntityException {
-            JoinResponse joinResponse = parser.extractValue(json);
+            return check(parser.extractValue(json));
+        }
+
+        @Override
+        public Integer extractValue(InputStream stream)
+                throws IOException, ResponseParsingException, ErrorFoundInResponseEntityException {
+            return check(parser.extractValue(stream));
+        }
+
+        private Integer check(JoinResponse joinResponse) throws ErrorFoundInResponseEntityException {
             if (joinResponse.error != null && !joinResponse.error.isEmpty())
                 throw new ErrorFoundInResponseEntityException(joinResponse.error);
             return joinResponse.numberJoined;
@@ -0,0 +1,372 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Allocation;
+import com.hashicorp.nomad.apimodel.AllocationListStub;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory store of allocations, indexed by node, job, deployment, evaluation and client status.
+ * <p>
+ * The index is maintained incrementally, one allocation at a time, so it can be fed from the changes reported by
+ * blocking queries (it is a {@link ClusterStateCache.Listener}). Lookups cost time in proportion to the size of
+ * their result rather than the number of allocations; compound lookups built with {@link #query()} scan only the
+ * smallest of the matching index entries.
+ * <p>
+ * {@link AllocationListStub} doesn't carry a deployment ID, so lookups by deployment only find full
+ * {@link Allocation}s. This class is thread-safe.
+ *
+ * @param <T> the type of allocation
+ */
+public abstract class AllocationIndex<T> implements ClusterStateCache.Listener<T> {
+
+    /**
+     * The fields that allocations are indexed by.
+     */
+    private enum Field {
+        NODE, JOB, DEPLOYMENT, EVALUATION, CLIENT_STATUS
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, T> allocations = new HashMap<>();
+    private final Map<Field, Map<String, Set<String>>> indexes = new EnumMap<>(Field.class);
+
+    AllocationIndex() {
+        for (Field field : Field.values())
+            indexes.put(field, new HashMap<String, Set<String>>());
+    }
+
+    /**
+     * Creates an empty index of allocation list stubs, such as those listed by {@link AllocationsApi#list()}.
+     */
+    public static AllocationIndex<AllocationListStub> forListStubs() {
+        return new AllocationIndex<AllocationListStub>() {
+            @Override
+            String valueOf(AllocationListStub allocation, Field field) {
+                switch (field) {
+                    case NODE:
+                        return allocation.getNodeId();
+                    case JOB:
+                        return allocation.getJobId();
+                    case EVALUATION:
+                        return allocation.getEvalId();
+                    case CLIENT_STATUS:
+                        return allocation.getClientStatus();
+                    default:
+                        return null;
+                }
+            }
+
+            @Override
+            String idOf(AllocationListStub allocation) {
+                return allocation.getId();
+            }
+        };
+    }
+
+    /**
+     * Creates an empty index of full allocations, such as those returned by {@link AllocationsApi#info(String)}.
+     */
+    public static AllocationIndex<Allocation> forAllocations() {
+        return new AllocationIndex<Allocation>() {
+            @Override
+            String valueOf(Allocation allocation, Field field) {
+                switch (field) {
+                    case NODE:
+                        return allocation.getNodeId();
+                    case JOB:
+                        return allocation.getJobId();
+                    case DEPLOYMENT:
+                        return allocation.getDeploymentId();
+                    case EVALUATION:
+                        return allocation.getEvalId();
+                    case CLIENT_STATUS:
+                        return allocation.getClientStatus();
+                    default:
+                        return null;
+                }
+            }
+
+            @Override
+            String idOf(Allocation allocation) {
+                return allocation.getId();
+            }
+        };
+    }
+
+    @Nullable
+    abstract String valueOf(T allocation, Field field);
+
+    abstract String idOf(T allocation);
+
+    /**
+     * Adds an allocation to the index, replacing any previous version of it.
+     *
+     * @param allocation the allocation to add
+     */
+    public void put(final T allocation) {
+        final String id = idOf(allocation);
+        lock.writeLock().lock();
+        try {
+            final T previous = allocations.put(id, allocation);
+            for (Field field : Field.values()) {
+                final String previousValue = previous == null ? null : valueOf(previous, field);
+                final String value = valueOf(allocation, field);
+                if (previousValue != null && !previousValue.equals(value))
+                    unindex(field, previousValue, id);
+                if (value != null)
+                    index(field, value, id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an allocation from the index.
+     *
+     * @param allocationId the ID of the allocation to remove
+     */
+    public void remove(final String allocationId) {
+        lock.writeLock().lock();
+        try {
+            final T previous = allocations.remove(allocationId);
+            if (previous == null)
+                return;
+            for (Field field : Field.values()) {
+                final String value = valueOf(previous, field);
+                if (value != null)
+                    unindex(field, value, allocationId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void added(T allocation) {
+        put(allocation);
+    }
+
+    @Override
+    public void updated(T previous, T current) {
+        put(current);
+    }
+
+    @Override
+    public void deleted(T allocation) {
+        remove(idOf(allocation));
+    }
+
+    /**
+     * Returns the allocation with the given ID, or null if it isn't in the index.
+     *
+     * @param allocationId the ID of the allocation
+     */
+    @Nullable
+    public T get(final String allocationId) {
+        lock.readLock().lock();
+        try {
+            return allocations.get(allocationId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of allocations in the index.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return allocations.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the allocations placed on a node.
+     *
+     * @param nodeId the ID of the node
+     */
+    public List<T> byNode(final String nodeId) {
+        return query().node(nodeId).list();
+    }
+
+    /**
+     * Returns the allocations of a job.
+     *
+     * @param jobId the ID of the job
+     */
+    public List<T> byJob(final String jobId) {
+        return query().job(jobId).list();
+    }
+
+    /**
+     * Returns the allocations created by a deployment.
+     *
+     * @param deploymentId the ID of the deployment
+     */
+    public List<T> byDeployment(final String deploymentId) {
+        return query().deployment(deploymentId).list();
+    }
+
+    /**
+     * Returns the allocations created by an evaluation.
+     *
+     * @param evaluationId the ID of the evaluation
+     */
+    public List<T> byEvaluation(final String evaluationId) {
+        return query().evaluation(evaluationId).list();
+    }
+
+    /**
+     * Returns the allocations with the given client status, e.g. "running".
+     *
+     * @param clientStatus the client status
+     */
+    public List<T> byClientStatus(final String clientStatus) {
+        return query().clientStatus(clientStatus).list();
+    }
+
+    /**
+     * Starts a compound lookup, e.g. {@code index.query().job(jobId).node(nodeId).clientStatus("running").list()}.
+     */
+    public Query query() {
+        return new Query();
+    }
+
+    private void index(final Field field, final String value, final String id) {
+        final Map<String, Set<String>> index = indexes.get(field);
+        Set<String> ids = index.get(value);
+        if (ids == null) {
+            ids = new LinkedHashSet<>();
+            index.put(value, ids);
+        }
+        ids.add(id);
+    }
+
+    private void unindex(final Field field, final String value, final String id) {
+        final Map<String, Set<String>> index = indexes.get(field);
+        final Set<String> ids = index.get(value);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty())
+                index.remove(value);
+        }
+    }
+
+    /**
+     * A lookup of the allocations that match all of the given criteria.
+     */
+    public final class Query {
+        private final Map<Field, String> criteria = new EnumMap<>(Field.class);
+
+        private Query() {
+        }
+
+        /**
+         * Restricts the lookup to allocations placed on a node.
+         *
+         * @param nodeId the ID of the node
+         * @return this query, to allow method chaining
+         */
+        public Query node(final String nodeId) {
+            criteria.put(Field.NODE, nodeId);
+            return this;
+        }
+
+        /**
+         * Restricts the lookup to allocations of a job.
+         *
+         * @param jobId the ID of the job
+         * @return this query, to allow method chaining
+         */
+        public Query job(final String jobId) {
+            criteria.put(Field.JOB, jobId);
+            return this;
+        }
+
+        /**
+         * Restricts the lookup to allocations created by a deployment.
+         *
+         * @param deploymentId the ID of the deployment
+         * @return this query, to allow method chaining
+         */
+        public Query deployment(final String deploymentId) {
+            criteria.put(Field.DEPLOYMENT, deploymentId);
+            return this;
+        }
+
+        /**
+         * Restricts the lookup to allocations created by an evaluation.
+         *
+         * @param evaluationId the ID of the evaluation
+         * @return this query, to allow method chaining
+         */
+        public Query evaluation(final String evaluationId) {
+            criteria.put(Field.EVALUATION, evaluationId);
+            return this;
+        }
+
+        /**
+         * Restricts the lookup to allocations with a client status, e.g. "running".
+         *
+         * @param clientStatus the client status
+         * @return this query, to allow method chaining
+         */
+        public Query clientStatus(final String clientStatus) {
+            criteria.put(Field.CLIENT_STATUS, clientStatus);
+            return this;
+        }
+
+        /**
+         * Returns the matching allocations.
+         */
+        public List<T> list() {
+            lock.readLock().lock();
+            try {
+                if (criteria.isEmpty())
+                    return new ArrayList<>(allocations.values());
+
+                Set<String> smallest = null;
+                for (Map.Entry<Field, String> criterion : criteria.entrySet()) {
+                    final Set<String> ids = indexes.get(criterion.getKey()).get(criterion.getValue());
+                    if (ids == null)
+                        return Collections.emptyList();
+                    if (smallest == null || ids.size() < smallest.size())
+                        smallest = ids;
+                }
+
+                final List<T> matches = new ArrayList<>(smallest.size());
+                for (String id : smallest) {
+                    final T allocation = allocations.get(id);
+                    if (matches(allocation))
+                        matches.add(allocation);
+                }
+                return matches;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private boolean matches(final T allocation) {
+            for (Map.Entry<Field, String> criterion : criteria.entrySet()) {
+                if (!criterion.getValue().equals(valueOf(allocation, criterion.getKey())))
+                    return false;
+            }
+            return true;
+        }
+    }
+}
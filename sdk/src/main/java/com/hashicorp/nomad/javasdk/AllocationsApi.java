@@ -7,6 +7,7 @@ import com.hashicorp.nomad.apimodel.AllocationListStub;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * API for querying for information about allocations,
@@ -107,6 +108,54 @@ public class AllocationsApi extends ApiBase {
                 NomadJson.parserForListOf(AllocationListStub.class));
     }
 
+    /**
+     * Lists allocations in the active region, handing each one to a consumer as soon as it has been read
+     * from the response, so the whole list is never held in memory.
+     * <p>
+     * They are passed to the consumer in the order the server lists them.
+     * Runtime exceptions thrown by the consumer abort the request and are rethrown.
+     * Pagination and filtering options can be used to bound the work done per request.
+     *
+     * @param consumer receives each of the allocations
+     * @param options  options controlling how the request is performed
+     * @return a response whose value is the number of allocations passed to the consumer
+     * @throws IOException    if there is an HTTP or lower-level problem
+     * @throws NomadException if the response signals an error or cannot be deserialized
+     * @see <a href="https://www.nomadproject.io/docs/http/allocs.html">{@code GET /v1/allocations}</a>
+     */
+    public ServerQueryResponse<Integer> listEach(
+            final Consumer<? super AllocationListStub> consumer,
+            @Nullable final QueryOptions<Integer> options
+    ) throws IOException, NomadException {
+        return executeServerQuery(
+                "/v1/allocations", options, new ListElementParser<>(AllocationListStub.class, consumer));
+    }
+
+    /**
+     * Lists allocations in the active region, fetching them from the server a page at a time
+     * as they are iterated over.
+     * <p>
+     * The options' region, namespace, auth token, stale setting and {@link QueryOptions#setFilter filter}
+     * apply to every page.
+     *
+     * @param perPage the maximum number of allocations to fetch at once
+     * @param options options controlling how the requests are performed
+     * @see <a href="https://www.nomadproject.io/docs/http/allocs.html">{@code GET /v1/allocations}</a>
+     */
+    public PagedQuery<AllocationListStub> listPaged(
+            final int perPage,
+            @Nullable final QueryOptions<List<AllocationListStub>> options
+    ) {
+        return new PagedQuery<>(new PagedQuery.Lister<AllocationListStub>() {
+            @Override
+            public ServerQueryResponse<List<AllocationListStub>> list(
+                    QueryOptions<List<AllocationListStub>> pageOptions
+            ) throws IOException, NomadException {
+                return AllocationsApi.this.list(pageOptions);
+            }
+        }, perPage, options);
+    }
+
     /**
      * Stop and reschedules an allocation.
      * @param id the allocation ID to stop
@@ -122,7 +171,7 @@ public class AllocationsApi extends ApiBase {
     /**
      * Class matching the JSON request entity for allocation signaling.
      */
-    private static class AllocSignalRequest {
+    static final class AllocSignalRequest {
         public final String signal; // Checkstyle suppress VisibilityModifier
         public final String task; // Checkstyle suppress VisibilityModifier
 
@@ -1,79 +1,30 @@
 package com.hashicorp.nomad.javasdk;
 
-import org.apache.http.HttpHost;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.RequestBuilder;
 import org.apache.http.client.utils.URIBuilder;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
-import java.math.BigInteger;
+import java.io.InputStream;
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.util.List;
 
 /**
  * Common implementation functions for the API classes that are accessible from
  * the {@link NomadApiClient}.
  */
-abstract class ApiBase {
+abstract class ApiBase extends ApiRequestBase {
     protected final NomadApiClient apiClient;
 
     protected ApiBase(final NomadApiClient apiClient) {
         this.apiClient = apiClient;
     }
 
-
-    // URI Building
-
-    protected URIBuilder uri(final String path) {
-        return uri(apiClient.getAddress(), path);
-    }
-
-    protected URIBuilder uri(final HttpHost address, final String path) {
-        return new URIBuilder()
-                .setScheme(address.getSchemeName())
-                .setHost(address.getHostName())
-                .setPort(address.getPort())
-                .setPath(path);
-    }
-
-
-    // Request Building
-
-    protected RequestBuilder get(final String path) {
-        return get(uri(path));
-    }
-
-    protected RequestBuilder get(final URIBuilder uri) {
-        return RequestBuilder.get(build(uri));
-    }
-
-    protected RequestBuilder put(final String path, @Nullable final WriteOptions options) {
-        return put(uri(path), options);
-    }
-
-    protected RequestBuilder put(final URIBuilder uri, @Nullable final WriteOptions options) {
-        return prepareWrite(RequestBuilder.put(), uri, options);
-    }
-
-    protected RequestBuilder put(final String path, final Object requestEntity, @Nullable final WriteOptions options) {
-        return put(uri(path), requestEntity, options);
-    }
-
-    protected RequestBuilder put(
-            final URIBuilder uri,
-            final Object requestEntity,
-            @Nullable final WriteOptions options
-    ) {
-        return prepareWrite(RequestBuilder.put(), uri, options)
-                .setEntity(new StringEntity(NomadJson.serialize(requestEntity), ContentType.APPLICATION_JSON));
-    }
-
-    protected RequestBuilder delete(final URIBuilder uri, @Nullable final WriteOptions options) {
-        return prepareWrite(RequestBuilder.delete(), uri, options);
+    @Override
+    protected NomadApiConfiguration getApiConfig() {
+        return apiClient.getConfig();
     }
 
 
@@ -119,11 +70,7 @@ abstract class ApiBase {
             if (predicate == null || predicate.apply(response))
                 return response;
 
-            final BigInteger targetIndex = BigInteger.ZERO.equals(response.getIndex())
-                    ? BigInteger.ONE
-                    : response.getIndex();
-            if (options.getIndex() == null || targetIndex.compareTo(options.getIndex()) < 0)
-                options.setIndex(targetIndex);
+            advanceIndex(options, response);
         }
     }
 
@@ -145,7 +92,7 @@ abstract class ApiBase {
             if (predicate == null || predicate.apply(response))
                 return response;
 
-            options.setIndex(response.getIndex());
+            options.setIndex(response.getIndexAsLong());
         }
     }
 
@@ -155,35 +102,7 @@ abstract class ApiBase {
             @Nullable final QueryOptions<T> options,
             @Nullable final ValueExtractor<T> valueExtractor
     ) throws IOException, NomadException {
-        final URIBuilder uri = uri(path);
-        if (prefix != null) {
-            uri.addParameter("prefix", prefix);
-        }
-        return executeServerQuery(uri, options, valueExtractor);
-    }
-
-    private URI build(URIBuilder uriBuilder) {
-        try {
-            return uriBuilder.build();
-        } catch (URISyntaxException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private <T> String getWait(
-            @Nullable final WaitStrategy waitStrategy,
-            @Nullable final ServerQueryResponse<T> lastResponse
-    ) throws WaitStrategyExhaustedException {
-        try {
-            return waitStrategy == null ? null : waitStrategy.getWait();
-        } catch (WaitStrategyExhaustedException e) {
-            if (lastResponse == null) {
-                // We'll try once anyway
-                return "0ms";
-            } else {
-                throw new WaitStrategyExhaustedException(e.getMessage() + ", last response: " + lastResponse, e);
-            }
-        }
+        return executeServerQuery(prefixFilteredUri(path, prefix), options, valueExtractor);
     }
 
     private <T> ServerQueryResponse<T> executeServerQueryRaw(
@@ -192,43 +111,26 @@ abstract class ApiBase {
             final ValueExtractor<T> valueExtractor,
             RequestBuilder requestBuilder
     ) throws IOException, NomadException {
-        if (options != null) {
-            if (options.getIndex() != null)
-                requestBuilder.addParameter("index", options.getIndex().toString());
-            if (wait != null)
-                requestBuilder.addParameter("wait", wait);
-            if (options.isAllowStale())
-                requestBuilder.addParameter("stale", null);
-        }
-        return apiClient.execute(requestBuilder, new ServerQueryResponseAdapter<>(valueExtractor), options);
+        addQueryParameters(requestBuilder, options, wait);
+        return apiClient.execute(
+                requestBuilder, new ServerQueryResponseAdapter<>(forQuery(valueExtractor, options)), options);
     }
 
-    private RequestBuilder prepareWrite(
-            final RequestBuilder builder,
-            final URIBuilder uri,
-            @Nullable final WriteOptions options
-    ) {
-        String region = apiClient.getConfig().getRegion();
-        String namespace = apiClient.getConfig().getNamespace();
-        String secretId = apiClient.getConfig().getAuthToken();
-
-        if (options != null) {
-            if (options.getRegion() != null)
-                region = options.getRegion();
-            if (options.getNamespace() != null)
-                namespace = options.getNamespace();
-            if (options.getSecretId() != null)
-                secretId = options.getSecretId();
-        }
-
-        if (region != null)
-            uri.addParameter("region", region);
-        if (namespace != null)
-            uri.addParameter("namespace", namespace);
-        if (secretId != null)
-            builder.addHeader("X-Nomad-Token", secretId);
-
-        return builder.setUri(build(uri));
+    /**
+     * Adapts a parser to the field projection, lazy decoding and canonicalization requested in the query options.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ValueExtractor<T> forQuery(
+            @Nullable final ValueExtractor<T> valueExtractor,
+            @Nullable final QueryOptions<T> options) {
+        if (options != null && valueExtractor instanceof ListElementParser)
+            return (ValueExtractor<T>) ((ListElementParser<?>) valueExtractor).forQuery(options);
+        if (options == null || !(valueExtractor instanceof JsonParser))
+            return valueExtractor;
+        return ((JsonParser<T>) valueExtractor)
+                .projecting(options.getFields())
+                .lazily(options.isLazyNestedObjects())
+                .canonicalizing(options.getCanonicalizer());
     }
 
     /**
@@ -236,7 +138,7 @@ abstract class ApiBase {
      *
      * @param <T> type that is extracted from the response body
      */
-    private static class NomadResponseAdapter<T> extends ResponseAdapter<T, NomadResponse<T>> {
+    static class NomadResponseAdapter<T> extends ResponseAdapter<T, NomadResponse<T>> {
         NomadResponseAdapter(final ValueExtractor<T> valueExtractor) {
             super(valueExtractor);
         }
@@ -244,7 +146,7 @@ abstract class ApiBase {
         @Override
         protected NomadResponse<T> buildResponse(
                 final HttpResponse httpResponse,
-                final String rawEntity,
+                @Nullable final String rawEntity,
                 @Nullable final T value
         ) {
             return new NomadResponse<>(rawEntity, value);
@@ -256,7 +158,7 @@ abstract class ApiBase {
      *
      * @param <T> type that is extracted from the response body
      */
-    private static class ServerResponseAdapter<T> extends ResponseAdapter<T, ServerResponse<T>> {
+    static class ServerResponseAdapter<T> extends ResponseAdapter<T, ServerResponse<T>> {
         ServerResponseAdapter(@Nullable final ValueExtractor<T> valueExtractor) {
             super(valueExtractor);
         }
@@ -264,7 +166,7 @@ abstract class ApiBase {
         @Override
         protected ServerResponse<T> buildResponse(
                 final HttpResponse httpResponse,
-                final String rawEntity,
+                @Nullable final String rawEntity,
                 @Nullable final T value
         ) {
             return new ServerResponse<>(httpResponse, rawEntity, value);
@@ -276,7 +178,7 @@ abstract class ApiBase {
      *
      * @param <T> type that is extracted from the response body
      */
-    private static class ServerQueryResponseAdapter<T> extends ResponseAdapter<T, ServerQueryResponse<T>> {
+    static class ServerQueryResponseAdapter<T> extends ResponseAdapter<T, ServerQueryResponse<T>> {
         ServerQueryResponseAdapter(@Nullable final ValueExtractor<T> valueExtractor) {
             super(valueExtractor);
         }
@@ -284,11 +186,48 @@ abstract class ApiBase {
         @Override
         protected ServerQueryResponse<T> buildResponse(
                 final HttpResponse httpResponse,
-                final String rawEntity,
+                @Nullable final String rawEntity,
                 @Nullable final T value
         ) {
             return new ServerQueryResponse<>(httpResponse, rawEntity, value);
         }
     }
 
+    /**
+     * Builds an {@link EvaluationResponse} from the HTTP response to a request that creates an evaluation.
+     */
+    static class EvaluationResponseAdapter extends ResponseAdapter<String, EvaluationResponse> {
+        EvaluationResponseAdapter() {
+            super(new StreamingValueExtractor<String>() {
+                private final JsonParser<EvalIdResponse> evalIdParser = NomadJson.parserFor(EvalIdResponse.class);
+
+                @Override
+                public String extractValue(String json) throws ResponseParsingException {
+                    return evalIdParser.extractValue(json).evalID;
+                }
+
+                @Override
+                public String extractValue(InputStream stream) throws IOException, ResponseParsingException {
+                    return evalIdParser.extractValue(stream).evalID;
+                }
+            });
+        }
+
+        @Override
+        protected EvaluationResponse buildResponse(
+                final HttpResponse httpResponse,
+                @Nullable final String rawEntity,
+                @Nonnull final String value
+        ) {
+            return new EvaluationResponse(httpResponse, rawEntity, value);
+        }
+    }
+
+    /**
+     * Class matching the JSON that wraps evaluation IDs in responses to evaluation-creating requests.
+     */
+    private static class EvalIdResponse {
+        public String evalID; // Checkstyle suppress VisibilityModifier
+    }
+
 }
@@ -2,11 +2,26 @@ package com.hashicorp.nomad.javasdk;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.util.RawValue;
 
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Abstract parent class for API objects that allows them to preserve properties they don't explicitly model.
+ * <p>
+ * It also provides the helpers behind the deep copies, equality and structural hashes of the generated model
+ * classes, which work field by field rather than through a round-trip to JSON. Their {@code hashCode} only covers
+ * scalar properties, such as IDs, statuses and indexes, so that using them as keys neither walks nor decodes
+ * their nested objects; {@link #structuralHash()} covers the whole graph.
  */
 public abstract class ApiObject {
 
@@ -18,6 +33,9 @@ public abstract class ApiObject {
      * The primary purpose of this method is to provide a mechanism for unknown properties to remain intact after
      * a round-trip from JSON to this class and back again. If you find yourself needing to read or write a property
      * that is not yet modelled as a bean property, consider looking for a newer version of the SDK.
+     * <p>
+     * What is kept depends on the {@link NomadJson#setUnknownPropertyPolicy(UnknownPropertyPolicy) policy}
+     * in force when the object was deserialized.
      */
     @JsonAnyGetter
     public Map<String, Object> getUnmappedProperties() {
@@ -34,10 +52,209 @@ public abstract class ApiObject {
      * @param name  name of the property
      * @param value value of the property
      */
-    @JsonAnySetter
     public void addUnmappedProperty(String name, Object value) {
         if (this.unmappedProperties == null)
-            this.unmappedProperties = new java.util.HashMap<>();
+            this.unmappedProperties = new UnmappedProperties();
         unmappedProperties.put(name, value);
     }
+
+    /**
+     * Receives the properties that data binding finds no bean property for,
+     * as read according to the {@link NomadJson#getUnknownPropertyPolicy() unknown property policy}.
+     */
+    @JsonAnySetter
+    @JsonDeserialize(contentUsing = UnmappedValueDeserializer.class)
+    private void readUnmappedProperty(String name, Object value) {
+        if (value != UnmappedValueDeserializer.DROPPED)
+            addUnmappedProperty(name, value);
+    }
+
+    /**
+     * Returns a deep copy of this object, which shares no mutable state with it.
+     * <p>
+     * The generated model classes copy themselves field by field. This implementation falls back to a round-trip
+     * through JSON, for other subclasses.
+     */
+    public ApiObject deepCopy() {
+        try {
+            return NomadJson.deserialize(NomadJson.serialize(this), getClass());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns a 64-bit hash of this object's structure and values, including its unmapped properties.
+     * <p>
+     * Unlike {@link #hashCode()}, the hash is the same in every JVM and from one release of the SDK to the next,
+     * as long as the model class's properties don't change, so it can be stored for change detection.
+     * Objects that are equal have the same structural hash.
+     * <p>
+     * The generated model classes hash themselves field by field. This implementation falls back to hashing
+     * the object's JSON representation, for other subclasses.
+     */
+    public long structuralHash() {
+        return hashOf(0, NomadJson.serialize(this));
+    }
+
+    /**
+     * Copies this object's unmapped properties, if any, into a copy of it.
+     *
+     * @param copy the copy being made of this object
+     */
+    protected final void copyUnmappedPropertiesTo(ApiObject copy) {
+        if (unmappedProperties != null) {
+            for (Map.Entry<String, Object> property : unmappedProperties.entrySet())
+                copy.addUnmappedProperty(property.getKey(), copyOf(property.getValue()));
+        }
+    }
+
+    /**
+     * Returns true if this object has the same unmapped properties as another, treating none as empty.
+     *
+     * @param that the object to compare with
+     */
+    protected final boolean unmappedPropertiesEqual(ApiObject that) {
+        final boolean empty = unmappedProperties == null || unmappedProperties.isEmpty();
+        final boolean thatEmpty = that.unmappedProperties == null || that.unmappedProperties.isEmpty();
+        return empty || thatEmpty ? empty == thatEmpty : unmappedProperties.equals(that.unmappedProperties);
+    }
+
+    /**
+     * Mixes the hash of this object's unmapped properties into a structural hash.
+     *
+     * @param hash the hash of the object's other properties
+     */
+    protected final long hashUnmappedProperties(long hash) {
+        return unmappedProperties == null || unmappedProperties.isEmpty() ? hash : hashOf(hash, unmappedProperties);
+    }
+
+    /**
+     * Returns a deep copy of a property value.
+     * <p>
+     * API objects, lists, maps, dates and byte arrays are copied, and anything else is assumed to be immutable.
+     *
+     * @param value the value to copy
+     * @param <V>   the type of the value
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    protected static <V> V copyOf(@Nullable V value) {
+        if (value == null)
+            return null;
+        if (value instanceof ApiObject)
+            return (V) ((ApiObject) value).deepCopy();
+        if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            final List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list)
+                copy.add(copyOf(element));
+            return (V) copy;
+        }
+        if (value instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            final Map<Object, Object> copy = new LinkedHashMap<>(Math.max(4, map.size() * 4 / 3 + 1));
+            for (Map.Entry<?, ?> entry : map.entrySet())
+                copy.put(entry.getKey(), copyOf(entry.getValue()));
+            return (V) copy;
+        }
+        if (value instanceof Date)
+            return (V) new Date(((Date) value).getTime());
+        if (value instanceof byte[])
+            return (V) ((byte[]) value).clone();
+        return value;
+    }
+
+    /**
+     * Mixes a value into a structural hash.
+     *
+     * @param hash  the hash so far
+     * @param value the value
+     */
+    protected static long hashOf(long hash, long value) {
+        final long mixed = (hash ^ value) * 0x9E3779B97F4A7C15L;
+        return mixed ^ (mixed >>> 29);
+    }
+
+    /**
+     * Mixes a value into a structural hash.
+     *
+     * @param hash  the hash so far
+     * @param value the value
+     */
+    protected static long hashOf(long hash, double value) {
+        return hashOf(hash, Double.doubleToLongBits(value));
+    }
+
+    /**
+     * Mixes a value into a structural hash.
+     *
+     * @param hash  the hash so far
+     * @param value the value
+     */
+    protected static long hashOf(long hash, boolean value) {
+        return hashOf(hash, value ? 1231 : 1237);
+    }
+
+    /**
+     * Mixes a property value of any type into a structural hash.
+     * <p>
+     * Lists are hashed in order and maps regardless of the order of their entries.
+     *
+     * @param hash  the hash so far
+     * @param value the value, which may be null
+     */
+    protected static long hashOf(long hash, @Nullable Object value) {
+        if (value == null)
+            return hashOf(hash, 0x6E756C6CL);
+        if (value instanceof ApiObject)
+            return hashOf(hash, ((ApiObject) value).structuralHash());
+        if (value instanceof String)
+            return hashOf(hash, fnv((String) value));
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)
+            return hashOf(hash, ((Number) value).longValue());
+        if (value instanceof Double || value instanceof Float)
+            return hashOf(hash, ((Number) value).doubleValue());
+        if (value instanceof Boolean)
+            return hashOf(hash, ((Boolean) value).booleanValue());
+        if (value instanceof BigInteger) {
+            final BigInteger integer = (BigInteger) value;
+            return integer.bitLength() < Long.SIZE
+                    ? hashOf(hash, integer.longValue())
+                    : hashOf(hash, fnv(integer.toByteArray()));
+        }
+        if (value instanceof List) {
+            long result = hashOf(hash, ((List<?>) value).size());
+            for (Object element : (List<?>) value)
+                result = hashOf(result, element);
+            return result;
+        }
+        if (value instanceof Map) {
+            long entries = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet())
+                entries += hashOf(hashOf(0, entry.getKey()), entry.getValue());
+            return hashOf(hashOf(hash, ((Map<?, ?>) value).size()), entries);
+        }
+        if (value instanceof Date)
+            return hashOf(hash, ((Date) value).getTime());
+        if (value instanceof byte[])
+            return hashOf(hash, fnv((byte[]) value));
+        if (value instanceof RawValue)
+            return hashOf(hash, fnv(String.valueOf(((RawValue) value).rawValue())));
+        return hashOf(hash, value.hashCode());
+    }
+
+    private static long fnv(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++)
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        return hash;
+    }
+
+    private static long fnv(byte[] value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value)
+            hash = (hash ^ (b & 0xFF)) * 0x100000001B3L;
+        return hash;
+    }
 }
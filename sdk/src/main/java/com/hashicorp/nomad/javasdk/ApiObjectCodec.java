@@ -0,0 +1,335 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Parent class for the codecs generated alongside API model classes, which read and write an object's properties
+ * straight from and to the JSON token stream instead of going through reflection-based data binding.
+ * <p>
+ * The codec for a model class {@code Foo} is the class {@code FooCodec} in the same package. When it is present,
+ * {@link NomadJson} uses it wherever a {@code Foo} is read or written, including inside lists, maps and other
+ * objects; model classes without a codec are handled by data binding as before. Property values that codecs don't
+ * handle themselves, such as nested objects, are delegated back to the object mapper, so the two mix freely.
+ *
+ * @param <T> the type of API object
+ */
+public abstract class ApiObjectCodec<T extends ApiObject> {
+    /**
+     * The attribute that, when set on a reader, makes codecs defer decoding of large nested properties.
+     */
+    static final Object LAZY_NESTED_OBJECTS = new Object();
+
+    /**
+     * The attribute that is set on a reader that only reads some of the fields of the objects it is given,
+     * whose objects must therefore never become canonical instances.
+     */
+    static final Object PROJECTED_FIELDS = new Object();
+
+    /**
+     * The attribute that is set on a reader of values that were nested in another object,
+     * such as a lazily decoded property, so that their top-level objects are still canonicalized.
+     */
+    static final Object NESTED_VALUES = new Object();
+
+    private final Class<T> type;
+
+    /**
+     * Creates a codec.
+     *
+     * @param type the class of objects the codec reads and writes
+     */
+    protected ApiObjectCodec(Class<T> type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets the class of objects the codec reads and writes.
+     */
+    public final Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Creates an empty object to read properties into.
+     */
+    protected abstract T newInstance();
+
+    /**
+     * Reads the value of a property into an object.
+     *
+     * @param p     a parser positioned on the first token of the property's value, which must be left on its last
+     * @param ctxt  the context to delegate values to that the codec doesn't handle itself
+     * @param name  the name of the property
+     * @param value the object to read the property into
+     * @return false if the property is not a known one, in which case the value must not have been consumed
+     * @throws IOException if the value cannot be read
+     */
+    protected abstract boolean readProperty(JsonParser p, DeserializationContext ctxt, String name, T value)
+            throws IOException;
+
+    /**
+     * Writes the known properties of an object, as field names and values.
+     *
+     * @param g        the generator to write to
+     * @param provider the provider to delegate values to that the codec doesn't handle itself
+     * @param value    the object whose properties are to be written
+     * @throws IOException if a value cannot be written
+     */
+    protected abstract void writeProperties(JsonGenerator g, SerializerProvider provider, T value)
+            throws IOException;
+
+    /**
+     * Reads an object, handling any properties that the codec doesn't know about according to
+     * the {@link NomadJson#getUnknownPropertyPolicy() unknown property policy}.
+     *
+     * @param p    a parser positioned on the object's start token
+     * @param ctxt the deserialization context
+     * @throws IOException if the object cannot be read
+     */
+    public final T read(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return type.cast(ctxt.handleUnexpectedToken(type, p));
+        }
+        final boolean rootValue = isRootValue(p, ctxt);
+        final T value = newInstance();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            final String name = p.getCurrentName();
+            p.nextToken();
+            if (!readProperty(p, ctxt, name, value)) {
+                final Object unmapped = UnmappedValueDeserializer.read(p, ctxt);
+                if (unmapped != UnmappedValueDeserializer.DROPPED)
+                    value.addUnmappedProperty(name, unmapped);
+            }
+        }
+        // Only embedded objects are shared, so that a response's own value is always the one the server sent
+        final Canonicalizer canonicalizer = getCanonicalizer(ctxt);
+        if (canonicalizer == null || rootValue || ctxt.getAttribute(PROJECTED_FIELDS) != null)
+            return value;
+        return canonicalizer.canonical(value);
+    }
+
+    /**
+     * Returns true if the object being read is a response's value, or an element of a list that is.
+     *
+     * @param p    a parser positioned inside the object
+     * @param ctxt the deserialization context
+     */
+    private static boolean isRootValue(JsonParser p, DeserializationContext ctxt) {
+        if (ctxt.getAttribute(NESTED_VALUES) != null)
+            return false;
+        JsonStreamContext parent = p.getParsingContext().getParent();
+        if (parent != null && parent.inArray())
+            parent = parent.getParent();
+        return parent == null || parent.inRoot();
+    }
+
+    /**
+     * Writes an object, followed by any unmapped properties it has.
+     *
+     * @param g        the generator to write to
+     * @param provider the serializer provider
+     * @param value    the object to write
+     * @throws IOException if the object cannot be written
+     */
+    public final void write(JsonGenerator g, SerializerProvider provider, T value) throws IOException {
+        g.writeStartObject(value);
+        writeProperties(g, provider, value);
+        final Map<String, Object> unmapped = value.getUnmappedProperties();
+        if (unmapped != null) {
+            for (Map.Entry<String, Object> property : unmapped.entrySet())
+                writeValue(g, provider, property.getKey(), property.getValue());
+        }
+        g.writeEndObject();
+    }
+
+    /**
+     * Reads a string value.
+     *
+     * @param p    a parser positioned on the value
+     * @param ctxt the context to delegate to for anything but a plain string
+     * @throws IOException if the value cannot be read
+     */
+    protected static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_STRING
+                ? p.getText()
+                : readValue(p, ctxt, String.class);
+    }
+
+    /**
+     * Reads a string value of a property that takes few distinct values, such as a node ID or a status,
+     * interning it if the reader has a {@link Canonicalizer}.
+     *
+     * @param p    a parser positioned on the value
+     * @param ctxt the context to delegate to for anything but a plain string
+     * @throws IOException if the value cannot be read
+     */
+    protected static String readInternedString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        final String value = readString(p, ctxt);
+        final Canonicalizer canonicalizer = value == null ? null : getCanonicalizer(ctxt);
+        return canonicalizer == null ? value : canonicalizer.intern(value);
+    }
+
+    /**
+     * Reads a boolean value, treating null as false.
+     *
+     * @param p    a parser positioned on the value
+     * @param ctxt the context to delegate to for anything but a plain boolean
+     * @throws IOException if the value cannot be read
+     */
+    protected static boolean readBoolean(JsonParser p, DeserializationContext ctxt) throws IOException {
+        final JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE)
+            return token == JsonToken.VALUE_TRUE;
+        final Boolean value = readValue(p, ctxt, Boolean.class);
+        return value != null && value;
+    }
+
+    /**
+     * Reads an int value, treating null as zero.
+     *
+     * @param p    a parser positioned on the value
+     * @param ctxt the context to delegate to for anything but a plain integer
+     * @throws IOException if the value cannot be read
+     */
+    protected static int readInt(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NUMBER_INT)
+            return p.getIntValue();
+        final Integer value = readValue(p, ctxt, Integer.class);
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * Reads a long value, treating null as zero.
+     *
+     * @param p    a parser positioned on the value
+     * @param ctxt the context to delegate to for anything but a plain integer
+     * @throws IOException if the value cannot be read
+     */
+    protected static long readLong(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NUMBER_INT)
+            return p.getLongValue();
+        final Long value = readValue(p, ctxt, Long.class);
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * Reads a double value, treating null as zero.
+     *
+     * @param p    a parser positioned on the value
+     * @param ctxt the context to delegate to for anything but a plain number
+     * @throws IOException if the value cannot be read
+     */
+    protected static double readDouble(JsonParser p, DeserializationContext ctxt) throws IOException {
+        final JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT)
+            return p.getDoubleValue();
+        final Double value = readValue(p, ctxt, Double.class);
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * Reads a value of any type through data binding, or through its codec if it has one.
+     *
+     * @param p    a parser positioned on the value
+     * @param ctxt the deserialization context
+     * @param type the class of the value
+     * @param <V>  the type of the value
+     * @throws IOException if the value cannot be read
+     */
+    protected static <V> V readValue(JsonParser p, DeserializationContext ctxt, Class<V> type) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL)
+            return null;
+        return ctxt.readValue(p, type);
+    }
+
+    /**
+     * Reads a value of any type through data binding, or through its codec if it has one.
+     *
+     * @param p    a parser positioned on the value
+     * @param ctxt the deserialization context
+     * @param type the type of the value, e.g. a list of some model class
+     * @param <V>  the type of the value
+     * @throws IOException if the value cannot be read
+     */
+    protected static <V> V readValue(JsonParser p, DeserializationContext ctxt, JavaType type) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL)
+            return null;
+        return ctxt.readValue(p, type);
+    }
+
+    /**
+     * Returns true if large nested properties should be captured as tokens rather than decoded straight away.
+     *
+     * @param ctxt the deserialization context
+     * @see QueryOptions#setLazyNestedObjects(boolean)
+     */
+    protected static boolean isLazy(DeserializationContext ctxt) {
+        return ctxt.getAttribute(LAZY_NESTED_OBJECTS) != null;
+    }
+
+    /**
+     * Captures a value's tokens so that it can be decoded later, when it is first needed.
+     *
+     * @param p    a parser positioned on the value
+     * @param ctxt the deserialization context
+     * @param type the class of the value
+     * @param <V>  the type of the value
+     * @return the captured value, or null if the value is null
+     * @throws IOException if the value cannot be read
+     */
+    protected static <V> LazyValue<V> readLazily(JsonParser p, DeserializationContext ctxt, Class<V> type)
+            throws IOException {
+        return readLazily(p, ctxt, ctxt.constructType(type));
+    }
+
+    /**
+     * Captures a value's tokens so that it can be decoded later, when it is first needed.
+     *
+     * @param p    a parser positioned on the value
+     * @param ctxt the deserialization context
+     * @param type the type of the value, e.g. a list of some model class
+     * @param <V>  the type of the value
+     * @return the captured value, or null if the value is null
+     * @throws IOException if the value cannot be read
+     */
+    protected static <V> LazyValue<V> readLazily(JsonParser p, DeserializationContext ctxt, JavaType type)
+            throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL)
+            return null;
+        final TokenBuffer tokens = new TokenBuffer(p, ctxt);
+        tokens.copyCurrentStructure(p);
+        return new LazyValue<>(tokens, type, getCanonicalizer(ctxt));
+    }
+
+    private static Canonicalizer getCanonicalizer(DeserializationContext ctxt) {
+        return (Canonicalizer) ctxt.getAttribute(Canonicalizer.class);
+    }
+
+    /**
+     * Writes a property whose value may be of any type, through data binding or through its codec if it has one.
+     *
+     * @param g        the generator to write to
+     * @param provider the serializer provider
+     * @param name     the name of the property
+     * @param value    the value of the property
+     * @throws IOException if the value cannot be written
+     */
+    protected static void writeValue(JsonGenerator g, SerializerProvider provider, String name, Object value)
+            throws IOException {
+        g.writeFieldName(name);
+        provider.defaultSerializeValue(value, g);
+    }
+}
@@ -0,0 +1,129 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+
+/**
+ * Makes the object mapper use the generated {@link ApiObjectCodec} of any API model class that has one.
+ * <p>
+ * Codecs are looked up by name the first time the mapper needs a (de)serializer for a class;
+ * the mapper caches the result, so the lookup isn't repeated.
+ */
+final class ApiObjectCodecModule extends Module {
+
+    @Override
+    public String getModuleName() {
+        return "NomadApiObjectCodecs";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        context.addDeserializers(new Deserializers.Base() {
+            @Override
+            public JsonDeserializer<?> findBeanDeserializer(
+                    JavaType type, DeserializationConfig config, BeanDescription beanDesc)
+                    throws JsonMappingException {
+                final ApiObjectCodec<?> codec = codecFor(type.getRawClass());
+                return codec == null ? null : new CodecDeserializer<>(codec);
+            }
+        });
+        context.addSerializers(new Serializers.Base() {
+            @Override
+            public JsonSerializer<?> findSerializer(
+                    SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+                final ApiObjectCodec<?> codec = codecFor(type.getRawClass());
+                return codec == null ? null : new CodecSerializer<>(codec);
+            }
+        });
+    }
+
+    /**
+     * Returns the codec for a class, or null if it is not an API model class or has no codec.
+     */
+    @Nullable
+    static ApiObjectCodec<?> codecFor(Class<?> clazz) {
+        if (!ApiObject.class.isAssignableFrom(clazz))
+            return null;
+        final Class<?> codecClass;
+        try {
+            codecClass = Class.forName(clazz.getName() + "Codec", true, clazz.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        if (!ApiObjectCodec.class.isAssignableFrom(codecClass))
+            return null;
+        final ApiObjectCodec<?> codec;
+        try {
+            codec = (ApiObjectCodec<?>) codecClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("unable to instantiate " + codecClass, e);
+        }
+        return codec.getType() == clazz ? codec : null;
+    }
+
+    /**
+     * Adapts a codec to Jackson's deserializer interface.
+     *
+     * @param <T> the type of API object
+     */
+    private static final class CodecDeserializer<T extends ApiObject> extends StdDeserializer<T> {
+        private final ApiObjectCodec<T> codec;
+
+        CodecDeserializer(ApiObjectCodec<T> codec) {
+            super(codec.getType());
+            this.codec = codec;
+        }
+
+        @Override
+        public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return codec.read(p, ctxt);
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+    }
+
+    /**
+     * Adapts a codec to Jackson's serializer interface.
+     *
+     * @param <T> the type of API object
+     */
+    private static final class CodecSerializer<T extends ApiObject> extends StdSerializer<T> {
+        private final ApiObjectCodec<T> codec;
+
+        CodecSerializer(ApiObjectCodec<T> codec) {
+            super(codec.getType());
+            this.codec = codec;
+        }
+
+        @Override
+        public void serialize(T value, JsonGenerator g, SerializerProvider provider) throws IOException {
+            codec.write(g, provider, value);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.hashicorp.nomad.javasdk;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.client.entity.GzipCompressingEntity;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+
+import javax.annotation.Nullable;
+import java.net.URI;
+import java.net.URISyntaxException;
+
+/**
+ * Common request-building functions shared by the blocking API classes accessible from the {@link NomadApiClient}
+ * and the asynchronous API classes accessible from the {@link NomadAsyncApiClient}.
+ */
+abstract class ApiRequestBase {
+
+    /**
+     * Returns the current configuration of the API client that requests are being built for.
+     */
+    protected abstract NomadApiConfiguration getApiConfig();
+
+
+    // URI Building
+
+    protected URIBuilder uri(final String path) {
+        return uri(getApiConfig().getAddress(), path);
+    }
+
+    protected URIBuilder uri(final HttpHost address, final String path) {
+        return new URIBuilder()
+                .setScheme(address.getSchemeName())
+                .setHost(address.getHostName())
+                .setPort(address.getPort())
+                .setPath(path);
+    }
+
+
+    // Request Building
+
+    protected RequestBuilder get(final String path) {
+        return get(uri(path));
+    }
+
+    protected RequestBuilder get(final URIBuilder uri) {
+        return RequestBuilder.get(build(uri));
+    }
+
+    protected RequestBuilder put(final String path, @Nullable final WriteOptions options) {
+        return put(uri(path), options);
+    }
+
+    protected RequestBuilder put(final URIBuilder uri, @Nullable final WriteOptions options) {
+        return prepareWrite(RequestBuilder.put(), uri, options);
+    }
+
+    protected RequestBuilder put(final String path, final Object requestEntity, @Nullable final WriteOptions options) {
+        return put(uri(path), requestEntity, options);
+    }
+
+    protected RequestBuilder put(
+            final URIBuilder uri,
+            final Object requestEntity,
+            @Nullable final WriteOptions options
+    ) {
+        return prepareWrite(RequestBuilder.put(), uri, options)
+                .setEntity(new JsonEntity(requestEntity, getApiConfig().isGzipRequests()));
+    }
+
+    /**
+     * Builds a PUT request whose body is JSON that has already been serialized.
+     */
+    protected RequestBuilder putSerialized(
+            final String path,
+            final byte[] json,
+            @Nullable final WriteOptions options
+    ) {
+        final HttpEntity entity = new ByteArrayEntity(json, ContentType.APPLICATION_JSON);
+        return prepareWrite(RequestBuilder.put(), uri(path), options)
+                .setEntity(getApiConfig().isGzipRequests() ? new GzipCompressingEntity(entity) : entity);
+    }
+
+    protected RequestBuilder delete(final URIBuilder uri, @Nullable final WriteOptions options) {
+        return prepareWrite(RequestBuilder.delete(), uri, options);
+    }
+
+    protected URIBuilder prefixFilteredUri(final String path, @Nullable final String prefix) {
+        final URIBuilder uri = uri(path);
+        if (prefix != null) {
+            uri.addParameter("prefix", prefix);
+        }
+        return uri;
+    }
+
+    static URI build(URIBuilder uriBuilder) {
+        try {
+            return uriBuilder.build();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+
+    // Blocking query support
+
+    static <T> String getWait(
+            @Nullable final WaitStrategy waitStrategy,
+            @Nullable final ServerQueryResponse<T> lastResponse
+    ) throws WaitStrategyExhaustedException {
+        try {
+            return waitStrategy == null ? null : waitStrategy.getWait();
+        } catch (WaitStrategyExhaustedException e) {
+            if (lastResponse == null) {
+                // We'll try once anyway
+                return "0ms";
+            } else {
+                throw new WaitStrategyExhaustedException(e.getMessage() + ", last response: " + lastResponse, e);
+            }
+        }
+    }
+
+    static void addQueryParameters(
+            final RequestBuilder requestBuilder,
+            @Nullable final QueryOptions<?> options,
+            @Nullable final String wait
+    ) {
+        if (options != null) {
+            if (options.hasIndex())
+                requestBuilder.addParameter("index", Long.toUnsignedString(options.getIndexAsLong()));
+            if (wait != null)
+                requestBuilder.addParameter("wait", wait);
+            if (options.isAllowStale())
+                requestBuilder.addParameter("stale", null);
+            if (options.getPerPage() != null)
+                requestBuilder.addParameter("per_page", options.getPerPage().toString());
+            if (options.getNextToken() != null)
+                requestBuilder.addParameter("next_token", options.getNextToken());
+            if (options.getFilter() != null)
+                requestBuilder.addParameter("filter", options.getFilter());
+        }
+    }
+
+    /**
+     * Moves the index in the query options forward so that the next poll blocks until there is a change
+     * after the given response.
+     */
+    static <T> void advanceIndex(final QueryOptions<T> options, final ServerQueryResponse<T> response) {
+        final long responseIndex = response.getIndexAsLong();
+        final long targetIndex = responseIndex == 0 ? 1 : responseIndex;
+        if (!options.hasIndex() || Long.compareUnsigned(targetIndex, options.getIndexAsLong()) < 0)
+            options.setIndex(targetIndex);
+    }
+
+    private RequestBuilder prepareWrite(
+            final RequestBuilder builder,
+            final URIBuilder uri,
+            @Nullable final WriteOptions options
+    ) {
+        final NomadApiConfiguration config = getApiConfig();
+        String region = config.getRegion();
+        String namespace = config.getNamespace();
+        String secretId = config.getAuthToken();
+
+        if (options != null) {
+            if (options.getRegion() != null)
+                region = options.getRegion();
+            if (options.getNamespace() != null)
+                namespace = options.getNamespace();
+            if (options.getSecretId() != null)
+                secretId = options.getSecretId();
+        }
+
+        if (region != null)
+            uri.addParameter("region", region);
+        if (namespace != null)
+            uri.addParameter("namespace", namespace);
+        if (secretId != null)
+            builder.addHeader("X-Nomad-Token", secretId);
+
+        return builder.setUri(build(uri));
+    }
+}
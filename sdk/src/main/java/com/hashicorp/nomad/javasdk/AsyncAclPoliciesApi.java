@@ -0,0 +1,158 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.AclPolicy;
+import com.hashicorp.nomad.apimodel.AclPolicyListStub;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API for managing ACL policies,
+ * exposing the <a href="https://www.nomadproject.io/api/acl-policies.html">ACL policies</a> functionality of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see AclPoliciesApi
+ */
+public class AsyncAclPoliciesApi extends AsyncApiBase {
+
+    AsyncAclPoliciesApi(NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Deletes an ACL policy.
+     *
+     * @param policyName name of the policy to delete
+     * @see <a href="https://www.nomadproject.io/docs/http/acl-policy.html#delete-policy">{@code DELETE /v1/acl/policy/:name}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> delete(final String policyName) {
+        return delete(policyName, null);
+    }
+
+    /**
+     * Deletes an ACL policy.
+     *
+     * @param policyName name of the policy to delete
+     * @param options    options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/acl-policy.html#delete-policy">{@code DELETE /v1/acl/policy/:name}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> delete(
+            final String policyName,
+            @Nullable final WriteOptions options
+    ) {
+
+        if (policyName.isEmpty()) {
+            throw new IllegalArgumentException("Policy name must be a non-empty string");
+        }
+
+        return executeServerAction(delete(uri("/v1/acl/policy/" + policyName), options), null);
+    }
+
+    /**
+     * Retrieves an ACL policy.
+     *
+     * @param name name of the policy.
+     * @see <a href="https://www.nomadproject.io/docs/http/acl-policies.html#read-policy">{@code GET /v1/acl/policy/:name}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<AclPolicy>> info(final String name) {
+        return info(name, null);
+    }
+
+    /**
+     * Retrieves an ACL policy.
+     *
+     * @param name    name of the policy.
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/acl-policies.html#read-policy">{@code GET /v1/acl/policy/:name}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<AclPolicy>> info(
+            final String name,
+            @Nullable final QueryOptions<AclPolicy> options
+    ) {
+        return executeServerQuery("/v1/acl/policy/" + name, options, NomadJson.parserFor(AclPolicy.class));
+    }
+
+    /**
+     * Lists all ACL policies.
+     *
+     * @see <a href="https://www.nomadproject.io/docs/http/acl-policies.html#list-policies">{@code GET /v1/acl/policies}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AclPolicyListStub>>> list() {
+        return list(null, null);
+    }
+
+    /**
+     * Lists all ACL policies.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/acl-policies.html#list-policies">{@code GET /v1/acl/policies}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AclPolicyListStub>>> list(
+            @Nullable final QueryOptions<List<AclPolicyListStub>> options
+    ) {
+
+        return list(null, options);
+    }
+
+    /**
+     * Lists ACL policies.
+     *
+     * @param namePrefix a name prefix that, if given,
+     *                   restricts the results to only policies having a name with this prefix
+     * @see <a href="https://www.nomadproject.io/docs/http/acl-policies.html#list-policies">{@code GET /v1/acl/policies}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AclPolicyListStub>>> list(@Nullable final String namePrefix) {
+
+        return list(namePrefix, null);
+    }
+
+    /**
+     * Lists ACL policies.
+     *
+     * @param namePrefix a name prefix that, if given,
+     *                   restricts the results to only policies having a name with this prefix
+     * @param options    options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/acl-policies.html#list-policies">{@code GET /v1/acl/policies}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AclPolicyListStub>>> list(
+            @Nullable final String namePrefix,
+            @Nullable final QueryOptions<List<AclPolicyListStub>> options
+    ) {
+
+        return executeServerQueryForPrefixFilteredList(
+                "/v1/acl/policies",
+                namePrefix,
+                options,
+                NomadJson.parserForListOf(AclPolicyListStub.class));
+    }
+
+    /**
+     * Creates or updates an ACL policy.
+     *
+     * @param policy the ACL policy
+     * @see <a href="https://www.nomadproject.io/docs/http/acl-policies.html#create-or-update-policy">{@code PUT /v1/acl/policy/:name}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> upsert(AclPolicy policy) {
+        return upsert(policy, null);
+    }
+
+    /**
+     * Creates or updates an ACL policy.
+     *
+     * @param policy  the ACL policy
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/acl-policies.html#create-or-update-policy">{@code PUT /v1/acl/policy/:name}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> upsert(AclPolicy policy, @Nullable WriteOptions options) {
+
+        if (policy.getName() == null || policy.getName().isEmpty()) {
+            throw new IllegalArgumentException("Cannot upsert policy that does not have a name");
+        }
+
+        return executeServerAction(
+                put("/v1/acl/policy/" + policy.getName(), policy, options),
+                null);
+    }
+
+}
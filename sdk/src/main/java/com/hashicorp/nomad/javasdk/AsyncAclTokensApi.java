@@ -0,0 +1,219 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.AclToken;
+import com.hashicorp.nomad.apimodel.AclTokenListStub;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API for managing ACL tokens,
+ * exposing the <a href="https://www.nomadproject.io/api/acl-tokens.html">ACL tokens</a> functionality of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see AclTokensApi
+ */
+public class AsyncAclTokensApi extends AsyncApiBase {
+
+    AsyncAclTokensApi(NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Bootstraps the ACL system and returns the initial management token.
+     *
+     * @see <a href="https://www.nomadproject.io/api/acl-tokens.html#bootstrap-token">{@code PUT /v1/acl/bootstrap}</a>
+     */
+    public CompletableFuture<ServerResponse<AclToken>> bootstrap() {
+        return bootstrap(null);
+    }
+
+    /**
+     * Bootstraps the ACL system and returns the initial management token.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/acl-tokens.html#bootstrap-token">{@code PUT /v1/acl/bootstrap}</a>
+     */
+    public CompletableFuture<ServerResponse<AclToken>> bootstrap(@Nullable WriteOptions options) {
+        return executeServerAction(put("/v1/acl/bootstrap", options), NomadJson.parserFor(AclToken.class));
+    }
+
+    /**
+     * Creates an ACL token, returning a token with a server-assigned accessor ID and secret ID.
+     *
+     * @param token a token with no accessor ID
+     * @see <a href="https://www.nomadproject.io/api/acl-tokens.html#create-token">{@code PUT /v1/acl/token}</a>
+     */
+    public CompletableFuture<ServerResponse<AclToken>> create(AclToken token) {
+        return create(token, null);
+    }
+
+    /**
+     * Creates an ACL token, returning a token with a server-assigned accessor ID and secret ID.
+     *
+     * @param token   a token with no accessor ID
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/acl-tokens.html#create-token">{@code PUT /v1/acl/token}</a>
+     */
+    public CompletableFuture<ServerResponse<AclToken>> create(AclToken token, @Nullable WriteOptions options) {
+        if (token.getAccessorId() != null && !token.getAccessorId().isEmpty()) {
+            throw new java.lang.IllegalArgumentException("Cannot create an ACL token that already has an accessor ID");
+        }
+        return executeServerAction(put("/v1/acl/token", token, options), NomadJson.parserFor(AclToken.class));
+    }
+
+    /**
+     * Deletes an ACL token.
+     *
+     * @param accessorId accessorId of the token to delete
+     * @see <a href="https://www.nomadproject.io/docs/http/acl-token.html#delete-token">{@code DELETE /v1/acl/token/:accessor_id}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> delete(final String accessorId) {
+        return delete(accessorId, null);
+    }
+
+    /**
+     * Deletes an ACL token.
+     *
+     * @param accessorId accessorId of the token to delete
+     * @param options    options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/acl-token.html#delete-token">{@code DELETE /v1/acl/token/:accessor_id}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> delete(
+            final String accessorId,
+            @Nullable final WriteOptions options
+    ) {
+
+        return executeServerAction(delete(uri("/v1/acl/token/" + accessorId), options), null);
+    }
+
+    /**
+     * Retrieves an ACL token.
+     *
+     * @param accessorId accessor ID of the token.
+     * @see <a href="https://www.nomadproject.io/api/acl-tokens.html#read-token">{@code GET /v1/acl/token/:accessor_id}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<AclToken>> info(final String accessorId) {
+        return info(accessorId, null);
+    }
+
+    /**
+     * Retrieves an ACL token.
+     *
+     * @param accessorId accessor ID of the token.
+     * @param options    options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/acl-tokens.html#read-token">{@code GET /v1/acl/token/:accessor_id}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<AclToken>> info(
+            final String accessorId,
+            @Nullable final QueryOptions<AclToken> options
+    ) {
+        return executeServerQuery("/v1/acl/token/" + accessorId, options, NomadJson.parserFor(AclToken.class));
+    }
+
+    /**
+     * Lists ACL tokens.
+     *
+     * @see <a href="https://www.nomadproject.io/api/acl-tokens.html#list-tokens">{@code GET /v1/acl/tokens}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AclTokenListStub>>> list() {
+        return list(null, null);
+    }
+
+    /**
+     * Lists all ACL tokens.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/acl-tokens.html#list-tokens">{@code GET /v1/acl/tokens}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AclTokenListStub>>> list(
+            @Nullable final QueryOptions<List<AclTokenListStub>> options
+    ) {
+
+        return list(null, options);
+    }
+
+    /**
+     * Lists ACL tokens.
+     *
+     * @param accessorIdPrefix an even-length accessor ID prefix that, if given,
+     *                         restricts the results to only tokens having an accessor ID with this prefix
+     * @see <a href="https://www.nomadproject.io/api/acl-tokens.html#list-tokens">{@code GET /v1/acl/tokens}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AclTokenListStub>>> list(
+            @Nullable final String accessorIdPrefix
+    ) {
+
+        return list(accessorIdPrefix, null);
+    }
+
+    /**
+     * Lists ACL tokens.
+     *
+     * @param accessorIdPrefix an even-length accessor ID prefix that, if given,
+     *                         restricts the results to only tokens having an accessor ID with this prefix
+     * @param options          options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/acl-tokens.html#list-tokens">{@code GET /v1/acl/tokens}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AclTokenListStub>>> list(
+            @Nullable final String accessorIdPrefix,
+            @Nullable final QueryOptions<List<AclTokenListStub>> options
+    ) {
+
+        return executeServerQueryForPrefixFilteredList(
+                "/v1/acl/tokens",
+                accessorIdPrefix,
+                options,
+                NomadJson.parserForListOf(AclTokenListStub.class));
+    }
+
+    /**
+     * Retrieves the ACL token currently being used.
+     *
+     * @see <a href="https://www.nomadproject.io/api/acl-tokens.html#read-self-token">{@code GET /v1/acl/token/self}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<AclToken>> self() {
+        return self(null);
+    }
+
+    /**
+     * Retrieves the ACL token currently being used.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/acl-tokens.html#read-self-token">{@code GET /v1/acl/token/self}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<AclToken>> self(
+            @Nullable final QueryOptions<AclToken> options
+    ) {
+        return executeServerQuery("/v1/acl/token/self", options, NomadJson.parserFor(AclToken.class));
+    }
+
+    /**
+     * Updates an ACL token.
+     *
+     * @param token a token with with an accessor ID
+     * @see <a href="https://www.nomadproject.io/api/acl-tokens.html#update-token">{@code PUT /v1/acl/token/:accessor_id}</a>
+     */
+    public CompletableFuture<ServerResponse<AclToken>> update(AclToken token) {
+        return update(token, null);
+    }
+
+    /**
+     * Updates an ACL token.
+     *
+     * @param token   a token with with an accessor ID
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/acl-tokens.html#update-token">{@code PUT /v1/acl/token/:accessor_id}</a>
+     */
+    public CompletableFuture<ServerResponse<AclToken>> update(AclToken token, @Nullable WriteOptions options) {
+
+        if (token.getAccessorId() == null || token.getAccessorId().isEmpty()) {
+            throw new java.lang.IllegalArgumentException("Cannot update an ACL token that doesn't have an accessor ID");
+        }
+        return executeServerAction(
+                put("/v1/acl/token/" + token.getAccessorId(), token, options),
+                NomadJson.parserFor(AclToken.class));
+    }
+
+}
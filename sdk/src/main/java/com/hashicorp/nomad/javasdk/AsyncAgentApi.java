@@ -0,0 +1,129 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.AgentHealthResponse;
+import com.hashicorp.nomad.apimodel.AgentSelf;
+import com.hashicorp.nomad.apimodel.ServerMembers;
+import org.apache.http.client.utils.URIBuilder;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API for Nomad agent and cluster management,
+ * exposing the functionality of the {@code /v1/agent/…} endpoints of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ * <p>
+ * The streaming endpoint for monitoring the agent's log is only available from the blocking {@link AgentApi}.
+ *
+ * @see AgentApi
+ */
+public class AsyncAgentApi extends AsyncApiBase {
+
+    AsyncAgentApi(final NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Performs a basic healthcheck.
+     *
+     * @see <a href="https://www.nomadproject.io/api/agent.html#health">{@code GET /v1/agent/health}</a>
+     */
+    @Nonnull
+    public final CompletableFuture<NomadResponse<AgentHealthResponse>> health() {
+        return executePlain(get("/v1/agent/health"), NomadJson.parserFor(AgentHealthResponse.class));
+    }
+
+    /**
+     * Queries for information about the agent we are connected to.
+     *
+     * @see <a href="https://www.nomadproject.io/docs/http/agent-self.html">{@code GET /v1/agent/self}</a>
+     */
+    @Nonnull
+    public final CompletableFuture<NomadResponse<AgentSelf>> self() {
+        return executePlain(get("/v1/agent/self"), NomadJson.parserFor(AgentSelf.class));
+    }
+
+    /**
+     * Queries for the known peers in the gossip pool.
+     *
+     * @see <a href="https://www.nomadproject.io/docs/http/agent-members.html">{@code GET /v1/agent/members}</a>
+     */
+    @Nonnull
+    public final CompletableFuture<NomadResponse<ServerMembers>> members() {
+        return executePlain(get("/v1/agent/members"), NomadJson.parserFor(ServerMembers.class));
+    }
+
+    /**
+     * Forces a member of the gossip pool from the "failed" state into the "left" state.
+     *
+     * @param nodeName the name of the node to force out of the pool
+     * @see <a href="https://www.nomadproject.io/docs/http/agent-force-leave.html">{@code PUT /v1/agent/force-leave}</a>
+     */
+    @Nonnull
+    public final CompletableFuture<NomadResponse<Void>> forceLeave(String nodeName) {
+        return executePlain(put(uri("/v1/agent/force-leave").addParameter("node", nodeName), null), null);
+    }
+
+    /**
+     * Queries an agent in client mode for its list of known servers.
+     *
+     * @see <a href="https://www.nomadproject.io/docs/http/agent-servers.html#get">{@code GET /v1/agent/servers}</a>
+     */
+    @Nonnull
+    public final CompletableFuture<NomadResponse<List<String>>> servers() {
+        return executePlain(get("/v1/agent/servers"), NomadJson.parserForListOf(String.class));
+    }
+
+    /**
+     * Updates the list of known servers to the given addresses, replacing all previous addresses.
+     *
+     * @param addresses the server addresses
+     * @see <a href="https://www.nomadproject.io/docs/http/agent-servers.html#put-post">{@code PUT /v1/agent/servers}</a>
+     */
+    @Nonnull
+    public final CompletableFuture<NomadResponse<Void>> setServers(String... addresses) {
+        return setServers(Arrays.asList(addresses));
+    }
+
+    /**
+     * Updates the list of known servers to the given addresses, replacing all previous addresses.
+     *
+     * @param addresses the server addresses
+     * @see <a href="https://www.nomadproject.io/docs/http/agent-servers.html#put-post">{@code PUT /v1/agent/servers}</a>
+     */
+    @Nonnull
+    public final CompletableFuture<NomadResponse<Void>> setServers(Iterable<String> addresses) {
+        final URIBuilder uri = uri("/v1/agent/servers");
+        for (String address : addresses)
+            uri.addParameter("address", address);
+        return executePlain(put(uri, null), null);
+    }
+
+    /**
+     * Causes the agent to join a cluster by joining the gossip pool at one of the given addresses.
+     *
+     * @param addresses the addresses to try joining
+     * @see <a href="https://www.nomadproject.io/docs/http/agent-join.html">{@code PUT /v1/agent/join}</a>
+     */
+    @Nonnull
+    public final CompletableFuture<NomadResponse<Integer>> join(String... addresses) {
+        return join(Arrays.asList(addresses));
+    }
+
+    /**
+     * Causes the agent to join a cluster by joining the gossip pool at one of the given addresses.
+     *
+     * @param addresses the addresses to try joining
+     * @see <a href="https://www.nomadproject.io/docs/http/agent-join.html">{@code PUT /v1/agent/join}</a>
+     */
+    @Nonnull
+    public final CompletableFuture<NomadResponse<Integer>> join(Iterable<String> addresses) {
+        final URIBuilder uri = uri("/v1/agent/join");
+        for (String address : addresses)
+            uri.addParameter("address", address);
+        return executePlain(put(uri, null), new AgentApi.JoinResponseValueExtractor());
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.AllocStopResponse;
+import com.hashicorp.nomad.apimodel.Allocation;
+import com.hashicorp.nomad.apimodel.AllocationListStub;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API for querying for information about allocations,
+ * exposing the functionality of the {@code /v1/allocations} and {@code /v1/allocation} endpoints of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see AllocationsApi
+ */
+public class AsyncAllocationsApi extends AsyncApiBase {
+
+    AsyncAllocationsApi(NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Queries an allocation in the active region.
+     *
+     * @param id the allocation ID to lookup
+     * @see <a href="https://www.nomadproject.io/docs/http/alloc.html">{@code GET /v1/allocation/{ID}}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<Allocation>> info(String id) {
+        return info(id, null);
+    }
+
+    /**
+     * Queries an allocation in the active region.
+     *
+     * @param id      the allocation ID to lookup
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/alloc.html">{@code GET /v1/allocation/{ID}}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<Allocation>> info(
+            String id,
+            @Nullable QueryOptions<Allocation> options
+    ) {
+        return executeServerQuery("/v1/allocation/" + id, options, NomadJson.parserFor(Allocation.class));
+    }
+
+    /**
+     * Lists allocations in the active region.
+     *
+     * @see <a href="https://www.nomadproject.io/docs/http/allocs.html">{@code GET /v1/allocations}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AllocationListStub>>> list() {
+        return list(null, null);
+    }
+
+    /**
+     * Lists allocations in the active region.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/allocs.html">{@code GET /v1/allocations}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AllocationListStub>>> list(
+            @Nullable QueryOptions<List<AllocationListStub>> options
+    ) {
+        return list(null, options);
+    }
+
+    /**
+     * Lists allocations in the active region.
+     *
+     * @param allocationIdPrefix an even-length prefix that, if given,
+     *                           restricts the results to only allocations having an ID with this prefix
+     * @see <a href="https://www.nomadproject.io/docs/http/allocs.html">{@code GET /v1/allocations}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AllocationListStub>>> list(
+            @Nullable String allocationIdPrefix
+    ) {
+        return list(allocationIdPrefix, null);
+    }
+
+    /**
+     * Lists allocations in the active region.
+     *
+     * @param allocationIdPrefix an even-length prefix that, if given,
+     *                           restricts the results to only allocations having an ID with this prefix
+     * @param options            options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/allocs.html">{@code GET /v1/allocations}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AllocationListStub>>> list(
+            @Nullable String allocationIdPrefix,
+            @Nullable QueryOptions<List<AllocationListStub>> options
+    ) {
+        return executeServerQueryForPrefixFilteredList(
+                "/v1/allocations",
+                allocationIdPrefix,
+                options,
+                NomadJson.parserForListOf(AllocationListStub.class));
+    }
+
+    /**
+     * Stop and reschedules an allocation.
+     *
+     * @param id the allocation ID to stop
+     * @return allocation response, including the id of the follow-up evaluation for any rescheduled alloc.
+     */
+    public CompletableFuture<ServerResponse<AllocStopResponse>> stop(String id) {
+        return executeServerAction(put("/v1/allocation/" + id + "/stop", null),
+                NomadJson.parserFor(AllocStopResponse.class));
+    }
+
+    /**
+     * Sends a signal to an allocation or task.
+     *
+     * @param id     the allocation ID to stop
+     * @param signal the signal to send
+     * @param task   the name of the task, required if the task group has more than one task
+     */
+    public CompletableFuture<ServerResponse<Void>> signal(String id, String signal, @Nullable String task) {
+        return executeServerAction(
+                put("/v1/client/allocation/" + id + "/signal",
+                        new AllocationsApi.AllocSignalRequest(signal, task), null),
+                null);
+    }
+}
@@ -0,0 +1,139 @@
+package com.hashicorp.nomad.javasdk;
+
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.utils.URIBuilder;
+
+import javax.annotation.Nullable;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Common implementation functions for the API classes that are accessible from
+ * the {@link NomadAsyncApiClient}.
+ */
+abstract class AsyncApiBase extends ApiRequestBase {
+    protected final NomadAsyncApiClient apiClient;
+
+    protected AsyncApiBase(final NomadAsyncApiClient apiClient) {
+        this.apiClient = apiClient;
+    }
+
+    @Override
+    protected NomadApiConfiguration getApiConfig() {
+        return apiClient.getConfig();
+    }
+
+
+    // Execution
+
+    protected <T> CompletableFuture<NomadResponse<T>> executePlain(
+            final RequestBuilder request,
+            @Nullable final ValueExtractor<T> valueExtractor) {
+
+        return apiClient.execute(request, new ApiBase.NomadResponseAdapter<>(valueExtractor), null);
+    }
+
+    protected <T> CompletableFuture<ServerResponse<T>> executeServerAction(
+            final RequestBuilder request,
+            @Nullable final ValueExtractor<T> valueExtractor) {
+
+        return apiClient.execute(request, new ApiBase.ServerResponseAdapter<>(valueExtractor), null);
+    }
+
+    protected CompletableFuture<EvaluationResponse> executeEvaluationCreatingRequest(final RequestBuilder request) {
+        return apiClient.execute(request, new ApiBase.EvaluationResponseAdapter(), null);
+    }
+
+    protected <T> CompletableFuture<ServerQueryResponse<T>> executeServerQuery(
+            final String path,
+            @Nullable final QueryOptions<T> options,
+            @Nullable final ValueExtractor<T> valueExtractor
+    ) {
+        return executeServerQuery(uri(path), options, valueExtractor);
+    }
+
+    protected <T> CompletableFuture<ServerQueryResponse<T>> executeServerQuery(
+            final URIBuilder uriBuilder,
+            @Nullable final QueryOptions<T> options,
+            @Nullable final ValueExtractor<T> valueExtractor
+    ) {
+        final URI uri;
+        try {
+            uri = build(uriBuilder);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+        return poll(uri, null, options, valueExtractor, null);
+    }
+
+    protected <T> CompletableFuture<ServerQueryResponse<T>> executeServerQueryPut(
+            final URIBuilder uriBuilder,
+            final Object entity,
+            @Nullable final QueryOptions<T> options,
+            @Nullable final ValueExtractor<T> valueExtractor
+    ) {
+        final URI uri;
+        try {
+            uri = build(uriBuilder);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+        return poll(uri, entity, options, valueExtractor, null);
+    }
+
+    protected <T extends List<?>> CompletableFuture<ServerQueryResponse<T>> executeServerQueryForPrefixFilteredList(
+            final String path,
+            @Nullable final String prefix,
+            @Nullable final QueryOptions<T> options,
+            @Nullable final ValueExtractor<T> valueExtractor
+    ) {
+        return executeServerQuery(prefixFilteredUri(path, prefix), options, valueExtractor);
+    }
+
+    /**
+     * Issues a single (possibly blocking) query, and chains further queries onto it until the repeated poll
+     * predicate in the options is satisfied or the wait strategy is exhausted.
+     * Queries with a request entity, such as searches, are sent as PUT requests.
+     */
+    private <T> CompletableFuture<ServerQueryResponse<T>> poll(
+            final URI uri,
+            @Nullable final Object entity,
+            @Nullable final QueryOptions<T> options,
+            @Nullable final ValueExtractor<T> valueExtractor,
+            @Nullable final ServerQueryResponse<T> lastResponse
+    ) {
+        final WaitStrategy waitStrategy = options == null ? null : options.getWaitStrategy();
+        final Predicate<ServerQueryResponse<T>> predicate = options == null ? null : options.getRepeatedPollPredicate();
+
+        final RequestBuilder requestBuilder = entity == null
+                ? RequestBuilder.get(uri)
+                : RequestBuilder.put(uri).setEntity(new JsonEntity(entity, getApiConfig().isGzipRequests()));
+        try {
+            addQueryParameters(requestBuilder, options, getWait(waitStrategy, lastResponse));
+        } catch (WaitStrategyExhaustedException e) {
+            return failedFuture(e);
+        }
+
+        final ValueExtractor<T> parser = ApiBase.forQuery(valueExtractor, options);
+        return apiClient.execute(requestBuilder, new ApiBase.ServerQueryResponseAdapter<>(parser), options)
+                .thenCompose(new Function<ServerQueryResponse<T>, CompletionStage<ServerQueryResponse<T>>>() {
+                    @Override
+                    public CompletionStage<ServerQueryResponse<T>> apply(ServerQueryResponse<T> response) {
+                        if (predicate == null || predicate.apply(response))
+                            return CompletableFuture.completedFuture(response);
+
+                        advanceIndex(options, response);
+                        return poll(uri, entity, options, valueExtractor, response);
+                    }
+                });
+    }
+
+    static <T> CompletableFuture<T> failedFuture(final Throwable e) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+    }
+}
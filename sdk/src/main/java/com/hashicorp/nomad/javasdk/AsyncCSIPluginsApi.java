@@ -0,0 +1,81 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.CsiPlugin;
+import com.hashicorp.nomad.apimodel.CsiPluginListStub;
+import org.apache.http.client.utils.URIBuilder;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API for querying for information about CSI plugins,
+ * exposing the <a href="https://www.nomadproject.io/api-docs/plugins/">plugins</a> functionality of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see CSIPluginsApi
+ */
+public class AsyncCSIPluginsApi extends AsyncApiBase {
+
+    AsyncCSIPluginsApi(NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Lists CSI plugins.
+     *
+     * @param options         options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api-docs/plugins/#list-plugins">{@code GET /v1/plugins}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<CsiPluginListStub>>> list(
+            @Nullable final QueryOptions<List<CsiPluginListStub>> options
+    ) {
+
+        final URIBuilder uri = uri("/v1/plugins");
+        uri.addParameter("type", "csi");
+        return executeServerQuery(uri, options,
+                NomadJson.parserForListOf(CsiPluginListStub.class));
+    }
+
+    /**
+     * Lists CSI plugins.
+     *
+     * @see <a href="https://www.nomadproject.io/api-docs/plugins/#list-plugins">{@code GET /v1/plugins}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<CsiPluginListStub>>> list() {
+
+        return list(null);
+    }
+
+    /**
+     * Retrieves detailed info a single CSI plugin.
+     *
+     * @param pluginId        the plugin ID
+     * @param options         options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api-docs/plugins/#read-plugin">{@code GET /v1/plugin/csi/{ID}}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<CsiPlugin>> info(
+            @Nullable final String pluginId,
+            @Nullable final QueryOptions<CsiPlugin> options
+    ) {
+
+        return executeServerQuery(
+                "/v1/plugin/csi/" + pluginId,
+                options,
+                NomadJson.parserFor(CsiPlugin.class));
+    }
+
+    /**
+     * Retrieves detailed info a single CSI plugin.
+     *
+     * @param pluginId        the plugin ID
+     * @see <a href="https://www.nomadproject.io/api-docs/plugins/#read-plugin">{@code GET /v1/plugin/csi/{ID}}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<CsiPlugin>> info(
+            @Nullable final String pluginId
+    ) {
+
+        return info(pluginId, null);
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.CsiVolume;
+import com.hashicorp.nomad.apimodel.CsiVolumeListStub;
+import org.apache.http.client.utils.URIBuilder;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API for querying for information about CSI volumes,
+ * exposing the <a href="https://www.nomadproject.io/api-docs/volumes/">volumes</a> functionality of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see CSIVolumesApi
+ */
+public class AsyncCSIVolumesApi extends AsyncApiBase {
+
+    AsyncCSIVolumesApi(NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Lists CSI volumes.
+     *
+     * @param pluginId filter the results to only volumes from the specified pluginID
+     * @param options     options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api-docs/volumes/#list-volumes">{@code GET /v1/volumes}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<CsiVolumeListStub>>> list(
+            @Nullable final String pluginId,
+            @Nullable final QueryOptions<List<CsiVolumeListStub>> options
+    ) {
+
+        final URIBuilder uri = uri("/v1/volumes");
+        uri.addParameter("type", "csi");
+        if (pluginId != null) {
+            uri.addParameter("prefix", pluginId);
+        }
+        return executeServerQuery(uri, options,
+                NomadJson.parserForListOf(CsiVolumeListStub.class));
+    }
+
+    /**
+     * Lists CSI volumes.
+     *
+     * @param pluginId the results to only volumes from the specified pluginID
+     * @see <a href="https://www.nomadproject.io/api-docs/volumes/#list-volumes">{@code GET /v1/volumes}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<CsiVolumeListStub>>> list(
+            @Nullable final String pluginId
+    ) {
+
+        return list(pluginId, null);
+    }
+
+    /**
+     * Lists CSI volumes.
+     *
+     * @param options     options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api-docs/volumes/#list-volumes">{@code GET /v1/volumes}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<CsiVolumeListStub>>> list(
+            @Nullable final QueryOptions<List<CsiVolumeListStub>> options
+    ) {
+
+        return list(null, options);
+    }
+
+    /**
+     * Lists CSI volumes.
+     *
+     * @see <a href="https://www.nomadproject.io/api-docs/volumes/#list-volumes">{@code GET /v1/volumes}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<CsiVolumeListStub>>> list() {
+
+        return list(null, null);
+    }
+
+    /**
+     * Retrieves detailed info for a single CSI volume.
+     *
+     * @param volumeId        the volume ID
+     * @param options         options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api-docs/volumes/#read-volume">{@code GET /v1/volume/csi/{ID}}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<CsiVolume>> info(
+            @Nullable final String volumeId,
+            @Nullable final QueryOptions<CsiVolume> options
+    ) {
+
+        return executeServerQuery(
+                "/v1/volume/csi/" + volumeId,
+                options,
+                NomadJson.parserFor(CsiVolume.class));
+    }
+
+    /**
+     * Retrieves detailed info for a single CSI volume.
+     *
+     * @param volumeId        the volume ID
+     * @see <a href="https://www.nomadproject.io/api-docs/volumes/#read-volume">{@code GET /v1/volume/csi/{ID}}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<CsiVolume>> info(
+            @Nullable final String volumeId
+    ) {
+
+        return info(volumeId, null);
+    }
+
+
+}
@@ -0,0 +1,134 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.AllocFileInfo;
+import com.hashicorp.nomad.apimodel.AllocResourceUsage;
+import com.hashicorp.nomad.apimodel.HostStats;
+import org.apache.http.HttpHost;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API for interacting with a particular Nomad client,
+ * exposing the functionality of the {@code /v1/client/…} endpoints of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ * <p>
+ * The streaming endpoints for following files and task logs are only available from the blocking {@link ClientApi}.
+ *
+ * @see ClientApi
+ */
+public class AsyncClientApi extends AsyncApiBase {
+    private final HttpHost address;
+
+    AsyncClientApi(final NomadAsyncApiClient apiClient, final HttpHost address) {
+        super(apiClient);
+        this.address = address;
+    }
+
+    /**
+     * Queries the actual resource usage of the client node.
+     *
+     * @see <a href="https://www.nomadproject.io/docs/http/client-stats.html">{@code GET /v1/client/stats}</a>
+     */
+    public CompletableFuture<NomadResponse<HostStats>> stats() {
+        return executePlain(get(uri(address, "/v1/client/stats")), NomadJson.parserFor(HostStats.class));
+    }
+
+    /**
+     * Queries the resource usage of an allocation running on the client node.
+     *
+     * @param allocationId ID of the allocation to lookup
+     * @see <a href="https://www.nomadproject.io/docs/http/client-allocation-stats.html">{@code GET /v1/client/allocation/{ID}/stats}</a>
+     */
+    public CompletableFuture<NomadResponse<AllocResourceUsage>> stats(String allocationId) {
+        return executePlain(
+                get(uri(address, "/v1/client/allocation/" + allocationId + "/stats")),
+                NomadJson.parserFor(AllocResourceUsage.class));
+    }
+
+    /**
+     * Reads the contents of a file in an allocation directory.
+     *
+     * @param allocationId ID of the allocation that produced the file
+     * @param path         the path of the file relative to the root of the allocation directory
+     * @see <a href="https://www.nomadproject.io/docs/http/client-fs.html">{@code GET /v1/client/fs/cat/{Allocation-ID}}</a>
+     */
+    public CompletableFuture<NomadResponse<String>> cat(String allocationId, String path) {
+        return executePlain(
+                get(uri(address, "/v1/client/fs/cat/" + allocationId)
+                        .addParameter("path", path)),
+                ValueExtractor.RAW_STRING);
+    }
+
+    /**
+     * Reads the contents of a file in an allocation directory at a particular offset.
+     *
+     * @param allocationId ID of the allocation that produced the file
+     * @param path         the path of the file relative to the root of the allocation directory
+     * @param offset       the byte offset from where content will be read
+     * @param limit        the number of bytes to read from the offset
+     * @see <a href="https://www.nomadproject.io/docs/http/client-fs.html">{@code GET /v1/client/fs/readat/{Allocation-ID}}</a>
+     */
+    public CompletableFuture<NomadResponse<String>> readAt(String allocationId, String path, long offset, long limit) {
+        return executePlain(
+                get(uri(address, "/v1/client/fs/readat/" + allocationId)
+                        .addParameter("path", path)
+                        .addParameter("offset", Long.toString(offset))
+                        .addParameter("limit", Long.toString(limit))),
+                ValueExtractor.RAW_STRING);
+    }
+
+    /**
+     * Initiates garbage collection of an allocation.
+     *
+     * @param allocId ID of the allocation
+     * @see <a href="https://www.nomadproject.io/docs/http/system.html">{@code PUT /v1/system/gc}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<Void>> garbageCollect(String allocId) {
+        return garbageCollect(allocId, null);
+    }
+
+    /**
+     * Initiates garbage collection of an allocation.
+     *
+     * @param allocId ID of the allocation
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/system.html">{@code PUT /v1/system/gc}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<Void>> garbageCollect(
+            String allocId,
+            @Nullable QueryOptions<Void> options
+    ) {
+        return executeServerQuery(uri(address, "/v1/client/allocation/" + allocId + "/gc"), options, null);
+    }
+
+    /**
+     * Lists the files in an allocation directory.
+     *
+     * @param allocationId ID of the allocation that owns the directory
+     * @param path         the path relative to the root of the allocation directory
+     * @see <a href="https://www.nomadproject.io/docs/http/client-fs.html">{@code GET /v1/client/fs/ls/{Allocation-ID}}</a>
+     */
+    public CompletableFuture<NomadResponse<List<AllocFileInfo>>> ls(String allocationId, String path) {
+        return executePlain(
+                get(uri(address, "/v1/client/fs/ls/" + allocationId)
+                        .addParameter("path", path)),
+                NomadJson.parserForListOf(AllocFileInfo.class));
+    }
+
+    /**
+     * Stat a file in an allocation directory.
+     *
+     * @param allocationId ID of the allocation that owns the file
+     * @param path         the path relative to the root of the allocation directory
+     * @see <a href="https://www.nomadproject.io/docs/http/client-fs.html">{@code GET /v1/client/fs/stat/{Allocation-ID}}</a>
+     */
+    public CompletableFuture<NomadResponse<AllocFileInfo>> stat(String allocationId, String path) {
+        return executePlain(get(
+                uri(address, "/v1/client/fs/stat/" + allocationId)
+                        .addParameter("path", path)),
+                NomadJson.parserFor(AllocFileInfo.class));
+    }
+
+}
@@ -0,0 +1,225 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.AllocationListStub;
+import com.hashicorp.nomad.apimodel.Deployment;
+import com.hashicorp.nomad.apimodel.DeploymentUpdateResponse;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hashicorp.nomad.javasdk.DeploymentsApi.NEWEST_TO_OLDEST_DEPLOYMENTS;
+
+/**
+ * Asynchronous API for querying for information about deployments,
+ * exposing the <a href="https://www.nomadproject.io/api/deployments.html">deployments</a> functionality of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see DeploymentsApi
+ */
+public class AsyncDeploymentsApi extends AsyncApiBase {
+
+    AsyncDeploymentsApi(NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Lists deployments in the active region.
+     *
+     * @see <a href="https://www.nomadproject.io/api/deployments.html#list-deployments">{@code GET /v1/deployments}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<Deployment>>> list() {
+        return list(null, null);
+    }
+
+    /**
+     * Lists deployments in the active region.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/deployments.html#list-deployments">{@code GET /v1/deployments}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<Deployment>>> list(
+            @Nullable QueryOptions<List<Deployment>> options
+    ) {
+        return list(null, options);
+    }
+
+    /**
+     * Lists deployments in the active region.
+     *
+     * @param deploymentIdPrefix an even-length prefix that, if given,
+     *                           restricts the results to only deployments having an ID with this prefix
+     * @see <a href="https://www.nomadproject.io/api/deployments.html#list-deployments">{@code GET /v1/deployments}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<Deployment>>> list(@Nullable String deploymentIdPrefix) {
+        return list(deploymentIdPrefix, null);
+    }
+
+    /**
+     * Lists deployments in the active region.
+     *
+     * @param deploymentIdPrefix an even-length prefix that, if given,
+     *                           restricts the results to only deployments having an ID with this prefix
+     * @param options            options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/deployments.html#list-deployments">{@code GET /v1/deployments}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<Deployment>>> list(
+            @Nullable String deploymentIdPrefix,
+            @Nullable QueryOptions<List<Deployment>> options
+    ) {
+        return executeServerQueryForPrefixFilteredList(
+                "/v1/deployments",
+                deploymentIdPrefix,
+                options,
+                NomadJson.parserForSortedListOf(Deployment.class, NEWEST_TO_OLDEST_DEPLOYMENTS));
+    }
+
+    /**
+     * Queries a deployment in the active region.
+     *
+     * @param deploymentId the ID of the deployment to query
+     * @see <a href="https://www.nomadproject.io/api/deployments.html#read-deployment">{@code GET /v1/deployment/{ID}}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<Deployment>> info(String deploymentId) {
+        return info(deploymentId, null);
+    }
+
+    /**
+     * Queries a deployment in the active region.
+     *
+     * @param deploymentId the ID of the deployment to query
+     * @param options      options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/deployments.html#read-deployment">{@code GET /v1/deployment/{ID}}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<Deployment>> info(
+            String deploymentId,
+            @Nullable QueryOptions<Deployment> options
+    ) {
+        return executeServerQuery("/v1/deployment/" + deploymentId, options, NomadJson.parserFor(Deployment.class));
+    }
+
+    /**
+     * Lists the allocations belonging to a deployment in the active region.
+     *
+     * @param deploymentId the ID of the deployment to list allocations for
+     * @see <a href="https://www.nomadproject.io/api/deployments.html#list-allocations-for-deployment">{@code GET /v1/deployment/allocations/<ID>}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AllocationListStub>>> allocations(String deploymentId) {
+        return allocations(deploymentId, null);
+    }
+
+    /**
+     * Lists the allocations belonging to a deployment in the active region.
+     *
+     * @param deploymentId the ID of the deployment to list allocations for
+     * @param options      options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/deployments.html#list-allocations-for-deployment">{@code GET /v1/deployment/allocations/<ID>}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AllocationListStub>>> allocations(
+            String deploymentId,
+            @Nullable QueryOptions<List<AllocationListStub>> options
+    ) {
+        return executeServerQuery(
+                "/v1/deployment/allocations/" + deploymentId,
+                options,
+                NomadJson.parserForListOf(AllocationListStub.class));
+    }
+
+    /**
+     * Fails a deployment in the active region.
+     *
+     * @param deploymentId the ID of the deployment to fail
+     * @param options      options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/deployments.html#fail-deployment">{@code PUT /v1/deployment/fail/<ID>}</a>
+     */
+    public CompletableFuture<ServerResponse<DeploymentUpdateResponse>> fail(
+            String deploymentId,
+            @Nullable WriteOptions options
+    ) {
+        return executeServerAction(
+                put("/v1/deployment/fail/" + deploymentId,
+                        new DeploymentsApi.DeploymentSpecificRequest(deploymentId),
+                        options),
+                NomadJson.parserFor(DeploymentUpdateResponse.class));
+    }
+
+    /**
+     * Pauses or un-pauses a deployment in the active region.
+     *
+     * @param deploymentId the ID of the deployment to pause or un-pause
+     * @param pause        true if the deployment should be paused, false if it should be un-paused
+     * @param options      options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/deployments.html#pause-deployment">{@code PUT /v1/deployment/pause/<ID>}</a>
+     */
+    public CompletableFuture<ServerResponse<DeploymentUpdateResponse>> pause(
+            String deploymentId,
+            boolean pause,
+            @Nullable WriteOptions options
+    ) {
+        return executeServerAction(
+                put("/v1/deployment/pause/" + deploymentId,
+                        new DeploymentsApi.DeploymentPauseRequest(deploymentId, pause),
+                        options),
+                NomadJson.parserFor(DeploymentUpdateResponse.class));
+    }
+
+    /**
+     * Promotes all the canaries in a deployment in the active region.
+     *
+     * @param deploymentId the ID of the deployment to promote
+     * @param options      options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/deployments.html#promote-deployment">{@code PUT /v1/deployment/promote/<ID>}</a>
+     */
+    public CompletableFuture<ServerResponse<DeploymentUpdateResponse>> promoteAll(
+            String deploymentId,
+            @Nullable WriteOptions options
+    ) {
+        return executeServerAction(
+                put("/v1/deployment/promote/" + deploymentId,
+                        new DeploymentsApi.DeploymentPromoteRequest(deploymentId, true, null),
+                        options),
+                NomadJson.parserFor(DeploymentUpdateResponse.class));
+    }
+
+    /**
+     * Promotes the canaries in the provided groups of a deployment in the active region.
+     *
+     * @param deploymentId the ID of the deployment to promote
+     * @param groups       the groups whose canaries should be promoted
+     * @param options      options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/deployments.html#promote-deployment">{@code PUT /v1/deployment/promote/<ID>}</a>
+     */
+    public CompletableFuture<ServerResponse<DeploymentUpdateResponse>> promoteGroups(
+            String deploymentId,
+            List<String> groups,
+            @Nullable WriteOptions options
+    ) {
+        return executeServerAction(
+                put("/v1/deployment/promote/" + deploymentId,
+                        new DeploymentsApi.DeploymentPromoteRequest(deploymentId, false, groups),
+                        options),
+                NomadJson.parserFor(DeploymentUpdateResponse.class));
+    }
+
+    /**
+     * Sets the health of allocations that are part of a deployment.
+     *
+     * @param deploymentId the ID of the deployment
+     * @param healthy      ids of allocations to be set healthy
+     * @param unhealthy    ids of allocations to be set unhealthy
+     * @param options      options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/deployments.html#set-allocation-health-in-deployment">{@code PUT /v1/deployment/allocation-health/<ID>}</a>
+     */
+    public CompletableFuture<ServerResponse<DeploymentUpdateResponse>> setAllocHealth(
+            String deploymentId,
+            List<String> healthy,
+            List<String> unhealthy,
+            @Nullable WriteOptions options
+    ) {
+        return executeServerAction(
+                put("/v1/deployment/allocation-health/" + deploymentId,
+                        new DeploymentsApi.DeploymentAllocHealthRequest(deploymentId, healthy, unhealthy),
+                        options),
+                NomadJson.parserFor(DeploymentUpdateResponse.class));
+    }
+}
@@ -0,0 +1,157 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.AllocationListStub;
+import com.hashicorp.nomad.apimodel.Evaluation;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hashicorp.nomad.javasdk.EvaluationsApi.NEWEST_TO_OLDEST_EVALUATIONS;
+import static com.hashicorp.nomad.javasdk.NomadPredicates.evaluationHasCompleted;
+import static com.hashicorp.nomad.javasdk.NomadPredicates.responseValue;
+
+/**
+ * Asynchronous API for querying for information about evaluations,
+ * exposing the functionality of the {@code /v1/evaluations} and {@code /v1/evaluation} endpoints of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see EvaluationsApi
+ */
+public class AsyncEvaluationsApi extends AsyncApiBase {
+
+    AsyncEvaluationsApi(NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Queries an evaluation in the active region.
+     *
+     * @param evaluationId ID of the evaluation to lookup
+     * @see <a href="https://www.nomadproject.io/docs/http/eval.html">{@code GET /v1/evaluation/{ID}}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<Evaluation>> info(String evaluationId) {
+        return info(evaluationId, null);
+    }
+
+    /**
+     * Queries an evaluation in the active region.
+     *
+     * @param evaluationId ID of the evaluation to lookup
+     * @param options      options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/eval.html">{@code GET /v1/evaluation/{ID}}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<Evaluation>> info(
+            String evaluationId,
+            @Nullable QueryOptions<Evaluation> options
+    ) {
+        return executeServerQuery("/v1/evaluation/" + evaluationId, options, NomadJson.parserFor(Evaluation.class));
+    }
+
+    /**
+     * Lists evaluations in the active region.
+     *
+     * @see <a href="https://www.nomadproject.io/docs/http/evals.html">{@code GET /v1/evaluations}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<Evaluation>>> list() {
+        return list(null, null);
+    }
+
+    /**
+     * Lists evaluations in the active region.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/evals.html">{@code GET /v1/evaluations}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<Evaluation>>> list(
+            @Nullable QueryOptions<List<Evaluation>> options
+    ) {
+        return list(null, options);
+    }
+
+    /**
+     * Lists evaluations in the active region.
+     *
+     * @param evaluationIdPrefix an even-length prefix that, if given,
+     *                           restricts the results to only evaluations having an ID with this prefix
+     * @see <a href="https://www.nomadproject.io/docs/http/evals.html">{@code GET /v1/evaluations}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<Evaluation>>> list(@Nullable String evaluationIdPrefix) {
+        return list(evaluationIdPrefix, null);
+    }
+
+    /**
+     * Lists evaluations in the active region.
+     *
+     * @param evaluationIdPrefix an even-length prefix that, if given,
+     *                           restricts the results to only evaluations having an ID with this prefix
+     * @param options            options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/evals.html">{@code GET /v1/evaluations}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<Evaluation>>> list(
+            @Nullable String evaluationIdPrefix,
+            @Nullable QueryOptions<List<Evaluation>> options
+    ) {
+        return executeServerQueryForPrefixFilteredList(
+                "/v1/evaluations",
+                evaluationIdPrefix,
+                options,
+                NomadJson.parserForSortedListOf(Evaluation.class, NEWEST_TO_OLDEST_EVALUATIONS));
+    }
+
+    /**
+     * Lists the allocations belonging to an evaluation.
+     *
+     * @param evaluationId the ID of the evaluation
+     * @see <a href="https://www.nomadproject.io/docs/http/eval.html">{@code GET /v1/evaluation/{ID}/allocations}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AllocationListStub>>> allocations(String evaluationId) {
+        return allocations(evaluationId, null);
+    }
+
+    /**
+     * Lists the allocations belonging to an evaluation.
+     *
+     * @param evaluationId the ID of the evaluation
+     * @param options      options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/eval.html">{@code GET /v1/evaluation/{ID}/allocations}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AllocationListStub>>> allocations(
+            String evaluationId,
+            @Nullable QueryOptions<List<AllocationListStub>> options
+    ) {
+        return executeServerQuery(
+                "/v1/evaluation/" + evaluationId + "/allocations",
+                options,
+                NomadJson.parserForListOf(AllocationListStub.class));
+    }
+
+    /**
+     * Polls an evaluation until it is completed, without blocking any threads while waiting.
+     *
+     * @param evaluationId the ID of the evaluation to poll for
+     * @param waitStrategy the wait strategy to use during polling
+     */
+    public CompletableFuture<ServerQueryResponse<Evaluation>> pollForCompletion(
+            String evaluationId,
+            WaitStrategy waitStrategy
+    ) {
+        return info(evaluationId,
+                QueryOptions.pollRepeatedlyUntil(
+                        responseValue(evaluationHasCompleted()),
+                        waitStrategy));
+    }
+
+    /**
+     * Polls an evaluation until it is completed, without blocking any threads while waiting.
+     *
+     * @param evaluation   a response containing the ID of the evaluation to poll for
+     * @param waitStrategy the wait strategy to use during polling
+     */
+    public CompletableFuture<ServerQueryResponse<Evaluation>> pollForCompletion(
+            EvaluationResponse evaluation,
+            WaitStrategy waitStrategy
+    ) {
+        return pollForCompletion(evaluation.getValue(), waitStrategy);
+    }
+}
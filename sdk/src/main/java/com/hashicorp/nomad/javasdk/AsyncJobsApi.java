@@ -0,0 +1,427 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.AllocationListStub;
+import com.hashicorp.nomad.apimodel.Deployment;
+import com.hashicorp.nomad.apimodel.Evaluation;
+import com.hashicorp.nomad.apimodel.Job;
+import com.hashicorp.nomad.apimodel.JobDispatchResponse;
+import com.hashicorp.nomad.apimodel.JobListStub;
+import com.hashicorp.nomad.apimodel.JobPlanResponse;
+import com.hashicorp.nomad.apimodel.JobSummary;
+import com.hashicorp.nomad.apimodel.JobValidateResponse;
+
+import javax.annotation.Nullable;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API for managing and querying jobs,
+ * exposing the functionality of the {@code /v1/jobs} and {@code /v1/job} endpoints of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see JobsApi
+ * @see <a href="https://www.nomadproject.io/docs/http/json-jobs.html">Job Specification</a>
+ * for documentation about the {@link Job} structure.
+ */
+public class AsyncJobsApi extends AsyncApiBase {
+
+    AsyncJobsApi(NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Lists the allocations belonging to a job in the active region.
+     *
+     * @param jobId ID of the job to list allocations for
+     * @see <a href="https://www.nomadproject.io/docs/http/job.html">{@code GET /v1/job/<ID>/allocations}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AllocationListStub>>> allocations(final String jobId) {
+        return allocations(jobId, null);
+    }
+
+    /**
+     * Lists the allocations belonging to a job in the active region.
+     *
+     * @param jobId   the ID of the job to list allocations for
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/job.html">{@code GET /v1/job/<ID>/allocations}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<AllocationListStub>>> allocations(
+            final String jobId,
+            @Nullable final QueryOptions<List<AllocationListStub>> options
+    ) {
+        return executeServerQuery(
+                "/v1/job/" + jobId + "/allocations",
+                options,
+                NomadJson.parserForListOf(AllocationListStub.class));
+    }
+
+    /**
+     * Lists the deployments belonging to a job in the active region.
+     *
+     * @param jobId   the ID of the job to list deployments for
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/jobs.html#list-job-deployments">{@code GET /v1/job/<ID>/deployments}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<Deployment>>> deployments(
+            final String jobId,
+            @Nullable final QueryOptions<List<Deployment>> options
+    ) {
+        return executeServerQuery(
+                "/v1/job/" + jobId + "/deployments",
+                options,
+                NomadJson.parserForListOf(Deployment.class));
+    }
+
+    /**
+     * Deregisters a job in the active region, and stops all allocations that are part of it.
+     *
+     * @param jobId ID of the job to deregister
+     * @see <a href="https://www.nomadproject.io/docs/http/job.html#delete">{@code DELETE /v1/job/<ID>}</a>
+     */
+    public CompletableFuture<EvaluationResponse> deregister(final String jobId) {
+        return deregister(jobId, false, null);
+    }
+
+    /**
+     * Deregisters a job in the active region, and stops all allocations that are part of it.
+     *
+     * @param jobId   the ID of the job to deregister
+     * @param purge   If true, the job is deregistered and purged from the system versus still being queryable and
+     *                eventually GC'ed from the system. Most callers should not specify purge.
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/job.html#delete">{@code DELETE /v1/job/<ID>}</a>
+     */
+    public CompletableFuture<EvaluationResponse> deregister(
+            final String jobId,
+            final boolean purge,
+            @Nullable final WriteOptions options
+    ) {
+        return executeEvaluationCreatingRequest(delete(
+                uri("/v1/job/" + jobId).addParameter("purge", Boolean.toString(purge)),
+                options
+        ));
+    }
+
+    /**
+     * Dispatches a new instance of a parameterized job in the active region.
+     *
+     * @param jobId   ID of the parameterized job to instantiate
+     * @param meta    metadata for the new instance
+     * @param payload payload for the new instance
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/job.html">{@code PUT /v1/job/<ID>/dispatch}</a>
+     */
+    public CompletableFuture<ServerResponse<JobDispatchResponse>> dispatch(
+            final String jobId,
+            @Nullable final Map<String, String> meta,
+            @Nullable final byte[] payload,
+            @Nullable WriteOptions options
+    ) {
+        return executeServerAction(
+                put("/v1/job/" + jobId + "/dispatch", new JobsApi.JobDispatchRequest(jobId, meta, payload), options),
+                NomadJson.parserFor(JobDispatchResponse.class));
+    }
+
+    /**
+     * Dispatches a new instance of a parameterized job in the active region, using a prepared request.
+     *
+     * @param request a request prepared with {@link PreparedJobRequest#dispatch(String)}
+     * @param meta    metadata for the new instance
+     * @param payload payload for the new instance
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/job.html">{@code PUT /v1/job/<ID>/dispatch}</a>
+     */
+    public CompletableFuture<ServerResponse<JobDispatchResponse>> dispatch(
+            final PreparedJobRequest request,
+            @Nullable final Map<String, String> meta,
+            @Nullable final byte[] payload,
+            @Nullable WriteOptions options
+    ) {
+        if (!request.isDispatch())
+            throw new IllegalArgumentException("not a prepared dispatch request");
+        return executeServerAction(
+                putSerialized("/v1/job/" + request.getJobId() + "/dispatch",
+                        request.render(meta, payload, null), options),
+                NomadJson.parserFor(JobDispatchResponse.class));
+    }
+
+    /**
+     * Lists the evaluations belonging to a job in the active region.
+     *
+     * @param jobId   the ID of the job to list evaluations for
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/job.html">{@code GET /v1/job/<ID>/evaluations}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<Evaluation>>> evaluations(
+            final String jobId,
+            @Nullable final QueryOptions<List<Evaluation>> options
+    ) {
+        return executeServerQuery(
+                "/v1/job/" + jobId + "/evaluations",
+                options,
+                NomadJson.parserForSortedListOf(Evaluation.class, EvaluationsApi.NEWEST_TO_OLDEST_EVALUATIONS));
+    }
+
+    /**
+     * Creates a new evaluation for a job in the active region.
+     *
+     * @param jobId   the ID of the job to evaluate
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/job.html">{@code PUT /v1/job/<ID>/evaluate}</a>
+     */
+    public CompletableFuture<EvaluationResponse> forceEvaluate(
+            final String jobId,
+            @Nullable final WriteOptions options
+    ) {
+        return executeEvaluationCreatingRequest(put("/v1/job/" + jobId + "/evaluate", options));
+    }
+
+    /**
+     * Queries a job in the active region.
+     *
+     * @param jobId ID of the job to query
+     * @see <a href="https://www.nomadproject.io/docs/http/job.html">{@code GET /v1/job/{ID}}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<Job>> info(final String jobId) {
+        return info(jobId, null);
+    }
+
+    /**
+     * Queries a job in the active region.
+     *
+     * @param jobId   the ID of the job to query
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/job.html">{@code GET /v1/job/{ID}}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<Job>> info(
+            final String jobId,
+            @Nullable final QueryOptions<Job> options
+    ) {
+        return executeServerQuery("/v1/job/" + jobId, options, NomadJson.parserFor(Job.class));
+    }
+
+    /**
+     * Gets the latest deployment belonging to a job.
+     *
+     * @param jobId   the ID of the job
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/jobs.html#read-job-39-s-most-recent-deployment">{@code GET /v1/job/<ID>/deployment}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<Deployment>> latestDeployment(
+            final String jobId,
+            @Nullable final QueryOptions<Deployment> options
+    ) {
+        return executeServerQuery(
+                "/v1/job/" + jobId + "/deployment",
+                options,
+                NomadJson.parserFor(Deployment.class));
+    }
+
+    /**
+     * Lists jobs in the active region.
+     *
+     * @see <a href="https://www.nomadproject.io/docs/http/jobs.html">{@code GET /v1/jobs}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<JobListStub>>> list() {
+        return list(null, null);
+    }
+
+    /**
+     * Lists jobs in the active region.
+     *
+     * @param jobIdPrefix a job ID prefix which, if specified, is used to filter the listing
+     * @param options     options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/jobs.html">{@code GET /v1/jobs}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<JobListStub>>> list(
+            @Nullable final String jobIdPrefix,
+            @Nullable final QueryOptions<List<JobListStub>> options
+    ) {
+        return executeServerQueryForPrefixFilteredList(
+                "/v1/jobs",
+                jobIdPrefix,
+                options,
+                NomadJson.parserForListOf(JobListStub.class));
+    }
+
+    /**
+     * Forces a new instance of a periodic job in the active region.
+     *
+     * @param jobId   the ID of the job to force a run of
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/job.html">{@code PUT /v1/job/{ID}/periodic/force}</a>
+     */
+    public CompletableFuture<EvaluationResponse> periodicForce(String jobId, @Nullable WriteOptions options) {
+        return executeEvaluationCreatingRequest(
+                put("/v1/job/" + jobId + "/periodic/force", options));
+    }
+
+    /**
+     * Invokes a dry-run of the scheduler for a job in the active region.
+     *
+     * @param job            detailed specification of the job to plan for
+     * @param diff           indicates whether a diff between the current and submitted versions of the job
+     *                       should be included in the response.
+     * @param policyOverride If set, any soft mandatory Sentinel policies will be overriden.
+     *                       This allows a job to be registered when it would be denied by policy.
+     * @param options        options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/job.html">{@code PUT /v1/job/{ID}/plan}</a>
+     */
+    public CompletableFuture<ServerResponse<JobPlanResponse>> plan(
+            Job job,
+            boolean diff,
+            boolean policyOverride,
+            @Nullable WriteOptions options
+    ) {
+        return executeServerAction(
+                put(uri("/v1/job/" + job.getId() + "/plan"),
+                        new JobsApi.JobPlanRequest(job, diff, policyOverride),
+                        options),
+                NomadJson.parserFor(JobPlanResponse.class));
+    }
+
+    /**
+     * Registers or updates a job in the active region.
+     *
+     * @param job detailed specification of the job to register
+     * @see <a href="https://www.nomadproject.io/docs/http/jobs.html#put-post">{@code PUT /v1/jobs}</a>
+     */
+    public CompletableFuture<EvaluationResponse> register(Job job) {
+        return register(job, null, false, null);
+    }
+
+    /**
+     * Registers or updates a job in the active region.
+     *
+     * @param job            detailed specification of the job to register
+     * @param modifyIndex    when specified, the registration is only performed if the job's modify index matches.
+     *                       This can be used to make sure the job hasn't changed since getting a
+     *                       {@link #plan(Job, boolean, boolean, WriteOptions) plan}.
+     * @param policyOverride If set, any soft mandatory Sentinel policies will be overriden.
+     *                       This allows a job to be registered when it would be denied by policy.
+     * @param options        options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/jobs.html#put-post">{@code PUT /v1/jobs}</a>
+     */
+    public CompletableFuture<EvaluationResponse> register(
+            Job job,
+            @Nullable BigInteger modifyIndex,
+            boolean policyOverride,
+            @Nullable WriteOptions options
+    ) {
+        return executeEvaluationCreatingRequest(
+                put("/v1/jobs", new JobsApi.JobRegistrationRequest(job, modifyIndex, policyOverride), options));
+    }
+
+    /**
+     * Registers or updates a job in the active region, using a prepared request.
+     *
+     * @param request a request prepared with {@link PreparedJobRequest#register(Job, BigInteger, boolean)}
+     * @param meta    metadata for the job, or null to keep the metadata the job was prepared with
+     * @param counts  counts by task group name, for the task groups whose prepared count should be replaced
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/jobs.html#put-post">{@code PUT /v1/jobs}</a>
+     */
+    public CompletableFuture<EvaluationResponse> register(
+            final PreparedJobRequest request,
+            @Nullable final Map<String, String> meta,
+            @Nullable final Map<String, Integer> counts,
+            @Nullable WriteOptions options
+    ) {
+        if (request.isDispatch())
+            throw new IllegalArgumentException("not a prepared registration request");
+        return executeEvaluationCreatingRequest(
+                putSerialized("/v1/jobs", request.render(meta, null, counts), options));
+    }
+
+    /**
+     * Reverts to a prior version of a job.
+     *
+     * @param jobId        ID of the job
+     * @param version      the version to revert to
+     * @param priorVersion when set, the job is only reverted if the current version matches this version
+     * @param options      options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/jobs.html#revert-to-older-job-version">{@code PUT /v1/job/<ID>/revert}</a>
+     */
+    public CompletableFuture<EvaluationResponse> revert(
+            String jobId,
+            BigInteger version,
+            @Nullable BigInteger priorVersion,
+            @Nullable WriteOptions options
+    ) {
+        return executeEvaluationCreatingRequest(
+                put("/v1/job/" + jobId + "/revert",
+                        new JobsApi.JobRevertRequest(jobId, version, priorVersion),
+                        options));
+    }
+
+    /**
+     * Sets the stability of a job.
+     *
+     * @param jobId   ID of the job
+     * @param version the job version to set the stability of
+     * @param stable  whether the job should be marked as stable or not
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/jobs.html#set-job-stability">{@code PUT /v1/job/<ID>/stable}</a>
+     */
+    public CompletableFuture<EvaluationResponse> stable(
+            String jobId,
+            BigInteger version,
+            boolean stable,
+            @Nullable WriteOptions options
+    ) {
+        return executeEvaluationCreatingRequest(
+                put("/v1/job/" + jobId + "/stable", new JobsApi.JobStabilityRequest(jobId, version, stable), options));
+    }
+
+    /**
+     * Queries the summary of a job in the active region.
+     *
+     * @param jobId   ID of the job to get a summary for
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/job.html#summary">{@code GET /v1/job/{ID}/summary}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<JobSummary>> summary(
+            String jobId,
+            @Nullable QueryOptions<JobSummary> options
+    ) {
+        return executeServerQuery(
+                "/v1/job/" + jobId + "/summary",
+                options,
+                NomadJson.parserFor(JobSummary.class));
+    }
+
+    /**
+     * Validates a job.
+     *
+     * @param job     the job to validate
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/validate.html">{@code PUT /v1/validate/job}</a>
+     */
+    public CompletableFuture<ServerResponse<JobValidateResponse>> validate(Job job, @Nullable WriteOptions options) {
+        return executeServerAction(
+                put("/v1/validate/job", new JobsApi.JobValidationRequest(job), options),
+                NomadJson.parserFor(JobValidateResponse.class));
+    }
+
+    /**
+     * Lists the versions of a job.
+     *
+     * @param jobId   ID of the job
+     * @param diffs   when true, diffs are returned between each version of the job and its predecessor
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/jobs.html#list-job-versions">{@code GET /v1/job/<ID>/versions}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<JobVersionsResponseData>> versions(
+            String jobId,
+            boolean diffs,
+            @Nullable QueryOptions<JobVersionsResponseData> options
+    ) {
+        return executeServerQuery(
+                uri("/v1/job/" + jobId + "/versions").addParameter("diffs", Boolean.toString(diffs)),
+                options,
+                NomadJson.parserFor(JobVersionsResponseData.class));
+    }
+}
@@ -0,0 +1,148 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Namespace;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hashicorp.nomad.javasdk.NamespacesApi.NEWEST_TO_OLDEST;
+
+/**
+ * Asynchronous API for querying for information about namespace,
+ * exposing the <a href="https://www.nomadproject.io/api/namespaces.html">namespaces</a> functionality of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see NamespacesApi
+ */
+public class AsyncNamespacesApi extends AsyncApiBase {
+
+    AsyncNamespacesApi(NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Deletes a namespace.
+     *
+     * @param namespaceId ID of the namespace to delete
+     * @see <a href="https://www.nomadproject.io/docs/http/namespaces.html#delete-namespace">{@code DELETE /v1/namespace/:id}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> delete(final String namespaceId) {
+        return delete(namespaceId, null);
+    }
+
+    /**
+     * Deletes a namespace.
+     *
+     * @param namespaceId the ID of the namespace to delete
+     * @param options     options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/namespaces.html#delete-namespace">{@code DELETE /v1/namespace/:id}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> delete(
+            final String namespaceId,
+            @Nullable final WriteOptions options
+    ) {
+
+        return executeServerAction(delete(uri("/v1/namespace/" + namespaceId), options), null);
+    }
+
+    /**
+     * Queries a namespace.
+     *
+     * @param name name of the namespace.
+     * @see <a href="https://www.nomadproject.io/docs/http/namespaces.html#read-namespace">{@code GET /v1/namespace/:id}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<Namespace>> info(final String name) {
+        return info(name, null);
+    }
+
+    /**
+     * Queries a namespace.
+     *
+     * @param name    name of the namespace.
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/namespaces.html#read-namespace">{@code GET /v1/namespace/:id}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<Namespace>> info(
+            final String name,
+            @Nullable final QueryOptions<Namespace> options
+    ) {
+        return executeServerQuery("/v1/namespace/" + name, options, NomadJson.parserFor(Namespace.class));
+    }
+
+    /**
+     * Lists all namespaces.
+     *
+     * @see <a href="https://www.nomadproject.io/docs/http/namespaces.html#list-namespaces">{@code GET /v1/namespaces}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<Namespace>>> list() {
+        return list(null, null);
+    }
+
+    /**
+     * Lists all namespaces.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/namespaces.html#list-namespaces">{@code GET /v1/namespaces}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<Namespace>>> list(
+            @Nullable final QueryOptions<List<Namespace>> options
+    ) {
+
+        return list(null, options);
+    }
+
+    /**
+     * Lists namespaces.
+     *
+     * @param namePrefix a name prefix that, if given,
+     *                   restricts the results to only namespaces having a name with this prefix
+     * @see <a href="https://www.nomadproject.io/docs/http/namespaces.html#list-namespaces">{@code GET /v1/namespaces}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<Namespace>>> list(@Nullable final String namePrefix) {
+
+        return list(namePrefix, null);
+    }
+
+    /**
+     * Lists namespaces.
+     *
+     * @param namePrefix a name prefix that, if given,
+     *                   restricts the results to only namespaces having a name with this prefix
+     * @param options    options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/namespaces.html#list-namespaces">{@code GET /v1/namespaces}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<Namespace>>> list(
+            @Nullable final String namePrefix,
+            @Nullable final QueryOptions<List<Namespace>> options
+    ) {
+
+        return executeServerQueryForPrefixFilteredList(
+                "/v1/namespaces",
+                namePrefix,
+                options,
+                NomadJson.parserForSortedListOf(Namespace.class, NEWEST_TO_OLDEST));
+    }
+
+    /**
+     * Registers or updates a namespace.
+     *
+     * @param namespace the namespace to register
+     * @see <a href="https://www.nomadproject.io/docs/http/namespaces.html#create-or-update-a-namespace">{@code PUT /v1/namespace}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> register(Namespace namespace) {
+        return register(namespace, null);
+    }
+
+    /**
+     * Registers or updates a namespace.
+     *
+     * @param namespace the namespace to register
+     * @param options   options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/namespaces.html#create-or-update-a-namespace">{@code PUT /v1/namespace}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> register(Namespace namespace, @Nullable WriteOptions options) {
+        return executeServerAction(put("/v1/namespace", namespace, options), null);
+    }
+
+}
@@ -0,0 +1,239 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.AutopilotConfiguration;
+import com.hashicorp.nomad.apimodel.OperatorHealthReply;
+import com.hashicorp.nomad.apimodel.RaftConfiguration;
+import com.hashicorp.nomad.apimodel.SchedulerConfiguration;
+import com.hashicorp.nomad.apimodel.SchedulerConfigurationResponse;
+import com.hashicorp.nomad.apimodel.SchedulerSetConfigurationResponse;
+import org.apache.http.client.methods.RequestBuilder;
+
+import javax.annotation.Nullable;
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API for operating a Nomad cluster,
+ * exposing the <a href="https://www.nomadproject.io/api/operator.html">operator</a> functionality of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see OperatorApi
+ */
+public class AsyncOperatorApi extends AsyncApiBase {
+
+    AsyncOperatorApi(NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Gets the cluster's Raft configuration.
+     *
+     * @see <a href="https://www.nomadproject.io/api/operator.html#read-raft-configuration">{@code GET /v1/operator/raft/configuration}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<RaftConfiguration>> raftGetConfiguration() {
+        return raftGetConfiguration(null);
+    }
+
+    /**
+     * Gets the health of the autopilot status.
+     *
+     * @see <a href="https://www.nomadproject.io/api/operator.html#read-health">{@code GET /v1/operator/autopilot/health}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<OperatorHealthReply>> getHealth() {
+        return getHealth(null);
+    }
+
+
+    /**
+     * Gets the cluster's Raft configuration.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/operator.html#read-raft-configuration">{@code GET /v1/operator/raft/configuration}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<RaftConfiguration>> raftGetConfiguration(
+            @Nullable QueryOptions<RaftConfiguration> options
+    ) {
+        return executeServerQuery(
+                "/v1/operator/raft/configuration",
+                options,
+                NomadJson.parserFor(RaftConfiguration.class));
+    }
+
+    /**
+     * Gets the health of the autopilot status.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/operator.html#read-health">{@code GET /v1/operator/autopilot/health}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<OperatorHealthReply>> getHealth(
+            @Nullable QueryOptions<OperatorHealthReply> options
+    ) {
+        return executeServerQuery(
+                "/v1/operator/autopilot/health",
+                options,
+                NomadJson.parserFor(OperatorHealthReply.class));
+    }
+
+    /**
+     * Removes a raft peer from the cluster.
+     *
+     * @param address ip:port address of the peer to remove
+     * @see <a href="https://www.nomadproject.io/api/operator.html#remove-raft-peer">{@code DELETE /v1/operator/raft/peer}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> raftRemovePeerByAddress(String address) {
+
+        return raftRemovePeerByAddress(address, null);
+    }
+
+    /**
+     * Removes a raft peer from the cluster.
+     *
+     * @param address ip:port address of the peer to remove
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/operator.html#remove-raft-peer">{@code DELETE /v1/operator/raft/peer}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> raftRemovePeerByAddress(
+            String address,
+            @Nullable WriteOptions options
+    ) {
+
+        return executeServerAction(
+                delete(
+                        uri("/v1/operator/raft/peer").addParameter("address", address),
+                        options
+                ),
+                null
+        );
+    }
+
+    /**
+     * Gets the autopilot configuration.
+     *
+     * @see <a href="https://www.nomadproject.io/api/operator.html#read-autopilot-configuration">{@code GET /v1/operator/autopilot/configuration}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<AutopilotConfiguration>> getAutopilotConfiguration() {
+        return getAutopilotConfiguration(null);
+    }
+
+    /**
+     * Gets the autopilot configuration.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/operator.html#read-autopilot-configuration">{@code GET /v1/operator/autopilot/configuration}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<AutopilotConfiguration>> getAutopilotConfiguration(
+            @Nullable QueryOptions<AutopilotConfiguration> options
+    ) {
+        return executeServerQuery(
+                "/v1/operator/autopilot/configuration",
+                options,
+                NomadJson.parserFor(AutopilotConfiguration.class));
+    }
+
+    /**
+     * Updates the autopilot configuration.
+     *
+     * @param autopilotConfiguration the desired autopilot configuration
+     * @see <a href="https://www.nomadproject.io/api/operator.html#update-autopilot-configuration">{@code PUT /v1/operator/autopilot/configuration}</a>
+     */
+    public CompletableFuture<ServerResponse<Boolean>> updateAutopilotConfiguration(
+            AutopilotConfiguration autopilotConfiguration
+    ) {
+        return updateAutopilotConfiguration(autopilotConfiguration, null);
+    }
+
+    /**
+     * Updates the autopilot configuration.
+     *
+     * @param autopilotConfiguration the desired autopilot configuration
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/operator.html#update-autopilot-configuration">{@code PUT /v1/operator/autopilot/configuration}</a>
+     */
+    public CompletableFuture<ServerResponse<Boolean>> updateAutopilotConfiguration(
+            AutopilotConfiguration autopilotConfiguration,
+            @Nullable WriteOptions options
+    ) {
+        return updateAutopilotConfiguration(autopilotConfiguration, options, null);
+    }
+
+    /**
+     * Updates the autopilot configuration.
+     *
+     * @param autopilotConfiguration the desired autopilot configuration
+     * @param options options controlling how the request is performed
+     * @param cas if not null, use check-and-set semantics on the update
+     * @see <a href="https://www.nomadproject.io/api/operator.html#update-autopilot-configuration">{@code PUT /v1/operator/autopilot/configuration}</a>
+     */
+    public CompletableFuture<ServerResponse<Boolean>> updateAutopilotConfiguration(
+            AutopilotConfiguration autopilotConfiguration,
+            @Nullable WriteOptions options,
+            @Nullable BigInteger cas
+        ) {
+        RequestBuilder builder = put(
+                uri("/v1/operator/autopilot/configuration"),
+                autopilotConfiguration,
+                options
+        );
+        if (cas != null) {
+            builder.addParameter("cas", cas.toString());
+        }
+        return executeServerAction(
+                builder,
+                NomadJson.parserFor(Boolean.class)
+        );
+    }
+
+    /**
+     * Gets the scheduler configuration.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/operator.html#read-scheduler-configuration">{@code GET /v1/operator/scheduler/configuration}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<SchedulerConfigurationResponse>> getSchedulerConfiguration(
+            @Nullable QueryOptions<SchedulerConfigurationResponse> options
+    ) {
+        return executeServerQuery(
+                "/v1/operator/scheduler/configuration",
+                options,
+                NomadJson.parserFor(SchedulerConfigurationResponse.class));
+    }
+
+    /**
+     * Updates the scheduler configuration.
+     *
+     * @param schedulerConfiguration the desired scheduler configuration
+     * @see <a href="https://www.nomadproject.io/api/operator.html#update-scheduler-configuration">{@code PUT /v1/operator/scheduler/configuration}</a>
+     */
+    public CompletableFuture<ServerResponse<SchedulerSetConfigurationResponse>> updateSchedulerConfiguration(
+            SchedulerConfiguration schedulerConfiguration
+    ) {
+        return updateSchedulerConfiguration(schedulerConfiguration, null, null);
+    }
+
+    /**
+     * Updates the scheduler configuration.
+     *
+     * @param schedulerConfiguration the desired scheduler configuration
+     * @param options options controlling how the request is performed
+     * @param cas if not null, use check-and-set semantics on the update
+     * @see <a href="https://www.nomadproject.io/api/operator.html#update-scheduler-configuration">{@code PUT /v1/operator/scheduler/configuration}</a>
+     */
+    public CompletableFuture<ServerResponse<SchedulerSetConfigurationResponse>> updateSchedulerConfiguration(
+            SchedulerConfiguration schedulerConfiguration,
+            @Nullable WriteOptions options,
+            @Nullable BigInteger cas
+    ) {
+        RequestBuilder builder = put(
+                uri("/v1/operator/scheduler/configuration"),
+                schedulerConfiguration,
+                options
+        );
+        if (cas != null) {
+            builder.addParameter("cas", cas.toString());
+        }
+        return executeServerAction(
+                builder,
+                NomadJson.parserFor(SchedulerSetConfigurationResponse.class)
+        );
+    }
+}
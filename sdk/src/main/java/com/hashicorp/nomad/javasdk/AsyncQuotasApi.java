@@ -0,0 +1,227 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.QuotaSpec;
+import com.hashicorp.nomad.apimodel.QuotaUsage;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hashicorp.nomad.javasdk.QuotasApi.NEWEST_TO_OLDEST_SPECS;
+import static com.hashicorp.nomad.javasdk.QuotasApi.NEWEST_TO_OLDEST_USAGES;
+
+/**
+ * Asynchronous API for managing quotas,
+ * exposing the <a href="https://www.nomadproject.io/api/quotas.html">quotas</a> functionality of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see QuotasApi
+ */
+public class AsyncQuotasApi extends AsyncApiBase {
+
+    AsyncQuotasApi(NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Deletes a quota specification.
+     *
+     * @param quotaName the name of the quota to delete
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#delete-quota-specification">{@code DELETE /v1/quota/:name}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> delete(final String quotaName) {
+        return delete(quotaName, null);
+    }
+
+    /**
+     * Deletes a quota specification.
+     *
+     * @param quotaName the name of the quota to delete
+     * @param options   options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#delete-quota-specification">{@code DELETE /v1/quota/:name}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> delete(
+            final String quotaName,
+            @Nullable final WriteOptions options
+    ) {
+
+        return executeServerAction(delete(uri("/v1/quota/" + quotaName), options), null);
+    }
+
+    /**
+     * Queries a quota specification.
+     *
+     * @param name name of the quota.
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#read-quota-specification">{@code GET /v1/quota/:name}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<QuotaSpec>> info(final String name) {
+        return info(name, null);
+    }
+
+    /**
+     * Queries a quota specification.
+     *
+     * @param name    name of the quota.
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#read-quota-specification">{@code GET /v1/quota/:name}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<QuotaSpec>> info(
+            final String name,
+            @Nullable final QueryOptions<QuotaSpec> options
+    ) {
+        return executeServerQuery("/v1/quota/" + name, options, NomadJson.parserFor(QuotaSpec.class));
+    }
+
+    /**
+     * Lists all quota specifications.
+     *
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#list-quota-specifications">{@code GET /v1/quotas}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<QuotaSpec>>> list() {
+        return list(null, null);
+    }
+
+    /**
+     * Lists all quota specifications.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#list-quota-specifications">{@code GET /v1/quotas}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<QuotaSpec>>> list(
+            @Nullable final QueryOptions<List<QuotaSpec>> options
+    ) {
+
+        return list(null, options);
+    }
+
+    /**
+     * Lists quota specifications.
+     *
+     * @param namePrefix a name prefix that, if given,
+     *                   restricts the results to only quotas having a name with this prefix
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#list-quota-specifications">{@code GET /v1/quotas}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<QuotaSpec>>> list(@Nullable final String namePrefix) {
+
+        return list(namePrefix, null);
+    }
+
+    /**
+     * Lists quota specifications.
+     *
+     * @param namePrefix a name prefix that, if given,
+     *                   restricts the results to only quotas having a name with this prefix
+     * @param options    options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#list-quota-specifications">{@code GET /v1/quotas}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<QuotaSpec>>> list(
+            @Nullable final String namePrefix,
+            @Nullable final QueryOptions<List<QuotaSpec>> options
+    ) {
+
+        return executeServerQueryForPrefixFilteredList(
+                "/v1/quotas",
+                namePrefix,
+                options,
+                NomadJson.parserForSortedListOf(QuotaSpec.class, NEWEST_TO_OLDEST_SPECS));
+    }
+
+    /**
+     * Lists all quota usages.
+     *
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#list-quota-usages">{@code GET /v1/quota-usages}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<QuotaUsage>>> listUsage() {
+        return listUsage(null, null);
+    }
+
+    /**
+     * Lists all quota usages.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#list-quota-usages">{@code GET /v1/quota-usages}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<QuotaUsage>>> listUsage(
+            @Nullable final QueryOptions<List<QuotaUsage>> options
+    ) {
+
+        return listUsage(null, options);
+    }
+
+    /**
+     * Lists quota usages.
+     *
+     * @param namePrefix a name prefix that, if given,
+     *                   restricts the results to only quotas having a name with this prefix
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#list-quota-usages">{@code GET /v1/quota-usages}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<QuotaUsage>>> listUsage(@Nullable final String namePrefix) {
+
+        return listUsage(namePrefix, null);
+    }
+
+    /**
+     * Lists quota usages.
+     *
+     * @param namePrefix a name prefix that, if given,
+     *                   restricts the results to only quotas having a name with this prefix
+     * @param options    options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#list-quota-usages">{@code GET /v1/quota-usages}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<QuotaUsage>>> listUsage(
+            @Nullable final String namePrefix,
+            @Nullable final QueryOptions<List<QuotaUsage>> options
+    ) {
+
+        return executeServerQueryForPrefixFilteredList(
+                "/v1/quota-usages",
+                namePrefix,
+                options,
+                NomadJson.parserForSortedListOf(QuotaUsage.class, NEWEST_TO_OLDEST_USAGES));
+    }
+
+    /**
+     * Registers or updates a quota.
+     *
+     * @param quota the quota to register
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#create-or-update-quota-specification">{@code PUT /v1/quota}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> register(QuotaSpec quota) {
+        return register(quota, null);
+    }
+
+    /**
+     * Registers or updates a quota.
+     *
+     * @param quota   the quota to register
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#create-or-update-quota-specification">{@code PUT /v1/quota}</a>
+     */
+    public CompletableFuture<ServerResponse<Void>> register(QuotaSpec quota, @Nullable WriteOptions options) {
+        return executeServerAction(put("/v1/quota", quota, options), null);
+    }
+
+    /**
+     * Queries a quota usage.
+     *
+     * @param name name of the quota.
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#read-quota-usage">{@code GET /v1/quota/:name}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<QuotaUsage>> usage(final String name) {
+        return usage(name, null);
+    }
+
+    /**
+     * Queries a quota usage.
+     *
+     * @param name    name of the quota.
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/quotas.html#read-quota-usage">{@code GET /v1/quota/:name}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<QuotaUsage>> usage(
+            final String name,
+            @Nullable final QueryOptions<QuotaUsage> options
+    ) {
+        return executeServerQuery("/v1/quota/usage/" + name, options, NomadJson.parserFor(QuotaUsage.class));
+    }
+}
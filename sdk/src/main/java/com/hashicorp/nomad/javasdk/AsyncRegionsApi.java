@@ -0,0 +1,28 @@
+package com.hashicorp.nomad.javasdk;
+
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API for querying for information about regions,
+ * exposing the functionality of the {@code /v1/regions} endpoint of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see RegionsApi
+ */
+public class AsyncRegionsApi extends AsyncApiBase {
+
+    AsyncRegionsApi(NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * List the names of the known regions in the cluster.
+     *
+     * @see <a href="https://www.nomadproject.io/docs/http/regions.html">{@code GET /v1/regions}</a>
+     */
+    public CompletableFuture<NomadResponse<List<String>>> list() {
+        return executePlain(get("/v1/regions"), NomadJson.parserForListOf(String.class));
+    }
+}
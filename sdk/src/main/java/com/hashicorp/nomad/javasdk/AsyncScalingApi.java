@@ -0,0 +1,72 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.ScalingPolicy;
+import com.hashicorp.nomad.apimodel.ScalingPolicyListStub;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API for querying for information about scaling policies,
+ * exposing the <a href="https://www.nomadproject.io/api-docs/scaling-policies/">scaling policies</a> functionality of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see ScalingApi
+ */
+public class AsyncScalingApi extends AsyncApiBase {
+
+    AsyncScalingApi(NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Queries a scaling policy.
+     *
+     * @param id ID of the scaling policy.
+     * @see <a href="https://www.nomadproject.io/api-docs/scaling-policies/#read-scaling-policy-beta">{@code GET /v1/scaling/policy/{ID}}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<ScalingPolicy>> info(final String id) {
+        return info(id, null);
+    }
+
+    /**
+     * Queries a scaling policy.
+     *
+     * @param id    ID of the scaling policy.
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api-docs/scaling-policies/#read-scaling-policy-beta">{@code GET /v1/scaling/policy/{ID}}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<ScalingPolicy>> info(
+            final String id,
+            @Nullable final QueryOptions<ScalingPolicy> options
+    ) {
+        return executeServerQuery("/v1/scaling/policy/" + id, options, NomadJson.parserFor(ScalingPolicy.class));
+    }
+
+    /**
+     * Lists all scaling policies.
+     *
+     * @see <a href="https://www.nomadproject.io/api-docs/scaling-policies/#list-scaling-policies-beta">{@code GET /v1/scaling/policies}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<ScalingPolicyListStub>>> list() {
+        return list(null);
+    }
+
+    /**
+     * Lists all scaling policies.
+     *
+     * @param options    options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api-docs/scaling-policies/#list-scaling-policies-beta">{@code GET /v1/scaling/policies}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<List<ScalingPolicyListStub>>> list(
+            @Nullable final QueryOptions<List<ScalingPolicyListStub>> options
+    ) {
+
+        return executeServerQuery(
+                "/v1/scaling/policies",
+                options,
+                NomadJson.parserForListOf(ScalingPolicyListStub.class));
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.SearchResponse;
+
+import javax.annotation.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API for performing searches in the Nomad cluster,
+ * exposing the <a href="https://www.nomadproject.io/api/search.html">search</a> functionality of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see SearchApi
+ */
+public class AsyncSearchApi extends AsyncApiBase {
+
+    AsyncSearchApi(NomadAsyncApiClient nomadApiClient) {
+        super(nomadApiClient);
+    }
+
+    /**
+     * Returns a list of matches for a particular context and prefix.
+     *
+     * @param prefix  items with this prefix are returned
+     * @param context one of the following: allocs, deployment, evals, jobs, nodes, namespaces, quotas, all
+     * @see <a href="https://www.nomadproject.io/api/search.html">{@code PUT /v1/search}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<SearchResponse>> prefixSearch(
+            String prefix,
+            String context
+    ) {
+        return prefixSearch(prefix, context, null);
+    }
+
+    /**
+     * Returns a list of matches for a particular context and prefix.
+     *
+     * @param prefix  items with this prefix are returned
+     * @param context one of the following: allocs, deployment, evals, jobs, nodes, namespaces, quotas, all
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/api/search.html">{@code PUT /v1/search}</a>
+     */
+    public CompletableFuture<ServerQueryResponse<SearchResponse>> prefixSearch(
+            String prefix,
+            String context,
+            @Nullable QueryOptions<SearchResponse> options
+    ) {
+
+        return executeServerQueryPut(
+                uri("/v1/search"),
+                new SearchApi.SearchRequest(prefix, context),
+                options,
+                NomadJson.parserFor(SearchResponse.class)
+        );
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.hashicorp.nomad.javasdk;
+
+import org.apache.http.client.methods.RequestBuilder;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API for querying for information about the status of the cluster,
+ * exposing the functionality of the {@code /v1/status/…} endpoints of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see StatusApi
+ * @see <a href="https://www.nomadproject.io/docs/http/status.html">{@code /v1/status documentation}</a>
+ */
+public class AsyncStatusApi extends AsyncApiBase {
+
+    AsyncStatusApi(NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Queries the address of the Raft leader in the active region.
+     *
+     * @see <a href="https://www.nomadproject.io/docs/http/status.html">{@code GET /v1/status/leader}</a>
+     */
+    public CompletableFuture<NomadResponse<String>> leader() {
+        return leader(null);
+    }
+
+    /**
+     * Queries the address of the Raft leader in the given or active region.
+     *
+     * @param region the region to forward the request to
+     * @see <a href="https://www.nomadproject.io/docs/http/status.html">{@code GET /v1/status/leader}</a>
+     */
+    public CompletableFuture<NomadResponse<String>> leader(@Nullable String region) {
+        final RequestBuilder request = get("/v1/status/leader");
+        if (region != null)
+            request.addParameter("region", region);
+        return executePlain(request, NomadJson.parserFor(String.class));
+    }
+
+    /**
+     * List the addresses of the Raft peers in the active region.
+     *
+     * @see <a href="https://www.nomadproject.io/docs/http/status.html">{@code GET /v1/status/peers}</a>
+     */
+    public CompletableFuture<NomadResponse<List<String>>> peers() {
+        return peers(null);
+    }
+
+    /**
+     * List the addresses of the Raft peers in the given or active region.
+     *
+     * @param region the region to forward the request to
+     * @see <a href="https://www.nomadproject.io/docs/http/status.html">{@code GET /v1/status/peers}</a>
+     */
+    public CompletableFuture<NomadResponse<List<String>>> peers(@Nullable String region) {
+        final RequestBuilder request = get("/v1/status/peers");
+        if (region != null)
+            request.addParameter("region", region);
+        return executePlain(request, NomadJson.parserForListOf(String.class));
+    }
+}
@@ -0,0 +1,60 @@
+package com.hashicorp.nomad.javasdk;
+
+
+import javax.annotation.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API for performing system maintenance that shouldn't be necessary for most users,
+ * exposing the functionality of the
+ * <a href="https://www.nomadproject.io/docs/http/system.html">{@code /v1/system/…} endpoints</a>
+ * of the <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ *
+ * @see SystemApi
+ */
+public class AsyncSystemApi extends AsyncApiBase {
+
+    AsyncSystemApi(NomadAsyncApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Initiates garbage collection of jobs, evals, allocations and nodes in the active region.
+     *
+     * @see <a href="https://www.nomadproject.io/docs/http/system.html">{@code PUT /v1/system/gc}</a>
+     */
+    public CompletableFuture<NomadResponse<Void>> garbageCollect() {
+        return garbageCollect(null);
+    }
+
+    /**
+     * Initiates garbage collection of jobs, evals, allocations and nodes
+     * in the active region.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/system.html">{@code PUT /v1/system/gc}</a>
+     */
+    public CompletableFuture<NomadResponse<Void>> garbageCollect(@Nullable WriteOptions options) {
+        return executePlain(put(uri("/v1/system/gc"), options), null);
+    }
+
+    /**
+     * Reconciles the summaries of all jobs in the active region.
+     *
+     * @see <a href="https://www.nomadproject.io/docs/http/system.html">{@code PUT /v1/system/reconcile/summaries}</a>
+     */
+    public CompletableFuture<NomadResponse<Void>> reconcileSummaries() {
+        return reconcileSummaries(null);
+    }
+
+    /**
+     * Reconciles the summaries of all jobs in the active region.
+     *
+     * @param options options controlling how the request is performed
+     * @see <a href="https://www.nomadproject.io/docs/http/system.html">{@code PUT /v1/system/reconcile/summaries}</a>
+     */
+    public CompletableFuture<NomadResponse<Void>> reconcileSummaries(@Nullable WriteOptions options) {
+        return executePlain(put(uri("/v1/system/reconcile/summaries"), options), null);
+    }
+}
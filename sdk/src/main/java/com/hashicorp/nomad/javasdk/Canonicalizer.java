@@ -0,0 +1,167 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Job;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * Deduplicates equal values while responses are deserialized, so that many copies of them share one instance.
+ * <p>
+ * Pass the same canonicalizer to every query whose results are kept around, with
+ * {@link QueryOptions#setCanonicalizer(Canonicalizer)}. The values of string properties that take few distinct
+ * values, such as node IDs, job IDs, datacenters and statuses, are then interned, and jobs are shared between all
+ * the responses that embed the same state of the same job, as identified by their ID, namespace, version,
+ * job modify index and modify index.
+ * Fetching the allocations of one job then holds a single copy of the job rather than one per allocation.
+ * <p>
+ * Only embedded jobs, such as an allocation's job, are shared. The job that is itself the value of a response,
+ * or an element of it, is never replaced, and nor are jobs read by a query that projects only some of their fields.
+ * <p>
+ * Only weak references are held, so values are forgotten once nothing else uses them.
+ * Since canonical jobs are shared, they must be treated as read-only.
+ * Canonicalizers are thread-safe.
+ */
+public final class Canonicalizer {
+    // Strings are spread over stripes by hash, so that threads parsing at the same time rarely contend
+    private static final int STRING_STRIPES = 16;
+
+    private final StringStripe[] strings = new StringStripe[STRING_STRIPES];
+    private final WeakInterner<JobKey, Job> jobs = new WeakInterner<>();
+
+    /**
+     * Creates a canonicalizer.
+     */
+    public Canonicalizer() {
+        for (int i = 0; i < STRING_STRIPES; i++)
+            strings[i] = new StringStripe();
+    }
+
+    /**
+     * Returns the canonical instance of a string.
+     */
+    String intern(String value) {
+        final int hash = value.hashCode();
+        return strings[(hash ^ (hash >>> 16)) & (STRING_STRIPES - 1)].intern(value);
+    }
+
+    /**
+     * Returns the canonical instance of an object, if objects of its class are canonicalized.
+     */
+    @SuppressWarnings("unchecked")
+    <T extends ApiObject> T canonical(T value) {
+        if (!(value instanceof Job))
+            return value;
+        final Job job = (Job) value;
+        if (job.getId() == null || job.getVersion() == null || job.getJobModifyIndex() == null
+                || job.getModifyIndex() == null)
+            return value;
+        return (T) jobs.intern(new JobKey(job), job);
+    }
+
+    /**
+     * Identifies a state of a job. The modify index changes with its status and stability,
+     * which the job modify index doesn't.
+     */
+    private static final class JobKey {
+        private final String id;
+        private final String namespace;
+        private final BigInteger version;
+        private final BigInteger jobModifyIndex;
+        private final BigInteger modifyIndex;
+
+        JobKey(Job job) {
+            this.id = job.getId();
+            this.namespace = job.getNamespace();
+            this.version = job.getVersion();
+            this.jobModifyIndex = job.getJobModifyIndex();
+            this.modifyIndex = job.getModifyIndex();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            JobKey that = (JobKey) o;
+            return id.equals(that.id)
+                    && Objects.equals(namespace, that.namespace)
+                    && version.equals(that.version)
+                    && jobModifyIndex.equals(that.jobModifyIndex)
+                    && modifyIndex.equals(that.modifyIndex);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, namespace, version, jobModifyIndex, modifyIndex);
+        }
+    }
+
+    /**
+     * Interns the strings whose hashes fall into one stripe.
+     */
+    private static final class StringStripe {
+        // Strings are their own keys, so both sides are weak
+        private final Map<String, WeakReference<String>> strings = new WeakHashMap<>();
+
+        synchronized String intern(String value) {
+            final WeakReference<String> existing = strings.get(value);
+            final String canonical = existing == null ? null : existing.get();
+            if (canonical != null)
+                return canonical;
+            strings.put(value, new WeakReference<>(value));
+            return value;
+        }
+    }
+
+    /**
+     * Maps keys to weakly referenced canonical values, dropping entries whose values have been collected.
+     *
+     * @param <K> the type of key
+     * @param <V> the type of value
+     */
+    private static final class WeakInterner<K, V> {
+        private final Map<K, WeakValue<K, V>> values = new HashMap<>();
+        private final ReferenceQueue<V> collected = new ReferenceQueue<>();
+
+        synchronized V intern(K key, V value) {
+            expunge();
+            final WeakValue<K, V> existing = values.get(key);
+            if (existing != null) {
+                final V canonical = existing.get();
+                if (canonical != null)
+                    return canonical;
+            }
+            values.put(key, new WeakValue<>(key, value, collected));
+            return value;
+        }
+
+        private void expunge() {
+            for (Object ref = collected.poll(); ref != null; ref = collected.poll()) {
+                final WeakValue<?, ?> value = (WeakValue<?, ?>) ref;
+                if (values.get(value.key) == value)
+                    values.remove(value.key);
+            }
+        }
+    }
+
+    /**
+     * A weak reference to a canonical value that remembers its key, so that its entry can be removed.
+     *
+     * @param <K> the type of key
+     * @param <V> the type of value
+     */
+    private static final class WeakValue<K, V> extends WeakReference<V> {
+        private final K key;
+
+        WeakValue(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
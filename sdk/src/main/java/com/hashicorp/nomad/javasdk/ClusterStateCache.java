@@ -0,0 +1,403 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.AllocationListStub;
+import com.hashicorp.nomad.apimodel.Deployment;
+import com.hashicorp.nomad.apimodel.JobListStub;
+import com.hashicorp.nomad.apimodel.NodeListStub;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A local copy of the jobs, allocations, nodes and deployments in the cluster,
+ * kept up to date in the background with blocking queries on the list endpoints.
+ * <p>
+ * Each resource is listed once when the cache is started, after which a background thread per resource
+ * blocks on the list endpoint until something changes. Reads return immutable snapshots and never touch
+ * the network, so they can be made as often as needed.
+ * Listeners are told about every resource that is added, modified (its modify index changes) or deleted.
+ * <p>
+ * Repeated values in the cached resources, such as node and job IDs, are stored only once.
+ * <p>
+ * Jobs, allocations and deployments are cached for the API client's active namespace,
+ * and everything is cached for its active region.
+ */
+public final class ClusterStateCache implements Closeable {
+    static final long MIN_RETRY_MILLIS = 1000;
+    static final long MAX_RETRY_MILLIS = 30000;
+
+    /**
+     * Receives changes to the resources of one kind in a {@link ClusterStateCache}.
+     * <p>
+     * Listeners are called from the cache's background threads after the change is visible in the cache's snapshots,
+     * and should return quickly. Runtime exceptions thrown by listeners are ignored.
+     *
+     * @param <T> the type of resource
+     */
+    public interface Listener<T> {
+        /**
+         * Called when a resource appears in the cluster.
+         *
+         * @param resource the new resource
+         */
+        void added(T resource);
+
+        /**
+         * Called when a resource's modify index changes.
+         *
+         * @param previous the resource as it was
+         * @param current  the resource as it is now
+         */
+        void updated(T previous, T current);
+
+        /**
+         * Called when a resource disappears from the cluster.
+         *
+         * @param resource the resource as it was last seen
+         */
+        void deleted(T resource);
+    }
+
+    private final Store<JobListStub> jobs;
+    private final Store<AllocationListStub> allocations;
+    private final Store<NodeListStub> nodes;
+    private final Store<Deployment> deployments;
+    private final AllocationIndex<AllocationListStub> allocationIndex = AllocationIndex.forListStubs();
+    private final Canonicalizer canonicalizer = new Canonicalizer();
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean closed;
+    private boolean started;
+
+    /**
+     * Creates a cluster state cache. It is empty until it is started.
+     *
+     * @param apiClient the API client to read the cluster state with
+     */
+    public ClusterStateCache(final NomadApiClient apiClient) {
+        jobs = new Store<JobListStub>("jobs", ListDeltaTracker.forJobs()) {
+            @Override
+            ServerQueryResponse<List<JobListStub>> list(QueryOptions<List<JobListStub>> options)
+                    throws IOException, NomadException {
+                return apiClient.getJobsApi().list(options);
+            }
+        };
+        allocations = new Store<AllocationListStub>("allocations", ListDeltaTracker.forAllocations()) {
+            @Override
+            ServerQueryResponse<List<AllocationListStub>> list(QueryOptions<List<AllocationListStub>> options)
+                    throws IOException, NomadException {
+                return apiClient.getAllocationsApi().list(options);
+            }
+        };
+        // Registered first so the index is up to date by the time other listeners hear about a change
+        allocations.listeners.add(allocationIndex);
+        nodes = new Store<NodeListStub>("nodes", ListDeltaTracker.forNodes()) {
+            @Override
+            ServerQueryResponse<List<NodeListStub>> list(QueryOptions<List<NodeListStub>> options)
+                    throws IOException, NomadException {
+                return apiClient.getNodesApi().list(options);
+            }
+        };
+        deployments = new Store<Deployment>("deployments", ListDeltaTracker.forDeployments()) {
+            @Override
+            ServerQueryResponse<List<Deployment>> list(QueryOptions<List<Deployment>> options)
+                    throws IOException, NomadException {
+                return apiClient.getDeploymentsApi().list(options);
+            }
+        };
+    }
+
+    /**
+     * Lists each resource, then starts keeping the cache up to date in the background.
+     * <p>
+     * When this returns, the cache holds the cluster's state as of the initial lists.
+     *
+     * @throws IOException    if there is an HTTP or lower-level problem
+     * @throws NomadException if a response signals an error or cannot be deserialized
+     */
+    public synchronized void start() throws IOException, NomadException {
+        if (started)
+            throw new IllegalStateException("the cluster state cache has already been started");
+        if (closed)
+            throw new IllegalStateException("the cluster state cache has been closed");
+        started = true;
+
+        for (Store<?> store : stores())
+            store.poll();
+        for (Store<?> store : stores()) {
+            final Thread thread = new Thread(store, "nomad-cluster-state-" + store.name);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+    }
+
+    /**
+     * Stops keeping the cache up to date.
+     * <p>
+     * Background threads finish once their current blocking query returns; the snapshots stay readable.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        for (Thread thread : threads)
+            thread.interrupt();
+    }
+
+    /**
+     * Returns a snapshot of the cached jobs, keyed by ID.
+     */
+    public Map<String, JobListStub> getJobs() {
+        return jobs.tracker.getSnapshot();
+    }
+
+    /**
+     * Returns the cached job with the given ID, or null if there is none.
+     *
+     * @param jobId the ID of the job
+     */
+    @Nullable
+    public JobListStub getJob(String jobId) {
+        return jobs.tracker.getSnapshot().get(jobId);
+    }
+
+    /**
+     * Returns a snapshot of the cached allocations, keyed by ID.
+     */
+    public Map<String, AllocationListStub> getAllocations() {
+        return allocations.tracker.getSnapshot();
+    }
+
+    /**
+     * Returns the cached allocation with the given ID, or null if there is none.
+     *
+     * @param allocationId the ID of the allocation
+     */
+    @Nullable
+    public AllocationListStub getAllocation(String allocationId) {
+        return allocations.tracker.getSnapshot().get(allocationId);
+    }
+
+    /**
+     * Returns an index of the cached allocations by node, job, evaluation and client status.
+     * <p>
+     * The index is updated incrementally as allocations change, before allocation listeners are called.
+     */
+    public AllocationIndex<AllocationListStub> getAllocationIndex() {
+        return allocationIndex;
+    }
+
+    /**
+     * Returns a snapshot of the cached nodes, keyed by ID.
+     */
+    public Map<String, NodeListStub> getNodes() {
+        return nodes.tracker.getSnapshot();
+    }
+
+    /**
+     * Returns the cached node with the given ID, or null if there is none.
+     *
+     * @param nodeId the ID of the node
+     */
+    @Nullable
+    public NodeListStub getNode(String nodeId) {
+        return nodes.tracker.getSnapshot().get(nodeId);
+    }
+
+    /**
+     * Returns a snapshot of the cached deployments, keyed by ID.
+     */
+    public Map<String, Deployment> getDeployments() {
+        return deployments.tracker.getSnapshot();
+    }
+
+    /**
+     * Returns the cached deployment with the given ID, or null if there is none.
+     *
+     * @param deploymentId the ID of the deployment
+     */
+    @Nullable
+    public Deployment getDeployment(String deploymentId) {
+        return deployments.tracker.getSnapshot().get(deploymentId);
+    }
+
+    /**
+     * Adds a listener for changes to jobs.
+     *
+     * @param listener the listener to add
+     */
+    public void addJobListener(Listener<JobListStub> listener) {
+        jobs.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener for changes to jobs.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeJobListener(Listener<JobListStub> listener) {
+        jobs.listeners.remove(listener);
+    }
+
+    /**
+     * Adds a listener for changes to allocations.
+     *
+     * @param listener the listener to add
+     */
+    public void addAllocationListener(Listener<AllocationListStub> listener) {
+        allocations.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener for changes to allocations.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeAllocationListener(Listener<AllocationListStub> listener) {
+        allocations.listeners.remove(listener);
+    }
+
+    /**
+     * Adds a listener for changes to nodes.
+     *
+     * @param listener the listener to add
+     */
+    public void addNodeListener(Listener<NodeListStub> listener) {
+        nodes.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener for changes to nodes.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeNodeListener(Listener<NodeListStub> listener) {
+        nodes.listeners.remove(listener);
+    }
+
+    /**
+     * Adds a listener for changes to deployments.
+     *
+     * @param listener the listener to add
+     */
+    public void addDeploymentListener(Listener<Deployment> listener) {
+        deployments.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener for changes to deployments.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeDeploymentListener(Listener<Deployment> listener) {
+        deployments.listeners.remove(listener);
+    }
+
+    private List<Store<?>> stores() {
+        final List<Store<?>> stores = new ArrayList<>(4);
+        stores.add(jobs);
+        stores.add(allocations);
+        stores.add(nodes);
+        stores.add(deployments);
+        return stores;
+    }
+
+    /**
+     * Holds the cached resources of one kind, and keeps them up to date.
+     *
+     * @param <T> the type of resource
+     */
+    private abstract class Store<T> implements Runnable {
+        private final String name;
+        private final ListDeltaTracker<T> tracker;
+        private final List<Listener<T>> listeners = new CopyOnWriteArrayList<>();
+        // Zero until the resources have been listed, since indexes seen are never stored as zero
+        private long index;
+
+        Store(final String name, final ListDeltaTracker<T> tracker) {
+            this.name = name;
+            this.tracker = tracker;
+        }
+
+        abstract ServerQueryResponse<List<T>> list(QueryOptions<List<T>> options)
+                throws IOException, NomadException;
+
+        @Override
+        public void run() {
+            long retryMillis = MIN_RETRY_MILLIS;
+            while (!closed) {
+                try {
+                    poll();
+                    retryMillis = MIN_RETRY_MILLIS;
+                } catch (IOException | NomadException | RuntimeException e) {
+                    if (closed)
+                        return;
+                    try {
+                        Thread.sleep(retryMillis);
+                    } catch (InterruptedException interrupted) {
+                        return;
+                    }
+                    retryMillis = Math.min(retryMillis * 2, MAX_RETRY_MILLIS);
+                }
+            }
+        }
+
+        /**
+         * Lists the resources, blocking until they change if they have been listed before.
+         */
+        void poll() throws IOException, NomadException {
+            final QueryOptions<List<T>> options = new QueryOptions<List<T>>().setCanonicalizer(canonicalizer);
+            if (index != 0)
+                options.setIndex(index);
+            final ServerQueryResponse<List<T>> response = list(options);
+            final long newIndex = response.getIndexAsLong();
+            if (!ServerResponse.indexChanged(index, newIndex) || closed)
+                return;
+            index = ServerResponse.trackedIndex(newIndex);
+            apply(tracker.update(response));
+        }
+
+        private void apply(final ListDelta<T> delta) {
+            for (T resource : delta.getAdded())
+                notifyAdded(resource);
+            for (ListDelta.Modification<T> modification : delta.getModified())
+                notifyUpdated(modification.getPrevious(), modification.getCurrent());
+            for (T resource : delta.getRemoved())
+                notifyDeleted(resource);
+        }
+
+        private void notifyAdded(final T resource) {
+            for (Listener<T> listener : listeners) {
+                try {
+                    listener.added(resource);
+                } catch (RuntimeException ignored) {
+                    // A misbehaving listener mustn't stop the cache from being kept up to date
+                }
+            }
+        }
+
+        private void notifyUpdated(final T previous, final T current) {
+            for (Listener<T> listener : listeners) {
+                try {
+                    listener.updated(previous, current);
+                } catch (RuntimeException ignored) {
+                    // A misbehaving listener mustn't stop the cache from being kept up to date
+                }
+            }
+        }
+
+        private void notifyDeleted(final T resource) {
+            for (Listener<T> listener : listeners) {
+                try {
+                    listener.deleted(resource);
+                } catch (RuntimeException ignored) {
+                    // A misbehaving listener mustn't stop the cache from being kept up to date
+                }
+            }
+        }
+    }
+}
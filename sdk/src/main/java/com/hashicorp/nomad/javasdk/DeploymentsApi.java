@@ -9,6 +9,7 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * API for querying for information about deployments,
@@ -89,6 +90,55 @@ public class DeploymentsApi extends ApiBase {
                 NomadJson.parserForSortedListOf(Deployment.class, NEWEST_TO_OLDEST_DEPLOYMENTS));
     }
 
+    /**
+     * Lists deployments in the active region, handing each one to a consumer as soon as it has been read
+     * from the response, so the whole list is never held in memory.
+     * <p>
+     * They are passed to the consumer in the order the server lists them,
+     * which is not necessarily the order of {@link #list()}.
+     * Runtime exceptions thrown by the consumer abort the request and are rethrown.
+     * Pagination and filtering options can be used to bound the work done per request.
+     *
+     * @param consumer receives each of the deployments
+     * @param options  options controlling how the request is performed
+     * @return a response whose value is the number of deployments passed to the consumer
+     * @throws IOException    if there is an HTTP or lower-level problem
+     * @throws NomadException if the response signals an error or cannot be deserialized
+     * @see <a href="https://www.nomadproject.io/api/deployments.html#list-deployments">{@code GET /v1/deployments}</a>
+     */
+    public ServerQueryResponse<Integer> listEach(
+            final Consumer<? super Deployment> consumer,
+            @Nullable final QueryOptions<Integer> options
+    ) throws IOException, NomadException {
+        return executeServerQuery("/v1/deployments", options, new ListElementParser<>(Deployment.class, consumer));
+    }
+
+    /**
+     * Lists deployments in the active region, fetching them from the server a page at a time
+     * as they are iterated over.
+     * <p>
+     * The options' region, namespace, auth token, stale setting and {@link QueryOptions#setFilter filter}
+     * apply to every page.
+     * Each page is sorted from newest to oldest, but pages come in the server's order.
+     *
+     * @param perPage the maximum number of deployments to fetch at once
+     * @param options options controlling how the requests are performed
+     * @see <a href="https://www.nomadproject.io/api/deployments.html#list-deployments">{@code GET /v1/deployments}</a>
+     */
+    public PagedQuery<Deployment> listPaged(
+            final int perPage,
+            @Nullable final QueryOptions<List<Deployment>> options
+    ) {
+        return new PagedQuery<>(new PagedQuery.Lister<Deployment>() {
+            @Override
+            public ServerQueryResponse<List<Deployment>> list(
+                    QueryOptions<List<Deployment>> pageOptions
+            ) throws IOException, NomadException {
+                return DeploymentsApi.this.list(pageOptions);
+            }
+        }, perPage, options);
+    }
+
 
     /**
      * Queries a deployment in the active region.
@@ -339,7 +389,7 @@ public class DeploymentsApi extends ApiBase {
     /**
      * Class matching the JSON request entity for allocation health setting requests.
      */
-    private static final class DeploymentAllocHealthRequest {
+    static final class DeploymentAllocHealthRequest {
         @JsonProperty("DeploymentID")
         public final String deploymentId;  // Checkstyle suppress VisibilityModifier
         @JsonProperty("HealthyAllocationIDs")
@@ -347,7 +397,7 @@ public class DeploymentsApi extends ApiBase {
         @JsonProperty("UnHealthyAllocationIDs")
         public final List<String> unHealthyAllocationIds;  // Checkstyle suppress VisibilityModifier
 
-        private DeploymentAllocHealthRequest(
+        DeploymentAllocHealthRequest(
                 String deploymentId, List<String> healthyAllocationIds, List<String> unHealthyAllocationIds) {
             this.deploymentId = deploymentId;
             this.healthyAllocationIds = healthyAllocationIds;
@@ -358,13 +408,13 @@ public class DeploymentsApi extends ApiBase {
     /**
      * Class matching the JSON request entity for promotion requests.
      */
-    private static final class DeploymentPromoteRequest {
+    static final class DeploymentPromoteRequest {
         @JsonProperty("DeploymentID")
         public final String deploymentId;  // Checkstyle suppress VisibilityModifier
         public final boolean all;  // Checkstyle suppress VisibilityModifier
         public final List<String> groups;  // Checkstyle suppress VisibilityModifier
 
-        private DeploymentPromoteRequest(String deploymentId, boolean all, List<String> groups) {
+        DeploymentPromoteRequest(String deploymentId, boolean all, List<String> groups) {
             this.deploymentId = deploymentId;
             this.all = all;
             this.groups = groups;
@@ -374,12 +424,12 @@ public class DeploymentsApi extends ApiBase {
     /**
      * Class matching the JSON request entity for pause requests.
      */
-    private static final class DeploymentPauseRequest {
+    static final class DeploymentPauseRequest {
         @JsonProperty("DeploymentID")
         public final String deploymentId;  // Checkstyle suppress VisibilityModifier
         public final boolean pause;  // Checkstyle suppress VisibilityModifier
 
-        private DeploymentPauseRequest(String deploymentId, boolean pause) {
+        DeploymentPauseRequest(String deploymentId, boolean pause) {
             this.deploymentId = deploymentId;
             this.pause = pause;
         }
@@ -389,11 +439,11 @@ public class DeploymentsApi extends ApiBase {
     /**
      * Class matching the JSON request entity for requests expecting just a deployment ID to be posted.
      */
-    private static final class DeploymentSpecificRequest {
+    static final class DeploymentSpecificRequest {
         @JsonProperty("DeploymentID")
         public final String deploymentId;  // Checkstyle suppress VisibilityModifier
 
-        private DeploymentSpecificRequest(String deploymentId) {
+        DeploymentSpecificRequest(String deploymentId) {
             this.deploymentId = deploymentId;
         }
     }
@@ -2,6 +2,8 @@ package com.hashicorp.nomad.javasdk;
 
 import org.apache.http.HttpResponse;
 
+import javax.annotation.Nullable;
+
 /**
  * Response from a request to a Nomad API that results in a new evaluation.
  *
@@ -13,10 +15,11 @@ public class EvaluationResponse extends ServerResponse<String> {
      * Creates a new EvaluationResponse.
      *
      * @param httpResponse the underlying HTTP response
-     * @param rawEntity    the unparsed HTTP response entity (body)
+     * @param rawEntity    the unparsed HTTP response entity (body),
+     *                     or null if the client is not configured to retain raw entities
      * @param evaluationId the evaluation ID parsed from the response
      */
-    public EvaluationResponse(HttpResponse httpResponse, String rawEntity, String evaluationId) {
+    public EvaluationResponse(HttpResponse httpResponse, @Nullable String rawEntity, String evaluationId) {
         super(httpResponse, rawEntity, evaluationId);
     }
 
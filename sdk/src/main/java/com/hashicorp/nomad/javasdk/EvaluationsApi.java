@@ -7,6 +7,7 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static com.hashicorp.nomad.javasdk.NomadPredicates.evaluationHasCompleted;
 import static com.hashicorp.nomad.javasdk.NomadPredicates.responseValue;
@@ -116,6 +117,55 @@ public class EvaluationsApi extends ApiBase {
                 NomadJson.parserForSortedListOf(Evaluation.class, NEWEST_TO_OLDEST_EVALUATIONS));
     }
 
+    /**
+     * Lists evaluations in the active region, handing each one to a consumer as soon as it has been read
+     * from the response, so the whole list is never held in memory.
+     * <p>
+     * They are passed to the consumer in the order the server lists them,
+     * which is not necessarily the order of {@link #list()}.
+     * Runtime exceptions thrown by the consumer abort the request and are rethrown.
+     * Pagination and filtering options can be used to bound the work done per request.
+     *
+     * @param consumer receives each of the evaluations
+     * @param options  options controlling how the request is performed
+     * @return a response whose value is the number of evaluations passed to the consumer
+     * @throws IOException    if there is an HTTP or lower-level problem
+     * @throws NomadException if the response signals an error or cannot be deserialized
+     * @see <a href="https://www.nomadproject.io/docs/http/evals.html">{@code GET /v1/evaluations}</a>
+     */
+    public ServerQueryResponse<Integer> listEach(
+            final Consumer<? super Evaluation> consumer,
+            @Nullable final QueryOptions<Integer> options
+    ) throws IOException, NomadException {
+        return executeServerQuery("/v1/evaluations", options, new ListElementParser<>(Evaluation.class, consumer));
+    }
+
+    /**
+     * Lists evaluations in the active region, fetching them from the server a page at a time
+     * as they are iterated over.
+     * <p>
+     * The options' region, namespace, auth token, stale setting and {@link QueryOptions#setFilter filter}
+     * apply to every page.
+     * Each page is sorted from newest to oldest, but pages come in the server's order.
+     *
+     * @param perPage the maximum number of evaluations to fetch at once
+     * @param options options controlling how the requests are performed
+     * @see <a href="https://www.nomadproject.io/docs/http/evals.html">{@code GET /v1/evaluations}</a>
+     */
+    public PagedQuery<Evaluation> listPaged(
+            final int perPage,
+            @Nullable final QueryOptions<List<Evaluation>> options
+    ) {
+        return new PagedQuery<>(new PagedQuery.Lister<Evaluation>() {
+            @Override
+            public ServerQueryResponse<List<Evaluation>> list(
+                    QueryOptions<List<Evaluation>> pageOptions
+            ) throws IOException, NomadException {
+                return EvaluationsApi.this.list(pageOptions);
+            }
+        }, perPage, options);
+    }
+
     /**
      * Lists allocations created or modified an evaluation in the active region.
      *
@@ -0,0 +1,235 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.hashicorp.nomad.apimodel.Allocation;
+import com.hashicorp.nomad.apimodel.Deployment;
+import com.hashicorp.nomad.apimodel.Evaluation;
+import com.hashicorp.nomad.apimodel.Job;
+import com.hashicorp.nomad.apimodel.Node;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents an event from the cluster's event stream.
+ * <p>
+ * The payload is kept as a JSON tree and only deserialized when one of the typed accessors is called,
+ * so events that aren't interesting cost little more than their parsing.
+ *
+ * @see EventsApi
+ */
+public class Event {
+    private String topic;
+    private String type;
+    private String key;
+    private String namespace;
+    private List<String> filterKeys;
+    private BigInteger index;
+    private Map<String, JsonNode> payload;
+
+    /**
+     * Gets the topic of the event, e.g. "Job".
+     */
+    @JsonProperty("Topic")
+    public String getTopic() {
+        return topic;
+    }
+
+    /**
+     * Sets the topic of the event.
+     *
+     * @param topic the topic of the event
+     */
+    public Event setTopic(String topic) {
+        this.topic = topic;
+        return this;
+    }
+
+    /**
+     * Gets the type of the event, e.g. "JobRegistered".
+     */
+    @JsonProperty("Type")
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Sets the type of the event.
+     *
+     * @param type the type of the event
+     */
+    public Event setType(String type) {
+        this.type = type;
+        return this;
+    }
+
+    /**
+     * Gets the key of the event, which is usually the ID of the resource it is about.
+     */
+    @JsonProperty("Key")
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Sets the key of the event.
+     *
+     * @param key the key of the event
+     */
+    public Event setKey(String key) {
+        this.key = key;
+        return this;
+    }
+
+    /**
+     * Gets the namespace of the resource the event is about.
+     */
+    @JsonProperty("Namespace")
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Sets the namespace of the resource the event is about.
+     *
+     * @param namespace the namespace
+     */
+    public Event setNamespace(String namespace) {
+        this.namespace = namespace;
+        return this;
+    }
+
+    /**
+     * Gets the additional keys the event can be filtered by, e.g. the job ID of an allocation event.
+     */
+    @JsonProperty("FilterKeys")
+    public List<String> getFilterKeys() {
+        return filterKeys;
+    }
+
+    /**
+     * Sets the additional keys the event can be filtered by.
+     *
+     * @param filterKeys the filter keys
+     */
+    public Event setFilterKeys(List<String> filterKeys) {
+        this.filterKeys = filterKeys;
+        return this;
+    }
+
+    /**
+     * Gets the Raft index at which the event happened.
+     */
+    @JsonProperty("Index")
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the Raft index at which the event happened.
+     *
+     * @param index the index
+     */
+    public Event setIndex(BigInteger index) {
+        this.index = index;
+        return this;
+    }
+
+    /**
+     * Gets the raw payload of the event, keyed by the kind of resource it holds, e.g. "Job".
+     */
+    @JsonProperty("Payload")
+    public Map<String, JsonNode> getPayload() {
+        return payload;
+    }
+
+    /**
+     * Sets the raw payload of the event.
+     *
+     * @param payload the payload
+     */
+    public Event setPayload(Map<String, JsonNode> payload) {
+        this.payload = payload;
+        return this;
+    }
+
+    /**
+     * Returns the job in the payload of a "Job" event, or null if there is none.
+     *
+     * @throws ResponseParsingException if the payload cannot be deserialized
+     */
+    @Nullable
+    public Job getJob() throws ResponseParsingException {
+        return getPayload("Job", Job.class);
+    }
+
+    /**
+     * Returns the allocation in the payload of an "Allocation" event, or null if there is none.
+     *
+     * @throws ResponseParsingException if the payload cannot be deserialized
+     */
+    @Nullable
+    public Allocation getAllocation() throws ResponseParsingException {
+        return getPayload("Allocation", Allocation.class);
+    }
+
+    /**
+     * Returns the deployment in the payload of a "Deployment" event, or null if there is none.
+     *
+     * @throws ResponseParsingException if the payload cannot be deserialized
+     */
+    @Nullable
+    public Deployment getDeployment() throws ResponseParsingException {
+        return getPayload("Deployment", Deployment.class);
+    }
+
+    /**
+     * Returns the evaluation in the payload of an "Evaluation" event, or null if there is none.
+     *
+     * @throws ResponseParsingException if the payload cannot be deserialized
+     */
+    @Nullable
+    public Evaluation getEvaluation() throws ResponseParsingException {
+        return getPayload("Evaluation", Evaluation.class);
+    }
+
+    /**
+     * Returns the node in the payload of a "Node" event, or null if there is none.
+     *
+     * @throws ResponseParsingException if the payload cannot be deserialized
+     */
+    @Nullable
+    public Node getNode() throws ResponseParsingException {
+        return getPayload("Node", Node.class);
+    }
+
+    /**
+     * Deserializes one of the resources in the payload.
+     *
+     * @param name  the name of the resource in the payload, e.g. "Job"
+     * @param clazz the class to deserialize the resource as
+     * @param <T>   the type of resource
+     * @return the resource, or null if the payload doesn't hold it
+     * @throws ResponseParsingException if the payload cannot be deserialized
+     */
+    @Nullable
+    public <T> T getPayload(String name, Class<T> clazz) throws ResponseParsingException {
+        final JsonNode node = payload == null ? null : payload.get(name);
+        if (node == null || node.isNull())
+            return null;
+        try {
+            return NomadJson.readerFor(clazz).readValue(node);
+        } catch (IOException e) {
+            throw new ResponseParsingException("unable to parse " + name + " in event payload", node.toString(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return NomadJson.serialize(this);
+    }
+}
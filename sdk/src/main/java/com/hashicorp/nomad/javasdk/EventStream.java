@@ -0,0 +1,268 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.http.MalformedChunkCodingException;
+import org.apache.http.client.methods.CloseableHttpResponse;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A stream of {@link Event}s from the cluster's event stream, as returned by {@link EventsApi#stream}.
+ * <p>
+ * The newline-delimited JSON is parsed incrementally as it arrives. When the connection is lost or the agent
+ * ends the response, the stream reconnects and resumes from the index of the last event it returned,
+ * so events are neither missed nor repeated (as long as the servers still buffer them).
+ * If reconnecting fails, the error is thrown to the caller and the stream tries again on the next call.
+ * <p>
+ * Reconnections that don't yield any new events are spaced out with an exponential backoff, so that an agent
+ * that keeps ending the response straight away isn't hammered with requests. If the same part of the stream
+ * repeatedly fails to parse, a {@link ResponseParsingException} is thrown rather than retrying forever.
+ * <p>
+ * It's important to {@link #close} the stream when it is no longer needed,
+ * to avoid leaking connections to the remote Nomad agent.
+ */
+public class EventStream implements Closeable, AutoCloseable {
+    static final long MIN_RECONNECT_DELAY_MILLIS = 100;
+    static final long MAX_RECONNECT_DELAY_MILLIS = 30000;
+    static final int MAX_PARSE_FAILURES = 3;
+    private static final ObjectReader BATCH_READER = NomadJson.readerFor(EventBatch.class);
+
+    /**
+     * Opens a connection to the event stream.
+     */
+    interface Connector {
+        CloseableHttpResponse open(@Nullable BigInteger index) throws IOException, NomadException;
+    }
+
+    private final Connector connector;
+    private final Deque<Event> pending = new ArrayDeque<>();
+    @Nullable
+    private CloseableHttpResponse response;
+    @Nullable
+    private JsonParser jsonParser;
+    @Nullable
+    private final BigInteger startIndex;
+    @Nullable
+    private BigInteger lastIndex;
+    private volatile boolean closed;
+    private final Object closeSignal = new Object();
+    // Zero until a reconnection fails to yield new events
+    private long reconnectDelayMillis;
+    @Nullable
+    private BigInteger parseFailureIndex;
+    private int parseFailures;
+
+    EventStream(final Connector connector, @Nullable final BigInteger startIndex) throws IOException, NomadException {
+        this.connector = connector;
+        this.startIndex = startIndex;
+        connect();
+    }
+
+    /**
+     * Returns true iff there is another event in the stream.
+     * <p>
+     * This method will block until the next event has been received, reconnecting if needed,
+     * and only returns false once the stream has been closed.
+     *
+     * @throws IOException    if the stream could not be reconnected
+     * @throws NomadException if reconnecting was refused by the agent,
+     *                        or the same part of the stream kept failing to parse
+     */
+    public boolean hasNextEvent() throws IOException, NomadException {
+        while (pending.isEmpty()) {
+            if (closed)
+                return false;
+            if (jsonParser == null && !reconnect())
+                return false;
+            try {
+                if (jsonParser.nextToken() == null) {
+                    disconnect();
+                    continue;
+                }
+                final EventBatch batch = BATCH_READER.readValue(jsonParser);
+                if (batch.events != null) {
+                    // When resuming, the agent replays the events at the index we resume from
+                    final BigInteger seen = lastOrQueuedIndex();
+                    for (Event event : batch.events) {
+                        if (seen == null || event.getIndex() == null || event.getIndex().compareTo(seen) > 0)
+                            pending.add(event);
+                    }
+                }
+                if (!pending.isEmpty()) {
+                    reconnectDelayMillis = 0;
+                    parseFailures = 0;
+                }
+            } catch (JsonProcessingException e) {
+                disconnect();
+                if (closed)
+                    return false;
+                parseFailed(e);
+            } catch (IOException e) {
+                disconnect();
+                if (closed)
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the next event in the stream, blocking until it has been received.
+     *
+     * @throws IOException    if the stream could not be reconnected
+     * @throws NomadException if reconnecting was refused by the agent,
+     *                        or the same part of the stream kept failing to parse
+     * @throws NoSuchElementException if the stream has been closed
+     */
+    public Event nextEvent() throws IOException, NomadException {
+        if (!hasNextEvent())
+            throw new NoSuchElementException("the event stream has been closed");
+        final Event event = pending.remove();
+        if (event.getIndex() != null)
+            lastIndex = event.getIndex();
+        return event;
+    }
+
+    /**
+     * Returns the index of the last event returned by {@link #nextEvent()},
+     * which is where the stream resumes from when it reconnects.
+     */
+    @Nullable
+    public BigInteger getLastIndex() {
+        return lastIndex;
+    }
+
+    /**
+     * Closes the stream and frees the underlying HTTP connection.
+     *
+     * @throws IOException if an error is encountered while trying to close the stream.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        synchronized (closeSignal) {
+            closeSignal.notifyAll();
+        }
+        final CloseableHttpResponse current = response;
+        if (current != null)
+            closeResponse(current);
+    }
+
+    @Nullable
+    private BigInteger lastOrQueuedIndex() {
+        final Event last = pending.peekLast();
+        return last != null && last.getIndex() != null ? last.getIndex() : lastIndex;
+    }
+
+    @Nullable
+    private BigInteger resumeIndex() {
+        return lastIndex != null ? lastIndex : startIndex;
+    }
+
+    /**
+     * Counts a failure to parse the stream, throwing once the same part of it has failed too many times in a row.
+     */
+    private void parseFailed(final JsonProcessingException e) throws ResponseParsingException {
+        final BigInteger index = resumeIndex();
+        if (parseFailures > 0 && Objects.equals(index, parseFailureIndex)) {
+            parseFailures++;
+        } else {
+            parseFailureIndex = index;
+            parseFailures = 1;
+        }
+        if (parseFailures >= MAX_PARSE_FAILURES) {
+            parseFailures = 0;
+            throw new ResponseParsingException(
+                    "Unable to parse event stream after index " + index + ": " + e.getOriginalMessage(), null, e);
+        }
+    }
+
+    /**
+     * Connects again, after a delay if the previous connection didn't yield any new events.
+     *
+     * @return false if the stream was closed while waiting to reconnect
+     */
+    private boolean reconnect() throws IOException, NomadException {
+        final long delayMillis = reconnectDelayMillis;
+        reconnectDelayMillis = delayMillis == 0
+                ? MIN_RECONNECT_DELAY_MILLIS : Math.min(delayMillis * 2, MAX_RECONNECT_DELAY_MILLIS);
+        if (delayMillis > 0) {
+            final long deadline = System.currentTimeMillis() + delayMillis;
+            synchronized (closeSignal) {
+                long remaining = delayMillis;
+                while (remaining > 0 && !closed) {
+                    try {
+                        closeSignal.wait(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("interrupted while waiting to reconnect to the event stream");
+                    }
+                    remaining = deadline - System.currentTimeMillis();
+                }
+            }
+            if (closed)
+                return false;
+        }
+        connect();
+        return true;
+    }
+
+    private void connect() throws IOException, NomadException {
+        final BigInteger index = resumeIndex();
+        final CloseableHttpResponse newResponse = connector.open(index);
+        try {
+            jsonParser = NomadJson.OBJECT_MAPPER.getFactory().createParser(newResponse.getEntity().getContent());
+        } catch (IOException | RuntimeException e) {
+            closeResponse(newResponse);
+            throw e;
+        }
+        response = newResponse;
+        if (closed)
+            closeResponse(newResponse);
+    }
+
+    private void disconnect() {
+        final CloseableHttpResponse current = response;
+        response = null;
+        jsonParser = null;
+        if (current != null)
+            closeResponse(current);
+    }
+
+    private static void closeResponse(final CloseableHttpResponse response) {
+        try {
+            // We need to first close the response directly rather than the parser or the response entity's
+            // InputStream in order to avoid a long delay.
+            response.close();
+        } catch (MalformedChunkCodingException e) {
+            // that's because we forced the stream closed
+        } catch (IOException e) {
+            // the connection is being thrown away anyway
+        }
+    }
+
+    /**
+     * A line of the event stream, which is either a batch of events or an empty heartbeat.
+     */
+    private static final class EventBatch {
+        private final List<Event> events;
+
+        @JsonCreator
+        EventBatch(@JsonProperty("Events") List<Event> events) {
+            this.events = events;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.hashicorp.nomad.javasdk;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.utils.URIBuilder;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * API for streaming events from the cluster,
+ * exposing the <a href="https://www.nomadproject.io/api-docs/events">events</a> functionality of the
+ * <a href="https://www.nomadproject.io/docs/http/index.html">Nomad HTTP API</a>.
+ * <p>
+ * A single event stream can replace many blocking queries: it delivers every change to the subscribed topics
+ * over one connection.
+ */
+public class EventsApi extends ApiBase {
+
+    EventsApi(final NomadApiClient apiClient) {
+        super(apiClient);
+    }
+
+    /**
+     * Streams events about the given topics in the active namespace, starting with new events.
+     * <p>
+     * Note that unless there is an error, the streaming connection will remain open until the
+     * stream's {@link EventStream#close()} method is invoked.
+     *
+     * @param topics the topics to subscribe to, either as a bare topic such as "Job", which subscribes to all its
+     *               events, or as "Topic:Key" to subscribe to the events with a particular key, e.g. "Job:example".
+     *               "*" subscribes to every topic.
+     * @throws IOException    if there is an HTTP or lower-level problem
+     * @throws NomadException if the response signals an error
+     * @see <a href="https://www.nomadproject.io/api-docs/events#event-stream">{@code GET /v1/event/stream}</a>
+     */
+    public EventStream stream(final String... topics) throws IOException, NomadException {
+        return stream(Arrays.asList(topics), null);
+    }
+
+    /**
+     * Streams events about the given topics.
+     * <p>
+     * Note that unless there is an error, the streaming connection will remain open until the
+     * stream's {@link EventStream#close()} method is invoked.
+     *
+     * @param topics  the topics to subscribe to, either as a bare topic such as "Job", which subscribes to all its
+     *                events, or as "Topic:Key" to subscribe to the events with a particular key, e.g. "Job:example".
+     *                "*" subscribes to every topic.
+     * @param options options controlling how the request is performed, such as the namespace to stream events
+     *                from and the index to start streaming at
+     * @throws IOException    if there is an HTTP or lower-level problem
+     * @throws NomadException if the response signals an error
+     * @see <a href="https://www.nomadproject.io/api-docs/events#event-stream">{@code GET /v1/event/stream}</a>
+     */
+    public EventStream stream(
+            final Collection<String> topics,
+            @Nullable final QueryOptions<List<Event>> options
+    ) throws IOException, NomadException {
+        final List<String> topicParameters = new ArrayList<>(topics.size());
+        for (String topic : topics)
+            topicParameters.add(topic.indexOf(':') < 0 ? topic + ":*" : topic);
+
+        return new EventStream(new EventStream.Connector() {
+            @Override
+            public CloseableHttpResponse open(@Nullable BigInteger index) throws IOException, NomadException {
+                final URIBuilder uri = uri("/v1/event/stream");
+                for (String topic : topicParameters)
+                    uri.addParameter("topic", topic);
+                if (index != null)
+                    uri.addParameter("index", index.toString());
+                return apiClient.executeStream(get(uri), options);
+            }
+        }, options == null ? null : options.getIndex());
+    }
+}
@@ -1,6 +1,7 @@
 package com.hashicorp.nomad.javasdk;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.hashicorp.nomad.apimodel.StreamFrame;
 import org.apache.http.MalformedChunkCodingException;
 import org.apache.http.client.methods.CloseableHttpResponse;
@@ -15,6 +16,8 @@ import java.io.IOException;
  * to avoid leaking connections to the remote Nomad agent.
  */
 public class FramedStream implements Closeable, AutoCloseable {
+    private static final ObjectReader FRAME_READER = NomadJson.readerFor(StreamFrame.class);
+
     private final CloseableHttpResponse response;
     private final JsonParser jsonParser;
 
@@ -45,7 +48,7 @@ public class FramedStream implements Closeable, AutoCloseable {
      *                     or the end of the stream has been reached.
      */
     public StreamFrame nextFrame() throws IOException {
-        return NomadJson.OBJECT_MAPPER.readValue(jsonParser, StreamFrame.class);
+        return FRAME_READER.readValue(jsonParser);
     }
 
     /**
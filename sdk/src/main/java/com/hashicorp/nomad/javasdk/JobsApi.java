@@ -12,15 +12,14 @@ import com.hashicorp.nomad.apimodel.JobRegisterResponse;
 import com.hashicorp.nomad.apimodel.JobScaleStatusResponse;
 import com.hashicorp.nomad.apimodel.JobSummary;
 import com.hashicorp.nomad.apimodel.JobValidateResponse;
-import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.RequestBuilder;
 
-import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.HashMap;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.Map;
 
 /**
@@ -220,6 +219,31 @@ public class JobsApi extends ApiBase {
                 NomadJson.parserFor(JobDispatchResponse.class));
     }
 
+    /**
+     * Dispatches a new instance of a parameterized job in the active region, using a prepared request.
+     *
+     * @param request a request prepared with {@link PreparedJobRequest#dispatch(String)}
+     * @param meta    metadata for the instantiated job
+     * @param payload payload for the instantiated job
+     * @param options options controlling how the request is performed
+     * @throws IOException    if there is an HTTP or lower-level problem
+     * @throws NomadException if the response signals an error or cannot be deserialized
+     * @see <a href="https://www.nomadproject.io/api/jobs.html#dispatch-job">{@code PUT /v1/job/<ID>/dispatch}</a>
+     */
+    public ServerResponse<JobDispatchResponse> dispatch(
+            final PreparedJobRequest request,
+            @Nullable final Map<String, String> meta,
+            @Nullable final byte[] payload,
+            @Nullable WriteOptions options
+    ) throws IOException, NomadException {
+        if (!request.isDispatch())
+            throw new IllegalArgumentException("not a prepared dispatch request");
+        return executeServerAction(
+                putSerialized("/v1/job/" + request.getJobId() + "/dispatch",
+                        request.render(meta, payload, null), options),
+                NomadJson.parserFor(JobDispatchResponse.class));
+    }
+
     /**
      * Lists the evaluations belonging to a job in the active region.
      *
@@ -411,6 +435,53 @@ public class JobsApi extends ApiBase {
                 NomadJson.parserForListOf(JobListStub.class));
     }
 
+    /**
+     * Lists jobs in the active region, handing each one to a consumer as soon as it has been read
+     * from the response, so the whole list is never held in memory.
+     * <p>
+     * They are passed to the consumer in the order the server lists them.
+     * Runtime exceptions thrown by the consumer abort the request and are rethrown.
+     * Pagination and filtering options can be used to bound the work done per request.
+     *
+     * @param consumer receives each of the jobs
+     * @param options  options controlling how the request is performed
+     * @return a response whose value is the number of jobs passed to the consumer
+     * @throws IOException    if there is an HTTP or lower-level problem
+     * @throws NomadException if the response signals an error or cannot be deserialized
+     * @see <a href="https://www.nomadproject.io/docs/http/jobs.html">{@code GET /v1/jobs}</a>
+     */
+    public ServerQueryResponse<Integer> listEach(
+            final Consumer<? super JobListStub> consumer,
+            @Nullable final QueryOptions<Integer> options
+    ) throws IOException, NomadException {
+        return executeServerQuery("/v1/jobs", options, new ListElementParser<>(JobListStub.class, consumer));
+    }
+
+    /**
+     * Lists jobs in the active region, fetching them from the server a page at a time
+     * as they are iterated over.
+     * <p>
+     * The options' region, namespace, auth token, stale setting and {@link QueryOptions#setFilter filter}
+     * apply to every page.
+     *
+     * @param perPage the maximum number of jobs to fetch at once
+     * @param options options controlling how the requests are performed
+     * @see <a href="https://www.nomadproject.io/docs/http/jobs.html">{@code GET /v1/jobs}</a>
+     */
+    public PagedQuery<JobListStub> listPaged(
+            final int perPage,
+            @Nullable final QueryOptions<List<JobListStub>> options
+    ) {
+        return new PagedQuery<>(new PagedQuery.Lister<JobListStub>() {
+            @Override
+            public ServerQueryResponse<List<JobListStub>> list(
+                    QueryOptions<List<JobListStub>> pageOptions
+            ) throws IOException, NomadException {
+                return JobsApi.this.list(pageOptions);
+            }
+        }, perPage, options);
+    }
+
     /**
      * Forces a new instance of a periodic job in the active region.
      * <p>
@@ -591,6 +662,27 @@ public class JobsApi extends ApiBase {
                 put("/v1/jobs", new JobRegistrationRequest(job, modifyIndex, policyOverride), options));
     }
 
+    /**
+     * Registers or updates a job in the active region, using a prepared request.
+     *
+     * @param request a request prepared with {@link PreparedJobRequest#register(Job, BigInteger, boolean)}
+     * @param meta    metadata for the job, or null to keep the metadata the job was prepared with
+     * @param counts  counts by task group name, for the task groups whose prepared count should be replaced
+     * @param options options controlling how the request is performed
+     * @throws IOException    if there is an HTTP or lower-level problem
+     * @throws NomadException if the response signals an error or cannot be deserialized
+     * @see <a href="https://www.nomadproject.io/docs/http/jobs.html#put-post">{@code PUT /v1/jobs}</a>
+     */
+    public EvaluationResponse register(PreparedJobRequest request,
+                                       @Nullable Map<String, String> meta,
+                                       @Nullable Map<String, Integer> counts,
+                                       @Nullable WriteOptions options) throws IOException, NomadException {
+        if (request.isDispatch())
+            throw new IllegalArgumentException("not a prepared registration request");
+        return executeEvaluationCreatingRequest(
+                putSerialized("/v1/jobs", request.render(meta, null, counts), options));
+    }
+
     /**
      * Reverts to a prior version of a job.
      *
@@ -795,21 +887,7 @@ public class JobsApi extends ApiBase {
 
     private EvaluationResponse executeEvaluationCreatingRequest(RequestBuilder request)
             throws IOException, NomadException {
-        return apiClient.execute(request, new ResponseAdapter<String, EvaluationResponse>(new ValueExtractor<String>() {
-            private final JsonParser<EvalIdResponse> evalIdParser = NomadJson.parserFor(EvalIdResponse.class);
-
-            @Override
-            public String extractValue(String json) throws ResponseParsingException {
-                return evalIdParser.extractValue(json).evalID;
-            }
-        }) {
-            @Override
-            protected EvaluationResponse buildResponse(HttpResponse httpResponse,
-                                                       String rawEntity,
-                                                       @Nonnull String value) {
-                return new EvaluationResponse(httpResponse, rawEntity, value);
-            }
-        }, null);
+        return apiClient.execute(request, new EvaluationResponseAdapter(), null);
     }
 
     /**
@@ -985,7 +1063,7 @@ public class JobsApi extends ApiBase {
     /**
      * Class matching the JSON request entity for job dispatch requests.
      */
-    private static class JobDispatchRequest {
+    static class JobDispatchRequest {
         @JsonProperty("JobID")
         public final String jobId; // Checkstyle suppress VisibilityModifier
         public final Map<String, String> meta; // Checkstyle suppress VisibilityModifier
@@ -1001,7 +1079,7 @@ public class JobsApi extends ApiBase {
     /**
      * Class matching the JSON request entity for job plan requests.
      */
-    private static class JobPlanRequest {
+    static class JobPlanRequest {
         private Job job;
         private final boolean diff;
         private final boolean policyOverride;
@@ -1028,7 +1106,7 @@ public class JobsApi extends ApiBase {
     /**
      * Class matching the JSON request entity for job registration requests.
      */
-    private static class JobRegistrationRequest {
+    static class JobRegistrationRequest {
         public final Job job; // Checkstyle suppress VisibilityModifier
         public final Boolean enforceIndex; // Checkstyle suppress VisibilityModifier
         public final BigInteger jobModifyIndex; // Checkstyle suppress VisibilityModifier
@@ -1045,7 +1123,7 @@ public class JobsApi extends ApiBase {
     /**
      * Class matching the JSON request entity for job revert requests.
      */
-    private static class JobRevertRequest {
+    static class JobRevertRequest {
         @JsonProperty("JobID")
         public final String jobId; // Checkstyle suppress VisibilityModifier
         public final BigInteger jobVersion; // Checkstyle suppress VisibilityModifier
@@ -1061,7 +1139,7 @@ public class JobsApi extends ApiBase {
     /**
      * Class matching the JSON request entity for job revert requests.
      */
-    private static class JobStabilityRequest {
+    static class JobStabilityRequest {
         @JsonProperty("JobID")
         public final String jobId; // Checkstyle suppress VisibilityModifier
         public final BigInteger jobVersion; // Checkstyle suppress VisibilityModifier
@@ -1077,7 +1155,7 @@ public class JobsApi extends ApiBase {
     /**
      * Class matching the JSON request entity for job validation requests.
      */
-    private static class JobValidationRequest {
+    static class JobValidationRequest {
         public final Job job; // Checkstyle suppress VisibilityModifier
 
         JobValidationRequest(Job job) {
@@ -1085,11 +1163,4 @@ public class JobsApi extends ApiBase {
         }
     }
 
-    /**
-     * Class matching the JSON that wraps evaluation IDs in responses to evaluation-creating requests.
-     */
-    private static class EvalIdResponse {
-        public String evalID; // Checkstyle suppress VisibilityModifier
-    }
-
 }
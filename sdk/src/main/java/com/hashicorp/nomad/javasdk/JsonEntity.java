@@ -0,0 +1,75 @@
+package com.hashicorp.nomad.javasdk;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A request entity that serializes an API object straight to the connection's output stream as it is sent,
+ * rather than rendering it to a string and then to bytes first.
+ * <p>
+ * The object is serialized again each time the entity is written, so requests that fail over to another server
+ * send the same body, but the object must not be modified until the request has completed.
+ */
+final class JsonEntity extends AbstractHttpEntity {
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final Object value;
+    private final boolean gzip;
+
+    /**
+     * Creates an entity.
+     *
+     * @param value the object to send as JSON
+     * @param gzip  true to compress the body, in which case it is sent with a gzip content encoding
+     */
+    JsonEntity(Object value, boolean gzip) {
+        this.value = value;
+        this.gzip = gzip;
+        setContentType(ContentType.APPLICATION_JSON.toString());
+        if (gzip)
+            setContentEncoding("gzip");
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    /**
+     * Renders the whole body into memory, for HTTP clients that read entities rather than writing them out.
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeTo(body);
+        return new ByteArrayInputStream(body.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        if (gzip) {
+            final GZIPOutputStream compressed = new GZIPOutputStream(outStream, GZIP_BUFFER_SIZE);
+            NomadJson.serialize(value, compressed);
+            compressed.finish();
+        } else {
+            NomadJson.serialize(value, outStream);
+        }
+    }
+}
@@ -1,18 +1,160 @@
 package com.hashicorp.nomad.javasdk;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
 
 /**
  * Wraps a Jackson ObjectMapper to parse values of a specific type.
+ * <p>
+ * A parser can be restricted to a set of fields, in which case all other fields of the parsed object,
+ * or of each object in a parsed list, are skipped over in the token stream rather than deserialized.
+ * It can also be made lazy, in which case large nested properties are only decoded when they are first read,
+ * and be given a {@link Canonicalizer} to deduplicate values with.
+ *
  * @param <T>
  */
-class JsonParser<T> implements ValueExtractor<T> {
+class JsonParser<T> implements StreamingValueExtractor<T> {
     private final JavaType responseEntityType;
+    private final ObjectReader reader;
+    @Nullable
+    private final Set<String> fields;
+    private final boolean lazy;
+    @Nullable
+    private final Canonicalizer canonicalizer;
 
     JsonParser(JavaType responseEntityType) {
+        this(responseEntityType, null, false, null);
+    }
+
+    private JsonParser(
+            JavaType responseEntityType,
+            @Nullable Set<String> fields,
+            boolean lazy,
+            @Nullable Canonicalizer canonicalizer) {
         this.responseEntityType = responseEntityType;
+        this.fields = fields;
+        this.lazy = lazy;
+        this.canonicalizer = canonicalizer;
+        ObjectReader baseReader = NomadJson.readerFor(responseEntityType);
+        if (lazy)
+            baseReader = baseReader.withAttribute(ApiObjectCodec.LAZY_NESTED_OBJECTS, Boolean.TRUE);
+        if (canonicalizer != null)
+            baseReader = baseReader.withAttribute(Canonicalizer.class, canonicalizer);
+        if (fields != null)
+            baseReader = baseReader.withAttribute(ApiObjectCodec.PROJECTED_FIELDS, Boolean.TRUE);
+        this.reader = baseReader;
+    }
+
+    /**
+     * Returns a parser for the same type that only deserializes the given top-level fields.
+     */
+    JsonParser<T> projecting(@Nullable Set<String> projectedFields) {
+        if (projectedFields == null || projectedFields.equals(fields))
+            return this;
+        return new JsonParser<>(responseEntityType, projectedFields, lazy, canonicalizer);
+    }
+
+    /**
+     * Returns a parser for the same type that defers decoding of large nested properties until they are read.
+     */
+    JsonParser<T> lazily(boolean lazyNestedObjects) {
+        if (lazyNestedObjects == lazy)
+            return this;
+        return new JsonParser<>(responseEntityType, fields, lazyNestedObjects, canonicalizer);
+    }
+
+    /**
+     * Returns a parser for the same type that deduplicates values with the given canonicalizer.
+     */
+    JsonParser<T> canonicalizing(@Nullable Canonicalizer newCanonicalizer) {
+        if (newCanonicalizer == canonicalizer)
+            return this;
+        return new JsonParser<>(responseEntityType, fields, lazy, newCanonicalizer);
+    }
+
+    /**
+     * Parses a value from the JSON string, throwing any exception that Jackson throws.
+     */
+    T read(String json) throws IOException {
+        if (fields == null)
+            return reader.readValue(json);
+        try (com.fasterxml.jackson.core.JsonParser parser = reader.getFactory().createParser(json)) {
+            return reader.readValue(project(parser));
+        }
+    }
+
+    private T read(InputStream stream) throws IOException {
+        if (fields == null)
+            return reader.readValue(stream);
+        try (com.fasterxml.jackson.core.JsonParser parser = reader.getFactory().createParser(stream)) {
+            return reader.readValue(project(parser));
+        }
+    }
+
+    /**
+     * Reads a value that starts at the parser's current token, such as an element of a list being streamed.
+     */
+    T readCurrentValue(com.fasterxml.jackson.core.JsonParser parser) throws IOException {
+        if (fields == null)
+            return reader.readValue(parser);
+        final TokenBuffer buffer = new TokenBuffer(parser);
+        projectElement(parser, buffer);
+        return reader.readValue(buffer.asParser(parser));
+    }
+
+    /**
+     * Copies the projected fields of the value into a buffer, skipping over the children of all other fields.
+     */
+    private com.fasterxml.jackson.core.JsonParser project(com.fasterxml.jackson.core.JsonParser parser)
+            throws IOException {
+        final TokenBuffer buffer = new TokenBuffer(parser);
+        final JsonToken start = parser.nextToken();
+        if (start == null)
+            throw new JsonParseException(parser, "no content to parse");
+        if (start == JsonToken.START_ARRAY) {
+            buffer.writeStartArray();
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null)
+                    throw new JsonParseException(parser, "unexpected end of JSON array");
+                projectElement(parser, buffer);
+            }
+            buffer.writeEndArray();
+        } else {
+            projectElement(parser, buffer);
+        }
+        return buffer.asParser(parser);
+    }
+
+    private void projectElement(com.fasterxml.jackson.core.JsonParser parser, TokenBuffer buffer)
+            throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            buffer.copyCurrentStructure(parser);
+            return;
+        }
+        buffer.writeStartObject();
+        JsonToken token = parser.nextToken();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            final String name = parser.getCurrentName();
+            parser.nextToken();
+            if (fields.contains(name)) {
+                buffer.writeFieldName(name);
+                buffer.copyCurrentStructure(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (token != JsonToken.END_OBJECT)
+            throw new JsonParseException(parser, "unexpected end of JSON object");
+        buffer.writeEndObject();
     }
 
     /**
@@ -21,7 +163,7 @@ class JsonParser<T> implements ValueExtractor<T> {
     @Override
     public T extractValue(String json) throws ResponseParsingException {
         try {
-            return NomadJson.deserialize(json, responseEntityType);
+            return read(json);
         } catch (IOException e) {
             throw new ResponseParsingException(
                     "Unable to parse " + responseEntityType + " from response body JSON: " + json,
@@ -29,4 +171,44 @@ class JsonParser<T> implements ValueExtractor<T> {
                     e);
         }
     }
+
+    /**
+     * Parses a value from a stream of JSON, without buffering the whole document as a string.
+     */
+    @Override
+    public T extractValue(InputStream stream) throws IOException, ResponseParsingException {
+        try {
+            return read(stream);
+        } catch (JsonProcessingException e) {
+            throw new ResponseParsingException(
+                    "Unable to parse " + responseEntityType + " from response body JSON: " + e.getOriginalMessage(),
+                    null,
+                    e);
+        }
+    }
+
+    /**
+     * Parsers are equal if they parse the same type in the same way,
+     * which lets identical queries be recognised as such.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        JsonParser<?> that = (JsonParser<?>) o;
+        return responseEntityType.equals(that.responseEntityType)
+                && (fields == null ? that.fields == null : fields.equals(that.fields))
+                && lazy == that.lazy
+                && canonicalizer == that.canonicalizer;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = responseEntityType.hashCode();
+        result = 31 * result + (fields == null ? 0 : fields.hashCode());
+        result = 31 * result + (lazy ? 1 : 0);
+        result = 31 * result + (canonicalizer == null ? 0 : canonicalizer.hashCode());
+        return result;
+    }
 }
@@ -0,0 +1,51 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A nested property of an API object that was captured as JSON tokens while the object was parsed,
+ * and is only decoded when its getter is first called.
+ * <p>
+ * Model classes hold one of these for their large nested properties when they are read with
+ * {@link QueryOptions#setLazyNestedObjects(boolean) lazy nested objects}, so that properties which are never
+ * read never cost more than the copying of their tokens.
+ *
+ * @param <T> the type of the property
+ */
+public final class LazyValue<T> {
+    private final TokenBuffer tokens;
+    private final JavaType type;
+    @Nullable
+    private final Canonicalizer canonicalizer;
+
+    LazyValue(TokenBuffer tokens, JavaType type, @Nullable Canonicalizer canonicalizer) {
+        this.tokens = tokens;
+        this.type = type;
+        this.canonicalizer = canonicalizer;
+    }
+
+    /**
+     * Decodes the value. Nested properties of the value are themselves decoded lazily,
+     * and canonicalized if the enclosing object was.
+     *
+     * @throws UncheckedIOException if the value cannot be deserialized
+     */
+    public T get() {
+        ObjectReader reader = NomadJson.readerFor(type)
+                .withAttribute(ApiObjectCodec.LAZY_NESTED_OBJECTS, Boolean.TRUE)
+                .withAttribute(ApiObjectCodec.NESTED_VALUES, Boolean.TRUE);
+        if (canonicalizer != null)
+            reader = reader.withAttribute(Canonicalizer.class, canonicalizer);
+        try {
+            return reader.readValue(tokens.asParser());
+        } catch (IOException e) {
+            throw new UncheckedIOException("unable to parse " + type + " from deferred JSON", e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.AgentMember;
+import org.apache.http.HttpHost;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the HTTP address of the Raft leader of each region, so that writes can be sent straight to the leader
+ * rather than being forwarded to it by whichever server receives them.
+ * <p>
+ * Cached addresses expire after a short time so that leadership changes are noticed,
+ * and are invalidated early when a request to the leader fails.
+ * <p>
+ * Each region's leader is looked up by one caller at a time, without holding any lock, so a slow lookup
+ * only delays the write that triggered it. Other writes meanwhile use the expired address,
+ * or the configured addresses if there is none.
+ */
+final class LeaderCache {
+    static final long TTL_MILLIS = 30000;
+
+    /**
+     * Looks up the leader of a region from the cluster.
+     */
+    interface Lookup {
+        /**
+         * Returns the RPC address of the region's leader, e.g. "10.0.0.1:4647",
+         * or an empty string if the region has no leader.
+         */
+        String leaderRpcAddress(@Nullable String region) throws IOException, NomadException;
+
+        /**
+         * Returns the servers known to the agent.
+         */
+        List<AgentMember> members() throws IOException, NomadException;
+    }
+
+    private final Lookup lookup;
+    private final List<HttpHost> configuredAddresses;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    LeaderCache(final Lookup lookup, final List<HttpHost> configuredAddresses) {
+        this(lookup, configuredAddresses, TTL_MILLIS);
+    }
+
+    LeaderCache(final Lookup lookup, final List<HttpHost> configuredAddresses, final long ttlMillis) {
+        this.lookup = lookup;
+        this.configuredAddresses = configuredAddresses;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Returns the HTTP address of the region's leader, or null if it is not currently known.
+     * <p>
+     * A failed lookup is remembered for as long as a successful one,
+     * so that an unreachable leader doesn't add lookups to every write.
+     * While another caller is looking up the region's leader, the expired address is returned
+     * without waiting, or null if there is none.
+     *
+     * @param region the region, or null for the region of the configured servers
+     */
+    @Nullable
+    HttpHost leaderFor(@Nullable final String region) {
+        final String key = region == null ? "" : region;
+        final Entry cached = entries.get(key);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis())
+            return cached.leader;
+        if (!refreshing.add(key))
+            return cached == null ? null : cached.leader;
+
+        try {
+            HttpHost leader;
+            try {
+                leader = resolve(lookup.leaderRpcAddress(region), lookup.members(), configuredAddresses);
+            } catch (IOException | NomadException e) {
+                leader = null;
+            }
+            entries.put(key, new Entry(leader, System.currentTimeMillis() + ttlMillis));
+            return leader;
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * Forgets the region's leader if it is still the given address, e.g. because a request to it failed.
+     */
+    void invalidate(@Nullable final String region, final HttpHost leader) {
+        final String key = region == null ? "" : region;
+        final Entry cached = entries.get(key);
+        if (cached != null && leader.equals(cached.leader))
+            entries.remove(key, cached);
+    }
+
+    /**
+     * Works out the HTTP address of the leader from its RPC address.
+     * <p>
+     * The leader must be an alive server in the member list. If one of the configured addresses has the same
+     * host as the leader it is used as is, otherwise the scheme and port of the first configured address are used.
+     *
+     * @return the leader's HTTP address, or null if it can't be determined
+     */
+    @Nullable
+    static HttpHost resolve(
+            final String leaderRpcAddress,
+            @Nullable final List<AgentMember> members,
+            final List<HttpHost> configuredAddresses
+    ) {
+        final int separator = leaderRpcAddress.lastIndexOf(':');
+        if (separator <= 0 || members == null)
+            return null;
+        String host = leaderRpcAddress.substring(0, separator);
+        final String port = leaderRpcAddress.substring(separator + 1);
+        if (host.startsWith("[") && host.endsWith("]"))
+            host = host.substring(1, host.length() - 1);
+
+        if (!isAliveServer(host, port, members))
+            return null;
+
+        for (HttpHost address : configuredAddresses) {
+            if (address.getHostName().equalsIgnoreCase(host))
+                return address;
+        }
+        final HttpHost template = configuredAddresses.get(0);
+        return new HttpHost(host, template.getPort(), template.getSchemeName());
+    }
+
+    private static boolean isAliveServer(final String host, final String port, final List<AgentMember> members) {
+        for (AgentMember member : members) {
+            final Map<String, String> tags = member.getTags();
+            if (tags == null || !"alive".equals(member.getStatus()))
+                continue;
+            final String rpcHost = tags.containsKey("rpc_addr") ? tags.get("rpc_addr") : member.getAddr();
+            if (host.equals(rpcHost) && port.equals(tags.get("port")))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * A cached leader, or the absence of one.
+     */
+    private static final class Entry {
+        @Nullable
+        private final HttpHost leader;
+        private final long expiresAt;
+
+        Entry(@Nullable final HttpHost leader, final long expiresAt) {
+            this.leader = leader;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.hashicorp.nomad.javasdk;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The difference between two successive versions of a listed resource,
+ * as computed by a {@link ListDeltaTracker}.
+ *
+ * @param <T> the type of the listed resources
+ */
+public final class ListDelta<T> {
+    private final List<T> added;
+    private final List<Modification<T>> modified;
+    private final List<T> removed;
+
+    ListDelta(final List<T> added, final List<Modification<T>> modified, final List<T> removed) {
+        this.added = Collections.unmodifiableList(added);
+        this.modified = Collections.unmodifiableList(modified);
+        this.removed = Collections.unmodifiableList(removed);
+    }
+
+    /**
+     * Returns the resources that weren't in the previous list, in the order they are listed.
+     */
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the resources whose modify index has changed, in the order they are listed.
+     */
+    public List<Modification<T>> getModified() {
+        return modified;
+    }
+
+    /**
+     * Returns the resources that are no longer listed, as they were last seen.
+     */
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns true if nothing was added, modified or removed.
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && modified.isEmpty() && removed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ListDelta{added=" + added.size()
+                + ", modified=" + modified.size()
+                + ", removed=" + removed.size() + "}";
+    }
+
+    /**
+     * A resource whose modify index has changed.
+     *
+     * @param <T> the type of the resource
+     */
+    public static final class Modification<T> {
+        private final T previous;
+        private final T current;
+
+        Modification(final T previous, final T current) {
+            this.previous = previous;
+            this.current = current;
+        }
+
+        /**
+         * Returns the resource as it was in the previous list.
+         */
+        public T getPrevious() {
+            return previous;
+        }
+
+        /**
+         * Returns the resource as it is in the new list.
+         */
+        public T getCurrent() {
+            return current;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.AllocationListStub;
+import com.hashicorp.nomad.apimodel.Deployment;
+import com.hashicorp.nomad.apimodel.Evaluation;
+import com.hashicorp.nomad.apimodel.JobListStub;
+import com.hashicorp.nomad.apimodel.NodeListStub;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes what changed between successive responses to a list query, such as a blocking query on
+ * {@link JobsApi#list()} or {@link AllocationsApi#list()}.
+ * <p>
+ * Resources are matched up by ID, and a resource counts as modified when its modify index changes,
+ * so only the modify indexes of the listed resources are compared. Handlers that are given the resulting
+ * {@link ListDelta} only have to process what changed, rather than the whole list.
+ * <p>
+ * The tracker keeps the latest list as a snapshot keyed by ID. This class is thread-safe.
+ *
+ * @param <T> the type of the listed resources
+ */
+public abstract class ListDeltaTracker<T> {
+    private volatile Map<String, T> snapshot = Collections.emptyMap();
+
+    ListDeltaTracker() {
+    }
+
+    /**
+     * Creates a tracker for lists of jobs.
+     */
+    public static ListDeltaTracker<JobListStub> forJobs() {
+        return new ListDeltaTracker<JobListStub>() {
+            @Override
+            String idOf(JobListStub job) {
+                return job.getId();
+            }
+
+            @Override
+            BigInteger modifyIndexOf(JobListStub job) {
+                return job.getModifyIndex();
+            }
+        };
+    }
+
+    /**
+     * Creates a tracker for lists of allocations.
+     */
+    public static ListDeltaTracker<AllocationListStub> forAllocations() {
+        return new ListDeltaTracker<AllocationListStub>() {
+            @Override
+            String idOf(AllocationListStub allocation) {
+                return allocation.getId();
+            }
+
+            @Override
+            BigInteger modifyIndexOf(AllocationListStub allocation) {
+                return allocation.getModifyIndex();
+            }
+        };
+    }
+
+    /**
+     * Creates a tracker for lists of nodes.
+     */
+    public static ListDeltaTracker<NodeListStub> forNodes() {
+        return new ListDeltaTracker<NodeListStub>() {
+            @Override
+            String idOf(NodeListStub node) {
+                return node.getId();
+            }
+
+            @Override
+            BigInteger modifyIndexOf(NodeListStub node) {
+                return node.getModifyIndex();
+            }
+        };
+    }
+
+    /**
+     * Creates a tracker for lists of deployments.
+     */
+    public static ListDeltaTracker<Deployment> forDeployments() {
+        return new ListDeltaTracker<Deployment>() {
+            @Override
+            String idOf(Deployment deployment) {
+                return deployment.getId();
+            }
+
+            @Override
+            BigInteger modifyIndexOf(Deployment deployment) {
+                return deployment.getModifyIndex();
+            }
+        };
+    }
+
+    /**
+     * Creates a tracker for lists of evaluations.
+     */
+    public static ListDeltaTracker<Evaluation> forEvaluations() {
+        return new ListDeltaTracker<Evaluation>() {
+            @Override
+            String idOf(Evaluation evaluation) {
+                return evaluation.getId();
+            }
+
+            @Override
+            BigInteger modifyIndexOf(Evaluation evaluation) {
+                return evaluation.getModifyIndex();
+            }
+        };
+    }
+
+    abstract String idOf(T resource);
+
+    abstract BigInteger modifyIndexOf(T resource);
+
+    /**
+     * Replaces the tracked list with the value of a list query's response, and returns what changed.
+     *
+     * @param response the response to the list query
+     */
+    public ListDelta<T> update(final ServerQueryResponse<List<T>> response) {
+        return update(response.getValue());
+    }
+
+    /**
+     * Replaces the tracked list with a new one, and returns what changed.
+     * The first update reports every resource as added.
+     *
+     * @param resources the new list
+     */
+    public synchronized ListDelta<T> update(final List<T> resources) {
+        final Map<String, T> previous = snapshot;
+        final Map<String, T> current = new LinkedHashMap<>();
+        final List<T> added = new ArrayList<>();
+        final List<ListDelta.Modification<T>> modified = new ArrayList<>();
+        for (T resource : resources) {
+            final String id = idOf(resource);
+            current.put(id, resource);
+            final T before = previous.get(id);
+            if (before == null)
+                added.add(resource);
+            else if (!sameModifyIndex(before, resource))
+                modified.add(new ListDelta.Modification<>(before, resource));
+        }
+
+        final List<T> removed = new ArrayList<>();
+        if (current.size() != previous.size() + added.size()) {
+            for (Map.Entry<String, T> entry : previous.entrySet()) {
+                if (!current.containsKey(entry.getKey()))
+                    removed.add(entry.getValue());
+            }
+        }
+
+        snapshot = Collections.unmodifiableMap(current);
+        return new ListDelta<>(added, modified, removed);
+    }
+
+    /**
+     * Returns the latest list, keyed by ID.
+     */
+    public Map<String, T> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Forgets the tracked list, so that the next update reports every resource as added.
+     */
+    public synchronized void reset() {
+        snapshot = Collections.emptyMap();
+    }
+
+    private boolean sameModifyIndex(final T before, final T after) {
+        final BigInteger beforeIndex = modifyIndexOf(before);
+        return beforeIndex == null ? modifyIndexOf(after) == null : beforeIndex.equals(modifyIndexOf(after));
+    }
+}
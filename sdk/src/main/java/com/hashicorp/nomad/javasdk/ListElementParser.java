@@ -0,0 +1,97 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Parses a JSON array one element at a time, handing each element to a consumer as soon as it has been read,
+ * so that the whole list is never held in memory. The extracted value is the number of elements.
+ * <p>
+ * Since parsing has side effects, responses parsed this way are never shared between requests, cached,
+ * or retried once the server has started responding, and their raw entities are never retained.
+ * Elements are read with the field projection, lazy decoding and canonicalization of the query options.
+ *
+ * @param <T> the type of the list's elements
+ */
+final class ListElementParser<T> implements StreamingValueExtractor<Integer> {
+    private final Class<T> elementType;
+    private final com.hashicorp.nomad.javasdk.JsonParser<T> elementParser;
+    private final Consumer<? super T> consumer;
+
+    ListElementParser(final Class<T> elementType, final Consumer<? super T> consumer) {
+        this(elementType, NomadJson.parserFor(elementType), consumer);
+    }
+
+    private ListElementParser(
+            final Class<T> elementType,
+            final com.hashicorp.nomad.javasdk.JsonParser<T> elementParser,
+            final Consumer<? super T> consumer
+    ) {
+        this.elementType = elementType;
+        this.elementParser = elementParser;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Returns a parser that reads elements with the field projection, lazy decoding and canonicalization
+     * requested in the query options.
+     */
+    ListElementParser<T> forQuery(@Nullable final QueryOptions<?> options) {
+        if (options == null)
+            return this;
+        final com.hashicorp.nomad.javasdk.JsonParser<T> adapted = elementParser
+                .projecting(options.getFields())
+                .lazily(options.isLazyNestedObjects())
+                .canonicalizing(options.getCanonicalizer());
+        return adapted == elementParser ? this : new ListElementParser<>(elementType, adapted, consumer);
+    }
+
+    @Override
+    public Integer extractValue(String json) throws ResponseParsingException {
+        try (JsonParser parser = NomadJson.OBJECT_MAPPER.getFactory().createParser(json)) {
+            return parse(parser);
+        } catch (IOException e) {
+            throw new ResponseParsingException(
+                    "Unable to parse list of " + elementType + " from response body JSON: " + json,
+                    json,
+                    e);
+        }
+    }
+
+    @Override
+    public Integer extractValue(InputStream stream) throws IOException, ResponseParsingException {
+        try (JsonParser parser = NomadJson.OBJECT_MAPPER.getFactory().createParser(stream)) {
+            return parse(parser);
+        } catch (JsonProcessingException e) {
+            throw new ResponseParsingException(
+                    "Unable to parse list of " + elementType + " from response body JSON: " + e.getOriginalMessage(),
+                    null,
+                    e);
+        }
+    }
+
+    private int parse(final JsonParser parser) throws IOException {
+        final JsonToken start = parser.nextToken();
+        if (start == null || start == JsonToken.VALUE_NULL)
+            return 0;
+        if (start != JsonToken.START_ARRAY)
+            throw new JsonParseException(parser, "expected a JSON array but found " + start);
+
+        int count = 0;
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == null)
+                throw new JsonParseException(parser, "unexpected end of JSON array");
+            final T element = elementParser.readCurrentValue(parser);
+            consumer.accept(element);
+            count++;
+        }
+        return count;
+    }
+}
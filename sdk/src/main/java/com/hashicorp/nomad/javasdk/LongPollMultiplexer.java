@@ -0,0 +1,166 @@
+package com.hashicorp.nomad.javasdk;
+
+import org.apache.http.NameValuePair;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.utils.URIBuilder;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets many waiters on the same blocking query share a single long poll, rather than each holding a connection.
+ * <p>
+ * Blocking queries are the same if they only differ in their index.
+ * A waiter whose index matches the index of a long poll that is already in flight attaches to it,
+ * and all the attached waiters are released together when it returns.
+ * A waiter whose index is below that of the poll in flight already has a newer response waiting for it,
+ * so it is answered straight away with the response that the poll's index came from, when that is known.
+ * Anything else is sent to the server as usual.
+ */
+final class LongPollMultiplexer {
+    static final int MAX_IDLE_CHANNELS = 256;
+
+    private final Map<QueryKey, Channel> channels = new LinkedHashMap<QueryKey, Channel>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<QueryKey, Channel> eldest) {
+            return size() > MAX_IDLE_CHANNELS && eldest.getValue().poll == null;
+        }
+    };
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong multiplexed = new AtomicLong();
+
+    /**
+     * Performs the blocking query, or shares a long poll that is already in flight for it.
+     *
+     * @param request         the fully built request
+     * @param responseAdapter the adapter that builds the response
+     * @param index           the index that the query blocks on
+     * @param query           sends the request to the server
+     */
+    <R extends NomadResponse<?>> R execute(
+            final HttpUriRequest request,
+            final ResponseAdapter<?, R> responseAdapter,
+            final long index,
+            final QueryCoalescer.Query<R> query
+    ) throws IOException, NomadException {
+        final QueryKey key = new QueryKey(withoutIndex(request), request, responseAdapter);
+        final Channel channel;
+        final QueryCoalescer.InFlight poll;
+        QueryCoalescer.InFlight shared = null;
+        Object latest = null;
+        synchronized (this) {
+            Channel existing = channels.get(key);
+            if (existing == null) {
+                existing = new Channel();
+                channels.put(key, existing);
+            }
+            channel = existing;
+
+            if (channel.poll == null) {
+                poll = new QueryCoalescer.InFlight();
+                channel.poll = poll;
+                channel.pollIndex = index;
+                if (index != channel.latestIndex)
+                    channel.latest = null;
+            } else {
+                poll = null;
+                final int comparison = Long.compareUnsigned(index, channel.pollIndex);
+                if (comparison == 0)
+                    shared = channel.poll;
+                else if (comparison < 0)
+                    latest = channel.latest;
+            }
+        }
+
+        if (shared != null || latest != null) {
+            multiplexed.incrementAndGet();
+            @SuppressWarnings("unchecked")
+            final R response = (R) (shared != null ? shared.await() : latest);
+            return response;
+        }
+
+        executed.incrementAndGet();
+        if (poll == null)
+            return query.execute();
+
+        final R response;
+        try {
+            response = query.execute();
+        } catch (IOException | NomadException | RuntimeException | Error e) {
+            synchronized (this) {
+                channel.poll = null;
+            }
+            poll.complete(null, e);
+            throw e;
+        }
+        synchronized (this) {
+            channel.poll = null;
+            if (hasIndex(response)) {
+                channel.latest = response;
+                channel.latestIndex = indexOf(response);
+            }
+        }
+        poll.complete(response, null);
+        return response;
+    }
+
+    /**
+     * Returns the number of long polls that have been sent to the server.
+     */
+    long getExecuted() {
+        return executed.get();
+    }
+
+    /**
+     * Returns the number of blocking queries that have been answered by a shared long poll.
+     */
+    long getMultiplexed() {
+        return multiplexed.get();
+    }
+
+    /**
+     * Returns true if a response is a query response with a valid index.
+     */
+    static boolean hasIndex(final NomadResponse<?> response) {
+        return response instanceof ServerQueryResponse && ((ServerQueryResponse<?>) response).hasIndex();
+    }
+
+    /**
+     * Returns the index of a query response, which must {@link #hasIndex(NomadResponse) have one}.
+     */
+    static long indexOf(final NomadResponse<?> response) {
+        return ((ServerQueryResponse<?>) response).getIndexAsLong();
+    }
+
+    private static String withoutIndex(final HttpUriRequest request) {
+        try {
+            final URIBuilder uri = new URIBuilder(request.getURI());
+            final List<NameValuePair> parameters = new ArrayList<>(uri.getQueryParams());
+            for (int i = parameters.size() - 1; i >= 0; i--) {
+                if ("index".equals(parameters.get(i).getName()))
+                    parameters.remove(i);
+            }
+            return uri.setParameters(parameters).build().toString();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * The long poll in flight for a blocking query, and the latest response to it.
+     */
+    private static final class Channel {
+        @Nullable
+        private QueryCoalescer.InFlight poll;
+        private long pollIndex;
+        @Nullable
+        private Object latest;
+        private long latestIndex;
+    }
+}
@@ -7,6 +7,7 @@ import com.hashicorp.nomad.apimodel.NodeListStub;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * API for querying for information about client nodes,
@@ -162,6 +163,28 @@ public class NodesApi extends ApiBase {
                 NomadJson.parserForListOf(NodeListStub.class));
     }
 
+    /**
+     * Lists nodes in the active region, handing each one to a consumer as soon as it has been read
+     * from the response, so the whole list is never held in memory.
+     * <p>
+     * They are passed to the consumer in the order the server lists them.
+     * Runtime exceptions thrown by the consumer abort the request and are rethrown.
+     * Pagination and filtering options can be used to bound the work done per request.
+     *
+     * @param consumer receives each of the nodes
+     * @param options  options controlling how the request is performed
+     * @return a response whose value is the number of nodes passed to the consumer
+     * @throws IOException    if there is an HTTP or lower-level problem
+     * @throws NomadException if the response signals an error or cannot be deserialized
+     * @see <a href="https://www.nomadproject.io/docs/http/nodes.html">{@code GET /v1/nodes}</a>
+     */
+    public ServerQueryResponse<Integer> listEach(
+            final Consumer<? super NodeListStub> consumer,
+            @Nullable final QueryOptions<Integer> options
+    ) throws IOException, NomadException {
+        return executeServerQuery("/v1/nodes", options, new ListElementParser<>(NodeListStub.class, consumer));
+    }
+
     /**
      * Toggles drain mode on or off on a node in the active region.
      * <p>
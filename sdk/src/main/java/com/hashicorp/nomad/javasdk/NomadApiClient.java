@@ -1,5 +1,6 @@
 package com.hashicorp.nomad.javasdk;
 
+import com.hashicorp.nomad.apimodel.AgentMember;
 import com.hashicorp.nomad.apimodel.Node;
 import com.hashicorp.nomad.apimodel.NodeListStub;
 import com.hashicorp.nomad.apimodel.OperatorHealthReply;
@@ -7,9 +8,14 @@ import org.apache.http.HttpHost;
 import org.apache.http.HttpRequest;
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
+import org.apache.http.NameValuePair;
 import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
@@ -25,12 +31,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.ConnectException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static com.hashicorp.nomad.javasdk.NomadPredicates.isHealthy;
 import static com.hashicorp.nomad.javasdk.NomadPredicates.hadKnownLeader;
 import static com.hashicorp.nomad.javasdk.NomadPredicates.clientNodeIsReady;
 import static com.hashicorp.nomad.javasdk.NomadPredicates.responseValue;
 import static com.hashicorp.nomad.javasdk.NomadPredicates.both;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * An asynchronous client for the
@@ -39,6 +47,14 @@ import static com.hashicorp.nomad.javasdk.NomadPredicates.both;
 public final class NomadApiClient implements Closeable, AutoCloseable {
     private NomadApiConfiguration config;
     private final CloseableHttpClient httpClient;
+    private final CloseableHttpClient longPollHttpClient;
+    private final CloseableHttpClient streamHttpClient;
+    private final ServerPool serverPool;
+    private final LeaderCache leaderCache;
+    private final QueryCoalescer queryCoalescer = new QueryCoalescer();
+    private final LongPollMultiplexer longPollMultiplexer = new LongPollMultiplexer();
+    @Nullable
+    private final ResponseCache responseCache;
 
     /**
      * Creates an API client.
@@ -71,14 +87,34 @@ public final class NomadApiClient implements Closeable, AutoCloseable {
 
     /**
      * Creates an API client using the given configuration.
+     * <p>
+     * When no HTTP client is provided, separate HTTP clients are built for ordinary requests,
+     * blocking queries and streams, each with its own connection pool as described by the configuration.
      *
      * @param config     configuration for the API
-     * @param httpClient the HTTP to client to use.
-     *                   If null, a client will be built using the provided API configuration.
+     * @param httpClient the HTTP to client to use for all requests.
+     *                   If null, clients will be built using the provided API configuration.
      */
     public NomadApiClient(NomadApiConfiguration config, @Nullable CloseableHttpClient httpClient) {
         this.config = config;
-        this.httpClient = httpClient != null ? httpClient : buildHttpClient(config);
+        if (httpClient != null) {
+            this.httpClient = httpClient;
+            this.longPollHttpClient = httpClient;
+            this.streamHttpClient = httpClient;
+        } else {
+            this.httpClient = buildHttpClient(config, config.getRequestPool());
+            this.longPollHttpClient = buildHttpClient(config, config.getLongPollPool());
+            this.streamHttpClient = buildHttpClient(config, config.getStreamPool());
+        }
+        this.serverPool = new ServerPool(
+                config.getAddresses(), config.getLoadBalancing(), new StatusLeaderProber(this.httpClient));
+        this.leaderCache = new LeaderCache(new AgentLeaderLookup(), config.getAddresses());
+        this.responseCache = config.getResponseCacheMaxEntries() > 0
+                ? new ResponseCache(
+                        config.getResponseCacheMaxEntries(),
+                        config.getResponseCacheTtlMillis(),
+                        new BlockingQueryRefresher())
+                : null;
     }
 
     /**
@@ -89,11 +125,24 @@ public final class NomadApiClient implements Closeable, AutoCloseable {
     }
 
     /**
-     * Closes the underlying HTTP client.
+     * Closes the underlying HTTP clients.
      */
     @Override
     public void close() throws IOException {
-        httpClient.close();
+        serverPool.close();
+        if (responseCache != null)
+            responseCache.close();
+        try {
+            httpClient.close();
+        } finally {
+            try {
+                if (longPollHttpClient != httpClient)
+                    longPollHttpClient.close();
+            } finally {
+                if (streamHttpClient != httpClient)
+                    streamHttpClient.close();
+            }
+        }
     }
 
     /**
@@ -195,6 +244,13 @@ public final class NomadApiClient implements Closeable, AutoCloseable {
         return new DeploymentsApi(this);
     }
 
+    /**
+     * Returns an API for streaming events from the cluster.
+     */
+    public EventsApi getEventsApi() {
+        return new EventsApi(this);
+    }
+
     /**
      * Returns an API for querying information about evaluations.
      */
@@ -388,13 +444,136 @@ public final class NomadApiClient implements Closeable, AutoCloseable {
             final ResponseAdapter<?, R> responseAdapter,
             @Nullable final RequestOptions requestOptions
     ) throws IOException, NomadException {
-        final HttpUriRequest request = buildRequest(requestBuilder, requestOptions);
-        try (CloseableHttpResponse response = httpClient.execute(request)) {
+        final HttpUriRequest request = buildRequest(config, requestBuilder, requestOptions);
+        if (!HttpGet.METHOD_NAME.equals(request.getMethod()))
+            return execute(request, responseAdapter, requestOptions);
+
+        final ServerRequest<R> serverRequest = new ServerRequest<>(request, responseAdapter, requestOptions);
+        if (!responseAdapter.isSideEffectFree())
+            return serverRequest.execute();
+        if (isBlockingQuery(requestOptions)) {
+            if (config.isMultiplexLongPolls())
+                return longPollMultiplexer.execute(
+                        request, responseAdapter, ((QueryOptions<?>) requestOptions).getIndexAsLong(), serverRequest);
+        } else if (responseCache != null && responseAdapter instanceof ApiBase.ServerQueryResponseAdapter) {
+            final R cached = responseCache.get(request, responseAdapter);
+            if (cached != null)
+                return cached;
+            final R response = config.isCoalesceQueries()
+                    ? queryCoalescer.execute(request, responseAdapter, serverRequest)
+                    : serverRequest.execute();
+            responseCache.put(request, responseAdapter, response);
+            return response;
+        }
+        return config.isCoalesceQueries()
+                ? queryCoalescer.execute(request, responseAdapter, serverRequest)
+                : serverRequest.execute();
+    }
+
+    /**
+     * Returns counts of how the response cache has been used.
+     * <p>
+     * The counts are zero unless the client is configured to cache responses.
+     *
+     * @see NomadApiConfiguration#getResponseCacheMaxEntries()
+     */
+    public ResponseCacheStats getResponseCacheStats() {
+        return responseCache == null ? new ResponseCacheStats(0, 0, 0, 0) : responseCache.getStats();
+    }
+
+    /**
+     * Returns counts of how many queries have been sent and how many have shared the response of
+     * an identical query or long poll that was already in flight.
+     * <p>
+     * The counts are zero unless the client is configured to coalesce queries or multiplex long polls.
+     *
+     * @see NomadApiConfiguration#isCoalesceQueries()
+     * @see NomadApiConfiguration#isMultiplexLongPolls()
+     */
+    public QueryCoalescingStats getQueryCoalescingStats() {
+        return new QueryCoalescingStats(
+                queryCoalescer.getExecuted() + longPollMultiplexer.getExecuted(),
+                queryCoalescer.getCoalesced(),
+                longPollMultiplexer.getMultiplexed());
+    }
+
+    private <R extends NomadResponse<?>> R execute(
+            final HttpUriRequest request,
+            final ResponseAdapter<?, R> responseAdapter,
+            @Nullable final RequestOptions requestOptions
+    ) throws IOException, NomadException {
+        final boolean blockingQuery = isBlockingQuery(requestOptions);
+        final CloseableHttpClient client = blockingQuery ? longPollHttpClient : httpClient;
+
+        if (serverPool.serverFor(request.getURI()) == null)
+            return execute(client, request, responseAdapter);
+
+        if (config.isRouteWritesToLeader() && !HttpGet.METHOD_NAME.equals(request.getMethod())) {
+            final String region = regionOf(request, config.getRegion());
+            final HttpHost leader = leaderCache.leaderFor(region);
+            if (leader != null) {
+                final HttpUriRequest leaderRequest = RequestBuilder.copy(request)
+                        .setUri(ServerPool.rewrite(request.getURI(), leader))
+                        .build();
+                try {
+                    return execute(client, leaderRequest, responseAdapter);
+                } catch (ConnectException | ConnectTimeoutException e) {
+                    // The request was never sent, so it's safe to fall back to the configured servers
+                    leaderCache.invalidate(region, leader);
+                } catch (IOException e) {
+                    leaderCache.invalidate(region, leader);
+                    throw e;
+                } catch (ErrorResponseException e) {
+                    if (e.getServerErrorCode() >= HttpStatus.SC_INTERNAL_SERVER_ERROR)
+                        leaderCache.invalidate(region, leader);
+                    throw e;
+                }
+            }
+        }
+
+        // Idempotent requests are retried on the next healthy server when a server fails to respond
+        final boolean stale = isStaleQuery(requestOptions);
+        final int attempts = HttpGet.METHOD_NAME.equals(request.getMethod()) && responseAdapter.isSideEffectFree()
+                ? serverPool.getServers().size()
+                : 1;
+        ServerPool.Server server = serverPool.choose(stale, null);
+        for (int attempt = 1; ; attempt++) {
+            final HttpUriRequest attemptRequest = RequestBuilder.copy(request)
+                    .setUri(ServerPool.rewrite(request.getURI(), server.getAddress()))
+                    .build();
+            final long start = server.started();
+            final R response;
+            try {
+                response = execute(client, attemptRequest, responseAdapter);
+            } catch (IOException e) {
+                server.failed();
+                if (attempt >= attempts)
+                    throw e;
+                server = serverPool.choose(stale, server);
+                continue;
+            } catch (NomadException | RuntimeException e) {
+                server.finished();
+                throw e;
+            }
+            if (blockingQuery)
+                server.finished();
+            else
+                server.succeeded(start);
+            return response;
+        }
+    }
+
+    private <R extends NomadResponse<?>> R execute(
+            final CloseableHttpClient client,
+            final HttpUriRequest request,
+            final ResponseAdapter<?, R> responseAdapter
+    ) throws IOException, NomadException {
+        try (CloseableHttpResponse response = client.execute(request)) {
             if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
                 throw ErrorResponseException.signaledInStatus(request, response);
             }
             try {
-                return responseAdapter.apply(response);
+                return responseAdapter.apply(response, config.isRetainRawEntities());
             } catch (ErrorFoundInResponseEntityException e) {
                 throw ErrorResponseException.signaledInEntity(request, response, e.getMessage());
             }
@@ -407,8 +586,8 @@ public final class NomadApiClient implements Closeable, AutoCloseable {
     )
             throws IOException, NomadException {
 
-        final HttpUriRequest request = buildRequest(requestBuilder, requestOptions);
-        CloseableHttpResponse response = httpClient.execute(request);
+        final HttpUriRequest request = buildRequest(config, requestBuilder, requestOptions);
+        CloseableHttpResponse response = streamHttpClient.execute(request);
         try {
             if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
                 throw ErrorResponseException.signaledInStatus(request, response);
@@ -426,13 +605,28 @@ public final class NomadApiClient implements Closeable, AutoCloseable {
     )
             throws IOException, NomadException {
 
-        final HttpUriRequest request = buildRequest(requestBuilder, requestOptions);
-        CloseableHttpResponse response = httpClient.execute(request);
+        final CloseableHttpResponse response = executeStream(requestBuilder, requestOptions);
+        try {
+            return new FramedStream(response);
+        } catch (Throwable e) {
+            response.close();
+            throw e;
+        }
+    }
+
+    CloseableHttpResponse executeStream(
+            final RequestBuilder requestBuilder,
+            @Nullable final RequestOptions requestOptions
+    )
+            throws IOException, NomadException {
+
+        final HttpUriRequest request = buildRequest(config, requestBuilder, requestOptions);
+        CloseableHttpResponse response = streamHttpClient.execute(request);
         try {
             if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
                 throw ErrorResponseException.signaledInStatus(request, response);
             }
-            return new FramedStream(response);
+            return response;
         } catch (Throwable e) {
             response.close();
             throw e;
@@ -443,13 +637,44 @@ public final class NomadApiClient implements Closeable, AutoCloseable {
         return config.getAddress();
     }
 
-    private HttpUriRequest buildRequest(
+    /**
+     * Returns true if the request options make a request block on the server until the index changes.
+     */
+    static boolean isBlockingQuery(@Nullable RequestOptions options) {
+        return options instanceof QueryOptions && ((QueryOptions<?>) options).hasIndex();
+    }
+
+    /**
+     * Returns true if the request options allow the request to be served by any server.
+     */
+    static boolean isStaleQuery(@Nullable RequestOptions options) {
+        return options instanceof QueryOptions && ((QueryOptions<?>) options).isAllowStale();
+    }
+
+    /**
+     * Returns the region that a built request is sent to.
+     * <p>
+     * Writes carry the region from their {@link WriteOptions} in the URI rather than in the request options,
+     * ahead of the client's default region, and the server uses the first region given in the query string.
+     */
+    @Nullable
+    static String regionOf(HttpUriRequest request, @Nullable String defaultRegion) {
+        for (NameValuePair parameter : URLEncodedUtils.parse(request.getURI(), UTF_8)) {
+            final String value = parameter.getValue();
+            if ("region".equals(parameter.getName()) && value != null && !value.isEmpty())
+                return value;
+        }
+        return defaultRegion;
+    }
+
+    static HttpUriRequest buildRequest(
+            NomadApiConfiguration config,
             RequestBuilder requestBuilder,
             @Nullable RequestOptions options
     ) {
-        String region =    getConfig().getRegion();
-        String namespace = getConfig().getNamespace();
-        String authToken = getConfig().getAuthToken();
+        String region =    config.getRegion();
+        String namespace = config.getNamespace();
+        String authToken = config.getAuthToken();
 
         if (options != null) {
             if (options.getRegion() != null)
@@ -470,16 +695,31 @@ public final class NomadApiClient implements Closeable, AutoCloseable {
         return requestBuilder.build();
     }
 
-    private CloseableHttpClient buildHttpClient(NomadApiConfiguration config) {
+    static ConnectionKeepAliveStrategy buildKeepAliveStrategy() {
+        return new DefaultConnectionKeepAliveStrategy() {
+            @Override
+            public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+                final long serverKeepAlive = super.getKeepAliveDuration(response, context);
+                return serverKeepAlive > 0 ? serverKeepAlive : 60000;
+            }
+        };
+    }
 
-        return HttpClientBuilder.create()
-                .setKeepAliveStrategy(new DefaultConnectionKeepAliveStrategy() {
-                    @Override
-                    public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
-                        final long serverKeepAlive = super.getKeepAliveDuration(response, context);
-                        return serverKeepAlive > 0 ? serverKeepAlive : 60000;
-                    }
-                })
+    private CloseableHttpClient buildHttpClient(
+            NomadApiConfiguration config,
+            NomadApiConfiguration.ConnectionPool pool
+    ) {
+        final HttpClientBuilder builder = HttpClientBuilder.create()
+                .setMaxConnTotal(pool.getMaxTotal())
+                .setMaxConnPerRoute(pool.getMaxPerRoute())
+                .evictExpiredConnections();
+        if (pool.getIdleTimeoutMillis() > 0)
+            builder.evictIdleConnections(pool.getIdleTimeoutMillis(), TimeUnit.MILLISECONDS);
+        if (pool.getTimeToLiveMillis() > 0)
+            builder.setConnectionTimeToLive(pool.getTimeToLiveMillis(), TimeUnit.MILLISECONDS);
+
+        return builder
+                .setKeepAliveStrategy(buildKeepAliveStrategy())
                 .setRetryHandler(new DefaultHttpRequestRetryHandler() {
                     @Override
                     protected boolean handleAsIdempotent(HttpRequest request) {
@@ -491,7 +731,7 @@ public final class NomadApiClient implements Closeable, AutoCloseable {
                 .build();
     }
 
-    private static SSLContext buildSslContext(NomadApiConfiguration.Tls tls) {
+    static SSLContext buildSslContext(NomadApiConfiguration.Tls tls) {
         try {
             SSLContext context = SSLContext.getInstance("TLS");
 
@@ -511,4 +751,81 @@ public final class NomadApiClient implements Closeable, AutoCloseable {
             throw new RuntimeException("There was an error building the SSLContext: " + e, e);
         }
     }
+
+    /**
+     * Sends a request to the servers on behalf of everyone waiting for an identical query or long poll.
+     *
+     * @param <R> the type of response
+     */
+    private final class ServerRequest<R extends NomadResponse<?>> implements QueryCoalescer.Query<R> {
+        private final HttpUriRequest request;
+        private final ResponseAdapter<?, R> responseAdapter;
+        @Nullable
+        private final RequestOptions requestOptions;
+
+        ServerRequest(
+                HttpUriRequest request,
+                ResponseAdapter<?, R> responseAdapter,
+                @Nullable RequestOptions requestOptions
+        ) {
+            this.request = request;
+            this.responseAdapter = responseAdapter;
+            this.requestOptions = requestOptions;
+        }
+
+        @Override
+        public R execute() throws IOException, NomadException {
+            return NomadApiClient.this.execute(request, responseAdapter, requestOptions);
+        }
+    }
+
+    /**
+     * Refreshes cached responses with blocking queries.
+     */
+    private final class BlockingQueryRefresher implements ResponseCache.Refresher {
+        @Override
+        public NomadResponse<?> refresh(
+                HttpUriRequest request,
+                ResponseAdapter<?, ?> responseAdapter,
+                long index
+        ) throws IOException, NomadException {
+            return execute(request, responseAdapter, new QueryOptions<Object>().setIndex(index));
+        }
+    }
+
+    /**
+     * Looks up the leader using this client's status and agent APIs.
+     */
+    private final class AgentLeaderLookup implements LeaderCache.Lookup {
+        @Override
+        public String leaderRpcAddress(@Nullable String region) throws IOException, NomadException {
+            return getStatusApi().leader(region).getValue();
+        }
+
+        @Override
+        public List<AgentMember> members() throws IOException, NomadException {
+            return getAgentApi().members().getValue().getMembers();
+        }
+    }
+
+    /**
+     * Probes an ejected server by asking it for the current leader.
+     */
+    private static final class StatusLeaderProber implements ServerPool.Prober {
+        private final CloseableHttpClient httpClient;
+
+        StatusLeaderProber(CloseableHttpClient httpClient) {
+            this.httpClient = httpClient;
+        }
+
+        @Override
+        public boolean probe(HttpHost address) {
+            try (CloseableHttpResponse response = httpClient.execute(
+                    new HttpGet(address.toURI() + "/v1/status/leader"))) {
+                return response.getStatusLine().getStatusCode() == HttpStatus.SC_OK;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
 }
@@ -3,7 +3,11 @@ package com.hashicorp.nomad.javasdk;
 import org.apache.http.HttpHost;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Configuration for a {@link NomadApiClient}.
@@ -14,11 +18,22 @@ public class NomadApiConfiguration {
 
     static final HttpHost DEFAULT_NOMAD_ADDR = new HttpHost("127.0.0.1", 4646);
 
-    private final HttpHost address;
+    private final List<HttpHost> addresses;
     private final String region;
     private final String namespace;
     private final String authToken;
     private final Tls tls;
+    private final boolean retainRawEntities;
+    private final ConnectionPool requestPool;
+    private final ConnectionPool longPollPool;
+    private final ConnectionPool streamPool;
+    private final LoadBalancing loadBalancing;
+    private final boolean routeWritesToLeader;
+    private final boolean coalesceQueries;
+    private final boolean multiplexLongPolls;
+    private final int responseCacheMaxEntries;
+    private final long responseCacheTtlMillis;
+    private final boolean gzipRequests;
 
     /**
      * Creates a new configuration with the given values.
@@ -38,22 +53,147 @@ public class NomadApiConfiguration {
             final String authToken,
             final Tls tls
     ) {
-        if (address == null) {
+        this(Collections.singletonList(address), region, namespace, authToken, tls, false,
+                ConnectionPool.DEFAULT_REQUEST_POOL,
+                ConnectionPool.DEFAULT_LONG_POLL_POOL,
+                ConnectionPool.DEFAULT_STREAM_POOL,
+                LoadBalancing.LEAST_IN_FLIGHT,
+                false,
+                false,
+                false,
+                0,
+                0,
+                false);
+    }
+
+    NomadApiConfiguration(
+            final List<HttpHost> addresses,
+            @Nullable final String region,
+            final String namespace,
+            final String authToken,
+            final Tls tls,
+            final boolean retainRawEntities,
+            final ConnectionPool requestPool,
+            final ConnectionPool longPollPool,
+            final ConnectionPool streamPool,
+            final LoadBalancing loadBalancing,
+            final boolean routeWritesToLeader,
+            final boolean coalesceQueries,
+            final boolean multiplexLongPolls,
+            final int responseCacheMaxEntries,
+            final long responseCacheTtlMillis,
+            final boolean gzipRequests
+    ) {
+        if (addresses == null || addresses.isEmpty() || addresses.contains(null)) {
             throw new IllegalArgumentException("address cannot be null");
         }
 
-        this.address = address;
+        this.addresses = Collections.unmodifiableList(new ArrayList<>(addresses));
         this.region = region;
         this.namespace = namespace;
         this.authToken = authToken;
         this.tls = tls;
+        this.retainRawEntities = retainRawEntities;
+        this.requestPool = requestPool;
+        this.longPollPool = longPollPool;
+        this.streamPool = streamPool;
+        this.loadBalancing = loadBalancing;
+        this.routeWritesToLeader = routeWritesToLeader;
+        this.coalesceQueries = coalesceQueries;
+        this.multiplexLongPolls = multiplexLongPolls;
+        this.responseCacheMaxEntries = responseCacheMaxEntries;
+        this.responseCacheTtlMillis = responseCacheTtlMillis;
+        this.gzipRequests = gzipRequests;
+    }
+
+    private NomadApiConfiguration(
+            final NomadApiConfiguration base,
+            @Nullable final String namespace,
+            @Nullable final String authToken
+    ) {
+        this.addresses = base.addresses;
+        this.region = base.region;
+        this.namespace = namespace;
+        this.authToken = authToken;
+        this.tls = base.tls;
+        this.retainRawEntities = base.retainRawEntities;
+        this.requestPool = base.requestPool;
+        this.longPollPool = base.longPollPool;
+        this.streamPool = base.streamPool;
+        this.loadBalancing = base.loadBalancing;
+        this.routeWritesToLeader = base.routeWritesToLeader;
+        this.coalesceQueries = base.coalesceQueries;
+        this.multiplexLongPolls = base.multiplexLongPolls;
+        this.responseCacheMaxEntries = base.responseCacheMaxEntries;
+        this.responseCacheTtlMillis = base.responseCacheTtlMillis;
+        this.gzipRequests = base.gzipRequests;
     }
 
     /**
      * Returns the HTTP address of the agent to connect to.
+     * <p>
+     * When several server addresses are configured, this is the first of them.
      */
     public HttpHost getAddress() {
-        return address;
+        return addresses.get(0);
+    }
+
+    /**
+     * Returns the HTTP addresses of all the servers that the client can connect to, in order of preference.
+     */
+    public List<HttpHost> getAddresses() {
+        return addresses;
+    }
+
+    /**
+     * Returns how queries that allow stale results are spread across the configured server addresses.
+     */
+    public LoadBalancing getLoadBalancing() {
+        return loadBalancing;
+    }
+
+    /**
+     * Returns true if writes should be sent straight to the HTTP address of the region's Raft leader,
+     * rather than to a configured server that would forward them to the leader over RPC.
+     */
+    public boolean isRouteWritesToLeader() {
+        return routeWritesToLeader;
+    }
+
+    /**
+     * Returns true if identical queries that are in flight at the same time should share a single HTTP request
+     * and a single deserialized response.
+     */
+    public boolean isCoalesceQueries() {
+        return coalesceQueries;
+    }
+
+    /**
+     * Returns true if blocking queries that only differ in their index should share a single long poll.
+     */
+    public boolean isMultiplexLongPolls() {
+        return multiplexLongPolls;
+    }
+
+    /**
+     * Returns the maximum number of query responses to cache, or zero if responses aren't cached.
+     */
+    public int getResponseCacheMaxEntries() {
+        return responseCacheMaxEntries;
+    }
+
+    /**
+     * Returns how long a cached query response is used for when it isn't being refreshed in the background.
+     */
+    public long getResponseCacheTtlMillis() {
+        return responseCacheTtlMillis;
+    }
+
+    /**
+     * Returns true if request bodies should be compressed with gzip.
+     */
+    public boolean isGzipRequests() {
+        return gzipRequests;
     }
 
     /**
@@ -82,7 +222,7 @@ public class NomadApiConfiguration {
      * @param namespace the namespace to use in the new configuration.
      */
     public NomadApiConfiguration withNamespace(String namespace) {
-        return new NomadApiConfiguration(address, region, namespace, authToken, tls);
+        return new NomadApiConfiguration(this, namespace, authToken);
     }
 
     /**
@@ -99,7 +239,7 @@ public class NomadApiConfiguration {
      * @param authToken the secret ID to use in the new configuration.
      */
     public NomadApiConfiguration withAuthToken(String authToken) {
-        return new NomadApiConfiguration(address, region, namespace, authToken, tls);
+        return new NomadApiConfiguration(this, namespace, authToken);
     }
 
     /**
@@ -109,6 +249,40 @@ public class NomadApiConfiguration {
         return tls;
     }
 
+    /**
+     * Returns true if responses should keep a copy of the unparsed response body,
+     * available from {@link NomadResponse#getRawEntity()}.
+     * <p>
+     * When false, response bodies are deserialized directly from the HTTP connection's input stream,
+     * which avoids holding both the body text and the parsed value in memory at once.
+     */
+    public boolean isRetainRawEntities() {
+        return retainRawEntities;
+    }
+
+    /**
+     * Returns the connection pool settings for ordinary request/response calls.
+     */
+    public ConnectionPool getRequestPool() {
+        return requestPool;
+    }
+
+    /**
+     * Returns the connection pool settings for blocking queries,
+     * which can hold a connection for as long as the server's maximum wait time.
+     */
+    public ConnectionPool getLongPollPool() {
+        return longPollPool;
+    }
+
+    /**
+     * Returns the connection pool settings for streaming responses such as logs, file streams and
+     * agent monitoring, which hold a connection until the stream is closed.
+     */
+    public ConnectionPool getStreamPool() {
+        return streamPool;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -116,13 +290,13 @@ public class NomadApiConfiguration {
 
         NomadApiConfiguration that = (NomadApiConfiguration) o;
 
-        return address.equals(that.address);
+        return addresses.equals(that.addresses);
 
     }
 
     @Override
     public int hashCode() {
-        return address.hashCode();
+        return addresses.hashCode();
     }
 
     /**
@@ -203,6 +377,95 @@ public class NomadApiConfiguration {
         }
     }
 
+    /**
+     * Strategies for spreading queries that allow stale results across several servers.
+     * <p>
+     * Queries that require a consistent result and all writes are sent to the first healthy server in the order
+     * the addresses were configured.
+     */
+    public enum LoadBalancing {
+        /**
+         * Send each query to the healthy server with the fewest requests in flight,
+         * preferring the lowest latency among equally loaded servers.
+         */
+        LEAST_IN_FLIGHT,
+
+        /**
+         * Send each query to the healthy server with the lowest recently observed latency.
+         */
+        LOWEST_LATENCY
+    }
+
+    /**
+     * Settings for one of the pools of HTTP connections used by a {@link NomadApiClient}.
+     * <p>
+     * Ordinary requests, blocking queries and streams each use a separate pool,
+     * so that one kind of traffic cannot exhaust the connections available to the others.
+     * <p>
+     * This class is immutable.
+     */
+    public static class ConnectionPool {
+        static final ConnectionPool DEFAULT_REQUEST_POOL = new ConnectionPool(20, 10, 60, -1, TimeUnit.SECONDS);
+        static final ConnectionPool DEFAULT_LONG_POLL_POOL = new ConnectionPool(50, 50, 60, -1, TimeUnit.SECONDS);
+        static final ConnectionPool DEFAULT_STREAM_POOL = new ConnectionPool(20, 20, 60, -1, TimeUnit.SECONDS);
+
+        private final int maxTotal;
+        private final int maxPerRoute;
+        private final long idleTimeoutMillis;
+        private final long timeToLiveMillis;
+
+        /**
+         * Creates new connection pool settings.
+         *
+         * @param maxTotal    the maximum number of connections in the pool
+         * @param maxPerRoute the maximum number of connections in the pool to any one agent
+         * @param idleTimeout how long a connection can sit unused in the pool before it is closed,
+         *                    or a non-positive value to never evict idle connections
+         * @param timeToLive  the maximum lifetime of a pooled connection,
+         *                    or a non-positive value for connections to live indefinitely
+         * @param unit        the unit of {@code idleTimeout} and {@code timeToLive}
+         */
+        public ConnectionPool(int maxTotal, int maxPerRoute, long idleTimeout, long timeToLive, TimeUnit unit) {
+            if (maxTotal < 1 || maxPerRoute < 1)
+                throw new IllegalArgumentException("maxTotal and maxPerRoute must be positive");
+
+            this.maxTotal = maxTotal;
+            this.maxPerRoute = maxPerRoute;
+            this.idleTimeoutMillis = unit.toMillis(idleTimeout);
+            this.timeToLiveMillis = unit.toMillis(timeToLive);
+        }
+
+        /**
+         * Returns the maximum number of connections in the pool.
+         */
+        public int getMaxTotal() {
+            return maxTotal;
+        }
+
+        /**
+         * Returns the maximum number of connections in the pool to any one agent.
+         */
+        public int getMaxPerRoute() {
+            return maxPerRoute;
+        }
+
+        /**
+         * Returns how long, in milliseconds, a connection can sit unused in the pool before it is closed.
+         * Idle connections are never evicted if this is not positive.
+         */
+        public long getIdleTimeoutMillis() {
+            return idleTimeoutMillis;
+        }
+
+        /**
+         * Returns the maximum lifetime, in milliseconds, of a pooled connection.
+         * Connections live indefinitely if this is not positive.
+         */
+        public long getTimeToLiveMillis() {
+            return timeToLiveMillis;
+        }
+    }
+
     /**
      * A builder with fluent setters to easily create a configuration.
      * <p>
@@ -211,7 +474,7 @@ public class NomadApiConfiguration {
      * Use {@link #setFromEnvironmentVariables} to read from common Nomad environment variables.
      */
     public static class Builder {
-        private HttpHost address;
+        private List<HttpHost> addresses;
         private String region;
         private String namespace;
         private String authToken;
@@ -219,6 +482,17 @@ public class NomadApiConfiguration {
         private boolean tlsSkipVerify;
         private String tlsCertFile;
         private String tlsKeyFile;
+        private boolean retainRawEntities;
+        private ConnectionPool requestPool = ConnectionPool.DEFAULT_REQUEST_POOL;
+        private ConnectionPool longPollPool = ConnectionPool.DEFAULT_LONG_POLL_POOL;
+        private ConnectionPool streamPool = ConnectionPool.DEFAULT_STREAM_POOL;
+        private LoadBalancing loadBalancing = LoadBalancing.LEAST_IN_FLIGHT;
+        private boolean routeWritesToLeader;
+        private boolean coalesceQueries;
+        private boolean multiplexLongPolls;
+        private int responseCacheMaxEntries;
+        private long responseCacheTtlMillis;
+        private boolean gzipRequests;
 
         /**
          * Sets the HTTP address of the agent to connect to.
@@ -237,7 +511,143 @@ public class NomadApiConfiguration {
          * @return this builder object, to allow method chaining
          */
         public Builder setAddress(final HttpHost address) {
-            this.address = address;
+            this.addresses = Collections.singletonList(address);
+            return this;
+        }
+
+        /**
+         * Sets the HTTP addresses of several servers in the same region that the client can connect to.
+         * <p>
+         * Queries that allow stale results are spread across all the healthy servers,
+         * and other requests fail over to the next healthy server in this order.
+         *
+         * @param addresses HTTP addresses of the servers, as HTTP or HTTPS URLs
+         * @return this builder object, to allow method chaining
+         */
+        public Builder setAddresses(final String... addresses) {
+            final List<HttpHost> hosts = new ArrayList<>(addresses.length);
+            for (String address : addresses)
+                hosts.add(nomadAddressAsHttpHost(address));
+            return setAddresses(hosts);
+        }
+
+        /**
+         * Sets the HTTP addresses of several servers in the same region that the client can connect to.
+         * <p>
+         * Queries that allow stale results are spread across all the healthy servers,
+         * and other requests fail over to the next healthy server in this order.
+         *
+         * @param addresses HTTP addresses of the servers
+         * @return this builder object, to allow method chaining
+         */
+        public Builder setAddresses(final List<HttpHost> addresses) {
+            if (addresses.isEmpty())
+                throw new IllegalArgumentException("at least one address is required");
+            this.addresses = new ArrayList<>(addresses);
+            return this;
+        }
+
+        /**
+         * Sets how queries that allow stale results are spread across the configured server addresses.
+         * <p>
+         * Defaults to {@link LoadBalancing#LEAST_IN_FLIGHT}.
+         *
+         * @param loadBalancing the load balancing strategy
+         * @return this builder object, to allow method chaining
+         */
+        public Builder setLoadBalancing(final LoadBalancing loadBalancing) {
+            this.loadBalancing = loadBalancing;
+            return this;
+        }
+
+        /**
+         * Sets whether writes should be sent straight to the region's Raft leader.
+         * <p>
+         * The leader's HTTP address is looked up from the leader's RPC address and the agent member list,
+         * and is assumed to use the same scheme and port as the configured address unless it is itself
+         * one of the configured addresses. Only enable this when the servers' advertised addresses are reachable
+         * from the client. Defaults to false.
+         *
+         * @param routeWritesToLeader true to send writes straight to the leader
+         * @return this builder object, to allow method chaining
+         */
+        public Builder setRouteWritesToLeader(final boolean routeWritesToLeader) {
+            this.routeWritesToLeader = routeWritesToLeader;
+            return this;
+        }
+
+        /**
+         * Sets whether identical queries that are in flight at the same time should share a single HTTP request.
+         * <p>
+         * Queries are identical if they have the same URI, including the index, wait and stale parameters,
+         * and the same ACL token. Callers that share a request receive the same response object,
+         * so response values must then be treated as read-only. Defaults to false.
+         *
+         * @param coalesceQueries true to coalesce identical concurrent queries
+         * @return this builder object, to allow method chaining
+         * @see NomadApiClient#getQueryCoalescingStats()
+         */
+        public Builder setCoalesceQueries(final boolean coalesceQueries) {
+            this.coalesceQueries = coalesceQueries;
+            return this;
+        }
+
+        /**
+         * Sets whether blocking queries that only differ in their index should share a single long poll.
+         * <p>
+         * A blocking query with the same index as a long poll that is already in flight waits for that poll's
+         * response instead of opening a connection of its own. One with a lower index is answered with the
+         * response the in-flight poll's index came from, when known. Callers that share a response receive
+         * the same response object, so response values must then be treated as read-only. Defaults to false.
+         *
+         * @param multiplexLongPolls true to share long polls between waiters on the same blocking query
+         * @return this builder object, to allow method chaining
+         * @see NomadApiClient#getQueryCoalescingStats()
+         */
+        public Builder setMultiplexLongPolls(final boolean multiplexLongPolls) {
+            this.multiplexLongPolls = multiplexLongPolls;
+            return this;
+        }
+
+        /**
+         * Enables caching of the responses to queries that aren't blocking queries.
+         * <p>
+         * Responses are cached by URI, including the region and namespace, and by ACL token.
+         * Once a cached response has been hit, a background blocking query keeps it up to date until it hasn't
+         * been hit for the time to live. Callers receive the same cached response object,
+         * so response values must then be treated as read-only. Responses aren't cached by default.
+         *
+         * @param maxEntries the maximum number of responses to cache, or zero to disable caching
+         * @param ttl        how long a response is used for when it isn't being refreshed in the background,
+         *                   which must be at least a millisecond if responses are cached
+         * @param unit       the unit of {@code ttl}
+         * @return this builder object, to allow method chaining
+         * @see NomadApiClient#getResponseCacheStats()
+         */
+        public Builder setResponseCache(final int maxEntries, final long ttl, final TimeUnit unit) {
+            if (maxEntries < 0)
+                throw new IllegalArgumentException("maxEntries cannot be negative");
+            final long ttlMillis = unit.toMillis(ttl);
+            if (maxEntries > 0 && ttlMillis <= 0)
+                throw new IllegalArgumentException("ttl must be at least a millisecond when caching responses");
+            this.responseCacheMaxEntries = maxEntries;
+            this.responseCacheTtlMillis = ttlMillis;
+            return this;
+        }
+
+        /**
+         * Sets whether request bodies, such as the jobs sent to register, plan or dispatch jobs,
+         * should be compressed with gzip.
+         * <p>
+         * Request bodies are always serialized straight to the connection, but compressing them as well
+         * saves bandwidth on large jobs. Only enable this when the agents, or a proxy in front of them,
+         * accept gzip-encoded request bodies. Defaults to false.
+         *
+         * @param gzipRequests true to compress request bodies
+         * @return this builder object, to allow method chaining
+         */
+        public Builder setGzipRequests(final boolean gzipRequests) {
+            this.gzipRequests = gzipRequests;
             return this;
         }
 
@@ -309,6 +719,62 @@ public class NomadApiConfiguration {
             return this;
         }
 
+        /**
+         * Sets whether responses should keep a copy of the unparsed response body,
+         * available from {@link NomadResponse#getRawEntity()}.
+         * <p>
+         * This defaults to false, in which case response bodies are deserialized directly from the
+         * HTTP connection's input stream and the raw entity is not available.
+         * Raw entities are never kept for responses that are handed to a consumer element by element,
+         * such as those of {@link JobsApi#listEach}.
+         *
+         * @param retainRawEntities true to keep the raw response body of each response
+         * @return this builder object, to allow method chaining
+         */
+        public Builder setRetainRawEntities(boolean retainRawEntities) {
+            this.retainRawEntities = retainRawEntities;
+            return this;
+        }
+
+        /**
+         * Sets the connection pool settings for ordinary request/response calls.
+         * <p>
+         * Defaults to 20 connections in total, 10 per agent, evicted after 60 seconds of idleness.
+         *
+         * @param requestPool the pool settings
+         * @return this builder object, to allow method chaining
+         */
+        public Builder setRequestPool(ConnectionPool requestPool) {
+            this.requestPool = requestPool;
+            return this;
+        }
+
+        /**
+         * Sets the connection pool settings for blocking queries.
+         * <p>
+         * Defaults to 50 connections in total, 50 per agent, evicted after 60 seconds of idleness.
+         *
+         * @param longPollPool the pool settings
+         * @return this builder object, to allow method chaining
+         */
+        public Builder setLongPollPool(ConnectionPool longPollPool) {
+            this.longPollPool = longPollPool;
+            return this;
+        }
+
+        /**
+         * Sets the connection pool settings for streaming responses.
+         * <p>
+         * Defaults to 20 connections in total, 20 per agent, evicted after 60 seconds of idleness.
+         *
+         * @param streamPool the pool settings
+         * @return this builder object, to allow method chaining
+         */
+        public Builder setStreamPool(ConnectionPool streamPool) {
+            this.streamPool = streamPool;
+            return this;
+        }
+
         /**
          * Looks for common Nomad environment variables in the given map, and sets any values found there.
          * <p>
@@ -329,7 +795,7 @@ public class NomadApiConfiguration {
             if (environment.containsKey("NOMAD_ADDR")) {
                 String address = environment.get("NOMAD_ADDR");
                 if (!address.isEmpty())
-                    this.address = HttpHost.create(address);
+                    this.addresses = Collections.singletonList(HttpHost.create(address));
             }
 
             if (environment.containsKey("NOMAD_REGION")) {
@@ -375,8 +841,8 @@ public class NomadApiConfiguration {
          * Builds a new NomadApiConfiguration with the values in the builder.
          */
         public NomadApiConfiguration build() {
-            if (address == null)
-                address = DEFAULT_NOMAD_ADDR;
+            if (addresses == null)
+                addresses = Collections.singletonList(DEFAULT_NOMAD_ADDR);
 
             Tls tls = new Tls(
                     tlsCaFile,
@@ -384,7 +850,11 @@ public class NomadApiConfiguration {
                     tlsCertFile,
                     tlsKeyFile);
 
-            return new NomadApiConfiguration(address, region, namespace, authToken, tls);
+            return new NomadApiConfiguration(
+                    addresses, region, namespace, authToken, tls, retainRawEntities,
+                    requestPool, longPollPool, streamPool, loadBalancing, routeWritesToLeader,
+                    coalesceQueries, multiplexLongPolls, responseCacheMaxEntries, responseCacheTtlMillis,
+                    gzipRequests);
         }
     }
 }
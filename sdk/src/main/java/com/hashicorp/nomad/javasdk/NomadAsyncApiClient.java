@@ -0,0 +1,422 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Node;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.util.EntityUtils;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A non-blocking client for the
+ * <a href="https://www.nomadproject.io/docs/http">Nomad HTTP API</a>.
+ * <p>
+ * This client mirrors the endpoint groups of the {@link NomadApiClient}, but each request returns a
+ * {@link CompletableFuture} instead of blocking the calling thread. Requests are performed by a
+ * non-blocking HTTP client, so a large number of concurrent requests and long-running blocking queries
+ * are served by a small, fixed number of I/O threads.
+ * <p>
+ * Endpoints that stream their responses, namely the agent's log monitor, the event stream, and the client
+ * file system and log streams, are only available from the {@link NomadApiClient}.
+ * <p>
+ * Response bodies are parsed on the I/O thread that received them, so callbacks attached to the returned futures
+ * should avoid blocking; use the {@code *Async} variants of the {@link CompletableFuture} methods to move
+ * long-running work to another executor.
+ */
+public final class NomadAsyncApiClient implements Closeable, AutoCloseable {
+    private NomadApiConfiguration config;
+    private final CloseableHttpAsyncClient httpClient;
+    private final CloseableHttpAsyncClient longPollHttpClient;
+    private final ServerPool serverPool;
+
+    /**
+     * Creates an asynchronous API client.
+     *
+     * @param address the scheme (http or https), host and port of the agent to connect to,
+     *                e.g. "http://localhost:4646"
+     */
+    public NomadAsyncApiClient(final String address) {
+        this(new NomadApiConfiguration.Builder().setAddress(address).build());
+    }
+
+    /**
+     * Creates an asynchronous API client.
+     *
+     * @param address the scheme (http or https), host and port of the agent to connect to
+     */
+    public NomadAsyncApiClient(final HttpHost address) {
+        this(new NomadApiConfiguration.Builder().setAddress(address).build());
+    }
+
+    /**
+     * Creates an asynchronous API client.
+     *
+     * @param config the configuration for the new API client
+     */
+    public NomadAsyncApiClient(NomadApiConfiguration config) {
+        this(config, null);
+    }
+
+    /**
+     * Creates an asynchronous API client using the given configuration.
+     * <p>
+     * When no HTTP client is provided, separate HTTP clients are built for ordinary requests and blocking queries,
+     * each limited to the number of connections given by the configuration's corresponding connection pool.
+     *
+     * @param config     configuration for the API
+     * @param httpClient the non-blocking HTTP client to use for all requests,
+     *                   which will be started if it is not already running.
+     *                   If null, clients will be built using the provided API configuration.
+     */
+    public NomadAsyncApiClient(NomadApiConfiguration config, @Nullable CloseableHttpAsyncClient httpClient) {
+        this.config = config;
+        if (httpClient != null) {
+            this.httpClient = httpClient;
+            this.longPollHttpClient = httpClient;
+        } else {
+            this.httpClient = buildHttpClient(config, config.getRequestPool());
+            this.longPollHttpClient = buildHttpClient(config, config.getLongPollPool());
+        }
+        if (!this.httpClient.isRunning())
+            this.httpClient.start();
+        if (!this.longPollHttpClient.isRunning())
+            this.longPollHttpClient.start();
+        this.serverPool = new ServerPool(
+                config.getAddresses(), config.getLoadBalancing(), new StatusLeaderProber(this.httpClient));
+    }
+
+    /**
+     * Returns the API client's configuration.
+     */
+    public NomadApiConfiguration getConfig() {
+        return config;
+    }
+
+    /**
+     * Closes the underlying HTTP clients, shutting down their I/O threads.
+     */
+    @Override
+    public void close() throws IOException {
+        serverPool.close();
+        try {
+            httpClient.close();
+        } finally {
+            if (longPollHttpClient != httpClient)
+                longPollHttpClient.close();
+        }
+    }
+
+    /**
+     * Sets the active namespace of this API client.
+     *
+     * @param namespace the namespace to use
+     */
+    public void setNamespace(String namespace) {
+        config = config.withNamespace(namespace);
+    }
+
+    /**
+     * Sets the active ACL token secret ID that this client passes to the server.
+     *
+     * @param authToken the secret ID to use
+     */
+    public void setAuthToken(String authToken) {
+        config = config.withAuthToken(authToken);
+    }
+
+    /**
+     * Returns an API for agent a cluster management.
+     */
+    public AsyncAgentApi getAgentApi() {
+        return new AsyncAgentApi(this);
+    }
+
+    /**
+     * Returns an API for querying information about allocations.
+     */
+    public AsyncAllocationsApi getAllocationsApi() {
+        return new AsyncAllocationsApi(this);
+    }
+
+    /**
+     * Returns an API for interacting directly a client node.
+     *
+     * @param node the client node to connect to
+     */
+    public AsyncClientApi getClientApi(final Node node) {
+        return getClientApi(HttpHost.create(
+                node.getTlsEnabled()
+                        ? "https://" + node.getHttpAddr()
+                        : node.getHttpAddr()));
+    }
+
+    /**
+     * Returns an API for interacting directly with a client node.
+     *
+     * @param nodeAddress the HTTP or HTTPS url for the client node in the format "scheme://host:port"
+     */
+    public AsyncClientApi getClientApi(final HttpHost nodeAddress) {
+        return new AsyncClientApi(this, nodeAddress);
+    }
+
+    /**
+     * Returns an API for interacting directly with a client node after looking up its address.
+     *
+     * @param nodeId the nodeId of the client node to connect to
+     */
+    public CompletableFuture<AsyncClientApi> lookupClientApiByNodeId(String nodeId) {
+        return getNodesApi().info(nodeId).thenApply(new Function<ServerQueryResponse<Node>, AsyncClientApi>() {
+            @Override
+            public AsyncClientApi apply(ServerQueryResponse<Node> response) {
+                return getClientApi(response.getValue());
+            }
+        });
+    }
+
+    /**
+     * Returns an API for managing ACL policies.
+     */
+    public AsyncAclPoliciesApi getAclPoliciesApi() {
+        return new AsyncAclPoliciesApi(this);
+    }
+
+    /**
+     * Returns an API for managing ACL tokens.
+     */
+    public AsyncAclTokensApi getAclTokensApi() {
+        return new AsyncAclTokensApi(this);
+    }
+
+    /**
+     * Returns an API for managing CSI plugins.
+     */
+    public AsyncCSIPluginsApi getCSIPluginsApi() {
+        return new AsyncCSIPluginsApi(this);
+    }
+
+    /**
+     * Returns an API for managing CSI volumes.
+     */
+    public AsyncCSIVolumesApi getCSIVolumesApi() {
+        return new AsyncCSIVolumesApi(this);
+    }
+
+    /**
+     * Returns an API for managing deployments.
+     */
+    public AsyncDeploymentsApi getDeploymentsApi() {
+        return new AsyncDeploymentsApi(this);
+    }
+
+    /**
+     * Returns an API for querying information about evaluations.
+     */
+    public AsyncEvaluationsApi getEvaluationsApi() {
+        return new AsyncEvaluationsApi(this);
+    }
+
+    /**
+     * Returns an API for submitting and managing jobs.
+     */
+    public AsyncJobsApi getJobsApi() {
+        return new AsyncJobsApi(this);
+    }
+
+    /**
+     * Returns an API for managing namespaces.
+     */
+    public AsyncNamespacesApi getNamespacesApi() {
+        return new AsyncNamespacesApi(this);
+    }
+
+    /**
+     * Returns an API for querying information about the client nodes in the Nomad cluster.
+     */
+    public AsyncNodesApi getNodesApi() {
+        return new AsyncNodesApi(this);
+    }
+
+    /**
+     * Returns an API for operating the Nomad cluster.
+     */
+    public AsyncOperatorApi getOperatorApi() {
+        return new AsyncOperatorApi(this);
+    }
+
+    /**
+     * Returns an API for managing quotas.
+     */
+    public AsyncQuotasApi getQuotasApi() {
+        return new AsyncQuotasApi(this);
+    }
+
+    /**
+     * Returns an API for listing the regions in the Nomad cluster.
+     */
+    public AsyncRegionsApi getRegionsApi() {
+        return new AsyncRegionsApi(this);
+    }
+
+    /**
+     * Returns an API for accessing scaling policies.
+     */
+    public AsyncScalingApi getScalingApi() {
+        return new AsyncScalingApi(this);
+    }
+
+    /**
+     * Returns an API for searching for items in Nomad cluster.
+     */
+    public AsyncSearchApi getSearchApi() {
+        return new AsyncSearchApi(this);
+    }
+
+    /**
+     * Returns an API for managing Sentinel policies.
+     */
+    public AsyncSentinelPoliciesApi getSentinelPoliciesApi() {
+        return new AsyncSentinelPoliciesApi(this);
+    }
+
+    /**
+     * Returns an API for querying the status of the Nomad cluster.
+     */
+    public AsyncStatusApi getStatusApi() {
+        return new AsyncStatusApi(this);
+    }
+
+    /**
+     * Returns an API for performing system maintenance operations on the Nomad cluster.
+     */
+    public AsyncSystemApi getSystemApi() {
+        return new AsyncSystemApi(this);
+    }
+
+    <R extends NomadResponse<?>> CompletableFuture<R> execute(
+            final RequestBuilder requestBuilder,
+            final ResponseAdapter<?, R> responseAdapter,
+            @Nullable final RequestOptions requestOptions
+    ) {
+        final HttpUriRequest builtRequest = NomadApiClient.buildRequest(config, requestBuilder, requestOptions);
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        final boolean blockingQuery = NomadApiClient.isBlockingQuery(requestOptions);
+        final CloseableHttpAsyncClient client = blockingQuery ? longPollHttpClient : httpClient;
+
+        final HttpUriRequest request;
+        final ServerPool.Server server;
+        if (serverPool.serverFor(builtRequest.getURI()) == null) {
+            request = builtRequest;
+            server = null;
+        } else {
+            server = serverPool.choose(NomadApiClient.isStaleQuery(requestOptions), null);
+            request = RequestBuilder.copy(builtRequest)
+                    .setUri(ServerPool.rewrite(builtRequest.getURI(), server.getAddress()))
+                    .build();
+        }
+        final long start = server == null ? 0 : server.started();
+
+        final Future<HttpResponse> httpFuture = client.execute(request, new FutureCallback<HttpResponse>() {
+            @Override
+            public void completed(HttpResponse response) {
+                if (server != null) {
+                    if (blockingQuery)
+                        server.finished();
+                    else
+                        server.succeeded(start);
+                }
+                try {
+                    if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+                        result.completeExceptionally(ErrorResponseException.signaledInStatus(request, response));
+                        return;
+                    }
+                    try {
+                        result.complete(responseAdapter.apply(response, config.isRetainRawEntities()));
+                    } catch (ErrorFoundInResponseEntityException e) {
+                        result.completeExceptionally(
+                                ErrorResponseException.signaledInEntity(request, response, e.getMessage()));
+                    }
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Exception e) {
+                if (server != null)
+                    server.failed();
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void cancelled() {
+                if (server != null)
+                    server.finished();
+                result.cancel(false);
+            }
+        });
+        result.whenComplete(new BiConsumer<R, Throwable>() {
+            @Override
+            public void accept(R response, Throwable throwable) {
+                if (result.isCancelled())
+                    httpFuture.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private static CloseableHttpAsyncClient buildHttpClient(
+            NomadApiConfiguration config,
+            NomadApiConfiguration.ConnectionPool pool
+    ) {
+        return HttpAsyncClients.custom()
+                .setMaxConnTotal(pool.getMaxTotal())
+                .setMaxConnPerRoute(pool.getMaxPerRoute())
+                .setKeepAliveStrategy(NomadApiClient.buildKeepAliveStrategy())
+                .setSSLContext(NomadApiClient.buildSslContext(config.getTls()))
+                .setSSLHostnameVerifier(new NomadHostnameVerifier())
+                .build();
+    }
+
+    /**
+     * Probes an ejected server by asking it for the current leader.
+     */
+    private static final class StatusLeaderProber implements ServerPool.Prober {
+        private final CloseableHttpAsyncClient httpClient;
+
+        StatusLeaderProber(CloseableHttpAsyncClient httpClient) {
+            this.httpClient = httpClient;
+        }
+
+        @Override
+        public boolean probe(HttpHost address) {
+            try {
+                final HttpResponse response = httpClient
+                        .execute(new HttpGet(address.toURI() + "/v1/status/leader"), null)
+                        .get(ServerPool.PROBE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                EntityUtils.consumeQuietly(response.getEntity());
+                return response.getStatusLine().getStatusCode() == HttpStatus.SC_OK;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException | TimeoutException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -2,19 +2,28 @@ package com.hashicorp.nomad.javasdk;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.hashicorp.nomad.apimodel.Job;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.text.SimpleDateFormat;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.fasterxml.jackson.databind.PropertyNamingStrategy.UPPER_CAMEL_CASE;
 
@@ -36,12 +45,46 @@ public abstract class NomadJson {
         simpleModule.addDeserializer(Date.class, new CustomDateDeserializer());
         OBJECT_MAPPER.registerModule(simpleModule);
 
+        // Read and write model classes with their generated codecs, for those that have one.
+        OBJECT_MAPPER.registerModule(new ApiObjectCodecModule());
+
         OBJECT_MAPPER.setConfig(
                 OBJECT_MAPPER.getSerializationConfig()
                         .with(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"))
         );
     }
 
+    // Readers and writers resolve their root type's (de)serializer once, so they are cached for reuse by every call.
+    // They are created lazily, after the mapper above has been fully configured.
+    private static final ConcurrentMap<JavaType, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, JsonParser<?>> PARSERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, JsonParser<?>> LIST_PARSERS = new ConcurrentHashMap<>();
+
+    private static volatile UnknownPropertyPolicy unknownPropertyPolicy = UnknownPropertyPolicy.KEEP;
+
+    /**
+     * Gets the policy for properties in API responses that the model classes don't have bean properties for.
+     */
+    public static UnknownPropertyPolicy getUnknownPropertyPolicy() {
+        return unknownPropertyPolicy;
+    }
+
+    /**
+     * Sets the policy for properties in API responses that the model classes don't have bean properties for.
+     * <p>
+     * Newer Nomad servers add properties to many nested objects, so keeping them all can cost a lot of memory
+     * in applications that hold on to many API objects. The policy applies to everything deserialized
+     * after it has been set.
+     *
+     * @param policy the policy
+     */
+    public static void setUnknownPropertyPolicy(UnknownPropertyPolicy policy) {
+        if (policy == null)
+            throw new NullPointerException("policy");
+        unknownPropertyPolicy = policy;
+    }
+
     /**
      * Reads a <a href="https://www.nomadproject.io/docs/http/json-jobs.html">JSON job spec</a>.
      *
@@ -49,7 +92,7 @@ public abstract class NomadJson {
      * @throws IOException if there the JSON ends unexpectedly
      */
     public static Job readJobSpec(String jobSpec) throws IOException {
-        return OBJECT_MAPPER.readValue(jobSpec, JobSpec.class).job;
+        return readerFor(JobSpec.class).<JobSpec>readValue(jobSpec).job;
     }
 
     /**
@@ -59,7 +102,7 @@ public abstract class NomadJson {
      * @throws JsonProcessingException if there is a problem with the JSON
      */
     public static String asJobSpec(Job job) throws JsonProcessingException {
-        return OBJECT_MAPPER.writeValueAsString(new JobSpec(job));
+        return writerFor(JobSpec.class).writeValueAsString(new JobSpec(job));
     }
 
     /**
@@ -72,12 +115,32 @@ public abstract class NomadJson {
      */
     public static String serialize(Object value) {
         try {
-            return OBJECT_MAPPER.writeValueAsString(value);
+            return value == null ? "null" : writerFor(value.getClass()).writeValueAsString(value);
         } catch (JsonProcessingException e) {
             throw new RequestSerializationException("Unable to serialize request entity: " + e, e);
         }
     }
 
+    /**
+     * Serializes a Nomad API object to JSON, writing it straight to a stream, which is left open.
+     *
+     * @param value the value to serialize
+     * @param out   the stream to write the value's UTF-8 JSON representation to
+     * @throws IOException if the stream cannot be written to
+     */
+    static void serialize(Object value, OutputStream out) throws IOException {
+        final ObjectWriter writer = writerFor(value == null ? Object.class : value.getClass());
+        final JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try {
+            writer.writeValue(generator, value);
+        } catch (JsonGenerationException | JsonMappingException e) {
+            throw new RequestSerializationException("Unable to serialize request entity: " + e, e);
+        } finally {
+            generator.close();
+        }
+    }
+
     /**
      * Deserializes a Nomad API object from a JSON object.
      * <p>
@@ -90,7 +153,7 @@ public abstract class NomadJson {
      * @throws IOException if the JSON can't be deserialized
      */
     public static <T> T deserialize(String json, Class<T> clazz) throws IOException {
-        return deserialize(json, OBJECT_MAPPER.constructType(clazz));
+        return parserFor(clazz).read(json);
     }
 
     /**
@@ -105,11 +168,39 @@ public abstract class NomadJson {
      * @throws IOException if the JSON can't be deserialized
      */
     public static <T> List<T> deserializeList(String json, Class<T> clazz) throws IOException {
-        return deserialize(json, OBJECT_MAPPER.getTypeFactory().constructCollectionType(List.class, clazz));
+        return parserForListOf(clazz).read(json);
+    }
+
+    /**
+     * Returns a reader for the given type, reusing the one that was built the first time it was asked for.
+     */
+    static ObjectReader readerFor(JavaType valueType) {
+        ObjectReader reader = READERS.get(valueType);
+        if (reader == null) {
+            reader = OBJECT_MAPPER.readerFor(valueType);
+            final ObjectReader existing = READERS.putIfAbsent(valueType, reader);
+            if (existing != null)
+                reader = existing;
+        }
+        return reader;
+    }
+
+    static ObjectReader readerFor(Class<?> clazz) {
+        return readerFor(OBJECT_MAPPER.constructType(clazz));
     }
 
-    static <T> T deserialize(String json, JavaType javaType) throws IOException {
-        return OBJECT_MAPPER.readValue(json, javaType);
+    /**
+     * Returns a writer for values of the given class, reusing the one that was built the first time it was asked for.
+     */
+    static ObjectWriter writerFor(Class<?> clazz) {
+        ObjectWriter writer = WRITERS.get(clazz);
+        if (writer == null) {
+            writer = OBJECT_MAPPER.writerFor(clazz);
+            final ObjectWriter existing = WRITERS.putIfAbsent(clazz, writer);
+            if (existing != null)
+                writer = existing;
+        }
+        return writer;
     }
 
     static <T> JsonParser<T> parserFor(JavaType valueType) {
@@ -117,24 +208,71 @@ public abstract class NomadJson {
     }
 
     static <T> JsonParser<T> parserFor(Class<T> clazz) {
-        return parserFor(OBJECT_MAPPER.constructType(clazz));
+        @SuppressWarnings("unchecked")
+        JsonParser<T> parser = (JsonParser<T>) PARSERS.get(clazz);
+        if (parser == null) {
+            parser = parserFor(OBJECT_MAPPER.constructType(clazz));
+            PARSERS.putIfAbsent(clazz, parser);
+        }
+        return parser;
     }
 
     static <T> JsonParser<List<T>> parserForListOf(Class<T> elementType) {
-        return parserFor(OBJECT_MAPPER.getTypeFactory().constructCollectionType(List.class, elementType));
+        @SuppressWarnings("unchecked")
+        JsonParser<List<T>> parser = (JsonParser<List<T>>) LIST_PARSERS.get(elementType);
+        if (parser == null) {
+            parser = parserFor(OBJECT_MAPPER.getTypeFactory().constructCollectionType(List.class, elementType));
+            LIST_PARSERS.putIfAbsent(elementType, parser);
+        }
+        return parser;
     }
 
     static <T> ValueExtractor<List<T>> parserForSortedListOf(
             final Class<T> elementType, final Comparator<T> comparator) {
-        final JsonParser<List<T>> parser = parserForListOf(elementType);
-        return new ValueExtractor<List<T>>() {
-            @Override
-            public List<T> extractValue(String json) throws ResponseParsingException {
-                List<T> list = parser.extractValue(json);
-                Collections.sort(list, comparator);
-                return list;
-            }
-        };
+        return new SortedListParser<>(NomadJson.<T>parserForListOf(elementType), comparator);
+    }
+
+    /**
+     * Parses a list and sorts it.
+     *
+     * @param <T> the type of the list's elements
+     */
+    private static final class SortedListParser<T> implements StreamingValueExtractor<List<T>> {
+        private final JsonParser<List<T>> parser;
+        private final Comparator<T> comparator;
+
+        SortedListParser(JsonParser<List<T>> parser, Comparator<T> comparator) {
+            this.parser = parser;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public List<T> extractValue(String json) throws ResponseParsingException {
+            List<T> list = parser.extractValue(json);
+            Collections.sort(list, comparator);
+            return list;
+        }
+
+        @Override
+        public List<T> extractValue(InputStream stream) throws IOException, ResponseParsingException {
+            List<T> list = parser.extractValue(stream);
+            Collections.sort(list, comparator);
+            return list;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            SortedListParser<?> that = (SortedListParser<?>) o;
+            return parser.equals(that.parser) && comparator.equals(that.comparator);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * parser.hashCode() + comparator.hashCode();
+        }
     }
 
     /**
@@ -14,17 +14,20 @@ public class NomadResponse<T> {
     /**
      * Creates a new NomadResponse.
      *
-     * @param rawEntity    the unparsed HTTP response entity (body)
+     * @param rawEntity    the unparsed HTTP response entity (body),
+     *                     or null if the client is not configured to retain raw entities
      * @param value        response value extracted from the response entity
      */
-    public NomadResponse(String rawEntity, @Nullable T value) {
+    public NomadResponse(@Nullable String rawEntity, @Nullable T value) {
         this.rawEntity = rawEntity;
         this.value = value;
     }
 
     /**
-     * @return the raw HTTP response body as a String
+     * @return the raw HTTP response body as a String,
+     * or null unless the client is configured to {@link NomadApiConfiguration#isRetainRawEntities() retain} it
      */
+    @Nullable
     public String getRawEntity() {
         return rawEntity;
     }
@@ -38,6 +41,8 @@ public class NomadResponse<T> {
 
     @Override
     public String toString() {
+        if (rawEntity == null)
+            return "<Response containing value: [" + value + "]>";
         return "<Response containing "
                 + rawEntity.length() + " codepoint entity: [" + getRawEntity() + "]>";
     }
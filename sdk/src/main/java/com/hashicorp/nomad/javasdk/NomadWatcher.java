@@ -0,0 +1,447 @@
+package com.hashicorp.nomad.javasdk;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.math.BigInteger;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs many blocking-query watches on a small, fixed number of threads.
+ * <p>
+ * Each watch repeatedly performs a blocking query, typically through one of the {@link NomadAsyncApiClient}'s APIs,
+ * tracking the index itself so that each query blocks until something changes. Since the non-blocking client
+ * doesn't park a thread per request, a watch only uses a thread while its response is being handled,
+ * and thousands of watches can share a couple of threads. Each concurrent blocking query still holds an HTTP
+ * connection, so the client's {@link NomadApiConfiguration#getLongPollPool() long poll pool} has to allow
+ * as many connections as there are watches.
+ * <p>
+ * When a query returns quickly without its index having changed, e.g. because the agent isn't honoring the index,
+ * the watch backs off before querying again rather than spinning. A query counts as returning quickly if it
+ * took less than half of the wait time it asked for, or less than a second if that is shorter or the wait time
+ * is left to the server. Failed queries are retried with the same backoff.
+ * <p>
+ * Each query is performed with a copy of the watch's options, so it behaves like the same query performed directly,
+ * except that the index is the one tracked by the watch. The next token isn't copied, since a watch always queries
+ * from the first page, and nor is the repeated poll predicate, since the watch's own predicate takes its place.
+ * <p>
+ * A wait strategy in the watch's options is asked for the wait time of every query. Once it is exhausted,
+ * e.g. because its deadline has passed, the watch ends: it is cancelled and its callback's
+ * {@link Callback#failed(Throwable) failed} method is called with the {@link WaitStrategyExhaustedException}.
+ */
+public final class NomadWatcher implements Closeable, AutoCloseable {
+    static final long MIN_BACKOFF_MILLIS = 100;
+    static final long MAX_BACKOFF_MILLIS = 30000;
+    static final long MIN_BLOCKING_MILLIS = 1000;
+
+    private static final Pattern WAIT_PART = Pattern.compile("(\\d+(?:\\.\\d*)?)(ns|us|\u00b5s|ms|s|m|h)");
+
+    /**
+     * Performs the query of a watch.
+     *
+     * @param <T> the type of the query's response value
+     */
+    public interface Query<T> {
+        /**
+         * Starts the query.
+         *
+         * @param options the options to perform the query with, including the index to block on
+         * @return a future response to the query
+         */
+        CompletableFuture<ServerQueryResponse<T>> execute(QueryOptions<T> options);
+    }
+
+    /**
+     * Receives the changes seen by a watch.
+     * <p>
+     * Callbacks are called on the watcher's threads, one at a time per watch, and should return quickly.
+     * Runtime exceptions thrown by callbacks are ignored.
+     *
+     * @param <T> the type of the query's response value
+     */
+    public interface Callback<T> {
+        /**
+         * Called with the first response, and with each response whose index has changed since,
+         * if it satisfies the watch's predicate.
+         *
+         * @param response the response
+         */
+        void changed(ServerQueryResponse<T> response);
+
+        /**
+         * Called when a query fails. The watch carries on, retrying the query after a backoff,
+         * unless the failure is a {@link WaitStrategyExhaustedException}, which ends the watch.
+         *
+         * @param error the reason the query failed
+         */
+        void failed(Throwable error);
+    }
+
+    private final ScheduledExecutorService scheduler;
+    private final Set<Watch> watches = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    /**
+     * Creates a watcher that handles responses on as many threads as there are processors.
+     */
+    public NomadWatcher() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a watcher.
+     *
+     * @param threads the number of threads to handle responses on
+     */
+    public NomadWatcher(final int threads) {
+        scheduler = new ScheduledThreadPoolExecutor(threads, new WatcherThreadFactory());
+    }
+
+    /**
+     * Starts a watch that calls back with every change to the query's response.
+     *
+     * @param query    performs the query
+     * @param callback receives the changes
+     * @param <T>      the type of the query's response value
+     * @return a handle to cancel the watch with
+     */
+    public <T> Watch watch(final Query<T> query, final Callback<T> callback) {
+        return watch(query, null, null, callback);
+    }
+
+    /**
+     * Starts a watch.
+     *
+     * @param query     performs the query
+     * @param options   options to perform the query with, such as the namespace or wait strategy;
+     *                  their index is used as the starting index, after which the watch tracks the index itself
+     * @param predicate if not null, only changed responses that satisfy this predicate are passed to the callback
+     * @param callback  receives the changes
+     * @param <T>       the type of the query's response value
+     * @return a handle to cancel the watch with
+     */
+    public <T> Watch watch(
+            final Query<T> query,
+            @Nullable final QueryOptions<T> options,
+            @Nullable final Predicate<ServerQueryResponse<T>> predicate,
+            final Callback<T> callback
+    ) {
+        if (closed)
+            throw new IllegalStateException("the watcher has been closed");
+        final Poller<T> poller = new Poller<>(query, options, predicate, callback);
+        watches.add(poller.watch);
+        scheduler.execute(poller);
+        return poller.watch;
+    }
+
+    /**
+     * Returns the number of watches that haven't been cancelled.
+     */
+    public int getWatchCount() {
+        return watches.size();
+    }
+
+    /**
+     * Cancels all the watches and stops the watcher's threads.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Watch watch : watches)
+            watch.cancel();
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * A handle on a watch started by a {@link NomadWatcher}.
+     */
+    public final class Watch implements Closeable, AutoCloseable {
+        private volatile boolean cancelled;
+        // Zero until the watch has an index, since indexes seen are never stored as zero
+        private volatile long index;
+
+        private Watch() {
+        }
+
+        /**
+         * Stops the watch. A query that is in flight is left to finish, but its response is ignored.
+         */
+        public void cancel() {
+            cancelled = true;
+            watches.remove(this);
+        }
+
+        /**
+         * Returns true once the watch has been cancelled.
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Returns the index of the latest response seen by the watch, or null if it hasn't seen one yet.
+         */
+        @Nullable
+        public BigInteger getIndex() {
+            final long current = index;
+            return current == 0 ? null : QueryOptions.toBigInteger(current);
+        }
+
+        @Override
+        public void close() {
+            cancel();
+        }
+    }
+
+    /**
+     * Performs a watch's queries and handles their responses.
+     *
+     * @param <T> the type of the query's response value
+     */
+    private final class Poller<T> implements Runnable, BiConsumer<ServerQueryResponse<T>, Throwable> {
+        private final Watch watch = new Watch();
+        private final Query<T> query;
+        @Nullable
+        private final QueryOptions<T> options;
+        @Nullable
+        private final Predicate<ServerQueryResponse<T>> predicate;
+        private final Callback<T> callback;
+        @Nullable
+        private final WaitStrategy waitStrategy;
+        private long backoffMillis = MIN_BACKOFF_MILLIS;
+        private long startedAt;
+        // The wait time asked for by the query in flight, or -1 if it was left to the server
+        private volatile long requestedWaitMillis = -1;
+        // Set once the wait strategy is exhausted, after which no more queries are performed
+        @Nullable
+        private volatile WaitStrategyExhaustedException exhaustion;
+
+        Poller(
+                final Query<T> query,
+                @Nullable final QueryOptions<T> options,
+                @Nullable final Predicate<ServerQueryResponse<T>> predicate,
+                final Callback<T> callback
+        ) {
+            this.query = query;
+            this.options = options;
+            this.predicate = predicate;
+            this.callback = callback;
+            watch.index = options == null ? 0 : options.getIndexAsLong();
+            this.waitStrategy = options == null || options.getWaitStrategy() == null
+                    ? null : new RecordingWaitStrategy(options.getWaitStrategy(), this);
+        }
+
+        @Override
+        public void run() {
+            if (watch.cancelled)
+                return;
+            if (exhaustion != null) {
+                end();
+                return;
+            }
+            startedAt = System.currentTimeMillis();
+            requestedWaitMillis = -1;
+            final CompletableFuture<ServerQueryResponse<T>> future;
+            try {
+                future = query.execute(nextOptions());
+            } catch (RuntimeException e) {
+                failed(e);
+                return;
+            }
+            future.whenCompleteAsync(this, scheduler);
+        }
+
+        @Override
+        public void accept(final ServerQueryResponse<T> response, final Throwable error) {
+            if (watch.cancelled)
+                return;
+            if (error != null) {
+                failed(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                return;
+            }
+
+            final long newIndex;
+            try {
+                newIndex = response.getIndexAsLong();
+            } catch (RuntimeException e) {
+                failed(e);
+                return;
+            }
+
+            if (!ServerResponse.indexChanged(watch.index, newIndex)) {
+                if (returnedQuickly(System.currentTimeMillis() - startedAt, requestedWaitMillis)) {
+                    retryLater();
+                } else {
+                    // The query blocked until its wait time ran out, which is what we want
+                    backoffMillis = MIN_BACKOFF_MILLIS;
+                    run();
+                }
+                return;
+            }
+
+            backoffMillis = MIN_BACKOFF_MILLIS;
+            watch.index = ServerResponse.trackedIndex(newIndex);
+            try {
+                if (predicate == null || predicate.apply(response))
+                    callback.changed(response);
+            } catch (RuntimeException ignored) {
+                // A misbehaving callback mustn't stop the watch
+            }
+            run();
+        }
+
+        private QueryOptions<T> nextOptions() {
+            final QueryOptions<T> next = new QueryOptions<T>();
+            if (watch.index != 0)
+                next.setIndex(watch.index);
+            if (options != null) {
+                next.setRegion(options.getRegion())
+                        .setNamespace(options.getNamespace())
+                        .setAuthToken(options.getAuthToken())
+                        .setAllowStale(options.isAllowStale())
+                        .setPerPage(options.getPerPage())
+                        .setFilter(options.getFilter())
+                        .setFields(options.getFields())
+                        .setLazyNestedObjects(options.isLazyNestedObjects())
+                        .setCanonicalizer(options.getCanonicalizer());
+                if (waitStrategy != null)
+                    next.setWaitStrategy(waitStrategy);
+            }
+            return next;
+        }
+
+        private void failed(final Throwable error) {
+            try {
+                callback.failed(error);
+            } catch (RuntimeException ignored) {
+                // A misbehaving callback mustn't stop the watch
+            }
+            retryLater();
+        }
+
+        private void retryLater() {
+            if (watch.cancelled || closed)
+                return;
+            if (exhaustion != null) {
+                end();
+                return;
+            }
+            scheduler.schedule(this, backoffMillis, TimeUnit.MILLISECONDS);
+            backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+        }
+
+        private void end() {
+            watch.cancel();
+            try {
+                callback.failed(exhaustion);
+            } catch (RuntimeException ignored) {
+                // The watch has ended anyway
+            }
+        }
+    }
+
+    /**
+     * Returns true if a query that returned without the index changing did so too quickly to have blocked.
+     *
+     * @param elapsedMillis       how long the query took
+     * @param requestedWaitMillis the wait time the query asked for, or -1 if it was left to the server
+     */
+    static boolean returnedQuickly(final long elapsedMillis, final long requestedWaitMillis) {
+        if (requestedWaitMillis == 0)
+            return true;
+        final long minBlockingMillis = requestedWaitMillis < 0
+                ? MIN_BLOCKING_MILLIS : Math.min(MIN_BLOCKING_MILLIS, requestedWaitMillis / 2);
+        return elapsedMillis < minBlockingMillis;
+    }
+
+    /**
+     * Parses a wait value, such as "500ms" or "1m30s", into milliseconds.
+     *
+     * @return the wait time in milliseconds, or -1 if the value is null or can't be parsed
+     */
+    static long parseWaitMillis(@Nullable final String wait) {
+        if (wait == null || wait.isEmpty())
+            return -1;
+        final Matcher matcher = WAIT_PART.matcher(wait);
+        double millis = 0;
+        int end = 0;
+        while (matcher.find() && matcher.start() == end) {
+            final double amount = Double.parseDouble(matcher.group(1));
+            switch (matcher.group(2)) {
+                case "ns":
+                    millis += amount / 1e6;
+                    break;
+                case "us":
+                case "\u00b5s":
+                    millis += amount / 1e3;
+                    break;
+                case "ms":
+                    millis += amount;
+                    break;
+                case "s":
+                    millis += amount * 1e3;
+                    break;
+                case "m":
+                    millis += amount * 60e3;
+                    break;
+                default:
+                    millis += amount * 3600e3;
+                    break;
+            }
+            end = matcher.end();
+        }
+        return end == wait.length() ? (long) millis : -1;
+    }
+
+    /**
+     * Passes on the wait values of a watch's wait strategy, noting the wait time of the query in flight
+     * and whether the strategy has been exhausted.
+     */
+    private static final class RecordingWaitStrategy extends WaitStrategy {
+        private final WaitStrategy delegate;
+        private final Poller<?> poller;
+
+        RecordingWaitStrategy(final WaitStrategy delegate, final Poller<?> poller) {
+            this.delegate = delegate;
+            this.poller = poller;
+        }
+
+        @Override
+        public String getWait() throws WaitStrategyExhaustedException {
+            try {
+                final String wait = delegate.getWait();
+                poller.requestedWaitMillis = parseWaitMillis(wait);
+                return wait;
+            } catch (WaitStrategyExhaustedException e) {
+                // The query is then performed without waiting, if at all, and is the watch's last
+                poller.requestedWaitMillis = 0;
+                poller.exhaustion = e;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Creates the daemon threads that handle the watches.
+     */
+    private static final class WatcherThreadFactory implements ThreadFactory {
+        private final AtomicLong count = new AtomicLong();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "nomad-watcher-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.hashicorp.nomad.javasdk;
+
+/**
+ * Thrown by the iterators and streams of a {@link PagedQuery} when fetching a page fails,
+ * since they can't throw checked exceptions.
+ * <p>
+ * The cause is the {@link java.io.IOException} or {@link NomadException} that the page request failed with.
+ */
+public class PageFetchException extends RuntimeException {
+    PageFetchException(Exception cause) {
+        super(cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,121 @@
+package com.hashicorp.nomad.javasdk;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A list query whose results are fetched from the server a page at a time, as they are needed.
+ * <p>
+ * Only one page of results is held in memory at once, however large the full list is.
+ * Each iteration starts again from the first page. Failures to fetch a page are thrown from iterators and streams
+ * as {@link PageFetchException}s; use {@link #page(String)} to handle them as checked exceptions instead.
+ *
+ * @param <T> the type of the listed resources
+ * @see QueryOptions#setPerPage(Integer)
+ */
+public final class PagedQuery<T> implements Iterable<T> {
+
+    /**
+     * Performs the list query for one page.
+     *
+     * @param <T> the type of the listed resources
+     */
+    interface Lister<T> {
+        ServerQueryResponse<List<T>> list(QueryOptions<List<T>> options) throws IOException, NomadException;
+    }
+
+    private final Lister<T> lister;
+    private final int perPage;
+    @Nullable
+    private final QueryOptions<List<T>> options;
+
+    PagedQuery(final Lister<T> lister, final int perPage, @Nullable final QueryOptions<List<T>> options) {
+        if (perPage <= 0)
+            throw new IllegalArgumentException("the page size must be positive, but was " + perPage);
+        this.lister = lister;
+        this.perPage = perPage;
+        this.options = options;
+    }
+
+    /**
+     * Fetches a page of results.
+     *
+     * @param nextToken the next token from the previous page, or null to fetch the first page
+     * @return the page, whose {@link ServerQueryResponse#getNextToken()} is null if it is the last page
+     * @throws IOException    if there is an HTTP or lower-level problem
+     * @throws NomadException if the response signals an error or cannot be deserialized
+     */
+    public ServerQueryResponse<List<T>> page(@Nullable final String nextToken) throws IOException, NomadException {
+        final QueryOptions<List<T>> pageOptions = new QueryOptions<List<T>>()
+                .setPerPage(perPage)
+                .setNextToken(nextToken);
+        if (options != null) {
+            pageOptions.setRegion(options.getRegion())
+                    .setNamespace(options.getNamespace())
+                    .setAuthToken(options.getAuthToken())
+                    .setAllowStale(options.isAllowStale())
+                    .setFilter(options.getFilter())
+                    .setFields(options.getFields())
+                    .setLazyNestedObjects(options.isLazyNestedObjects())
+                    .setCanonicalizer(options.getCanonicalizer());
+        }
+        return lister.list(pageOptions);
+    }
+
+    /**
+     * Returns an iterator over all the results, which fetches each page when the previous one has been consumed.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new PageIterator();
+    }
+
+    /**
+     * Returns a sequential stream of all the results, which fetches each page when the previous one has been consumed.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Iterates over the results of successive pages.
+     */
+    private final class PageIterator implements Iterator<T> {
+        private Iterator<T> page = Collections.emptyIterator();
+        @Nullable
+        private String nextToken;
+        private boolean lastPage;
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext()) {
+                if (lastPage)
+                    return false;
+                final ServerQueryResponse<List<T>> response;
+                try {
+                    response = page(nextToken);
+                } catch (IOException | NomadException e) {
+                    throw new PageFetchException(e);
+                }
+                nextToken = response.getNextToken();
+                lastPage = nextToken == null;
+                final List<T> results = response.getValue();
+                page = results == null ? Collections.<T>emptyIterator() : results.iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            return page.next();
+        }
+    }
+}
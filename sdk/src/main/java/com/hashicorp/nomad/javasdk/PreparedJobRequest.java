@@ -0,0 +1,260 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.hashicorp.nomad.apimodel.Job;
+import com.hashicorp.nomad.apimodel.TaskGroup;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A job registration or dispatch request that has been serialized once, so that it can be sent many times
+ * with different metadata, payloads or task group counts without walking the whole request again.
+ * <p>
+ * The request is rendered into a byte template with slots for the values that can be substituted, so each
+ * submission only costs a copy of the template plus the serialization of the substituted values.
+ * Prepared requests are immutable and thread-safe, and are sent with
+ * {@link JobsApi#dispatch(PreparedJobRequest, Map, byte[], WriteOptions)} and
+ * {@link JobsApi#register(PreparedJobRequest, Map, Map, WriteOptions)}, or their asynchronous counterparts
+ * {@link AsyncJobsApi#dispatch(PreparedJobRequest, Map, byte[], WriteOptions)} and
+ * {@link AsyncJobsApi#register(PreparedJobRequest, Map, Map, WriteOptions)}.
+ * Changes made to a job after it has been prepared are not reflected in the request.
+ */
+public final class PreparedJobRequest {
+    private final String jobId;
+    private final boolean dispatch;
+    private final byte[][] segments;
+    private final Slot[] slots;
+
+    private PreparedJobRequest(String jobId, boolean dispatch, ObjectNode request, List<Slot> slots) {
+        this.jobId = jobId;
+        this.dispatch = dispatch;
+
+        final byte[] json = NomadJson.serialize(request).getBytes(UTF_8);
+        final List<int[]> positions = new ArrayList<>(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            final int start = indexOf(json, slots.get(i).marker);
+            if (start < 0)
+                throw new IllegalStateException("slot missing from prepared request: " + slots.get(i));
+            positions.add(new int[]{start, i});
+        }
+        Collections.sort(positions, new Comparator<int[]>() {
+            @Override
+            public int compare(int[] a, int[] b) {
+                return Integer.compare(a[0], b[0]);
+            }
+        });
+
+        this.segments = new byte[slots.size() + 1][];
+        this.slots = new Slot[slots.size()];
+        int from = 0;
+        for (int i = 0; i < positions.size(); i++) {
+            final Slot slot = slots.get(positions.get(i)[1]);
+            final int start = positions.get(i)[0];
+            this.segments[i] = Arrays.copyOfRange(json, from, start);
+            this.slots[i] = slot;
+            from = start + slot.marker.length;
+        }
+        this.segments[slots.size()] = Arrays.copyOfRange(json, from, json.length);
+    }
+
+    /**
+     * Prepares a request to dispatch a parameterized job, whose metadata and payload can be substituted.
+     *
+     * @param jobId the ID of the parameterized job to instantiate
+     */
+    public static PreparedJobRequest dispatch(String jobId) {
+        final ObjectNode request = NomadJson.OBJECT_MAPPER.valueToTree(
+                new JobsApi.JobDispatchRequest(jobId, null, null));
+        final String prefix = newMarkerPrefix();
+        final List<Slot> slots = new ArrayList<>();
+        slots.add(slot(request, "Meta", SlotType.META, null, prefix + slots.size()));
+        slots.add(slot(request, "Payload", SlotType.PAYLOAD, null, prefix + slots.size()));
+        return new PreparedJobRequest(jobId, true, request, slots);
+    }
+
+    /**
+     * Prepares a request to register a job, whose metadata and task group counts can be substituted.
+     *
+     * @param job detailed specification of the job to register
+     */
+    public static PreparedJobRequest register(Job job) {
+        return register(job, null, false);
+    }
+
+    /**
+     * Prepares a request to register a job, whose metadata and task group counts can be substituted.
+     *
+     * @param job            detailed specification of the job to register
+     * @param modifyIndex    when specified, the registration is only performed if the job's modify index matches
+     * @param policyOverride if true, any soft mandatory Sentinel policies will be overriden
+     */
+    public static PreparedJobRequest register(Job job, @Nullable BigInteger modifyIndex, boolean policyOverride) {
+        final ObjectNode request = NomadJson.OBJECT_MAPPER.valueToTree(
+                new JobsApi.JobRegistrationRequest(job, modifyIndex, policyOverride));
+        final ObjectNode jobNode = (ObjectNode) request.get("Job");
+        final String prefix = newMarkerPrefix();
+        final List<Slot> slots = new ArrayList<>();
+        slots.add(slot(jobNode, "Meta", SlotType.META, null, prefix + slots.size()));
+
+        final JsonNode groups = jobNode.get("TaskGroups");
+        final List<TaskGroup> taskGroups = job.getTaskGroups();
+        if (groups != null && groups.isArray() && taskGroups != null) {
+            for (int i = 0; i < groups.size() && i < taskGroups.size(); i++) {
+                final String name = taskGroups.get(i).getName();
+                if (name != null)
+                    slots.add(slot((ObjectNode) groups.get(i), "Count", SlotType.COUNT, name, prefix + slots.size()));
+            }
+        }
+        return new PreparedJobRequest(job.getId(), false, request, slots);
+    }
+
+    /**
+     * Gets the ID of the job the request is for.
+     */
+    public String getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Returns true if this is a dispatch request, or false if it is a registration request.
+     */
+    public boolean isDispatch() {
+        return dispatch;
+    }
+
+    /**
+     * Renders the request as JSON, substituting the given values.
+     *
+     * @param meta    the metadata, or null to keep the prepared metadata
+     * @param payload the dispatch payload, or null for none
+     * @param counts  task group counts by task group name, with the prepared count kept for groups that are missing
+     */
+    byte[] render(
+            @Nullable Map<String, String> meta,
+            @Nullable byte[] payload,
+            @Nullable Map<String, Integer> counts
+    ) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(estimateSize(payload));
+        for (int i = 0; i < slots.length; i++) {
+            out.write(segments[i], 0, segments[i].length);
+            final byte[] value = slots[i].render(meta, payload, counts);
+            out.write(value, 0, value.length);
+        }
+        out.write(segments[slots.length], 0, segments[slots.length].length);
+        return out.toByteArray();
+    }
+
+    private int estimateSize(@Nullable byte[] payload) {
+        int size = 64;
+        for (byte[] segment : segments)
+            size += segment.length;
+        for (Slot slot : slots)
+            size += slot.defaultValue.length;
+        return payload == null ? size : size + (payload.length + 2) / 3 * 4;
+    }
+
+    private static String newMarkerPrefix() {
+        return "\u0000" + UUID.randomUUID() + ":";
+    }
+
+    /**
+     * Replaces a field's value with a unique marker string, to be found in the serialized request.
+     */
+    private static Slot slot(ObjectNode parent, String field, SlotType type, @Nullable String group, String marker) {
+        final Slot slot = new Slot(type, group, marker, NomadJson.serialize(parent.get(field)).getBytes(UTF_8));
+        parent.set(field, TextNode.valueOf(marker));
+        return slot;
+    }
+
+    private static int indexOf(byte[] haystack, byte[] needle) {
+        outer:
+        for (int i = 0; i <= haystack.length - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j])
+                    continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * The kinds of value that can be substituted.
+     */
+    private enum SlotType {
+        META,
+        PAYLOAD,
+        COUNT
+    }
+
+    /**
+     * A place in the template where a value is substituted.
+     */
+    private static final class Slot {
+        private final SlotType type;
+        @Nullable private final String group;
+        private final byte[] marker;
+        private final byte[] defaultValue;
+
+        Slot(SlotType type, @Nullable String group, String marker, byte[] defaultValue) {
+            this.type = type;
+            this.group = group;
+            this.marker = NomadJson.serialize(marker).getBytes(UTF_8);
+            this.defaultValue = defaultValue;
+        }
+
+        byte[] render(
+                @Nullable Map<String, String> meta,
+                @Nullable byte[] payload,
+                @Nullable Map<String, Integer> counts
+        ) {
+            switch (type) {
+                case META:
+                    return meta == null ? defaultValue : serialize(meta);
+                case PAYLOAD:
+                    if (payload == null)
+                        return defaultValue;
+                    final byte[] encoded = Base64.getEncoder().encode(payload);
+                    final byte[] quoted = new byte[encoded.length + 2];
+                    quoted[0] = '"';
+                    System.arraycopy(encoded, 0, quoted, 1, encoded.length);
+                    quoted[quoted.length - 1] = '"';
+                    return quoted;
+                default:
+                    final Integer count = counts == null ? null : counts.get(group);
+                    return count == null ? defaultValue : count.toString().getBytes(US_ASCII);
+            }
+        }
+
+        private static byte[] serialize(Object value) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try {
+                NomadJson.serialize(value, out);
+            } catch (IOException e) {
+                throw new RequestSerializationException("Unable to serialize request entity: " + e, e);
+            }
+            return out.toByteArray();
+        }
+
+        @Override
+        public String toString() {
+            return group == null ? type.toString() : type + " of " + group;
+        }
+    }
+}
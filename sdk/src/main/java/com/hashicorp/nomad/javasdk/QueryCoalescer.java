@@ -0,0 +1,113 @@
+package com.hashicorp.nomad.javasdk;
+
+import org.apache.http.client.methods.HttpUriRequest;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collapses identical queries that are in flight at the same time into a single HTTP request,
+ * sharing its response (or failure) between all the callers.
+ * <p>
+ * Queries are identical if they have the same fully built URI, including the index, wait and stale parameters,
+ * the same ACL token, and are parsed in the same way.
+ */
+final class QueryCoalescer {
+
+    /**
+     * Performs the query on behalf of all the callers waiting for it.
+     *
+     * @param <R> the type of response
+     */
+    interface Query<R> {
+        R execute() throws IOException, NomadException;
+    }
+
+    private final ConcurrentMap<QueryKey, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Performs the query, unless an identical query is already in flight, in which case its response is shared.
+     */
+    <R extends NomadResponse<?>> R execute(
+            final HttpUriRequest request,
+            final ResponseAdapter<?, R> responseAdapter,
+            final Query<R> query
+    ) throws IOException, NomadException {
+        final QueryKey key = new QueryKey(request.getURI().toString(), request, responseAdapter);
+        final InFlight mine = new InFlight();
+        final InFlight existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            @SuppressWarnings("unchecked")
+            final R response = (R) existing.await();
+            return response;
+        }
+
+        executed.incrementAndGet();
+        final R response;
+        try {
+            response = query.execute();
+        } catch (IOException | NomadException | RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.complete(null, e);
+            throw e;
+        }
+        inFlight.remove(key, mine);
+        mine.complete(response, null);
+        return response;
+    }
+
+    /**
+     * Returns the number of queries that have been sent to the server.
+     */
+    long getExecuted() {
+        return executed.get();
+    }
+
+    /**
+     * Returns the number of queries that have shared the response of an identical query.
+     */
+    long getCoalesced() {
+        return coalesced.get();
+    }
+
+    /**
+     * The outcome of a query that other callers are waiting for.
+     */
+    static final class InFlight {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Object response;
+        private volatile Throwable failure;
+
+        void complete(@Nullable final Object response, @Nullable final Throwable failure) {
+            this.response = response;
+            this.failure = failure;
+            done.countDown();
+        }
+
+        Object await() throws IOException, NomadException {
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted while waiting for an identical query");
+            }
+            if (failure instanceof IOException)
+                throw (IOException) failure;
+            if (failure instanceof NomadException)
+                throw (NomadException) failure;
+            if (failure instanceof RuntimeException)
+                throw (RuntimeException) failure;
+            if (failure instanceof Error)
+                throw (Error) failure;
+            return response;
+        }
+    }
+}
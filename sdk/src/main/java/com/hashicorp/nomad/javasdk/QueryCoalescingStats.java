@@ -0,0 +1,50 @@
+package com.hashicorp.nomad.javasdk;
+
+/**
+ * Counts of how much query traffic has been collapsed by query coalescing.
+ *
+ * @see NomadApiConfiguration#isCoalesceQueries()
+ * @see NomadApiConfiguration#isMultiplexLongPolls()
+ * @see NomadApiClient#getQueryCoalescingStats()
+ */
+public final class QueryCoalescingStats {
+    private final long executed;
+    private final long coalesced;
+    private final long multiplexed;
+
+    QueryCoalescingStats(long executed, long coalesced, long multiplexed) {
+        this.executed = executed;
+        this.coalesced = coalesced;
+        this.multiplexed = multiplexed;
+    }
+
+    /**
+     * Returns the number of queries that were sent to the server.
+     */
+    public long getExecuted() {
+        return executed;
+    }
+
+    /**
+     * Returns the number of queries that shared the response of an identical query that was already in flight,
+     * instead of being sent to the server.
+     */
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    /**
+     * Returns the number of blocking queries that were answered by a long poll shared with other waiters,
+     * instead of holding a connection of their own.
+     */
+    public long getMultiplexed() {
+        return multiplexed;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCoalescingStats{executed=" + executed
+                + ", coalesced=" + coalesced
+                + ", multiplexed=" + multiplexed + "}";
+    }
+}
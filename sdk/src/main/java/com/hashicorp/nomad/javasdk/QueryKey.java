@@ -0,0 +1,62 @@
+package com.hashicorp.nomad.javasdk;
+
+import org.apache.http.Header;
+import org.apache.http.client.methods.HttpUriRequest;
+
+import javax.annotation.Nullable;
+
+/**
+ * Identifies a query by its URI, the ACL token it is made with, and how its response is parsed,
+ * so that identical queries can share a response.
+ */
+final class QueryKey {
+    private final String uri;
+    @Nullable
+    private final String authToken;
+    private final Class<?> adapterClass;
+    @Nullable
+    private final ValueExtractor<?> valueExtractor;
+
+    /**
+     * Creates a key for the request.
+     *
+     * @param uri             the request's URI, or a form of it that omits parameters which don't distinguish queries
+     * @param request         the request
+     * @param responseAdapter the adapter that builds the request's response
+     */
+    QueryKey(final String uri, final HttpUriRequest request, final ResponseAdapter<?, ?> responseAdapter) {
+        final Header authTokenHeader = request.getFirstHeader("X-Nomad-Token");
+        this.uri = uri;
+        this.authToken = authTokenHeader == null ? null : authTokenHeader.getValue();
+        this.adapterClass = responseAdapter.getClass();
+        this.valueExtractor = responseAdapter.getValueExtractor();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        QueryKey that = (QueryKey) o;
+        return uri.equals(that.uri)
+                && (authToken == null ? that.authToken == null : authToken.equals(that.authToken))
+                && adapterClass.equals(that.adapterClass)
+                && (valueExtractor == null
+                ? that.valueExtractor == null
+                : valueExtractor.equals(that.valueExtractor));
+    }
+
+    @Override
+    public int hashCode() {
+        int result = uri.hashCode();
+        result = 31 * result + (authToken == null ? 0 : authToken.hashCode());
+        result = 31 * result + adapterClass.hashCode();
+        result = 31 * result + (valueExtractor == null ? 0 : valueExtractor.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return uri;
+    }
+}
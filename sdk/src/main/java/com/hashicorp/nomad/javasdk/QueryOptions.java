@@ -2,6 +2,10 @@ package com.hashicorp.nomad.javasdk;
 
 import javax.annotation.Nullable;
 import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * Options that control how an operation that queries a Nomad server is performed.
@@ -11,11 +15,18 @@ import java.math.BigInteger;
 public class QueryOptions<T> implements RequestOptions {
     @Nullable private String region;
     @Nullable private String namespace;
-    @Nullable private BigInteger index;
+    private long index;
+    private boolean hasIndex;
     @Nullable private WaitStrategy waitStrategy;
     private boolean allowStale;
     @Nullable private Predicate<ServerQueryResponse<T>> repeatedPollPredicate;
     @Nullable private String authToken;
+    @Nullable private Integer perPage;
+    @Nullable private String nextToken;
+    @Nullable private String filter;
+    @Nullable private Set<String> fields;
+    private boolean lazyNestedObjects;
+    @Nullable private Canonicalizer canonicalizer;
 
     /**
      * Gets the region to which requests should be forwarded.
@@ -67,10 +78,30 @@ public class QueryOptions<T> implements RequestOptions {
     /**
      * Gets the long-polling query index to use.
      *
-     * @return the index to use
+     * @return the index to use, or null if there is none
      * @see <a href="https://www.nomadproject.io/docs/http/index.html#blocking-queries">Blocking Queries</a>
+     * @see #getIndexAsLong()
      */
+    @Nullable
     public BigInteger getIndex() {
+        return hasIndex ? toBigInteger(index) : null;
+    }
+
+    /**
+     * Returns true if a long-polling query index has been set.
+     */
+    public boolean hasIndex() {
+        return hasIndex;
+    }
+
+    /**
+     * Gets the long-polling query index to use, as an unsigned 64-bit integer.
+     *
+     * @return the index to use, or zero if there is none
+     * @see #hasIndex()
+     * @see ServerResponse#getIndexAsLong()
+     */
+    public long getIndexAsLong() {
         return index;
     }
 
@@ -80,12 +111,35 @@ public class QueryOptions<T> implements RequestOptions {
      * The index is usually from a previous previous response's {@link ServerResponse#getIndex()} method.
      * This will cause the request to block until there is a potential change in the response.
      *
+     * @param index the index to use, or null for none
+     * @return this QueryOptions instance.
+     * @throws IllegalArgumentException if the index is negative or doesn't fit in 64 bits
+     * @see <a href="https://www.nomadproject.io/docs/http/index.html#blocking-queries">Blocking Queries</a>
+     */
+    public QueryOptions<T> setIndex(@Nullable BigInteger index) {
+        if (index == null) {
+            this.index = 0;
+            this.hasIndex = false;
+            return this;
+        }
+        if (index.signum() < 0 || index.bitLength() > Long.SIZE)
+            throw new IllegalArgumentException("index out of range: " + index);
+        return setIndex(index.longValue());
+    }
+
+    /**
+     * Sets the long-polling query index, as an unsigned 64-bit integer.
+     * <p>
+     * The index is usually from a previous previous response's {@link ServerResponse#getIndexAsLong()} method.
+     * This will cause the request to block until there is a potential change in the response.
+     *
      * @param index the index to use
      * @return this QueryOptions instance.
      * @see <a href="https://www.nomadproject.io/docs/http/index.html#blocking-queries">Blocking Queries</a>
      */
-    public QueryOptions<T> setIndex(BigInteger index) {
+    public QueryOptions<T> setIndex(long index) {
         this.index = index;
+        this.hasIndex = true;
         return this;
     }
 
@@ -140,6 +194,153 @@ public class QueryOptions<T> implements RequestOptions {
         return this;
     }
 
+    /**
+     * Gets the maximum number of results the server should return in one page.
+     *
+     * @return the page size, or null if the server should return all the results at once
+     * @see <a href="https://www.nomadproject.io/api-docs#pagination">Pagination</a>
+     */
+    @Nullable
+    public Integer getPerPage() {
+        return perPage;
+    }
+
+    /**
+     * Sets the maximum number of results the server should return in one page.
+     * <p>
+     * When there are more results, the response's {@link ServerQueryResponse#getNextToken()} gives the token
+     * with which to request the next page.
+     *
+     * @param perPage the page size, or null if the server should return all the results at once
+     * @return this QueryOptions instance.
+     * @see <a href="https://www.nomadproject.io/api-docs#pagination">Pagination</a>
+     */
+    public QueryOptions<T> setPerPage(@Nullable Integer perPage) {
+        this.perPage = perPage;
+        return this;
+    }
+
+    /**
+     * Gets the token of the page of results to request.
+     *
+     * @return the next token from the previous page, or null to request the first page
+     * @see <a href="https://www.nomadproject.io/api-docs#pagination">Pagination</a>
+     */
+    @Nullable
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    /**
+     * Sets the token of the page of results to request.
+     *
+     * @param nextToken the next token from the previous page, or null to request the first page
+     * @return this QueryOptions instance.
+     * @see <a href="https://www.nomadproject.io/api-docs#pagination">Pagination</a>
+     */
+    public QueryOptions<T> setNextToken(@Nullable String nextToken) {
+        this.nextToken = nextToken;
+        return this;
+    }
+
+    /**
+     * Gets the filter expression the server should apply to the results.
+     *
+     * @return the filter expression, or null if the results are not filtered
+     * @see <a href="https://www.nomadproject.io/api-docs#filtering">Filtering</a>
+     */
+    @Nullable
+    public String getFilter() {
+        return filter;
+    }
+
+    /**
+     * Sets a filter expression for the server to apply to the results, e.g. {@code ClientStatus == "running"}.
+     *
+     * @param filter the filter expression, or null if the results should not be filtered
+     * @return this QueryOptions instance.
+     * @see <a href="https://www.nomadproject.io/api-docs#filtering">Filtering</a>
+     */
+    public QueryOptions<T> setFilter(@Nullable String filter) {
+        this.filter = filter;
+        return this;
+    }
+
+    /**
+     * Gets the names of the fields that should be deserialized from the response.
+     *
+     * @return the JSON names of the fields, or null if all fields are deserialized
+     */
+    @Nullable
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Restricts the fields that are deserialized from the response to the given ones, e.g. {@code "ClientStatus"}.
+     * <p>
+     * The other fields of the response object, or of each object in a response list, are skipped over without
+     * being deserialized, and are left unset. This makes it much cheaper to poll for a few fields of a large object,
+     * such as the status of an allocation, since its job, resources and task states are never materialized.
+     * Projection is done on the client; the whole response is still sent by the server.
+     * It applies to responses that are parsed straight into model objects,
+     * but not to lists that the SDK sorts or streams element by element.
+     *
+     * @param fields the JSON names of the top-level fields to deserialize, or null to deserialize all fields
+     * @return this QueryOptions instance.
+     */
+    public QueryOptions<T> setFields(@Nullable Collection<String> fields) {
+        this.fields = fields == null ? null : Collections.unmodifiableSet(new LinkedHashSet<>(fields));
+        return this;
+    }
+
+    /**
+     * Returns true if large nested properties of the response are only decoded when they are first read.
+     */
+    public boolean isLazyNestedObjects() {
+        return lazyNestedObjects;
+    }
+
+    /**
+     * Sets whether large nested properties of the response are only decoded when they are first read.
+     * <p>
+     * When enabled, the job embedded in an allocation, its task states, and the task groups of a job are
+     * captured as JSON tokens while the response is parsed, and decoded by their getters on first access.
+     * Monitoring code that reads allocations or jobs but rarely looks inside them then only pays for what it reads.
+     * The trade-off is that a malformed nested property is only reported when its getter is called,
+     * as an {@link java.io.UncheckedIOException}.
+     *
+     * @param lazyNestedObjects whether to decode large nested properties lazily
+     * @return this QueryOptions instance.
+     * @see LazyValue
+     */
+    public QueryOptions<T> setLazyNestedObjects(boolean lazyNestedObjects) {
+        this.lazyNestedObjects = lazyNestedObjects;
+        return this;
+    }
+
+    /**
+     * Gets the canonicalizer that deduplicates values in the response.
+     *
+     * @return the canonicalizer, or null if values are not deduplicated
+     */
+    @Nullable
+    public Canonicalizer getCanonicalizer() {
+        return canonicalizer;
+    }
+
+    /**
+     * Sets a canonicalizer to deduplicate values in the response with, such as repeated strings and the jobs
+     * embedded in allocations. Use the same canonicalizer for all the queries whose results are kept together.
+     *
+     * @param canonicalizer the canonicalizer, or null if values should not be deduplicated
+     * @return this QueryOptions instance.
+     */
+    public QueryOptions<T> setCanonicalizer(@Nullable Canonicalizer canonicalizer) {
+        this.canonicalizer = canonicalizer;
+        return this;
+    }
+
     /**
      * Gets a response predicate that we will try to satisfy
      * by repeatedly polling the server until the predicate is true or the WaitStrategy times out.
@@ -172,7 +373,8 @@ public class QueryOptions<T> implements RequestOptions {
      * @see <a href="https://www.nomadproject.io/docs/http/index.html#blocking-queries">Blocking Queries</a>
      */
     public static <T> QueryOptions<T> newerThan(ServerQueryResponse<T> previousResponse) {
-        return new QueryOptions<T>().setIndex(previousResponse == null ? null : previousResponse.getIndex());
+        final QueryOptions<T> options = new QueryOptions<>();
+        return previousResponse == null ? options : options.setIndex(previousResponse.getIndexAsLong());
     }
 
     /**
@@ -212,4 +414,11 @@ public class QueryOptions<T> implements RequestOptions {
         return this;
     }
 
+    /**
+     * Converts an unsigned 64-bit index to a BigInteger.
+     */
+    static BigInteger toBigInteger(long index) {
+        final BigInteger value = BigInteger.valueOf(index & Long.MAX_VALUE);
+        return index < 0 ? value.setBit(Long.SIZE - 1) : value;
+    }
 }
@@ -1,10 +1,12 @@
 package com.hashicorp.nomad.javasdk;
 
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.util.EntityUtils;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * Creates a specific type of {@link NomadResponse}
@@ -23,15 +25,54 @@ abstract class ResponseAdapter<T, R extends NomadResponse<T>> {
         this.valueExtractor = valueExtractor;
     }
 
-    public R apply(HttpResponse httpResponse)
+    /**
+     * Returns the value extractor, or null if response bodies are ignored.
+     */
+    @Nullable
+    ValueExtractor<T> getValueExtractor() {
+        return valueExtractor;
+    }
+
+    /**
+     * Returns false if extracting a value has side effects beyond building the response,
+     * in which case the response mustn't be shared with other requests, cached, or retried once received.
+     */
+    boolean isSideEffectFree() {
+        return !(valueExtractor instanceof ListElementParser);
+    }
+
+    /**
+     * Builds a response, deserializing the value straight from the entity's stream unless the raw entity
+     * is to be retained or the value extractor can only work on strings.
+     * <p>
+     * Raw entities are never retained for value extractors with side effects, which stream responses
+     * so that they don't have to be held in memory.
+     */
+    public R apply(HttpResponse httpResponse, boolean retainRawEntity)
             throws IOException, ResponseParsingException, ErrorFoundInResponseEntityException {
 
-        String rawEntity = EntityUtils.toString(httpResponse.getEntity());
+        final boolean retain = retainRawEntity && isSideEffectFree();
+        final HttpEntity entity = httpResponse.getEntity();
+        if (!retain && entity != null) {
+            if (valueExtractor == null) {
+                EntityUtils.consume(entity);
+                return buildResponse(httpResponse, null, null);
+            }
+            if (valueExtractor instanceof StreamingValueExtractor) {
+                final T value;
+                try (InputStream stream = entity.getContent()) {
+                    value = ((StreamingValueExtractor<T>) valueExtractor).extractValue(stream);
+                }
+                return buildResponse(httpResponse, null, value);
+            }
+        }
+
+        String rawEntity = EntityUtils.toString(entity);
         T value = valueExtractor == null
                 ? null
                 : valueExtractor.extractValue(rawEntity);
-        return buildResponse(httpResponse, rawEntity, value);
+        return buildResponse(httpResponse, retain ? rawEntity : null, value);
     }
 
-    protected abstract R buildResponse(HttpResponse httpResponse, String rawEntity, @Nullable T value);
+    protected abstract R buildResponse(HttpResponse httpResponse, @Nullable String rawEntity, @Nullable T value);
 }
@@ -0,0 +1,256 @@
+package com.hashicorp.nomad.javasdk;
+
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.utils.URIBuilder;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the responses to non-blocking queries, together with the index they were read at.
+ * <p>
+ * Entries expire after a time to live, and the least recently used entries are evicted when the cache is full.
+ * Once an entry has been hit, it is kept up to date by a background blocking query on the entry's index,
+ * which confirms that it is still current for as long as the query is blocked and replaces it when it changes.
+ * While that refresh is running the entry doesn't expire, so hits on it are both fresh and free of network traffic.
+ * Refreshing stops when the entry hasn't been hit for a time to live, or is evicted.
+ */
+final class ResponseCache implements Closeable {
+    static final int MAX_REFRESHERS = 16;
+    static final String REFRESH_WAIT = "60s";
+
+    /**
+     * Performs the blocking queries that keep cached entries up to date.
+     */
+    interface Refresher {
+        NomadResponse<?> refresh(HttpUriRequest request, ResponseAdapter<?, ?> responseAdapter, long index)
+                throws IOException, NomadException;
+    }
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Refresher refresher;
+    private final Map<QueryKey, CachedResponse> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private ExecutorService refreshExecutor;
+    private int refreshing;
+    private boolean closed;
+
+    ResponseCache(final int maxEntries, final long ttlMillis, final Refresher refresher) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.refresher = refresher;
+        this.entries = new LinkedHashMap<QueryKey, CachedResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryKey, CachedResponse> eldest) {
+                if (size() <= ResponseCache.this.maxEntries)
+                    return false;
+                eldest.getValue().evicted = true;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached response to the request, or null if there is no fresh response cached for it.
+     */
+    @Nullable
+    synchronized <R extends NomadResponse<?>> R get(
+            final HttpUriRequest request,
+            final ResponseAdapter<?, R> responseAdapter
+    ) {
+        final QueryKey key = new QueryKey(request.getURI().toString(), request, responseAdapter);
+        final CachedResponse entry = entries.get(key);
+        final long now = System.currentTimeMillis();
+        if (entry == null || !entry.refreshing && entry.confirmedAt + ttlMillis <= now) {
+            if (entry != null)
+                remove(key, entry);
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+        entry.accessedAt = now;
+        if (!entry.refreshing)
+            startRefreshing(entry);
+        @SuppressWarnings("unchecked")
+        final R response = (R) entry.response;
+        return response;
+    }
+
+    /**
+     * Caches the response to a request.
+     */
+    synchronized void put(
+            final HttpUriRequest request,
+            final ResponseAdapter<?, ?> responseAdapter,
+            final NomadResponse<?> response
+    ) {
+        if (!LongPollMultiplexer.hasIndex(response) || closed)
+            return;
+        final long index = LongPollMultiplexer.indexOf(response);
+        final QueryKey key = new QueryKey(request.getURI().toString(), request, responseAdapter);
+        final CachedResponse existing = entries.get(key);
+        final long now = System.currentTimeMillis();
+        if (existing != null && existing.refreshing) {
+            existing.update(response, index, now);
+            return;
+        }
+        entries.put(key, new CachedResponse(request, responseAdapter, response, index, now));
+    }
+
+    /**
+     * Returns a snapshot of the cache's hit, miss and refresh counts.
+     */
+    ResponseCacheStats getStats() {
+        final int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return new ResponseCacheStats(hits.get(), misses.get(), refreshes.get(), size);
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        for (CachedResponse entry : entries.values())
+            entry.evicted = true;
+        entries.clear();
+        if (refreshExecutor != null)
+            refreshExecutor.shutdownNow();
+    }
+
+    private void remove(final QueryKey key, final CachedResponse entry) {
+        entry.evicted = true;
+        entries.remove(key);
+    }
+
+    private void startRefreshing(final CachedResponse entry) {
+        if (closed || refreshing >= MAX_REFRESHERS)
+            return;
+        if (refreshExecutor == null)
+            refreshExecutor = Executors.newCachedThreadPool(new RefreshThreadFactory());
+        refreshing++;
+        entry.refreshing = true;
+        refreshExecutor.execute(new RefreshTask(entry));
+    }
+
+    private synchronized void stopRefreshing(final CachedResponse entry) {
+        refreshing--;
+        entry.refreshing = false;
+    }
+
+    private static HttpUriRequest withIndex(final HttpUriRequest request, final long index) {
+        try {
+            return RequestBuilder.copy(request)
+                    .setUri(new URIBuilder(request.getURI())
+                            .setParameter("index", Long.toUnsignedString(index))
+                            .setParameter("wait", REFRESH_WAIT)
+                            .build())
+                    .build();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * A cached response.
+     */
+    private static final class CachedResponse {
+        private final HttpUriRequest request;
+        private final ResponseAdapter<?, ?> responseAdapter;
+        private NomadResponse<?> response;
+        // Never zero, so it can always be blocked on
+        private long index;
+        private long confirmedAt;
+        private long accessedAt;
+        private boolean refreshing;
+        private boolean evicted;
+
+        CachedResponse(
+                final HttpUriRequest request,
+                final ResponseAdapter<?, ?> responseAdapter,
+                final NomadResponse<?> response,
+                final long index,
+                final long now
+        ) {
+            this.request = request;
+            this.responseAdapter = responseAdapter;
+            this.response = response;
+            this.index = ServerResponse.trackedIndex(index);
+            this.confirmedAt = now;
+            this.accessedAt = now;
+        }
+
+        void update(final NomadResponse<?> newResponse, final long newIndex, final long now) {
+            if (ServerResponse.indexChanged(index, newIndex)) {
+                response = newResponse;
+                index = ServerResponse.trackedIndex(newIndex);
+            }
+            confirmedAt = now;
+        }
+    }
+
+    /**
+     * Keeps an entry up to date with blocking queries until it is no longer being hit.
+     */
+    private final class RefreshTask implements Runnable {
+        private final CachedResponse entry;
+
+        RefreshTask(final CachedResponse entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    final long index;
+                    synchronized (ResponseCache.this) {
+                        if (closed || entry.evicted || entry.accessedAt + ttlMillis <= System.currentTimeMillis())
+                            return;
+                        index = entry.index;
+                    }
+
+                    final NomadResponse<?> response =
+                            refresher.refresh(withIndex(entry.request, index), entry.responseAdapter, index);
+                    if (!LongPollMultiplexer.hasIndex(response))
+                        return;
+                    refreshes.incrementAndGet();
+                    synchronized (ResponseCache.this) {
+                        entry.update(response, LongPollMultiplexer.indexOf(response), System.currentTimeMillis());
+                    }
+                }
+            } catch (IOException | NomadException | RuntimeException e) {
+                // The entry falls back to expiring after its time to live
+            } finally {
+                stopRefreshing(entry);
+            }
+        }
+    }
+
+    /**
+     * Creates the daemon threads that refresh cached entries.
+     */
+    private static final class RefreshThreadFactory implements ThreadFactory {
+        private final AtomicLong count = new AtomicLong();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "nomad-cache-refresh-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.hashicorp.nomad.javasdk;
+
+/**
+ * Counts of how the response cache has been used.
+ *
+ * @see NomadApiConfiguration#getResponseCacheMaxEntries()
+ * @see NomadApiClient#getResponseCacheStats()
+ */
+public final class ResponseCacheStats {
+    private final long hits;
+    private final long misses;
+    private final long refreshes;
+    private final int size;
+
+    ResponseCacheStats(long hits, long misses, long refreshes, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.refreshes = refreshes;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of queries that were answered from the cache.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of cacheable queries that had to be sent to the server.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of background blocking queries that have returned to confirm or update cached responses.
+     */
+    public long getRefreshes() {
+        return refreshes;
+    }
+
+    /**
+     * Returns the number of responses in the cache.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseCacheStats{hits=" + hits
+                + ", misses=" + misses
+                + ", refreshes=" + refreshes
+                + ", size=" + size + "}";
+    }
+}
@@ -59,7 +59,7 @@ public class SearchApi extends ApiBase {
     /**
      * Class matching the JSON request entity for search requests.
      */
-    private static class SearchRequest {
+    static class SearchRequest {
         public final String prefix;  // Checkstyle suppress VisibilityModifier
         public final String context; // Checkstyle suppress VisibilityModifier
 
@@ -0,0 +1,261 @@
+package com.hashicorp.nomad.javasdk;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.utils.URIBuilder;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the health, load and latency of the servers that a client is configured with,
+ * and chooses which of them each request is sent to.
+ * <p>
+ * Servers that fail with a connection-level error are ejected from rotation and re-probed in the background
+ * until they respond again. Latency is tracked from real traffic as an exponentially weighted moving average.
+ */
+final class ServerPool implements Closeable {
+    static final long PROBE_INTERVAL_MILLIS = 5000;
+    private static final double LATENCY_WEIGHT = 0.2;
+
+    /**
+     * Checks whether an ejected server is able to serve requests again.
+     */
+    interface Prober {
+        boolean probe(HttpHost address);
+    }
+
+    private final List<Server> servers;
+    private final NomadApiConfiguration.LoadBalancing loadBalancing;
+    private final Prober prober;
+    private ScheduledExecutorService probeExecutor;
+    private boolean closed;
+
+    ServerPool(
+            final List<HttpHost> addresses,
+            final NomadApiConfiguration.LoadBalancing loadBalancing,
+            final Prober prober
+    ) {
+        final List<Server> servers = new ArrayList<>(addresses.size());
+        for (HttpHost address : addresses)
+            servers.add(new Server(address));
+        this.servers = Collections.unmodifiableList(servers);
+        this.loadBalancing = loadBalancing;
+        this.prober = prober;
+    }
+
+    List<Server> getServers() {
+        return servers;
+    }
+
+    /**
+     * Returns the pooled server that the URI points at, or null if it points somewhere else,
+     * such as directly at a client node.
+     */
+    @Nullable
+    Server serverFor(final URI uri) {
+        for (Server server : servers) {
+            final HttpHost address = server.address;
+            if (address.getHostName().equalsIgnoreCase(uri.getHost())
+                    && address.getPort() == uri.getPort()
+                    && address.getSchemeName().equalsIgnoreCase(uri.getScheme()))
+                return server;
+        }
+        return null;
+    }
+
+    /**
+     * Chooses the server to send a request to.
+     *
+     * @param allowStale whether the request can be served by any server, rather than needing to be
+     *                   sent to the preferred server (which forwards it to the leader if necessary)
+     * @param exclude    a server that should not be chosen if there is any other healthy server,
+     *                   e.g. because a request to it has just failed
+     */
+    Server choose(final boolean allowStale, @Nullable final Server exclude) {
+        if (servers.size() == 1)
+            return servers.get(0);
+
+        Server best = null;
+        for (Server server : servers) {
+            if (!server.healthy || server == exclude)
+                continue;
+            if (!allowStale)
+                return server;
+            if (best == null || isBetter(server, best))
+                best = server;
+        }
+        if (best != null)
+            return best;
+
+        // Nothing healthy is left, so try the first server that wasn't excluded rather than failing outright
+        for (Server server : servers) {
+            if (server != exclude)
+                return server;
+        }
+        return servers.get(0);
+    }
+
+    private boolean isBetter(final Server candidate, final Server current) {
+        switch (loadBalancing) {
+            case LOWEST_LATENCY:
+                return candidate.getLatencyMillis() < current.getLatencyMillis();
+            case LEAST_IN_FLIGHT:
+            default:
+                final int candidateInFlight = candidate.getInFlight();
+                final int currentInFlight = current.getInFlight();
+                return candidateInFlight < currentInFlight
+                        || candidateInFlight == currentInFlight
+                        && candidate.getLatencyMillis() < current.getLatencyMillis();
+        }
+    }
+
+    /**
+     * Returns a copy of the URI that points at the given address.
+     */
+    static URI rewrite(final URI uri, final HttpHost address) {
+        try {
+            return new URIBuilder(uri)
+                    .setScheme(address.getSchemeName())
+                    .setHost(address.getHostName())
+                    .setPort(address.getPort())
+                    .build();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (probeExecutor != null)
+            probeExecutor.shutdownNow();
+    }
+
+    private void eject(final Server server) {
+        if (servers.size() == 1)
+            return;
+        synchronized (server) {
+            if (!server.healthy)
+                return;
+            server.healthy = false;
+        }
+        scheduleProbe(server);
+    }
+
+    private synchronized void scheduleProbe(final Server server) {
+        if (closed)
+            return;
+        if (probeExecutor == null)
+            probeExecutor = Executors.newSingleThreadScheduledExecutor(new ProbeThreadFactory());
+        probeExecutor.schedule(new Runnable() {
+            @Override
+            public void run() {
+                boolean healthy;
+                try {
+                    healthy = prober.probe(server.address);
+                } catch (RuntimeException e) {
+                    healthy = false;
+                }
+                if (healthy)
+                    server.healthy = true;
+                else
+                    scheduleProbe(server);
+            }
+        }, PROBE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * One of the servers in the pool, with its current health, load and latency.
+     */
+    final class Server {
+        private final HttpHost address;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile double latencyMillis;
+        private volatile boolean healthy = true;
+
+        private Server(final HttpHost address) {
+            this.address = address;
+        }
+
+        HttpHost getAddress() {
+            return address;
+        }
+
+        boolean isHealthy() {
+            return healthy;
+        }
+
+        int getInFlight() {
+            return inFlight.get();
+        }
+
+        double getLatencyMillis() {
+            return latencyMillis;
+        }
+
+        /**
+         * Records that a request to this server has started, returning the time it started.
+         */
+        long started() {
+            inFlight.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        /**
+         * Records that a request to this server received a response.
+         */
+        void succeeded(final long startNanos) {
+            inFlight.decrementAndGet();
+            final double elapsedMillis = (System.nanoTime() - startNanos) / 1e6;
+            synchronized (this) {
+                latencyMillis = latencyMillis == 0
+                        ? elapsedMillis
+                        : LATENCY_WEIGHT * elapsedMillis + (1 - LATENCY_WEIGHT) * latencyMillis;
+            }
+        }
+
+        /**
+         * Records that a request to this server received a response,
+         * without counting its duration towards the server's latency, e.g. because it was a blocking query.
+         */
+        void finished() {
+            inFlight.decrementAndGet();
+        }
+
+        /**
+         * Records that a request to this server failed without a response, ejecting it from rotation.
+         */
+        void failed() {
+            inFlight.decrementAndGet();
+            eject(this);
+        }
+
+        @Override
+        public String toString() {
+            return address + (healthy ? "" : " (ejected)")
+                    + " in-flight=" + inFlight.get() + " latency=" + latencyMillis + "ms";
+        }
+    }
+
+    /**
+     * Creates the daemon thread that re-probes ejected servers.
+     */
+    private static final class ProbeThreadFactory implements ThreadFactory {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "nomad-server-probe");
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
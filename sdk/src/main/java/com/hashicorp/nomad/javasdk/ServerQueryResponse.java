@@ -1,5 +1,6 @@
 package com.hashicorp.nomad.javasdk;
 
+import org.apache.http.Header;
 import org.apache.http.HttpResponse;
 
 import javax.annotation.Nullable;
@@ -12,15 +13,17 @@ import javax.annotation.Nullable;
 public class ServerQueryResponse<T> extends ServerResponse<T> {
     public static final String X_NOMAD_LASTCONTACT = "X-Nomad-LastContact";
     public static final String X_NOMAD_KNOWNLEADER = "X-Nomad-KnownLeader";
+    public static final String X_NOMAD_NEXTTOKEN = "X-Nomad-NextToken";
 
     /**
      * Creates a new ServerQueryResponse.
      *
      * @param httpResponse the underlying HTTP response
-     * @param rawEntity    the unparsed HTTP response entity (body)
+     * @param rawEntity    the unparsed HTTP response entity (body),
+     *                     or null if the client is not configured to retain raw entities
      * @param value        response value extracted from the response entity
      */
-    public ServerQueryResponse(HttpResponse httpResponse, String rawEntity, @Nullable T value) {
+    public ServerQueryResponse(HttpResponse httpResponse, @Nullable String rawEntity, @Nullable T value) {
         super(httpResponse, rawEntity, value);
     }
 
@@ -49,4 +52,16 @@ public class ServerQueryResponse<T> extends ServerResponse<T> {
             throw ResponseHeaderException.parsing(X_NOMAD_LASTCONTACT, stringValue, e);
         }
     }
+
+    /**
+     * Returns the token with which to request the next page of a paginated query.
+     *
+     * @return the {@code X-Nomad-NextToken} header, or null if this is the last page
+     * @see QueryOptions#setPerPage(Integer)
+     */
+    @Nullable
+    public String getNextToken() {
+        final Header header = httpResponse.getFirstHeader(X_NOMAD_NEXTTOKEN);
+        return header == null || header.getValue().isEmpty() ? null : header.getValue();
+    }
 }
@@ -1,5 +1,6 @@
 package com.hashicorp.nomad.javasdk;
 
+import org.apache.http.Header;
 import org.apache.http.HttpResponse;
 
 import javax.annotation.Nullable;
@@ -18,16 +19,39 @@ public class ServerResponse<T> extends NomadResponse<T> {
 
     protected final HttpResponse httpResponse;
 
+    // The index header is parsed once, here, so that polling loops can compare indexes without allocating.
+    // Exceptions for a missing or invalid header are only created when the index is read.
+    private final long index;
+    private final boolean hasIndex;
+    @Nullable private final String invalidIndex;
+
     /**
      * Creates a new ServerResponse.
      *
      * @param httpResponse the underlying HTTP response
-     * @param rawEntity    the unparsed HTTP response entity (body)
+     * @param rawEntity    the unparsed HTTP response entity (body),
+     *                     or null if the client is not configured to retain raw entities
      * @param value        response value extracted from the response entity
      */
-    public ServerResponse(HttpResponse httpResponse, String rawEntity, @Nullable T value) {
+    public ServerResponse(HttpResponse httpResponse, @Nullable String rawEntity, @Nullable T value) {
         super(rawEntity, value);
         this.httpResponse = httpResponse;
+
+        final Header header = httpResponse.getFirstHeader(X_NOMAD_INDEX);
+        final String headerValue = header == null ? null : header.getValue();
+        long parsed = 0;
+        boolean valid = false;
+        if (headerValue != null) {
+            try {
+                parsed = Long.parseUnsignedLong(headerValue);
+                valid = true;
+            } catch (NumberFormatException e) {
+                // reported by getIndexAsLong
+            }
+        }
+        this.index = parsed;
+        this.hasIndex = valid;
+        this.invalidIndex = valid ? null : headerValue;
     }
 
     /**
@@ -38,17 +62,61 @@ public class ServerResponse<T> extends NomadResponse<T> {
     }
 
     /**
-     * Returns the value of the @{code X-Nomad-Index} header.
+     * Returns the value of the {@code X-Nomad-Index} header.
      *
      * @throws ResponseHeaderException if the header is missing or cannot be parsed
      * @see <a href="https://www.nomadproject.io/docs/http/#blocking-queries">Blocking Queries</a>
+     * @see #getIndexAsLong()
      */
     public BigInteger getIndex() throws ResponseHeaderException {
-        String stringValue = httpResponse.getFirstHeader(X_NOMAD_INDEX).getValue();
+        return QueryOptions.toBigInteger(getIndexAsLong());
+    }
+
+    /**
+     * Returns true if the response has an {@code X-Nomad-Index} header with a valid index.
+     */
+    public boolean hasIndex() {
+        return hasIndex;
+    }
+
+    /**
+     * Returns the value of the {@code X-Nomad-Index} header as an unsigned 64-bit integer,
+     * which avoids allocating a BigInteger.
+     * <p>
+     * Indexes above {@link Long#MAX_VALUE} come out negative, so use {@link Long#compareUnsigned(long, long)}
+     * to compare them.
+     *
+     * @throws ResponseHeaderException if the header is missing or cannot be parsed
+     * @see <a href="https://www.nomadproject.io/docs/http/#blocking-queries">Blocking Queries</a>
+     */
+    public long getIndexAsLong() throws ResponseHeaderException {
+        if (hasIndex)
+            return index;
+        if (invalidIndex == null)
+            throw new ResponseHeaderException("Missing " + X_NOMAD_INDEX + " header", null);
         try {
-            return new BigInteger(stringValue);
+            return Long.parseUnsignedLong(invalidIndex);
         } catch (NumberFormatException e) {
-            throw ResponseHeaderException.parsing(X_NOMAD_INDEX, stringValue, e);
+            throw ResponseHeaderException.parsing(X_NOMAD_INDEX, invalidIndex, e);
         }
     }
+
+    /**
+     * Returns the index to remember for a response with the given index. It is never zero,
+     * so that zero can stand for no response having been seen yet.
+     */
+    static long trackedIndex(final long index) {
+        return index != 0 ? index : 1;
+    }
+
+    /**
+     * Returns true if a response's index means that its data has changed since the last response seen.
+     * The index can go backwards when the cluster's state is restored, so any change means new data.
+     *
+     * @param lastIndex the {@link #trackedIndex(long) tracked index} of the last response seen, or zero if none
+     * @param newIndex  the index of the new response
+     */
+    static boolean indexChanged(final long lastIndex, final long newIndex) {
+        return lastIndex == 0 || trackedIndex(newIndex) != lastIndex;
+    }
 }
@@ -0,0 +1,17 @@
+package com.hashicorp.nomad.javasdk;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A {@link ValueExtractor} that can also extract its value directly from a stream,
+ * without first reading the whole stream into a string.
+ * <p>
+ * This interface is used by package-private methods that allow endpoint implementations to be consistent and concise.
+ *
+ * @param <T> type extracted from the stream
+ */
+interface StreamingValueExtractor<T> extends ValueExtractor<T> {
+    T extractValue(InputStream stream)
+            throws IOException, ResponseParsingException, ErrorFoundInResponseEntityException;
+}
@@ -0,0 +1,28 @@
+package com.hashicorp.nomad.javasdk;
+
+/**
+ * What to do with properties in API responses that the model classes don't have bean properties for,
+ * which are common when talking to a Nomad server that is newer than the SDK.
+ *
+ * @see NomadJson#setUnknownPropertyPolicy(UnknownPropertyPolicy)
+ * @see ApiObject#getUnmappedProperties()
+ */
+public enum UnknownPropertyPolicy {
+    /**
+     * Keep unknown properties as unmapped properties, deserialized to maps, lists and scalar values,
+     * so that they survive a round-trip from JSON and back. This is the default.
+     */
+    KEEP,
+
+    /**
+     * Keep unknown properties as unmapped properties without deserializing them. Their values are held as
+     * {@link com.fasterxml.jackson.databind.util.RawValue}s of JSON text, which are written back out verbatim.
+     */
+    KEEP_RAW,
+
+    /**
+     * Skip over unknown properties without deserializing or keeping them.
+     * This is the cheapest option, but unknown properties are lost in a round-trip.
+     */
+    DROP
+}
@@ -0,0 +1,145 @@
+package com.hashicorp.nomad.javasdk;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A map of an API object's unmapped properties, which keeps its keys and values in a single flat array.
+ * <p>
+ * Objects rarely have more than a few unmapped properties, so this takes a fraction of the memory of
+ * a hash map, and lookups by linear scan are just as fast. Iteration is in insertion order.
+ */
+final class UnmappedProperties extends AbstractMap<String, Object> {
+    // Keys at even indexes, each followed by its value
+    private Object[] entries = new Object[4];
+    private int size;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        final int index = indexOf(key);
+        return index < 0 ? null : entries[2 * index + 1];
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        final int index = indexOf(key);
+        if (index >= 0) {
+            final Object previous = entries[2 * index + 1];
+            entries[2 * index + 1] = value;
+            return previous;
+        }
+        if (2 * size == entries.length)
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        entries[2 * size] = key;
+        entries[2 * size + 1] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        final int index = indexOf(key);
+        if (index < 0)
+            return null;
+        final Object previous = entries[2 * index + 1];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(entries, 0, 2 * size, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (entries[2 * i].equals(key))
+                return i;
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(entries, 2 * index + 2, entries, 2 * index, 2 * (size - index - 1));
+        size--;
+        entries[2 * size] = null;
+        entries[2 * size + 1] = null;
+    }
+
+    /**
+     * Iterates over the entries in insertion order.
+     */
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int next;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (next >= size)
+                throw new NoSuchElementException();
+            canRemove = true;
+            return new PropertyEntry(next++);
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove)
+                throw new IllegalStateException();
+            canRemove = false;
+            removeAt(--next);
+        }
+    }
+
+    /**
+     * An entry that reads and writes through to the map.
+     */
+    private final class PropertyEntry extends SimpleEntry<String, Object> {
+        private final int index;
+
+        PropertyEntry(int index) {
+            super((String) entries[2 * index], entries[2 * index + 1]);
+            this.index = index;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            entries[2 * index + 1] = value;
+            return super.setValue(value);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Reads the values of unmapped properties according to the {@link NomadJson#getUnknownPropertyPolicy() policy}.
+ * <p>
+ * A dropped value is returned as {@link #DROPPED}, which is never stored as an unmapped property.
+ */
+final class UnmappedValueDeserializer extends StdDeserializer<Object> {
+    static final Object DROPPED = new Object();
+
+    UnmappedValueDeserializer() {
+        super(Object.class);
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return read(p, ctxt);
+    }
+
+    @Override
+    public Object getNullValue(DeserializationContext ctxt) {
+        return nullValue();
+    }
+
+    private static Object nullValue() {
+        return NomadJson.getUnknownPropertyPolicy() == UnknownPropertyPolicy.DROP ? DROPPED : null;
+    }
+
+    /**
+     * Reads the value the parser is positioned on, leaving the parser on its last token.
+     */
+    static Object read(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL)
+            return nullValue();
+        switch (NomadJson.getUnknownPropertyPolicy()) {
+            case DROP:
+                p.skipChildren();
+                return DROPPED;
+            case KEEP_RAW:
+                final StringWriter json = new StringWriter();
+                try (JsonGenerator generator = NomadJson.OBJECT_MAPPER.getFactory().createGenerator(json)) {
+                    generator.copyCurrentStructure(p);
+                }
+                return new RawValue(json.toString());
+            default:
+                return ctxt.readValue(p, Object.class);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Allocation;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class AllocationIndexTest {
+
+    @Test
+    public void shouldLookUpAllocationsByEachField() {
+        final AllocationIndex<Allocation> index = AllocationIndex.forAllocations();
+        final Allocation a = allocation("a", "node1", "job1", "deployment1", "eval1", "running");
+        final Allocation b = allocation("b", "node2", "job1", "deployment1", "eval1", "pending");
+        index.put(a);
+        index.put(b);
+
+        assertThat(index.size(), is(2));
+        assertThat(index.byNode("node1"), is(Collections.singletonList(a)));
+        assertThat(index.byJob("job1"), is(Arrays.asList(a, b)));
+        assertThat(index.byDeployment("deployment1"), is(Arrays.asList(a, b)));
+        assertThat(index.byEvaluation("eval1"), is(Arrays.asList(a, b)));
+        assertThat(index.byClientStatus("pending"), is(Collections.singletonList(b)));
+        assertThat(index.byNode("node3").isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldMatchAllCriteriaOfCompoundLookup() {
+        final AllocationIndex<Allocation> index = AllocationIndex.forAllocations();
+        final Allocation a = allocation("a", "node1", "job1", null, "eval1", "running");
+        final Allocation b = allocation("b", "node1", "job1", null, "eval1", "failed");
+        final Allocation c = allocation("c", "node1", "job2", null, "eval2", "running");
+        final Allocation d = allocation("d", "node2", "job1", null, "eval1", "running");
+        for (Allocation allocation : Arrays.asList(a, b, c, d))
+            index.put(allocation);
+
+        assertThat(index.query().job("job1").node("node1").clientStatus("running").list(),
+                is(Collections.singletonList(a)));
+        assertThat(index.query().job("job2").node("node2").list().isEmpty(), is(true));
+        assertThat(index.query().list().size(), is(4));
+    }
+
+    @Test
+    public void shouldReindexUpdatedAllocations() {
+        final AllocationIndex<Allocation> index = AllocationIndex.forAllocations();
+        final Allocation before = allocation("a", "node1", "job1", null, "eval1", "pending");
+        final Allocation after = allocation("a", "node1", "job1", null, "eval1", "running");
+        index.added(before);
+        index.updated(before, after);
+
+        assertThat(index.size(), is(1));
+        assertThat(index.byClientStatus("pending").isEmpty(), is(true));
+        assertThat(index.byClientStatus("running"), is(Collections.singletonList(after)));
+        assertThat(index.byNode("node1"), is(Collections.singletonList(after)));
+    }
+
+    @Test
+    public void shouldUnindexRemovedAllocations() {
+        final AllocationIndex<Allocation> index = AllocationIndex.forAllocations();
+        final Allocation a = allocation("a", "node1", "job1", "deployment1", "eval1", "running");
+        index.put(a);
+        index.deleted(a);
+
+        assertThat(index.size(), is(0));
+        assertThat(index.get("a"), nullValue());
+        assertThat(index.byNode("node1").isEmpty(), is(true));
+        assertThat(index.byDeployment("deployment1").isEmpty(), is(true));
+    }
+
+    private static Allocation allocation(
+            String id, String nodeId, String jobId, String deploymentId, String evalId, String clientStatus) {
+        return new Allocation()
+                .setId(id)
+                .setNodeId(nodeId)
+                .setJobId(jobId)
+                .setDeploymentId(deploymentId)
+                .setEvalId(evalId)
+                .setClientStatus(clientStatus);
+    }
+}
@@ -0,0 +1,107 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Allocation;
+import com.hashicorp.nomad.apimodel.Job;
+import com.hashicorp.nomad.apimodel.Resources;
+import com.hashicorp.nomad.apimodel.TaskGroup;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ApiObjectTest {
+
+    @Test
+    public void shouldDeepCopyJobs() throws Exception {
+        final Job job = NomadJson.readJobSpec(IOUtils.toString(getClass().getResourceAsStream("job.json"), UTF_8));
+        final Job copy = job.deepCopy();
+
+        assertThat(copy, is(job));
+        assertThat(copy, not(sameInstance(job)));
+        assertThat(copy.hashCode(), is(job.hashCode()));
+        assertThat(copy.structuralHash(), is(job.structuralHash()));
+        assertThat(copy.toString(), is(job.toString()));
+        assertThat(copy.getUpdate(), not(sameInstance(job.getUpdate())));
+        assertThat(copy.getUnmappedProperties(), is(job.getUnmappedProperties()));
+
+        copy.getUpdate().setStagger(copy.getUpdate().getStagger() + 1);
+        assertThat(copy.equals(job), is(false));
+        assertThat(copy.structuralHash(), not(job.structuralHash()));
+        assertThat(NomadJson.readJobSpec(NomadJson.asJobSpec(job)), is(job));
+    }
+
+    @Test
+    public void shouldCompareUnmappedProperties() {
+        final Job job = new Job().setId("example");
+        final Job other = new Job().setId("example");
+        assertThat(other, is(job));
+
+        other.addUnmappedProperty("Future", "value");
+        assertThat(other.equals(job), is(false));
+        assertThat(other.structuralHash(), not(job.structuralHash()));
+        assertThat(other.deepCopy().getUnmappedProperties().get("Future"), is((Object) "value"));
+    }
+
+    @Test
+    public void shouldHashIndependentlyOfMapOrder() {
+        final Resources resources = new Resources().setCpu(100);
+        final TaskGroup group = new TaskGroup().addMeta("a", "1").addMeta("b", "2").setName("web");
+        final TaskGroup reversed = new TaskGroup().addMeta("b", "2").addMeta("a", "1").setName("web");
+        assertThat(reversed.structuralHash(), is(group.structuralHash()));
+        assertThat(reversed, is(group));
+        assertThat(resources.deepCopy().structuralHash(), is(resources.structuralHash()));
+        assertThat(new TaskGroup().setName("db").structuralHash(), not(group.structuralHash()));
+    }
+
+    @Test
+    public void shouldCopyLazyNestedObjects() throws Exception {
+        final String json = "{\"ID\":\"a\",\"Job\":{\"ID\":\"web\",\"TaskGroups\":[{\"Name\":\"frontend\"}]},"
+                + "\"TaskStates\":{\"web\":{\"State\":\"running\"}}}";
+        final Allocation allocation = NomadJson.parserFor(Allocation.class).lazily(true).extractValue(json);
+        final Allocation copy = allocation.deepCopy();
+
+        assertThat(copy.getJob().getId(), is("web"));
+        assertThat(copy.getJob(), not(sameInstance(allocation.getJob())));
+        assertThat(copy, is(allocation));
+        assertThat(copy.structuralHash(), is(NomadJson.parserFor(Allocation.class).extractValue(json).structuralHash()));
+    }
+
+    @Test
+    public void shouldHashCodeOnlyScalarProperties() throws Exception {
+        final String json = "{\"ID\":\"a\",\"ClientStatus\":\"running\",\"Job\":{\"ID\":\"web\"}}";
+        final Allocation lazy = NomadJson.parserFor(Allocation.class).lazily(true).extractValue(json);
+        final Allocation eager = NomadJson.parserFor(Allocation.class).extractValue(json);
+        assertThat(lazy.hashCode(), is(eager.hashCode()));
+
+        final int hashCode = eager.hashCode();
+        final long structuralHash = eager.structuralHash();
+        eager.getJob().setPriority(90);
+        assertThat(eager.hashCode(), is(hashCode));
+        assertThat(eager.structuralHash(), not(structuralHash));
+        assertThat(eager.setClientStatus("complete").hashCode(), not(hashCode));
+    }
+
+    @Test
+    public void shouldNotShareCanonicalJobsWithCopies() throws Exception {
+        final String json = "{\"ID\":\"a\",\"Job\":{\"ID\":\"web\",\"Version\":1,\"JobModifyIndex\":5,"
+                + "\"ModifyIndex\":5,\"TaskGroups\":[{\"Name\":\"frontend\",\"Count\":2}]}}";
+        final JsonParser<Allocation> parser =
+                NomadJson.parserFor(Allocation.class).lazily(true).canonicalizing(new Canonicalizer());
+        final Allocation original = parser.extractValue(json);
+        final Allocation other = parser.extractValue(json);
+
+        final Allocation copy = original.deepCopy();
+        copy.getJob().setPriority(90);
+        copy.getJob().getTaskGroups().get(0).setCount(3);
+
+        assertThat(original.getJob(), sameInstance(other.getJob()));
+        assertThat(original.getJob().getPriority(), nullValue());
+        assertThat(original.getJob().getTaskGroups().get(0).getCount(), is(2));
+        assertThat(copy.getJob(), not(sameInstance(original.getJob())));
+    }
+}
@@ -0,0 +1,123 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Allocation;
+import com.hashicorp.nomad.apimodel.AllocationListStub;
+import com.hashicorp.nomad.apimodel.Job;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class CanonicalizerTest {
+
+    private static final String JOB =
+            "{\"ID\":\"web\",\"Namespace\":\"default\",\"Version\":3,\"JobModifyIndex\":40,\"ModifyIndex\":41}";
+
+    @Test
+    public void shouldShareEqualJobsEmbeddedInAllocations() throws Exception {
+        final Canonicalizer canonicalizer = new Canonicalizer();
+        final JsonParser<Allocation> parser = NomadJson.parserFor(Allocation.class).canonicalizing(canonicalizer);
+
+        final Allocation first = parser.extractValue("{\"ID\":\"a\",\"Job\":" + JOB + "}");
+        final Allocation second = parser.extractValue("{\"ID\":\"b\",\"Job\":" + JOB + "}");
+        assertThat(second.getJob(), sameInstance(first.getJob()));
+
+        final Allocation otherVersion = parser.extractValue(
+                "{\"ID\":\"c\",\"Job\":{\"ID\":\"web\",\"Namespace\":\"default\",\"Version\":4,"
+                        + "\"JobModifyIndex\":50,\"ModifyIndex\":50}}");
+        assertThat(otherVersion.getJob(), not(sameInstance(first.getJob())));
+
+        final Allocation uncanonicalized = NomadJson.parserFor(Allocation.class)
+                .extractValue("{\"ID\":\"d\",\"Job\":" + JOB + "}");
+        assertThat(uncanonicalized.getJob(), not(sameInstance(first.getJob())));
+    }
+
+    @Test
+    public void shouldShareJobsDecodedLazily() throws Exception {
+        final JsonParser<Allocation> parser = NomadJson.parserFor(Allocation.class)
+                .lazily(true)
+                .canonicalizing(new Canonicalizer());
+
+        final Allocation first = parser.extractValue("{\"ID\":\"a\",\"Job\":" + JOB + "}");
+        final Allocation second = parser.extractValue("{\"ID\":\"b\",\"Job\":" + JOB + "}");
+        assertThat(second.getJob(), sameInstance(first.getJob()));
+    }
+
+    @Test
+    public void shouldInternStrings() throws Exception {
+        final ValueExtractor<List<AllocationListStub>> parser = ApiBase.forQuery(
+                NomadJson.parserForListOf(AllocationListStub.class),
+                new QueryOptions<List<AllocationListStub>>().setCanonicalizer(new Canonicalizer()));
+
+        final List<AllocationListStub> allocations = parser.extractValue(
+                "[{\"ID\":\"a\",\"NodeID\":\"n1\",\"ClientStatus\":\"running\"},"
+                        + "{\"ID\":\"b\",\"NodeID\":\"n1\",\"ClientStatus\":\"running\"}]");
+        assertThat(allocations.get(1).getNodeId(), sameInstance(allocations.get(0).getNodeId()));
+        assertThat(allocations.get(1).getClientStatus(), sameInstance(allocations.get(0).getClientStatus()));
+        assertThat(allocations.get(1).getId(), is("b"));
+    }
+
+    @Test
+    public void shouldNotInternUniqueStrings() throws Exception {
+        final JsonParser<AllocationListStub> parser = NomadJson.parserFor(AllocationListStub.class)
+                .canonicalizing(new Canonicalizer());
+
+        final AllocationListStub first = parser.extractValue("{\"ID\":\"a\",\"EvalID\":\"e1\"}");
+        final AllocationListStub second = parser.extractValue("{\"ID\":\"a\",\"EvalID\":\"e1\"}");
+        assertThat(second.getId(), not(sameInstance(first.getId())));
+        assertThat(second.getEvalId(), not(sameInstance(first.getEvalId())));
+    }
+
+    @Test
+    public void shouldNotShareProjectedJobs() throws Exception {
+        final Canonicalizer canonicalizer = new Canonicalizer();
+        final String job = "{\"ID\":\"web\",\"Namespace\":\"default\",\"Version\":3,\"JobModifyIndex\":40,"
+                + "\"ModifyIndex\":41,\"Datacenters\":[\"dc1\"]}";
+
+        final Job projected = NomadJson.parserFor(Job.class)
+                .projecting(new HashSet<>(Arrays.asList("ID", "Namespace", "Version", "JobModifyIndex", "ModifyIndex")))
+                .canonicalizing(canonicalizer)
+                .extractValue(job);
+        final Allocation allocation = NomadJson.parserFor(Allocation.class)
+                .canonicalizing(canonicalizer)
+                .extractValue("{\"ID\":\"a\",\"Job\":" + job + "}");
+        assertThat(allocation.getJob(), not(sameInstance(projected)));
+        assertThat(allocation.getJob().getDatacenters(), is(Arrays.asList("dc1")));
+    }
+
+    @Test
+    public void shouldNotShareJobsReturnedAsResponseValues() throws Exception {
+        final JsonParser<Job> parser = NomadJson.parserFor(Job.class).canonicalizing(new Canonicalizer());
+        final Job pending = parser.extractValue(
+                "{\"ID\":\"web\",\"Version\":3,\"JobModifyIndex\":40,\"ModifyIndex\":40,\"Status\":\"pending\"}");
+        final Job running = parser.extractValue(
+                "{\"ID\":\"web\",\"Version\":3,\"JobModifyIndex\":40,\"ModifyIndex\":40,\"Status\":\"running\"}");
+        assertThat(running, not(sameInstance(pending)));
+        assertThat(running.getStatus(), is("running"));
+    }
+
+    @Test
+    public void shouldNotShareEmbeddedJobsWhoseModifyIndexDiffers() throws Exception {
+        final JsonParser<Allocation> parser = NomadJson.parserFor(Allocation.class).canonicalizing(new Canonicalizer());
+        final Allocation first = parser.extractValue("{\"ID\":\"a\",\"Job\":{\"ID\":\"web\",\"Version\":3,"
+                + "\"JobModifyIndex\":40,\"ModifyIndex\":40,\"Status\":\"pending\"}}");
+        final Allocation second = parser.extractValue("{\"ID\":\"b\",\"Job\":{\"ID\":\"web\",\"Version\":3,"
+                + "\"JobModifyIndex\":40,\"ModifyIndex\":45,\"Status\":\"running\"}}");
+        assertThat(second.getJob(), not(sameInstance(first.getJob())));
+        assertThat(second.getJob().getStatus(), is("running"));
+    }
+
+    @Test
+    public void shouldNotShareJobsWithoutVersionInformation() {
+        final Canonicalizer canonicalizer = new Canonicalizer();
+        final Job job = new Job().setId("web");
+        canonicalizer.canonical(job);
+        assertThat(canonicalizer.canonical(new Job().setId("web")), not(sameInstance(job)));
+    }
+}
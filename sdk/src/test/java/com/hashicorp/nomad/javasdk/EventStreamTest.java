@@ -0,0 +1,119 @@
+package com.hashicorp.nomad.javasdk;
+
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Test;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class EventStreamTest {
+
+    @Test
+    public void shouldParseEventsAndSkipHeartbeats() throws Exception {
+        final FakeConnector connector = new FakeConnector(
+                "{\"Index\":5,\"Events\":[" + event("JobRegistered", "a", 5) + "," + event("JobRegistered", "b", 5)
+                        + "]}\n{}\n{\"Index\":6,\"Events\":[" + event("JobDeregistered", "a", 6) + "]}\n");
+        try (EventStream stream = new EventStream(connector, null)) {
+            assertThat(stream.nextEvent().getKey(), is("a"));
+            assertThat(stream.nextEvent().getKey(), is("b"));
+            final Event event = stream.nextEvent();
+            assertThat(event.getType(), is("JobDeregistered"));
+            assertThat(event.getTopic(), is("Job"));
+            assertThat(event.getJob().getId(), is("a"));
+            assertThat(event.getAllocation(), nullValue());
+            assertThat(stream.getLastIndex(), is(BigInteger.valueOf(6)));
+        }
+        assertThat(connector.openedAt, is(Arrays.asList((BigInteger) null)));
+    }
+
+    @Test
+    public void shouldResumeFromLastIndexWithoutRepeatingEvents() throws Exception {
+        final FakeConnector connector = new FakeConnector(
+                "{\"Index\":5,\"Events\":[" + event("JobRegistered", "a", 5) + "]}\n",
+                "{\"Index\":5,\"Events\":[" + event("JobRegistered", "a", 5) + "]}\n"
+                        + "{\"Index\":7,\"Events\":[" + event("JobRegistered", "b", 7) + "]}\n");
+        try (EventStream stream = new EventStream(connector, BigInteger.valueOf(3))) {
+            assertThat(stream.nextEvent().getKey(), is("a"));
+            assertThat(stream.nextEvent().getKey(), is("b"));
+        }
+        assertThat(connector.openedAt, is(Arrays.asList(BigInteger.valueOf(3), BigInteger.valueOf(5))));
+    }
+
+    @Test
+    public void shouldBackOffWhenReconnectionsYieldNoEvents() throws Exception {
+        final FakeConnector connector = new FakeConnector(
+                "{\"Index\":5,\"Events\":[" + event("JobRegistered", "a", 5) + "]}\n", "", "", "",
+                "{\"Index\":7,\"Events\":[" + event("JobRegistered", "b", 7) + "]}\n");
+        try (EventStream stream = new EventStream(connector, null)) {
+            assertThat(stream.nextEvent().getKey(), is("a"));
+            final long start = System.currentTimeMillis();
+            assertThat(stream.nextEvent().getKey(), is("b"));
+            // Empty responses are followed by delays of 100, 200 and 400ms
+            assertThat(System.currentTimeMillis() - start >= 700, is(true));
+        }
+        assertThat(connector.openedAt.size(), is(5));
+    }
+
+    @Test
+    public void shouldThrowWhenSamePartOfStreamKeepsFailingToParse() throws Exception {
+        final String bad = "{\"Index\":5,\"Events\":[" + event("JobRegistered", "a", 5) + "]}\n{\"Index\":[}\n";
+        final FakeConnector connector = new FakeConnector(bad, bad, bad, bad);
+        try (EventStream stream = new EventStream(connector, null)) {
+            assertThat(stream.nextEvent().getKey(), is("a"));
+            try {
+                stream.nextEvent();
+                fail("expected a ResponseParsingException");
+            } catch (ResponseParsingException e) {
+                assertThat(e.getMessage().contains("after index 5"), is(true));
+            }
+        }
+        assertThat(connector.openedAt, is(Arrays.asList(
+                null, BigInteger.valueOf(5), BigInteger.valueOf(5))));
+    }
+
+    private static String event(String type, String key, long index) {
+        return "{\"Topic\":\"Job\",\"Type\":\"" + type + "\",\"Key\":\"" + key + "\",\"Namespace\":\"default\","
+                + "\"Index\":" + index + ",\"Payload\":{\"Job\":{\"ID\":\"" + key + "\"}}}";
+    }
+
+    private static final class FakeConnector implements EventStream.Connector {
+        private final String[] bodies;
+        private final List<BigInteger> openedAt = new ArrayList<>();
+
+        FakeConnector(String... bodies) {
+            this.bodies = bodies;
+        }
+
+        @Override
+        public CloseableHttpResponse open(@Nullable BigInteger index) throws IOException {
+            if (openedAt.size() >= bodies.length)
+                throw new IOException("no more connections");
+            final FakeResponse response = new FakeResponse();
+            response.setEntity(new StringEntity(bodies[openedAt.size()]));
+            openedAt.add(index);
+            return response;
+        }
+    }
+
+    private static final class FakeResponse extends BasicHttpResponse implements CloseableHttpResponse {
+        FakeResponse() {
+            super(HttpVersion.HTTP_1_1, 200, "OK");
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Job;
+import com.hashicorp.nomad.apimodel.TaskGroup;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.zip.GZIPInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class JsonEntityTest {
+
+    private static final Job JOB = new Job()
+            .setId("example")
+            .addTaskGroups(new TaskGroup().setName("web").setCount(3));
+
+    @Test
+    public void shouldWriteSameJsonAsSerialize() throws Exception {
+        final JsonEntity entity = new JsonEntity(JOB, false);
+        assertThat(entity.isRepeatable(), is(true));
+        assertThat(entity.getContentType().getValue(), is("application/json; charset=UTF-8"));
+        assertThat(entity.getContentEncoding(), nullValue());
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        assertThat(new String(out.toByteArray(), UTF_8), is(NomadJson.serialize(JOB)));
+        assertThat(IOUtils.toString(entity.getContent(), UTF_8), is(NomadJson.serialize(JOB)));
+    }
+
+    @Test
+    public void shouldCompressWithGzip() throws Exception {
+        final JsonEntity entity = new JsonEntity(JOB, true);
+        assertThat(entity.getContentEncoding().getValue(), is("gzip"));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        final GZIPInputStream decompressed = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()));
+        assertThat(IOUtils.toString(decompressed, UTF_8), is(NomadJson.serialize(JOB)));
+    }
+
+    @Test
+    public void shouldWriteNull() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new JsonEntity(null, false).writeTo(out);
+        assertThat(new String(out.toByteArray(), UTF_8), is("null"));
+    }
+}
@@ -0,0 +1,156 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Allocation;
+import com.hashicorp.nomad.apimodel.AllocationListStub;
+import com.hashicorp.nomad.apimodel.Job;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class JsonParserTest {
+
+    // The job is malformed, so parsing would fail if it were deserialized rather than skipped.
+    private static final String ALLOCATION = "{\"ID\":\"a\",\"ClientStatus\":\"running\","
+            + "\"Job\":{\"Priority\":\"not a number\",\"TaskGroups\":[{\"Tasks\":[{\"Config\":{\"x\":[1,2]}}]}]},"
+            + "\"TaskStates\":{\"web\":{\"State\":\"running\"}},\"ModifyIndex\":7}";
+
+    private static final QueryOptions<Allocation> STATUS_ONLY =
+            new QueryOptions<Allocation>().setFields(Arrays.asList("ID", "ClientStatus", "ModifyIndex"));
+
+    @Test
+    public void shouldSkipFieldsOutsideProjection() throws Exception {
+        final JsonParser<Allocation> parser =
+                NomadJson.parserFor(Allocation.class).projecting(STATUS_ONLY.getFields());
+
+        for (Allocation allocation : Arrays.asList(
+                parser.extractValue(ALLOCATION),
+                parser.extractValue(new ByteArrayInputStream(ALLOCATION.getBytes(StandardCharsets.UTF_8))))) {
+            assertThat(allocation.getId(), is("a"));
+            assertThat(allocation.getClientStatus(), is("running"));
+            assertThat(allocation.getModifyIndex().intValue(), is(7));
+            assertThat(allocation.getJob(), nullValue());
+            assertThat(allocation.getTaskStates(), nullValue());
+            assertThat(allocation.getUnmappedProperties(), nullValue());
+        }
+    }
+
+    @Test
+    public void shouldProjectEachElementOfList() throws Exception {
+        final List<AllocationListStub> allocations = NomadJson.parserForListOf(AllocationListStub.class)
+                .projecting(STATUS_ONLY.getFields())
+                .extractValue("[{\"ID\":\"a\",\"TaskStates\":{}},{\"ClientStatus\":\"failed\",\"JobID\":\"j\"}]");
+
+        assertThat(allocations.size(), is(2));
+        assertThat(allocations.get(0).getId(), is("a"));
+        assertThat(allocations.get(0).getTaskStates(), nullValue());
+        assertThat(allocations.get(1).getClientStatus(), is("failed"));
+        assertThat(allocations.get(1).getJobId(), nullValue());
+    }
+
+    @Test
+    public void shouldFailOnTruncatedObject() throws Exception {
+        try {
+            NomadJson.parserFor(Allocation.class).projecting(STATUS_ONLY.getFields())
+                    .extractValue("{\"ID\":\"a\",\"Job\":{\"ID\":\"j\"}");
+            fail("expected a ResponseParsingException");
+        } catch (ResponseParsingException e) {
+            assertThat(e.getCause() instanceof java.io.IOException, is(true));
+        }
+    }
+
+    @Test
+    public void shouldOnlyTreatParsersWithSameProjectionAsEqual() {
+        final JsonParser<Allocation> full = NomadJson.parserFor(Allocation.class);
+        final ValueExtractor<Allocation> projected = ApiBase.forQuery(full, STATUS_ONLY);
+
+        assertThat(ApiBase.forQuery(full, null), sameInstance((ValueExtractor<Allocation>) full));
+        assertThat(projected.equals(full), is(false));
+        assertThat(projected.equals(full.projecting(STATUS_ONLY.getFields())), is(true));
+        assertThat(projected.hashCode(), is(full.projecting(STATUS_ONLY.getFields()).hashCode()));
+    }
+
+    @Test
+    public void shouldOnlyDecodeLazyNestedObjectsWhenRead() throws Exception {
+        final JsonParser<Allocation> parser = NomadJson.parserFor(Allocation.class).lazily(true);
+
+        final Allocation allocation = parser.extractValue(ALLOCATION);
+        assertThat(allocation.getClientStatus(), is("running"));
+        assertThat(allocation.getTaskStates().get("web").getState(), is("running"));
+        try {
+            allocation.getJob();
+            fail("expected an UncheckedIOException");
+        } catch (UncheckedIOException e) {
+            assertThat(e.getMessage().contains("Job"), is(true));
+        }
+
+        final Allocation valid = parser.extractValue(
+                "{\"ID\":\"a\",\"Job\":{\"ID\":\"j\",\"TaskGroups\":[{\"Name\":\"web\",\"Count\":2}]}}");
+        final Job job = valid.getJob();
+        assertThat(job.getId(), is("j"));
+        assertThat(job.getTaskGroups().get(0).getCount(), is(2));
+        assertThat(valid.getJob(), sameInstance(job));
+        assertThat(valid.toString(), is(NomadJson.parserFor(Allocation.class).extractValue(valid.toString()).toString()));
+    }
+
+    @Test
+    public void shouldDecodeLazyNestedObjectsBeforeAddingToThem() throws Exception {
+        final Allocation allocation = NomadJson.parserFor(Allocation.class).lazily(true)
+                .extractValue("{\"TaskStates\":{\"web\":{\"State\":\"running\"}}}");
+        allocation.addTaskStates("db", null);
+        assertThat(allocation.getTaskStates().keySet().size(), is(2));
+    }
+
+    @Test
+    public void shouldDecodeLazyNestedObjectsOnceWhenSharedBetweenThreads() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int attempt = 0; attempt < 50; attempt++) {
+                final Allocation allocation = NomadJson.parserFor(Allocation.class).lazily(true)
+                        .extractValue("{\"Job\":{\"ID\":\"web\"}}");
+                final CountDownLatch start = new CountDownLatch(1);
+                final List<Future<Job>> jobs = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    jobs.add(executor.submit(new Callable<Job>() {
+                        @Override
+                        public Job call() throws Exception {
+                            start.await();
+                            return allocation.getJob();
+                        }
+                    }));
+                }
+                start.countDown();
+                for (Future<Job> job : jobs)
+                    assertThat(job.get(), sameInstance(allocation.getJob()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldOnlyTreatParsersWithSameLazinessAsEqual() {
+        final JsonParser<Allocation> eager = NomadJson.parserFor(Allocation.class);
+        final ValueExtractor<Allocation> lazy =
+                ApiBase.forQuery(eager, new QueryOptions<Allocation>().setLazyNestedObjects(true));
+
+        assertThat(lazy.equals(eager), is(false));
+        assertThat(lazy.equals(eager.lazily(true)), is(true));
+        assertThat(eager.lazily(false), sameInstance(eager));
+    }
+}
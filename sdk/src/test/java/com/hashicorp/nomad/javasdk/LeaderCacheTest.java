@@ -0,0 +1,136 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.AgentMember;
+import org.apache.http.HttpHost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.junit.Test;
+
+import javax.annotation.Nullable;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class LeaderCacheTest {
+
+    private static final List<HttpHost> CONFIGURED = Arrays.asList(
+            new HttpHost("nomad.example.com", 4646, "https"),
+            new HttpHost("10.0.0.2", 4646, "https"));
+
+    private static final List<AgentMember> MEMBERS = Arrays.asList(
+            server("10.0.0.1", "alive"),
+            server("10.0.0.2", "alive"),
+            server("10.0.0.3", "failed"));
+
+    @Test
+    public void shouldUseSchemeAndPortOfConfiguredAddressForLeader() {
+        assertThat(LeaderCache.resolve("10.0.0.1:4647", MEMBERS, CONFIGURED),
+                is(new HttpHost("10.0.0.1", 4646, "https")));
+    }
+
+    @Test
+    public void shouldPreferConfiguredAddressOfLeader() {
+        assertThat(LeaderCache.resolve("10.0.0.2:4647", MEMBERS, CONFIGURED), is(CONFIGURED.get(1)));
+    }
+
+    @Test
+    public void shouldNotResolveUnknownOrFailedLeader() {
+        assertThat(LeaderCache.resolve("", MEMBERS, CONFIGURED), nullValue());
+        assertThat(LeaderCache.resolve("10.0.0.3:4647", MEMBERS, CONFIGURED), nullValue());
+        assertThat(LeaderCache.resolve("10.0.0.4:4647", MEMBERS, CONFIGURED), nullValue());
+        assertThat(LeaderCache.resolve("10.0.0.1:4647", Collections.<AgentMember>emptyList(), CONFIGURED),
+                nullValue());
+    }
+
+    @Test
+    public void shouldNotWaitForAnotherCallersLookup() throws Exception {
+        final CountDownLatch lookingUp = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger lookups = new AtomicInteger();
+        final LeaderCache cache = new LeaderCache(new LeaderCache.Lookup() {
+            @Override
+            public String leaderRpcAddress(@Nullable String region) throws InterruptedIOException {
+                if (lookups.incrementAndGet() > 1 && "slow".equals(region)) {
+                    lookingUp.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new InterruptedIOException();
+                    }
+                }
+                return "slow".equals(region) ? "10.0.0.1:4647" : "10.0.0.2:4647";
+            }
+
+            @Override
+            public List<AgentMember> members() {
+                return MEMBERS;
+            }
+        }, CONFIGURED, 0);
+
+        final HttpHost leader = new HttpHost("10.0.0.1", 4646, "https");
+        assertThat(cache.leaderFor("slow"), is(leader));
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<HttpHost> refreshed = executor.submit(new Callable<HttpHost>() {
+                @Override
+                public HttpHost call() {
+                    return cache.leaderFor("slow");
+                }
+            });
+            lookingUp.await();
+
+            // The expired leader is used while its lookup is in progress, and other regions aren't held up
+            assertThat(cache.leaderFor("slow"), is(leader));
+            assertThat(cache.leaderFor("other"), is(CONFIGURED.get(1)));
+            cache.invalidate("slow", leader);
+            assertThat(cache.leaderFor("slow"), nullValue());
+
+            release.countDown();
+            assertThat(refreshed.get(), is(leader));
+            assertThat(lookups.get(), is(3));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldRouteWritesToTheLeaderOfTheRegionInTheirWriteOptions() {
+        final NomadApiConfiguration config = new NomadApiConfiguration.Builder()
+                .setAddress("http://127.0.0.1:4646")
+                .setRegion("global")
+                .build();
+        final ApiRequestBase api = new ApiRequestBase() {
+            @Override
+            protected NomadApiConfiguration getApiConfig() {
+                return config;
+            }
+        };
+
+        final HttpUriRequest write =
+                NomadApiClient.buildRequest(config, api.put("/v1/jobs", new WriteOptions("eu")), null);
+        assertThat(NomadApiClient.regionOf(write, config.getRegion()), is("eu"));
+
+        final HttpUriRequest defaultWrite = NomadApiClient.buildRequest(config, api.put("/v1/jobs", null), null);
+        assertThat(NomadApiClient.regionOf(defaultWrite, config.getRegion()), is("global"));
+    }
+
+    private static AgentMember server(String address, String status) {
+        return new AgentMember()
+                .setAddr(address)
+                .setPort(4648)
+                .setStatus(status)
+                .addTags("role", "nomad")
+                .addTags("port", "4647");
+    }
+}
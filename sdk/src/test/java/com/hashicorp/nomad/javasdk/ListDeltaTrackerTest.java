@@ -0,0 +1,66 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.JobListStub;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ListDeltaTrackerTest {
+
+    @Test
+    public void shouldReportEverythingAsAddedAtFirst() {
+        final ListDeltaTracker<JobListStub> tracker = ListDeltaTracker.forJobs();
+        final JobListStub a = job("a", 1);
+        final JobListStub b = job("b", 2);
+
+        final ListDelta<JobListStub> delta = tracker.update(Arrays.asList(a, b));
+
+        assertThat(delta.getAdded(), is(Arrays.asList(a, b)));
+        assertThat(delta.getModified().isEmpty(), is(true));
+        assertThat(delta.getRemoved().isEmpty(), is(true));
+        assertThat(tracker.getSnapshot().get("b"), sameInstance(b));
+    }
+
+    @Test
+    public void shouldReportAddedModifiedAndRemovedByIdAndModifyIndex() {
+        final ListDeltaTracker<JobListStub> tracker = ListDeltaTracker.forJobs();
+        final JobListStub a = job("a", 1);
+        final JobListStub b = job("b", 2);
+        final JobListStub c = job("c", 3);
+        tracker.update(Arrays.asList(a, b, c));
+
+        final JobListStub unchangedA = job("a", 1);
+        final JobListStub modifiedB = job("b", 5);
+        final JobListStub d = job("d", 6);
+        final ListDelta<JobListStub> delta = tracker.update(Arrays.asList(unchangedA, modifiedB, d));
+
+        assertThat(delta.getAdded(), is(Collections.singletonList(d)));
+        assertThat(delta.getModified().size(), is(1));
+        assertThat(delta.getModified().get(0).getPrevious(), sameInstance(b));
+        assertThat(delta.getModified().get(0).getCurrent(), sameInstance(modifiedB));
+        assertThat(delta.getRemoved(), is(Collections.singletonList(c)));
+        assertThat(new ArrayList<>(tracker.getSnapshot().keySet()), is(Arrays.asList("a", "b", "d")));
+    }
+
+    @Test
+    public void shouldReportNothingForUnchangedList() {
+        final ListDeltaTracker<JobListStub> tracker = ListDeltaTracker.forJobs();
+        tracker.update(Arrays.asList(job("a", 1), job("b", 2)));
+
+        assertThat(tracker.update(Arrays.asList(job("a", 1), job("b", 2))).isEmpty(), is(true));
+
+        tracker.reset();
+        assertThat(tracker.update(Arrays.asList(job("a", 1))).getAdded().size(), is(1));
+    }
+
+    private static JobListStub job(String id, long modifyIndex) {
+        return new JobListStub().setId(id).setModifyIndex(BigInteger.valueOf(modifyIndex));
+    }
+}
@@ -0,0 +1,113 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.AllocationListStub;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ListElementParserTest {
+
+    private static final String LIST = "[{\"ID\":\"a\",\"ClientStatus\":\"running\"},{\"ID\":\"b\"},{\"ID\":\"c\"}]";
+
+    @Test
+    public void shouldHandEachElementToConsumer() throws Exception {
+        final List<String> ids = new ArrayList<>();
+        final ListElementParser<AllocationListStub> parser = parser(ids);
+
+        assertThat(parser.extractValue(stream(LIST)), is(3));
+        assertThat(ids, is(Arrays.asList("a", "b", "c")));
+
+        ids.clear();
+        assertThat(parser.extractValue(LIST), is(3));
+        assertThat(ids, is(Arrays.asList("a", "b", "c")));
+    }
+
+    @Test
+    public void shouldTreatNullAsEmptyList() throws Exception {
+        final List<String> ids = new ArrayList<>();
+        assertThat(parser(ids).extractValue(stream("null")), is(0));
+        assertThat(ids.isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldHandElementsOverBeforeFailingOnTruncatedList() throws Exception {
+        final List<String> ids = new ArrayList<>();
+        try {
+            parser(ids).extractValue(stream("[{\"ID\":\"a\"},{\"ID\":\"b\"},{\"ID\""));
+            fail("expected a ResponseParsingException");
+        } catch (ResponseParsingException e) {
+            assertThat(ids, is(Arrays.asList("a", "b")));
+        }
+    }
+
+    @Test
+    public void shouldNotBeSharedBetweenRequests() {
+        final ApiBase.ServerQueryResponseAdapter<Integer> adapter =
+                new ApiBase.ServerQueryResponseAdapter<>(parser(new ArrayList<String>()));
+        assertThat(adapter.isSideEffectFree(), is(false));
+    }
+
+    @Test
+    public void shouldReadElementsWithQueryOptions() throws Exception {
+        final List<AllocationListStub> allocations = new ArrayList<>();
+        final Canonicalizer canonicalizer = new Canonicalizer();
+        final QueryOptions<Integer> options = new QueryOptions<Integer>()
+                .setFields(Arrays.asList("ID", "ClientStatus"))
+                .setCanonicalizer(canonicalizer);
+        final ValueExtractor<Integer> parser = ApiBase.forQuery(
+                new ListElementParser<>(AllocationListStub.class, new Consumer<AllocationListStub>() {
+                    @Override
+                    public void accept(AllocationListStub allocation) {
+                        allocations.add(allocation);
+                    }
+                }), options);
+
+        final String list = "[{\"ID\":\"a\",\"ClientStatus\":\"running\",\"JobID\":\"web\"},"
+                + "{\"ID\":\"b\",\"ClientStatus\":\"running\",\"TaskStates\":{\"x\":{\"State\":[1]}}}]";
+        assertThat(((StreamingValueExtractor<Integer>) parser).extractValue(stream(list)), is(2));
+        assertThat(allocations.get(0).getJobId(), nullValue());
+        assertThat(allocations.get(1).getTaskStates(), nullValue());
+        assertThat(allocations.get(1).getClientStatus(), sameInstance(allocations.get(0).getClientStatus()));
+    }
+
+    @Test
+    public void shouldNotRetainRawEntitiesOfStreamedLists() throws Exception {
+        final List<String> ids = new ArrayList<>();
+        final BasicHttpResponse httpResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        httpResponse.setEntity(new StringEntity(LIST, StandardCharsets.UTF_8));
+
+        final ServerQueryResponse<Integer> response =
+                new ApiBase.ServerQueryResponseAdapter<>(parser(ids)).apply(httpResponse, true);
+        assertThat(response.getValue(), is(3));
+        assertThat(response.getRawEntity(), nullValue());
+    }
+
+    private static ListElementParser<AllocationListStub> parser(final List<String> ids) {
+        return new ListElementParser<>(AllocationListStub.class, new Consumer<AllocationListStub>() {
+            @Override
+            public void accept(AllocationListStub allocation) {
+                ids.add(allocation.getId());
+            }
+        });
+    }
+
+    private static InputStream stream(String json) throws IOException {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,140 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Job;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class LongPollMultiplexerTest {
+
+    private final LongPollMultiplexer multiplexer = new LongPollMultiplexer();
+
+    @Test
+    public void shouldReleaseWaitersOnSameIndexTogether() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ServerQueryResponse<Job> response = responseAtIndex(11);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ServerQueryResponse<Job>> first = executor.submit(new Callable<ServerQueryResponse<Job>>() {
+                @Override
+                public ServerQueryResponse<Job> call() throws Exception {
+                    return poll(10, new QueryCoalescer.Query<ServerQueryResponse<Job>>() {
+                        @Override
+                        public ServerQueryResponse<Job> execute() throws IOException {
+                            started.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                throw new IOException(e);
+                            }
+                            return response;
+                        }
+                    });
+                }
+            });
+            started.await(10, TimeUnit.SECONDS);
+
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    while (multiplexer.getMultiplexed() == 0)
+                        Thread.yield();
+                    release.countDown();
+                }
+            }).start();
+            ServerQueryResponse<Job> second = poll(10, failingQuery());
+
+            assertThat(second, sameInstance(response));
+            assertThat(first.get(10, TimeUnit.SECONDS), sameInstance(response));
+            assertThat(multiplexer.getExecuted(), is(1L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldAnswerLowerIndexWithResponseThatInFlightPollStartedFrom() throws Exception {
+        final ServerQueryResponse<Job> latest = responseAtIndex(20);
+        poll(10, constantQuery(latest));
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ServerQueryResponse<Job>> inFlight = executor.submit(new Callable<ServerQueryResponse<Job>>() {
+                @Override
+                public ServerQueryResponse<Job> call() throws Exception {
+                    return poll(20, new QueryCoalescer.Query<ServerQueryResponse<Job>>() {
+                        @Override
+                        public ServerQueryResponse<Job> execute() throws IOException {
+                            started.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                throw new IOException(e);
+                            }
+                            return responseAtIndex(21);
+                        }
+                    });
+                }
+            });
+            started.await(10, TimeUnit.SECONDS);
+
+            assertThat(poll(15, failingQuery()), sameInstance(latest));
+            release.countDown();
+            assertThat(inFlight.get(10, TimeUnit.SECONDS).getIndex(), is(BigInteger.valueOf(21)));
+            assertThat(multiplexer.getMultiplexed(), is(1L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ServerQueryResponse<Job> poll(long index, QueryCoalescer.Query<ServerQueryResponse<Job>> query)
+            throws IOException, NomadException {
+        return multiplexer.execute(
+                new HttpGet("http://127.0.0.1:4646/v1/job/example?index=" + index + "&wait=60s"),
+                new ApiBase.ServerQueryResponseAdapter<>(NomadJson.parserFor(Job.class)),
+                index,
+                query);
+    }
+
+    private static ServerQueryResponse<Job> responseAtIndex(long index) {
+        BasicHttpResponse httpResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        httpResponse.addHeader("X-Nomad-Index", String.valueOf(index));
+        return new ServerQueryResponse<>(httpResponse, null, new Job());
+    }
+
+    private static QueryCoalescer.Query<ServerQueryResponse<Job>> constantQuery(
+            final ServerQueryResponse<Job> response) {
+        return new QueryCoalescer.Query<ServerQueryResponse<Job>>() {
+            @Override
+            public ServerQueryResponse<Job> execute() {
+                return response;
+            }
+        };
+    }
+
+    private static QueryCoalescer.Query<ServerQueryResponse<Job>> failingQuery() {
+        return new QueryCoalescer.Query<ServerQueryResponse<Job>>() {
+            @Override
+            public ServerQueryResponse<Job> execute() throws IOException {
+                throw new IOException("query should have been answered by the multiplexer");
+            }
+        };
+    }
+}
@@ -1,14 +1,27 @@
 package com.hashicorp.nomad.javasdk;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.hashicorp.nomad.apimodel.AllocationListStub;
+import com.hashicorp.nomad.apimodel.AllocationListStubCodec;
+import com.hashicorp.nomad.apimodel.Evaluation;
+import com.hashicorp.nomad.apimodel.EvaluationCodec;
 import com.hashicorp.nomad.apimodel.Job;
+import com.hashicorp.nomad.apimodel.JobListStub;
+import com.hashicorp.nomad.apimodel.QuotaLimit;
 import com.hashicorp.nomad.apimodel.UpdateStrategy;
 import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.HashMap;
 
+import static com.fasterxml.jackson.databind.PropertyNamingStrategy.UPPER_CAMEL_CASE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public class NomadJsonTest {
@@ -48,4 +61,111 @@ public class NomadJsonTest {
         assertThat(update.getUnmappedProperties().get("Unknown Update Object"), is((Object) expectedUpdateObject));
     }
 
+    @Test
+    public void shouldHandleUnknownKeysAccordingToPolicy() throws Exception {
+        String jobSpec = IOUtils.toString(getClass().getResourceAsStream("job.json"), UTF_8);
+        try {
+            NomadJson.setUnknownPropertyPolicy(UnknownPropertyPolicy.KEEP_RAW);
+            final Job rawJob = NomadJson.readJobSpec(jobSpec);
+            assertThat(rawJob.getUnmappedProperties().get("Unknown Job Object"),
+                    is((Object) new RawValue("{\"Foo\":\"Bar\"}")));
+            assertThat(rawJob.getUpdate().getUnmappedProperties().get("Unknown Update String"),
+                    is((Object) new RawValue("\"here too\"")));
+            assertThat(Job.fromJson(rawJob.toString()).toString(), is(rawJob.toString()));
+
+            NomadJson.setUnknownPropertyPolicy(UnknownPropertyPolicy.DROP);
+            final Job job = NomadJson.readJobSpec(jobSpec);
+            assertThat(job.getId(), is("Job-ID"));
+            assertThat(job.getUnmappedProperties(), nullValue());
+            assertThat(job.getUpdate().getUnmappedProperties(), nullValue());
+            assertThat(AllocationListStub.fromJson("{\"ID\":\"a\",\"Unknown\":null}").getUnmappedProperties(),
+                    nullValue());
+        } finally {
+            NomadJson.setUnknownPropertyPolicy(UnknownPropertyPolicy.KEEP);
+        }
+    }
+
+    @Test
+    public void shouldStoreUnmappedPropertiesCompactly() {
+        final UnmappedProperties properties = new UnmappedProperties();
+        properties.put("a", 1);
+        properties.put("b", null);
+        properties.put("a", 2);
+        assertThat(properties.size(), is(2));
+        assertThat(properties.get("a"), is((Object) 2));
+        assertThat(properties.containsKey("b"), is(true));
+
+        final HashMap<String, Object> expected = new HashMap<>();
+        expected.put("a", 2);
+        expected.put("b", null);
+        assertThat(properties.equals(expected), is(true));
+
+        properties.remove("a");
+        assertThat(properties.keySet(), is(Collections.singleton("b")));
+    }
+
+
+    @Test
+    public void shouldReuseParsersReadersAndWriters() throws Exception {
+        assertThat(NomadJson.parserFor(Job.class), sameInstance(NomadJson.parserFor(Job.class)));
+        assertThat(NomadJson.parserForListOf(Job.class), sameInstance(NomadJson.parserForListOf(Job.class)));
+        assertThat(NomadJson.readerFor(Job.class), sameInstance(NomadJson.readerFor(Job.class)));
+        assertThat(NomadJson.writerFor(Job.class), sameInstance(NomadJson.writerFor(Job.class)));
+
+        final Job job = Job.fromJson(new Job().setId("example").setPriority(50).toString());
+        assertThat(job.getId(), is("example"));
+        assertThat(job.getPriority(), is(50));
+        assertThat(Job.fromJsonArray("[{\"ID\":\"a\"},{\"ID\":\"b\"}]").get(1).getId(), is("b"));
+    }
+
+    @Test
+    public void shouldUseGeneratedCodecsWhenPresent() throws Exception {
+        assertThat(ApiObjectCodecModule.codecFor(AllocationListStub.class) instanceof AllocationListStubCodec, is(true));
+        assertThat(ApiObjectCodecModule.codecFor(Evaluation.class) instanceof EvaluationCodec, is(true));
+        assertThat(ApiObjectCodecModule.codecFor(String.class), nullValue());
+    }
+
+    @Test
+    public void shouldReadAndWriteWithCodecsLikeDataBinding() throws Exception {
+        final ObjectMapper dataBinding = new ObjectMapper()
+                .setPropertyNamingStrategy(UPPER_CAMEL_CASE)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        final String allocationJson = "{\"ID\":\"a\",\"JobVersion\":3,\"ClientStatus\":null,\"CreateTime\":12,"
+                + "\"TaskStates\":{\"web\":{\"State\":\"running\",\"Failed\":false}},"
+                + "\"PreemptedAllocations\":[\"b\"],\"Unknown\":{\"Foo\":\"Bar\"}}";
+        final AllocationListStub allocation = AllocationListStub.fromJson(allocationJson);
+        assertThat(allocation.getId(), is("a"));
+        assertThat(allocation.getCreateTime(), is(12L));
+        assertThat(allocation.getTaskStates().get("web").getState(), is("running"));
+        assertThat(allocation.getUnmappedProperties().get("Unknown"),
+                is((Object) Collections.singletonMap("Foo", "Bar")));
+        assertThat(allocation.toString(),
+                is(dataBinding.writeValueAsString(dataBinding.readValue(allocationJson, AllocationListStub.class))));
+
+        final String jobsJson = "[{\"ID\":\"j\",\"Priority\":50,\"Periodic\":true,\"Datacenters\":[\"dc1\"],"
+                + "\"JobSummary\":{\"JobID\":\"j\",\"Summary\":{\"web\":{\"Running\":2}}}},{}]";
+        final JobListStub job = JobListStub.fromJsonArray(jobsJson).get(0);
+        assertThat(job.getPriority(), is(50));
+        assertThat(job.getPeriodic(), is(true));
+        assertThat(job.getJobSummary().getSummary().get("web").getRunning(), is(2));
+        assertThat(job.toString(),
+                is(dataBinding.writeValueAsString(dataBinding.readValue(jobsJson, JobListStub[].class)[0])));
+    }
+
+    @Test
+    public void shouldRoundTripDatesBytesAndNestedMapsThroughCodecs() throws Exception {
+        final Evaluation evaluation = Evaluation.fromJson("{\"ID\":\"e\",\"Priority\":50,"
+                + "\"WaitUntil\":\"2020-01-02T03:04:05.678Z\",\"ClassEligibility\":{\"v1:1\":true},"
+                + "\"FailedTGAllocs\":{\"web\":{\"NodesEvaluated\":3,\"ConstraintFiltered\":{\"${attr.kernel.name}\":2}}},"
+                + "\"QueuedAllocations\":{\"web\":1},\"SnapshotIndex\":18446744073709551615}");
+        assertThat(evaluation.getPriority(), is(50));
+        assertThat(evaluation.getWaitUntil().getTime(), is(1577934245678L));
+        assertThat(evaluation.getFailedTgAllocs().get("web").getConstraintFiltered().get("${attr.kernel.name}"), is(2));
+        assertThat(Evaluation.fromJson(evaluation.toString()), is(evaluation));
+
+        final QuotaLimit limit = QuotaLimit.fromJson("{\"Region\":\"global\",\"Hash\":\"AAEC/w==\"}");
+        assertThat(limit.getHash(), is(new byte[]{0, 1, 2, (byte) 255}));
+        assertThat(QuotaLimit.fromJson(limit.toString()), is(limit));
+    }
 }
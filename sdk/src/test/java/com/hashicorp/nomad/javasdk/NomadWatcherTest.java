@@ -0,0 +1,214 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Job;
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class NomadWatcherTest {
+
+    @Test
+    public void shouldTrackIndexAndBackOffWhenIndexDoesNotChange() throws Exception {
+        final List<BigInteger> queriedAt = Collections.synchronizedList(new ArrayList<BigInteger>());
+        final List<BigInteger> changes = Collections.synchronizedList(new ArrayList<BigInteger>());
+        final CountDownLatch done = new CountDownLatch(1);
+        final long[] responseIndexes = {5, 5, 7};
+
+        try (NomadWatcher watcher = new NomadWatcher(1)) {
+            final NomadWatcher.Watch watch = watcher.watch(new NomadWatcher.Query<Job>() {
+                @Override
+                public CompletableFuture<ServerQueryResponse<Job>> execute(QueryOptions<Job> options) {
+                    final int call = queriedAt.size();
+                    queriedAt.add(options.getIndex());
+                    if (call >= responseIndexes.length)
+                        return new CompletableFuture<>();
+                    return CompletableFuture.completedFuture(responseAtIndex(responseIndexes[call]));
+                }
+            }, new NomadWatcher.Callback<Job>() {
+                @Override
+                public void changed(ServerQueryResponse<Job> response) {
+                    changes.add(response.getIndex());
+                    if (changes.size() == 2)
+                        done.countDown();
+                }
+
+                @Override
+                public void failed(Throwable error) {
+                }
+            });
+
+            assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(changes, is(Arrays.asList(BigInteger.valueOf(5), BigInteger.valueOf(7))));
+            assertThat(watch.getIndex(), is(BigInteger.valueOf(7)));
+            assertThat(watcher.getWatchCount(), is(1));
+            watch.cancel();
+            assertThat(watcher.getWatchCount(), is(0));
+        }
+        assertThat(queriedAt.subList(0, 3), is(Arrays.asList(null, BigInteger.valueOf(5), BigInteger.valueOf(5))));
+    }
+
+    @Test
+    public void shouldQueryWithEveryOptionButTheIndexAndNextToken() throws Exception {
+        final Canonicalizer canonicalizer = new Canonicalizer();
+        final QueryOptions<Job> options = new QueryOptions<Job>()
+                .setRegion("east")
+                .setNamespace("team")
+                .setAuthToken("secret")
+                .setAllowStale(true)
+                .setPerPage(10)
+                .setNextToken("page-2")
+                .setFilter("Status == \"running\"")
+                .setFields(Collections.singletonList("ID"))
+                .setLazyNestedObjects(true)
+                .setCanonicalizer(canonicalizer)
+                .setWaitStrategy(WaitStrategy.waitForMilliseconds(200))
+                .setIndex(3);
+        final CompletableFuture<QueryOptions<Job>> queried = new CompletableFuture<>();
+
+        try (NomadWatcher watcher = new NomadWatcher(1)) {
+            watcher.watch(new NomadWatcher.Query<Job>() {
+                @Override
+                public CompletableFuture<ServerQueryResponse<Job>> execute(QueryOptions<Job> next) {
+                    queried.complete(next);
+                    return new CompletableFuture<>();
+                }
+            }, options, null, new NomadWatcher.Callback<Job>() {
+                @Override
+                public void changed(ServerQueryResponse<Job> response) {
+                }
+
+                @Override
+                public void failed(Throwable error) {
+                }
+            });
+
+            final QueryOptions<Job> next = queried.get(5, TimeUnit.SECONDS);
+            assertThat(next.getIndexAsLong(), is(3L));
+            assertThat(next.getRegion(), is("east"));
+            assertThat(next.getNamespace(), is("team"));
+            assertThat(next.getAuthToken(), is("secret"));
+            assertThat(next.isAllowStale(), is(true));
+            assertThat(next.getPerPage(), is(10));
+            assertThat(next.getNextToken(), is(nullValue()));
+            assertThat(next.getFilter(), is("Status == \"running\""));
+            assertThat(next.getFields(), is(options.getFields()));
+            assertThat(next.isLazyNestedObjects(), is(true));
+            assertThat(next.getCanonicalizer() == canonicalizer, is(true));
+            assertThat(next.getWaitStrategy().getWait().endsWith("ms"), is(true));
+        }
+    }
+
+    @Test
+    public void shouldJudgeBlockingAgainstRequestedWait() {
+        assertThat(NomadWatcher.parseWaitMillis("200ms"), is(200L));
+        assertThat(NomadWatcher.parseWaitMillis("1m30s"), is(90000L));
+        assertThat(NomadWatcher.parseWaitMillis("1.5s"), is(1500L));
+        assertThat(NomadWatcher.parseWaitMillis(null), is(-1L));
+        assertThat(NomadWatcher.parseWaitMillis("soon"), is(-1L));
+
+        assertThat(NomadWatcher.returnedQuickly(150, 200), is(false));
+        assertThat(NomadWatcher.returnedQuickly(50, 200), is(true));
+        assertThat(NomadWatcher.returnedQuickly(999, -1), is(true));
+        assertThat(NomadWatcher.returnedQuickly(1000, 300000), is(false));
+        assertThat(NomadWatcher.returnedQuickly(5000, 0), is(true));
+    }
+
+    @Test
+    public void shouldOnlyCallBackWithResponsesThatSatisfyPredicate() throws Exception {
+        final List<BigInteger> changes = Collections.synchronizedList(new ArrayList<BigInteger>());
+        final CountDownLatch done = new CountDownLatch(1);
+        final long[] responseIndexes = {5, 6, 7};
+        final int[] calls = {0};
+
+        try (NomadWatcher watcher = new NomadWatcher(1)) {
+            watcher.watch(new NomadWatcher.Query<Job>() {
+                @Override
+                public CompletableFuture<ServerQueryResponse<Job>> execute(QueryOptions<Job> options) {
+                    if (calls[0] >= responseIndexes.length)
+                        return new CompletableFuture<>();
+                    return CompletableFuture.completedFuture(responseAtIndex(responseIndexes[calls[0]++]));
+                }
+            }, null, new Predicate<ServerQueryResponse<Job>>() {
+                @Override
+                public boolean apply(ServerQueryResponse<Job> response) {
+                    return !response.getIndex().equals(BigInteger.valueOf(6));
+                }
+            }, new NomadWatcher.Callback<Job>() {
+                @Override
+                public void changed(ServerQueryResponse<Job> response) {
+                    changes.add(response.getIndex());
+                    if (changes.size() == 2)
+                        done.countDown();
+                }
+
+                @Override
+                public void failed(Throwable error) {
+                }
+            });
+
+            assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(changes, is(Arrays.asList(BigInteger.valueOf(5), BigInteger.valueOf(7))));
+        }
+    }
+
+    @Test
+    public void shouldEndWatchWhenWaitStrategyIsExhausted() throws Exception {
+        final List<BigInteger> changes = Collections.synchronizedList(new ArrayList<BigInteger>());
+        final CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        final QueryOptions<Job> options = new QueryOptions<Job>().setWaitStrategy(new WaitStrategy() {
+            @Override
+            public String getWait() throws WaitStrategyExhaustedException {
+                throw new WaitStrategyExhaustedException("Past deadline");
+            }
+        });
+
+        try (NomadWatcher watcher = new NomadWatcher(1)) {
+            final NomadWatcher.Watch watch = watcher.watch(new NomadWatcher.Query<Job>() {
+                @Override
+                public CompletableFuture<ServerQueryResponse<Job>> execute(QueryOptions<Job> next) {
+                    try {
+                        next.getWaitStrategy().getWait();
+                    } catch (WaitStrategyExhaustedException e) {
+                        // Queried once anyway, as the clients do
+                    }
+                    return CompletableFuture.completedFuture(responseAtIndex(5));
+                }
+            }, options, null, new NomadWatcher.Callback<Job>() {
+                @Override
+                public void changed(ServerQueryResponse<Job> response) {
+                    changes.add(response.getIndex());
+                }
+
+                @Override
+                public void failed(Throwable error) {
+                    failure.complete(error);
+                }
+            });
+
+            assertThat(failure.get(5, TimeUnit.SECONDS), instanceOf(WaitStrategyExhaustedException.class));
+            assertThat(watch.isCancelled(), is(true));
+            assertThat(watcher.getWatchCount(), is(0));
+            assertThat(changes, is(Collections.singletonList(BigInteger.valueOf(5))));
+        }
+    }
+
+    private static ServerQueryResponse<Job> responseAtIndex(long index) {
+        BasicHttpResponse httpResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        httpResponse.addHeader("X-Nomad-Index", Long.toString(index));
+        return new ServerQueryResponse<>(httpResponse, null, new Job());
+    }
+}
@@ -0,0 +1,87 @@
+package com.hashicorp.nomad.javasdk;
+
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class PagedQueryTest {
+
+    @Test
+    public void shouldFetchPagesLazilyUsingNextTokens() {
+        final List<String> requestedTokens = new ArrayList<>();
+        final PagedQuery<String> query = new PagedQuery<>(new PagedQuery.Lister<String>() {
+            @Override
+            public ServerQueryResponse<List<String>> list(QueryOptions<List<String>> options) {
+                assertThat(options.getPerPage(), is(2));
+                assertThat(options.getFilter(), is("Status == \"running\""));
+                requestedTokens.add(options.getNextToken());
+                if (options.getNextToken() == null)
+                    return page("c", "a", "b");
+                return page(null, "c");
+            }
+        }, 2, new QueryOptions<List<String>>().setFilter("Status == \"running\""));
+
+        final Iterator<String> iterator = query.iterator();
+        assertThat(requestedTokens.isEmpty(), is(true));
+        assertThat(iterator.next(), is("a"));
+        assertThat(iterator.next(), is("b"));
+        assertThat(requestedTokens, is(Collections.singletonList((String) null)));
+        assertThat(iterator.next(), is("c"));
+        assertThat(iterator.hasNext(), is(false));
+        assertThat(requestedTokens, is(Arrays.asList(null, "c")));
+    }
+
+    @Test
+    public void shouldWrapFailuresToFetchPage() {
+        final PagedQuery<String> query = new PagedQuery<>(new PagedQuery.Lister<String>() {
+            @Override
+            public ServerQueryResponse<List<String>> list(QueryOptions<List<String>> options) throws IOException {
+                throw new IOException("connection refused");
+            }
+        }, 10, null);
+
+        try {
+            query.stream().count();
+            fail("expected a PageFetchException");
+        } catch (PageFetchException e) {
+            assertThat(e.getCause() instanceof IOException, is(true));
+        }
+    }
+
+    @Test
+    public void shouldAddPaginationAndFilterParameters() {
+        final RequestBuilder request = RequestBuilder.get("http://localhost:4646/v1/allocations");
+        ApiRequestBase.addQueryParameters(request, new QueryOptions<>()
+                .setPerPage(50)
+                .setNextToken("abc")
+                .setFilter("ClientStatus == \"running\""), null);
+
+        assertThat(request.getParameters().toString(),
+                is("[per_page=50, next_token=abc, filter=ClientStatus == \"running\"]"));
+    }
+
+    @Test
+    public void shouldTreatMissingNextTokenAsLastPage() {
+        assertThat(page(null).getNextToken(), nullValue());
+    }
+
+    private static ServerQueryResponse<List<String>> page(String nextToken, String... values) {
+        BasicHttpResponse httpResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        if (nextToken != null)
+            httpResponse.addHeader(ServerQueryResponse.X_NOMAD_NEXTTOKEN, nextToken);
+        return new ServerQueryResponse<>(httpResponse, null, Arrays.asList(values));
+    }
+}
@@ -0,0 +1,58 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Job;
+import com.hashicorp.nomad.apimodel.TaskGroup;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class PreparedJobRequestTest {
+
+    private static final Map<String, String> META = Collections.singletonMap("customer", "\"quoted\"");
+
+    @Test
+    public void shouldRenderDispatchRequestsLikeSerialize() {
+        final PreparedJobRequest request = PreparedJobRequest.dispatch("batch");
+        assertThat(request.isDispatch(), is(true));
+        assertThat(request.getJobId(), is("batch"));
+
+        final byte[] payload = {0, 1, 2, (byte) 255};
+        assertThat(new String(request.render(META, payload, null), UTF_8),
+                is(NomadJson.serialize(new JobsApi.JobDispatchRequest("batch", META, payload))));
+        assertThat(new String(request.render(null, null, null), UTF_8),
+                is(NomadJson.serialize(new JobsApi.JobDispatchRequest("batch", null, null))));
+    }
+
+    @Test
+    public void shouldRenderRegistrationRequestsLikeSerialize() {
+        final Job job = new Job()
+                .setId("web")
+                .addMeta("owner", "team")
+                .addTaskGroups(new TaskGroup().setName("frontend").setCount(2))
+                .addTaskGroups(new TaskGroup().setName("backend").setCount(3));
+        final PreparedJobRequest request = PreparedJobRequest.register(job, BigInteger.TEN, true);
+        assertThat(request.isDispatch(), is(false));
+
+        final String unchanged = NomadJson.serialize(new JobsApi.JobRegistrationRequest(job, BigInteger.TEN, true));
+        assertThat(new String(request.render(null, null, null), UTF_8), is(unchanged));
+
+        final byte[] rendered = request.render(META, null, Collections.singletonMap("backend", 7));
+        job.setMeta(META);
+        job.getTaskGroups().get(1).setCount(7);
+        assertThat(new String(rendered, UTF_8),
+                is(NomadJson.serialize(new JobsApi.JobRegistrationRequest(job, BigInteger.TEN, true))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectDispatchRequestsWhenRegisteringAsynchronously() throws Exception {
+        try (NomadAsyncApiClient client = new NomadAsyncApiClient("http://127.0.0.1:4646")) {
+            client.getJobsApi().register(PreparedJobRequest.dispatch("batch"), null, null, null);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Job;
+import org.apache.http.client.methods.HttpGet;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class QueryCoalescerTest {
+
+    @Test
+    public void shouldShareResponseOfIdenticalQueryInFlight() throws Exception {
+        final QueryCoalescer coalescer = new QueryCoalescer();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final NomadResponse<Job> response = new NomadResponse<>(null, new Job().setId("shared"));
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<NomadResponse<Job>> first = executor.submit(new Callable<NomadResponse<Job>>() {
+                @Override
+                public NomadResponse<Job> call() throws Exception {
+                    return coalescer.execute(jobRequest("shared"), jobAdapter(), new QueryCoalescer.Query<NomadResponse<Job>>() {
+                        @Override
+                        public NomadResponse<Job> execute() throws IOException {
+                            started.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                throw new IOException(e);
+                            }
+                            return response;
+                        }
+                    });
+                }
+            });
+            started.await(10, TimeUnit.SECONDS);
+
+            Thread releaser = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    while (coalescer.getCoalesced() == 0)
+                        Thread.yield();
+                    release.countDown();
+                }
+            });
+            releaser.start();
+            NomadResponse<Job> second = coalescer.execute(jobRequest("shared"), jobAdapter(), failingQuery());
+
+            assertThat(second, sameInstance(response));
+            assertThat(first.get(10, TimeUnit.SECONDS), sameInstance(response));
+            assertThat(coalescer.getExecuted(), is(1L));
+            assertThat(coalescer.getCoalesced(), is(1L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldExecuteQueriesThatAreNotInFlight() throws Exception {
+        final QueryCoalescer coalescer = new QueryCoalescer();
+
+        coalescer.execute(jobRequest("a"), jobAdapter(), constantQuery());
+        coalescer.execute(jobRequest("a"), jobAdapter(), constantQuery());
+        coalescer.execute(jobRequest("b"), jobAdapter(), constantQuery());
+
+        assertThat(coalescer.getExecuted(), is(3L));
+        assertThat(coalescer.getCoalesced(), is(0L));
+    }
+
+    private static HttpGet jobRequest(String id) {
+        return new HttpGet("http://127.0.0.1:4646/v1/job/" + id + "?index=5&wait=10s");
+    }
+
+    private static ApiBase.NomadResponseAdapter<Job> jobAdapter() {
+        return new ApiBase.NomadResponseAdapter<>(NomadJson.parserFor(Job.class));
+    }
+
+    private static QueryCoalescer.Query<NomadResponse<Job>> constantQuery() {
+        return new QueryCoalescer.Query<NomadResponse<Job>>() {
+            @Override
+            public NomadResponse<Job> execute() {
+                return new NomadResponse<>(null, new Job());
+            }
+        };
+    }
+
+    private static QueryCoalescer.Query<NomadResponse<Job>> failingQuery() {
+        return new QueryCoalescer.Query<NomadResponse<Job>>() {
+            @Override
+            public NomadResponse<Job> execute() throws IOException {
+                throw new IOException("identical query should not have been executed");
+            }
+        };
+    }
+}
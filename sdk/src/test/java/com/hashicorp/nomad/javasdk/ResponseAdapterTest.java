@@ -0,0 +1,52 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Job;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class ResponseAdapterTest {
+
+    private static final String JOB_JSON = "{\"ID\":\"Job-ID\",\"Name\":\"Alice\"}";
+
+    @Test
+    public void shouldParseFromStreamWithoutRetainingRawEntity() throws Exception {
+        NomadResponse<Job> response = new ApiBase.NomadResponseAdapter<>(NomadJson.parserFor(Job.class))
+                .apply(responseWithEntity(JOB_JSON), false);
+
+        assertThat(response.getValue().getId(), is("Job-ID"));
+        assertThat(response.getRawEntity(), nullValue());
+    }
+
+    @Test
+    public void shouldRetainRawEntityWhenRequested() throws Exception {
+        NomadResponse<Job> response = new ApiBase.NomadResponseAdapter<>(NomadJson.parserFor(Job.class))
+                .apply(responseWithEntity(JOB_JSON), true);
+
+        assertThat(response.getValue().getName(), is("Alice"));
+        assertThat(response.getRawEntity(), is(JOB_JSON));
+    }
+
+    @Test(expected = ResponseParsingException.class)
+    public void shouldReportMalformedStreamedEntity() throws Exception {
+        new ApiBase.NomadResponseAdapter<>(NomadJson.parserFor(Job.class))
+                .apply(responseWithEntity("{\"ID\":"), false);
+    }
+
+    private static HttpResponse responseWithEntity(String entity) {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        response.setEntity(new InputStreamEntity(
+                new ByteArrayInputStream(entity.getBytes(UTF_8)), ContentType.APPLICATION_JSON));
+        return response;
+    }
+}
@@ -0,0 +1,118 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Job;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ResponseCacheTest {
+
+    private static final HttpGet REQUEST = new HttpGet("http://127.0.0.1:4646/v1/jobs?namespace=default");
+    private static final ApiBase.ServerQueryResponseAdapter<Job> ADAPTER =
+            new ApiBase.ServerQueryResponseAdapter<>(NomadJson.parserFor(Job.class));
+
+    private final BlockingQueue<ServerQueryResponse<Job>> refreshes = new LinkedBlockingQueue<>();
+    private final BlockingQueue<String> refreshUris = new LinkedBlockingQueue<>();
+
+    private final ResponseCache.Refresher refresher = new ResponseCache.Refresher() {
+        @Override
+        public NomadResponse<?> refresh(HttpUriRequest request, ResponseAdapter<?, ?> responseAdapter, long index)
+                throws IOException {
+            refreshUris.add(request.getURI().toString());
+            try {
+                return refreshes.take();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        }
+    };
+
+    @Test
+    public void shouldMissUntilResponseIsCached() {
+        try (ResponseCache cache = new ResponseCache(10, TimeUnit.MINUTES.toMillis(1), refresher)) {
+            ServerQueryResponse<Job> response = responseAtIndex(5);
+
+            assertThat(cache.get(REQUEST, ADAPTER), nullValue());
+            cache.put(REQUEST, ADAPTER, response);
+
+            assertThat(cache.get(REQUEST, ADAPTER), sameInstance(response));
+            assertThat(cache.getStats().getHits(), is(1L));
+            assertThat(cache.getStats().getMisses(), is(1L));
+        }
+    }
+
+    @Test
+    public void shouldExpireResponsesThatAreNotRefreshed() {
+        try (ResponseCache cache = new ResponseCache(10, 0, refresher)) {
+            cache.put(REQUEST, ADAPTER, responseAtIndex(5));
+
+            assertThat(cache.get(REQUEST, ADAPTER), nullValue());
+        }
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedResponses() {
+        try (ResponseCache cache = new ResponseCache(1, TimeUnit.MINUTES.toMillis(1), refresher)) {
+            cache.put(REQUEST, ADAPTER, responseAtIndex(5));
+            cache.put(new HttpGet("http://127.0.0.1:4646/v1/nodes"), ADAPTER, responseAtIndex(6));
+
+            assertThat(cache.get(REQUEST, ADAPTER), nullValue());
+            assertThat(cache.getStats().getSize(), is(1));
+        }
+    }
+
+    @Test
+    public void shouldRefreshHitResponsesWithBlockingQueries() throws Exception {
+        try (ResponseCache cache = new ResponseCache(10, TimeUnit.MINUTES.toMillis(1), refresher)) {
+            cache.put(REQUEST, ADAPTER, responseAtIndex(5));
+            cache.get(REQUEST, ADAPTER);
+
+            assertThat(refreshUris.poll(10, TimeUnit.SECONDS),
+                    is("http://127.0.0.1:4646/v1/jobs?namespace=default&index=5&wait=60s"));
+
+            ServerQueryResponse<Job> refreshed = responseAtIndex(7);
+            refreshes.add(refreshed);
+            assertThat(refreshUris.poll(10, TimeUnit.SECONDS),
+                    is("http://127.0.0.1:4646/v1/jobs?namespace=default&index=7&wait=60s"));
+            assertThat(cache.get(REQUEST, ADAPTER), sameInstance(refreshed));
+            assertThat(cache.getStats().getRefreshes(), is(1L));
+        }
+    }
+
+    @Test
+    public void shouldRejectCachingWithoutTimeToLive() {
+        final NomadApiConfiguration.Builder builder = new NomadApiConfiguration.Builder();
+        builder.setResponseCache(0, 0, TimeUnit.SECONDS);
+        try {
+            builder.setResponseCache(10, 0, TimeUnit.SECONDS);
+            fail("expected an IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // Every entry would expire at once, so the cache would never be hit
+        }
+        try {
+            builder.setResponseCache(10, 500, TimeUnit.MICROSECONDS);
+            fail("expected an IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // Rounds down to no time at all
+        }
+    }
+
+    private static ServerQueryResponse<Job> responseAtIndex(long index) {
+        BasicHttpResponse httpResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        httpResponse.addHeader("X-Nomad-Index", String.valueOf(index));
+        return new ServerQueryResponse<>(httpResponse, null, new Job());
+    }
+}
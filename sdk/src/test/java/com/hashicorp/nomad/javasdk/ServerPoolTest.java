@@ -0,0 +1,62 @@
+package com.hashicorp.nomad.javasdk;
+
+import org.apache.http.HttpHost;
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.Arrays;
+
+import static com.hashicorp.nomad.javasdk.NomadApiConfiguration.LoadBalancing.LEAST_IN_FLIGHT;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class ServerPoolTest {
+
+    private static final HttpHost FIRST = new HttpHost("10.0.0.1", 4646, "http");
+    private static final HttpHost SECOND = new HttpHost("10.0.0.2", 4646, "http");
+
+    private static final ServerPool.Prober NEVER_HEALTHY = new ServerPool.Prober() {
+        @Override
+        public boolean probe(HttpHost address) {
+            return false;
+        }
+    };
+
+    @Test
+    public void shouldSpreadStaleQueriesByRequestsInFlight() {
+        try (ServerPool pool = new ServerPool(Arrays.asList(FIRST, SECOND), LEAST_IN_FLIGHT, NEVER_HEALTHY)) {
+            ServerPool.Server first = pool.choose(true, null);
+            first.started();
+
+            assertThat(first.getAddress(), is(FIRST));
+            assertThat(pool.choose(true, null).getAddress(), is(SECOND));
+            assertThat(pool.choose(false, null).getAddress(), is(FIRST));
+        }
+    }
+
+    @Test
+    public void shouldEjectFailedServerUntilProbeSucceeds() {
+        try (ServerPool pool = new ServerPool(Arrays.asList(FIRST, SECOND), LEAST_IN_FLIGHT, NEVER_HEALTHY)) {
+            ServerPool.Server first = pool.choose(false, null);
+            first.started();
+            first.failed();
+
+            assertThat(first.isHealthy(), is(false));
+            assertThat(pool.choose(false, null).getAddress(), is(SECOND));
+            assertThat(pool.choose(true, null).getAddress(), is(SECOND));
+        }
+    }
+
+    @Test
+    public void shouldOnlyPoolRequestsToConfiguredServers() throws Exception {
+        try (ServerPool pool = new ServerPool(Arrays.asList(FIRST, SECOND), LEAST_IN_FLIGHT, NEVER_HEALTHY)) {
+            ServerPool.Server second = pool.serverFor(new URI("http://10.0.0.2:4646/v1/jobs"));
+
+            assertThat(second.getAddress(), is(SECOND));
+            assertThat(pool.serverFor(new URI("http://10.0.0.3:4646/v1/jobs")), nullValue());
+            URI rewritten = ServerPool.rewrite(new URI("http://10.0.0.2:4646/v1/jobs?stale"), FIRST);
+            assertThat(rewritten, is(new URI("http://10.0.0.1:4646/v1/jobs?stale")));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.hashicorp.nomad.javasdk;
+
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ServerResponseTest {
+
+    @Test
+    public void shouldParseIndexAsUnsigned64BitInteger() {
+        final ServerResponse<Object> response = responseWithIndex("18446744073709551615");
+        assertThat(response.hasIndex(), is(true));
+        assertThat(response.getIndexAsLong(), is(-1L));
+        assertThat(response.getIndex(), is(new BigInteger("18446744073709551615")));
+        assertThat(responseWithIndex("42").getIndex(), is(BigInteger.valueOf(42)));
+    }
+
+    @Test
+    public void shouldOnlyFailOnBadIndexWhenItIsRead() {
+        final ServerResponse<Object> response = responseWithIndex("not a number");
+        assertThat(response.hasIndex(), is(false));
+        ResponseHeaderException first = null;
+        for (int i = 0; i < 2; i++) {
+            try {
+                response.getIndexAsLong();
+                fail("expected a ResponseHeaderException");
+            } catch (ResponseHeaderException e) {
+                assertThat(e.getMessage().contains("not a number"), is(true));
+                assertThat(e == first, is(false));
+                first = e;
+            }
+        }
+
+        final ServerResponse<Object> missing =
+                new ServerResponse<>(new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK"), null, null);
+        assertThat(missing.hasIndex(), is(false));
+        try {
+            missing.getIndex();
+            fail("expected a ResponseHeaderException");
+        } catch (ResponseHeaderException e) {
+            assertThat(e.getMessage().contains(ServerResponse.X_NOMAD_INDEX), is(true));
+        }
+    }
+
+    @Test
+    public void shouldCarryIndexThroughQueryOptions() {
+        final QueryOptions<Object> options = new QueryOptions<>();
+        assertThat(options.hasIndex(), is(false));
+        assertThat(options.getIndex(), nullValue());
+
+        options.setIndex(new BigInteger("18446744073709551615"));
+        assertThat(options.getIndexAsLong(), is(-1L));
+        assertThat(options.getIndex(), is(new BigInteger("18446744073709551615")));
+
+        options.setIndex((BigInteger) null);
+        assertThat(options.hasIndex(), is(false));
+        try {
+            options.setIndex(BigInteger.ONE.shiftLeft(64));
+            fail("expected an IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // An index that doesn't fit in 64 bits can't have come from Nomad
+        }
+    }
+
+    @Test
+    public void shouldTreatAnyIndexChangeAsNewData() {
+        assertThat(ServerResponse.indexChanged(0, 0), is(true));
+        assertThat(ServerResponse.indexChanged(0, 5), is(true));
+        assertThat(ServerResponse.indexChanged(5, 5), is(false));
+        assertThat(ServerResponse.indexChanged(5, 7), is(true));
+        assertThat(ServerResponse.indexChanged(7, 5), is(true));
+
+        assertThat(ServerResponse.trackedIndex(0), is(1L));
+        assertThat(ServerResponse.trackedIndex(5), is(5L));
+        assertThat(ServerResponse.indexChanged(ServerResponse.trackedIndex(0), 0), is(false));
+    }
+
+    private static ServerResponse<Object> responseWithIndex(String index) {
+        final BasicHttpResponse httpResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        httpResponse.addHeader(ServerResponse.X_NOMAD_INDEX, index);
+        return new ServerResponse<>(httpResponse, null, null);
+    }
+}
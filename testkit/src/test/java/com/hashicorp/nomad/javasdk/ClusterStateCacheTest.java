@@ -0,0 +1,55 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Job;
+import com.hashicorp.nomad.apimodel.JobListStub;
+import com.hashicorp.nomad.testutils.TestAgent;
+import org.junit.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ClusterStateCacheTest extends ApiTestBase {
+
+    @Test
+    public void shouldKeepJobsUpToDateAndNotifyListeners() throws Exception {
+        try (TestAgent agent = newServer();
+             ClusterStateCache cache = new ClusterStateCache(agent.getApiClient())) {
+            final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+            cache.addJobListener(new ClusterStateCache.Listener<JobListStub>() {
+                @Override
+                public void added(JobListStub resource) {
+                    events.add("added " + resource.getId());
+                }
+
+                @Override
+                public void updated(JobListStub previous, JobListStub current) {
+                    events.add("updated " + current.getId());
+                }
+
+                @Override
+                public void deleted(JobListStub resource) {
+                    events.add("deleted " + resource.getId());
+                }
+            });
+            cache.start();
+            assertThat(cache.getJobs().values(), empty());
+
+            Job job = createTestJob();
+            agent.getApiClient().getJobsApi().register(job);
+            assertThat(events.poll(TEST_WAIT_SECONDS, SECONDS), is("added " + job.getId()));
+            assertThat(cache.getJob(job.getId()).getName(), is(job.getName()));
+
+            agent.getApiClient().getJobsApi().deregister(job.getId(), true);
+            String event;
+            do {
+                event = events.poll(TEST_WAIT_SECONDS, SECONDS);
+            } while (event != null && event.startsWith("updated"));
+            assertThat(event, is("deleted " + job.getId()));
+            assertThat(cache.getJob(job.getId()), nullValue());
+        }
+    }
+}
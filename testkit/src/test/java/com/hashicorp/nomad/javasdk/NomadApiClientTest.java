@@ -1,6 +1,7 @@
 package com.hashicorp.nomad.javasdk;
 
 import com.hashicorp.nomad.apimodel.AclToken;
+import com.hashicorp.nomad.testutils.NomadAgentConfiguration;
 import com.hashicorp.nomad.testutils.TestAgent;
 import org.junit.Test;
 
@@ -46,4 +47,17 @@ public class NomadApiClientTest extends ApiTestBase {
         }
     }
 
+    @Test
+    public void shouldSendWritesToLeader() throws Exception {
+        try (TestAgent agent = newAgent(
+                new NomadAgentConfiguration.Builder().setRegion("test-region"),
+                new NomadApiConfiguration.Builder().setRouteWritesToLeader(true))) {
+            final NomadApiClient apiClient = agent.getApiClient();
+
+            EvaluationResponse registrationResponse = apiClient.getJobsApi().register(createTestJob());
+
+            assertThat(registrationResponse.getValue(), is(nonEmptyString()));
+        }
+    }
+
 }
@@ -5,6 +5,7 @@ import org.junit.Test;
 
 import java.net.URISyntaxException;
 import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
@@ -98,4 +99,36 @@ public class NomadApiConfigurationTest {
         } catch (IllegalArgumentException ignored) { }
     }
 
+    @Test
+    public void shouldKeepSeparateConnectionPoolSettingsPerTrafficClass() {
+        final NomadApiConfiguration.ConnectionPool longPollPool =
+                new NomadApiConfiguration.ConnectionPool(100, 40, 30, 5, TimeUnit.MINUTES);
+
+        final NomadApiConfiguration config = new NomadApiConfiguration.Builder()
+                .setLongPollPool(longPollPool)
+                .build()
+                .withNamespace("dev");
+
+        assertThat(config.getLongPollPool(), is(longPollPool));
+        assertThat(config.getLongPollPool().getIdleTimeoutMillis(), is(TimeUnit.MINUTES.toMillis(30)));
+        assertThat(config.getLongPollPool().getTimeToLiveMillis(), is(TimeUnit.MINUTES.toMillis(5)));
+        assertThat(config.getRequestPool(), is(NomadApiConfiguration.ConnectionPool.DEFAULT_REQUEST_POOL));
+        assertThat(config.getStreamPool(), is(NomadApiConfiguration.ConnectionPool.DEFAULT_STREAM_POOL));
+    }
+
+    @Test
+    public void shouldKeepAllServerAddressesInOrder() {
+        final NomadApiConfiguration config = new NomadApiConfiguration.Builder()
+                .setAddresses("http://10.0.0.1:4646", "http://10.0.0.2:4646")
+                .setLoadBalancing(NomadApiConfiguration.LoadBalancing.LOWEST_LATENCY)
+                .build()
+                .withAuthToken("secret");
+
+        assertThat(config.getAddresses(), contains(
+                new HttpHost("10.0.0.1", 4646, "http"),
+                new HttpHost("10.0.0.2", 4646, "http")));
+        assertThat(config.getAddress(), is(new HttpHost("10.0.0.1", 4646, "http")));
+        assertThat(config.getLoadBalancing(), is(NomadApiConfiguration.LoadBalancing.LOWEST_LATENCY));
+    }
+
 }
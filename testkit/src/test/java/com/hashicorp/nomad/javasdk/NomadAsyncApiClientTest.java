@@ -0,0 +1,63 @@
+package com.hashicorp.nomad.javasdk;
+
+import com.hashicorp.nomad.apimodel.Evaluation;
+import com.hashicorp.nomad.apimodel.Job;
+import com.hashicorp.nomad.apimodel.JobListStub;
+import com.hashicorp.nomad.testutils.TestAgent;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class NomadAsyncApiClientTest extends ApiTestBase {
+
+    @Test
+    public void shouldGetLeader() throws Exception {
+        try (TestAgent agent = newServer();
+             NomadAsyncApiClient asyncClient = new NomadAsyncApiClient(agent.getApiClient().getConfig())) {
+
+            NomadResponse<String> leaderResponse = asyncClient.getStatusApi().leader().get(TEST_WAIT_SECONDS, SECONDS);
+
+            assertThat(leaderResponse.getValue(), is(agent.getRpcAddress()));
+        }
+    }
+
+    @Test
+    public void shouldRegisterJobAndPollEvaluationWithoutBlocking() throws Exception {
+        try (TestAgent agent = newServer();
+             NomadAsyncApiClient asyncClient = new NomadAsyncApiClient(agent.getApiClient().getConfig())) {
+            AsyncJobsApi jobsApi = asyncClient.getJobsApi();
+
+            Job job = createTestJob();
+            EvaluationResponse registrationResponse = jobsApi.register(job).get(TEST_WAIT_SECONDS, SECONDS);
+            assertThat("evaluation ID", registrationResponse.getValue(), is(nonEmptyString()));
+
+            ServerQueryResponse<Evaluation> evaluationResponse = asyncClient.getEvaluationsApi()
+                    .pollForCompletion(registrationResponse, waitStrategyForTest())
+                    .get(TEST_WAIT_SECONDS, SECONDS);
+            assertThat(evaluationResponse.getValue().getJobId(), is(job.getId()));
+
+            ServerQueryResponse<List<JobListStub>> listResponse = jobsApi.list().get(TEST_WAIT_SECONDS, SECONDS);
+            assertThat("jobs", listResponse.getValue(), hasSize(1));
+            assertThat("id", listResponse.getValue().get(0).getId(), is(job.getId()));
+        }
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWithErrorResponse() throws Exception {
+        try (TestAgent agent = newServer();
+             NomadAsyncApiClient asyncClient = new NomadAsyncApiClient(agent.getApiClient().getConfig())) {
+            try {
+                asyncClient.getJobsApi().info(NONSENSE_GUID).get(TEST_WAIT_SECONDS, SECONDS);
+                throw new AssertionError("expected an error response");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), instanceOf(ErrorResponseException.class));
+                assertThat(((ErrorResponseException) e.getCause()).getServerErrorCode(), is(404));
+            }
+        }
+    }
+}